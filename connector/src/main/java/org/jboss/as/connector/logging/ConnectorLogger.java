@@ -973,4 +973,12 @@ public interface ConnectorLogger extends BasicLogger {
 
     @Message(id = 134, value = "name attribute is mandatory for workmanager element")
     XMLStreamException nameAttributeIsMandatory();
+
+    @LogMessage(level = WARN)
+    @Message(id = 135, value = "Pool warm-up stopped after a connection failure, the pool will be filled on demand")
+    void poolWarmUpFailed(@Cause Throwable cause);
+
+    @LogMessage(level = WARN)
+    @Message(id = 136, value = "%d of the %d connections acquired during pool warm-up failed validation")
+    void poolWarmUpInvalidConnections(int invalid, int acquired);
 }
@@ -0,0 +1,125 @@
+/*
+ * Copyright The WildFly Authors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.jboss.as.connector.services.datasources.statistics;
+
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+import org.jboss.as.txn.statistics.DurationHistogram;
+import org.jboss.jca.core.spi.statistics.StatisticsPlugin;
+
+/**
+ * Exposes the pool acquisition and statement execution latency distributions of a datasource as a statistics plugin,
+ * so that they are registered as metrics of a {@code statistics=latency} resource.
+ * All times are in microseconds.
+ */
+public class DataSourceLatencyStatistics implements StatisticsPlugin {
+
+    static final int SLOWEST_STATEMENTS = 10;
+
+    private static final Map<String, Statistic> STATISTICS = new LinkedHashMap<>();
+
+    static {
+        register("AcquireCount", "The number of connection acquisitions", statistics -> statistics.getAcquireTimes().getCount());
+        register("AcquireTimeAverage", "The average time spent acquiring a connection (microseconds)", statistics -> micros(statistics.getAcquireTimes().getAverageNanos()));
+        register("AcquireTimeMax", "The maximum time spent acquiring a connection (microseconds)", statistics -> micros(statistics.getAcquireTimes().getMaxNanos()));
+        register("AcquireTimeP50", "The median time spent acquiring a connection (microseconds)", statistics -> percentile(statistics.getAcquireTimes(), 0.5));
+        register("AcquireTimeP99", "The 99th percentile of the time spent acquiring a connection (microseconds)", statistics -> percentile(statistics.getAcquireTimes(), 0.99));
+        register("AcquireTimeP999", "The 99.9th percentile of the time spent acquiring a connection (microseconds)", statistics -> percentile(statistics.getAcquireTimes(), 0.999));
+        register("StatementCount", "The number of statement executions", statistics -> statistics.getStatementTimes().getCount());
+        register("StatementTimeAverage", "The average statement execution time (microseconds)", statistics -> micros(statistics.getStatementTimes().getAverageNanos()));
+        register("StatementTimeMax", "The maximum statement execution time (microseconds)", statistics -> micros(statistics.getStatementTimes().getMaxNanos()));
+        register("StatementTimeP50", "The median statement execution time (microseconds)", statistics -> percentile(statistics.getStatementTimes(), 0.5));
+        register("StatementTimeP99", "The 99th percentile of the statement execution time (microseconds)", statistics -> percentile(statistics.getStatementTimes(), 0.99));
+        register("StatementTimeP999", "The 99.9th percentile of the statement execution time (microseconds)", statistics -> percentile(statistics.getStatementTimes(), 0.999));
+        register("SlowestStatements", "The statements with the highest execution time, with their literals replaced by parameter markers", String.class,
+                statistics -> statistics.getSlowestStatements(SLOWEST_STATEMENTS).stream().map(Object::toString).collect(Collectors.joining("\n")));
+    }
+
+    private final JdbcStatistics statistics;
+
+    public DataSourceLatencyStatistics(JdbcStatistics statistics) {
+        this.statistics = statistics;
+    }
+
+    @Override
+    public Set<String> getNames() {
+        return Collections.unmodifiableSet(STATISTICS.keySet());
+    }
+
+    @SuppressWarnings("rawtypes")
+    @Override
+    public Class getType(String name) {
+        Statistic statistic = STATISTICS.get(name);
+        return (statistic != null) ? statistic.type : null;
+    }
+
+    @Override
+    public String getDescription(String name) {
+        return this.getDescription(name, Locale.US);
+    }
+
+    @Override
+    public String getDescription(String name, Locale locale) {
+        Statistic statistic = STATISTICS.get(name);
+        return (statistic != null) ? statistic.description : null;
+    }
+
+    @Override
+    public Object getValue(String name) {
+        Statistic statistic = STATISTICS.get(name);
+        return (statistic != null) ? statistic.value.apply(this.statistics) : null;
+    }
+
+    @Override
+    public boolean isEnabled() {
+        return this.statistics.isEnabled();
+    }
+
+    @Override
+    public void setEnabled(boolean enabled) {
+        this.statistics.setEnabled(enabled);
+    }
+
+    @Override
+    public void clear() {
+        this.statistics.reset();
+    }
+
+    private static void register(String name, String description, Function<JdbcStatistics, Long> value) {
+        register(name, description, long.class, value);
+    }
+
+    private static void register(String name, String description, Class<?> type, Function<JdbcStatistics, ?> value) {
+        STATISTICS.put(name, new Statistic(type, description, value));
+    }
+
+    private static long micros(long nanos) {
+        return TimeUnit.NANOSECONDS.toMicros(nanos);
+    }
+
+    private static long percentile(DurationHistogram histogram, double percentile) {
+        return micros(histogram.getPercentileNanos(percentile));
+    }
+
+    private static class Statistic {
+        final Class<?> type;
+        final String description;
+        final Function<JdbcStatistics, ?> value;
+
+        Statistic(Class<?> type, String description, Function<JdbcStatistics, ?> value) {
+            this.type = type;
+            this.description = description;
+            this.value = value;
+        }
+    }
+}
@@ -7,8 +7,11 @@ package org.jboss.as.connector.services.datasources.statistics;
 
 import static org.jboss.as.connector.logging.ConnectorLogger.ROOT_LOGGER;
 
+import javax.sql.DataSource;
+
 import org.jboss.as.connector.dynamicresource.StatisticsResourceDefinition;
 import org.jboss.as.connector.subsystems.datasources.DataSourcesSubsystemProviders;
+import org.jboss.as.connector.subsystems.datasources.WildFlyDataSource;
 import org.jboss.as.controller.PathAddress;
 import org.jboss.as.controller.PathElement;
 import org.jboss.as.controller.registry.ManagementResourceRegistration;
@@ -28,11 +31,13 @@ public class DataSourceStatisticsService implements Service<ManagementResourceRe
 
     private static final PathElement JDBC_STATISTICS = PathElement.pathElement("statistics", "jdbc");
     private static final PathElement POOL_STATISTICS = PathElement.pathElement("statistics", "pool");
+    private static final PathElement LATENCY_STATISTICS = PathElement.pathElement("statistics", "latency");
 
     private final ManagementResourceRegistration registration;
     private final boolean statsEnabled;
 
     protected final InjectedValue<CommonDeployment> injectedDeploymentMD = new InjectedValue<>();
+    protected final InjectedValue<DataSource> injectedDataSource = new InjectedValue<>();
 
 
     /**
@@ -75,6 +80,14 @@ public class DataSourceStatisticsService implements Service<ManagementResourceRe
                                     DataSourcesSubsystemProviders.RESOURCE_NAME, poolStats));
                 }
             }
+
+            // Latency statistics are opt-in, independently of statistics-enabled, as they wrap connections and statements
+            DataSource dataSource = injectedDataSource.getOptionalValue();
+            if (dataSource instanceof WildFlyDataSource && ((WildFlyDataSource) dataSource).getStatistics() != null && registration != null
+                    && registration.getSubModel(PathAddress.pathAddress(LATENCY_STATISTICS)) == null) {
+                registration.registerSubModel(new StatisticsResourceDefinition(LATENCY_STATISTICS,
+                        DataSourcesSubsystemProviders.RESOURCE_NAME, new DataSourceLatencyStatistics(((WildFlyDataSource) dataSource).getStatistics())));
+            }
         }
     }
 
@@ -84,6 +97,7 @@ public class DataSourceStatisticsService implements Service<ManagementResourceRe
             if (registration != null) {
                 registration.unregisterSubModel(JDBC_STATISTICS);
                 registration.unregisterSubModel(POOL_STATISTICS);
+                registration.unregisterSubModel(LATENCY_STATISTICS);
             }
         }
     }
@@ -98,6 +112,10 @@ public class DataSourceStatisticsService implements Service<ManagementResourceRe
         return injectedDeploymentMD;
     }
 
+    public Injector<DataSource> getDataSourceInjector() {
+        return injectedDataSource;
+    }
+
 
     public static void registerStatisticsResources(Resource datasourceResource) {
         synchronized (JDBC_STATISTICS) {
@@ -107,6 +125,9 @@ public class DataSourceStatisticsService implements Service<ManagementResourceRe
             if (!datasourceResource.hasChild(POOL_STATISTICS)) {
                 datasourceResource.registerChild(POOL_STATISTICS, new PlaceholderResource.PlaceholderResourceEntry(POOL_STATISTICS));
             }
+            if (!datasourceResource.hasChild(LATENCY_STATISTICS)) {
+                datasourceResource.registerChild(LATENCY_STATISTICS, new PlaceholderResource.PlaceholderResourceEntry(LATENCY_STATISTICS));
+            }
         }
     }
 
@@ -118,6 +139,9 @@ public class DataSourceStatisticsService implements Service<ManagementResourceRe
             if (datasourceResource.hasChild(POOL_STATISTICS)) {
                 datasourceResource.removeChild(POOL_STATISTICS);
             }
+            if (datasourceResource.hasChild(LATENCY_STATISTICS)) {
+                datasourceResource.removeChild(LATENCY_STATISTICS);
+            }
         }
     }
 
@@ -0,0 +1,333 @@
+/*
+ * Copyright The WildFly Authors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.jboss.as.connector.services.datasources.statistics;
+
+import java.lang.reflect.InvocationHandler;
+import java.lang.reflect.Method;
+import java.lang.reflect.Proxy;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAccumulator;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.regex.Pattern;
+
+import javax.sql.DataSource;
+
+import org.jboss.as.connector.util.JdbcProxies;
+import org.jboss.as.txn.statistics.DurationHistogram;
+
+/**
+ * Latency statistics of a JDBC datasource: the time spent acquiring a connection from the pool, the time spent executing
+ * statements, and the slowest statement shapes. A statement shape is the SQL text of a statement with its literals replaced
+ * by parameter markers, so that executions of the same statement with different values are accounted together.
+ * <p>
+ * Statements are timed by wrapping the acquired connections and the statements they create in dynamic proxies, which is only
+ * done while the statistics are enabled.
+ * <p>
+ * The statistics are shared by the IronJacamar and the Agroal datasources. The latter only use the accessors returning plain
+ * values, as the histograms are not visible to them.
+ */
+public class JdbcStatistics {
+
+    /**
+     * Acquires a connection from a datasource.
+     */
+    @FunctionalInterface
+    public interface ConnectionFactory {
+        Connection getConnection() throws SQLException;
+    }
+
+    private static final int MAX_SHAPES = 500;
+    private static final int MAX_SHAPE_LENGTH = 512;
+    private static final String BATCH_SHAPE = "<batch>";
+
+    private static final Pattern STRING_LITERAL = Pattern.compile("'(?:[^']|'')*'");
+    private static final Pattern NUMERIC_LITERAL = Pattern.compile("(?<![\\w.$])[-+]?\\d+(?:\\.\\d+)?(?:[eE][-+]?\\d+)?\\b");
+    private static final Pattern PARAMETER_LIST = Pattern.compile("\\(\\s*\\?(?:\\s*,\\s*\\?)+\\s*\\)");
+    private static final Pattern WHITESPACE = Pattern.compile("\\s+");
+
+    private final DurationHistogram acquireTimes = new DurationHistogram();
+    private final DurationHistogram statementTimes = new DurationHistogram();
+    private final Map<String, StatementShapeStatistics> shapes = new ConcurrentHashMap<>();
+    private volatile boolean enabled;
+
+    public JdbcStatistics(boolean enabled) {
+        this.enabled = enabled;
+    }
+
+    public boolean isEnabled() {
+        return this.enabled;
+    }
+
+    public void setEnabled(boolean enabled) {
+        this.enabled = enabled;
+    }
+
+    public DurationHistogram getAcquireTimes() {
+        return this.acquireTimes;
+    }
+
+    public DurationHistogram getStatementTimes() {
+        return this.statementTimes;
+    }
+
+    /**
+     * @param percentile a value between 0 and 1
+     * @return an upper bound, in nanoseconds, of the specified percentile of the connection acquisition time
+     */
+    public long getAcquireTimePercentileNanos(double percentile) {
+        return this.acquireTimes.getPercentileNanos(percentile);
+    }
+
+    public long getAcquireTimeMaxNanos() {
+        return this.acquireTimes.getMaxNanos();
+    }
+
+    public long getStatementCount() {
+        return this.statementTimes.getCount();
+    }
+
+    /**
+     * @param percentile a value between 0 and 1
+     * @return an upper bound, in nanoseconds, of the specified percentile of the statement execution time
+     */
+    public long getStatementTimePercentileNanos(double percentile) {
+        return this.statementTimes.getPercentileNanos(percentile);
+    }
+
+    public long getStatementTimeMaxNanos() {
+        return this.statementTimes.getMaxNanos();
+    }
+
+    /**
+     * Acquires a connection, recording the acquisition time and timing the statements of the connection if statistics are enabled.
+     * Failed acquisitions, e.g. because of a blocking timeout, are recorded as well.
+     *
+     * @param factory acquires the connection from the pool
+     * @return the acquired connection
+     * @throws SQLException if the connection could not be acquired
+     */
+    public Connection getConnection(ConnectionFactory factory) throws SQLException {
+        if (!this.enabled) {
+            return factory.getConnection();
+        }
+        long start = System.nanoTime();
+        try {
+            return wrap(factory.getConnection());
+        } finally {
+            this.acquireTimes.record(System.nanoTime() - start);
+        }
+    }
+
+    /**
+     * Creates a datasource of the specified type whose connections are acquired through {@link #getConnection(ConnectionFactory)}.
+     * All other methods are invoked on the specified datasource.
+     *
+     * @param type the datasource interface implemented by the returned datasource
+     * @param dataSource the datasource acquiring the connections
+     * @return a datasource recording these statistics
+     */
+    public <D extends DataSource> D wrap(Class<D> type, D dataSource) {
+        return type.cast(Proxy.newProxyInstance(type.getClassLoader(), new Class<?>[] { type }, (proxy, method, args) -> {
+            if (method.getName().equals("getConnection") && method.getReturnType() == Connection.class) {
+                return this.getConnection(() -> (Connection) JdbcProxies.invoke(dataSource, method, args));
+            }
+            return JdbcProxies.invokeObjectMethod(proxy, method, args, dataSource);
+        }));
+    }
+
+    /**
+     * Returns the statement shapes with the highest maximum execution time.
+     *
+     * @param limit the maximum number of statement shapes to return
+     * @return the slowest statement shapes, slowest first
+     */
+    public List<StatementShapeStatistics> getSlowestStatements(int limit) {
+        List<StatementShapeStatistics> result = new ArrayList<>(this.shapes.values());
+        result.sort(Comparator.comparingLong(StatementShapeStatistics::getMaxNanos).reversed());
+        return (result.size() > limit) ? new ArrayList<>(result.subList(0, limit)) : result;
+    }
+
+    public void reset() {
+        this.acquireTimes.reset();
+        this.statementTimes.reset();
+        this.shapes.clear();
+    }
+
+    void recordStatement(String shape, long nanos) {
+        this.statementTimes.record(nanos);
+        StatementShapeStatistics statistics = this.shapes.get(shape);
+        if (statistics == null) {
+            if (this.shapes.size() >= MAX_SHAPES && !this.evictFasterThan(nanos)) {
+                return;
+            }
+            statistics = this.shapes.computeIfAbsent(shape, StatementShapeStatistics::new);
+        }
+        statistics.record(nanos);
+    }
+
+    /**
+     * Makes room for a new statement shape by evicting the shape with the lowest maximum execution time,
+     * provided that it is faster than the specified execution time.
+     */
+    private synchronized boolean evictFasterThan(long nanos) {
+        if (this.shapes.size() < MAX_SHAPES) {
+            return true;
+        }
+        StatementShapeStatistics fastest = null;
+        for (StatementShapeStatistics statistics : this.shapes.values()) {
+            if (fastest == null || statistics.getMaxNanos() < fastest.getMaxNanos()) {
+                fastest = statistics;
+            }
+        }
+        if (fastest == null || fastest.getMaxNanos() >= nanos) {
+            return false;
+        }
+        this.shapes.remove(fastest.getShape());
+        return true;
+    }
+
+    /**
+     * Normalizes the SQL text of a statement into its shape: literals are replaced by parameter markers, lists of parameter
+     * markers are collapsed into a single one, and whitespace is collapsed.
+     *
+     * @param sql the SQL text of a statement
+     * @return the statement shape
+     */
+    static String normalize(String sql) {
+        if (sql == null) {
+            return BATCH_SHAPE;
+        }
+        String shape = STRING_LITERAL.matcher(sql).replaceAll("?");
+        shape = NUMERIC_LITERAL.matcher(shape).replaceAll("?");
+        shape = PARAMETER_LIST.matcher(shape).replaceAll("(?)");
+        shape = WHITESPACE.matcher(shape).replaceAll(" ").trim();
+        return (shape.length() > MAX_SHAPE_LENGTH) ? shape.substring(0, MAX_SHAPE_LENGTH) : shape;
+    }
+
+    private Connection wrap(Connection connection) {
+        return (Connection) Proxy.newProxyInstance(connection.getClass().getClassLoader(), interfaces(connection.getClass()),
+                new ConnectionHandler(connection));
+    }
+
+    private static Class<?>[] interfaces(Class<?> targetClass) {
+        Set<Class<?>> interfaces = new LinkedHashSet<>();
+        for (Class<?> c = targetClass; c != null; c = c.getSuperclass()) {
+            for (Class<?> i : c.getInterfaces()) {
+                interfaces.add(i);
+            }
+        }
+        return interfaces.toArray(new Class<?>[0]);
+    }
+
+    private class ConnectionHandler implements InvocationHandler {
+        private final Connection connection;
+
+        ConnectionHandler(Connection connection) {
+            this.connection = connection;
+        }
+
+        @Override
+        public Object invoke(Object proxy, Method method, Object[] args) throws Throwable {
+            Object result = JdbcProxies.invokeObjectMethod(proxy, method, args, this.connection);
+            if (result instanceof Statement) {
+                String name = method.getName();
+                // Prepared statements and callable statements are normalized once, when they are created
+                String shape = (name.equals("prepareStatement") || name.equals("prepareCall")) ? normalize((String) args[0]) : null;
+                return Proxy.newProxyInstance(result.getClass().getClassLoader(), interfaces(result.getClass()),
+                        new StatementHandler((Statement) result, (Connection) proxy, shape));
+            }
+            return result;
+        }
+    }
+
+    private class StatementHandler implements InvocationHandler {
+        private final Statement statement;
+        private final Connection connection;
+        private final String shape;
+
+        StatementHandler(Statement statement, Connection connection, String shape) {
+            this.statement = statement;
+            this.connection = connection;
+            this.shape = shape;
+        }
+
+        @Override
+        public Object invoke(Object proxy, Method method, Object[] args) throws Throwable {
+            String name = method.getName();
+            if (name.equals("getConnection") && method.getParameterCount() == 0) {
+                return this.connection;
+            }
+            if (!name.startsWith("execute")) {
+                return JdbcProxies.invokeObjectMethod(proxy, method, args, this.statement);
+            }
+            String shape = this.shape;
+            if (args != null && args.length > 0 && args[0] instanceof String) {
+                shape = normalize((String) args[0]);
+            } else if (shape == null) {
+                shape = BATCH_SHAPE;
+            }
+            long start = System.nanoTime();
+            try {
+                return JdbcProxies.invoke(this.statement, method, args);
+            } finally {
+                JdbcStatistics.this.recordStatement(shape, System.nanoTime() - start);
+            }
+        }
+    }
+
+    /**
+     * Execution statistics of a statement shape.
+     */
+    public static class StatementShapeStatistics {
+        private final String shape;
+        private final LongAdder count = new LongAdder();
+        private final LongAdder totalNanos = new LongAdder();
+        private final LongAccumulator maxNanos = new LongAccumulator(Long::max, 0);
+
+        StatementShapeStatistics(String shape) {
+            this.shape = shape;
+        }
+
+        void record(long nanos) {
+            this.count.increment();
+            this.totalNanos.add(nanos);
+            this.maxNanos.accumulate(nanos);
+        }
+
+        public String getShape() {
+            return this.shape;
+        }
+
+        public long getCount() {
+            return this.count.sum();
+        }
+
+        public long getMaxNanos() {
+            return this.maxNanos.get();
+        }
+
+        public long getAverageNanos() {
+            long count = this.getCount();
+            return (count > 0) ? this.totalNanos.sum() / count : 0;
+        }
+
+        @Override
+        public String toString() {
+            return String.format("max=%dus avg=%dus count=%d: %s", TimeUnit.NANOSECONDS.toMicros(this.getMaxNanos()),
+                    TimeUnit.NANOSECONDS.toMicros(this.getAverageNanos()), this.getCount(), this.shape);
+        }
+    }
+}
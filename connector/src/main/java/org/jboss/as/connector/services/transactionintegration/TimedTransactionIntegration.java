@@ -0,0 +1,71 @@
+/*
+ * Copyright The WildFly Authors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.jboss.as.connector.services.transactionintegration;
+
+import jakarta.resource.spi.ManagedConnection;
+import jakarta.transaction.TransactionManager;
+import jakarta.transaction.TransactionSynchronizationRegistry;
+import javax.transaction.xa.XAResource;
+
+import org.jboss.as.txn.statistics.TimedXAResource;
+import org.jboss.jca.core.api.connectionmanager.ConnectionManager;
+import org.jboss.jca.core.spi.transaction.ConnectableResource;
+import org.jboss.jca.core.spi.transaction.XAResourceStatistics;
+import org.jboss.jca.core.spi.transaction.local.LocalXAResource;
+import org.jboss.jca.core.spi.transaction.xa.XAResourceWrapper;
+import org.jboss.jca.core.tx.jbossts.TransactionIntegrationImpl;
+import org.jboss.tm.JBossXATerminator;
+import org.jboss.tm.XAResourceRecoveryRegistry;
+import org.jboss.tm.usertx.UserTransactionRegistry;
+
+/**
+ * Transaction integration wrapping the XA resources that Jakarta Connectors enlist, so that the prepare, commit and rollback
+ * of each datasource, messaging or resource adapter connection are timed under its JNDI name while transaction statistics are
+ * enabled.
+ */
+class TimedTransactionIntegration extends TransactionIntegrationImpl {
+
+    TimedTransactionIntegration(TransactionManager tm, TransactionSynchronizationRegistry tsr, UserTransactionRegistry utr,
+            JBossXATerminator terminator, XAResourceRecoveryRegistry rr) {
+        super(tm, tsr, utr, terminator, rr);
+    }
+
+    @Override
+    public LocalXAResource createLocalXAResource(ConnectionManager cm, String productName, String productVersion,
+            String jndiName, XAResourceStatistics xastat) {
+        return TimedXAResource.wrap(LocalXAResource.class, super.createLocalXAResource(cm, productName, productVersion, jndiName, xastat), jndiName);
+    }
+
+    @Override
+    public LocalXAResource createConnectableLocalXAResource(ConnectionManager cm, String productName, String productVersion,
+            String jndiName, ConnectableResource cr, XAResourceStatistics xastat) {
+        return TimedXAResource.wrap(LocalXAResource.class, super.createConnectableLocalXAResource(cm, productName, productVersion, jndiName, cr, xastat), jndiName);
+    }
+
+    @Override
+    public LocalXAResource createConnectableLocalXAResource(ConnectionManager cm, String productName, String productVersion,
+            String jndiName, ManagedConnection mc, XAResourceStatistics xastat) {
+        return TimedXAResource.wrap(LocalXAResource.class, super.createConnectableLocalXAResource(cm, productName, productVersion, jndiName, mc, xastat), jndiName);
+    }
+
+    @Override
+    public XAResourceWrapper createXAResourceWrapper(XAResource xares, boolean pad, Boolean override, String productName,
+            String productVersion, String jndiName, boolean firstResource, XAResourceStatistics xastat) {
+        return TimedXAResource.wrap(XAResourceWrapper.class, super.createXAResourceWrapper(xares, pad, override, productName, productVersion, jndiName, firstResource, xastat), jndiName);
+    }
+
+    @Override
+    public XAResourceWrapper createConnectableXAResourceWrapper(XAResource xares, boolean pad, Boolean override,
+            String productName, String productVersion, String jndiName, ConnectableResource cr, XAResourceStatistics xastat) {
+        return TimedXAResource.wrap(XAResourceWrapper.class, super.createConnectableXAResourceWrapper(xares, pad, override, productName, productVersion, jndiName, cr, xastat), jndiName);
+    }
+
+    @Override
+    public XAResourceWrapper createConnectableXAResourceWrapper(XAResource xares, boolean pad, Boolean override,
+            String productName, String productVersion, String jndiName, ManagedConnection mc, XAResourceStatistics xastat) {
+        return TimedXAResource.wrap(XAResourceWrapper.class, super.createConnectableXAResourceWrapper(xares, pad, override, productName, productVersion, jndiName, mc, xastat), jndiName);
+    }
+}
@@ -14,7 +14,6 @@ import jakarta.transaction.TransactionSynchronizationRegistry;
 
 import org.jboss.as.txn.integration.JBossContextXATerminator;
 import org.jboss.jca.core.spi.transaction.TransactionIntegration;
-import org.jboss.jca.core.tx.jbossts.TransactionIntegrationImpl;
 import org.jboss.msc.Service;
 import org.jboss.msc.service.StartContext;
 import org.jboss.msc.service.StartException;
@@ -54,7 +53,7 @@ public final class TransactionIntegrationService implements Service {
 
     @Override
     public void start(final StartContext context) throws StartException {
-        tiConsumer.accept(new TransactionIntegrationImpl(ContextTransactionManager.getInstance(),
+        tiConsumer.accept(new TimedTransactionIntegration(ContextTransactionManager.getInstance(),
                 tsrSupplier.get(), utrSupplier.get(), terminatorSupplier.get(), rrSupplier.get()));
         ROOT_LOGGER.debugf("Starting Jakarta Connectors TransactionIntegrationService");
     }
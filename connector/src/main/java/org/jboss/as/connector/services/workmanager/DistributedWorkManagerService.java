@@ -7,10 +7,14 @@ package org.jboss.as.connector.services.workmanager;
 
 import static org.jboss.as.connector.logging.ConnectorLogger.ROOT_LOGGER;
 
+import java.lang.management.ManagementFactory;
+import java.lang.management.OperatingSystemMXBean;
 import java.util.concurrent.Executor;
+import java.util.function.Supplier;
 
 import org.jboss.as.connector.security.ElytronSecurityIntegration;
 import org.jboss.as.connector.services.workmanager.transport.CommandDispatcherTransport;
+import org.jboss.as.connector.services.workmanager.transport.WorkManagerLoad;
 import org.jboss.as.connector.util.ConnectorServices;
 import org.jboss.as.txn.integration.JBossContextXATerminator;
 import org.jboss.jca.core.spi.workmanager.Address;
@@ -35,6 +39,8 @@ public final class DistributedWorkManagerService implements Service<NamedDistrib
 
     private final NamedDistributedWorkManager value;
 
+    private final long statisticsGossipInterval;
+
     private final InjectedValue<Executor> executorShort = new InjectedValue<Executor>();
 
     private final InjectedValue<Executor> executorLong = new InjectedValue<Executor>();
@@ -47,11 +53,14 @@ public final class DistributedWorkManagerService implements Service<NamedDistrib
      * create an instance
      *
      * @param value the work manager
+     * @param statisticsGossipInterval the interval in milliseconds between two rounds of statistics gossip, or 0 to send
+     *        statistics updates for every work event
      */
-    public DistributedWorkManagerService(NamedDistributedWorkManager value) {
+    public DistributedWorkManagerService(NamedDistributedWorkManager value, long statisticsGossipInterval) {
         super();
         ROOT_LOGGER.debugf("Building DistributedWorkManager");
         this.value = value;
+        this.statisticsGossipInterval = statisticsGossipInterval;
     }
 
     @Override
@@ -63,19 +72,23 @@ public final class DistributedWorkManagerService implements Service<NamedDistrib
     public void start(StartContext context) throws StartException {
         ROOT_LOGGER.debugf("Starting Jakarta Connectors DistributedWorkManager: ", value.getName());
 
-        CommandDispatcherTransport transport = new CommandDispatcherTransport(this.dispatcherFactory.getValue(), this.value.getName());
+        CommandDispatcherTransport transport = new CommandDispatcherTransport(this.dispatcherFactory.getValue(), this.value.getName(), this.statisticsGossipInterval);
 
         this.value.setTransport(transport);
 
         BlockingExecutor longRunning = (BlockingExecutor) executorLong.getOptionalValue();
+        StatisticsExecutorImpl shortRunningStatistics = new StatisticsExecutorImpl((BlockingExecutor) executorShort.getValue());
+        StatisticsExecutorImpl longRunningStatistics = null;
         if (longRunning != null) {
             this.value.setLongRunningThreadPool(longRunning);
-            this.value.setShortRunningThreadPool(new StatisticsExecutorImpl((BlockingExecutor) executorShort.getValue()));
+            this.value.setShortRunningThreadPool(shortRunningStatistics);
         } else {
-            this.value.setLongRunningThreadPool(new StatisticsExecutorImpl((BlockingExecutor) executorShort.getValue()));
-            this.value.setShortRunningThreadPool(new StatisticsExecutorImpl((BlockingExecutor) executorShort.getValue()));
+            longRunningStatistics = new StatisticsExecutorImpl((BlockingExecutor) executorShort.getValue());
+            this.value.setLongRunningThreadPool(longRunningStatistics);
+            this.value.setShortRunningThreadPool(shortRunningStatistics);
 
         }
+        transport.setLocalLoad(createLoadSupplier(shortRunningStatistics, longRunningStatistics));
 
         this.value.setXATerminator(new XATerminatorImpl(xaTerminator.getValue()));
 
@@ -115,6 +128,21 @@ public final class DistributedWorkManagerService implements Service<NamedDistrib
         ROOT_LOGGER.debugf("Stopped Jakarta Connectors DistributedWorkManager: ", value.getName());
     }
 
+    /**
+     * Creates the source of the load of this work manager advertised to the other members.
+     * The queue depth and latency of long running work are only tracked if long running work shares the short running thread pool.
+     */
+    private static Supplier<WorkManagerLoad> createLoadSupplier(StatisticsExecutorImpl shortRunning, StatisticsExecutorImpl longRunning) {
+        OperatingSystemMXBean os = ManagementFactory.getOperatingSystemMXBean();
+        return () -> {
+            double loadAverage = os.getSystemLoadAverage();
+            double cpuLoad = (loadAverage >= 0) ? loadAverage / os.getAvailableProcessors() : -1;
+            return new WorkManagerLoad(shortRunning.getQueueDepth(), shortRunning.getAverageLatency(),
+                    (longRunning != null) ? longRunning.getQueueDepth() : 0, (longRunning != null) ? longRunning.getAverageLatency() : 0L,
+                    cpuLoad);
+        };
+    }
+
     public Injector<Executor> getExecutorShortInjector() {
         return executorShort;
     }
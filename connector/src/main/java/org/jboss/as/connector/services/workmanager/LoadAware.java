@@ -0,0 +1,104 @@
+/*
+ * Copyright The WildFly Authors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.jboss.as.connector.services.workmanager;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Function;
+
+import jakarta.resource.spi.work.DistributableWork;
+
+import org.jboss.as.connector.services.workmanager.transport.CommandDispatcherTransport;
+import org.jboss.as.connector.services.workmanager.transport.WorkManagerLoad;
+import org.jboss.jca.core.api.workmanager.DistributedWorkManager;
+import org.jboss.jca.core.spi.workmanager.Address;
+import org.jboss.jca.core.spi.workmanager.selector.Selector;
+import org.jboss.jca.core.workmanager.WorkManagerUtil;
+
+/**
+ * Selects the distributed work manager using the power of two choices: two work managers with free threads are picked at random
+ * and the work is sent to the less loaded one. The load of a work manager combines its queue depth and free thread count with the
+ * recent latency of its work and the cpu load of its member, as advertised by the {@link CommandDispatcherTransport}.
+ * Sampling two work managers rather than always choosing the least loaded one avoids sending the work of all members to the same
+ * work manager until the next load update.
+ */
+public class LoadAware implements Selector {
+
+    private volatile DistributedWorkManager dwm;
+
+    @Override
+    public void setDistributedWorkManager(DistributedWorkManager dwm) {
+        this.dwm = dwm;
+    }
+
+    @Override
+    public Address selectDistributedWorkManager(Address own, DistributableWork work) {
+        DistributedWorkManager dwm = this.dwm;
+        if (dwm == null || !(dwm.getTransport() instanceof CommandDispatcherTransport)) {
+            return null;
+        }
+        CommandDispatcherTransport transport = (CommandDispatcherTransport) dwm.getTransport();
+        boolean longRunning = WorkManagerUtil.isLongRunning(work);
+        return select(transport.getFree(own, longRunning), transport::getLoad, longRunning, ThreadLocalRandom.current());
+    }
+
+    /**
+     * Selects one of two work managers with free threads sampled at random, whichever has the lower load score.
+     *
+     * @param free the number of free threads of each work manager
+     * @param loads the load of each work manager, null if unknown
+     * @param longRunning whether the work is long running
+     * @param random the source of the samples
+     * @return the selected work manager, or null if none has free threads
+     */
+    static Address select(Map<Address, Long> free, Function<Address, WorkManagerLoad> loads, boolean longRunning, Random random) {
+        List<Map.Entry<Address, Long>> candidates = new ArrayList<>();
+        for (Map.Entry<Address, Long> entry : free.entrySet()) {
+            if (entry.getValue() > 0) {
+                candidates.add(entry);
+            }
+        }
+        switch (candidates.size()) {
+            case 0: {
+                return null;
+            }
+            case 1: {
+                return candidates.get(0).getKey();
+            }
+            default: {
+                int first = random.nextInt(candidates.size());
+                int second = random.nextInt(candidates.size() - 1);
+                if (second >= first) {
+                    second += 1;
+                }
+                Map.Entry<Address, Long> a = candidates.get(first);
+                Map.Entry<Address, Long> b = candidates.get(second);
+                double scoreA = score(a.getValue(), loads.apply(a.getKey()), longRunning);
+                double scoreB = score(b.getValue(), loads.apply(b.getKey()), longRunning);
+                return (scoreB < scoreA) ? b.getKey() : a.getKey();
+            }
+        }
+    }
+
+    /**
+     * Computes the load score of a work manager, lower is better.
+     *
+     * @param free the number of free threads of the work manager
+     * @param load the load of the work manager, or null if unknown
+     * @param longRunning whether the work is long running
+     * @return the load score
+     */
+    static double score(long free, WorkManagerLoad load, boolean longRunning) {
+        double queueDepth = (load != null) ? load.getQueueDepth(longRunning) : 0;
+        double latency = (load != null) ? (double) load.getLatency(longRunning) / TimeUnit.MILLISECONDS.toNanos(1) : 0;
+        double cpuLoad = (load != null) ? Math.max(load.getCpuLoad(), 0) : 0;
+        return (1 + queueDepth) / (1 + Math.max(free, 0)) * (1 + latency) * (1 + cpuLoad);
+    }
+}
@@ -5,6 +5,9 @@
 
 package org.jboss.as.connector.services.workmanager;
 
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
 import org.jboss.as.threads.ManagedJBossThreadPoolExecutorService;
 import org.jboss.as.threads.ManagedQueueExecutorService;
 import org.jboss.as.threads.ManagedQueuelessExecutorService;
@@ -17,7 +20,8 @@ import org.jboss.threads.JBossThreadPoolExecutor;
 import org.jboss.threads.management.ThreadPoolExecutorMBean;
 
 /**
- * A StatisticsExecutor implementation keeping track of numberOfFreeThreads
+ * A StatisticsExecutor implementation keeping track of numberOfFreeThreads, of the number of queued tasks and of the recent
+ * latency of tasks, i.e. the time from submission to completion.
  *
  * @author Stefano Maestri
  */
@@ -29,8 +33,17 @@ public class StatisticsExecutorImpl implements StatisticsExecutor {
     private static CoreLogger log = Logger.getMessageLogger(CoreLogger.class,
             org.jboss.jca.core.workmanager.StatisticsExecutorImpl.class.getName());
 
+    /**
+     * Weight of the previous average when a new latency sample is recorded, as a power of 2
+     */
+    private static final int LATENCY_HISTORY_SHIFT = 3;
+
     private final BlockingExecutor realExecutor;
 
+    private final AtomicInteger queued = new AtomicInteger();
+
+    private final AtomicLong averageLatency = new AtomicLong();
+
     /**
      * StatisticsExecutorImpl constructor
      *
@@ -43,7 +56,44 @@ public class StatisticsExecutorImpl implements StatisticsExecutor {
 
     @Override
     public void execute(Runnable runnable) {
-        realExecutor.execute(runnable);
+        final long submitted = System.nanoTime();
+        queued.incrementAndGet();
+        Runnable task = () -> {
+            queued.decrementAndGet();
+            try {
+                runnable.run();
+            } finally {
+                recordLatency(System.nanoTime() - submitted);
+            }
+        };
+        try {
+            realExecutor.execute(task);
+        } catch (RuntimeException | Error e) {
+            queued.decrementAndGet();
+            throw e;
+        }
+    }
+
+    private void recordLatency(long latency) {
+        averageLatency.updateAndGet(average -> (average == 0L) ? latency : average + ((latency - average) >> LATENCY_HISTORY_SHIFT));
+    }
+
+    /**
+     * Returns the number of tasks submitted to this executor that did not start yet.
+     *
+     * @return the number of queued tasks
+     */
+    public int getQueueDepth() {
+        return Math.max(queued.get(), 0);
+    }
+
+    /**
+     * Returns the exponentially weighted moving average of the time from submission to completion of recent tasks.
+     *
+     * @return the average latency in nanoseconds, or 0 if no task completed yet
+     */
+    public long getAverageLatency() {
+        return averageLatency.get();
     }
 
     @Override
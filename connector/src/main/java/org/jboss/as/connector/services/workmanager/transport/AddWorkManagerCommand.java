@@ -28,8 +28,8 @@ public class AddWorkManagerCommand implements Command<Void, CommandDispatcherTra
     public Void execute(CommandDispatcherTransport transport) {
         transport.localWorkManagerAdd(this.address, this.member);
 
-        transport.localUpdateShortRunningFree(this.address, transport.getShortRunningFree(this.address));
-        transport.localUpdateLongRunningFree(this.address, transport.getLongRunningFree(this.address));
+        transport.remoteUpdateShortRunningFree(this.address, transport.getShortRunningFree(this.address), null);
+        transport.remoteUpdateLongRunningFree(this.address, transport.getLongRunningFree(this.address), null);
         return null;
     }
 }
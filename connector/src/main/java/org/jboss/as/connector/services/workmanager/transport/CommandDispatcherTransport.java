@@ -12,8 +12,13 @@ import java.util.Map;
 import java.util.Optional;
 import java.util.Set;
 import java.util.concurrent.CancellationException;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.CompletionException;
 import java.util.concurrent.CompletionStage;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
 
 import jakarta.resource.spi.work.DistributableWork;
 import jakarta.resource.spi.work.WorkException;
@@ -23,6 +28,7 @@ import org.jboss.jca.core.api.workmanager.DistributedWorkManager;
 import org.jboss.jca.core.spi.workmanager.Address;
 import org.jboss.jca.core.workmanager.transport.remote.AbstractRemoteTransport;
 import org.jboss.jca.core.workmanager.transport.remote.ProtocolMessages.Request;
+import org.jboss.threads.JBossThreadFactory;
 import org.wildfly.clustering.Registration;
 import org.wildfly.clustering.dispatcher.Command;
 import org.wildfly.clustering.dispatcher.CommandDispatcher;
@@ -40,6 +46,10 @@ import org.wildfly.security.manager.WildFlySecurityManager;
 /**
  * {@link DistributedWorkManager}-specific transport based on a {@link CommandDispatcher}.
  * The current implementation is a direct translation of {@link org.jboss.jca.core.workmanager.transport.remote.jgroups.JGroupsTransport}.
+ * If a statistics gossip interval is configured, statistics updates are not sent for every work event, but accumulated
+ * and sent periodically as a single {@link StatisticsGossipCommand} per member.
+ * The free thread counts sent by each member carry a {@link WorkManagerLoad} snapshot of its work managers, which is retained
+ * by the transport so that work can be distributed according to the load of the members without additional round trips.
  * @author Paul Ferraro
  */
 public class CommandDispatcherTransport extends AbstractRemoteTransport<Node> implements GroupListener {
@@ -47,14 +57,30 @@ public class CommandDispatcherTransport extends AbstractRemoteTransport<Node> im
     private final ServiceExecutor executor = new StampedLockServiceExecutor();
     private final CommandDispatcherFactory dispatcherFactory;
     private final String name;
+    private final long statisticsGossipInterval;
+    private final StatisticsGossip gossip = new StatisticsGossip();
+    private final Map<Address, Long> shortRunningFree = new ConcurrentHashMap<>();
+    private final Map<Address, Long> longRunningFree = new ConcurrentHashMap<>();
+    private final Map<Address, WorkManagerLoad> loads = new ConcurrentHashMap<>();
 
     private volatile CommandDispatcher<CommandDispatcherTransport> dispatcher;
     private volatile Registration groupListenerRegistration;
+    private volatile ScheduledExecutorService gossipExecutor;
     private volatile boolean initialized = false;
+    private volatile Supplier<WorkManagerLoad> localLoad = () -> null;
 
     public CommandDispatcherTransport(CommandDispatcherFactory dispatcherFactory, String name) {
+        this(dispatcherFactory, name, 0);
+    }
+
+    /**
+     * @param statisticsGossipInterval the interval in milliseconds between two rounds of statistics gossip,
+     *        or 0 to send statistics updates for every work event
+     */
+    public CommandDispatcherTransport(CommandDispatcherFactory dispatcherFactory, String name, long statisticsGossipInterval) {
         this.dispatcherFactory = dispatcherFactory;
         this.name = name;
+        this.statisticsGossipInterval = statisticsGossipInterval;
     }
 
     @Override
@@ -67,12 +93,24 @@ public class CommandDispatcherTransport extends AbstractRemoteTransport<Node> im
         this.dispatcher = this.dispatcherFactory.createCommandDispatcher(this.name, this, WildFlySecurityManager.getClassLoaderPrivileged(this.getClass()));
         this.groupListenerRegistration = this.dispatcherFactory.getGroup().register(this);
         this.broadcast(new JoinCommand());
+        if (this.statisticsGossipInterval > 0) {
+            String namePattern = "DistributedWorkManager statistics gossip -- " + this.name;
+            this.gossipExecutor = Executors.newSingleThreadScheduledExecutor(new JBossThreadFactory(null, Boolean.TRUE, null, namePattern, null, null));
+            this.gossipExecutor.scheduleWithFixedDelay(() -> this.executor.execute(this::gossip), this.statisticsGossipInterval, this.statisticsGossipInterval, TimeUnit.MILLISECONDS);
+        }
     }
 
     @Override
     public void shutdown() {
+        ScheduledExecutorService gossipExecutor = this.gossipExecutor;
+        if (gossipExecutor != null) {
+            gossipExecutor.shutdownNow();
+        }
         this.executor.close(() -> {
             try {
+                if (gossipExecutor != null) {
+                    this.gossip();
+                }
                 this.broadcast(new LeaveCommand(this.getOwnAddress()));
             } catch (WorkException e) {
                 ConnectorLogger.ROOT_LOGGER.warn(e.getLocalizedMessage(), e);
@@ -143,7 +181,183 @@ public class CommandDispatcherTransport extends AbstractRemoteTransport<Node> im
         this.executor.execute(task);
     }
 
-    private static Command<?, CommandDispatcherTransport> createCommand(Request request, Serializable... parameters) {
+    private boolean isGossipEnabled() {
+        return this.gossipExecutor != null;
+    }
+
+    /**
+     * Sends the statistics updates accumulated since the previous round.
+     */
+    private void gossip() {
+        CommandDispatcher<CommandDispatcherTransport> dispatcher = this.dispatcher;
+        WorkManagerLoad load = this.localLoad.get();
+        for (Map.Entry<Node, StatisticsGossipCommand> entry : this.gossip.drain(this.nodes).entrySet()) {
+            if (load != null) {
+                entry.getValue().setLoad(load);
+            }
+            try {
+                dispatcher.executeOnMember(entry.getValue(), entry.getKey()).whenComplete((result, exception) -> {
+                    if (exception != null && !(exception instanceof CancellationException)) {
+                        ConnectorLogger.ROOT_LOGGER.warn(exception.getLocalizedMessage(), exception);
+                    }
+                });
+            } catch (CommandDispatcherException e) {
+                ConnectorLogger.ROOT_LOGGER.warn(e.getLocalizedMessage(), e);
+            }
+        }
+    }
+
+    /**
+     * Sets the source of the load of the local work managers, advertised to the other members together with their free thread counts.
+     */
+    public void setLocalLoad(Supplier<WorkManagerLoad> localLoad) {
+        this.localLoad = localLoad;
+    }
+
+    /**
+     * Returns the latest free thread counts of the work managers sharing the identifier of the specified work manager, including itself.
+     *
+     * @param own the address of the local work manager
+     * @param longRunning whether to return the free long running threads rather than the free short running threads
+     * @return the latest known free thread count per work manager address
+     */
+    public Map<Address, Long> getFree(Address own, boolean longRunning) {
+        Map<Address, Long> free = longRunning ? this.longRunningFree : this.shortRunningFree;
+        Map<Address, Long> result = new HashMap<>();
+        for (Address address : this.nodes.keySet()) {
+            if (own.getWorkManagerId().equals(address.getWorkManagerId())) {
+                Long count = free.get(address);
+                if (count != null) {
+                    result.put(address, count);
+                }
+            }
+        }
+        return result;
+    }
+
+    /**
+     * Returns the latest known load of the specified work manager.
+     *
+     * @param address the address of a work manager
+     * @return the load of the work manager, or null if unknown
+     */
+    public WorkManagerLoad getLoad(Address address) {
+        return this.getOwnAddress().equals(this.nodes.get(address)) ? this.localLoad.get() : this.loads.get(address);
+    }
+
+    void remoteUpdateShortRunningFree(Address address, long freeCount, WorkManagerLoad load) {
+        this.updateLoad(address, load);
+        this.shortRunningFree.put(address, freeCount);
+        this.localUpdateShortRunningFree(address, freeCount);
+    }
+
+    void remoteUpdateLongRunningFree(Address address, long freeCount, WorkManagerLoad load) {
+        this.updateLoad(address, load);
+        this.longRunningFree.put(address, freeCount);
+        this.localUpdateLongRunningFree(address, freeCount);
+    }
+
+    private void updateLoad(Address address, WorkManagerLoad load) {
+        if (load != null) {
+            this.loads.put(address, load);
+        }
+    }
+
+    @Override
+    public void updateShortRunningFree(Address address, long freeCount) {
+        this.shortRunningFree.put(address, freeCount);
+        if (this.isGossipEnabled()) {
+            this.localUpdateShortRunningFree(address, freeCount);
+            this.gossip.shortRunningFree(address, freeCount);
+        } else {
+            super.updateShortRunningFree(address, freeCount);
+        }
+    }
+
+    @Override
+    public void updateLongRunningFree(Address address, long freeCount) {
+        this.longRunningFree.put(address, freeCount);
+        if (this.isGossipEnabled()) {
+            this.localUpdateLongRunningFree(address, freeCount);
+            this.gossip.longRunningFree(address, freeCount);
+        } else {
+            super.updateLongRunningFree(address, freeCount);
+        }
+    }
+
+    @Override
+    public void deltaDoWorkAccepted(Address address) {
+        if (this.isGossipEnabled()) {
+            this.gossip.delta(address, StatisticsGossip.Delta.DO_WORK_ACCEPTED);
+        } else {
+            super.deltaDoWorkAccepted(address);
+        }
+    }
+
+    @Override
+    public void deltaDoWorkRejected(Address address) {
+        if (this.isGossipEnabled()) {
+            this.gossip.delta(address, StatisticsGossip.Delta.DO_WORK_REJECTED);
+        } else {
+            super.deltaDoWorkRejected(address);
+        }
+    }
+
+    @Override
+    public void deltaStartWorkAccepted(Address address) {
+        if (this.isGossipEnabled()) {
+            this.gossip.delta(address, StatisticsGossip.Delta.START_WORK_ACCEPTED);
+        } else {
+            super.deltaStartWorkAccepted(address);
+        }
+    }
+
+    @Override
+    public void deltaStartWorkRejected(Address address) {
+        if (this.isGossipEnabled()) {
+            this.gossip.delta(address, StatisticsGossip.Delta.START_WORK_REJECTED);
+        } else {
+            super.deltaStartWorkRejected(address);
+        }
+    }
+
+    @Override
+    public void deltaScheduleWorkAccepted(Address address) {
+        if (this.isGossipEnabled()) {
+            this.gossip.delta(address, StatisticsGossip.Delta.SCHEDULE_WORK_ACCEPTED);
+        } else {
+            super.deltaScheduleWorkAccepted(address);
+        }
+    }
+
+    @Override
+    public void deltaScheduleWorkRejected(Address address) {
+        if (this.isGossipEnabled()) {
+            this.gossip.delta(address, StatisticsGossip.Delta.SCHEDULE_WORK_REJECTED);
+        } else {
+            super.deltaScheduleWorkRejected(address);
+        }
+    }
+
+    @Override
+    public void deltaWorkSuccessful(Address address) {
+        if (this.isGossipEnabled()) {
+            this.gossip.delta(address, StatisticsGossip.Delta.WORK_SUCCESSFUL);
+        } else {
+            super.deltaWorkSuccessful(address);
+        }
+    }
+
+    @Override
+    public void deltaWorkFailed(Address address) {
+        if (this.isGossipEnabled()) {
+            this.gossip.delta(address, StatisticsGossip.Delta.WORK_FAILED);
+        } else {
+            super.deltaWorkFailed(address);
+        }
+    }
+
+    private Command<?, CommandDispatcherTransport> createCommand(Request request, Serializable... parameters) {
         Address address = (parameters.length > 0) ? (Address) parameters[0] : null;
         switch (request) {
             case CLEAR_DISTRIBUTED_STATISTICS: {
@@ -195,10 +409,10 @@ public class CommandDispatcherTransport extends AbstractRemoteTransport<Node> im
                 return new StartWorkCommand(address, (DistributableWork) parameters[2]);
             }
             case UPDATE_LONGRUNNING_FREE: {
-                return new UpdateLongRunningFreeCommand(address, (Long) parameters[1]);
+                return new UpdateLongRunningFreeCommand(address, (Long) parameters[1], this.localLoad.get());
             }
             case UPDATE_SHORTRUNNING_FREE: {
-                return new UpdateShortRunningFreeCommand(address, (Long) parameters[1]);
+                return new UpdateShortRunningFreeCommand(address, (Long) parameters[1], this.localLoad.get());
             }
             case WORKMANAGER_ADD: {
                 return new AddWorkManagerCommand(address, (Node) parameters[1]);
@@ -221,6 +435,9 @@ public class CommandDispatcherTransport extends AbstractRemoteTransport<Node> im
             for (Node leaver : leavers) {
                 this.leave(leaver);
             }
+            this.shortRunningFree.keySet().retainAll(this.nodes.keySet());
+            this.longRunningFree.keySet().retainAll(this.nodes.keySet());
+            this.loads.keySet().retainAll(this.nodes.keySet());
 
             if (merged) {
                 this.join(membership);
@@ -251,8 +468,11 @@ public class CommandDispatcherTransport extends AbstractRemoteTransport<Node> im
                 for (Address address : addresses) {
                     this.join(address, member);
 
-                    this.localUpdateLongRunningFree(address, this.getShortRunningFree(address));
-                    this.localUpdateShortRunningFree(address, this.getShortRunningFree(address));
+                    // Each pool has its own free count, queried separately from the joined member: the long running count
+                    // used to be fetched with the short running query, so that the work manager of a member without a long
+                    // running pool, or with a saturated one, was advertised as able to accept long running work
+                    this.remoteUpdateLongRunningFree(address, this.getLongRunningFree(address), null);
+                    this.remoteUpdateShortRunningFree(address, this.getShortRunningFree(address), null);
                 }
             } catch (CancellationException e) {
                 // Ignore
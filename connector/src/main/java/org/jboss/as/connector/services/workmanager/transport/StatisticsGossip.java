@@ -0,0 +1,142 @@
+/*
+ * Copyright The WildFly Authors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.jboss.as.connector.services.workmanager.transport;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicIntegerArray;
+
+import org.jboss.jca.core.spi.workmanager.Address;
+
+/**
+ * Accumulates the distributed work manager statistics updates of a transport between two gossip rounds.
+ * Work event counters are summed per target work manager, free thread counts are coalesced so that only the latest value is sent.
+ */
+class StatisticsGossip {
+
+    /**
+     * The work events counted by the distributed statistics of a work manager.
+     */
+    enum Delta {
+        DO_WORK_ACCEPTED() {
+            @Override
+            void apply(CommandDispatcherTransport transport, Address address) {
+                transport.localDeltaDoWorkAccepted(address);
+            }
+        },
+        DO_WORK_REJECTED() {
+            @Override
+            void apply(CommandDispatcherTransport transport, Address address) {
+                transport.localDeltaDoWorkRejected(address);
+            }
+        },
+        START_WORK_ACCEPTED() {
+            @Override
+            void apply(CommandDispatcherTransport transport, Address address) {
+                transport.localDeltaStartWorkAccepted(address);
+            }
+        },
+        START_WORK_REJECTED() {
+            @Override
+            void apply(CommandDispatcherTransport transport, Address address) {
+                transport.localDeltaStartWorkRejected(address);
+            }
+        },
+        SCHEDULE_WORK_ACCEPTED() {
+            @Override
+            void apply(CommandDispatcherTransport transport, Address address) {
+                transport.localDeltaScheduleWorkAccepted(address);
+            }
+        },
+        SCHEDULE_WORK_REJECTED() {
+            @Override
+            void apply(CommandDispatcherTransport transport, Address address) {
+                transport.localDeltaScheduleWorkRejected(address);
+            }
+        },
+        WORK_SUCCESSFUL() {
+            @Override
+            void apply(CommandDispatcherTransport transport, Address address) {
+                transport.localDeltaWorkSuccessful(address);
+            }
+        },
+        WORK_FAILED() {
+            @Override
+            void apply(CommandDispatcherTransport transport, Address address) {
+                transport.localDeltaWorkFailed(address);
+            }
+        },
+        ;
+
+        abstract void apply(CommandDispatcherTransport transport, Address address);
+    }
+
+    private static final Delta[] DELTAS = Delta.values();
+
+    private final Map<Address, AtomicIntegerArray> deltas = new ConcurrentHashMap<>();
+    private final Map<Address, Long> shortRunningFree = new ConcurrentHashMap<>();
+    private final Map<Address, Long> longRunningFree = new ConcurrentHashMap<>();
+
+    void delta(Address address, Delta delta) {
+        this.deltas.computeIfAbsent(address, key -> new AtomicIntegerArray(DELTAS.length)).incrementAndGet(delta.ordinal());
+    }
+
+    void shortRunningFree(Address address, long free) {
+        this.shortRunningFree.put(address, free);
+    }
+
+    void longRunningFree(Address address, long free) {
+        this.longRunningFree.put(address, free);
+    }
+
+    /**
+     * Collects the updates accumulated since the previous round into one command per member.
+     * Work event counters are sent to the member of the target work manager, free thread counts are sent to all members.
+     *
+     * @param nodes the members hosting each known work manager
+     * @return the command to send to each member
+     */
+    <N> Map<N, StatisticsGossipCommand> drain(Map<Address, N> nodes) {
+        Map<N, StatisticsGossipCommand> commands = new HashMap<>();
+        for (Map.Entry<Address, AtomicIntegerArray> entry : this.deltas.entrySet()) {
+            N node = nodes.get(entry.getKey());
+            if (node == null) {
+                // Work manager has left
+                this.deltas.remove(entry.getKey());
+                continue;
+            }
+            int[] counts = new int[DELTAS.length];
+            boolean updated = false;
+            for (int i = 0; i < counts.length; ++i) {
+                counts[i] = entry.getValue().getAndSet(i, 0);
+                updated |= counts[i] > 0;
+            }
+            if (updated) {
+                commands.computeIfAbsent(node, key -> new StatisticsGossipCommand()).getDeltas().put(entry.getKey(), counts);
+            }
+        }
+        Set<N> members = new HashSet<>(nodes.values());
+        drainFree(this.shortRunningFree, members, commands, true);
+        drainFree(this.longRunningFree, members, commands, false);
+        return commands;
+    }
+
+    private static <N> void drainFree(Map<Address, Long> values, Set<N> members, Map<N, StatisticsGossipCommand> commands, boolean shortRunning) {
+        for (Address address : new ArrayList<>(values.keySet())) {
+            Long free = values.remove(address);
+            if (free != null) {
+                for (N member : members) {
+                    StatisticsGossipCommand command = commands.computeIfAbsent(member, key -> new StatisticsGossipCommand());
+                    (shortRunning ? command.getShortRunningFree() : command.getLongRunningFree()).put(address, free);
+                }
+            }
+        }
+    }
+}
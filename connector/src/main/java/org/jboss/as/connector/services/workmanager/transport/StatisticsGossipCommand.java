@@ -0,0 +1,64 @@
+/*
+ * Copyright The WildFly Authors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.jboss.as.connector.services.workmanager.transport;
+
+import java.util.HashMap;
+import java.util.Map;
+
+import org.jboss.jca.core.spi.workmanager.Address;
+import org.wildfly.clustering.dispatcher.Command;
+
+/**
+ * Applies a round of statistics gossip, i.e. the work event counters and latest free thread counts accumulated by a member
+ * since its previous round, together with its current load. Replaces the individual Delta*Command and Update*RunningFreeCommand messages.
+ */
+public class StatisticsGossipCommand implements Command<Void, CommandDispatcherTransport> {
+    private static final long serialVersionUID = 2960342264361489473L;
+
+    private final Map<Address, int[]> deltas = new HashMap<>();
+    private final Map<Address, Long> shortRunningFree = new HashMap<>();
+    private final Map<Address, Long> longRunningFree = new HashMap<>();
+    private WorkManagerLoad load;
+
+    Map<Address, int[]> getDeltas() {
+        return this.deltas;
+    }
+
+    Map<Address, Long> getShortRunningFree() {
+        return this.shortRunningFree;
+    }
+
+    Map<Address, Long> getLongRunningFree() {
+        return this.longRunningFree;
+    }
+
+    /**
+     * Sets the load of the sending member, applied to the work managers whose free thread counts are carried by this command.
+     */
+    void setLoad(WorkManagerLoad load) {
+        this.load = load;
+    }
+
+    @Override
+    public Void execute(CommandDispatcherTransport transport) {
+        StatisticsGossip.Delta[] values = StatisticsGossip.Delta.values();
+        for (Map.Entry<Address, int[]> entry : this.deltas.entrySet()) {
+            int[] counts = entry.getValue();
+            for (int i = 0; i < counts.length && i < values.length; ++i) {
+                for (int j = 0; j < counts[i]; ++j) {
+                    values[i].apply(transport, entry.getKey());
+                }
+            }
+        }
+        for (Map.Entry<Address, Long> entry : this.shortRunningFree.entrySet()) {
+            transport.remoteUpdateShortRunningFree(entry.getKey(), entry.getValue(), this.load);
+        }
+        for (Map.Entry<Address, Long> entry : this.longRunningFree.entrySet()) {
+            transport.remoteUpdateLongRunningFree(entry.getKey(), entry.getValue(), this.load);
+        }
+        return null;
+    }
+}
@@ -17,15 +17,24 @@ public class UpdateShortRunningFreeCommand implements Command<Void, CommandDispa
 
     private final Address address;
     private final long free;
+    private final WorkManagerLoad load;
 
     public UpdateShortRunningFreeCommand(Address address, long free) {
+        this(address, free, null);
+    }
+
+    /**
+     * @param load the load of the sending member, or null if unknown
+     */
+    public UpdateShortRunningFreeCommand(Address address, long free, WorkManagerLoad load) {
         this.address = address;
         this.free = free;
+        this.load = load;
     }
 
     @Override
     public Void execute(CommandDispatcherTransport transport) {
-        transport.localUpdateShortRunningFree(this.address, this.free);
+        transport.remoteUpdateShortRunningFree(this.address, this.free, this.load);
         return null;
     }
 }
@@ -0,0 +1,54 @@
+/*
+ * Copyright The WildFly Authors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.jboss.as.connector.services.workmanager.transport;
+
+import java.io.Serializable;
+
+/**
+ * Snapshot of the load of a distributed work manager, advertised to the other members together with its free thread counts.
+ */
+public class WorkManagerLoad implements Serializable {
+    private static final long serialVersionUID = -6017424806453370925L;
+
+    private final int shortRunningQueueDepth;
+    private final long shortRunningLatency;
+    private final int longRunningQueueDepth;
+    private final long longRunningLatency;
+    private final double cpuLoad;
+
+    /**
+     * @param shortRunningQueueDepth the number of queued short running work instances
+     * @param shortRunningLatency the recent average latency in nanoseconds of short running work instances
+     * @param longRunningQueueDepth the number of queued long running work instances
+     * @param longRunningLatency the recent average latency in nanoseconds of long running work instances
+     * @param cpuLoad the system load average per available processor, or a negative value if not available
+     */
+    public WorkManagerLoad(int shortRunningQueueDepth, long shortRunningLatency, int longRunningQueueDepth, long longRunningLatency, double cpuLoad) {
+        this.shortRunningQueueDepth = shortRunningQueueDepth;
+        this.shortRunningLatency = shortRunningLatency;
+        this.longRunningQueueDepth = longRunningQueueDepth;
+        this.longRunningLatency = longRunningLatency;
+        this.cpuLoad = cpuLoad;
+    }
+
+    public int getQueueDepth(boolean longRunning) {
+        return longRunning ? this.longRunningQueueDepth : this.shortRunningQueueDepth;
+    }
+
+    public long getLatency(boolean longRunning) {
+        return longRunning ? this.longRunningLatency : this.shortRunningLatency;
+    }
+
+    public double getCpuLoad() {
+        return this.cpuLoad;
+    }
+
+    @Override
+    public String toString() {
+        return String.format("short-running-queue-depth=%d, short-running-latency=%d, long-running-queue-depth=%d, long-running-latency=%d, cpu-load=%.2f",
+                this.shortRunningQueueDepth, this.shortRunningLatency, this.longRunningQueueDepth, this.longRunningLatency, this.cpuLoad);
+    }
+}
@@ -20,6 +20,7 @@ import org.jboss.as.controller.client.helpers.MeasurementUnit;
 import org.jboss.as.controller.descriptions.ModelDescriptionConstants;
 import org.jboss.as.controller.operations.validation.EnumValidator;
 import org.jboss.as.controller.operations.validation.IntRangeValidator;
+import org.jboss.as.controller.operations.validation.LongRangeValidator;
 import org.jboss.dmr.ModelNode;
 import org.jboss.dmr.ModelType;
 import org.jboss.jca.common.api.metadata.Defaults;
@@ -68,6 +69,16 @@ public class Constants {
 
     private static final String CAPACITY_DECREMENTER_PROPERTIES_NAME = "capacity-decrementer-properties";
 
+    private static final String POOL_CREATION_RATE_NAME = "pool-creation-rate";
+
+    private static final String POOL_MAX_LIFETIME_MILLIS_NAME = "pool-max-lifetime-millis";
+
+    private static final String POOL_LIFETIME_JITTER_NAME = "pool-lifetime-jitter";
+
+    private static final String POOL_WARM_UP_NAME = "pool-warm-up";
+
+    private static final String POOL_WARM_UP_CONCURRENCY_NAME = "pool-warm-up-concurrency";
+
 
     public static final SimpleAttributeDefinition BLOCKING_TIMEOUT_WAIT_MILLIS = new SimpleAttributeDefinitionBuilder(BLOCKING_TIMEOUT_WAIT_MILLIS_NAME, ModelType.LONG, true)
             .setXmlName(TimeOut.Tag.BLOCKING_TIMEOUT_MILLIS.getLocalName())
@@ -213,6 +224,54 @@ public class Constants {
             .build();
 
 
+    public static final SimpleAttributeDefinition POOL_CREATION_RATE = new SimpleAttributeDefinitionBuilder(POOL_CREATION_RATE_NAME, ModelType.INT, true)
+            .setXmlName("creation-rate")
+            .setMeasurementUnit(MeasurementUnit.PER_SECOND)
+            .setValidator(new IntRangeValidator(1, true, true))
+            .setAllowExpression(true)
+            .setRestartAllServices()
+            .build();
+
+    public static final SimpleAttributeDefinition POOL_MAX_LIFETIME_MILLIS = new SimpleAttributeDefinitionBuilder(POOL_MAX_LIFETIME_MILLIS_NAME, ModelType.LONG, true)
+            .setXmlName("max-lifetime-millis")
+            .setMeasurementUnit(MeasurementUnit.MILLISECONDS)
+            .setValidator(new LongRangeValidator(1, true, true))
+            .setAllowExpression(true)
+            .setRestartAllServices()
+            .build();
+
+    public static final SimpleAttributeDefinition POOL_LIFETIME_JITTER = new SimpleAttributeDefinitionBuilder(POOL_LIFETIME_JITTER_NAME, ModelType.INT, true)
+            .setXmlName("lifetime-jitter")
+            .setMeasurementUnit(MeasurementUnit.PERCENTAGE)
+            .setDefaultValue(new ModelNode(10))
+            .setValidator(new IntRangeValidator(0, 100, true, true))
+            .setRequires(POOL_MAX_LIFETIME_MILLIS_NAME)
+            .setAllowExpression(true)
+            .setRestartAllServices()
+            .build();
+
+    public static final SimpleAttributeDefinition POOL_WARM_UP = new SimpleAttributeDefinitionBuilder(POOL_WARM_UP_NAME, ModelType.BOOLEAN, true)
+            .setXmlName("warm-up")
+            .setDefaultValue(ModelNode.FALSE)
+            .setAllowExpression(true)
+            .setRestartAllServices()
+            .build();
+
+    public static final SimpleAttributeDefinition POOL_WARM_UP_CONCURRENCY = new SimpleAttributeDefinitionBuilder(POOL_WARM_UP_CONCURRENCY_NAME, ModelType.INT, true)
+            .setXmlName("warm-up-concurrency")
+            .setDefaultValue(new ModelNode(4))
+            .setValidator(new IntRangeValidator(1, true, true))
+            .setRequires(POOL_WARM_UP_NAME)
+            .setAllowExpression(true)
+            .setRestartAllServices()
+            .build();
+
+    /**
+     * Attributes shaping the creation and retirement of pooled connections, see {@link PoolShaper}.
+     */
+    public static final SimpleAttributeDefinition[] POOL_SHAPING_ATTRIBUTES = {POOL_CREATION_RATE, POOL_MAX_LIFETIME_MILLIS,
+            POOL_LIFETIME_JITTER, POOL_WARM_UP, POOL_WARM_UP_CONCURRENCY};
+
     public static final AttributeDefinition[] POOL_ATTRIBUTES = {BLOCKING_TIMEOUT_WAIT_MILLIS, IDLETIMEOUTMINUTES, BACKGROUNDVALIDATIONMILLIS,
             BACKGROUNDVALIDATION, USE_FAST_FAIL, VALIDATE_ON_MATCH, MAX_POOL_SIZE, MIN_POOL_SIZE, INITIAL_POOL_SIZE, POOL_PREFILL, POOL_FAIR, POOL_USE_STRICT_MIN, POOL_FLUSH_STRATEGY,
             CAPACITY_INCREMENTER_CLASS, CAPACITY_DECREMENTER_CLASS, CAPACITY_INCREMENTER_PROPERTIES, CAPACITY_DECREMENTER_PROPERTIES};
@@ -0,0 +1,224 @@
+/*
+ * Copyright The WildFly Authors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.jboss.as.connector.subsystems.common.pool;
+
+import static org.jboss.as.connector.logging.ConnectorLogger.DS_DEPLOYER_LOGGER;
+
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.WeakHashMap;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.LockSupport;
+
+import javax.sql.DataSource;
+
+import org.jboss.as.controller.OperationContext;
+import org.jboss.as.controller.OperationFailedException;
+import org.jboss.dmr.ModelNode;
+import org.jboss.threads.JBossThreadFactory;
+
+/**
+ * Shapes the creation and retirement of the physical connections of a pool, so that connections are not all created,
+ * nor all retired, at the same time:
+ * <ul>
+ * <li>connections are created at a maximum rate, staggering the prefill of the pool and its refill after a flush,</li>
+ * <li>connections are retired once they reach a maximum lifetime, randomly shortened by a jitter so that connections created
+ * together do not expire together. Expired connections are reported as invalid to the background validation of the pool,
+ * which destroys them whether they are requested or idle,</li>
+ * <li>the pool can be warmed up before the datasource becomes available, acquiring and validating its minimum number of
+ * connections in parallel.</li>
+ * </ul>
+ */
+public class PoolShaper {
+
+    private static final int VALIDATION_TIMEOUT_SECONDS = 5;
+    private static final long MIN_RETIREMENT_INTERVAL_MILLIS = 1000L;
+
+    private final long creationInterval;
+    private final long maxLifetime;
+    private final int lifetimeJitter;
+    private final int warmUpSize;
+    private final int warmUpConcurrency;
+    private final boolean backgroundValidation;
+
+    private final AtomicLong nextCreation = new AtomicLong(System.nanoTime());
+    private final Map<Object, Long> expirations = Collections.synchronizedMap(new WeakHashMap<>());
+
+    /**
+     * @param creationRate the maximum number of connections created per second, or 0 if unlimited
+     * @param maxLifetime the maximum lifetime of a connection in milliseconds, or 0 if unlimited
+     * @param lifetimeJitter the maximum percentage by which the lifetime of a connection is randomly shortened
+     * @param warmUpSize the number of connections acquired by {@link #warmUp(DataSource)}, or 0 to disable warm-up
+     * @param warmUpConcurrency the number of connections acquired concurrently during warm-up
+     * @param backgroundValidation whether background validation of the connections is configured for the pool
+     */
+    public PoolShaper(int creationRate, long maxLifetime, int lifetimeJitter, int warmUpSize, int warmUpConcurrency, boolean backgroundValidation) {
+        this.creationInterval = (creationRate > 0) ? TimeUnit.SECONDS.toNanos(1) / creationRate : 0;
+        this.maxLifetime = TimeUnit.MILLISECONDS.toNanos(maxLifetime);
+        this.lifetimeJitter = lifetimeJitter;
+        this.warmUpSize = warmUpSize;
+        this.warmUpConcurrency = Math.max(warmUpConcurrency, 1);
+        this.backgroundValidation = backgroundValidation;
+    }
+
+    /**
+     * Creates the shaper configured by the {@link Constants#POOL_SHAPING_ATTRIBUTES} of a pool.
+     *
+     * @return the shaper, or null if the pool is not shaped
+     */
+    public static PoolShaper create(OperationContext context, ModelNode model) throws OperationFailedException {
+        ModelNode creationRate = Constants.POOL_CREATION_RATE.resolveModelAttribute(context, model);
+        ModelNode maxLifetime = Constants.POOL_MAX_LIFETIME_MILLIS.resolveModelAttribute(context, model);
+        boolean warmUp = Constants.POOL_WARM_UP.resolveModelAttribute(context, model).asBoolean();
+        if (!creationRate.isDefined() && !maxLifetime.isDefined() && !warmUp) {
+            return null;
+        }
+        int warmUpSize = 0;
+        if (warmUp) {
+            warmUpSize = Math.max(Constants.MIN_POOL_SIZE.resolveModelAttribute(context, model).asInt(),
+                    Constants.INITIAL_POOL_SIZE.resolveModelAttribute(context, model).asInt(0));
+        }
+        return new PoolShaper(creationRate.asInt(0), maxLifetime.asLong(0L),
+                Constants.POOL_LIFETIME_JITTER.resolveModelAttribute(context, model).asInt(),
+                warmUpSize, Constants.POOL_WARM_UP_CONCURRENCY.resolveModelAttribute(context, model).asInt(),
+                Constants.BACKGROUNDVALIDATION.resolveModelAttribute(context, model).asBoolean(false));
+    }
+
+    /**
+     * Returns the interval of the background validation retiring the expired connections of a pool that is not otherwise
+     * validated in the background.
+     *
+     * @param maxLifetime the maximum lifetime of a connection in milliseconds
+     * @return the interval in milliseconds
+     */
+    public static long getRetirementInterval(long maxLifetime) {
+        return Math.max(maxLifetime / 10, MIN_RETIREMENT_INTERVAL_MILLIS);
+    }
+
+    /**
+     * Waits until the creation rate allows a new connection to be created.
+     *
+     * @throws InterruptedException if the thread is interrupted while waiting
+     */
+    public void awaitCreation() throws InterruptedException {
+        if (this.creationInterval == 0) {
+            return;
+        }
+        long interval = this.creationInterval;
+        long slot = this.nextCreation.getAndAccumulate(System.nanoTime(), (next, now) -> Math.max(next, now) + interval);
+        long delay = slot - System.nanoTime();
+        while (delay > 0) {
+            LockSupport.parkNanos(this, delay);
+            if (Thread.interrupted()) {
+                throw new InterruptedException();
+            }
+            delay = slot - System.nanoTime();
+        }
+    }
+
+    /**
+     * Records the creation of a connection, assigning it a jittered expiration if a maximum lifetime is configured.
+     *
+     * @param connection a newly created managed connection
+     */
+    public void created(Object connection) {
+        if (this.maxLifetime > 0) {
+            long jitter = (this.lifetimeJitter > 0) ? ThreadLocalRandom.current().nextLong(this.maxLifetime * this.lifetimeJitter / 100 + 1) : 0;
+            this.expirations.put(connection, System.nanoTime() + this.maxLifetime - jitter);
+        }
+    }
+
+    /**
+     * Indicates whether a connection reached its lifetime and should be retired rather than handed out again.
+     *
+     * @param connection a managed connection
+     * @return true if the connection expired
+     */
+    public boolean isExpired(Object connection) {
+        if (this.maxLifetime == 0) {
+            return false;
+        }
+        Long expiration = this.expirations.get(connection);
+        return expiration != null && System.nanoTime() - expiration >= 0;
+    }
+
+    /**
+     * Indicates whether background validation was configured for the pool, in which case the connections that did not
+     * expire are still validated by the background validation enabled to retire the expired ones.
+     */
+    public boolean isBackgroundValidationEnabled() {
+        return this.backgroundValidation;
+    }
+
+    public boolean isWarmUpEnabled() {
+        return this.warmUpSize > 0;
+    }
+
+    /**
+     * Fills the pool of the specified datasource up to the warm-up size, acquiring and validating connections in parallel.
+     * All connections are held until the warm-up completes so that each of them is a distinct physical connection.
+     * Warm-up stops at the first connection failure, leaving the pool to fill on demand.
+     * <p>
+     * The acquisitions run on threads dedicated to the warm-up, so that it never waits for tasks queued behind it on a
+     * shared executor.
+     *
+     * @param dataSource the pooled datasource
+     */
+    public void warmUp(DataSource dataSource) {
+        int concurrency = Math.min(this.warmUpConcurrency, this.warmUpSize);
+        List<Connection> connections = Collections.synchronizedList(new ArrayList<>(this.warmUpSize));
+        AtomicInteger remaining = new AtomicInteger(this.warmUpSize);
+        AtomicInteger invalid = new AtomicInteger();
+        long start = System.nanoTime();
+        Callable<Void> task = () -> {
+            try {
+                while (remaining.getAndDecrement() > 0) {
+                    Connection connection = dataSource.getConnection();
+                    connections.add(connection);
+                    if (!connection.isValid(VALIDATION_TIMEOUT_SECONDS)) {
+                        invalid.incrementAndGet();
+                    }
+                }
+            } catch (SQLException | RuntimeException e) {
+                remaining.set(0);
+                DS_DEPLOYER_LOGGER.poolWarmUpFailed(e);
+            }
+            return null;
+        };
+        ExecutorService executor = Executors.newFixedThreadPool(concurrency, new JBossThreadFactory(null, Boolean.TRUE, null, "pool-warm-up-%t", null, null));
+        try {
+            executor.invokeAll(Collections.nCopies(concurrency, task));
+        } catch (InterruptedException e) {
+            remaining.set(0);
+            Thread.currentThread().interrupt();
+        } finally {
+            executor.shutdownNow();
+        }
+        synchronized (connections) {
+            for (Connection connection : connections) {
+                try {
+                    connection.close();
+                } catch (SQLException e) {
+                    DS_DEPLOYER_LOGGER.debugf(e, "Failed to release warm-up connection");
+                }
+            }
+        }
+        if (invalid.get() > 0) {
+            DS_DEPLOYER_LOGGER.poolWarmUpInvalidConnections(invalid.get(), connections.size());
+        }
+        DS_DEPLOYER_LOGGER.debugf("Warmed up %d connections in %d ms", connections.size(), TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start));
+    }
+}
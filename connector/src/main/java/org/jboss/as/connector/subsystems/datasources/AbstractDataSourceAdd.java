@@ -42,6 +42,7 @@ import org.jboss.as.connector._private.Capabilities;
 import org.jboss.as.connector.logging.ConnectorLogger;
 import org.jboss.as.connector.services.datasources.statistics.DataSourceStatisticsService;
 import org.jboss.as.connector.services.driver.registry.DriverRegistry;
+import org.jboss.as.connector.subsystems.common.pool.PoolShaper;
 import org.jboss.as.connector.util.ConnectorServices;
 import org.jboss.as.controller.AbstractAddStepHandler;
 import org.jboss.as.controller.AttributeDefinition;
@@ -155,6 +156,7 @@ public abstract class AbstractDataSourceAdd extends AbstractAddStepHandler {
         driverDemanderBuilder.install();
 
         AbstractDataSourceService dataSourceService = createDataSourceService(dsName, jndiName);
+        dataSourceService.setPoolShaper(PoolShaper.create(context, model));
 
         final ManagementResourceRegistration registration = context.getResourceRegistrationForUpdate();
         final ServiceName dataSourceServiceNameAlias = AbstractDataSourceService.getServiceName(bindInfo);
@@ -379,7 +381,7 @@ public abstract class AbstractDataSourceAdd extends AbstractAddStepHandler {
                 DataSourceStatisticsService statsService = new DataSourceStatisticsService(datasourceRegistration, statsEnabled);
                 final ServiceBuilder statsServiceSB = serviceTarget.addService(dataSourceServiceName.append(Constants.STATISTICS), statsService);
                 statsServiceSB.addAliases(dataSourceServiceNameAlias);
-                statsServiceSB.requires(dataSourceServiceName);
+                statsServiceSB.addDependency(dataSourceServiceName, DataSource.class, statsService.getDataSourceInjector());
                 statsServiceSB.addDependency(CommonDeploymentService.getServiceName( ContextNames.bindInfoFor(jndiName)), CommonDeployment.class, statsService.getCommonDeploymentInjector());
                 statsServiceSB.setInitialMode(ServiceController.Mode.PASSIVE);
                 statsServiceSB.install();
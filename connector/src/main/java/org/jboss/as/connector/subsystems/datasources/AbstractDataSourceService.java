@@ -10,6 +10,10 @@ import static java.security.AccessController.doPrivileged;
 import static org.jboss.as.connector.logging.ConnectorLogger.DS_DEPLOYER_LOGGER;
 
 import javax.naming.Reference;
+import javax.security.auth.Subject;
+import jakarta.resource.ResourceException;
+import jakarta.resource.spi.ConnectionRequestInfo;
+import jakarta.resource.spi.ManagedConnection;
 import jakarta.resource.spi.ManagedConnectionFactory;
 import javax.sql.DataSource;
 import javax.sql.XADataSource;
@@ -20,8 +24,10 @@ import java.sql.Driver;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.HashMap;
+import java.util.HashSet;
 import java.util.List;
 import java.util.Map;
+import java.util.Set;
 import java.util.concurrent.ExecutorService;
 import java.util.concurrent.RejectedExecutionException;
 
@@ -31,9 +37,11 @@ import org.jboss.as.connector.security.ElytronSubjectFactory;
 import org.jboss.as.connector.services.driver.InstalledDriver;
 import org.jboss.as.connector.services.driver.registry.DriverRegistry;
 import org.jboss.as.connector.subsystems.common.jndi.Util;
+import org.jboss.as.connector.subsystems.common.pool.PoolShaper;
 import org.jboss.as.connector.util.Injection;
 import org.jboss.as.controller.OperationFailedException;
 import org.jboss.as.naming.deployment.ContextNames;
+import org.jboss.jca.adapters.jdbc.BaseWrapperManagedConnection;
 import org.jboss.jca.adapters.jdbc.BaseWrapperManagedConnectionFactory;
 import org.jboss.jca.adapters.jdbc.JDBCResourceAdapter;
 import org.jboss.jca.adapters.jdbc.local.LocalManagedConnectionFactory;
@@ -121,6 +129,7 @@ public abstract class AbstractDataSourceService implements Service<DataSource> {
 
     protected CommonDeployment deploymentMD;
     private WildFlyDataSource sqlDataSource;
+    private volatile PoolShaper poolShaper;
 
     /**
      * The class loader to use. If null the Driver class loader will be used instead.
@@ -134,6 +143,36 @@ public abstract class AbstractDataSourceService implements Service<DataSource> {
     }
 
     public synchronized void start(StartContext startContext) throws StartException {
+        PoolShaper poolShaper = this.poolShaper;
+        if (poolShaper == null || !poolShaper.isWarmUpEnabled()) {
+            deploy(startContext);
+            return;
+        }
+        // The datasource only becomes available once its pool is warmed up
+        startContext.asynchronous();
+        Runnable r = () -> {
+            try {
+                final DataSource dataSource;
+                synchronized (this) {
+                    deploy(startContext);
+                    dataSource = sqlDataSource;
+                }
+                poolShaper.warmUp(dataSource);
+                startContext.complete();
+            } catch (StartException e) {
+                startContext.failed(e);
+            } catch (Throwable t) {
+                startContext.failed(ConnectorLogger.ROOT_LOGGER.deploymentError(t, dsName));
+            }
+        };
+        try {
+            executor.getValue().execute(r);
+        } catch (RejectedExecutionException e) {
+            r.run();
+        }
+    }
+
+    private void deploy(StartContext startContext) throws StartException {
         try {
             final ServiceContainer container = startContext.getController().getServiceContainer();
 
@@ -159,6 +198,15 @@ public abstract class AbstractDataSourceService implements Service<DataSource> {
         }
     }
 
+    /**
+     * Sets the shaper of the connection pool of this datasource, applied on next start.
+     *
+     * @param poolShaper the pool shaper, or null if the pool is not shaped
+     */
+    public void setPoolShaper(PoolShaper poolShaper) {
+        this.poolShaper = poolShaper;
+    }
+
     protected abstract AS7DataSourceDeployer getDeployer() throws ValidateException ;
 
     public void stop(final StopContext stopContext) {
@@ -514,7 +562,9 @@ public abstract class AbstractDataSourceService implements Service<DataSource> {
         @Override
         protected ManagedConnectionFactory createMcf(XaDataSource arg0, String arg1, ClassLoader arg2)
                 throws NotFoundException, DeployException {
-            final XAManagedConnectionFactory xaManagedConnectionFactory = new XAManagedConnectionFactory(xaDataSourceConfig.getXaDataSourceProperty());
+            final XAManagedConnectionFactory xaManagedConnectionFactory = (poolShaper != null)
+                    ? new ShapedXAManagedConnectionFactory(xaDataSourceConfig.getXaDataSourceProperty(), poolShaper)
+                    : new XAManagedConnectionFactory(xaDataSourceConfig.getXaDataSourceProperty());
 
             if (xaDataSourceConfig.getUrlDelimiter() != null) {
                 xaManagedConnectionFactory.setURLDelimiter(xaDataSourceConfig.getUrlDelimiter());
@@ -547,7 +597,9 @@ public abstract class AbstractDataSourceService implements Service<DataSource> {
         @Override
         protected ManagedConnectionFactory createMcf(org.jboss.jca.common.api.metadata.ds.DataSource arg0, String arg1,
                 ClassLoader arg2) throws NotFoundException, DeployException {
-            final LocalManagedConnectionFactory managedConnectionFactory = new LocalManagedConnectionFactory();
+            final LocalManagedConnectionFactory managedConnectionFactory = (poolShaper != null)
+                    ? new ShapedLocalManagedConnectionFactory(poolShaper)
+                    : new LocalManagedConnectionFactory();
             managedConnectionFactory.setDriverClass(dataSourceConfig.getDriverClass());
 
             if (dataSourceConfig.getUrlDelimiter() != null) {
@@ -710,5 +762,93 @@ public abstract class AbstractDataSourceService implements Service<DataSource> {
 
     }
 
+    private static ManagedConnection createShapedManagedConnection(PoolShaper poolShaper, ExceptionSupplier<ManagedConnection, ResourceException> factory) throws ResourceException {
+        if (poolShaper == null) {
+            return factory.get();
+        }
+        try {
+            poolShaper.awaitCreation();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new ResourceException(e);
+        }
+        ManagedConnection connection = factory.get();
+        poolShaper.created(connection);
+        return connection;
+    }
 
+    /**
+     * Adds the expired connections to the invalid connections found by the background validation of a shaped pool.
+     * The connections are only validated if background validation was configured, as it is otherwise only enabled to
+     * retire the expired connections.
+     */
+    @SuppressWarnings("rawtypes")
+    private static Set<BaseWrapperManagedConnection> getShapedInvalidConnections(PoolShaper poolShaper, Set connections, ExceptionSupplier<Set<BaseWrapperManagedConnection>, ResourceException> validation) throws ResourceException {
+        if (poolShaper == null) {
+            return validation.get();
+        }
+        Set<BaseWrapperManagedConnection> invalid = new HashSet<>();
+        if (poolShaper.isBackgroundValidationEnabled()) {
+            invalid.addAll(validation.get());
+        }
+        for (Object connection : connections) {
+            if (poolShaper.isExpired(connection)) {
+                invalid.add((BaseWrapperManagedConnection) connection);
+            }
+        }
+        return invalid;
+    }
+
+    /**
+     * Local managed connection factory whose connection creation rate and lifetime are shaped by a {@link PoolShaper}.
+     * Connections that reached their lifetime are reported as invalid, so that the background validation of the pool destroys them.
+     * The shaper is not serialized, a deserialized factory creates and validates its connections without shaping them.
+     */
+    private static class ShapedLocalManagedConnectionFactory extends LocalManagedConnectionFactory {
+        private static final long serialVersionUID = 2385434786398462519L;
+
+        private final transient PoolShaper poolShaper;
+
+        ShapedLocalManagedConnectionFactory(PoolShaper poolShaper) {
+            this.poolShaper = poolShaper;
+        }
+
+        @Override
+        public ManagedConnection createManagedConnection(Subject subject, ConnectionRequestInfo cri) throws ResourceException {
+            return createShapedManagedConnection(this.poolShaper, () -> super.createManagedConnection(subject, cri));
+        }
+
+        @SuppressWarnings("rawtypes")
+        @Override
+        public Set<BaseWrapperManagedConnection> getInvalidConnections(Set connections) throws ResourceException {
+            return getShapedInvalidConnections(this.poolShaper, connections, () -> super.getInvalidConnections(connections));
+        }
+    }
+
+    /**
+     * XA managed connection factory whose connection creation rate and lifetime are shaped by a {@link PoolShaper}.
+     * Connections that reached their lifetime are reported as invalid, so that the background validation of the pool destroys them.
+     * The shaper is not serialized, a deserialized factory creates and validates its connections without shaping them.
+     */
+    private static class ShapedXAManagedConnectionFactory extends XAManagedConnectionFactory {
+        private static final long serialVersionUID = -4436012880713561083L;
+
+        private final transient PoolShaper poolShaper;
+
+        ShapedXAManagedConnectionFactory(Map<String, String> xaDataSourceProperties, PoolShaper poolShaper) {
+            super(xaDataSourceProperties);
+            this.poolShaper = poolShaper;
+        }
+
+        @Override
+        public ManagedConnection createManagedConnection(Subject subject, ConnectionRequestInfo cri) throws ResourceException {
+            return createShapedManagedConnection(this.poolShaper, () -> super.createManagedConnection(subject, cri));
+        }
+
+        @SuppressWarnings("rawtypes")
+        @Override
+        public Set<BaseWrapperManagedConnection> getInvalidConnections(Set connections) throws ResourceException {
+            return getShapedInvalidConnections(this.poolShaper, connections, () -> super.getInvalidConnections(connections));
+        }
+    }
 }
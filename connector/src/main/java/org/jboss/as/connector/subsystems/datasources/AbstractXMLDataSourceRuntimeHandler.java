@@ -13,6 +13,7 @@ import java.util.Map;
 
 import org.jboss.as.connector.logging.ConnectorLogger;
 import org.jboss.as.controller.AbstractRuntimeOnlyHandler;
+import org.jboss.as.controller.AttributeDefinition;
 import org.jboss.as.controller.OperationContext;
 import org.jboss.as.controller.OperationFailedException;
 import org.jboss.as.controller.PathAddress;
@@ -101,6 +102,15 @@ public abstract class AbstractXMLDataSourceRuntimeHandler<T> extends AbstractRun
         return deploymentModel.get(ModelDescriptionConstants.RUNTIME_NAME).asString();
     }
 
+    protected static boolean isPoolShapingAttribute(final String attributeName) {
+        for (AttributeDefinition attribute : org.jboss.as.connector.subsystems.common.pool.Constants.POOL_SHAPING_ATTRIBUTES) {
+            if (attribute.getName().equals(attributeName)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
     protected void setLongIfNotNull(final OperationContext context, final Long value) {
         if (value != null) {
             context.getResult().set(value);
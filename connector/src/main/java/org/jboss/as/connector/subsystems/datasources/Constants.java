@@ -684,7 +684,12 @@ public class Constants {
             org.jboss.as.connector.subsystems.common.pool.Constants.BACKGROUNDVALIDATION,
             org.jboss.as.connector.subsystems.common.pool.Constants.USE_FAST_FAIL,
             VALIDATE_ON_MATCH, SPY,
-            USE_CCM, ENABLED, CONNECTABLE, STATISTICS_ENABLED, TRACKING, MCP, ENLISTMENT_TRACE};
+            USE_CCM, ENABLED, CONNECTABLE, STATISTICS_ENABLED, TRACKING, MCP, ENLISTMENT_TRACE,
+            org.jboss.as.connector.subsystems.common.pool.Constants.POOL_CREATION_RATE,
+            org.jboss.as.connector.subsystems.common.pool.Constants.POOL_MAX_LIFETIME_MILLIS,
+            org.jboss.as.connector.subsystems.common.pool.Constants.POOL_LIFETIME_JITTER,
+            org.jboss.as.connector.subsystems.common.pool.Constants.POOL_WARM_UP,
+            org.jboss.as.connector.subsystems.common.pool.Constants.POOL_WARM_UP_CONCURRENCY};
 
     static final PropertiesAttributeDefinition[] DATASOURCE_PROPERTIES_ATTRIBUTES = new PropertiesAttributeDefinition[]{
             REAUTHPLUGIN_PROPERTIES,
@@ -800,7 +805,12 @@ public class Constants {
             SPY, USE_CCM, ENABLED, CONNECTABLE, STATISTICS_ENABLED, TRACKING, MCP, ENLISTMENT_TRACE,
             RECOVERY_USERNAME, RECOVERY_PASSWORD,
             RECOVERY_SECURITY_DOMAIN, RECOVERY_ELYTRON_ENABLED, RECOVERY_AUTHENTICATION_CONTEXT, RECOVER_PLUGIN_CLASSNAME,
-            RECOVERY_CREDENTIAL_REFERENCE, NO_RECOVERY, URL_PROPERTY};
+            RECOVERY_CREDENTIAL_REFERENCE, NO_RECOVERY, URL_PROPERTY,
+            org.jboss.as.connector.subsystems.common.pool.Constants.POOL_CREATION_RATE,
+            org.jboss.as.connector.subsystems.common.pool.Constants.POOL_MAX_LIFETIME_MILLIS,
+            org.jboss.as.connector.subsystems.common.pool.Constants.POOL_LIFETIME_JITTER,
+            org.jboss.as.connector.subsystems.common.pool.Constants.POOL_WARM_UP,
+            org.jboss.as.connector.subsystems.common.pool.Constants.POOL_WARM_UP_CONCURRENCY};
 
     static final PropertiesAttributeDefinition[] XA_DATASOURCE_PROPERTIES_ATTRIBUTES = new PropertiesAttributeDefinition[]{
             REAUTHPLUGIN_PROPERTIES,
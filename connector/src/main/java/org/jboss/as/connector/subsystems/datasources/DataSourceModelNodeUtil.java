@@ -20,6 +20,7 @@ import static org.jboss.as.connector.subsystems.common.pool.Constants.MAX_POOL_S
 import static org.jboss.as.connector.subsystems.common.pool.Constants.MIN_POOL_SIZE;
 import static org.jboss.as.connector.subsystems.common.pool.Constants.POOL_FAIR;
 import static org.jboss.as.connector.subsystems.common.pool.Constants.POOL_FLUSH_STRATEGY;
+import static org.jboss.as.connector.subsystems.common.pool.Constants.POOL_MAX_LIFETIME_MILLIS;
 import static org.jboss.as.connector.subsystems.common.pool.Constants.POOL_PREFILL;
 import static org.jboss.as.connector.subsystems.common.pool.Constants.POOL_USE_STRICT_MIN;
 import static org.jboss.as.connector.subsystems.common.pool.Constants.USE_FAST_FAIL;
@@ -92,6 +93,7 @@ import org.jboss.as.connector.metadata.api.common.Credential;
 import org.jboss.as.connector.metadata.api.ds.DsSecurity;
 import org.jboss.as.connector.metadata.common.CredentialImpl;
 import org.jboss.as.connector.metadata.ds.DsSecurityImpl;
+import org.jboss.as.connector.subsystems.common.pool.PoolShaper;
 import org.jboss.as.connector.util.ModelNodeUtil;
 import org.jboss.as.controller.OperationContext;
 import org.jboss.as.controller.OperationFailedException;
@@ -206,7 +208,13 @@ class DataSourceModelNodeUtil {
                 VALID_CONNECTION_CHECKER_MODULE, VALID_CONNECTION_CHECKER_PROPERTIES);
 
         Long backgroundValidationMillis = ModelNodeUtil.getLongIfSetOrGetDefault(operationContext, dataSourceNode, BACKGROUNDVALIDATIONMILLIS);
-        final Boolean backgroundValidation = ModelNodeUtil.getBooleanIfSetOrGetDefault(operationContext, dataSourceNode, BACKGROUNDVALIDATION);
+        Boolean backgroundValidation = ModelNodeUtil.getBooleanIfSetOrGetDefault(operationContext, dataSourceNode, BACKGROUNDVALIDATION);
+        final Long maxLifetime = ModelNodeUtil.getLongIfSetOrGetDefault(operationContext, dataSourceNode, POOL_MAX_LIFETIME_MILLIS);
+        if (maxLifetime != null && !Boolean.TRUE.equals(backgroundValidation)) {
+            // Expired connections are retired by the background validation of the pool
+            backgroundValidation = Boolean.TRUE;
+            backgroundValidationMillis = PoolShaper.getRetirementInterval(maxLifetime);
+        }
         boolean useFastFail = ModelNodeUtil.getBooleanIfSetOrGetDefault(operationContext, dataSourceNode, USE_FAST_FAIL);
         final Boolean validateOnMatch = ModelNodeUtil.getBooleanIfSetOrGetDefault(operationContext, dataSourceNode, VALIDATE_ON_MATCH);
         final boolean spy = ModelNodeUtil.getBooleanIfSetOrGetDefault(operationContext, dataSourceNode, SPY);
@@ -308,7 +316,13 @@ class DataSourceModelNodeUtil {
                 VALID_CONNECTION_CHECKER_MODULE, VALID_CONNECTION_CHECKER_PROPERTIES);
 
         Long backgroundValidationMillis = ModelNodeUtil.getLongIfSetOrGetDefault(operationContext, dataSourceNode, BACKGROUNDVALIDATIONMILLIS);
-        final Boolean backgroundValidation = ModelNodeUtil.getBooleanIfSetOrGetDefault(operationContext, dataSourceNode, BACKGROUNDVALIDATION);
+        Boolean backgroundValidation = ModelNodeUtil.getBooleanIfSetOrGetDefault(operationContext, dataSourceNode, BACKGROUNDVALIDATION);
+        final Long maxLifetime = ModelNodeUtil.getLongIfSetOrGetDefault(operationContext, dataSourceNode, POOL_MAX_LIFETIME_MILLIS);
+        if (maxLifetime != null && !Boolean.TRUE.equals(backgroundValidation)) {
+            // Expired connections are retired by the background validation of the pool
+            backgroundValidation = Boolean.TRUE;
+            backgroundValidationMillis = PoolShaper.getRetirementInterval(maxLifetime);
+        }
         boolean useFastFail = ModelNodeUtil.getBooleanIfSetOrGetDefault(operationContext, dataSourceNode, USE_FAST_FAIL);
         final Boolean validateOnMatch = ModelNodeUtil.getBooleanIfSetOrGetDefault(operationContext, dataSourceNode, VALIDATE_ON_MATCH);
         final Boolean spy = ModelNodeUtil.getBooleanIfSetOrGetDefault(operationContext, dataSourceNode, SPY);
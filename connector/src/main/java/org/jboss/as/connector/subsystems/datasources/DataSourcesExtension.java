@@ -21,6 +21,7 @@ import static org.jboss.as.connector.subsystems.common.pool.Constants.MIN_POOL_S
 import static org.jboss.as.connector.subsystems.common.pool.Constants.POOL_FAIR;
 import static org.jboss.as.connector.subsystems.common.pool.Constants.POOL_FLUSH_STRATEGY;
 import static org.jboss.as.connector.subsystems.common.pool.Constants.POOL_PREFILL;
+import static org.jboss.as.connector.subsystems.common.pool.Constants.POOL_SHAPING_ATTRIBUTES;
 import static org.jboss.as.connector.subsystems.common.pool.Constants.POOL_USE_STRICT_MIN;
 import static org.jboss.as.connector.subsystems.common.pool.Constants.USE_FAST_FAIL;
 import static org.jboss.as.connector.subsystems.datasources.Constants.ALLOCATION_RETRY;
@@ -146,7 +147,7 @@ public class DataSourcesExtension implements Extension {
     public static final String SUBSYSTEM_NAME = Constants.DATASOURCES;
     private static final String RESOURCE_NAME = DataSourcesExtension.class.getPackage().getName() + ".LocalDescriptions";
 
-    static final ModelVersion CURRENT_MODEL_VERSION = ModelVersion.create(6, 0, 0);
+    static final ModelVersion CURRENT_MODEL_VERSION = ModelVersion.create(7, 2, 0);
 
     static StandardResourceDescriptionResolver getResourceDescriptionResolver(final String... keyPrefix) {
         StringBuilder prefix = new StringBuilder(SUBSYSTEM_NAME);
@@ -187,6 +188,7 @@ public class DataSourcesExtension implements Extension {
         context.setSubsystemXmlMapping(SUBSYSTEM_NAME, Namespace.DATASOURCES_6_0.getUriString(), DataSourceSubsystemParser::new);
         context.setSubsystemXmlMapping(SUBSYSTEM_NAME, Namespace.DATASOURCES_7_0.getUriString(), DataSourceSubsystemParser::new);
         context.setSubsystemXmlMapping(SUBSYSTEM_NAME, Namespace.DATASOURCES_7_1.getUriString(), DataSourceSubsystemParser::new);
+        context.setSubsystemXmlMapping(SUBSYSTEM_NAME, Namespace.DATASOURCES_7_2.getUriString(), DataSourceSubsystemParser::new);
     }
 
     public static final class DataSourceSubsystemParser implements XMLStreamConstants, XMLElementReader<List<ModelNode>>,
@@ -308,6 +310,11 @@ public class DataSourcesExtension implements Extension {
                         ALLOW_MULTIPLE_USERS.isMarshallable(dataSourceNode) ||
                         CONNECTION_LISTENER_CLASS.isMarshallable(dataSourceNode) ||
                         CONNECTION_LISTENER_PROPERTIES.isMarshallable(dataSourceNode);
+                boolean shapingRequired = false;
+                for (SimpleAttributeDefinition attribute : POOL_SHAPING_ATTRIBUTES) {
+                    shapingRequired = shapingRequired || attribute.isMarshallable(dataSourceNode);
+                }
+                poolRequired = poolRequired || shapingRequired;
                 if (isXADataSource) {
                     poolRequired = poolRequired
                             || SAME_RM_OVERRIDE.isMarshallable(dataSourceNode) ||
@@ -370,6 +377,13 @@ public class DataSourcesExtension implements Extension {
                         }
                         writer.writeEndElement();
                     }
+                    if (shapingRequired) {
+                        writer.writeStartElement(Element.POOL_SHAPING.getLocalName());
+                        for (SimpleAttributeDefinition attribute : POOL_SHAPING_ATTRIBUTES) {
+                            attribute.marshallAsAttribute(dataSourceNode, writer);
+                        }
+                        writer.writeEndElement();
+                    }
                     if (isXADataSource) {
                         SAME_RM_OVERRIDE.marshallAsElement(dataSourceNode, writer);
                         INTERLEAVING.marshallAsElement(dataSourceNode, writer);
@@ -5,6 +5,7 @@
 package org.jboss.as.connector.subsystems.datasources;
 
 import org.jboss.as.controller.ModelVersion;
+import org.jboss.as.controller.PathElement;
 import org.jboss.as.controller.transform.ExtensionTransformerRegistration;
 import org.jboss.as.controller.transform.SubsystemTransformerRegistration;
 import org.jboss.as.controller.transform.description.ChainedTransformationDescriptionBuilder;
@@ -14,6 +15,7 @@ import org.jboss.as.controller.transform.description.ResourceTransformationDescr
 import org.jboss.as.controller.transform.description.TransformationDescription;
 import org.jboss.as.controller.transform.description.TransformationDescriptionBuilder;
 
+import static org.jboss.as.connector.subsystems.common.pool.Constants.POOL_SHAPING_ATTRIBUTES;
 import static org.jboss.as.connector.subsystems.datasources.Constants.EXCEPTION_SORTER_MODULE;
 import static org.jboss.as.connector.subsystems.datasources.Constants.STALE_CONNECTION_CHECKER_MODULE;
 import static org.jboss.as.connector.subsystems.datasources.Constants.VALID_CONNECTION_CHECKER_MODULE;
@@ -35,8 +37,7 @@ public class DataSourcesTransformers implements ExtensionTransformerRegistration
     public void registerTransformers(SubsystemTransformerRegistration subsystemRegistration) {
         ChainedTransformationDescriptionBuilder chainedBuilder = TransformationDescriptionBuilder.Factory.createChainedSubystemInstance(subsystemRegistration.getCurrentSubsystemVersion());
 
-        //no transformation here - just XML parsing change
-        chainedBuilder.createBuilder(subsystemRegistration.getCurrentSubsystemVersion(), VERSION_7_0_0).build();
+        get700TransformationDescription(chainedBuilder.createBuilder(subsystemRegistration.getCurrentSubsystemVersion(), VERSION_7_0_0));
 
         get600TransformationDescription(chainedBuilder.createBuilder(VERSION_7_0_0, EAP_7_4));
 
@@ -45,6 +46,16 @@ public class DataSourcesTransformers implements ExtensionTransformerRegistration
         });
     }
 
+    private static TransformationDescription get700TransformationDescription(ResourceTransformationDescriptionBuilder parentBuilder) {
+        for (PathElement path : new PathElement[] { PATH_DATASOURCE, PATH_XA_DATASOURCE }) {
+            parentBuilder.addChildResource(path).getAttributeBuilder()
+                    .setDiscard(DiscardAttributeChecker.DEFAULT_VALUE, POOL_SHAPING_ATTRIBUTES)
+                    .addRejectCheck(RejectAttributeChecker.DEFINED, POOL_SHAPING_ATTRIBUTES)
+                    .end();
+        }
+        return parentBuilder.build();
+    }
+
     private static TransformationDescription get600TransformationDescription(ResourceTransformationDescriptionBuilder parentBuilder) {
         ResourceTransformationDescriptionBuilder builder = parentBuilder.addChildResource(PATH_DATASOURCE);
         builder.getAttributeBuilder()
@@ -22,6 +22,7 @@ import static org.jboss.as.connector.subsystems.common.pool.Constants.MIN_POOL_S
 import static org.jboss.as.connector.subsystems.common.pool.Constants.POOL_FAIR;
 import static org.jboss.as.connector.subsystems.common.pool.Constants.POOL_FLUSH_STRATEGY;
 import static org.jboss.as.connector.subsystems.common.pool.Constants.POOL_PREFILL;
+import static org.jboss.as.connector.subsystems.common.pool.Constants.POOL_SHAPING_ATTRIBUTES;
 import static org.jboss.as.connector.subsystems.common.pool.Constants.POOL_USE_STRICT_MIN;
 import static org.jboss.as.connector.subsystems.common.pool.Constants.USE_FAST_FAIL;
 import static org.jboss.as.connector.subsystems.datasources.Constants.ALLOCATION_RETRY;
@@ -121,6 +122,7 @@ import org.jboss.as.connector.metadata.api.common.Credential;
 import org.jboss.as.connector.metadata.api.ds.DsSecurity;
 import org.jboss.as.connector.util.AbstractParser;
 import org.jboss.as.connector.util.ParserException;
+import org.jboss.as.controller.SimpleAttributeDefinition;
 import org.jboss.as.controller.parsing.ParseUtils;
 import org.jboss.dmr.ModelNode;
 import org.jboss.jca.common.CommonBundle;
@@ -337,7 +339,7 @@ public class DsParser extends AbstractParser {
                         break;
 
                     } else {
-                        throw ParseUtils.unexpectedAttribute(reader, i);
+                        throw unexpectedAttribute(reader, i);
                     }
             }
         }
@@ -525,7 +527,7 @@ public class DsParser extends AbstractParser {
                         break;
 
                     } else {
-                        throw ParseUtils.unexpectedAttribute(reader, i);
+                        throw unexpectedAttribute(reader, i);
                     }
             }
         }
@@ -799,7 +801,7 @@ public class DsParser extends AbstractParser {
                     break;
                 }
                 default:
-                    throw ParseUtils.unexpectedAttribute(reader, i);
+                    throw unexpectedAttribute(reader, i);
             }
         }
 
@@ -988,7 +990,7 @@ public class DsParser extends AbstractParser {
                         break;
 
                     } else {
-                        throw ParseUtils.unexpectedAttribute(reader, i);
+                        throw unexpectedAttribute(reader, i);
                     }
             }
         }
@@ -1190,7 +1192,7 @@ public class DsParser extends AbstractParser {
                         break;
 
                     } else {
-                        throw ParseUtils.unexpectedAttribute(reader, i);
+                        throw unexpectedAttribute(reader, i);
                     }
             }
         }
@@ -1400,7 +1402,7 @@ public class DsParser extends AbstractParser {
                         break;
 
                     } else {
-                        throw ParseUtils.unexpectedAttribute(reader, i);
+                        throw unexpectedAttribute(reader, i);
                     }
             }
         }
@@ -1786,7 +1788,7 @@ public class DsParser extends AbstractParser {
                     break;
                 }
                 default:
-                    throw ParseUtils.unexpectedAttribute(reader, i);
+                    throw unexpectedAttribute(reader, i);
             }
         }
 
@@ -1984,7 +1986,7 @@ public class DsParser extends AbstractParser {
                         break;
 
                     } else {
-                        throw ParseUtils.unexpectedAttribute(reader, i);
+                        throw unexpectedAttribute(reader, i);
                     }
             }
         }
@@ -2193,7 +2195,7 @@ public class DsParser extends AbstractParser {
                         break;
 
                     } else {
-                        throw ParseUtils.unexpectedAttribute(reader, i);
+                        throw unexpectedAttribute(reader, i);
                     }
             }
         }
@@ -2410,7 +2412,7 @@ public class DsParser extends AbstractParser {
                         break;
 
                     } else {
-                        throw ParseUtils.unexpectedAttribute(reader, i);
+                        throw unexpectedAttribute(reader, i);
                     }
             }
         }
@@ -2603,6 +2605,10 @@ public class DsParser extends AbstractParser {
                             break;
                         }
                         case UNKNOWN: {
+                            if (isPoolShaping(reader)) {
+                                parsePoolShaping(reader, operation);
+                                break;
+                            }
                             throw new ParserException(bundle.unexpectedElement(reader.getLocalName()));
                         }
                         default: {
@@ -2712,6 +2718,13 @@ public class DsParser extends AbstractParser {
                             parseCapacity(reader, operation);
                             break;
                         }
+                        case UNKNOWN: {
+                            if (isPoolShaping(reader)) {
+                                parsePoolShaping(reader, operation);
+                                break;
+                            }
+                            throw new ParserException(bundle.unexpectedElement(reader.getLocalName()));
+                        }
 
                         default:
                             throw new ParserException(bundle.unexpectedElement(reader.getLocalName()));
@@ -2723,6 +2736,30 @@ public class DsParser extends AbstractParser {
         throw new ParserException(bundle.unexpectedEndOfDocument());
     }
 
+    private static boolean isPoolShaping(XMLExtendedStreamReader reader) {
+        return Element.forName(reader.getLocalName()) == Element.POOL_SHAPING
+                && Namespace.forUri(reader.getNamespaceURI()).compareTo(Namespace.DATASOURCES_7_2) >= 0;
+    }
+
+    private void parsePoolShaping(XMLExtendedStreamReader reader, final ModelNode operation) throws XMLStreamException {
+        for (int i = 0; i < reader.getAttributeCount(); i++) {
+            if (!isNoNamespaceAttribute(reader, i)) {
+                throw unexpectedAttribute(reader, i);
+            }
+            SimpleAttributeDefinition definition = null;
+            for (SimpleAttributeDefinition attribute : POOL_SHAPING_ATTRIBUTES) {
+                if (attribute.getXmlName().equals(reader.getAttributeLocalName(i))) {
+                    definition = attribute;
+                }
+            }
+            if (definition == null) {
+                throw unexpectedAttribute(reader, i);
+            }
+            definition.parseAndSetParameter(reader.getAttributeValue(i), operation, reader);
+        }
+        ParseUtils.requireNoContent(reader);
+    }
+
     private void parseCapacity(XMLExtendedStreamReader reader, final ModelNode operation) throws XMLStreamException, ParserException,
             ValidateException {
 
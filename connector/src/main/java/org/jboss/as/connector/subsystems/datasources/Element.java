@@ -15,7 +15,7 @@ import java.util.Map;
 
 public enum Element {
     /** always the first **/
-    UNKNOWN(null), SUBSYSTEM("subsystem"), DATASOURCES("datasources"),  DRIVERS("drivers"), DRIVER("driver");
+    UNKNOWN(null), SUBSYSTEM("subsystem"), DATASOURCES("datasources"),  DRIVERS("drivers"), DRIVER("driver"), POOL_SHAPING("shaping");
 
     private final String name;
 
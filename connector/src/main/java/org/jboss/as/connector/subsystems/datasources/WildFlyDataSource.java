@@ -15,6 +15,8 @@ import java.sql.SQLException;
 import java.sql.SQLFeatureNotSupportedException;
 import java.util.logging.Logger;
 
+import org.jboss.as.connector.services.datasources.statistics.JdbcStatistics;
+
 /**
  * WildFly DataSource implementation
  *
@@ -31,6 +33,9 @@ public class WildFlyDataSource implements DataSource, Serializable {
     /** Service name */
     private transient String jndiName;
 
+    /** Latency statistics, disabled until enabled through the management model */
+    private final transient JdbcStatistics statistics = new JdbcStatistics(false);
+
 
     /**
      * Constructor
@@ -44,14 +49,29 @@ public class WildFlyDataSource implements DataSource, Serializable {
 
     @Override
     public Connection getConnection() throws SQLException {
+        // a deserialized instance has no statistics, the bound datasource records them
+        if (statistics != null && statistics.isEnabled()) {
+            return statistics.getConnection(delegate::getConnection);
+        }
         return delegate.getConnection();
     }
 
     @Override
     public Connection getConnection(String username, String password) throws SQLException {
+        if (statistics != null && statistics.isEnabled()) {
+            return statistics.getConnection(() -> delegate.getConnection(username, password));
+        }
         return delegate.getConnection(username, password);
     }
 
+    /**
+     * Returns the latency statistics of this datasource.
+     * @return the statistics, or null for a deserialized instance
+     */
+    public JdbcStatistics getStatistics() {
+        return statistics;
+    }
+
     @Override
     public <T> T unwrap(Class<T> iface) throws SQLException {
         throw new SQLException("Unwrap not supported");
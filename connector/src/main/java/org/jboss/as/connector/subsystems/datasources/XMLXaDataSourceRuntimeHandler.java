@@ -497,6 +497,9 @@ public class XMLXaDataSourceRuntimeHandler extends AbstractXMLDataSourceRuntimeH
         } else if (attributeName.equals(Constants.ENLISTMENT_TRACE.getName())) {
             //Just return w/o setting a result
             return;
+        } else if (isPoolShapingAttribute(attributeName)) {
+            //Pool shaping is not supported by -ds.xml deployments
+            return;
         } else {
             throw ConnectorLogger.ROOT_LOGGER.unknownAttribute(attributeName);
         }
@@ -12,6 +12,7 @@ import java.util.Map;
 import java.util.concurrent.Executor;
 
 import org.jboss.as.connector.services.workmanager.DistributedWorkManagerService;
+import org.jboss.as.connector.services.workmanager.LoadAware;
 import org.jboss.as.connector.services.workmanager.NamedDistributedWorkManager;
 import org.jboss.as.connector.services.workmanager.statistics.DistributedWorkManagerStatisticsService;
 import org.jboss.as.connector.services.workmanager.statistics.WorkManagerStatisticsService;
@@ -62,6 +63,7 @@ public class DistributedWorkManagerAdd extends AbstractAddStepHandler {
 
         String policy = JcaDistributedWorkManagerDefinition.DWmParameters.POLICY.getAttribute().resolveModelAttribute(context, model).asString();
         String selector = JcaDistributedWorkManagerDefinition.DWmParameters.SELECTOR.getAttribute().resolveModelAttribute(context, model).asString();
+        long statisticsGossipInterval = JcaDistributedWorkManagerDefinition.DWmParameters.STATISTICS_GOSSIP_INTERVAL.getAttribute().resolveModelAttribute(context, model).asLong();
 
         ServiceTarget serviceTarget = context.getServiceTarget();
         NamedDistributedWorkManager namedDistributedWorkManager = new NamedDistributedWorkManager(name, elytronEnabled);
@@ -110,6 +112,10 @@ public class DistributedWorkManagerAdd extends AbstractAddStepHandler {
                     namedDistributedWorkManager.setSelector(new PingTime());
                     break;
                 }
+                case LOAD_AWARE: {
+                    namedDistributedWorkManager.setSelector(new LoadAware());
+                    break;
+                }
                 default:
                     throw ROOT_LOGGER.unsupportedSelector(selector);
             }
@@ -125,7 +131,7 @@ public class DistributedWorkManagerAdd extends AbstractAddStepHandler {
             namedDistributedWorkManager.setSelector(new PingTime());
         }
 
-        DistributedWorkManagerService wmService = new DistributedWorkManagerService(namedDistributedWorkManager);
+        DistributedWorkManagerService wmService = new DistributedWorkManagerService(namedDistributedWorkManager, statisticsGossipInterval);
         ServiceBuilder<NamedDistributedWorkManager> builder = serviceTarget
                 .addService(ConnectorServices.WORKMANAGER_SERVICE.append(name), wmService);
         builder.addDependency(ClusteringDefaultRequirement.COMMAND_DISPATCHER_FACTORY.getServiceName(context), CommandDispatcherFactory.class, wmService.getCommandDispatcherFactoryInjector());
@@ -20,11 +20,13 @@ import org.jboss.as.controller.PathElement;
 import org.jboss.as.controller.PropertiesAttributeDefinition;
 import org.jboss.as.controller.ReadResourceNameOperationStepHandler;
 import org.jboss.as.controller.ReloadRequiredRemoveStepHandler;
+import org.jboss.as.controller.ReloadRequiredWriteAttributeHandler;
 import org.jboss.as.controller.SimpleAttributeDefinitionBuilder;
 import org.jboss.as.controller.SimpleResourceDefinition;
 import org.jboss.as.controller.capability.RuntimeCapability;
 import org.jboss.as.controller.client.helpers.MeasurementUnit;
 import org.jboss.as.controller.operations.validation.EnumValidator;
+import org.jboss.as.controller.operations.validation.LongRangeValidator;
 import org.jboss.as.controller.registry.ManagementResourceRegistration;
 import org.jboss.dmr.ModelNode;
 import org.jboss.dmr.ModelType;
@@ -61,6 +63,9 @@ public class JcaDistributedWorkManagerDefinition extends SimpleResourceDefinitio
             resourceRegistration.registerReadWriteAttribute(ad, null, JcaDistributedWorkManagerWriteHandler.INSTANCE);
         }
 
+        final AttributeDefinition gossipInterval = DWmParameters.STATISTICS_GOSSIP_INTERVAL.getAttribute();
+        resourceRegistration.registerReadWriteAttribute(gossipInterval, null, new ReloadRequiredWriteAttributeHandler(gossipInterval));
+
     }
 
     @Override
@@ -115,6 +120,13 @@ public class JcaDistributedWorkManagerDefinition extends SimpleResourceDefinitio
                 .setAllowExpression(true)
                 .setDefaultValue(new ModelNode(ELYTRON_MANAGED_SECURITY))
                 .setDeprecated(ELYTRON_BY_DEFAULT_VERSION)
+                .build()),
+        STATISTICS_GOSSIP_INTERVAL(new SimpleAttributeDefinitionBuilder(Attribute.STATISTICS_GOSSIP_INTERVAL.getLocalName(), ModelType.LONG, true)
+                .setAllowExpression(true)
+                .setMeasurementUnit(MeasurementUnit.MILLISECONDS)
+                .setValidator(new LongRangeValidator(0, true, true))
+                .setDefaultValue(ModelNode.ZERO_LONG)
+                .setRestartAllServices()
                 .build());
 
         public static AttributeDefinition[] getAttributeDefinitions() {
@@ -181,6 +193,7 @@ public class JcaDistributedWorkManagerDefinition extends SimpleResourceDefinitio
     public enum SelectorValue {
         FIRST_AVAILABLE,
         PING_TIME,
-        MAX_FREE_THREADS
+        MAX_FREE_THREADS,
+        LOAD_AWARE
     }
 }
@@ -9,6 +9,7 @@ import static org.jboss.as.connector.logging.ConnectorLogger.ROOT_LOGGER;
 import static org.jboss.as.controller.descriptions.ModelDescriptionConstants.OP_ADDR;
 
 import org.jboss.as.connector.logging.ConnectorLogger;
+import org.jboss.as.connector.services.workmanager.LoadAware;
 import org.jboss.as.connector.services.workmanager.NamedDistributedWorkManager;
 import org.jboss.as.connector.util.ConnectorServices;
 import org.jboss.as.connector.util.Injection;
@@ -83,6 +84,10 @@ public class JcaDistributedWorkManagerWriteHandler extends AbstractWriteAttribut
                     namedDistributedWorkManager.setSelector(new PingTime());
                     break;
                 }
+                case LOAD_AWARE: {
+                    namedDistributedWorkManager.setSelector(new LoadAware());
+                    break;
+                }
                 default: {
                     throw ROOT_LOGGER.unsupportedSelector(resolvedValue.asString());
                 }
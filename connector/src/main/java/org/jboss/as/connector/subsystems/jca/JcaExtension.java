@@ -63,7 +63,7 @@ public class JcaExtension implements Extension {
 
     public static final String SUBSYSTEM_NAME = "jca";
 
-    private static final ModelVersion CURRENT_MODEL_VERSION = ModelVersion.create(6, 0, 0);
+    private static final ModelVersion CURRENT_MODEL_VERSION = ModelVersion.create(7, 0, 0);
 
     private static final String RESOURCE_NAME = JcaExtension.class.getPackage().getName() + ".LocalDescriptions";
 
@@ -97,6 +97,7 @@ public class JcaExtension implements Extension {
         context.setSubsystemXmlMapping(SUBSYSTEM_NAME, Namespace.JCA_4_0.getUriString(), () -> ConnectorSubsystemParser.INSTANCE);
         context.setSubsystemXmlMapping(SUBSYSTEM_NAME, Namespace.JCA_5_0.getUriString(), () -> ConnectorSubsystemParser.INSTANCE);
         context.setSubsystemXmlMapping(SUBSYSTEM_NAME, Namespace.JCA_6_0.getUriString(), () -> ConnectorSubsystemParser.INSTANCE);
+        context.setSubsystemXmlMapping(SUBSYSTEM_NAME, Namespace.JCA_7_0.getUriString(), () -> ConnectorSubsystemParser.INSTANCE);
     }
 
     static final class ConnectorSubsystemParser implements XMLStreamConstants, XMLElementReader<List<ModelNode>>,
@@ -181,6 +182,7 @@ public class JcaExtension implements Extension {
                     ModelNode workManager = workManagers.get(name);
                     writer.writeStartElement(Element.DISTRIBUTED_WORKMANAGER.getLocalName());
                     ((SimpleAttributeDefinition) JcaDistributedWorkManagerDefinition.DWmParameters.NAME.getAttribute()).marshallAsAttribute(workManager, writer);
+                    ((SimpleAttributeDefinition) JcaDistributedWorkManagerDefinition.DWmParameters.STATISTICS_GOSSIP_INTERVAL.getAttribute()).marshallAsAttribute(workManager, writer);
 
                     JcaDistributedWorkManagerDefinition.DWmParameters.ELYTRON_ENABLED.getAttribute().marshallAsElement(workManager, writer);
 
@@ -309,6 +311,7 @@ public class JcaExtension implements Extension {
             while (reader.hasNext() && reader.nextTag() != END_ELEMENT) {
                 Namespace readerNs = Namespace.forUri(reader.getNamespaceURI());
                 switch (readerNs) {
+                    case JCA_7_0:
                     case JCA_6_0:
                     case JCA_5_0:
                     case JCA_4_0:
@@ -371,7 +374,8 @@ public class JcaExtension implements Extension {
                                 if (Namespace.forUri(reader.getNamespaceURI()).equals(Namespace.JCA_3_0) ||
                                     Namespace.forUri(reader.getNamespaceURI()).equals(Namespace.JCA_4_0) ||
                                     Namespace.forUri(reader.getNamespaceURI()).equals(Namespace.JCA_5_0) ||
-                                    Namespace.forUri(reader.getNamespaceURI()).equals(Namespace.JCA_6_0))
+                                    Namespace.forUri(reader.getNamespaceURI()).equals(Namespace.JCA_6_0) ||
+                                    Namespace.forUri(reader.getNamespaceURI()).equals(Namespace.JCA_7_0))
                                 {
                                     list.add(parseTracer(reader, address));
                                 } else {
@@ -512,7 +516,8 @@ public class JcaExtension implements Extension {
                     case ELYTRON_ENABLED: {
                         switch (readerNS) {
                             case JCA_5_0:
-                            case JCA_6_0: {
+                            case JCA_6_0:
+                            case JCA_7_0: {
                                 String value = rawElementText(reader);
                                 JcaWorkManagerDefinition.WmParameters.ELYTRON_ENABLED.getAttribute().parseAndSetParameter(value, workManagerOperation, reader);
                                 break;
@@ -563,6 +568,19 @@ public class JcaExtension implements Extension {
                         ((SimpleAttributeDefinition) attributeDefinition).parseAndSetParameter(name, distributedWorkManagerOperation, reader);
                         break;
                     }
+                    case STATISTICS_GOSSIP_INTERVAL: {
+                        switch (elementNS) {
+                            case JCA_7_0: {
+                                String value = rawAttributeText(reader, Attribute.STATISTICS_GOSSIP_INTERVAL.getLocalName());
+                                ((SimpleAttributeDefinition) JcaDistributedWorkManagerDefinition.DWmParameters.STATISTICS_GOSSIP_INTERVAL.getAttribute()).parseAndSetParameter(value, distributedWorkManagerOperation, reader);
+                                break;
+                            }
+                            default: {
+                                throw unexpectedAttribute(reader, i);
+                            }
+                        }
+                        break;
+                    }
                     default: {
                         throw unexpectedAttribute(reader, i);
                     }
@@ -605,7 +623,8 @@ public class JcaExtension implements Extension {
                             case JCA_3_0:
                             case JCA_4_0:
                             case JCA_5_0:
-                            case JCA_6_0:{
+                            case JCA_6_0:
+                            case JCA_7_0: {
                                 parsePolicy(reader, distributedWorkManagerOperation);
                                 break;
                             }
@@ -621,7 +640,8 @@ public class JcaExtension implements Extension {
                             case JCA_3_0:
                             case JCA_4_0:
                             case JCA_5_0:
-                            case JCA_6_0:{
+                            case JCA_6_0:
+                            case JCA_7_0: {
                                 parseSelector(reader, distributedWorkManagerOperation);
                                 break;
                             }
@@ -635,6 +655,7 @@ public class JcaExtension implements Extension {
                         switch (readerNS) {
                             case JCA_5_0:
                             case JCA_6_0:
+                            case JCA_7_0:
                             {
                                 String value = rawElementText(reader);
                                 ((SimpleAttributeDefinition) JcaDistributedWorkManagerDefinition.DWmParameters.ELYTRON_ENABLED.getAttribute()).parseAndSetParameter(value, distributedWorkManagerOperation, reader);
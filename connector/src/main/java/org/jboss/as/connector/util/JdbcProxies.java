@@ -0,0 +1,78 @@
+/*
+ * Copyright The WildFly Authors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.jboss.as.connector.util;
+
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.sql.SQLException;
+
+/**
+ * Helpers for the dynamic proxies wrapping JDBC objects, shared by the datasources of both the datasources and the Agroal
+ * subsystems.
+ */
+public final class JdbcProxies {
+
+    private JdbcProxies() {
+    }
+
+    /**
+     * Invokes a method on the wrapped JDBC object, rethrowing the exception thrown by the method itself.
+     *
+     * @param target the wrapped JDBC object
+     * @param method the invoked method
+     * @param args the arguments of the method
+     * @return the result of the method
+     * @throws SQLException if the method threw it, or wrapping a checked exception that it is not declared to throw
+     */
+    public static Object invoke(Object target, Method method, Object[] args) throws SQLException {
+        try {
+            return method.invoke(target, args);
+        } catch (InvocationTargetException e) {
+            Throwable cause = e.getCause();
+            if (cause instanceof SQLException) {
+                throw (SQLException) cause;
+            }
+            if (cause instanceof RuntimeException) {
+                throw (RuntimeException) cause;
+            }
+            if (cause instanceof Error) {
+                throw (Error) cause;
+            }
+            throw new SQLException(cause);
+        } catch (IllegalAccessException e) {
+            throw new SQLException(e);
+        }
+    }
+
+    /**
+     * Invokes a method of a proxy on the wrapped JDBC object, except {@link Object#equals(Object)} and {@link Object#hashCode()},
+     * which are based on the identity of the proxy.
+     *
+     * @param proxy the proxy
+     * @param method the invoked method
+     * @param args the arguments of the method
+     * @param target the wrapped JDBC object
+     * @return the result of the method
+     * @throws SQLException if the method threw it
+     */
+    public static Object invokeObjectMethod(Object proxy, Method method, Object[] args, Object target) throws SQLException {
+        switch (method.getName()) {
+            case "equals":
+                if (method.getParameterCount() == 1) {
+                    return proxy == args[0];
+                }
+                break;
+            case "hashCode":
+                if (method.getParameterCount() == 0) {
+                    return System.identityHashCode(proxy);
+                }
+                break;
+            default:
+                break;
+        }
+        return invoke(target, method, args);
+    }
+}
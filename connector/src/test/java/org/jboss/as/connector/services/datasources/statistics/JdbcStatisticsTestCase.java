@@ -0,0 +1,128 @@
+/*
+ * Copyright The WildFly Authors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.jboss.as.connector.services.datasources.statistics;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotSame;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+
+import java.lang.reflect.Proxy;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.List;
+
+import javax.sql.DataSource;
+
+import org.jboss.as.connector.subsystems.datasources.WildFlyDataSource;
+import org.junit.Test;
+
+/**
+ * Unit test for {@link JdbcStatistics}.
+ */
+public class JdbcStatisticsTestCase {
+
+    @Test
+    public void normalize() {
+        assertEquals("SELECT * FROM person WHERE name = ? AND age > ?", JdbcStatistics.normalize("SELECT *  FROM person\n WHERE name = 'O''Brien' AND age > 42"));
+        assertEquals("SELECT * FROM t1 WHERE id IN (?)", JdbcStatistics.normalize("SELECT * FROM t1 WHERE id IN (1, 2, 3)"));
+        assertEquals("UPDATE t SET x = ? WHERE y = ?", JdbcStatistics.normalize("UPDATE t SET x = ? WHERE y = -1.5e3"));
+    }
+
+    @Test
+    public void disabled() throws SQLException {
+        JdbcStatistics statistics = new JdbcStatistics(false);
+        Connection connection = connection();
+        assertSame(connection, statistics.getConnection(() -> connection));
+        assertEquals(0, statistics.getAcquireTimes().getCount());
+    }
+
+    @Test
+    public void statements() throws SQLException {
+        JdbcStatistics statistics = new JdbcStatistics(true);
+        Connection connection = statistics.getConnection(JdbcStatisticsTestCase::connection);
+        assertEquals(1, statistics.getAcquireTimes().getCount());
+
+        try (PreparedStatement statement = connection.prepareStatement("SELECT * FROM person WHERE id = ?")) {
+            statement.executeQuery();
+            statement.executeQuery();
+            assertSame(connection, statement.getConnection());
+        }
+        try (Statement statement = connection.createStatement()) {
+            statement.executeUpdate("DELETE FROM person WHERE id = 1");
+            statement.executeUpdate("DELETE FROM person WHERE id = 2");
+            statement.executeBatch();
+        }
+        assertEquals(5, statistics.getStatementTimes().getCount());
+
+        List<JdbcStatistics.StatementShapeStatistics> slowest = statistics.getSlowestStatements(10);
+        assertEquals(3, slowest.size());
+        for (JdbcStatistics.StatementShapeStatistics shape : slowest) {
+            assertTrue(shape.getShape(), shape.getCount() == 2 || shape.getShape().equals("<batch>"));
+        }
+
+        statistics.reset();
+        assertEquals(0, statistics.getStatementTimes().getCount());
+        assertTrue(statistics.getSlowestStatements(10).isEmpty());
+    }
+
+    @Test
+    public void wrapConnectionOnlyWhileEnabled() throws SQLException {
+        JdbcStatistics statistics = new JdbcStatistics(true);
+        Connection connection = connection();
+        assertNotSame(connection, statistics.getConnection(() -> connection));
+        statistics.setEnabled(false);
+        assertSame(connection, statistics.getConnection(() -> connection));
+    }
+
+    @Test
+    public void dataSourceWrapsConnectionOnlyWhileEnabled() throws SQLException {
+        Connection connection = connection();
+        DataSource delegate = (DataSource) Proxy.newProxyInstance(JdbcStatisticsTestCase.class.getClassLoader(), new Class<?>[] { DataSource.class },
+                (proxy, method, args) -> method.getName().equals("getConnection") ? connection : null);
+        WildFlyDataSource dataSource = new WildFlyDataSource(delegate, "java:jboss/datasources/test");
+        assertSame(connection, dataSource.getConnection());
+        assertEquals(0, dataSource.getStatistics().getAcquireTimes().getCount());
+
+        dataSource.getStatistics().setEnabled(true);
+        assertNotSame(connection, dataSource.getConnection());
+        assertEquals(1, dataSource.getStatistics().getAcquireTimes().getCount());
+
+        dataSource.getStatistics().setEnabled(false);
+        assertSame(connection, dataSource.getConnection("user", "password"));
+    }
+
+    private static Connection connection() {
+        return (Connection) Proxy.newProxyInstance(JdbcStatisticsTestCase.class.getClassLoader(), new Class<?>[] { Connection.class }, (proxy, method, args) -> {
+            switch (method.getName()) {
+                case "prepareStatement":
+                    return statement(PreparedStatement.class);
+                case "createStatement":
+                    return statement(Statement.class);
+                default:
+                    return null;
+            }
+        });
+    }
+
+    private static Statement statement(Class<? extends Statement> type) {
+        return (Statement) Proxy.newProxyInstance(JdbcStatisticsTestCase.class.getClassLoader(), new Class<?>[] { type }, (proxy, method, args) -> {
+            Class<?> returnType = method.getReturnType();
+            if (returnType == int.class) {
+                return 0;
+            }
+            if (returnType == int[].class) {
+                return new int[0];
+            }
+            if (returnType == boolean.class) {
+                return false;
+            }
+            return null;
+        });
+    }
+}
@@ -0,0 +1,82 @@
+/*
+ * Copyright The WildFly Authors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.jboss.as.connector.services.workmanager;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+import org.jboss.as.connector.services.workmanager.transport.WorkManagerLoad;
+import org.jboss.jca.core.spi.workmanager.Address;
+import org.junit.Test;
+
+/**
+ * Unit test for {@link LoadAware}.
+ */
+public class LoadAwareTestCase {
+
+    private final Address first = new Address("wm1", "first", "transport");
+    private final Address second = new Address("wm2", "second", "transport");
+    private final Address third = new Address("wm3", "third", "transport");
+
+    @Test
+    public void score() {
+        WorkManagerLoad idle = new WorkManagerLoad(0, 0, 0, 0, 0);
+        // more free threads lower the score
+        assertTrue(LoadAware.score(10, idle, false) < LoadAware.score(1, idle, false));
+        // queued work, latency and cpu load raise it
+        assertTrue(LoadAware.score(10, new WorkManagerLoad(5, 0, 0, 0, 0), false) > LoadAware.score(10, idle, false));
+        assertTrue(LoadAware.score(10, new WorkManagerLoad(0, TimeUnit.MILLISECONDS.toNanos(50), 0, 0, 0), false) > LoadAware.score(10, idle, false));
+        assertTrue(LoadAware.score(10, new WorkManagerLoad(0, 0, 0, 0, 2), false) > LoadAware.score(10, idle, false));
+        // the load of the other type of work is ignored
+        assertEquals(LoadAware.score(10, idle, true), LoadAware.score(10, new WorkManagerLoad(5, TimeUnit.MILLISECONDS.toNanos(50), 0, 0, 0), true), 0);
+        // an unknown or unavailable load is neutral
+        assertEquals(LoadAware.score(10, idle, false), LoadAware.score(10, null, false), 0);
+        assertEquals(LoadAware.score(10, idle, false), LoadAware.score(10, new WorkManagerLoad(0, 0, 0, 0, -1), false), 0);
+    }
+
+    @Test
+    public void selectsOnlyWorkManagersWithFreeThreads() {
+        Map<Address, Long> free = new HashMap<>();
+        assertNull(LoadAware.select(free, address -> null, false, new Random()));
+        free.put(this.first, 0L);
+        assertNull(LoadAware.select(free, address -> null, false, new Random()));
+        free.put(this.second, 4L);
+        assertEquals(this.second, LoadAware.select(free, address -> null, false, new Random()));
+    }
+
+    @Test
+    public void selectsLessLoadedOfTwoSamples() {
+        Map<Address, Long> free = new LinkedHashMap<>();
+        free.put(this.first, 4L);
+        free.put(this.second, 4L);
+        Map<Address, WorkManagerLoad> loads = new HashMap<>();
+        loads.put(this.first, new WorkManagerLoad(20, TimeUnit.MILLISECONDS.toNanos(10), 0, 0, 0));
+        loads.put(this.second, new WorkManagerLoad(0, TimeUnit.MILLISECONDS.toNanos(1), 0, 0, 0));
+        Random random = new Random(0);
+        // with two candidates both are sampled, so the less loaded one is always selected
+        for (int i = 0; i < 100; ++i) {
+            assertEquals(this.second, LoadAware.select(free, loads::get, false, random));
+        }
+
+        // with more candidates the most loaded one is never selected, but the others all are
+        free.put(this.third, 4L);
+        loads.put(this.third, new WorkManagerLoad(1, TimeUnit.MILLISECONDS.toNanos(1), 0, 0, 0));
+        Map<Address, Integer> selected = new HashMap<>();
+        for (int i = 0; i < 1000; ++i) {
+            selected.merge(LoadAware.select(free, loads::get, false, random), 1, Integer::sum);
+        }
+        assertNull(selected.get(this.first));
+        assertTrue(selected.get(this.second) > 0);
+        assertTrue(selected.get(this.third) > 0);
+    }
+}
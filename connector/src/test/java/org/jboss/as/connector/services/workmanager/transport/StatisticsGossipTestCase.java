@@ -0,0 +1,90 @@
+/*
+ * Copyright The WildFly Authors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.jboss.as.connector.services.workmanager.transport;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+
+import java.util.HashMap;
+import java.util.Map;
+
+import org.jboss.jca.core.spi.workmanager.Address;
+import org.junit.Test;
+
+/**
+ * Unit test for {@link StatisticsGossip}.
+ */
+public class StatisticsGossipTestCase {
+
+    private final Address first = new Address("wm1", "first", "transport");
+    private final Address second = new Address("wm2", "second", "transport");
+
+    @Test
+    public void sumsDeltasPerWorkManager() {
+        StatisticsGossip gossip = new StatisticsGossip();
+        gossip.delta(this.first, StatisticsGossip.Delta.DO_WORK_ACCEPTED);
+        gossip.delta(this.first, StatisticsGossip.Delta.DO_WORK_ACCEPTED);
+        gossip.delta(this.first, StatisticsGossip.Delta.WORK_FAILED);
+        gossip.delta(this.second, StatisticsGossip.Delta.START_WORK_REJECTED);
+
+        Map<String, StatisticsGossipCommand> commands = gossip.drain(nodes());
+        assertEquals(2, commands.size());
+
+        int[] expected = new int[StatisticsGossip.Delta.values().length];
+        expected[StatisticsGossip.Delta.DO_WORK_ACCEPTED.ordinal()] = 2;
+        expected[StatisticsGossip.Delta.WORK_FAILED.ordinal()] = 1;
+        // the counters are sent to the member of the target work manager only
+        assertEquals(1, commands.get("node1").getDeltas().size());
+        assertArrayEquals(expected, commands.get("node1").getDeltas().get(this.first));
+
+        expected = new int[StatisticsGossip.Delta.values().length];
+        expected[StatisticsGossip.Delta.START_WORK_REJECTED.ordinal()] = 1;
+        assertArrayEquals(expected, commands.get("node2").getDeltas().get(this.second));
+
+        // a round only sends the updates since the previous round
+        assertTrue(gossip.drain(nodes()).isEmpty());
+    }
+
+    @Test
+    public void coalescesFreeCounts() {
+        StatisticsGossip gossip = new StatisticsGossip();
+        gossip.shortRunningFree(this.first, 5);
+        gossip.shortRunningFree(this.first, 3);
+        gossip.longRunningFree(this.second, 7);
+
+        Map<String, StatisticsGossipCommand> commands = gossip.drain(nodes());
+        // the latest free counts are sent to all members
+        assertEquals(2, commands.size());
+        for (StatisticsGossipCommand command : commands.values()) {
+            assertEquals(Long.valueOf(3), command.getShortRunningFree().get(this.first));
+            assertEquals(Long.valueOf(7), command.getLongRunningFree().get(this.second));
+            assertNull(command.getShortRunningFree().get(this.second));
+            assertTrue(command.getDeltas().isEmpty());
+        }
+        assertTrue(gossip.drain(nodes()).isEmpty());
+    }
+
+    @Test
+    public void dropsDepartedWorkManagers() {
+        StatisticsGossip gossip = new StatisticsGossip();
+        gossip.delta(this.second, StatisticsGossip.Delta.WORK_SUCCESSFUL);
+
+        Map<Address, String> nodes = new HashMap<>();
+        nodes.put(this.first, "node1");
+        assertTrue(gossip.drain(nodes).isEmpty());
+        // the counters of a departed work manager are not sent once it rejoins
+        assertTrue(gossip.drain(nodes()).isEmpty());
+    }
+
+    private Map<Address, String> nodes() {
+        Map<Address, String> nodes = new HashMap<>();
+        nodes.put(this.first, "node1");
+        nodes.put(this.second, "node2");
+        return nodes;
+    }
+}
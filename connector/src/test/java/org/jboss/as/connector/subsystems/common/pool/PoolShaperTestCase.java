@@ -0,0 +1,162 @@
+/*
+ * Copyright The WildFly Authors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.jboss.as.connector.subsystems.common.pool;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+import java.lang.reflect.Proxy;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import javax.sql.DataSource;
+
+import org.junit.Test;
+
+/**
+ * Unit test for {@link PoolShaper}.
+ */
+public class PoolShaperTestCase {
+
+    @Test
+    public void pacesCreation() throws Exception {
+        PoolShaper shaper = new PoolShaper(20, 0, 0, 0, 1, false);
+        long start = System.nanoTime();
+        for (int i = 0; i < 5; ++i) {
+            shaper.awaitCreation();
+        }
+        // the first creation is immediate, the following ones are 50 ms apart
+        assertTrue(TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start) >= 200);
+    }
+
+    @Test
+    public void unlimitedCreation() throws Exception {
+        PoolShaper shaper = new PoolShaper(0, 0, 0, 0, 1, false);
+        long start = System.nanoTime();
+        for (int i = 0; i < 1000; ++i) {
+            shaper.awaitCreation();
+        }
+        assertTrue(TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start) < 1000);
+    }
+
+    @Test
+    public void jittersLifetime() throws Exception {
+        PoolShaper shaper = new PoolShaper(0, 400, 50, 0, 1, false);
+        Object[] connections = new Object[50];
+        for (int i = 0; i < connections.length; ++i) {
+            connections[i] = new Object();
+            shaper.created(connections[i]);
+        }
+        for (Object connection : connections) {
+            assertFalse(shaper.isExpired(connection));
+        }
+        // the lifetime of every connection is shortened by at most 50%
+        Thread.sleep(150);
+        for (Object connection : connections) {
+            assertFalse(shaper.isExpired(connection));
+        }
+        Thread.sleep(300);
+        for (Object connection : connections) {
+            assertTrue(shaper.isExpired(connection));
+            // an expired connection is reported until the pool destroys it
+            assertTrue(shaper.isExpired(connection));
+        }
+        // connections not created through the shaper never expire
+        assertFalse(shaper.isExpired(new Object()));
+    }
+
+    @Test
+    public void retirementInterval() {
+        assertEquals(180000L, PoolShaper.getRetirementInterval(1800000L));
+        assertEquals(1000L, PoolShaper.getRetirementInterval(400L));
+    }
+
+    @Test
+    public void unlimitedLifetime() {
+        PoolShaper shaper = new PoolShaper(0, 0, 50, 0, 1, false);
+        Object connection = new Object();
+        shaper.created(connection);
+        assertFalse(shaper.isExpired(connection));
+    }
+
+    @Test
+    public void warmsUp() {
+        PoolShaper shaper = new PoolShaper(0, 0, 0, 10, 3, false);
+        assertTrue(shaper.isWarmUpEnabled());
+        FakeDataSource dataSource = new FakeDataSource(-1);
+        shaper.warmUp(dataSource.proxy());
+        assertEquals(10, dataSource.acquired.get());
+        assertEquals(10, dataSource.closed.get());
+        assertTrue(dataSource.maxConcurrent.get() > 1);
+        assertTrue(dataSource.maxConcurrent.get() <= 3);
+    }
+
+    @Test
+    public void warmUpStopsOnFailure() {
+        PoolShaper shaper = new PoolShaper(0, 0, 0, 10, 2, false);
+        FakeDataSource dataSource = new FakeDataSource(4);
+        shaper.warmUp(dataSource.proxy());
+        assertTrue(dataSource.acquired.get() <= 4);
+        // the connections acquired before the failure are all released
+        assertEquals(dataSource.acquired.get(), dataSource.closed.get());
+    }
+
+    @Test
+    public void warmUpDisabled() {
+        assertFalse(new PoolShaper(10, 1000, 10, 0, 4, false).isWarmUpEnabled());
+    }
+
+    private static class FakeDataSource {
+        final int failAt;
+        final AtomicInteger calls = new AtomicInteger();
+        final AtomicInteger acquired = new AtomicInteger();
+        final AtomicInteger closed = new AtomicInteger();
+        final AtomicInteger concurrent = new AtomicInteger();
+        final AtomicInteger maxConcurrent = new AtomicInteger();
+
+        FakeDataSource(int failAt) {
+            this.failAt = failAt;
+        }
+
+        DataSource proxy() {
+            return (DataSource) Proxy.newProxyInstance(DataSource.class.getClassLoader(), new Class<?>[] { DataSource.class }, (proxy, method, args) -> {
+                if (!method.getName().equals("getConnection")) {
+                    throw new UnsupportedOperationException(method.getName());
+                }
+                int current = this.concurrent.incrementAndGet();
+                this.maxConcurrent.accumulateAndGet(current, Math::max);
+                try {
+                    // gives the other warm-up threads the time to acquire concurrently
+                    Thread.sleep(50);
+                    if (this.calls.incrementAndGet() > this.failAt && this.failAt >= 0) {
+                        throw new SQLException("failed");
+                    }
+                    this.acquired.incrementAndGet();
+                    return connection();
+                } finally {
+                    this.concurrent.decrementAndGet();
+                }
+            });
+        }
+
+        private Connection connection() {
+            return (Connection) Proxy.newProxyInstance(Connection.class.getClassLoader(), new Class<?>[] { Connection.class }, (proxy, method, args) -> {
+                switch (method.getName()) {
+                    case "isValid":
+                        return true;
+                    case "close":
+                        this.closed.incrementAndGet();
+                        return null;
+                    default:
+                        throw new UnsupportedOperationException(method.getName());
+                }
+            });
+        }
+    }
+}
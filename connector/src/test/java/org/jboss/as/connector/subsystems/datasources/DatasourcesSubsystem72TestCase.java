@@ -0,0 +1,85 @@
+/*
+ * Copyright The WildFly Authors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+package org.jboss.as.connector.subsystems.datasources;
+
+import static org.jboss.as.connector.subsystems.common.pool.Constants.POOL_CREATION_RATE;
+import static org.jboss.as.connector.subsystems.common.pool.Constants.POOL_LIFETIME_JITTER;
+import static org.jboss.as.connector.subsystems.common.pool.Constants.POOL_MAX_LIFETIME_MILLIS;
+import static org.jboss.as.connector.subsystems.common.pool.Constants.POOL_WARM_UP;
+import static org.jboss.as.connector.subsystems.common.pool.Constants.POOL_WARM_UP_CONCURRENCY;
+
+import java.io.IOException;
+
+import org.jboss.as.connector._private.Capabilities;
+import org.jboss.as.connector.util.ConnectorServices;
+import org.jboss.as.controller.descriptions.ModelDescriptionConstants;
+import org.jboss.as.controller.security.CredentialReference;
+import org.jboss.as.naming.service.NamingService;
+import org.jboss.as.subsystem.test.AbstractSubsystemBaseTest;
+import org.jboss.as.subsystem.test.AdditionalInitialization;
+import org.jboss.as.subsystem.test.KernelServices;
+import org.jboss.dmr.ModelNode;
+import org.junit.Assert;
+import org.junit.Test;
+
+/**
+ * Tests the 7.2 version of the datasources subsystem schema, which adds the shaping of the connection pools.
+ */
+public class DatasourcesSubsystem72TestCase extends AbstractSubsystemBaseTest {
+
+    public DatasourcesSubsystem72TestCase() {
+        super(DataSourcesExtension.SUBSYSTEM_NAME, new DataSourcesExtension());
+    }
+
+    @Override
+    protected String getSubsystemXml() throws IOException {
+        return readResource("datasources-full-7.2.xml");
+    }
+
+    @Override
+    protected String getSubsystemXsdPath() throws Exception {
+        return "schema/wildfly-datasources_7_2.xsd";
+    }
+
+    @Test
+    public void testFullConfig() throws Exception {
+        standardSubsystemTest("datasources-full-7.2.xml");
+    }
+
+    @Test
+    public void testExpressionConfig() throws Exception {
+        standardSubsystemTest("datasources-full-expression-7.2.xml", "datasources-full-7.2.xml");
+    }
+
+    @Test
+    public void testPoolShaping() throws Exception {
+        KernelServices kernelServices = createKernelServicesBuilder(createAdditionalInitialization()).setSubsystemXml(getSubsystemXml()).build();
+        Assert.assertTrue("Subsystem boot failed!", kernelServices.isSuccessfulBoot());
+
+        ModelNode model = kernelServices.readWholeModel().get(ModelDescriptionConstants.SUBSYSTEM, getMainSubsystemName());
+        ModelNode dataSource = model.get(DataSourceDefinition.PATH_DATASOURCE.getKey(), "complexDs_Pool");
+        Assert.assertEquals(10, dataSource.get(POOL_CREATION_RATE.getName()).asInt());
+        Assert.assertEquals(1800000L, dataSource.get(POOL_MAX_LIFETIME_MILLIS.getName()).asLong());
+        Assert.assertEquals(20, dataSource.get(POOL_LIFETIME_JITTER.getName()).asInt());
+        Assert.assertTrue(dataSource.get(POOL_WARM_UP.getName()).asBoolean());
+        Assert.assertEquals(2, dataSource.get(POOL_WARM_UP_CONCURRENCY.getName()).asInt());
+
+        ModelNode xaDataSource = model.get(XaDataSourceDefinition.PATH_XA_DATASOURCE.getKey(), "complexXaDs_Pool");
+        Assert.assertEquals(5, xaDataSource.get(POOL_CREATION_RATE.getName()).asInt());
+        Assert.assertEquals(600000L, xaDataSource.get(POOL_MAX_LIFETIME_MILLIS.getName()).asLong());
+        Assert.assertFalse(xaDataSource.get(POOL_WARM_UP.getName()).asBoolean(false));
+    }
+
+    @Override
+    protected AdditionalInitialization createAdditionalInitialization() {
+        return AdditionalInitialization.MANAGEMENT.withCapabilities(
+                Capabilities.AUTHENTICATION_CONTEXT_CAPABILITY + ".DsAuthCtxt",
+                Capabilities.AUTHENTICATION_CONTEXT_CAPABILITY + ".CredentialAuthCtxt",
+                CredentialReference.CREDENTIAL_STORE_CAPABILITY + ".test-store",
+                NamingService.CAPABILITY_NAME,
+                ConnectorServices.TRANSACTION_INTEGRATION_CAPABILITY_NAME
+        );
+    }
+}
@@ -53,6 +53,12 @@ public class DatasourcesSubsystemTestCase extends AbstractSubsystemBaseTest {
         return "schema/wildfly-datasources_7_1.xsd";
     }
 
+    @Override
+    protected void compareXml(String configId, String original, String marshalled) throws Exception {
+        // the subsystem is marshalled in its current namespace
+        super.compareXml(configId, original, marshalled, true);
+    }
+
     @Test
     public void testFullConfig() throws Exception {
         standardSubsystemTest("datasources-full.xml");
@@ -0,0 +1,73 @@
+/*
+ * Copyright The WildFly Authors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+package org.jboss.as.connector.subsystems.jca;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+import java.io.IOException;
+
+import org.jboss.as.connector.util.ConnectorServices;
+import org.jboss.as.naming.service.NamingService;
+import org.jboss.as.subsystem.test.AbstractSubsystemBaseTest;
+import org.jboss.as.subsystem.test.AdditionalInitialization;
+import org.jboss.as.subsystem.test.KernelServices;
+import org.jboss.dmr.ModelNode;
+import org.junit.Test;
+import org.wildfly.clustering.server.service.ClusteringDefaultRequirement;
+
+/**
+ * Test of the jca subsystem 7.0 schema.
+ */
+public class JcaSubsystem70TestCase extends AbstractSubsystemBaseTest {
+
+    public JcaSubsystem70TestCase() {
+        super(JcaExtension.SUBSYSTEM_NAME, new JcaExtension());
+    }
+
+    @Override
+    protected String getSubsystemXml() throws IOException {
+        return readResource("jca_7_0.xml");
+    }
+
+    @Override
+    protected String getSubsystemXsdPath() throws Exception {
+        return "schema/wildfly-jca_7_0.xsd";
+    }
+
+    @Override
+    protected AdditionalInitialization createAdditionalInitialization() {
+        return AdditionalInitialization.withCapabilities(
+                ClusteringDefaultRequirement.COMMAND_DISPATCHER_FACTORY.getName(),
+                ConnectorServices.LOCAL_TRANSACTION_PROVIDER_CAPABILITY,
+                ConnectorServices.TRANSACTION_XA_RESOURCE_RECOVERY_REGISTRY_CAPABILITY,
+                ConnectorServices.TRANSACTION_SYNCHRONIZATION_REGISTRY_CAPABILITY,
+                NamingService.CAPABILITY_NAME,
+                "org.wildfly.threads.thread-factory.string");
+    }
+
+    @Test
+    public void testFullConfig() throws Exception {
+        standardSubsystemTest("jca-full_7_0.xml");
+    }
+
+    @Test
+    public void testExpressionConfig() throws Exception {
+        standardSubsystemTest("jca-full-expression_7_0.xml", "jca-full_7_0.xml");
+    }
+
+    @Test
+    public void testStatisticsGossipInterval() throws Exception {
+        KernelServices services = createKernelServicesBuilder(createAdditionalInitialization()).setSubsystemXml(readResource("jca-full_7_0.xml")).build();
+        assertTrue("Subsystem boot failed!", services.isSuccessfulBoot());
+        ModelNode model = services.readWholeModel();
+        assertEquals(1000L, model.get("subsystem", "jca", "distributed-workmanager", "MyDWM", "statistics-gossip-interval").asLong());
+    }
+
+    @Override
+    protected void compareXml(String configId, String original, String marshalled) throws Exception {
+        super.compareXml(configId, original, marshalled, true);
+    }
+}
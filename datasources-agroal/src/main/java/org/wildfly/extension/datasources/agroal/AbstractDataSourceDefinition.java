@@ -28,6 +28,7 @@ import org.jboss.as.controller.SimpleAttributeDefinition;
 import org.jboss.as.controller.SimpleAttributeDefinitionBuilder;
 import org.jboss.as.controller.SimpleOperationDefinitionBuilder;
 import org.jboss.as.controller.SimpleResourceDefinition;
+import org.jboss.as.controller.StringListAttributeDefinition;
 import org.jboss.as.controller.access.management.SensitiveTargetAccessConstraintDefinition;
 import org.jboss.as.controller.capability.RuntimeCapability;
 import org.jboss.as.controller.client.helpers.MeasurementUnit;
@@ -146,7 +147,15 @@ abstract class AbstractDataSourceDefinition extends PersistentResourceDefinition
             .setRestartAllServices()
             .build();
 
-    static final ObjectTypeAttributeDefinition CONNECTION_FACTORY_ATTRIBUTE = ObjectTypeAttributeDefinition.create("connection-factory", DRIVER_ATTRIBUTE, URL_ATTRIBUTE, TRANSACTION_ISOLATION_ATTRIBUTE, NEW_CONNECTION_SQL_ATTRIBUTE, USERNAME_ATTRIBUTE, PASSWORD_ATTRIBUTE, AUTHENTICATION_CONTEXT, CREDENTIAL_REFERENCE, CONNECTION_PROPERTIES_ATTRIBUTE)
+    static final SimpleAttributeDefinition PREPARED_STATEMENT_CACHE_SIZE_ATTRIBUTE = create("prepared-statement-cache-size", ModelType.INT)
+            .setAllowExpression(true)
+            .setDefaultValue(ModelNode.ZERO)
+            .setRequired(false)
+            .setRestartAllServices()
+            .setValidator(new IntRangeValidator(0))
+            .build();
+
+    static final ObjectTypeAttributeDefinition CONNECTION_FACTORY_ATTRIBUTE = ObjectTypeAttributeDefinition.create("connection-factory", DRIVER_ATTRIBUTE, URL_ATTRIBUTE, TRANSACTION_ISOLATION_ATTRIBUTE, NEW_CONNECTION_SQL_ATTRIBUTE, USERNAME_ATTRIBUTE, PASSWORD_ATTRIBUTE, AUTHENTICATION_CONTEXT, CREDENTIAL_REFERENCE, CONNECTION_PROPERTIES_ATTRIBUTE, PREPARED_STATEMENT_CACHE_SIZE_ATTRIBUTE)
             .setRestartAllServices()
             .build();
 
@@ -303,6 +312,58 @@ abstract class AbstractDataSourceDefinition extends PersistentResourceDefinition
             .setStorageRuntime()
             .build();
 
+    // --- Latency metrics, exported by the metrics subsystem //
+
+    static final SimpleAttributeDefinition ACQUIRE_TIME_P50_ATTRIBUTE = latencyMetric("acquire-time-p50-us");
+
+    static final SimpleAttributeDefinition ACQUIRE_TIME_P99_ATTRIBUTE = latencyMetric("acquire-time-p99-us");
+
+    static final SimpleAttributeDefinition ACQUIRE_TIME_P999_ATTRIBUTE = latencyMetric("acquire-time-p999-us");
+
+    static final SimpleAttributeDefinition ACQUIRE_TIME_MAX_ATTRIBUTE = latencyMetric("acquire-time-max-us");
+
+    static final SimpleAttributeDefinition STATEMENT_COUNT_ATTRIBUTE = create("statement-count", ModelType.LONG)
+            .setStorageRuntime()
+            .build();
+
+    static final SimpleAttributeDefinition STATEMENT_TIME_P50_ATTRIBUTE = latencyMetric("statement-time-p50-us");
+
+    static final SimpleAttributeDefinition STATEMENT_TIME_P99_ATTRIBUTE = latencyMetric("statement-time-p99-us");
+
+    static final SimpleAttributeDefinition STATEMENT_TIME_P999_ATTRIBUTE = latencyMetric("statement-time-p999-us");
+
+    static final SimpleAttributeDefinition STATEMENT_TIME_MAX_ATTRIBUTE = latencyMetric("statement-time-max-us");
+
+    static final AttributeDefinition SLOWEST_STATEMENTS_ATTRIBUTE = new StringListAttributeDefinition.Builder("slowest-statements")
+            .setRequired(false)
+            .setStorageRuntime()
+            .build();
+
+    static final AttributeDefinition[] LATENCY_METRICS = { ACQUIRE_TIME_P50_ATTRIBUTE, ACQUIRE_TIME_P99_ATTRIBUTE, ACQUIRE_TIME_P999_ATTRIBUTE, ACQUIRE_TIME_MAX_ATTRIBUTE, STATEMENT_COUNT_ATTRIBUTE, STATEMENT_TIME_P50_ATTRIBUTE, STATEMENT_TIME_P99_ATTRIBUTE, STATEMENT_TIME_P999_ATTRIBUTE, STATEMENT_TIME_MAX_ATTRIBUTE };
+
+    // --- Prepared statement cache metrics //
+
+    static final SimpleAttributeDefinition PREPARED_STATEMENT_CACHE_HIT_COUNT_ATTRIBUTE = create("prepared-statement-cache-hit-count", ModelType.LONG)
+            .setStorageRuntime()
+            .build();
+
+    static final SimpleAttributeDefinition PREPARED_STATEMENT_CACHE_MISS_COUNT_ATTRIBUTE = create("prepared-statement-cache-miss-count", ModelType.LONG)
+            .setStorageRuntime()
+            .build();
+
+    static final SimpleAttributeDefinition PREPARED_STATEMENT_CACHE_EVICTION_COUNT_ATTRIBUTE = create("prepared-statement-cache-eviction-count", ModelType.LONG)
+            .setStorageRuntime()
+            .build();
+
+    static final AttributeDefinition[] PREPARED_STATEMENT_CACHE_METRICS = { PREPARED_STATEMENT_CACHE_HIT_COUNT_ATTRIBUTE, PREPARED_STATEMENT_CACHE_MISS_COUNT_ATTRIBUTE, PREPARED_STATEMENT_CACHE_EVICTION_COUNT_ATTRIBUTE };
+
+    private static SimpleAttributeDefinition latencyMetric(String name) {
+        return create(name, ModelType.LONG)
+                .setMeasurementUnit(MeasurementUnit.MICROSECONDS)
+                .setStorageRuntime()
+                .build();
+    }
+
     // --- //
 
     AbstractDataSourceDefinition(SimpleResourceDefinition.Parameters parameters) {
@@ -337,6 +398,13 @@ abstract class AbstractDataSourceDefinition extends PersistentResourceDefinition
         // Runtime attributes
         if (resourceRegistration.getProcessType().isServer()) {
             resourceRegistration.registerReadOnlyAttribute(STATISTICS, AbstractDataSourceOperations.STATISTICS_GET_OPERATION);
+            for (AttributeDefinition metric : LATENCY_METRICS) {
+                resourceRegistration.registerMetric(metric, AbstractDataSourceOperations.LATENCY_METRIC_GET_OPERATION);
+            }
+            resourceRegistration.registerReadOnlyAttribute(SLOWEST_STATEMENTS_ATTRIBUTE, AbstractDataSourceOperations.LATENCY_METRIC_GET_OPERATION);
+            for (AttributeDefinition metric : PREPARED_STATEMENT_CACHE_METRICS) {
+                resourceRegistration.registerMetric(metric, AbstractDataSourceOperations.PREPARED_STATEMENT_CACHE_METRIC_GET_OPERATION);
+            }
         }
     }
 
@@ -13,11 +13,13 @@ import io.agroal.api.configuration.supplier.AgroalConnectionFactoryConfiguration
 import io.agroal.api.configuration.supplier.AgroalConnectionPoolConfigurationSupplier;
 import io.agroal.api.security.NamePrincipal;
 import io.agroal.api.security.SimplePassword;
+import org.jboss.as.connector.services.datasources.statistics.JdbcStatistics;
 import org.jboss.as.controller.AbstractWriteAttributeHandler;
 import org.jboss.as.controller.AttributeDefinition;
 import org.jboss.as.controller.OperationContext;
 import org.jboss.as.controller.OperationFailedException;
 import org.jboss.as.controller.OperationStepHandler;
+import org.jboss.as.controller.descriptions.ModelDescriptionConstants;
 import org.jboss.as.controller.security.CredentialReference;
 import org.jboss.as.controller.security.CredentialReferenceWriteAttributeHandler;
 import org.jboss.dmr.ModelNode;
@@ -34,6 +36,7 @@ import org.wildfly.security.credential.source.CredentialSource;
 import java.sql.Connection;
 import java.sql.SQLException;
 import java.time.Duration;
+import java.util.concurrent.TimeUnit;
 import java.util.function.Supplier;
 
 import static io.agroal.api.configuration.AgroalConnectionPoolConfiguration.ConnectionValidator.defaultValidator;
@@ -68,8 +71,14 @@ class AbstractDataSourceOperations {
 
     static final OperationStepHandler STATISTICS_GET_OPERATION = new StatisticsGetOperation();
 
+    static final OperationStepHandler LATENCY_METRIC_GET_OPERATION = new LatencyMetricGetOperation();
+
+    static final OperationStepHandler PREPARED_STATEMENT_CACHE_METRIC_GET_OPERATION = new PreparedStatementCacheMetricGetOperation();
+
     static final OperationStepHandler TEST_CONNECTION_OPERATION = new TestConnectionOperation();
 
+    private static final int SLOWEST_STATEMENTS = 10;
+
     // --- //
 
     protected static AgroalConnectionFactoryConfigurationSupplier connectionFactoryConfiguration(OperationContext context, ModelNode model) throws OperationFailedException {
@@ -153,6 +162,16 @@ class AbstractDataSourceOperations {
         }
     }
 
+    private static JdbcStatistics getStatistics(OperationContext context) {
+        return getDataSourceService(context).getStatistics();
+    }
+
+    private static DataSourceService getDataSourceService(OperationContext context) {
+        ServiceRegistry registry = context.getServiceRegistry(false);
+        ServiceController<?> controller = registry.getRequiredService(AbstractDataSourceDefinition.DATA_SOURCE_CAPABILITY.getCapabilityServiceName(context.getCurrentAddressValue()));
+        return (DataSourceService) controller.getService();
+    }
+
     // --- //
 
     private static class StatisticsEnabledAttributeWriter extends AbstractWriteAttributeHandler<Boolean> {
@@ -164,12 +183,14 @@ class AbstractDataSourceOperations {
         @Override
         protected boolean applyUpdateToRuntime(OperationContext context, ModelNode operation, String attributeName, ModelNode resolvedValue, ModelNode currentValue, HandbackHolder<Boolean> handbackHolder) throws OperationFailedException {
             getDataSource(context).getConfiguration().setMetricsEnabled(resolvedValue.asBoolean());
+            getStatistics(context).setEnabled(resolvedValue.asBoolean());
             return false;
         }
 
         @Override
         protected void revertUpdateToRuntime(OperationContext context, ModelNode operation, String attributeName, ModelNode valueToRestore, ModelNode valueToRevert, Boolean handback) throws OperationFailedException {
             getDataSource(context).getConfiguration().setMetricsEnabled(valueToRevert.asBoolean());
+            getStatistics(context).setEnabled(valueToRevert.asBoolean());
         }
     }
 
@@ -297,12 +318,95 @@ class AbstractDataSourceOperations {
         }
     }
 
+    private static class LatencyMetricGetOperation implements OperationStepHandler {
+
+        @Override
+        public void execute(OperationContext context, ModelNode operation) throws OperationFailedException {
+            if (context.isNormalServer()) {
+                JdbcStatistics statistics = getStatistics(context);
+                String name = operation.require(ModelDescriptionConstants.NAME).asString();
+                ModelNode result = context.getResult();
+                switch (name) {
+                    case "acquire-time-p50-us":
+                        result.set(micros(statistics.getAcquireTimePercentileNanos(0.5)));
+                        break;
+                    case "acquire-time-p99-us":
+                        result.set(micros(statistics.getAcquireTimePercentileNanos(0.99)));
+                        break;
+                    case "acquire-time-p999-us":
+                        result.set(micros(statistics.getAcquireTimePercentileNanos(0.999)));
+                        break;
+                    case "acquire-time-max-us":
+                        result.set(micros(statistics.getAcquireTimeMaxNanos()));
+                        break;
+                    case "statement-count":
+                        result.set(statistics.getStatementCount());
+                        break;
+                    case "statement-time-p50-us":
+                        result.set(micros(statistics.getStatementTimePercentileNanos(0.5)));
+                        break;
+                    case "statement-time-p99-us":
+                        result.set(micros(statistics.getStatementTimePercentileNanos(0.99)));
+                        break;
+                    case "statement-time-p999-us":
+                        result.set(micros(statistics.getStatementTimePercentileNanos(0.999)));
+                        break;
+                    case "statement-time-max-us":
+                        result.set(micros(statistics.getStatementTimeMaxNanos()));
+                        break;
+                    case "slowest-statements":
+                        result.setEmptyList();
+                        for (JdbcStatistics.StatementShapeStatistics statement : statistics.getSlowestStatements(SLOWEST_STATEMENTS)) {
+                            result.add(statement.toString());
+                        }
+                        break;
+                    default:
+                        break;
+                }
+            }
+        }
+
+        private static long micros(long nanos) {
+            return TimeUnit.NANOSECONDS.toMicros(nanos);
+        }
+    }
+
+    private static class PreparedStatementCacheMetricGetOperation implements OperationStepHandler {
+
+        @Override
+        public void execute(OperationContext context, ModelNode operation) throws OperationFailedException {
+            if (context.isNormalServer()) {
+                PreparedStatementCache statementCache = getDataSourceService(context).getStatementCache();
+                String name = operation.require(ModelDescriptionConstants.NAME).asString();
+                ModelNode result = context.getResult();
+                switch (name) {
+                    case "prepared-statement-cache-hit-count":
+                        result.set(statementCache != null ? statementCache.getHitCount() : 0L);
+                        break;
+                    case "prepared-statement-cache-miss-count":
+                        result.set(statementCache != null ? statementCache.getMissCount() : 0L);
+                        break;
+                    case "prepared-statement-cache-eviction-count":
+                        result.set(statementCache != null ? statementCache.getEvictionCount() : 0L);
+                        break;
+                    default:
+                        break;
+                }
+            }
+        }
+    }
+
     private static class ResetStatisticsOperation implements OperationStepHandler {
 
         @Override
         public void execute(OperationContext context, ModelNode operation) throws OperationFailedException {
             if (context.isNormalServer()) {
                 getDataSource(context).getMetrics().reset();
+                DataSourceService service = getDataSourceService(context);
+                service.getStatistics().reset();
+                if (service.getStatementCache() != null) {
+                    service.getStatementCache().reset();
+                }
             }
         }
     }
@@ -18,9 +18,11 @@ enum AgroalNamespace {
 
     AGROAL_1_0("urn:jboss:domain:datasources-agroal:1.0"),
 
-    AGROAL_2_0("urn:jboss:domain:datasources-agroal:2.0");
+    AGROAL_2_0("urn:jboss:domain:datasources-agroal:2.0"),
 
-    public static final AgroalNamespace CURRENT = AGROAL_2_0;
+    AGROAL_3_0("urn:jboss:domain:datasources-agroal:3.0");
+
+    public static final AgroalNamespace CURRENT = AGROAL_3_0;
 
     private static final Map<String, AgroalNamespace> MAP;
 
@@ -0,0 +1,77 @@
+/*
+ * Copyright The WildFly Authors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+package org.wildfly.extension.datasources.agroal;
+
+import static org.wildfly.extension.datasources.agroal.AbstractDataSourceDefinition.CONNECTION_FACTORY_ATTRIBUTE;
+import static org.wildfly.extension.datasources.agroal.AbstractDataSourceDefinition.PREPARED_STATEMENT_CACHE_SIZE_ATTRIBUTE;
+
+import java.util.Collections;
+
+import org.jboss.as.controller.ModelVersion;
+import org.jboss.as.controller.PathAddress;
+import org.jboss.as.controller.PathElement;
+import org.jboss.as.controller.transform.ExtensionTransformerRegistration;
+import org.jboss.as.controller.transform.SubsystemTransformerRegistration;
+import org.jboss.as.controller.transform.TransformationContext;
+import org.jboss.as.controller.transform.description.AttributeConverter;
+import org.jboss.as.controller.transform.description.ChainedTransformationDescriptionBuilder;
+import org.jboss.as.controller.transform.description.RejectAttributeChecker;
+import org.jboss.as.controller.transform.description.ResourceTransformationDescriptionBuilder;
+import org.jboss.as.controller.transform.description.TransformationDescriptionBuilder;
+import org.jboss.dmr.ModelNode;
+
+/**
+ * Transformers of the Agroal subsystem to its previous model versions.
+ */
+public class AgroalTransformers implements ExtensionTransformerRegistration {
+
+    static final ModelVersion VERSION_2_0_0 = ModelVersion.create(2, 0, 0);
+
+    /**
+     * Rejects a connection factory whose prepared statement cache is enabled.
+     */
+    static final RejectAttributeChecker PREPARED_STATEMENT_CACHE_CHECKER = new RejectAttributeChecker.ObjectFieldsRejectAttributeChecker(
+            Collections.singletonMap(PREPARED_STATEMENT_CACHE_SIZE_ATTRIBUTE.getName(), new RejectAttributeChecker.SimpleAcceptAttributeChecker(ModelNode.ZERO) {
+                @Override
+                protected boolean rejectAttribute(PathAddress address, String attributeName, ModelNode attributeValue, TransformationContext context) {
+                    return attributeValue.isDefined() && super.rejectAttribute(address, attributeName, attributeValue, context);
+                }
+            }));
+
+    /**
+     * Removes the size of the prepared statement cache, unknown to the previous model versions, from a connection factory.
+     */
+    static final AttributeConverter PREPARED_STATEMENT_CACHE_CONVERTER = new AttributeConverter.DefaultAttributeConverter() {
+        @Override
+        protected void convertAttribute(PathAddress address, String attributeName, ModelNode attributeValue, TransformationContext context) {
+            if (attributeValue.has(PREPARED_STATEMENT_CACHE_SIZE_ATTRIBUTE.getName())) {
+                attributeValue.remove(PREPARED_STATEMENT_CACHE_SIZE_ATTRIBUTE.getName());
+            }
+        }
+    };
+
+    @Override
+    public String getSubsystemName() {
+        return AgroalExtension.SUBSYSTEM_NAME;
+    }
+
+    @Override
+    public void registerTransformers(SubsystemTransformerRegistration subsystemRegistration) {
+        ChainedTransformationDescriptionBuilder chainedBuilder = TransformationDescriptionBuilder.Factory.createChainedSubystemInstance(subsystemRegistration.getCurrentSubsystemVersion());
+
+        register200Transformers(chainedBuilder.createBuilder(subsystemRegistration.getCurrentSubsystemVersion(), VERSION_2_0_0));
+
+        chainedBuilder.buildAndRegister(subsystemRegistration, new ModelVersion[] { VERSION_2_0_0 });
+    }
+
+    private static void register200Transformers(ResourceTransformationDescriptionBuilder parentBuilder) {
+        for (PathElement path : new PathElement[] { DataSourceDefinition.PATH, XADataSourceDefinition.PATH }) {
+            parentBuilder.addChildResource(path).getAttributeBuilder()
+                    .addRejectCheck(PREPARED_STATEMENT_CACHE_CHECKER, CONNECTION_FACTORY_ATTRIBUTE)
+                    .setValueConverter(PREPARED_STATEMENT_CACHE_CONVERTER, CONNECTION_FACTORY_ATTRIBUTE)
+                    .end();
+        }
+    }
+}
@@ -75,6 +75,7 @@ class DataSourceOperations {
             dataSourceConfiguration.metricsEnabled(AbstractDataSourceDefinition.STATISTICS_ENABLED_ATTRIBUTE.resolveModelAttribute(context, model).asBoolean());
 
             String jndiName = AbstractDataSourceDefinition.JNDI_NAME_ATTRIBUTE.resolveModelAttribute(context, model).asString();
+            int preparedStatementCacheSize = AbstractDataSourceDefinition.PREPARED_STATEMENT_CACHE_SIZE_ATTRIBUTE.resolveModelAttribute(context, factoryModel).asInt();
             boolean jta = DataSourceDefinition.JTA_ATTRIBUTE.resolveModelAttribute(context, model).asBoolean();
             boolean connectable = DataSourceDefinition.CONNECTABLE_ATTRIBUTE.resolveModelAttribute(context, model).asBoolean();
             String driverName = AbstractDataSourceDefinition.DRIVER_ATTRIBUTE.resolveModelAttribute(context, factoryModel).asString();
@@ -85,7 +86,7 @@ class DataSourceOperations {
             final Supplier<ExceptionSupplier<CredentialSource, Exception>> credentialSourceSupplier = AbstractDataSourceOperations.setupCredentialReference(context, factoryModel, serviceBuilder);
             // TODO add a Stage.MODEL requirement
             final Supplier<TransactionSynchronizationRegistry> txnRegistrySupplier = jta ? serviceBuilder.requiresCapability("org.wildfly.transactions.transaction-synchronization-registry", TransactionSynchronizationRegistry.class) : null;
-            DataSourceService dataSourceService = new DataSourceService(consumer, driverSupplier, authenticationContextSupplier, credentialSourceSupplier, txnRegistrySupplier, datasourceName, jndiName, jta, connectable, false, dataSourceConfiguration);
+            DataSourceService dataSourceService = new DataSourceService(consumer, driverSupplier, authenticationContextSupplier, credentialSourceSupplier, txnRegistrySupplier, datasourceName, jndiName, jta, connectable, false, preparedStatementCacheSize, dataSourceConfiguration);
             serviceBuilder.setInstance(dataSourceService);
             serviceBuilder.install();
         }
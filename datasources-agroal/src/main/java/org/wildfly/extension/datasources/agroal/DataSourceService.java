@@ -10,6 +10,7 @@ import io.agroal.api.security.SimplePassword;
 import io.agroal.api.transaction.TransactionIntegration;
 import io.agroal.narayana.NarayanaTransactionIntegration;
 import org.ietf.jgss.GSSException;
+import org.jboss.as.connector.services.datasources.statistics.JdbcStatistics;
 import org.jboss.as.naming.ImmediateManagedReferenceFactory;
 import org.jboss.as.naming.ServiceBasedNamingStore;
 import org.jboss.as.naming.deployment.ContextNames;
@@ -67,6 +68,8 @@ public class DataSourceService implements Service<AgroalDataSource>, Supplier<Ag
 
     private final AgroalDataSourceConfigurationSupplier dataSourceConfiguration;
     private AgroalDataSource agroalDataSource;
+    private final JdbcStatistics statistics = new JdbcStatistics(false);
+    private final PreparedStatementCache statementCache;
 
     private final Supplier<Class> driverSupplier;
     private final Supplier<AuthenticationContext> authenticationContextSupplier;
@@ -78,7 +81,7 @@ public class DataSourceService implements Service<AgroalDataSource>, Supplier<Ag
                              final Supplier<AuthenticationContext> authenticationContextSupplier,
                              final Supplier<ExceptionSupplier<CredentialSource, Exception>> credentialSourceSupplier,
                              final Supplier<TransactionSynchronizationRegistry> transactionSynchronizationRegistrySupplier,
-                             String dataSourceName, String jndiName, boolean jta, boolean connectable, boolean xa, AgroalDataSourceConfigurationSupplier dataSourceConfiguration) {
+                             String dataSourceName, String jndiName, boolean jta, boolean connectable, boolean xa, int preparedStatementCacheSize, AgroalDataSourceConfigurationSupplier dataSourceConfiguration) {
         this.consumer = consumer;
         this.driverSupplier = driverSupplier;
         this.authenticationContextSupplier = authenticationContextSupplier;
@@ -90,6 +93,7 @@ public class DataSourceService implements Service<AgroalDataSource>, Supplier<Ag
         this.connectable = connectable;
         this.xa = xa;
         this.dataSourceConfiguration = dataSourceConfiguration;
+        this.statementCache = preparedStatementCacheSize > 0 ? new PreparedStatementCache(preparedStatementCacheSize) : null;
     }
 
     @Override
@@ -168,7 +172,15 @@ public class DataSourceService implements Service<AgroalDataSource>, Supplier<Ag
         }
 
         try {
-            agroalDataSource = AgroalDataSource.from(dataSourceConfiguration, new LoggingDataSourceListener(dataSourceName));
+            if (statementCache != null) {
+                agroalDataSource = statementCache.wrap(AgroalDataSource.from(dataSourceConfiguration, new LoggingDataSourceListener(dataSourceName), statementCache));
+            } else {
+                agroalDataSource = AgroalDataSource.from(dataSourceConfiguration, new LoggingDataSourceListener(dataSourceName));
+            }
+
+            // Latency statistics follow statistics-enabled, connections and statements are only wrapped while enabled
+            statistics.setEnabled(agroalDataSource.getConfiguration().metricsEnabled());
+            agroalDataSource = statistics.wrap(AgroalDataSource.class, agroalDataSource);
 
             ContextNames.BindInfo bindInfo = ContextNames.bindInfoFor(jndiName);
             BinderService binderService = new BinderService(bindInfo.getBindName());
@@ -214,4 +226,12 @@ public class DataSourceService implements Service<AgroalDataSource>, Supplier<Ag
         return agroalDataSource;
     }
 
+    JdbcStatistics getStatistics() {
+        return statistics;
+    }
+
+    PreparedStatementCache getStatementCache() {
+        return statementCache;
+    }
+
 }
@@ -0,0 +1,325 @@
+/*
+ * Copyright The WildFly Authors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+package org.wildfly.extension.datasources.agroal;
+
+import io.agroal.api.AgroalDataSource;
+import io.agroal.api.AgroalDataSourceListener;
+import org.jboss.as.connector.util.JdbcProxies;
+import org.wildfly.extension.datasources.agroal.logging.AgroalLogger;
+
+import java.lang.reflect.InvocationHandler;
+import java.lang.reflect.Method;
+import java.lang.reflect.Proxy;
+import java.sql.CallableStatement;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * A cache of the prepared and callable statements of each pooled connection of a datasource, so that a statement prepared
+ * repeatedly, typically once per request or transaction, is only parsed by the database the first time.
+ * <p>
+ * Statements are cached per pooled connection, as with the prepared statement cache of the datasources subsystem: the cache of
+ * a pooled connection is created when the pool first hands it out, its statements stay open while the application closes and
+ * acquires connection handles, and it is discarded with its statements when the pool destroys the connection. The pooled
+ * connection of a handle is the one the pool reports to its listeners as acquired while {@code getConnection()} runs; handles
+ * whose acquisition is not reported are left uncached.
+ * <p>
+ * Statements are prepared on the pooled connection, as statements prepared on a handle are closed by Agroal with the handle.
+ * They are only handed out wrapped by the handle they were requested from: the pool still tracks, enlists and checks the handle
+ * for leaks, and closing the handle closes the statements it handed out, which puts them back into the cache. A cached
+ * statement is taken out of the cache while in use, so that handles sharing a pooled connection never use the same statement
+ * concurrently. Statements whose settings were changed, e.g. with {@link Statement#setMaxRows(int)}, are closed rather than
+ * put back. Each cache holds up to a maximum number of statements, the least recently used statement being closed when the
+ * cache is full.
+ */
+class PreparedStatementCache implements AgroalDataSourceListener {
+
+    private final int size;
+
+    private final Map<Connection, StatementCache> caches = new ConcurrentHashMap<>();
+    // the pooled connection acquired by the getConnection() running on the current thread
+    private final ThreadLocal<Connection> acquiredConnection = new ThreadLocal<>();
+
+    private final LongAdder hits = new LongAdder();
+    private final LongAdder misses = new LongAdder();
+    private final LongAdder evictions = new LongAdder();
+
+    /**
+     * @param size the maximum number of statements cached per pooled connection
+     */
+    PreparedStatementCache(int size) {
+        this.size = size;
+    }
+
+    /**
+     * Creates a datasource whose connections prepare their statements through this cache.
+     * All other methods are invoked on the specified datasource, which must report its connections to this listener.
+     */
+    AgroalDataSource wrap(AgroalDataSource dataSource) {
+        return (AgroalDataSource) Proxy.newProxyInstance(AgroalDataSource.class.getClassLoader(), new Class<?>[] { AgroalDataSource.class }, (proxy, method, args) -> {
+            if (method.getReturnType() != Connection.class) {
+                return JdbcProxies.invokeObjectMethod(proxy, method, args, dataSource);
+            }
+            try {
+                Connection connection = (Connection) JdbcProxies.invoke(dataSource, method, args);
+                Connection pooledConnection = this.acquiredConnection.get();
+                return (pooledConnection != null) ? this.wrap(connection, pooledConnection) : connection;
+            } finally {
+                this.acquiredConnection.remove();
+            }
+        });
+    }
+
+    /**
+     * Wraps a connection handle so that its prepared and callable statements are taken from the cache of its pooled connection.
+     */
+    private Connection wrap(Connection connection, Connection pooledConnection) {
+        StatementCache cache = this.caches.get(pooledConnection);
+        if (cache == null) {
+            return connection;
+        }
+        return (Connection) Proxy.newProxyInstance(Connection.class.getClassLoader(), new Class<?>[] { Connection.class },
+                new ConnectionHandler(connection, pooledConnection, cache));
+    }
+
+    long getHitCount() {
+        return this.hits.sum();
+    }
+
+    long getMissCount() {
+        return this.misses.sum();
+    }
+
+    long getEvictionCount() {
+        return this.evictions.sum();
+    }
+
+    void reset() {
+        this.hits.reset();
+        this.misses.reset();
+        this.evictions.reset();
+    }
+
+    /**
+     * Records the pooled connection handed out by the pool, creating its cache the first time.
+     */
+    @Override
+    public void onConnectionAcquire(Connection connection) {
+        this.caches.computeIfAbsent(connection, c -> new StatementCache());
+        this.acquiredConnection.set(connection);
+    }
+
+    /**
+     * Discards the cache of a pooled connection destroyed by the pool, closing its statements.
+     */
+    @Override
+    public void onConnectionDestroy(Connection connection) {
+        StatementCache cache = this.caches.remove(connection);
+        if (cache != null) {
+            for (PreparedStatement statement : cache.destroy()) {
+                close(statement);
+            }
+        }
+    }
+
+    private static void close(Statement statement) {
+        try {
+            statement.close();
+        } catch (SQLException e) {
+            AgroalLogger.SERVICE_LOGGER.debugf(e, "Failed to close cached statement");
+        }
+    }
+
+    /**
+     * Returns the cache key of a statement: the name of the method preparing it followed by its arguments.
+     */
+    private static List<Object> key(Method method, Object[] args) {
+        List<Object> key = new ArrayList<>(args.length + 1);
+        key.add(method.getName());
+        for (Object arg : args) {
+            if (arg instanceof int[]) {
+                key.add(Arrays.toString((int[]) arg));
+            } else if (arg instanceof Object[]) {
+                key.add(Arrays.asList((Object[]) arg));
+            } else {
+                key.add(arg);
+            }
+        }
+        return key;
+    }
+
+    /**
+     * The statements cached for a pooled connection.
+     */
+    private class StatementCache {
+        // the following fields are guarded by this
+        private final Map<List<Object>, PreparedStatement> statements = new LinkedHashMap<>(16, 0.75f, true);
+        private boolean destroyed;
+
+        synchronized PreparedStatement checkOut(List<Object> key) {
+            PreparedStatement statement = this.statements.remove(key);
+            if (statement != null) {
+                hits.increment();
+            } else {
+                misses.increment();
+            }
+            return statement;
+        }
+
+        /**
+         * Puts a statement back into the cache, or closes it if the pooled connection was destroyed or the same statement was
+         * put back in the meantime.
+         */
+        void checkIn(List<Object> key, PreparedStatement statement) {
+            List<PreparedStatement> evicted = new ArrayList<>(1);
+            synchronized (this) {
+                if (this.destroyed || this.statements.putIfAbsent(key, statement) != null) {
+                    evicted.add(statement);
+                } else {
+                    Iterator<PreparedStatement> statements = this.statements.values().iterator();
+                    while (this.statements.size() > size && statements.hasNext()) {
+                        evicted.add(statements.next());
+                        statements.remove();
+                        evictions.increment();
+                    }
+                }
+            }
+            for (PreparedStatement evictedStatement : evicted) {
+                PreparedStatementCache.close(evictedStatement);
+            }
+        }
+
+        synchronized List<PreparedStatement> destroy() {
+            this.destroyed = true;
+            List<PreparedStatement> statements = new ArrayList<>(this.statements.values());
+            this.statements.clear();
+            return statements;
+        }
+    }
+
+    private static class ConnectionHandler implements InvocationHandler {
+        private final Connection connection;
+        private final Connection pooledConnection;
+        private final StatementCache cache;
+        // guarded by this
+        private final List<StatementHandler> openStatements = new ArrayList<>();
+
+        ConnectionHandler(Connection connection, Connection pooledConnection, StatementCache cache) {
+            this.connection = connection;
+            this.pooledConnection = pooledConnection;
+            this.cache = cache;
+        }
+
+        @Override
+        public Object invoke(Object proxy, Method method, Object[] args) throws Throwable {
+            String name = method.getName();
+            if ((name.equals("prepareStatement") || name.equals("prepareCall")) && !this.connection.isClosed()) {
+                List<Object> key = key(method, args);
+                PreparedStatement statement = this.cache.checkOut(key);
+                if (statement == null) {
+                    statement = (PreparedStatement) JdbcProxies.invoke(this.pooledConnection, method, args);
+                }
+                StatementHandler handler = new StatementHandler(this, (Connection) proxy, key, statement);
+                synchronized (this) {
+                    this.openStatements.add(handler);
+                }
+                Class<?> type = name.equals("prepareCall") ? CallableStatement.class : PreparedStatement.class;
+                return Proxy.newProxyInstance(type.getClassLoader(), new Class<?>[] { type }, handler);
+            }
+            if (name.equals("close") && method.getParameterCount() == 0) {
+                // Closing a connection handle closes the statements it handed out, which puts them back into the cache
+                List<StatementHandler> openStatements;
+                synchronized (this) {
+                    openStatements = new ArrayList<>(this.openStatements);
+                }
+                for (StatementHandler statement : openStatements) {
+                    statement.close();
+                }
+            }
+            return JdbcProxies.invokeObjectMethod(proxy, method, args, this.connection);
+        }
+
+        synchronized void closed(StatementHandler handler) {
+            this.openStatements.remove(handler);
+        }
+    }
+
+    private static class StatementHandler implements InvocationHandler {
+        private final ConnectionHandler connectionHandler;
+        private final Connection connection;
+        private final List<Object> key;
+        private final PreparedStatement statement;
+        private volatile boolean closed;
+        private volatile boolean reusable = true;
+
+        StatementHandler(ConnectionHandler connectionHandler, Connection connection, List<Object> key, PreparedStatement statement) {
+            this.connectionHandler = connectionHandler;
+            this.connection = connection;
+            this.key = key;
+            this.statement = statement;
+        }
+
+        @Override
+        public Object invoke(Object proxy, Method method, Object[] args) throws Throwable {
+            String name = method.getName();
+            switch (name) {
+                case "close":
+                    this.close();
+                    return null;
+                case "isClosed":
+                    return this.closed;
+                case "getConnection":
+                    return this.connection;
+                default:
+                    break;
+            }
+            if (this.closed && !name.equals("equals") && !name.equals("hashCode") && !name.equals("toString")) {
+                throw new SQLException("Statement is closed");
+            }
+            // Statement level settings would leak to the next user of the statement
+            if (method.getDeclaringClass() == Statement.class && (name.startsWith("set") || name.equals("closeOnCompletion"))) {
+                this.reusable = false;
+            }
+            return JdbcProxies.invokeObjectMethod(proxy, method, args, this.statement);
+        }
+
+        synchronized void close() {
+            if (this.closed) {
+                return;
+            }
+            this.closed = true;
+            this.connectionHandler.closed(this);
+            if (this.reusable) {
+                try {
+                    ResultSet resultSet = this.statement.getResultSet();
+                    if (resultSet != null) {
+                        resultSet.close();
+                    }
+                    this.statement.clearParameters();
+                    this.statement.clearBatch();
+                    this.statement.clearWarnings();
+                    if (!this.statement.isClosed()) {
+                        this.connectionHandler.cache.checkIn(this.key, this.statement);
+                        return;
+                    }
+                } catch (SQLException e) {
+                    AgroalLogger.SERVICE_LOGGER.debugf(e, "Failed to reset statement, closing it");
+                }
+            }
+            PreparedStatementCache.close(this.statement);
+        }
+    }
+}
@@ -0,0 +1,59 @@
+/*
+ * Copyright The WildFly Authors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+package org.wildfly.extension.datasources.agroal;
+
+import org.jboss.as.controller.PathAddress;
+import org.jboss.dmr.ModelNode;
+import org.jboss.dmr.ValueExpression;
+import org.junit.Assert;
+import org.junit.Test;
+
+/**
+ * Tests the rejection of the prepared statement cache when transforming to the 2.0.0 model of the subsystem.
+ */
+public class AgroalTransformersTestCase {
+
+    private static final PathAddress ADDRESS = PathAddress.pathAddress(AgroalSubsystemDefinition.PATH, DataSourceDefinition.PATH.getKey(), "sample");
+    private static final String CONNECTION_FACTORY = AbstractDataSourceDefinition.CONNECTION_FACTORY_ATTRIBUTE.getName();
+    private static final String CACHE_SIZE = AbstractDataSourceDefinition.PREPARED_STATEMENT_CACHE_SIZE_ATTRIBUTE.getName();
+
+    @Test
+    public void testRejectEnabledCache() {
+        Assert.assertTrue(reject(connectionFactory(new ModelNode(50))));
+        Assert.assertTrue(reject(connectionFactory(new ModelNode(new ValueExpression("${cache.size:50}")))));
+    }
+
+    @Test
+    public void testAcceptDisabledCache() {
+        Assert.assertFalse(reject(connectionFactory()));
+        Assert.assertFalse(reject(connectionFactory(ModelNode.ZERO)));
+        Assert.assertFalse(reject(connectionFactory(new ModelNode())));
+    }
+
+    @Test
+    public void testRemoveCacheSize() {
+        ModelNode connectionFactory = connectionFactory(ModelNode.ZERO);
+        AgroalTransformers.PREPARED_STATEMENT_CACHE_CONVERTER.convertResourceAttribute(ADDRESS, CONNECTION_FACTORY, connectionFactory, null);
+        Assert.assertFalse(connectionFactory.has(CACHE_SIZE));
+        Assert.assertEquals(connectionFactory(), connectionFactory);
+    }
+
+    private static boolean reject(ModelNode connectionFactory) {
+        return AgroalTransformers.PREPARED_STATEMENT_CACHE_CHECKER.rejectResourceAttribute(ADDRESS, CONNECTION_FACTORY, connectionFactory, null);
+    }
+
+    private static ModelNode connectionFactory() {
+        ModelNode connectionFactory = new ModelNode();
+        connectionFactory.get(AbstractDataSourceDefinition.DRIVER_ATTRIBUTE.getName()).set("h2");
+        connectionFactory.get(AbstractDataSourceDefinition.URL_ATTRIBUTE.getName()).set("jdbc:h2:mem:test");
+        return connectionFactory;
+    }
+
+    private static ModelNode connectionFactory(ModelNode cacheSize) {
+        ModelNode connectionFactory = connectionFactory();
+        connectionFactory.get(CACHE_SIZE).set(cacheSize);
+        return connectionFactory;
+    }
+}
@@ -0,0 +1,263 @@
+/*
+ * Copyright The WildFly Authors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+package org.wildfly.extension.datasources.agroal;
+
+import io.agroal.api.AgroalDataSource;
+import org.junit.Assert;
+import org.junit.Test;
+
+import java.lang.reflect.Proxy;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Unit test for {@link PreparedStatementCache}.
+ */
+public class PreparedStatementCacheTestCase {
+
+    private final AtomicInteger prepared = new AtomicInteger();
+    private final AtomicInteger closed = new AtomicInteger();
+
+    @Test
+    public void testHitAndMiss() throws SQLException {
+        PreparedStatementCache cache = new PreparedStatementCache(10);
+        AgroalDataSource dataSource = cache.wrap(this.dataSource(cache, this.pooledConnection()));
+
+        try (Connection connection = dataSource.getConnection()) {
+            for (int i = 0; i < 3; i++) {
+                try (PreparedStatement statement = connection.prepareStatement("SELECT * FROM person WHERE id = ?")) {
+                    statement.setInt(1, i);
+                    statement.executeQuery();
+                    Assert.assertSame(connection, statement.getConnection());
+                }
+            }
+        }
+
+        Assert.assertEquals(1, this.prepared.get());
+        Assert.assertEquals(2, cache.getHitCount());
+        Assert.assertEquals(1, cache.getMissCount());
+        // The cached statement outlives the connection handle
+        Assert.assertEquals(0, this.closed.get());
+    }
+
+    @Test
+    public void testReuseAcrossHandles() throws SQLException {
+        PreparedStatementCache cache = new PreparedStatementCache(10);
+        AgroalDataSource dataSource = cache.wrap(this.dataSource(cache, this.pooledConnection()));
+
+        // Two handles acquired one after the other on the same pooled connection share its statements
+        PreparedStatement first;
+        try (Connection connection = dataSource.getConnection()) {
+            first = connection.prepareStatement("SELECT 1");
+            first.executeQuery();
+        }
+        Assert.assertTrue(first.isClosed());
+        try (Connection connection = dataSource.getConnection()) {
+            try (PreparedStatement statement = connection.prepareStatement("SELECT 1")) {
+                statement.executeQuery();
+                Assert.assertNotSame(first, statement);
+                Assert.assertSame(connection, statement.getConnection());
+            }
+        }
+
+        Assert.assertEquals(1, this.prepared.get());
+        Assert.assertEquals(1, cache.getHitCount());
+        Assert.assertEquals(0, this.closed.get());
+    }
+
+    @Test
+    public void testPooledConnectionsDoNotShareStatements() throws SQLException {
+        PreparedStatementCache cache = new PreparedStatementCache(10);
+
+        for (int i = 0; i < 2; i++) {
+            AgroalDataSource dataSource = cache.wrap(this.dataSource(cache, this.pooledConnection()));
+            try (Connection connection = dataSource.getConnection()) {
+                connection.prepareStatement("SELECT 1").close();
+            }
+        }
+
+        Assert.assertEquals(2, this.prepared.get());
+        Assert.assertEquals(0, cache.getHitCount());
+    }
+
+    @Test
+    public void testStatementInUse() throws SQLException {
+        PreparedStatementCache cache = new PreparedStatementCache(10);
+        AgroalDataSource dataSource = cache.wrap(this.dataSource(cache, this.pooledConnection()));
+
+        try (Connection connection = dataSource.getConnection()) {
+            // A statement in use is never handed out a second time
+            PreparedStatement a = connection.prepareStatement("SELECT 1");
+            PreparedStatement b = connection.prepareStatement("SELECT 1");
+            Assert.assertEquals(2, this.prepared.get());
+
+            a.close();
+            Assert.assertTrue(a.isClosed());
+            b.close();
+            // Only one of the identical statements is kept
+            Assert.assertEquals(1, this.closed.get());
+
+            connection.prepareStatement("SELECT 1").close();
+            Assert.assertEquals(2, this.prepared.get());
+            Assert.assertEquals(1, cache.getHitCount());
+        }
+        Assert.assertEquals(1, this.closed.get());
+    }
+
+    @Test
+    public void testEviction() throws SQLException {
+        PreparedStatementCache cache = new PreparedStatementCache(2);
+        AgroalDataSource dataSource = cache.wrap(this.dataSource(cache, this.pooledConnection()));
+
+        try (Connection connection = dataSource.getConnection()) {
+            connection.prepareStatement("SELECT 1").close();
+            connection.prepareStatement("SELECT 2").close();
+            connection.prepareStatement("SELECT 1").close();
+            connection.prepareStatement("SELECT 3").close();
+            // SELECT 2 is the least recently used statement
+            connection.prepareStatement("SELECT 1").close();
+            connection.prepareStatement("SELECT 2").close();
+
+            Assert.assertEquals(4, this.prepared.get());
+            Assert.assertEquals(2, cache.getEvictionCount());
+            Assert.assertEquals(2, this.closed.get());
+        }
+        Assert.assertEquals(2, this.closed.get());
+    }
+
+    @Test
+    public void testModifiedStatementIsNotCached() throws SQLException {
+        PreparedStatementCache cache = new PreparedStatementCache(10);
+        AgroalDataSource dataSource = cache.wrap(this.dataSource(cache, this.pooledConnection()));
+
+        try (Connection connection = dataSource.getConnection()) {
+            PreparedStatement statement = connection.prepareStatement("SELECT 1");
+            statement.setMaxRows(10);
+            statement.close();
+            Assert.assertEquals(1, this.closed.get());
+            connection.prepareStatement("SELECT 1").close();
+        }
+
+        Assert.assertEquals(2, this.prepared.get());
+        Assert.assertEquals(1, this.closed.get());
+    }
+
+    @Test
+    public void testOpenStatementsReturnedWithConnection() throws SQLException {
+        PreparedStatementCache cache = new PreparedStatementCache(10);
+        AgroalDataSource dataSource = cache.wrap(this.dataSource(cache, this.pooledConnection()));
+
+        PreparedStatement statement;
+        try (Connection connection = dataSource.getConnection()) {
+            statement = connection.prepareStatement("SELECT 1");
+        }
+
+        // The statement left open is closed for the application, but kept for the next handle
+        Assert.assertTrue(statement.isClosed());
+        Assert.assertEquals(0, this.closed.get());
+        try (Connection connection = dataSource.getConnection()) {
+            connection.prepareStatement("SELECT 1").close();
+        }
+        Assert.assertEquals(1, this.prepared.get());
+        Assert.assertEquals(1, cache.getHitCount());
+    }
+
+    @Test
+    public void testDestroy() throws SQLException {
+        PreparedStatementCache cache = new PreparedStatementCache(10);
+        Connection pooledConnection = this.pooledConnection();
+        AgroalDataSource dataSource = cache.wrap(this.dataSource(cache, pooledConnection));
+
+        try (Connection connection = dataSource.getConnection()) {
+            connection.prepareStatement("SELECT 1").close();
+            PreparedStatement statement = connection.prepareStatement("SELECT 2");
+
+            // The pool destroys the connection, e.g. when it is flushed, while a statement is in use
+            cache.onConnectionDestroy(pooledConnection);
+            Assert.assertEquals(1, this.closed.get());
+            statement.close();
+            Assert.assertEquals(2, this.closed.get());
+        }
+
+        // The statements cached before the connection was destroyed are not handed out again
+        try (Connection connection = dataSource.getConnection()) {
+            connection.prepareStatement("SELECT 1").close();
+        }
+        Assert.assertEquals(3, this.prepared.get());
+        Assert.assertEquals(0, cache.getHitCount());
+    }
+
+    /**
+     * A datasource always handing out the same pooled connection, reporting its acquisition to the specified listener.
+     */
+    private AgroalDataSource dataSource(PreparedStatementCache listener, Connection pooledConnection) {
+        return (AgroalDataSource) Proxy.newProxyInstance(this.getClass().getClassLoader(), new Class<?>[] { AgroalDataSource.class }, (proxy, method, args) -> {
+            if (method.getName().equals("getConnection")) {
+                listener.onConnectionAcquire(pooledConnection);
+                return this.handle();
+            }
+            return null;
+        });
+    }
+
+    private Connection pooledConnection() {
+        return (Connection) Proxy.newProxyInstance(this.getClass().getClassLoader(), new Class<?>[] { Connection.class }, (proxy, method, args) -> {
+            switch (method.getName()) {
+                case "prepareStatement":
+                    this.prepared.incrementAndGet();
+                    return this.statement();
+                case "isClosed":
+                    return false;
+                case "equals":
+                    return proxy == args[0];
+                case "hashCode":
+                    return System.identityHashCode(proxy);
+                default:
+                    return null;
+            }
+        });
+    }
+
+    /**
+     * A connection handle, on which statements must not be prepared as they would be closed with the handle.
+     */
+    private Connection handle() {
+        AtomicInteger handleClosed = new AtomicInteger();
+        return (Connection) Proxy.newProxyInstance(this.getClass().getClassLoader(), new Class<?>[] { Connection.class }, (proxy, method, args) -> {
+            switch (method.getName()) {
+                case "isClosed":
+                    return handleClosed.get() > 0;
+                case "close":
+                    handleClosed.incrementAndGet();
+                    return null;
+                default:
+                    throw new UnsupportedOperationException(method.getName());
+            }
+        });
+    }
+
+    private PreparedStatement statement() {
+        return (PreparedStatement) Proxy.newProxyInstance(this.getClass().getClassLoader(), new Class<?>[] { PreparedStatement.class }, (proxy, method, args) -> {
+            switch (method.getName()) {
+                case "close":
+                    this.closed.incrementAndGet();
+                    return null;
+                case "isClosed":
+                    return false;
+                default:
+                    Class<?> returnType = method.getReturnType();
+                    if (returnType == int.class) {
+                        return 0;
+                    }
+                    if (returnType == boolean.class) {
+                        return false;
+                    }
+                    return null;
+            }
+        });
+    }
+}
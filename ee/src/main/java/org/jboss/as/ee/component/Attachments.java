@@ -6,12 +6,15 @@
 package org.jboss.as.ee.component;
 
 import java.util.Set;
+import java.util.concurrent.Executor;
 
 import org.jboss.as.ee.component.deployers.EEResourceReferenceProcessorRegistry;
 import org.jboss.as.ee.component.deployers.MessageDestinationInjectionSource;
 import org.jboss.as.ee.component.deployers.StartupCountdown;
+import org.jboss.as.ee.concurrent.AdaptiveConcurrencyLimit;
 import org.jboss.as.ee.concurrent.ConcurrentContextSetupAction;
 import org.jboss.as.ee.concurrent.handle.ContextHandleFactory;
+import org.jboss.as.ee.structure.DeploymentAnalysisCache;
 import org.jboss.as.server.deployment.AttachmentKey;
 import org.jboss.as.server.deployment.AttachmentList;
 import org.jboss.as.server.deployment.SetupAction;
@@ -30,6 +33,21 @@ public class Attachments {
     public static final AttachmentKey<EEModuleDescription> EE_MODULE_DESCRIPTION = AttachmentKey.create(EEModuleDescription.class);
     public static final AttachmentKey<EEModuleConfiguration> EE_MODULE_CONFIGURATION = AttachmentKey.create(EEModuleConfiguration.class);
 
+    /**
+     * The executor on which the annotation information of the deployment unit is created concurrently. If absent, it is created serially.
+     */
+    public static final AttachmentKey<Executor> ANNOTATION_PROCESSING_EXECUTOR = AttachmentKey.create(Executor.class);
+
+    /**
+     * The cache in which the results of the analysis of the deployment unit are persisted. If absent, they are not cached.
+     */
+    public static final AttachmentKey<DeploymentAnalysisCache> DEPLOYMENT_ANALYSIS_CACHE = AttachmentKey.create(DeploymentAnalysisCache.class);
+
+    /**
+     * The configuration from which the control points of the deployment unit create their adaptive concurrency limit. If absent, their requests are not limited.
+     */
+    public static final AttachmentKey<AdaptiveConcurrencyLimit.Configuration> ADAPTIVE_CONCURRENCY_LIMIT = AttachmentKey.create(AdaptiveConcurrencyLimit.Configuration.class);
+
     public static final AttachmentKey<DeploymentDescriptorEnvironment> MODULE_DEPLOYMENT_DESCRIPTOR_ENVIRONMENT = AttachmentKey.create(DeploymentDescriptorEnvironment.class);
 
     /**
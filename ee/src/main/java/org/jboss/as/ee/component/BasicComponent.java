@@ -10,6 +10,7 @@ import java.util.Collections;
 import java.util.HashMap;
 import java.util.IdentityHashMap;
 import java.util.Map;
+import java.util.concurrent.TimeUnit;
 import java.util.concurrent.atomic.AtomicBoolean;
 
 import org.jboss.as.ee.logging.EeLogger;
@@ -42,6 +43,12 @@ public class BasicComponent implements Component {
 
     private volatile boolean gate;
     private final AtomicBoolean stopping = new AtomicBoolean();
+    private volatile boolean startDeferred;
+    private volatile long deferredStartTime;
+    // the following fields are guarded by this
+    private Thread startingThread;
+    private int startAttempts;
+    private Throwable startFailure;
 
 
     private Interceptor postConstructInterceptor;
@@ -93,13 +100,17 @@ public class BasicComponent implements Component {
 
     public void waitForComponentStart() {
         if (!gate) {
+            if (startDeferred) {
+                startOnFirstInvocation();
+            }
             EeLogger.ROOT_LOGGER.tracef("Waiting for component %s (%s)", componentName, componentClass);
             // Block until successful start
             synchronized (this) {
-                if (stopping.get()) {
-                    throw EeLogger.ROOT_LOGGER.componentIsStopped();
-                }
                 while (!gate) {
+                    // a cancelled deferred start notifies the waiting invocations
+                    if (stopping.get()) {
+                        throw EeLogger.ROOT_LOGGER.componentIsStopped();
+                    }
                     // TODO: check for failure condition
                     try {
                         wait();
@@ -112,6 +123,116 @@ public class BasicComponent implements Component {
             EeLogger.ROOT_LOGGER.tracef("Finished waiting for component %s (%s)", componentName, componentClass);
         }
     }
+
+    /**
+     * Starts this component on behalf of its first invocation. The component is started without holding its monitor, so
+     * that a slow start does not keep the other callers from waiting on it, and that the monitor is not held by the
+     * subclasses when they start. Concurrent first invocations wait for the one starting the component. If the start
+     * fails, the invocation starting the component and those waiting for it fail with the cause of the failure, and the
+     * next invocation starts the component again.
+     */
+    private void startOnFirstInvocation() {
+        final Thread thread = Thread.currentThread();
+        synchronized (this) {
+            if (startingThread == thread) {
+                // waiting for its own start would never return
+                throw EeLogger.ROOT_LOGGER.componentInvokedByItsStart(componentName);
+            }
+            if (startingThread != null) {
+                final int attempt = startAttempts;
+                while (startAttempts == attempt) {
+                    try {
+                        wait();
+                    } catch (InterruptedException e) {
+                        Thread.currentThread().interrupt();
+                        throw EeLogger.ROOT_LOGGER.componentNotAvailable();
+                    }
+                }
+                if (!gate && startFailure != null) {
+                    throw EeLogger.ROOT_LOGGER.componentDeferredStartFailure(componentName, startFailure);
+                }
+                return;
+            }
+            if (!startDeferred || gate || stopping.get()) {
+                return;
+            }
+            startingThread = thread;
+            startFailure = null;
+        }
+        EeLogger.ROOT_LOGGER.debugf("Starting component %s (%s) on its first invocation", componentName, componentClass);
+        final long start = System.nanoTime();
+        Throwable failure = null;
+        try {
+            start();
+        } catch (RuntimeException | Error e) {
+            failure = e;
+            throw EeLogger.ROOT_LOGGER.componentDeferredStartFailure(componentName, e);
+        } finally {
+            synchronized (this) {
+                startingThread = null;
+                startAttempts++;
+                if (failure == null) {
+                    deferredStartTime = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start);
+                    startDeferred = false;
+                } else {
+                    startFailure = failure;
+                }
+                notifyAll();
+            }
+        }
+    }
+
+    /**
+     * Defers the start of this component until its first invocation, which then starts it before proceeding.
+     */
+    public synchronized void deferStart() {
+        this.stopping.set(false);
+        startFailure = null;
+        startDeferred = true;
+    }
+
+    /**
+     * Cancels the deferred start of this component, as it is being stopped. If a first invocation is starting the
+     * component, waits for its start to complete.
+     *
+     * @return true if the component was never started, in which case it must not be stopped
+     */
+    public synchronized boolean cancelDeferredStart() {
+        boolean interrupted = false;
+        while (startingThread != null && startingThread != Thread.currentThread()) {
+            try {
+                wait();
+            } catch (InterruptedException e) {
+                interrupted = true;
+            }
+        }
+        if (interrupted) {
+            Thread.currentThread().interrupt();
+        }
+        if (!startDeferred) {
+            return false;
+        }
+        startDeferred = false;
+        this.stopping.set(true);
+        // the invocations waiting for the component fail as it is stopped
+        notifyAll();
+        return true;
+    }
+
+    /**
+     * @return true if the start of this component is deferred until its first invocation, which did not happen yet
+     */
+    public boolean isStartDeferred() {
+        return startDeferred;
+    }
+
+    /**
+     * @return the time in milliseconds the first invocation spent starting this component, or 0 if its start was not deferred
+     */
+    public long getDeferredStartTime() {
+        return deferredStartTime;
+    }
+
     /**
      * Construct the component instance.  Upon return, the object instance should have injections and lifecycle
      * invocations completed already.
@@ -81,6 +81,11 @@ public class ComponentDescription implements ResourceInjectionTarget {
      */
     private String beanDeploymentArchiveId;
 
+    /**
+     * Whether the start of this component is deferred until its first invocation, or null to use the setting of the subsystem
+     */
+    private Boolean lazyStart;
+
     /**
      * Construct a new instance.
      *
@@ -486,6 +491,36 @@ public class ComponentDescription implements ResourceInjectionTarget {
         return false;
     }
 
+    /**
+     * Whether the start of this component can be deferred until its first invocation, when the lazy start of
+     * components is enabled. Components whose start does more than prepare them for invocations, such as creating
+     * timers or activating message endpoints, must not be started lazily.
+     *
+     * @return <code>true</code> if this component type can be started by its first invocation
+     */
+    public boolean isLazyStartApplicable() {
+        return false;
+    }
+
+    /**
+     * Get whether the start of this component is deferred until its first invocation, as configured by its deployment.
+     *
+     * @return the configured lazy start, or <code>null</code> if the setting of the subsystem applies
+     */
+    public Boolean getLazyStart() {
+        return lazyStart;
+    }
+
+    /**
+     * Set whether the start of this component is deferred until its first invocation, which overrides the setting of the
+     * subsystem. The start is only deferred if the component type supports it, see {@link #isLazyStartApplicable()}.
+     *
+     * @param lazyStart the lazy start, or <code>null</code> to use the setting of the subsystem
+     */
+    public void setLazyStart(final Boolean lazyStart) {
+        this.lazyStart = lazyStart;
+    }
+
     /**
      * Get the configurators for this component.
      *
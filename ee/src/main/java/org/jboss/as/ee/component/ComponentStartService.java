@@ -25,11 +25,28 @@ public final class ComponentStartService implements Service<Component> {
 
     private final InjectedValue<BasicComponent> component = new InjectedValue<BasicComponent>();
     private final InjectedValue<ExecutorService> executor = new InjectedValue<ExecutorService>();
+    private final boolean lazy;
+
+    public ComponentStartService() {
+        this(false);
+    }
+
+    /**
+     * @param lazy whether the start of the component is deferred until its first invocation
+     */
+    public ComponentStartService(final boolean lazy) {
+        this.lazy = lazy;
+    }
 
     /**
      * {@inheritDoc}
      */
     public void start(final StartContext context) throws StartException {
+        if (lazy) {
+            // the component is started by its first invocation
+            getValue().deferStart();
+            return;
+        }
         final Runnable task = new Runnable() {
             @Override
             public void run() {
@@ -54,6 +71,10 @@ public final class ComponentStartService implements Service<Component> {
      * {@inheritDoc}
      */
     public void stop(final StopContext context) {
+        if (lazy && getValue().cancelDeferredStart()) {
+            // the component was never invoked, so was never started
+            return;
+        }
         final Runnable task = new Runnable() {
             @Override
             public void run() {
@@ -6,6 +6,7 @@
 package org.jboss.as.ee.component;
 
 import java.io.Serializable;
+import java.lang.invoke.MethodHandle;
 import java.lang.reflect.Constructor;
 import java.lang.reflect.InvocationTargetException;
 
@@ -18,15 +19,25 @@ import org.jboss.invocation.InterceptorContext;
 public class ConstructorComponentFactory implements ComponentFactory {
 
     private final Constructor<?> constructor;
+    private final MethodHandle handle;
 
     public ConstructorComponentFactory(final Constructor<?> constructor) {
+        this(constructor, false);
+    }
+
+    /**
+     * @param constructor the constructor of the component
+     * @param methodHandle whether the constructor is invoked through a method handle instead of reflection
+     */
+    public ConstructorComponentFactory(final Constructor<?> constructor, final boolean methodHandle) {
         this.constructor = constructor;
+        this.handle = methodHandle ? MethodHandleClassIntrospector.createConstructor(constructor) : null;
     }
 
     @Override
     public ManagedReference create(final InterceptorContext context) {
         try {
-            Object instance = constructor.newInstance();
+            Object instance = (handle != null) ? MethodHandleClassIntrospector.newInstance(handle) : constructor.newInstance();
             return new ConstructorManagedReference(instance);
         } catch (InstantiationException | IllegalAccessException | InvocationTargetException e) {
             throw new RuntimeException(e);
@@ -96,7 +96,7 @@ class DefaultInterceptorConfigurator extends AbstractComponentConfigurator imple
             if (constructor == null) {
                 throw EeLogger.ROOT_LOGGER.defaultConstructorNotFound(configuration.getComponentClass());
             }
-            instantiator = new ImmediateInterceptorFactory(new ComponentInstantiatorInterceptor(new ConstructorComponentFactory(constructor), BasicComponentInstance.INSTANCE_KEY, true));
+            instantiator = new ImmediateInterceptorFactory(new ComponentInstantiatorInterceptor(new ConstructorComponentFactory(constructor, moduleDescription.isMethodHandleInjection()), BasicComponentInstance.INSTANCE_KEY, true));
         }
 
         //all interceptors with lifecycle callbacks, in the correct order
@@ -135,7 +135,7 @@ class DefaultInterceptorConfigurator extends AbstractComponentConfigurator imple
                 throw EeLogger.ROOT_LOGGER.defaultConstructorNotFoundOnComponent(interceptorClassName, configuration.getComponentClass());
             }
 
-            instantiators.addFirst(new ImmediateInterceptorFactory(new ComponentInstantiatorInterceptor(new ConstructorComponentFactory(constructor), contextKey, false)));
+            instantiators.addFirst(new ImmediateInterceptorFactory(new ComponentInstantiatorInterceptor(new ConstructorComponentFactory(constructor, moduleDescription.isMethodHandleInjection()), contextKey, false)));
             destructors.addLast(new ImmediateInterceptorFactory(new ManagedReferenceReleaseInterceptor(contextKey)));
 
             final boolean interceptorHasLifecycleCallbacks = interceptorWithLifecycleCallbacks.contains(interceptorDescription);
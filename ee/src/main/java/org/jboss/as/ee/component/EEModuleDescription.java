@@ -53,6 +53,8 @@ public final class EEModuleDescription implements ResourceInjectionTarget {
 
     private ServiceName defaultClassIntrospectorServiceName = ReflectiveClassIntrospector.SERVICE_NAME;
 
+    private boolean methodHandleInjection;
+
     private final ConcurrentContext concurrentContext;
 
     private final EEDefaultResourceJndiNames defaultResourceJndiNames;
@@ -132,6 +134,19 @@ public final class EEModuleDescription implements ResourceInjectionTarget {
         this.defaultClassIntrospectorServiceName = defaultClassIntrospectorServiceName;
     }
 
+    /**
+     * Whether the components of this module are instantiated and injected through method handles instead of reflection.
+     *
+     * @return {@code true} if method handles are used
+     */
+    public boolean isMethodHandleInjection() {
+        return methodHandleInjection;
+    }
+
+    public void setMethodHandleInjection(boolean methodHandleInjection) {
+        this.methodHandleInjection = methodHandleInjection;
+    }
+
     /**
      * Add a component to this module.
      *
@@ -45,7 +45,7 @@ public final class FieldInjectionTarget extends InjectionTarget {
     }
 
     public InterceptorFactory createInjectionInterceptorFactory(final Object targetContextKey, final Object valueContextKey, final Value<ManagedReferenceFactory> factoryValue, final DeploymentUnit deploymentUnit, final boolean optional) throws DeploymentUnitProcessingException {
-        return new ManagedReferenceFieldInjectionInterceptorFactory(targetContextKey, valueContextKey, factoryValue, getField(deploymentUnit), optional);
+        return new ManagedReferenceFieldInjectionInterceptorFactory(targetContextKey, valueContextKey, factoryValue, getField(deploymentUnit), optional, isMethodHandleInjection(deploymentUnit));
     }
 
     private Field getField(final DeploymentUnit deploymentUnit) throws DeploymentUnitProcessingException {
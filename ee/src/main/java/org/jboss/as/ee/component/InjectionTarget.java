@@ -85,6 +85,17 @@ public abstract class InjectionTarget {
      */
     public abstract boolean isStatic(final DeploymentUnit deploymentUnit) throws DeploymentUnitProcessingException;
 
+    /**
+     * Indicates if the injection is performed through a method handle instead of reflection.
+     *
+     * @param deploymentUnit   the deployment unit
+     * @return true if the ee subsystem uses the method-handle class introspector for the deployment unit
+     */
+    static boolean isMethodHandleInjection(final DeploymentUnit deploymentUnit) {
+        final EEModuleDescription moduleDescription = deploymentUnit.getAttachment(Attachments.EE_MODULE_DESCRIPTION);
+        return moduleDescription != null && moduleDescription.isMethodHandleInjection();
+    }
+
     @Override
     public boolean equals(final Object o) {
         if (this == o) return true;
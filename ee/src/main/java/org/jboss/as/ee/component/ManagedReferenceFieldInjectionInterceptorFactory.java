@@ -5,6 +5,7 @@
 
 package org.jboss.as.ee.component;
 
+import java.lang.invoke.MethodHandle;
 import java.lang.reflect.Field;
 import java.lang.reflect.Modifier;
 
@@ -27,17 +28,20 @@ final class ManagedReferenceFieldInjectionInterceptorFactory implements Intercep
     private final Value<ManagedReferenceFactory> factoryValue;
     private final Field field;
     private final boolean optional;
+    private final MethodHandle setter;
 
-    ManagedReferenceFieldInjectionInterceptorFactory(final Object targetContextKey, final Object valueContextKey, final Value<ManagedReferenceFactory> factoryValue, final Field field, final boolean optional) {
+    ManagedReferenceFieldInjectionInterceptorFactory(final Object targetContextKey, final Object valueContextKey, final Value<ManagedReferenceFactory> factoryValue, final Field field, final boolean optional, final boolean methodHandle) {
         this.targetContextKey = targetContextKey;
         this.valueContextKey = valueContextKey;
         this.factoryValue = factoryValue;
         this.field = field;
         this.optional = optional;
+        // the setter is built once, and shared by the interceptors of all the instances of the component
+        this.setter = methodHandle ? MethodHandleClassIntrospector.createInjector(field) : null;
     }
 
     public Interceptor create(final InterceptorFactoryContext context) {
-        return new ManagedReferenceFieldInjectionInterceptor(targetContextKey, valueContextKey, factoryValue.getValue(), field, optional);
+        return new ManagedReferenceFieldInjectionInterceptor(targetContextKey, valueContextKey, factoryValue.getValue(), field, optional, setter);
     }
 
     /**
@@ -54,13 +58,15 @@ final class ManagedReferenceFieldInjectionInterceptorFactory implements Intercep
         private final Field field;
         private final boolean optional;
         private final Object valueContextKey;
+        private final MethodHandle setter;
 
-        ManagedReferenceFieldInjectionInterceptor(final Object targetKey, final Object valueContextKey, final ManagedReferenceFactory factory, final Field field, final boolean optional) {
+        ManagedReferenceFieldInjectionInterceptor(final Object targetKey, final Object valueContextKey, final ManagedReferenceFactory factory, final Field field, final boolean optional, final MethodHandle setter) {
             this.targetKey = targetKey;
             this.factory = factory;
             this.field = field;
             this.optional = optional;
             this.valueContextKey = valueContextKey;
+            this.setter = setter;
         }
 
         /**
@@ -88,7 +94,11 @@ final class ManagedReferenceFieldInjectionInterceptorFactory implements Intercep
                 componentInstance.setInstanceData(valueContextKey, reference);
                 Object injected = reference.getInstance();
                 try {
-                    field.set(target, injected);
+                    if (setter != null) {
+                        set(target, injected);
+                    } else {
+                        field.set(target, injected);
+                    }
                 } catch (IllegalArgumentException e) {
                     throw EeLogger.ROOT_LOGGER.cannotSetField(field.getName(), injected.getClass(), injected.getClass().getClassLoader(), field.getType(), field.getType().getClassLoader());
                 }
@@ -102,6 +112,20 @@ final class ManagedReferenceFieldInjectionInterceptorFactory implements Intercep
                 }
             }
         }
+
+        private void set(final Object target, final Object injected) {
+            // check the type as Field.set(Object, Object) does, instead of letting the method handle throw a ClassCastException
+            if (injected != null && !field.getType().isInstance(injected)) {
+                throw new IllegalArgumentException();
+            }
+            try {
+                setter.invokeExact(target, injected);
+            } catch (RuntimeException | Error e) {
+                throw e;
+            } catch (Throwable e) {
+                throw new IllegalStateException(e);
+            }
+        }
     }
 
 }
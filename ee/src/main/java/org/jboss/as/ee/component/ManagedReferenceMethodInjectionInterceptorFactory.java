@@ -5,6 +5,8 @@
 
 package org.jboss.as.ee.component;
 
+import java.lang.invoke.MethodHandle;
+import java.lang.reflect.InvocationTargetException;
 import java.lang.reflect.Method;
 import java.lang.reflect.Modifier;
 
@@ -28,17 +30,20 @@ final class ManagedReferenceMethodInjectionInterceptorFactory implements Interce
     private final Value<ManagedReferenceFactory> factoryValue;
     private final Method method;
     private final boolean optional;
+    private final MethodHandle invoker;
 
-    ManagedReferenceMethodInjectionInterceptorFactory(final Object targetContextKey, final Object valueContextKey, final Value<ManagedReferenceFactory> factoryValue, final Method method, final boolean optional) {
+    ManagedReferenceMethodInjectionInterceptorFactory(final Object targetContextKey, final Object valueContextKey, final Value<ManagedReferenceFactory> factoryValue, final Method method, final boolean optional, final boolean methodHandle) {
         this.targetContextKey = targetContextKey;
         this.valueContextKey = valueContextKey;
         this.factoryValue = factoryValue;
         this.method = method;
         this.optional = optional;
+        // the invoker is built once, and shared by the interceptors of all the instances of the component
+        this.invoker = methodHandle ? MethodHandleClassIntrospector.createInjector(method) : null;
     }
 
     public Interceptor create(final InterceptorFactoryContext context) {
-        return new ManagedReferenceMethodInjectionInterceptor(targetContextKey, valueContextKey, factoryValue.getValue(), method, optional);
+        return new ManagedReferenceMethodInjectionInterceptor(targetContextKey, valueContextKey, factoryValue.getValue(), method, optional, invoker);
     }
 
     /**
@@ -55,13 +60,17 @@ final class ManagedReferenceMethodInjectionInterceptorFactory implements Interce
         private final ManagedReferenceFactory factory;
         private final Method method;
         private final boolean optional;
+        private final MethodHandle invoker;
+        private final Class<?> parameterType;
 
-        ManagedReferenceMethodInjectionInterceptor(final Object targetKey, final Object valueKey, final ManagedReferenceFactory factory, final Method method, final boolean optional) {
+        ManagedReferenceMethodInjectionInterceptor(final Object targetKey, final Object valueKey, final ManagedReferenceFactory factory, final Method method, final boolean optional, final MethodHandle invoker) {
             this.targetKey = targetKey;
             this.factory = factory;
             this.method = method;
             this.optional = optional;
             this.valueKey = valueKey;
+            this.invoker = invoker;
+            this.parameterType = method.getParameterTypes()[0];
         }
 
         /**
@@ -92,7 +101,11 @@ final class ManagedReferenceMethodInjectionInterceptorFactory implements Interce
                 final InvocationType invocationType = context.getPrivateData(InvocationType.class);
                 try {
                     context.putPrivateData(InvocationType.class, InvocationType.DEPENDENCY_INJECTION);
-                    method.invoke(target, reference.getInstance());
+                    if (invoker != null) {
+                        invoke(target, reference.getInstance());
+                    } else {
+                        method.invoke(target, reference.getInstance());
+                    }
                 } finally {
                     context.putPrivateData(InvocationType.class, invocationType);
                 }
@@ -106,5 +119,17 @@ final class ManagedReferenceMethodInjectionInterceptorFactory implements Interce
                 }
             }
         }
+
+        private void invoke(final Object target, final Object injected) throws InvocationTargetException {
+            // check the type as Method.invoke(Object, Object...) does, instead of letting the method handle throw a ClassCastException
+            if (injected != null && !parameterType.isInstance(injected)) {
+                throw new IllegalArgumentException();
+            }
+            try {
+                invoker.invokeExact(target, injected);
+            } catch (Throwable e) {
+                throw new InvocationTargetException(e);
+            }
+        }
     }
 }
@@ -0,0 +1,222 @@
+/*
+ * Copyright The WildFly Authors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.jboss.as.ee.component;
+
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.lang.reflect.AccessibleObject;
+import java.lang.reflect.Constructor;
+import java.lang.reflect.Field;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.lang.reflect.Modifier;
+import java.security.AccessController;
+import java.security.PrivilegedAction;
+
+import org.jboss.as.naming.ImmediateManagedReference;
+import org.jboss.as.naming.ManagedReference;
+import org.jboss.as.naming.ManagedReferenceFactory;
+import org.jboss.msc.service.Service;
+import org.jboss.msc.service.ServiceName;
+import org.jboss.msc.service.StartContext;
+import org.jboss.msc.service.StartException;
+import org.jboss.msc.service.StopContext;
+import org.wildfly.security.manager.WildFlySecurityManager;
+
+/**
+ * Class introspector creating instances through a {@link MethodHandle} of their default constructor, which is built
+ * once per class instead of going through {@link Constructor#newInstance(Object...)} for every instance.
+ * <p>
+ * This class also builds the method handles used to instantiate the components and to inject their resources
+ * when the {@code method-handle} class introspector is selected in the ee subsystem.
+ */
+public class MethodHandleClassIntrospector implements EEClassIntrospector, Service<EEClassIntrospector> {
+
+    public static final ServiceName SERVICE_NAME = ServiceName.JBOSS.append("ee", "methodHandleClassIntrospector");
+
+    private static final MethodType CONSTRUCTOR_TYPE = MethodType.methodType(Object.class);
+    private static final MethodType INJECTOR_TYPE = MethodType.methodType(void.class, Object.class, Object.class);
+
+    private final ClassValue<ManagedReferenceFactory> factories = new ClassValue<ManagedReferenceFactory>() {
+        @Override
+        protected ManagedReferenceFactory computeValue(Class<?> clazz) {
+            final Constructor<?> constructor;
+            try {
+                constructor = WildFlySecurityManager.isChecking() ? AccessController.doPrivileged((PrivilegedAction<Constructor<?>>) () -> getDeclaredConstructor(clazz)) : getDeclaredConstructor(clazz);
+            } catch (IllegalStateException e) {
+                throw new RuntimeException(e.getCause());
+            }
+            return new MethodHandleManagedReferenceFactory(createConstructor(constructor));
+        }
+    };
+
+    /**
+     * Constructs a new instance.
+     *
+     * @throws SecurityException if the security manager is present and the runtime {@code accessDeclaredMembers}
+     *                           access is not granted
+     */
+    public MethodHandleClassIntrospector() {
+        if (WildFlySecurityManager.isChecking()) {
+            SecurityManager s = System.getSecurityManager();
+            s.checkPermission(ReflectiveClassIntrospector.CHECK_MEMBER_ACCESS_PERMISSION);
+        }
+    }
+
+    @Override
+    public ManagedReferenceFactory createFactory(final Class<?> clazz) {
+        return this.factories.get(clazz);
+    }
+
+    @Override
+    public ManagedReference createInstance(Object instance) {
+        return null;
+    }
+
+    @Override
+    public ManagedReference getInstance(Object instance) {
+        return null;
+    }
+
+    @Override
+    public void start(StartContext startContext) throws StartException {
+    }
+
+    @Override
+    public void stop(StopContext stopContext) {
+    }
+
+    @Override
+    public EEClassIntrospector getValue() throws IllegalStateException, IllegalArgumentException {
+        return this;
+    }
+
+    /**
+     * Creates a method handle of type {@code ()Object} invoking the specified constructor.
+     *
+     * @param constructor a constructor without parameters
+     * @return a method handle invoking the constructor
+     */
+    static MethodHandle createConstructor(final Constructor<?> constructor) {
+        return privileged(() -> {
+            try {
+                constructor.setAccessible(true);
+                return MethodHandles.lookup().unreflectConstructor(constructor).asType(CONSTRUCTOR_TYPE);
+            } catch (IllegalAccessException e) {
+                throw new IllegalStateException(e);
+            }
+        });
+    }
+
+    /**
+     * Creates a method handle of type {@code (Object, Object)void} setting the specified field of its first argument,
+     * which is ignored for a static field, to its second argument.
+     *
+     * @param field a field
+     * @return a method handle setting the field, or null if the field cannot be set through a method handle, in which
+     *         case it must be set through reflection
+     */
+    static MethodHandle createInjector(final Field field) {
+        // final fields can only be set through reflection, and reflection also widens primitive values
+        if (Modifier.isFinal(field.getModifiers()) || field.getType().isPrimitive()) {
+            return null;
+        }
+        return privileged(() -> {
+            if (!makeAccessible(field)) {
+                return null;
+            }
+            try {
+                return adapt(MethodHandles.lookup().unreflectSetter(field), Modifier.isStatic(field.getModifiers()));
+            } catch (IllegalAccessException e) {
+                return null;
+            }
+        });
+    }
+
+    /**
+     * Creates a method handle of type {@code (Object, Object)void} invoking the specified method on its first argument,
+     * which is ignored for a static method, with its second argument.
+     *
+     * @param method a method with a single parameter
+     * @return a method handle invoking the method, or null if the method cannot be invoked through a method handle, in
+     *         which case it must be invoked through reflection
+     */
+    static MethodHandle createInjector(final Method method) {
+        // reflection also widens primitive values
+        if (method.getParameterTypes()[0].isPrimitive()) {
+            return null;
+        }
+        return privileged(() -> {
+            if (!makeAccessible(method)) {
+                return null;
+            }
+            try {
+                return adapt(MethodHandles.lookup().unreflect(method), Modifier.isStatic(method.getModifiers()));
+            } catch (IllegalAccessException e) {
+                return null;
+            }
+        });
+    }
+
+    private static MethodHandle adapt(MethodHandle handle, boolean isStatic) {
+        return (isStatic ? MethodHandles.dropArguments(handle, 0, Object.class) : handle).asType(INJECTOR_TYPE);
+    }
+
+    private static boolean makeAccessible(AccessibleObject member) {
+        try {
+            member.setAccessible(true);
+            return true;
+        } catch (RuntimeException e) {
+            // e.g. InaccessibleObjectException for a member of a class in a named module
+            return false;
+        }
+    }
+
+    private static Constructor<?> getDeclaredConstructor(Class<?> clazz) {
+        try {
+            return clazz.getDeclaredConstructor();
+        } catch (NoSuchMethodException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    private static MethodHandle privileged(PrivilegedAction<MethodHandle> action) {
+        return WildFlySecurityManager.isChecking() ? AccessController.doPrivileged(action) : action.run();
+    }
+
+    /**
+     * Invokes a method handle of type {@code ()Object}, reporting exceptions as {@link Constructor#newInstance(Object...)} does.
+     *
+     * @param constructor a method handle created by {@link #createConstructor(Constructor)}
+     * @return the new instance
+     * @throws InvocationTargetException if the constructor threw an exception
+     */
+    static Object newInstance(MethodHandle constructor) throws InvocationTargetException {
+        try {
+            return (Object) constructor.invokeExact();
+        } catch (Throwable e) {
+            throw new InvocationTargetException(e);
+        }
+    }
+
+    private static final class MethodHandleManagedReferenceFactory implements ManagedReferenceFactory {
+        private final MethodHandle constructor;
+
+        MethodHandleManagedReferenceFactory(MethodHandle constructor) {
+            this.constructor = constructor;
+        }
+
+        @Override
+        public ManagedReference getReference() {
+            try {
+                return new ImmediateManagedReference(newInstance(this.constructor));
+            } catch (InvocationTargetException e) {
+                throw new RuntimeException(e);
+            }
+        }
+    }
+}
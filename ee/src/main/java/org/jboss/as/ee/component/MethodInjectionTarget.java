@@ -38,7 +38,7 @@ public final class MethodInjectionTarget extends InjectionTarget {
     }
 
     public InterceptorFactory createInjectionInterceptorFactory(final Object targetContextKey, final Object valueContextKey, final Value<ManagedReferenceFactory> factoryValue, final DeploymentUnit deploymentUnit, final boolean optional) throws DeploymentUnitProcessingException {
-        return new ManagedReferenceMethodInjectionInterceptorFactory(targetContextKey, valueContextKey, factoryValue, getMethod(deploymentUnit), optional);
+        return new ManagedReferenceMethodInjectionInterceptorFactory(targetContextKey, valueContextKey, factoryValue, getMethod(deploymentUnit), optional, isMethodHandleInjection(deploymentUnit));
     }
 
     public Method getMethod(final DeploymentUnit deploymentUnit) throws DeploymentUnitProcessingException {
@@ -84,6 +84,20 @@ public final class ComponentInstallProcessor implements DeploymentUnitProcessor
             "ValidatorFactory"
     );
 
+    private final boolean lazyComponentStart;
+
+    public ComponentInstallProcessor() {
+        this(false);
+    }
+
+    /**
+     * @param lazyComponentStart whether the start of the components supporting it is deferred until their first invocation,
+     *                           unless their deployment configures it
+     */
+    public ComponentInstallProcessor(final boolean lazyComponentStart) {
+        this.lazyComponentStart = lazyComponentStart;
+    }
+
     public void deploy(final DeploymentPhaseContext phaseContext) throws DeploymentUnitProcessingException {
         final DeploymentUnit deploymentUnit = phaseContext.getDeploymentUnit();
         final Module module = deploymentUnit.getAttachment(MODULE);
@@ -133,7 +147,9 @@ public final class ComponentInstallProcessor implements DeploymentUnitProcessor
         final BasicComponentCreateService createService = configuration.getComponentCreateServiceFactory().constructService(configuration);
         final ServiceBuilder<Component> createBuilder = serviceTarget.addService(createServiceName, createService);
 
-        final ComponentStartService startService = new ComponentStartService();
+        // the deployment can override the setting of the subsystem for each component
+        final Boolean lazyStart = configuration.getComponentDescription().getLazyStart();
+        final ComponentStartService startService = new ComponentStartService(((lazyStart != null) ? lazyStart : lazyComponentStart) && configuration.getComponentDescription().isLazyStartApplicable());
         final ServiceBuilder<Component> startBuilder = serviceTarget.addService(startServiceName, startService);
 
         deploymentUnit.addToAttachmentList(org.jboss.as.server.deployment.Attachments.DEPLOYMENT_COMPLETE_SERVICES, startServiceName);
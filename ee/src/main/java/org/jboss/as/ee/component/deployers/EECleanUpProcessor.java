@@ -31,6 +31,8 @@ public class EECleanUpProcessor implements DeploymentUnitProcessor {
         deploymentUnit.removeAttachment(Attachments.EE_MODULE_CONFIGURATION);
         deploymentUnit.removeAttachment(Attachments.EE_MODULE_DESCRIPTION);
         deploymentUnit.removeAttachment(Attachments.MODULE_DEPLOYMENT_DESCRIPTOR_ENVIRONMENT);
+        deploymentUnit.removeAttachment(Attachments.ANNOTATION_PROCESSING_EXECUTOR);
+        deploymentUnit.removeAttachment(Attachments.DEPLOYMENT_ANALYSIS_CACHE);
     }
 
     @Override
@@ -6,9 +6,14 @@
 package org.jboss.as.ee.component.deployers;
 
 import java.util.HashMap;
+import java.util.concurrent.Executor;
+import java.util.function.Supplier;
 
 import org.jboss.as.ee.component.Attachments;
 import org.jboss.as.ee.component.EEModuleDescription;
+import org.jboss.as.ee.component.MethodHandleClassIntrospector;
+import org.jboss.as.ee.concurrent.AdaptiveConcurrencyLimit;
+import org.jboss.as.ee.structure.DeploymentAnalysisCache;
 import org.jboss.as.server.deployment.DeploymentPhaseContext;
 import org.jboss.as.server.deployment.DeploymentUnit;
 import org.jboss.as.server.deployment.DeploymentUnitProcessingException;
@@ -21,9 +26,28 @@ import org.jboss.as.server.deployment.DeploymentUnitProcessor;
 public final class EEModuleInitialProcessor implements DeploymentUnitProcessor {
 
     private final boolean appClient;
+    private final boolean methodHandleInjection;
+    private final Supplier<Executor> annotationProcessingExecutor;
+    private final DeploymentAnalysisCache analysisCache;
+    private final AdaptiveConcurrencyLimit.Configuration concurrencyLimit;
 
     public EEModuleInitialProcessor(boolean appClient) {
+        this(appClient, false, null, null, null);
+    }
+
+    /**
+     * @param appClient indicates if the process type is an app client
+     * @param methodHandleInjection indicates if components are instantiated and injected through method handles instead of reflection
+     * @param annotationProcessingExecutor supplies the executor on which annotation information is created concurrently, or null to create it serially
+     * @param analysisCache the cache in which the results of the analysis of deployments are persisted, or null to not cache them
+     * @param concurrencyLimit the configuration of the adaptive concurrency limit of the control points of deployments, or null to not limit their requests
+     */
+    public EEModuleInitialProcessor(boolean appClient, boolean methodHandleInjection, Supplier<Executor> annotationProcessingExecutor, DeploymentAnalysisCache analysisCache, AdaptiveConcurrencyLimit.Configuration concurrencyLimit) {
         this.appClient = appClient;
+        this.methodHandleInjection = methodHandleInjection;
+        this.annotationProcessingExecutor = annotationProcessingExecutor;
+        this.analysisCache = analysisCache;
+        this.concurrencyLimit = concurrencyLimit;
     }
 
     public void deploy(final DeploymentPhaseContext phaseContext) throws DeploymentUnitProcessingException {
@@ -45,7 +69,22 @@ public final class EEModuleInitialProcessor implements DeploymentUnitProcessor {
             //an appname of null means use the module name
             appName = null;
         }
-        deploymentUnit.putAttachment(Attachments.EE_MODULE_DESCRIPTION, new EEModuleDescription(appName, moduleName, earApplicationName, appClient));
+        final EEModuleDescription moduleDescription = new EEModuleDescription(appName, moduleName, earApplicationName, appClient);
+        if (methodHandleInjection) {
+            moduleDescription.setDefaultClassIntrospectorServiceName(MethodHandleClassIntrospector.SERVICE_NAME);
+            moduleDescription.setMethodHandleInjection(true);
+        }
+        deploymentUnit.putAttachment(Attachments.EE_MODULE_DESCRIPTION, moduleDescription);
+        final Executor executor = (annotationProcessingExecutor != null) ? annotationProcessingExecutor.get() : null;
+        if (executor != null) {
+            deploymentUnit.putAttachment(Attachments.ANNOTATION_PROCESSING_EXECUTOR, executor);
+        }
+        if (analysisCache != null) {
+            deploymentUnit.putAttachment(Attachments.DEPLOYMENT_ANALYSIS_CACHE, analysisCache);
+        }
+        if (concurrencyLimit != null) {
+            deploymentUnit.putAttachment(Attachments.ADAPTIVE_CONCURRENCY_LIMIT, concurrencyLimit);
+        }
         deploymentUnit.putAttachment(org.jboss.as.server.deployment.Attachments.COMPONENT_JNDI_DEPENDENCIES, new HashMap<>());
     }
 }
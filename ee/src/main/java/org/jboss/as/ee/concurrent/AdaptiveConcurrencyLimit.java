@@ -0,0 +1,191 @@
+/*
+ * Copyright The WildFly Authors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.jboss.as.ee.concurrent;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Concurrency limit of the requests of a control point, adapting to their observed latency so that the server sheds
+ * load before its queues build up, and recovers without manual tuning.
+ * <p>
+ * A request is rejected if the number of requests in flight has reached the limit. The limit is recomputed from the
+ * latency of the requests completed within each window, by comparing it to the long term latency: it shrinks, by up
+ * to half, as the latency rises above the long term latency, which is the sign of requests queueing somewhere, and
+ * otherwise grows by the square root of the limit. The limit is only recomputed if the requests in flight used at
+ * least half of it, so that a limit the load never reaches does not keep growing.
+ */
+public class AdaptiveConcurrencyLimit {
+
+    private static final long WINDOW_NANOS = TimeUnit.MILLISECONDS.toNanos(100);
+    private static final int MIN_WINDOW_SAMPLES = 10;
+    // how much the latency may exceed the long term latency before the limit shrinks
+    private static final double TOLERANCE = 1.5;
+    private static final double SMOOTHING = 0.2;
+    private static final double LONG_TERM_WEIGHT = 0.01;
+
+    private final int minLimit;
+    private final int maxLimit;
+    private final long windowNanos;
+    private final AtomicInteger inFlight = new AtomicInteger();
+    private final AtomicInteger windowMaxInFlight = new AtomicInteger();
+    private final LongAdder windowLatency = new LongAdder();
+    private final LongAdder windowSamples = new LongAdder();
+    private final LongAdder rejected = new LongAdder();
+    private final AtomicBoolean updating = new AtomicBoolean();
+
+    private volatile double limit;
+    private volatile long windowEnd;
+    // guarded by updating
+    private double longTermLatency;
+
+    /**
+     * @param initialLimit the initial limit
+     * @param minLimit the minimum limit
+     * @param maxLimit the maximum limit
+     * @throws IllegalArgumentException unless 0 &lt; minLimit &lt;= initialLimit &lt;= maxLimit
+     */
+    public AdaptiveConcurrencyLimit(int initialLimit, int minLimit, int maxLimit) {
+        this(initialLimit, minLimit, maxLimit, WINDOW_NANOS);
+    }
+
+    AdaptiveConcurrencyLimit(int initialLimit, int minLimit, int maxLimit, long windowNanos) {
+        validate(initialLimit, minLimit, maxLimit);
+        this.minLimit = minLimit;
+        this.maxLimit = maxLimit;
+        this.windowNanos = windowNanos;
+        this.limit = initialLimit;
+        this.windowEnd = System.nanoTime() + windowNanos;
+    }
+
+    private static void validate(int initialLimit, int minLimit, int maxLimit) {
+        if (minLimit < 1 || initialLimit < minLimit || maxLimit < initialLimit) {
+            throw new IllegalArgumentException(String.format("The limits must satisfy 0 < min-limit %d <= initial-limit %d <= max-limit %d", minLimit, initialLimit, maxLimit));
+        }
+    }
+
+    /**
+     * Attempts to start a request.
+     *
+     * @return true if the request can run, in which case either {@link #release(long)} or {@link #cancel()} must be
+     * called once it completes, or false if it must be rejected
+     */
+    public boolean tryAcquire() {
+        final int current = inFlight.incrementAndGet();
+        if (current > (int) limit) {
+            inFlight.decrementAndGet();
+            rejected.increment();
+            return false;
+        }
+        windowMaxInFlight.accumulateAndGet(current, Math::max);
+        return true;
+    }
+
+    /**
+     * Completes a request that ran, and records its latency.
+     *
+     * @param startNanos the {@link System#nanoTime()} at which the request was acquired
+     */
+    public void release(long startNanos) {
+        inFlight.decrementAndGet();
+        final long now = System.nanoTime();
+        windowLatency.add(now - startNanos);
+        windowSamples.increment();
+        if (now - windowEnd >= 0 && windowSamples.sum() >= MIN_WINDOW_SAMPLES && updating.compareAndSet(false, true)) {
+            try {
+                update(now);
+            } finally {
+                updating.set(false);
+            }
+        }
+    }
+
+    /**
+     * Completes a request that did not run, such as a request rejected by the control point, without recording its latency.
+     */
+    public void cancel() {
+        inFlight.decrementAndGet();
+    }
+
+    private void update(long now) {
+        final long samples = windowSamples.sumThenReset();
+        final long latency = windowLatency.sumThenReset();
+        final int maxInFlight = windowMaxInFlight.getAndSet(inFlight.get());
+        windowEnd = now + windowNanos;
+        if (samples == 0) {
+            return;
+        }
+        final double shortTermLatency = Math.max(1, (double) latency / samples);
+        if (longTermLatency == 0) {
+            longTermLatency = shortTermLatency;
+        } else {
+            longTermLatency = longTermLatency * (1 - LONG_TERM_WEIGHT) + shortTermLatency * LONG_TERM_WEIGHT;
+            if (longTermLatency > 2 * shortTermLatency) {
+                // the latency dropped well below the long term latency, which must then catch up faster
+                longTermLatency *= 0.95;
+            }
+        }
+        final double limit = this.limit;
+        if (maxInFlight < limit / 2) {
+            return;
+        }
+        final double gradient = Math.max(0.5, Math.min(1.0, TOLERANCE * longTermLatency / shortTermLatency));
+        final double newLimit = limit * gradient + Math.sqrt(limit);
+        this.limit = Math.max(minLimit, Math.min(maxLimit, limit * (1 - SMOOTHING) + newLimit * SMOOTHING));
+    }
+
+    /**
+     * @return the current limit
+     */
+    public int getLimit() {
+        return (int) limit;
+    }
+
+    /**
+     * @return the number of requests in flight
+     */
+    public int getInFlight() {
+        return inFlight.get();
+    }
+
+    /**
+     * @return the number of requests rejected by the limit
+     */
+    public long getRejected() {
+        return rejected.sum();
+    }
+
+    /**
+     * Configuration of the adaptive concurrency limits, from which each control point creates its own limit.
+     */
+    public static class Configuration {
+        private final int initialLimit;
+        private final int minLimit;
+        private final int maxLimit;
+
+        /**
+         * @param initialLimit the initial limit
+         * @param minLimit the minimum limit
+         * @param maxLimit the maximum limit
+         * @throws IllegalArgumentException unless 0 &lt; minLimit &lt;= initialLimit &lt;= maxLimit
+         */
+        public Configuration(int initialLimit, int minLimit, int maxLimit) {
+            validate(initialLimit, minLimit, maxLimit);
+            this.initialLimit = initialLimit;
+            this.minLimit = minLimit;
+            this.maxLimit = maxLimit;
+        }
+
+        /**
+         * @return a new limit
+         */
+        public AdaptiveConcurrencyLimit createLimit() {
+            return new AdaptiveConcurrencyLimit(initialLimit, minLimit, maxLimit);
+        }
+    }
+}
@@ -1224,4 +1224,22 @@ public interface EeLogger extends BasicLogger {
 
     @Message(id = 140, value="Cannot add a HTTP connection which references a null/empty URI")
     IllegalArgumentException cannotAddHTTPConnection();
+
+    @Message(id = 141, value = "Component %s failed to start on its first invocation")
+    IllegalStateException componentDeferredStartFailure(String componentName, @Cause Throwable cause);
+
+    @Message(id = 142, value = "Component %s was invoked by its own start")
+    IllegalStateException componentInvokedByItsStart(String componentName);
+
+    /**
+     * Creates an exception indicating the adaptive concurrency limits are not ordered.
+     *
+     * @param minLimit     the minimum limit
+     * @param initialLimit the initial limit
+     * @param maxLimit     the maximum limit
+     *
+     * @return an {@link OperationFailedException} for the exception
+     */
+    @Message(id = 143, value = "The adaptive concurrency limits must satisfy min-limit %d <= initial-limit %d <= max-limit %d")
+    OperationFailedException invalidAdaptiveConcurrencyLimits(int minLimit, int initialLimit, int maxLimit);
 }
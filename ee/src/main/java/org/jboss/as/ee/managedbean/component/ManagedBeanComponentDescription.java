@@ -29,4 +29,9 @@ public class ManagedBeanComponentDescription extends ComponentDescription {
     public ManagedBeanComponentDescription(final String componentName, final String componentClassName, final EEModuleDescription moduleDescription, final ServiceName deploymentUnitServiceName) {
         super(componentName, componentClassName, moduleDescription, deploymentUnitServiceName);
     }
+
+    @Override
+    public boolean isLazyStartApplicable() {
+        return true;
+    }
 }
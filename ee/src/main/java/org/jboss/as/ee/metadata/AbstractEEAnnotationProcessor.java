@@ -4,8 +4,12 @@
  */
 package org.jboss.as.ee.metadata;
 
+import java.util.ArrayList;
 import java.util.List;
 import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Executor;
 
 import org.jboss.as.ee.component.Attachments;
 import org.jboss.as.ee.component.EEModuleClassDescription;
@@ -36,8 +40,8 @@ public abstract class AbstractEEAnnotationProcessor implements DeploymentUnitPro
         }
 
         final List<ClassAnnotationInformationFactory> factories = annotationInformationFactories();
-        for (final ClassAnnotationInformationFactory factory : factories) {
-            final Map<String, ClassAnnotationInformation<?, ?>> data = factory.createAnnotationInformation(index, propertyReplacer);
+        final Executor executor = deploymentUnit.getAttachment(Attachments.ANNOTATION_PROCESSING_EXECUTOR);
+        for (final Map<String, ClassAnnotationInformation<?, ?>> data : createAnnotationInformation(factories, index, propertyReplacer, executor)) {
             for (Map.Entry<String, ClassAnnotationInformation<?, ?>> entry : data.entrySet()) {
                 EEModuleClassDescription clazz = eeModuleDescription.addOrGetLocalClassDescription(entry.getKey());
                 clazz.addAnnotationInformation(entry.getValue());
@@ -47,6 +51,56 @@ public abstract class AbstractEEAnnotationProcessor implements DeploymentUnitPro
         afterAnnotationsProcessed(phaseContext, deploymentUnit);
     }
 
+    /**
+     * Creates the annotation information of each factory. The factories only read the annotation index, so they are run
+     * concurrently if an executor is given, and their results are returned in the order of the factories in any case, so
+     * that the class descriptions are populated in the same order as when the factories are run serially.
+     *
+     * @param factories the annotation information factories
+     * @param index the annotation index of the deployment unit
+     * @param propertyReplacer the property replacer applied to the annotation values
+     * @param executor the executor running the factories, or null to run them on the calling thread
+     * @return the annotation information of each factory, in the order of the factories
+     * @throws DeploymentUnitProcessingException if the deployment processing is interrupted
+     */
+    @SuppressWarnings({ "rawtypes", "unchecked" })
+    static List<Map<String, ClassAnnotationInformation<?, ?>>> createAnnotationInformation(final List<ClassAnnotationInformationFactory> factories, final CompositeIndex index, final PropertyReplacer propertyReplacer, final Executor executor) throws DeploymentUnitProcessingException {
+        final List<Map<String, ClassAnnotationInformation<?, ?>>> result = new ArrayList<>(factories.size());
+        if (executor == null || factories.size() < 2) {
+            for (final ClassAnnotationInformationFactory factory : factories) {
+                result.add(factory.createAnnotationInformation(index, propertyReplacer));
+            }
+            return result;
+        }
+        final List<CompletableFuture<Map>> futures = new ArrayList<>(factories.size());
+        for (final ClassAnnotationInformationFactory factory : factories) {
+            futures.add(CompletableFuture.supplyAsync(() -> factory.createAnnotationInformation(index, propertyReplacer), executor));
+        }
+        try {
+            for (final CompletableFuture<Map> future : futures) {
+                result.add(future.get());
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new DeploymentUnitProcessingException(e);
+        } catch (ExecutionException e) {
+            // report the failure as if the factory had been run on the calling thread
+            final Throwable cause = e.getCause();
+            if (cause instanceof RuntimeException) {
+                throw (RuntimeException) cause;
+            }
+            if (cause instanceof Error) {
+                throw (Error) cause;
+            }
+            throw new DeploymentUnitProcessingException(cause);
+        } finally {
+            for (final CompletableFuture<Map> future : futures) {
+                future.cancel(false);
+            }
+        }
+        return result;
+    }
+
     /**
      * Method that can be overridden to do any additional processing
      * @param phaseContext The phase context
@@ -0,0 +1,272 @@
+/*
+ * Copyright The WildFly Authors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+package org.jboss.as.ee.structure;
+
+import static org.jboss.as.ee.logging.EeLogger.ROOT_LOGGER;
+
+import java.io.IOException;
+import java.io.Reader;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.NoSuchFileException;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.attribute.FileTime;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Properties;
+import java.util.Set;
+import java.util.regex.Pattern;
+import java.util.stream.Stream;
+
+import org.jboss.as.server.deployment.Attachments;
+import org.jboss.as.server.deployment.DeploymentUnit;
+import org.jboss.modules.ModuleIdentifier;
+import org.jboss.vfs.VirtualFile;
+
+/**
+ * Persistent cache of the results of the analysis of a deployment unit, stored in a directory of the server data
+ * directory so that an unchanged deployment is not analysed again when the server restarts.
+ * <p>
+ * An entry is kept per deployment unit and analysis, and is only reused if its key still matches. The key covers the
+ * hash under which the content repository stores the deployment archive, so that the archive is not read again, as well
+ * as the configuration the analysis depends on. Unmanaged deployments, which have no hash, exploded deployments, whose
+ * content can change in place, and deployment units including the annotation index of other modules, whose content is
+ * not covered by the key, are not cached.
+ * <p>
+ * The cache holds a maximum number of entries: when an entry is stored beyond this number, the least recently used
+ * entries are deleted, so that the entries of undeployed applications do not accumulate.
+ */
+public class DeploymentAnalysisCache {
+
+    static final int DEFAULT_MAX_ENTRIES = 256;
+
+    private static final String KEY = "deployment-analysis.key";
+    private static final String SEPARATOR = ",";
+    private static final String SUFFIX = ".properties";
+    // the content repository stores an archive as a file named content, in directories named after its hash
+    private static final String CONTENT = "content";
+    private static final Pattern HASH_PREFIX = Pattern.compile("[0-9a-f]{2}");
+    private static final Pattern HASH_SUFFIX = Pattern.compile("[0-9a-f]{38}");
+
+    private final Path directory;
+    private final int maxEntries;
+
+    /**
+     * @param directory the directory in which entries are stored, created on demand
+     */
+    public DeploymentAnalysisCache(Path directory) {
+        this(directory, DEFAULT_MAX_ENTRIES);
+    }
+
+    DeploymentAnalysisCache(Path directory, int maxEntries) {
+        this.directory = directory;
+        this.maxEntries = maxEntries;
+    }
+
+    /**
+     * Returns the entry of the specified analysis of a deployment unit.
+     *
+     * @param unit the deployment unit
+     * @param analysis the name of the analysis, which must be a valid file name and should change along with the format of its results
+     * @param configuration the configuration the results depend on, in addition to the content of the deployment unit
+     * @return the entry, or null if the results of the deployment unit cannot be cached
+     */
+    public Entry getEntry(DeploymentUnit unit, String analysis, String configuration) {
+        final DeploymentUnit top = (unit.getParent() == null) ? unit : unit.getParent();
+        final VirtualFile contents = top.getAttachment(Attachments.DEPLOYMENT_CONTENTS);
+        if (contents == null || !contents.isFile()) {
+            return null;
+        }
+        final List<ModuleIdentifier> additionalIndexes = unit.getAttachmentList(Attachments.ADDITIONAL_ANNOTATION_INDEXES);
+        if (!additionalIndexes.isEmpty()) {
+            return null;
+        }
+        final String contentHash = contentHash(contents);
+        if (contentHash == null) {
+            return null;
+        }
+        final String name = (unit == top) ? unit.getName() : top.getName() + "/" + unit.getName();
+        return this.getEntry(analysis, name, contentHash, configuration);
+    }
+
+    Entry getEntry(String analysis, String name, String... key) {
+        return new Entry(this, this.directory.resolve(analysis + "-" + digest(name) + SUFFIX), digest(key));
+    }
+
+    /**
+     * Returns the hash of the content of a managed deployment, read from the path of the archive in the content repository,
+     * or null if the content is not managed by the repository.
+     */
+    static String contentHash(VirtualFile contents) {
+        final VirtualFile suffix = contents.getParent();
+        final VirtualFile prefix = (suffix != null) ? suffix.getParent() : null;
+        if (prefix == null || !CONTENT.equals(contents.getName()) || !HASH_PREFIX.matcher(prefix.getName()).matches() || !HASH_SUFFIX.matcher(suffix.getName()).matches()) {
+            return null;
+        }
+        return prefix.getName() + suffix.getName();
+    }
+
+    /**
+     * Deletes the least recently used entries beyond the maximum number of entries.
+     */
+    void prune() {
+        final List<Path> entries = new ArrayList<>();
+        try (Stream<Path> files = Files.list(this.directory)) {
+            files.filter(file -> file.getFileName().toString().endsWith(SUFFIX)).forEach(entries::add);
+        } catch (IOException e) {
+            ROOT_LOGGER.debugf(e, "Failed to list deployment analysis cache entries of %s", this.directory);
+            return;
+        }
+        if (entries.size() <= this.maxEntries) {
+            return;
+        }
+        // the times are read once, as entries can be used concurrently
+        final Map<Path, FileTime> times = new HashMap<>();
+        for (Path entry : entries) {
+            times.put(entry, lastModifiedTime(entry));
+        }
+        entries.sort(Comparator.comparing(times::get));
+        for (Path entry : entries.subList(0, entries.size() - this.maxEntries)) {
+            try {
+                Files.deleteIfExists(entry);
+            } catch (IOException e) {
+                ROOT_LOGGER.debugf(e, "Failed to delete deployment analysis cache entry %s", entry);
+            }
+        }
+    }
+
+    private static FileTime lastModifiedTime(Path file) {
+        try {
+            return Files.getLastModifiedTime(file);
+        } catch (IOException e) {
+            return FileTime.fromMillis(0L);
+        }
+    }
+
+    /**
+     * Stores a set of names, such as class names, as a property.
+     */
+    public static void setNames(Properties properties, String property, Collection<String> names) {
+        properties.setProperty(property, String.join(SEPARATOR, names));
+    }
+
+    /**
+     * Reads a set of names stored by {@link #setNames(Properties, String, Collection)}.
+     */
+    public static Set<String> getNames(Properties properties, String property) {
+        final String value = properties.getProperty(property);
+        if (value == null || value.isEmpty()) {
+            return Collections.emptySet();
+        }
+        final Set<String> names = new LinkedHashSet<>();
+        Collections.addAll(names, value.split(SEPARATOR));
+        return names;
+    }
+
+    private static String digest(String... values) {
+        final MessageDigest digest = messageDigest();
+        for (String value : values) {
+            digest.update(String.valueOf(value).getBytes(StandardCharsets.UTF_8));
+            // separates the values, so that their boundaries are part of the digest
+            digest.update((byte) 0);
+        }
+        return toHex(digest.digest());
+    }
+
+    private static MessageDigest messageDigest() {
+        try {
+            return MessageDigest.getInstance("SHA-256");
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    private static String toHex(byte[] bytes) {
+        final StringBuilder builder = new StringBuilder();
+        for (byte b : bytes) {
+            builder.append(Character.forDigit((b >> 4) & 0xf, 16)).append(Character.forDigit(b & 0xf, 16));
+        }
+        return builder.toString();
+    }
+
+    /**
+     * The cached results of an analysis of a deployment unit.
+     */
+    public static class Entry {
+        private final DeploymentAnalysisCache cache;
+        private final Path file;
+        private final String key;
+
+        Entry(DeploymentAnalysisCache cache, Path file, String key) {
+            this.cache = cache;
+            this.file = file;
+            this.key = key;
+        }
+
+        /**
+         * @return the cached results, or null if there are none for the current content and configuration of the deployment unit
+         */
+        public Properties load() {
+            final Properties properties = new Properties();
+            try (Reader reader = Files.newBufferedReader(this.file, StandardCharsets.UTF_8)) {
+                properties.load(reader);
+            } catch (NoSuchFileException e) {
+                return null;
+            } catch (IOException | IllegalArgumentException e) {
+                ROOT_LOGGER.debugf(e, "Ignoring unreadable deployment analysis cache entry %s", this.file);
+                return null;
+            }
+            if (!this.key.equals(properties.remove(KEY))) {
+                return null;
+            }
+            // records the use of the entry, so that it is not pruned before the entries of undeployed applications
+            try {
+                Files.setLastModifiedTime(this.file, FileTime.fromMillis(System.currentTimeMillis()));
+            } catch (IOException e) {
+                ROOT_LOGGER.debugf(e, "Failed to touch deployment analysis cache entry %s", this.file);
+            }
+            return properties;
+        }
+
+        /**
+         * Stores the results, replacing those of a previous content or configuration of the deployment unit.
+         * Failures are ignored, as the analysis is simply performed again by the next deployment.
+         */
+        public void store(Properties results) {
+            final Properties properties = new Properties();
+            properties.putAll(results);
+            properties.setProperty(KEY, this.key);
+            Path temp = null;
+            try {
+                Files.createDirectories(this.cache.directory);
+                temp = Files.createTempFile(this.cache.directory, null, ".tmp");
+                try (Writer writer = Files.newBufferedWriter(temp, StandardCharsets.UTF_8)) {
+                    properties.store(writer, null);
+                }
+                // a concurrent reader sees either the previous or the new entry
+                Files.move(temp, this.file, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+                this.cache.prune();
+            } catch (IOException e) {
+                ROOT_LOGGER.debugf(e, "Failed to store deployment analysis cache entry %s", this.file);
+                if (temp != null) {
+                    try {
+                        Files.deleteIfExists(temp);
+                    } catch (IOException ignored) {
+                    }
+                }
+            }
+        }
+    }
+}
@@ -0,0 +1,83 @@
+/*
+ * Copyright The WildFly Authors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+package org.jboss.as.ee.subsystem;
+
+import java.util.concurrent.Executor;
+import java.util.concurrent.Executors;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
+
+import org.jboss.as.controller.OperationContext;
+import org.jboss.msc.Service;
+import org.jboss.msc.service.ServiceBuilder;
+import org.jboss.msc.service.ServiceName;
+import org.jboss.msc.service.StartContext;
+import org.jboss.msc.service.StartException;
+import org.jboss.msc.service.StopContext;
+
+/**
+ * Service providing the bounded pool on which the annotation information of a deployment unit is created concurrently,
+ * when the annotation-processing-threads attribute of the ee subsystem is greater than zero.
+ * The pool threads are released when idle, so the pool costs nothing between deployments.
+ */
+public class AnnotationProcessingExecutorService implements Service, Supplier<Executor> {
+
+    public static final ServiceName SERVICE_NAME = ServiceName.JBOSS.append("ee", "annotation-processing-executor");
+
+    private static final long KEEP_ALIVE_SECONDS = 30;
+
+    private final int threads;
+    private volatile ThreadPoolExecutor executor;
+
+    public AnnotationProcessingExecutorService(int threads) {
+        this.threads = threads;
+    }
+
+    public void install(OperationContext context) {
+        ServiceBuilder<?> serviceBuilder = context.getServiceTarget().addService(SERVICE_NAME).setInstance(this);
+        serviceBuilder.install();
+    }
+
+    @Override
+    public void start(StartContext startContext) throws StartException {
+        ThreadPoolExecutor executor = new ThreadPoolExecutor(threads, threads, KEEP_ALIVE_SECONDS, TimeUnit.SECONDS, new LinkedBlockingQueue<>(), new ThreadFactory());
+        executor.allowCoreThreadTimeOut(true);
+        this.executor = executor;
+    }
+
+    @Override
+    public void stop(StopContext stopContext) {
+        ThreadPoolExecutor executor = this.executor;
+        this.executor = null;
+        if (executor != null) {
+            executor.shutdown();
+        }
+    }
+
+    /**
+     * @return the executor of the pool, or null if the service is not started
+     */
+    @Override
+    public Executor get() {
+        return executor;
+    }
+
+    /**
+     * Wrapper of default threadfactory, just to override thread names.
+     */
+    private static class ThreadFactory implements java.util.concurrent.ThreadFactory {
+        private final java.util.concurrent.ThreadFactory threadFactory = Executors.defaultThreadFactory();
+
+        @Override
+        public Thread newThread(Runnable r) {
+            final Thread t = threadFactory.newThread(r);
+            t.setName("ee-annotation-processing-" + t.getName());
+            t.setDaemon(true);
+            return t;
+        }
+    }
+}
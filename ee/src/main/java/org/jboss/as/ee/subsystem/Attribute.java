@@ -45,7 +45,13 @@ enum Attribute {
     MANAGED_SCHEDULED_EXECUTOR_SERVICE(DefaultBindingsResourceDefinition.MANAGED_SCHEDULED_EXECUTOR_SERVICE),
     MANAGED_THREAD_FACTORY(DefaultBindingsResourceDefinition.MANAGED_THREAD_FACTORY),
     PATH(ModelDescriptionConstants.PATH),
-    RELATIVE_TO(ModelDescriptionConstants.RELATIVE_TO)
+    RELATIVE_TO(ModelDescriptionConstants.RELATIVE_TO),
+
+    // from adaptive-concurrency-limit
+    ENABLED("enabled"),
+    INITIAL_LIMIT("initial-limit"),
+    MIN_LIMIT("min-limit"),
+    MAX_LIMIT("max-limit")
     ;
 
     private final String name;
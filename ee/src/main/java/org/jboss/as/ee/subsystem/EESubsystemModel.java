@@ -18,6 +18,14 @@ public interface EESubsystemModel {
     String SPEC_DESCRIPTOR_PROPERTY_REPLACEMENT = "spec-descriptor-property-replacement";
     String JBOSS_DESCRIPTOR_PROPERTY_REPLACEMENT = "jboss-descriptor-property-replacement";
     String ANNOTATION_PROPERTY_REPLACEMENT = "annotation-property-replacement";
+    String CLASS_INTROSPECTOR = "class-introspector";
+    String ANNOTATION_PROCESSING_THREADS = "annotation-processing-threads";
+    String DEPLOYMENT_ANALYSIS_CACHE = "deployment-analysis-cache";
+    String LAZY_COMPONENT_START = "lazy-component-start";
+    String ADAPTIVE_CONCURRENCY_LIMIT_ENABLED = "adaptive-concurrency-limit-enabled";
+    String ADAPTIVE_CONCURRENCY_INITIAL_LIMIT = "adaptive-concurrency-initial-limit";
+    String ADAPTIVE_CONCURRENCY_MIN_LIMIT = "adaptive-concurrency-min-limit";
+    String ADAPTIVE_CONCURRENCY_MAX_LIMIT = "adaptive-concurrency-max-limit";
 
     String DEFAULT_BINDINGS = "default-bindings";
 
@@ -40,6 +48,7 @@ public interface EESubsystemModel {
         ModelVersion v4_0_0 = ModelVersion.create(4, 0, 0);
         ModelVersion v5_0_0 = ModelVersion.create(5, 0, 0);
         ModelVersion v6_0_0 = ModelVersion.create(6, 0, 0);
+        ModelVersion v7_0_0 = ModelVersion.create(7, 0, 0);
     }
 
 }
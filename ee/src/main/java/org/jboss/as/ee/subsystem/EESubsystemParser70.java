@@ -0,0 +1,188 @@
+/*
+ * Copyright The WildFly Authors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.jboss.as.ee.subsystem;
+
+import static org.jboss.as.controller.parsing.ParseUtils.requireNoAttributes;
+import static org.jboss.as.controller.parsing.ParseUtils.requireNoContent;
+import static org.jboss.as.controller.parsing.ParseUtils.requireNoNamespaceAttribute;
+import static org.jboss.as.controller.parsing.ParseUtils.unexpectedAttribute;
+import static org.jboss.as.controller.parsing.ParseUtils.unexpectedElement;
+
+import java.util.EnumSet;
+import java.util.List;
+
+import javax.xml.stream.XMLStreamConstants;
+import javax.xml.stream.XMLStreamException;
+
+import org.jboss.as.controller.PathAddress;
+import org.jboss.as.controller.operations.common.Util;
+import org.jboss.dmr.ModelNode;
+import org.jboss.staxmapper.XMLElementReader;
+import org.jboss.staxmapper.XMLExtendedStreamReader;
+
+/**
+ */
+class EESubsystemParser70 implements XMLStreamConstants, XMLElementReader<List<ModelNode>> {
+
+    EESubsystemParser70() {
+
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void readElement(XMLExtendedStreamReader reader, List<ModelNode> list) throws XMLStreamException {
+        // EE subsystem doesn't have any attributes, so make sure that the xml doesn't have any
+        requireNoAttributes(reader);
+        final PathAddress subsystemPathAddress = PathAddress.pathAddress(EeExtension.PATH_SUBSYSTEM);
+        final ModelNode eeSubSystem = Util.createAddOperation(subsystemPathAddress);
+        // add the subsystem to the ModelNode(s)
+        list.add(eeSubSystem);
+
+        // elements
+        final EnumSet<Element> encountered = EnumSet.noneOf(Element.class);
+        while (reader.hasNext() && reader.nextTag() != END_ELEMENT) {
+            switch (Namespace.forUri(reader.getNamespaceURI())) {
+                case EE_7_0: {
+                    final Element element = Element.forName(reader.getLocalName());
+                    if (!encountered.add(element)) {
+                        throw unexpectedElement(reader);
+                    }
+                    switch (element) {
+                        case GLOBAL_MODULES: {
+                            final ModelNode model = EESubsystemParser60.parseGlobalModules(reader);
+                            eeSubSystem.get(GlobalModulesDefinition.GLOBAL_MODULES).set(model);
+                            break;
+                        }
+                        case GLOBAL_DIRECTORIES: {
+                            EESubsystemParser60.parseGlobalDirectories(reader, list, subsystemPathAddress);
+                            break;
+                        }
+                        case EAR_SUBDEPLOYMENTS_ISOLATED: {
+                            final String earSubDeploymentsIsolated = EESubsystemParser60.parseEarSubDeploymentsIsolatedElement(reader);
+                            // set the ear subdeployment isolation on the subsystem operation
+                            EeSubsystemRootResource.EAR_SUBDEPLOYMENTS_ISOLATED.parseAndSetParameter(earSubDeploymentsIsolated, eeSubSystem, reader);
+                            break;
+                        }
+                        case SPEC_DESCRIPTOR_PROPERTY_REPLACEMENT: {
+                            final String enabled = EESubsystemParser60.parseSpecDescriptorPropertyReplacement(reader);
+                            EeSubsystemRootResource.SPEC_DESCRIPTOR_PROPERTY_REPLACEMENT.parseAndSetParameter(enabled, eeSubSystem, reader);
+                            break;
+                        }
+                        case JBOSS_DESCRIPTOR_PROPERTY_REPLACEMENT: {
+                            final String enabled = EESubsystemParser60.parseJBossDescriptorPropertyReplacement(reader);
+                            EeSubsystemRootResource.JBOSS_DESCRIPTOR_PROPERTY_REPLACEMENT.parseAndSetParameter(enabled, eeSubSystem, reader);
+                            break;
+                        }
+                        case ANNOTATION_PROPERTY_REPLACEMENT: {
+                            final String enabled = EESubsystemParser60.parseEJBAnnotationPropertyReplacement(reader);
+                            EeSubsystemRootResource.ANNOTATION_PROPERTY_REPLACEMENT.parseAndSetParameter(enabled, eeSubSystem, reader);
+                            break;
+                        }
+                        case CLASS_INTROSPECTOR: {
+                            final String classIntrospector = parseClassIntrospector(reader);
+                            EeSubsystemRootResource.CLASS_INTROSPECTOR.parseAndSetParameter(classIntrospector, eeSubSystem, reader);
+                            break;
+                        }
+                        case ANNOTATION_PROCESSING_THREADS: {
+                            final String threads = parseAnnotationProcessingThreads(reader);
+                            EeSubsystemRootResource.ANNOTATION_PROCESSING_THREADS.parseAndSetParameter(threads, eeSubSystem, reader);
+                            break;
+                        }
+                        case DEPLOYMENT_ANALYSIS_CACHE: {
+                            final String enabled = parseDeploymentAnalysisCache(reader);
+                            EeSubsystemRootResource.DEPLOYMENT_ANALYSIS_CACHE.parseAndSetParameter(enabled, eeSubSystem, reader);
+                            break;
+                        }
+                        case LAZY_COMPONENT_START: {
+                            final String enabled = parseLazyComponentStart(reader);
+                            EeSubsystemRootResource.LAZY_COMPONENT_START.parseAndSetParameter(enabled, eeSubSystem, reader);
+                            break;
+                        }
+                        case ADAPTIVE_CONCURRENCY_LIMIT: {
+                            parseAdaptiveConcurrencyLimit(reader, eeSubSystem);
+                            break;
+                        }
+                        case CONCURRENT: {
+                            EESubsystemParser60.parseConcurrent(reader, list, subsystemPathAddress);
+                            break;
+                        }
+                        case DEFAULT_BINDINGS: {
+                            EESubsystemParser60.parseDefaultBindings(reader, list, subsystemPathAddress);
+                            break;
+                        }
+                        default: {
+                            throw unexpectedElement(reader);
+                        }
+                    }
+                    break;
+                }
+                default: {
+                    throw unexpectedElement(reader);
+                }
+            }
+        }
+    }
+
+    static String parseClassIntrospector(XMLExtendedStreamReader reader) throws XMLStreamException {
+        // we don't expect any attributes for this element.
+        requireNoAttributes(reader);
+
+        final String value = reader.getElementText();
+        return value.trim();
+    }
+
+    static String parseAnnotationProcessingThreads(XMLExtendedStreamReader reader) throws XMLStreamException {
+        // we don't expect any attributes for this element.
+        requireNoAttributes(reader);
+
+        final String value = reader.getElementText();
+        return value.trim();
+    }
+
+    static String parseDeploymentAnalysisCache(XMLExtendedStreamReader reader) throws XMLStreamException {
+        // we don't expect any attributes for this element.
+        requireNoAttributes(reader);
+
+        final String value = reader.getElementText();
+        return value.trim();
+    }
+
+    static String parseLazyComponentStart(XMLExtendedStreamReader reader) throws XMLStreamException {
+        // we don't expect any attributes for this element.
+        requireNoAttributes(reader);
+
+        final String value = reader.getElementText();
+        return value.trim();
+    }
+
+    static void parseAdaptiveConcurrencyLimit(XMLExtendedStreamReader reader, ModelNode eeSubSystem) throws XMLStreamException {
+        final int count = reader.getAttributeCount();
+        for (int i = 0; i < count; i++) {
+            requireNoNamespaceAttribute(reader, i);
+            final String value = reader.getAttributeValue(i);
+            final Attribute attribute = Attribute.forName(reader.getAttributeLocalName(i));
+            switch (attribute) {
+                case ENABLED:
+                    EeSubsystemRootResource.ADAPTIVE_CONCURRENCY_LIMIT_ENABLED.parseAndSetParameter(value, eeSubSystem, reader);
+                    break;
+                case INITIAL_LIMIT:
+                    EeSubsystemRootResource.ADAPTIVE_CONCURRENCY_INITIAL_LIMIT.parseAndSetParameter(value, eeSubSystem, reader);
+                    break;
+                case MIN_LIMIT:
+                    EeSubsystemRootResource.ADAPTIVE_CONCURRENCY_MIN_LIMIT.parseAndSetParameter(value, eeSubSystem, reader);
+                    break;
+                case MAX_LIMIT:
+                    EeSubsystemRootResource.ADAPTIVE_CONCURRENCY_MAX_LIMIT.parseAndSetParameter(value, eeSubSystem, reader);
+                    break;
+                default:
+                    throw unexpectedAttribute(reader, i);
+            }
+        }
+        requireNoContent(reader);
+    }
+}
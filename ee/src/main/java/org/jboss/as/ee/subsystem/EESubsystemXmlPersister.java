@@ -39,11 +39,30 @@ class EESubsystemXmlPersister implements XMLStreamConstants, XMLElementWriter<Su
         EeSubsystemRootResource.SPEC_DESCRIPTOR_PROPERTY_REPLACEMENT.marshallAsElement(eeSubSystem, writer);
         EeSubsystemRootResource.JBOSS_DESCRIPTOR_PROPERTY_REPLACEMENT.marshallAsElement(eeSubSystem, writer);
         EeSubsystemRootResource.ANNOTATION_PROPERTY_REPLACEMENT.marshallAsElement(eeSubSystem, writer);
+        EeSubsystemRootResource.CLASS_INTROSPECTOR.marshallAsElement(eeSubSystem, writer);
+        EeSubsystemRootResource.ANNOTATION_PROCESSING_THREADS.marshallAsElement(eeSubSystem, writer);
+        EeSubsystemRootResource.DEPLOYMENT_ANALYSIS_CACHE.marshallAsElement(eeSubSystem, writer);
+        EeSubsystemRootResource.LAZY_COMPONENT_START.marshallAsElement(eeSubSystem, writer);
+        writeAdaptiveConcurrencyLimitElement(writer, eeSubSystem);
         writeConcurrentElement(writer,eeSubSystem);
         writeDefaultBindingsElement(writer,eeSubSystem);
         writer.writeEndElement();
     }
 
+    private void writeAdaptiveConcurrencyLimitElement(XMLExtendedStreamWriter writer, ModelNode eeSubSystem) throws XMLStreamException {
+        boolean defined = false;
+        for (SimpleAttributeDefinition ad : EeSubsystemRootResource.ADAPTIVE_CONCURRENCY_LIMIT_ATTRIBUTES) {
+            defined |= eeSubSystem.hasDefined(ad.getName());
+        }
+        if (defined) {
+            writer.writeStartElement(Element.ADAPTIVE_CONCURRENCY_LIMIT.getLocalName());
+            for (SimpleAttributeDefinition ad : EeSubsystemRootResource.ADAPTIVE_CONCURRENCY_LIMIT_ATTRIBUTES) {
+                ad.marshallAsAttribute(eeSubSystem, writer);
+            }
+            writer.writeEndElement();
+        }
+    }
+
     private void writeConcurrentElement(XMLExtendedStreamWriter writer, ModelNode eeSubSystem) throws XMLStreamException {
         boolean started = false;
         if (eeSubSystem.hasDefined(EESubsystemModel.CONTEXT_SERVICE)) {
@@ -8,6 +8,8 @@ package org.jboss.as.ee.subsystem;
 import static org.jboss.as.ee.subsystem.EeCapabilities.ELYTRON_JACC_CAPABILITY;
 import static org.jboss.as.ee.logging.EeLogger.ROOT_LOGGER;
 
+import java.nio.file.Paths;
+
 import org.jboss.as.controller.AbstractBoottimeAddStepHandler;
 import org.jboss.as.controller.AttributeDefinition;
 import org.jboss.as.controller.OperationContext;
@@ -15,6 +17,7 @@ import org.jboss.as.controller.OperationFailedException;
 import org.jboss.as.controller.ProcessType;
 import org.jboss.as.controller.capability.CapabilityServiceSupport;
 import org.jboss.as.controller.registry.Resource;
+import org.jboss.as.ee.component.MethodHandleClassIntrospector;
 import org.jboss.as.ee.component.ReflectiveClassIntrospector;
 import org.jboss.as.ee.component.deployers.ApplicationClassesAggregationProcessor;
 import org.jboss.as.ee.component.deployers.AroundInvokeAnnotationParsingProcessor;
@@ -37,6 +40,7 @@ import org.jboss.as.ee.component.deployers.ModuleJndiBindingProcessor;
 import org.jboss.as.ee.component.deployers.ResourceInjectionAnnotationParsingProcessor;
 import org.jboss.as.ee.component.deployers.ResourceReferenceProcessor;
 import org.jboss.as.ee.component.deployers.ResourceReferenceRegistrySetupProcessor;
+import org.jboss.as.ee.concurrent.AdaptiveConcurrencyLimit;
 import org.jboss.as.ee.concurrent.deployers.EEConcurrentContextProcessor;
 import org.jboss.as.ee.concurrent.deployers.EEConcurrentDefaultBindingProcessor;
 import org.jboss.as.ee.concurrent.resource.definition.ContextServiceDefinitionAnnotationProcessor;
@@ -63,6 +67,7 @@ import org.jboss.as.ee.structure.AnnotationPropertyReplacementProcessor;
 import org.jboss.as.ee.structure.AppJBossAllParser;
 import org.jboss.as.ee.structure.ApplicationClientDeploymentProcessor;
 import org.jboss.as.ee.structure.ComponentAggregationProcessor;
+import org.jboss.as.ee.structure.DeploymentAnalysisCache;
 import org.jboss.as.ee.structure.DescriptorPropertyReplacementProcessor;
 import org.jboss.as.ee.structure.EJBClientDescriptorParsingProcessor;
 import org.jboss.as.ee.structure.EarDependencyProcessor;
@@ -76,10 +81,12 @@ import org.jboss.as.ee.structure.InitializeInOrderProcessor;
 import org.jboss.as.naming.management.JndiViewExtensionRegistry;
 import org.jboss.as.server.AbstractDeploymentChainStep;
 import org.jboss.as.server.DeploymentProcessorTarget;
+import org.jboss.as.server.ServerEnvironment;
 import org.jboss.as.server.deployment.Phase;
 import org.jboss.as.server.deployment.jbossallxml.JBossAllXmlParserRegisteringProcessor;
 import org.jboss.dmr.ModelNode;
 import org.jboss.metadata.ear.jboss.JBossAppMetaData;
+import org.wildfly.security.manager.WildFlySecurityManager;
 
 /**
  * Handler for adding the ee subsystem.
@@ -111,6 +118,13 @@ public class EeSubsystemAdd extends AbstractBoottimeAddStepHandler {
         this.directoryDependencyProcessor = directoryDependencyProcessor;
     }
 
+    @Override
+    protected void populateModel(final OperationContext context, final ModelNode operation, final Resource resource) throws OperationFailedException {
+        // Add a new step to validate the adaptive concurrency limits
+        context.addStep(EeSubsystemRootResource.AdaptiveConcurrencyLimitValidationStepHandler.MODEL_VALIDATION_INSTANCE, OperationContext.Stage.MODEL);
+        super.populateModel(context, operation, resource);
+    }
+
     protected void populateModel(ModelNode operation, ModelNode model) throws OperationFailedException {
 
         for (AttributeDefinition ad : EeSubsystemRootResource.ATTRIBUTES) {
@@ -134,6 +148,23 @@ public class EeSubsystemAdd extends AbstractBoottimeAddStepHandler {
         final boolean specDescriptorPropertyReplacement = EeSubsystemRootResource.SPEC_DESCRIPTOR_PROPERTY_REPLACEMENT.resolveModelAttribute(context, model).asBoolean();
         final boolean jbossDescriptorPropertyReplacement = EeSubsystemRootResource.JBOSS_DESCRIPTOR_PROPERTY_REPLACEMENT.resolveModelAttribute(context, model).asBoolean();
         final boolean ejbAnnotationPropertyReplacement = EeSubsystemRootResource.ANNOTATION_PROPERTY_REPLACEMENT.resolveModelAttribute(context, model).asBoolean();
+        final boolean methodHandleInjection = EeSubsystemRootResource.METHOD_HANDLE.equals(EeSubsystemRootResource.CLASS_INTROSPECTOR.resolveModelAttribute(context, model).asString());
+        final int annotationProcessingThreads = EeSubsystemRootResource.ANNOTATION_PROCESSING_THREADS.resolveModelAttribute(context, model).asInt();
+        // the annotation information of a deployment unit is created concurrently on a bounded pool, if enabled
+        final AnnotationProcessingExecutorService annotationProcessingExecutor = (annotationProcessingThreads > 0) ? new AnnotationProcessingExecutorService(annotationProcessingThreads) : null;
+        if (annotationProcessingExecutor != null) {
+            annotationProcessingExecutor.install(context);
+        }
+        // the results of the analysis of deployments are persisted in the server data directory, if enabled
+        final String dataDir = WildFlySecurityManager.getPropertyPrivileged(ServerEnvironment.SERVER_DATA_DIR, null);
+        final DeploymentAnalysisCache analysisCache = (dataDir != null && EeSubsystemRootResource.DEPLOYMENT_ANALYSIS_CACHE.resolveModelAttribute(context, model).asBoolean()) ? new DeploymentAnalysisCache(Paths.get(dataDir, "deployment-analysis")) : null;
+        final boolean lazyComponentStart = EeSubsystemRootResource.LAZY_COMPONENT_START.resolveModelAttribute(context, model).asBoolean();
+        // the control points of deployments limit their requests adaptively, if enabled
+        final AdaptiveConcurrencyLimit.Configuration concurrencyLimit = EeSubsystemRootResource.ADAPTIVE_CONCURRENCY_LIMIT_ENABLED.resolveModelAttribute(context, model).asBoolean()
+                ? new AdaptiveConcurrencyLimit.Configuration(EeSubsystemRootResource.ADAPTIVE_CONCURRENCY_INITIAL_LIMIT.resolveModelAttribute(context, model).asInt(),
+                        EeSubsystemRootResource.ADAPTIVE_CONCURRENCY_MIN_LIMIT.resolveModelAttribute(context, model).asInt(),
+                        EeSubsystemRootResource.ADAPTIVE_CONCURRENCY_MAX_LIMIT.resolveModelAttribute(context, model).asInt())
+                : null;
 
         moduleDependencyProcessor.setGlobalModules(GlobalModulesDefinition.createModuleList(context, globalModules));
         isolationProcessor.setEarSubDeploymentsIsolated(earSubDeploymentsIsolated);
@@ -165,7 +196,7 @@ public class EeSubsystemAdd extends AbstractBoottimeAddStepHandler {
                 processorTarget.addDeploymentProcessor(EeExtension.SUBSYSTEM_NAME, Phase.STRUCTURE, Phase.STRUCTURE_APPLICATION_CLIENT_IN_EAR, new ApplicationClientDeploymentProcessor());
                 processorTarget.addDeploymentProcessor(EeExtension.SUBSYSTEM_NAME, Phase.STRUCTURE, Phase.STRUCTURE_MANAGED_BEAN_JAR_IN_EAR, new ManagedBeanSubDeploymentMarkingProcessor());
                 processorTarget.addDeploymentProcessor(EeExtension.SUBSYSTEM_NAME, Phase.STRUCTURE, Phase.STRUCTURE_EAR_SUB_DEPLYOMENTS_ISOLATED, isolationProcessor);
-                processorTarget.addDeploymentProcessor(EeExtension.SUBSYSTEM_NAME, Phase.STRUCTURE, Phase.STRUCTURE_EE_MODULE_INIT, new EEModuleInitialProcessor(context.getProcessType() == ProcessType.APPLICATION_CLIENT));
+                processorTarget.addDeploymentProcessor(EeExtension.SUBSYSTEM_NAME, Phase.STRUCTURE, Phase.STRUCTURE_EE_MODULE_INIT, new EEModuleInitialProcessor(context.getProcessType() == ProcessType.APPLICATION_CLIENT, methodHandleInjection, annotationProcessingExecutor, analysisCache, concurrencyLimit));
                 processorTarget.addDeploymentProcessor(EeExtension.SUBSYSTEM_NAME, Phase.STRUCTURE, Phase.STRUCTURE_EE_RESOURCE_INJECTION_REGISTRY, new ResourceReferenceRegistrySetupProcessor());
                 processorTarget.addDeploymentProcessor(EeExtension.SUBSYSTEM_NAME, Phase.STRUCTURE, Phase.STRUCTURE_GLOBAL_MODULES, moduleDependencyProcessor);
                 processorTarget.addDeploymentProcessor(EeExtension.SUBSYSTEM_NAME, Phase.STRUCTURE, Phase.STRUCTURE_GLOBAL_DIRECTORIES, directoryDependencyProcessor);
@@ -215,7 +246,7 @@ public class EeSubsystemAdd extends AbstractBoottimeAddStepHandler {
 
                 processorTarget.addDeploymentProcessor(EeExtension.SUBSYSTEM_NAME, Phase.INSTALL, Phase.INSTALL_MODULE_JNDI_BINDINGS, new ModuleJndiBindingProcessor(appclient));
                 processorTarget.addDeploymentProcessor(EeExtension.SUBSYSTEM_NAME, Phase.INSTALL, Phase.INSTALL_EE_MODULE_CONFIG, new EEModuleConfigurationProcessor());
-                processorTarget.addDeploymentProcessor(EeExtension.SUBSYSTEM_NAME, Phase.INSTALL, Phase.INSTALL_EE_COMPONENT, new ComponentInstallProcessor());
+                processorTarget.addDeploymentProcessor(EeExtension.SUBSYSTEM_NAME, Phase.INSTALL, Phase.INSTALL_EE_COMPONENT, new ComponentInstallProcessor(lazyComponentStart));
 
                 processorTarget.addDeploymentProcessor(EeExtension.SUBSYSTEM_NAME, Phase.CLEANUP, Phase.CLEANUP_EE, new EECleanUpProcessor());
 
@@ -223,6 +254,7 @@ public class EeSubsystemAdd extends AbstractBoottimeAddStepHandler {
         }, OperationContext.Stage.RUNTIME);
 
         context.getServiceTarget().addService(ReflectiveClassIntrospector.SERVICE_NAME, new ReflectiveClassIntrospector()).install();
+        context.getServiceTarget().addService(MethodHandleClassIntrospector.SERVICE_NAME, new MethodHandleClassIntrospector()).install();
 
         // installs the service which manages managed executor's hung task periodic termination
         new ManagedExecutorHungTasksPeriodicTerminationService().install(context);
@@ -5,13 +5,24 @@
 package org.jboss.as.ee.subsystem;
 
 import org.jboss.as.controller.AttributeDefinition;
+import org.jboss.as.controller.ExpressionResolver;
+import org.jboss.as.controller.OperationContext;
+import org.jboss.as.controller.OperationFailedException;
+import org.jboss.as.controller.OperationStepHandler;
+import org.jboss.as.controller.PathAddress;
 import org.jboss.as.controller.ReloadRequiredRemoveStepHandler;
+import org.jboss.as.controller.ReloadRequiredWriteAttributeHandler;
 import org.jboss.as.controller.SimpleAttributeDefinition;
 import org.jboss.as.controller.SimpleAttributeDefinitionBuilder;
 import org.jboss.as.controller.SimpleResourceDefinition;
+import org.jboss.as.controller.operations.validation.IntRangeValidator;
+import org.jboss.as.controller.operations.validation.StringAllowedValuesValidator;
+import org.jboss.as.controller.registry.AttributeAccess;
 import org.jboss.as.controller.registry.ManagementResourceRegistration;
+import org.jboss.as.controller.registry.Resource;
 import org.jboss.as.controller.registry.RuntimePackageDependency;
 import org.jboss.as.ee.component.deployers.DefaultEarSubDeploymentsIsolationProcessor;
+import org.jboss.as.ee.logging.EeLogger;
 import org.jboss.as.ee.structure.AnnotationPropertyReplacementProcessor;
 import org.jboss.as.ee.structure.Attachments;
 import org.jboss.as.ee.structure.DescriptorPropertyReplacementProcessor;
@@ -56,9 +67,86 @@ public class EeSubsystemRootResource extends SimpleResourceDefinition {
                     .setDefaultValue(ModelNode.FALSE)
                     .build();
 
-    static final AttributeDefinition[] ATTRIBUTES = {GlobalModulesDefinition.INSTANCE, EAR_SUBDEPLOYMENTS_ISOLATED,
+    public static final String REFLECTION = "reflection";
+    public static final String METHOD_HANDLE = "method-handle";
+
+    public static final SimpleAttributeDefinition CLASS_INTROSPECTOR =
+            new SimpleAttributeDefinitionBuilder(EESubsystemModel.CLASS_INTROSPECTOR, ModelType.STRING, true)
+                    .setAllowExpression(true)
+                    .setDefaultValue(new ModelNode(REFLECTION))
+                    .setValidator(new StringAllowedValuesValidator(REFLECTION, METHOD_HANDLE))
+                    .setFlags(AttributeAccess.Flag.RESTART_ALL_SERVICES)
+                    .build();
+
+    public static final SimpleAttributeDefinition ANNOTATION_PROCESSING_THREADS =
+            new SimpleAttributeDefinitionBuilder(EESubsystemModel.ANNOTATION_PROCESSING_THREADS, ModelType.INT, true)
+                    .setAllowExpression(true)
+                    .setDefaultValue(ModelNode.ZERO)
+                    .setValidator(new IntRangeValidator(0, Integer.MAX_VALUE, true, true))
+                    .setFlags(AttributeAccess.Flag.RESTART_ALL_SERVICES)
+                    .build();
+
+    public static final SimpleAttributeDefinition DEPLOYMENT_ANALYSIS_CACHE =
+            new SimpleAttributeDefinitionBuilder(EESubsystemModel.DEPLOYMENT_ANALYSIS_CACHE, ModelType.BOOLEAN, true)
+                    .setAllowExpression(true)
+                    .setDefaultValue(ModelNode.FALSE)
+                    .setFlags(AttributeAccess.Flag.RESTART_ALL_SERVICES)
+                    .build();
+
+    public static final SimpleAttributeDefinition LAZY_COMPONENT_START =
+            new SimpleAttributeDefinitionBuilder(EESubsystemModel.LAZY_COMPONENT_START, ModelType.BOOLEAN, true)
+                    .setAllowExpression(true)
+                    .setDefaultValue(ModelNode.FALSE)
+                    .setFlags(AttributeAccess.Flag.RESTART_ALL_SERVICES)
+                    .build();
+
+    public static final SimpleAttributeDefinition ADAPTIVE_CONCURRENCY_LIMIT_ENABLED =
+            new SimpleAttributeDefinitionBuilder(EESubsystemModel.ADAPTIVE_CONCURRENCY_LIMIT_ENABLED, ModelType.BOOLEAN, true)
+                    .setXmlName(Attribute.ENABLED.getLocalName())
+                    .setAllowExpression(true)
+                    .setDefaultValue(ModelNode.FALSE)
+                    .setFlags(AttributeAccess.Flag.RESTART_ALL_SERVICES)
+                    .build();
+
+    public static final SimpleAttributeDefinition ADAPTIVE_CONCURRENCY_INITIAL_LIMIT =
+            new SimpleAttributeDefinitionBuilder(EESubsystemModel.ADAPTIVE_CONCURRENCY_INITIAL_LIMIT, ModelType.INT, true)
+                    .setXmlName(Attribute.INITIAL_LIMIT.getLocalName())
+                    .setAllowExpression(true)
+                    .setDefaultValue(new ModelNode(100))
+                    .setValidator(new IntRangeValidator(1, Integer.MAX_VALUE, true, true))
+                    .setFlags(AttributeAccess.Flag.RESTART_ALL_SERVICES)
+                    .build();
+
+    public static final SimpleAttributeDefinition ADAPTIVE_CONCURRENCY_MIN_LIMIT =
+            new SimpleAttributeDefinitionBuilder(EESubsystemModel.ADAPTIVE_CONCURRENCY_MIN_LIMIT, ModelType.INT, true)
+                    .setXmlName(Attribute.MIN_LIMIT.getLocalName())
+                    .setAllowExpression(true)
+                    .setDefaultValue(new ModelNode(10))
+                    .setValidator(new IntRangeValidator(1, Integer.MAX_VALUE, true, true))
+                    .setFlags(AttributeAccess.Flag.RESTART_ALL_SERVICES)
+                    .build();
+
+    public static final SimpleAttributeDefinition ADAPTIVE_CONCURRENCY_MAX_LIMIT =
+            new SimpleAttributeDefinitionBuilder(EESubsystemModel.ADAPTIVE_CONCURRENCY_MAX_LIMIT, ModelType.INT, true)
+                    .setXmlName(Attribute.MAX_LIMIT.getLocalName())
+                    .setAllowExpression(true)
+                    .setDefaultValue(new ModelNode(1000))
+                    .setValidator(new IntRangeValidator(1, Integer.MAX_VALUE, true, true))
+                    .setFlags(AttributeAccess.Flag.RESTART_ALL_SERVICES)
+                    .build();
+
+    static final SimpleAttributeDefinition[] ADAPTIVE_CONCURRENCY_LIMIT_ATTRIBUTES = {ADAPTIVE_CONCURRENCY_LIMIT_ENABLED,
+            ADAPTIVE_CONCURRENCY_INITIAL_LIMIT, ADAPTIVE_CONCURRENCY_MIN_LIMIT, ADAPTIVE_CONCURRENCY_MAX_LIMIT};
+
+    // attributes applied to the subsystem's DUPs by the EeWriteAttributeHandler
+    static final AttributeDefinition[] DEPLOYMENT_PROCESSOR_ATTRIBUTES = {GlobalModulesDefinition.INSTANCE, EAR_SUBDEPLOYMENTS_ISOLATED,
             SPEC_DESCRIPTOR_PROPERTY_REPLACEMENT, JBOSS_DESCRIPTOR_PROPERTY_REPLACEMENT, ANNOTATION_PROPERTY_REPLACEMENT};
 
+    static final AttributeDefinition[] ATTRIBUTES = {GlobalModulesDefinition.INSTANCE, EAR_SUBDEPLOYMENTS_ISOLATED,
+            SPEC_DESCRIPTOR_PROPERTY_REPLACEMENT, JBOSS_DESCRIPTOR_PROPERTY_REPLACEMENT, ANNOTATION_PROPERTY_REPLACEMENT, CLASS_INTROSPECTOR,
+            ANNOTATION_PROCESSING_THREADS, DEPLOYMENT_ANALYSIS_CACHE, LAZY_COMPONENT_START, ADAPTIVE_CONCURRENCY_LIMIT_ENABLED,
+            ADAPTIVE_CONCURRENCY_INITIAL_LIMIT, ADAPTIVE_CONCURRENCY_MIN_LIMIT, ADAPTIVE_CONCURRENCY_MAX_LIMIT};
+
     // Our different operation handlers manipulate the state of the subsystem's DUPs, so they need to share a ref
     private final DefaultEarSubDeploymentsIsolationProcessor isolationProcessor = new DefaultEarSubDeploymentsIsolationProcessor();
     private final GlobalModuleDependencyProcessor moduleDependencyProcessor = new GlobalModuleDependencyProcessor();
@@ -92,6 +180,64 @@ public class EeSubsystemRootResource extends SimpleResourceDefinition {
         EeWriteAttributeHandler writeHandler = new EeWriteAttributeHandler(isolationProcessor, moduleDependencyProcessor,
                 specDescriptorPropertyReplacementProcessor, jbossDescriptorPropertyReplacementProcessor, annotationPropertyReplacementProcessor);
         writeHandler.registerAttributes(rootResourceRegistration);
+        // the class introspector, the annotation processing pool, the analysis cache and the lazy start of components are set up when the subsystem installs its deployment processors
+        final ReloadRequiredWriteAttributeHandler reloadRequiredWriteHandler = new ReloadRequiredWriteAttributeHandler(CLASS_INTROSPECTOR, ANNOTATION_PROCESSING_THREADS, DEPLOYMENT_ANALYSIS_CACHE, LAZY_COMPONENT_START);
+        rootResourceRegistration.registerReadWriteAttribute(CLASS_INTROSPECTOR, null, reloadRequiredWriteHandler);
+        rootResourceRegistration.registerReadWriteAttribute(ANNOTATION_PROCESSING_THREADS, null, reloadRequiredWriteHandler);
+        rootResourceRegistration.registerReadWriteAttribute(DEPLOYMENT_ANALYSIS_CACHE, null, reloadRequiredWriteHandler);
+        rootResourceRegistration.registerReadWriteAttribute(LAZY_COMPONENT_START, null, reloadRequiredWriteHandler);
+        // the adaptive concurrency limits are attached to deployments by the EEModuleInitialProcessor
+        final ReloadRequiredWriteAttributeHandler limitWriteHandler = new AdaptiveConcurrencyLimitWriteHandler();
+        for (SimpleAttributeDefinition attribute : ADAPTIVE_CONCURRENCY_LIMIT_ATTRIBUTES) {
+            rootResourceRegistration.registerReadWriteAttribute(attribute, null, limitWriteHandler);
+        }
+    }
+
+    static class AdaptiveConcurrencyLimitWriteHandler extends ReloadRequiredWriteAttributeHandler {
+
+        AdaptiveConcurrencyLimitWriteHandler() {
+            super(ADAPTIVE_CONCURRENCY_LIMIT_ATTRIBUTES);
+        }
+
+        @Override
+        protected void validateUpdatedModel(final OperationContext context, final Resource model) throws OperationFailedException {
+            context.addStep(AdaptiveConcurrencyLimitValidationStepHandler.MODEL_VALIDATION_INSTANCE, OperationContext.Stage.MODEL);
+            super.validateUpdatedModel(context, model);
+        }
+    }
+
+    /**
+     * Validates that 0 &lt; min-limit &lt;= initial-limit &lt;= max-limit, once the values are resolved if any is an expression.
+     */
+    static class AdaptiveConcurrencyLimitValidationStepHandler implements OperationStepHandler {
+        static final AdaptiveConcurrencyLimitValidationStepHandler MODEL_VALIDATION_INSTANCE = new AdaptiveConcurrencyLimitValidationStepHandler(false);
+        private final boolean isRuntimeStage;
+
+        private AdaptiveConcurrencyLimitValidationStepHandler(final boolean isRuntimeStage) {
+            this.isRuntimeStage = isRuntimeStage;
+        }
+
+        @Override
+        public void execute(final OperationContext context, final ModelNode operation) throws OperationFailedException {
+            final ModelNode model = context.readResource(PathAddress.EMPTY_ADDRESS).getModel();
+
+            if (!isRuntimeStage) {
+                for (SimpleAttributeDefinition attribute : ADAPTIVE_CONCURRENCY_LIMIT_ATTRIBUTES) {
+                    if (model.get(attribute.getName()).getType() == ModelType.EXPRESSION) {
+                        context.addStep(new AdaptiveConcurrencyLimitValidationStepHandler(true), OperationContext.Stage.RUNTIME, true);
+                        return;
+                    }
+                }
+            }
+
+            final ExpressionResolver resolver = isRuntimeStage ? context : ExpressionResolver.SIMPLE;
+            final int initialLimit = ADAPTIVE_CONCURRENCY_INITIAL_LIMIT.resolveModelAttribute(resolver, model).asInt();
+            final int minLimit = ADAPTIVE_CONCURRENCY_MIN_LIMIT.resolveModelAttribute(resolver, model).asInt();
+            final int maxLimit = ADAPTIVE_CONCURRENCY_MAX_LIMIT.resolveModelAttribute(resolver, model).asInt();
+            if (initialLimit < minLimit || maxLimit < initialLimit) {
+                throw EeLogger.ROOT_LOGGER.invalidAdaptiveConcurrencyLimits(minLimit, initialLimit, maxLimit);
+            }
+        }
     }
 
     protected static EeSubsystemRootResource create(){
@@ -34,7 +34,7 @@ public class EeWriteAttributeHandler extends AbstractWriteAttributeHandler<Void>
                                    final DescriptorPropertyReplacementProcessor specDescriptorPropertyReplacementProcessor,
                                    final DescriptorPropertyReplacementProcessor jbossDescriptorPropertyReplacementProcessor,
                                    final AnnotationPropertyReplacementProcessor annotationPropertyReplacementProcessor) {
-        super(EeSubsystemRootResource.ATTRIBUTES);
+        super(EeSubsystemRootResource.DEPLOYMENT_PROCESSOR_ATTRIBUTES);
         this.isolationProcessor = isolationProcessor;
         this.moduleDependencyProcessor = moduleDependencyProcessor;
         this.specDescriptorPropertyReplacementProcessor = specDescriptorPropertyReplacementProcessor;
@@ -43,7 +43,7 @@ public class EeWriteAttributeHandler extends AbstractWriteAttributeHandler<Void>
     }
 
     public void registerAttributes(final ManagementResourceRegistration registry) {
-        for (AttributeDefinition ad : EeSubsystemRootResource.ATTRIBUTES) {
+        for (AttributeDefinition ad : EeSubsystemRootResource.DEPLOYMENT_PROCESSOR_ATTRIBUTES) {
             registry.registerReadWriteAttribute(ad, null, this);
         }
     }
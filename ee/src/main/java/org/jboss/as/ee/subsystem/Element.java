@@ -25,6 +25,16 @@ enum Element {
 
     ANNOTATION_PROPERTY_REPLACEMENT(EeSubsystemRootResource.ANNOTATION_PROPERTY_REPLACEMENT.getXmlName()),
 
+    CLASS_INTROSPECTOR(EeSubsystemRootResource.CLASS_INTROSPECTOR.getXmlName()),
+
+    ANNOTATION_PROCESSING_THREADS(EeSubsystemRootResource.ANNOTATION_PROCESSING_THREADS.getXmlName()),
+
+    DEPLOYMENT_ANALYSIS_CACHE(EeSubsystemRootResource.DEPLOYMENT_ANALYSIS_CACHE.getXmlName()),
+
+    LAZY_COMPONENT_START(EeSubsystemRootResource.LAZY_COMPONENT_START.getXmlName()),
+
+    ADAPTIVE_CONCURRENCY_LIMIT("adaptive-concurrency-limit"),
+
     CONCURRENT("concurrent"),
     CONTEXT_SERVICES("context-services"),
     CONTEXT_SERVICE("context-service"),
@@ -0,0 +1,219 @@
+/*
+ * Copyright The WildFly Authors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+package org.jboss.as.ee.component;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
+
+import org.jboss.as.server.deployment.reflect.DeploymentReflectionIndex;
+import org.jboss.msc.service.ServiceName;
+import org.junit.After;
+import org.junit.Assert;
+import org.junit.Test;
+
+/**
+ * Unit test for the start of a {@link BasicComponent} deferred until its first invocation.
+ */
+public class BasicComponentTestCase {
+
+    private final ExecutorService executor = Executors.newCachedThreadPool();
+    private final AtomicInteger starts = new AtomicInteger();
+
+    @After
+    public void tearDown() {
+        this.executor.shutdownNow();
+    }
+
+    @Test
+    public void concurrentFirstInvocations() throws Exception {
+        CountDownLatch starting = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        BasicComponent component = this.component(() -> {
+            starting.countDown();
+            await(release);
+        });
+        component.deferStart();
+
+        List<Future<?>> invocations = new ArrayList<>();
+        for (int i = 0; i < 4; ++i) {
+            invocations.add(this.executor.submit(component::waitForComponentStart));
+        }
+        Assert.assertTrue(starting.await(10, TimeUnit.SECONDS));
+        // the component is started without holding its monitor
+        Assert.assertTrue(this.executor.submit(() -> {
+            synchronized (component) {
+                return component.isStartDeferred();
+            }
+        }).get(10, TimeUnit.SECONDS));
+
+        release.countDown();
+        for (Future<?> invocation : invocations) {
+            invocation.get(10, TimeUnit.SECONDS);
+        }
+        // only the first invocation starts the component
+        Assert.assertEquals(1, this.starts.get());
+        Assert.assertFalse(component.isStartDeferred());
+        // the started component is stopped with its service
+        Assert.assertFalse(component.cancelDeferredStart());
+    }
+
+    @Test
+    public void startFailure() throws Exception {
+        CountDownLatch starting = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        RuntimeException failure = new RuntimeException("start failed");
+        BasicComponent component = this.component(() -> {
+            if (this.starts.get() == 1) {
+                starting.countDown();
+                await(release);
+                throw failure;
+            }
+        });
+        component.deferStart();
+
+        Future<?> first = this.executor.submit(component::waitForComponentStart);
+        Assert.assertTrue(starting.await(10, TimeUnit.SECONDS));
+        AtomicReference<Thread> waitingThread = new AtomicReference<>();
+        Future<?> waiting = this.executor.submit(() -> {
+            waitingThread.set(Thread.currentThread());
+            component.waitForComponentStart();
+        });
+        awaitWaiting(waitingThread);
+        release.countDown();
+
+        // both the invocation starting the component and the one waiting for it fail with the cause of the failure
+        assertStartFailure(first, failure);
+        assertStartFailure(waiting, failure);
+        Assert.assertTrue(component.isStartDeferred());
+
+        // the next invocation starts the component again
+        component.waitForComponentStart();
+        Assert.assertEquals(2, this.starts.get());
+        Assert.assertFalse(component.isStartDeferred());
+    }
+
+    @Test
+    public void invocationByItsStart() {
+        AtomicReference<BasicComponent> reference = new AtomicReference<>();
+        AtomicReference<RuntimeException> invocationFailure = new AtomicReference<>();
+        BasicComponent component = this.component(() -> {
+            try {
+                reference.get().waitForComponentStart();
+            } catch (RuntimeException e) {
+                invocationFailure.set(e);
+            }
+        });
+        reference.set(component);
+        component.deferStart();
+
+        // the start invoking the component fails its invocation rather than waiting for itself
+        component.waitForComponentStart();
+        Assert.assertTrue(invocationFailure.get() instanceof IllegalStateException);
+        Assert.assertEquals(1, this.starts.get());
+        Assert.assertFalse(component.isStartDeferred());
+    }
+
+    @Test
+    public void cancellation() {
+        BasicComponent component = this.component(() -> { });
+        component.deferStart();
+
+        // a component never invoked is never started, so must not be stopped
+        Assert.assertTrue(component.cancelDeferredStart());
+        Assert.assertFalse(component.isStartDeferred());
+        try {
+            component.waitForComponentStart();
+            Assert.fail();
+        } catch (ComponentIsStoppedException e) {
+            // expected
+        }
+        Assert.assertEquals(0, this.starts.get());
+
+        // a component deferred again is started by its next first invocation
+        component.deferStart();
+        component.waitForComponentStart();
+        Assert.assertEquals(1, this.starts.get());
+    }
+
+    @Test
+    public void cancellationDuringStart() throws Exception {
+        CountDownLatch starting = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        BasicComponent component = this.component(() -> {
+            starting.countDown();
+            await(release);
+        });
+        component.deferStart();
+
+        Future<?> invocation = this.executor.submit(component::waitForComponentStart);
+        Assert.assertTrue(starting.await(10, TimeUnit.SECONDS));
+        Future<Boolean> cancellation = this.executor.submit(component::cancelDeferredStart);
+        // the cancellation waits for the start in progress
+        try {
+            cancellation.get(100, TimeUnit.MILLISECONDS);
+            Assert.fail();
+        } catch (TimeoutException e) {
+            // expected
+        }
+        release.countDown();
+
+        invocation.get(10, TimeUnit.SECONDS);
+        // the component was started, so must be stopped
+        Assert.assertFalse(cancellation.get(10, TimeUnit.SECONDS));
+    }
+
+    private BasicComponent component(Runnable start) {
+        EEModuleDescription module = new EEModuleDescription("app", "module", "module", false);
+        ComponentDescription description = new ComponentDescription("component", Object.class.getName(), module, ServiceName.of("deployment"));
+        ComponentConfiguration configuration = new ComponentConfiguration(description, DeploymentReflectionIndex.create().getClassIndex(Object.class), this.getClass().getClassLoader(), null);
+        return new BasicComponent(new BasicComponentCreateService(configuration)) {
+            @Override
+            public void start() {
+                BasicComponentTestCase.this.starts.incrementAndGet();
+                start.run();
+                super.start();
+            }
+        };
+    }
+
+    private static void await(CountDownLatch latch) {
+        try {
+            Assert.assertTrue(latch.await(10, TimeUnit.SECONDS));
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException(e);
+        }
+    }
+
+    /**
+     * Waits for a thread to wait for the start of the component.
+     */
+    private static void awaitWaiting(AtomicReference<Thread> reference) throws InterruptedException {
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(10);
+        while (reference.get() == null || reference.get().getState() != Thread.State.WAITING) {
+            Assert.assertTrue(System.nanoTime() < deadline);
+            Thread.sleep(10);
+        }
+    }
+
+    private static void assertStartFailure(Future<?> invocation, RuntimeException failure) throws Exception {
+        try {
+            invocation.get(10, TimeUnit.SECONDS);
+            Assert.fail();
+        } catch (ExecutionException e) {
+            Assert.assertTrue(e.getCause() instanceof IllegalStateException);
+            Assert.assertSame(failure, e.getCause().getCause());
+        }
+    }
+}
@@ -0,0 +1,123 @@
+/*
+ * Copyright The WildFly Authors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.jboss.as.ee.component;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertNotSame;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
+
+import java.lang.invoke.MethodHandle;
+import java.lang.reflect.InvocationTargetException;
+
+import org.jboss.as.naming.ManagedReferenceFactory;
+import org.junit.Test;
+
+/**
+ * Unit test for {@link MethodHandleClassIntrospector}, checking that method handles behave as the reflective access they replace.
+ */
+public class MethodHandleClassIntrospectorTestCase {
+
+    @Test
+    public void createFactory() {
+        MethodHandleClassIntrospector introspector = new MethodHandleClassIntrospector();
+        ManagedReferenceFactory factory = introspector.createFactory(Component.class);
+        // the factory is built once per class
+        assertSame(factory, introspector.createFactory(Component.class));
+
+        Object first = factory.getReference().getInstance();
+        Object second = factory.getReference().getInstance();
+        assertTrue(first instanceof Component);
+        assertNotSame(first, second);
+    }
+
+    @Test(expected = RuntimeException.class)
+    public void createFactoryWithoutDefaultConstructor() {
+        new MethodHandleClassIntrospector().createFactory(NoDefaultConstructor.class);
+    }
+
+    @Test
+    public void newInstance() throws Exception {
+        MethodHandle constructor = MethodHandleClassIntrospector.createConstructor(Component.class.getDeclaredConstructor());
+        assertTrue(MethodHandleClassIntrospector.newInstance(constructor) instanceof Component);
+
+        // exceptions thrown by the constructor are reported as by Constructor.newInstance()
+        MethodHandle failing = MethodHandleClassIntrospector.createConstructor(Failing.class.getDeclaredConstructor());
+        try {
+            MethodHandleClassIntrospector.newInstance(failing);
+            fail();
+        } catch (InvocationTargetException e) {
+            assertTrue(e.getCause() instanceof IllegalStateException);
+        }
+    }
+
+    @Test
+    public void fieldInjector() throws Throwable {
+        Component component = new Component();
+        MethodHandle injector = MethodHandleClassIntrospector.createInjector(Component.class.getDeclaredField("resource"));
+        assertNotNull(injector);
+        injector.invokeExact((Object) component, (Object) "value");
+        assertEquals("value", component.resource);
+
+        MethodHandle staticInjector = MethodHandleClassIntrospector.createInjector(Component.class.getDeclaredField("staticResource"));
+        assertNotNull(staticInjector);
+        staticInjector.invokeExact((Object) null, (Object) "static");
+        assertEquals("static", Component.staticResource);
+
+        // final and primitive fields are left to reflection
+        assertNull(MethodHandleClassIntrospector.createInjector(Component.class.getDeclaredField("finalResource")));
+        assertNull(MethodHandleClassIntrospector.createInjector(Component.class.getDeclaredField("primitiveResource")));
+    }
+
+    @Test
+    public void methodInjector() throws Throwable {
+        Component component = new Component();
+        MethodHandle injector = MethodHandleClassIntrospector.createInjector(Component.class.getDeclaredMethod("setResource", CharSequence.class));
+        assertNotNull(injector);
+        injector.invokeExact((Object) component, (Object) "value");
+        assertEquals("value", component.resource);
+
+        // primitive parameters are left to reflection
+        assertNull(MethodHandleClassIntrospector.createInjector(Component.class.getDeclaredMethod("setPrimitiveResource", int.class)));
+    }
+
+    @SuppressWarnings("unused")
+    private static class Component {
+        static Object staticResource;
+
+        private Object resource;
+        private final Object finalResource = null;
+        private int primitiveResource;
+
+        private Component() {
+        }
+
+        // returns a value, which the injector discards
+        private boolean setResource(CharSequence resource) {
+            this.resource = resource;
+            return true;
+        }
+
+        private void setPrimitiveResource(int primitiveResource) {
+            this.primitiveResource = primitiveResource;
+        }
+    }
+
+    private static class NoDefaultConstructor {
+        @SuppressWarnings("unused")
+        NoDefaultConstructor(String value) {
+        }
+    }
+
+    private static class Failing {
+        Failing() {
+            throw new IllegalStateException();
+        }
+    }
+}
@@ -0,0 +1,100 @@
+/*
+ * Copyright The WildFly Authors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.jboss.as.ee.concurrent;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
+
+import java.util.concurrent.TimeUnit;
+
+import org.junit.Test;
+
+/**
+ * Unit test for {@link AdaptiveConcurrencyLimit}.
+ */
+public class AdaptiveConcurrencyLimitTestCase {
+
+    @Test
+    public void rejectsBeyondLimit() {
+        AdaptiveConcurrencyLimit limit = new AdaptiveConcurrencyLimit(2, 1, 10, 0);
+        assertTrue(limit.tryAcquire());
+        assertTrue(limit.tryAcquire());
+        assertFalse(limit.tryAcquire());
+        assertEquals(1, limit.getRejected());
+        assertEquals(2, limit.getInFlight());
+
+        limit.cancel();
+        assertTrue(limit.tryAcquire());
+        assertEquals(2, limit.getInFlight());
+    }
+
+    @Test
+    public void adaptsToLatency() {
+        AdaptiveConcurrencyLimit limit = new AdaptiveConcurrencyLimit(20, 10, 100, 0);
+
+        // a saturated limit with a steady latency grows
+        for (int i = 0; i < 5; ++i) {
+            run(limit, 20, TimeUnit.MILLISECONDS.toNanos(1));
+        }
+        int grown = limit.getLimit();
+        assertTrue(grown > 20);
+
+        // a latency rising well above the long term latency shrinks it
+        for (int i = 0; i < 5; ++i) {
+            run(limit, limit.getLimit(), TimeUnit.MILLISECONDS.toNanos(10));
+        }
+        int shrunk = limit.getLimit();
+        assertTrue(shrunk < grown);
+        assertTrue(shrunk >= 10);
+    }
+
+    @Test
+    public void ignoresUnusedLimit() {
+        AdaptiveConcurrencyLimit limit = new AdaptiveConcurrencyLimit(20, 10, 100, 0);
+        // a limit the load does not use does not grow
+        for (int i = 0; i < 5; ++i) {
+            run(limit, 5, TimeUnit.MILLISECONDS.toNanos(1));
+        }
+        assertEquals(20, limit.getLimit());
+    }
+
+    @Test
+    public void invalidConfiguration() {
+        assertInvalid(0, 0, 10);
+        assertInvalid(5, 10, 100);
+        assertInvalid(200, 10, 100);
+        assertInvalid(20, 50, 10);
+        // the limits may be fixed
+        assertEquals(10, new AdaptiveConcurrencyLimit.Configuration(10, 10, 10).createLimit().getLimit());
+    }
+
+    private static void assertInvalid(int initialLimit, int minLimit, int maxLimit) {
+        try {
+            new AdaptiveConcurrencyLimit(initialLimit, minLimit, maxLimit);
+            fail();
+        } catch (IllegalArgumentException e) {
+            // expected
+        }
+        try {
+            new AdaptiveConcurrencyLimit.Configuration(initialLimit, minLimit, maxLimit);
+            fail();
+        } catch (IllegalArgumentException e) {
+            // expected
+        }
+    }
+
+    private static void run(AdaptiveConcurrencyLimit limit, int requests, long latency) {
+        for (int i = 0; i < requests; ++i) {
+            assertTrue(limit.tryAcquire());
+        }
+        long start = System.nanoTime() - latency;
+        for (int i = 0; i < requests; ++i) {
+            limit.release(start);
+        }
+    }
+}
@@ -0,0 +1,121 @@
+/*
+ * Copyright The WildFly Authors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.jboss.as.ee.metadata;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.fail;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+import jakarta.interceptor.ExcludeClassInterceptors;
+import jakarta.interceptor.ExcludeDefaultInterceptors;
+import jakarta.interceptor.Interceptors;
+
+import org.jboss.as.ee.component.deployers.EEAnnotationProcessor;
+import org.jboss.as.server.deployment.annotation.CompositeIndex;
+import org.jboss.jandex.AnnotationInstance;
+import org.jboss.jandex.Indexer;
+import org.jboss.metadata.property.PropertyReplacer;
+import org.jboss.metadata.property.PropertyReplacers;
+import org.junit.After;
+import org.junit.Test;
+
+/**
+ * Unit test for the concurrent creation of annotation information by {@link AbstractEEAnnotationProcessor}.
+ */
+public class AbstractEEAnnotationProcessorTestCase {
+
+    private final ExecutorService executor = Executors.newFixedThreadPool(2);
+    private final PropertyReplacer replacer = PropertyReplacers.noop();
+
+    @After
+    public void shutdown() {
+        this.executor.shutdownNow();
+    }
+
+    @Test
+    public void concurrentMatchesSerial() throws Exception {
+        CompositeIndex index = index(First.class, Second.class, Interceptor.class);
+        List<ClassAnnotationInformationFactory> factories = factories();
+
+        List<Map<String, ClassAnnotationInformation<?, ?>>> serial = AbstractEEAnnotationProcessor.createAnnotationInformation(factories, index, this.replacer, null);
+        List<Map<String, ClassAnnotationInformation<?, ?>>> concurrent = AbstractEEAnnotationProcessor.createAnnotationInformation(factories, index, this.replacer, this.executor);
+
+        assertEquals(factories.size(), concurrent.size());
+        for (int i = 0; i < factories.size(); ++i) {
+            Map<String, ClassAnnotationInformation<?, ?>> expected = serial.get(i);
+            Map<String, ClassAnnotationInformation<?, ?>> actual = concurrent.get(i);
+            assertEquals(expected.keySet(), actual.keySet());
+            for (Map.Entry<String, ClassAnnotationInformation<?, ?>> entry : expected.entrySet()) {
+                ClassAnnotationInformation<?, ?> information = actual.get(entry.getKey());
+                assertSame(entry.getValue().getAnnotationType(), information.getAnnotationType());
+                assertEquals(entry.getValue().getClassLevelAnnotations().size(), information.getClassLevelAnnotations().size());
+                assertEquals(entry.getValue().getMethodLevelAnnotations().keySet(), information.getMethodLevelAnnotations().keySet());
+            }
+        }
+        assertEquals(Collections.singleton(First.class.getName()), concurrent.get(1).keySet());
+        assertEquals(Collections.singleton(Second.class.getName()), concurrent.get(2).keySet());
+    }
+
+    @Test
+    public void concurrentFailure() throws Exception {
+        CompositeIndex index = index(First.class);
+        ClassAnnotationInformationFactory failing = new ClassAnnotationInformationFactory<ExcludeDefaultInterceptors, Boolean>(ExcludeDefaultInterceptors.class, null) {
+            @Override
+            protected Boolean fromAnnotation(AnnotationInstance annotationInstance, PropertyReplacer propertyReplacer) {
+                throw new IllegalStateException();
+            }
+        };
+        List<ClassAnnotationInformationFactory> factories = Arrays.asList(factories().get(0), failing);
+        try {
+            AbstractEEAnnotationProcessor.createAnnotationInformation(factories, index, this.replacer, this.executor);
+            fail();
+        } catch (IllegalStateException e) {
+            // the failure of the factory is reported as is
+        }
+    }
+
+    private static CompositeIndex index(Class<?>... classes) throws IOException {
+        Indexer indexer = new Indexer();
+        for (Class<?> clazz : classes) {
+            try (InputStream input = clazz.getClassLoader().getResourceAsStream(clazz.getName().replace('.', '/') + ".class")) {
+                indexer.index(input);
+            }
+        }
+        return new CompositeIndex(Collections.singleton(indexer.complete()));
+    }
+
+    private static List<ClassAnnotationInformationFactory> factories() {
+        AbstractEEAnnotationProcessor processor = new EEAnnotationProcessor();
+        return processor.annotationInformationFactories();
+    }
+
+    public static class Interceptor {
+    }
+
+    @Interceptors(Interceptor.class)
+    @ExcludeDefaultInterceptors
+    public static class First {
+        @Interceptors(Interceptor.class)
+        public void method() {
+        }
+    }
+
+    @ExcludeClassInterceptors
+    public static class Second {
+        @ExcludeClassInterceptors
+        public void method() {
+        }
+    }
+}
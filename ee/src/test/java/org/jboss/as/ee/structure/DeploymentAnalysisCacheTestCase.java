@@ -0,0 +1,119 @@
+/*
+ * Copyright The WildFly Authors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.jboss.as.ee.structure;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.attribute.FileTime;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Properties;
+import java.util.stream.Stream;
+
+import org.jboss.vfs.VFS;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+/**
+ * Unit test for {@link DeploymentAnalysisCache}.
+ */
+public class DeploymentAnalysisCacheTestCase {
+
+    @Rule
+    public TemporaryFolder folder = new TemporaryFolder();
+
+    @Test
+    public void storeAndLoad() throws IOException {
+        Path directory = this.folder.getRoot().toPath().resolve("deployment-analysis");
+        DeploymentAnalysisCache cache = new DeploymentAnalysisCache(directory);
+
+        DeploymentAnalysisCache.Entry entry = cache.getEntry("test", "app.war", "content", "1024", "1", "config");
+        assertNull(entry.load());
+
+        Properties results = new Properties();
+        DeploymentAnalysisCache.setNames(results, "classes", Arrays.asList("org.acme.First", "org.acme.Second"));
+        DeploymentAnalysisCache.setNames(results, "none", Collections.emptySet());
+        entry.store(results);
+        assertTrue(Files.isDirectory(directory));
+
+        Properties cached = cache.getEntry("test", "app.war", "content", "1024", "1", "config").load();
+        assertNotNull(cached);
+        assertEquals(Arrays.asList("org.acme.First", "org.acme.Second"), Arrays.asList(DeploymentAnalysisCache.getNames(cached, "classes").toArray()));
+        assertTrue(DeploymentAnalysisCache.getNames(cached, "none").isEmpty());
+        assertTrue(DeploymentAnalysisCache.getNames(cached, "missing").isEmpty());
+        assertEquals(2, cached.size());
+    }
+
+    @Test
+    public void changedContent() {
+        DeploymentAnalysisCache cache = new DeploymentAnalysisCache(this.folder.getRoot().toPath());
+        cache.getEntry("test", "app.war", "content", "1024", "1", "config").store(new Properties());
+
+        // a new content, or a new configuration, does not reuse the results
+        assertNull(cache.getEntry("test", "app.war", "content", "1024", "2", "config").load());
+        assertNull(cache.getEntry("test", "app.war", "content", "1024", "1", "other").load());
+        // the entries of other deployment units and other analyses are distinct
+        assertNull(cache.getEntry("test", "other.war", "content", "1024", "1", "config").load());
+        assertNull(cache.getEntry("other", "app.war", "content", "1024", "1", "config").load());
+
+        // the results of the new content replace those of the previous content
+        cache.getEntry("test", "app.war", "content", "1024", "2", "config").store(new Properties());
+        assertNotNull(cache.getEntry("test", "app.war", "content", "1024", "2", "config").load());
+        assertNull(cache.getEntry("test", "app.war", "content", "1024", "1", "config").load());
+        assertEquals(1, this.folder.getRoot().list().length);
+    }
+
+    @Test
+    public void contentHash() throws IOException {
+        String hash = "0123456789abcdef0123456789abcdef01234567";
+        Path managed = this.folder.getRoot().toPath().resolve(Paths.get("data", "content", hash.substring(0, 2), hash.substring(2), "content"));
+        Files.createDirectories(managed.getParent());
+        Files.createFile(managed);
+        assertEquals(hash, DeploymentAnalysisCache.contentHash(VFS.getChild(managed.toUri())));
+
+        // unmanaged content has no hash, so it is not cached
+        Path unmanaged = this.folder.newFile("app.war").toPath();
+        assertNull(DeploymentAnalysisCache.contentHash(VFS.getChild(unmanaged.toUri())));
+        Path misnamed = this.folder.getRoot().toPath().resolve(Paths.get("deployments", "ab", "content"));
+        assertNull(DeploymentAnalysisCache.contentHash(VFS.getChild(misnamed.toUri())));
+    }
+
+    @Test
+    public void pruneLeastRecentlyUsed() throws IOException {
+        Path directory = this.folder.getRoot().toPath();
+        DeploymentAnalysisCache cache = new DeploymentAnalysisCache(directory, 2);
+        cache.getEntry("test", "first.war", "content").store(new Properties());
+        cache.getEntry("test", "second.war", "content").store(new Properties());
+        assertEquals(2, this.folder.getRoot().list().length);
+
+        long now = System.currentTimeMillis();
+        try (Stream<Path> entries = Files.list(directory)) {
+            entries.forEach(entry -> {
+                try {
+                    Files.setLastModifiedTime(entry, FileTime.fromMillis(now - 60000L));
+                } catch (IOException e) {
+                    throw new IllegalStateException(e);
+                }
+            });
+        }
+        // using an entry protects it from pruning
+        assertNotNull(cache.getEntry("test", "first.war", "content").load());
+
+        cache.getEntry("test", "third.war", "content").store(new Properties());
+        assertEquals(2, this.folder.getRoot().list().length);
+        assertNotNull(cache.getEntry("test", "first.war", "content").load());
+        assertNull(cache.getEntry("test", "second.war", "content").load());
+        assertNotNull(cache.getEntry("test", "third.war", "content").load());
+    }
+}
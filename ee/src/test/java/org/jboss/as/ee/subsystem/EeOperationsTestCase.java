@@ -135,6 +135,40 @@ public class EeOperationsTestCase extends AbstractSubsystemBaseTest {
         executeForSuccess(kernelServices, op);
     }
 
+    @Test
+    public void testAdaptiveConcurrencyLimitOperations() throws Exception {
+        // Boot the container
+        final KernelServices kernelServices = createKernelServicesBuilder(createAdditionalInitialization()).setSubsystemXml(getSubsystemXml()).build();
+        final ModelNode address = Operations.createAddress(ClientConstants.SUBSYSTEM, EeExtension.SUBSYSTEM_NAME);
+
+        // The initial-limit must not be less than the default min-limit
+        ModelNode op = Operations.createWriteAttributeOperation(address, EESubsystemModel.ADAPTIVE_CONCURRENCY_INITIAL_LIMIT, 5);
+        Assert.assertFalse(Operations.isSuccessfulOutcome(kernelServices.executeOperation(op)));
+
+        // The max-limit must not be less than the initial-limit
+        op = CompositeOperationBuilder.create()
+                .addStep(Operations.createWriteAttributeOperation(address, EESubsystemModel.ADAPTIVE_CONCURRENCY_INITIAL_LIMIT, 50))
+                .addStep(Operations.createWriteAttributeOperation(address, EESubsystemModel.ADAPTIVE_CONCURRENCY_MAX_LIMIT, 20))
+                .build().getOperation();
+        Assert.assertFalse(Operations.isSuccessfulOutcome(kernelServices.executeOperation(op)));
+
+        // Test a failure at the runtime-stage
+        op = Operations.createWriteAttributeOperation(address, EESubsystemModel.ADAPTIVE_CONCURRENCY_MIN_LIMIT, "${test.min-limit:500}");
+        Assert.assertFalse(Operations.isSuccessfulOutcome(kernelServices.executeOperation(op)));
+
+        // The limits must be positive
+        op = Operations.createWriteAttributeOperation(address, EESubsystemModel.ADAPTIVE_CONCURRENCY_MIN_LIMIT, 0);
+        Assert.assertFalse(Operations.isSuccessfulOutcome(kernelServices.executeOperation(op)));
+
+        op = CompositeOperationBuilder.create()
+                .addStep(Operations.createWriteAttributeOperation(address, EESubsystemModel.ADAPTIVE_CONCURRENCY_LIMIT_ENABLED, true))
+                .addStep(Operations.createWriteAttributeOperation(address, EESubsystemModel.ADAPTIVE_CONCURRENCY_MIN_LIMIT, 5))
+                .addStep(Operations.createWriteAttributeOperation(address, EESubsystemModel.ADAPTIVE_CONCURRENCY_INITIAL_LIMIT, 5))
+                .addStep(Operations.createWriteAttributeOperation(address, EESubsystemModel.ADAPTIVE_CONCURRENCY_MAX_LIMIT, 20))
+                .build().getOperation();
+        executeForSuccess(kernelServices, op);
+    }
+
     @Test
     public void testAddExistingGlobalModule() throws Exception {
         // Boot the container
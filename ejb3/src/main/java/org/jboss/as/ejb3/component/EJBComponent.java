@@ -36,6 +36,7 @@ import jakarta.transaction.UserTransaction;
 import org.jboss.as.ee.component.BasicComponent;
 import org.jboss.as.ee.component.ComponentView;
 import org.jboss.as.ee.component.interceptors.InvocationType;
+import org.jboss.as.ee.concurrent.AdaptiveConcurrencyLimit;
 import org.jboss.as.ejb3.component.allowedmethods.AllowedMethodsInformation;
 import org.jboss.as.ejb3.component.interceptors.ShutDownInterceptorFactory;
 import org.jboss.as.ejb3.component.invocationmetrics.InvocationMetrics;
@@ -105,6 +106,7 @@ public abstract class EJBComponent extends BasicComponent implements ServerActiv
     private final TransactionSynchronizationRegistry transactionSynchronizationRegistry;
     private final UserTransaction userTransaction;
     private final ControlPoint controlPoint;
+    private final AdaptiveConcurrencyLimit concurrencyLimit;
     private final AtomicBoolean exceptionLoggingEnabled;
 
     private final SecurityDomain securityDomain;
@@ -161,6 +163,7 @@ public abstract class EJBComponent extends BasicComponent implements ServerActiv
         this.transactionSynchronizationRegistry = ejbComponentCreateService.getTransactionSynchronizationRegistry();
         this.userTransaction = ejbComponentCreateService.getUserTransaction();
         this.controlPoint = ejbComponentCreateService.getControlPoint();
+        this.concurrencyLimit = ejbComponentCreateService.getConcurrencyLimit();
         this.exceptionLoggingEnabled = ejbComponentCreateService.getExceptionLoggingEnabled();
 
         this.securityDomain = ejbComponentCreateService.getSecurityDomain();
@@ -550,6 +553,13 @@ public abstract class EJBComponent extends BasicComponent implements ServerActiv
         return this.controlPoint;
     }
 
+    /**
+     * @return the adaptive concurrency limit of the remote invocations of this component, or null if it is disabled or the component is message driven
+     */
+    public AdaptiveConcurrencyLimit getConcurrencyLimit() {
+        return this.concurrencyLimit;
+    }
+
     public SecurityDomain getSecurityDomain() {
         return securityDomain;
     }
@@ -26,6 +26,7 @@ import org.jboss.as.ee.component.BasicComponentCreateService;
 import org.jboss.as.ee.component.ComponentConfiguration;
 import org.jboss.as.ee.component.ViewConfiguration;
 import org.jboss.as.ee.component.ViewDescription;
+import org.jboss.as.ee.concurrent.AdaptiveConcurrencyLimit;
 import org.jboss.as.ejb3.component.interceptors.ShutDownInterceptorFactory;
 import org.jboss.as.ejb3.component.messagedriven.MessageDrivenComponentDescription;
 import org.jboss.as.ejb3.deployment.ApplicationExceptions;
@@ -79,6 +80,7 @@ public class EJBComponentCreateService extends BasicComponentCreateService {
 
     private final InjectedValue<TransactionSynchronizationRegistry> transactionSynchronizationRegistryValue = new InjectedValue<TransactionSynchronizationRegistry>();
     private final InjectedValue<ControlPoint> controlPoint = new InjectedValue<>();
+    private volatile AdaptiveConcurrencyLimit concurrencyLimit;
     private final InjectedValue<AtomicBoolean> exceptionLoggingEnabled = new InjectedValue<>();
     private final InjectedValue<SecurityDomain> securityDomain = new InjectedValue<>();
     private final InjectedValue<Function> identityOutflowFunction = new InjectedValue<>();
@@ -336,6 +338,14 @@ public class EJBComponentCreateService extends BasicComponentCreateService {
         return this.controlPoint;
     }
 
+    public AdaptiveConcurrencyLimit getConcurrencyLimit() {
+        return this.concurrencyLimit;
+    }
+
+    public void setConcurrencyLimit(AdaptiveConcurrencyLimit concurrencyLimit) {
+        this.concurrencyLimit = concurrencyLimit;
+    }
+
     InjectedValue<AtomicBoolean> getExceptionLoggingEnabledInjector() {
         return exceptionLoggingEnabled;
     }
@@ -397,6 +397,15 @@ public abstract class SessionBeanComponentDescription extends EJBComponentDescri
         return getSessionBeanType() == SessionBeanType.STATELESS;
     }
 
+    /**
+     * Session beans can be started by their first invocation, unless they have timeout methods, whose timers are
+     * created when the component starts.
+     */
+    @Override
+    public boolean isLazyStartApplicable() {
+        return !isTimerServiceRequired();
+    }
+
     @Override
     public SessionBeanMetaData getDescriptorData() {
         return (SessionBeanMetaData) super.getDescriptorData();
@@ -269,4 +269,10 @@ public class SingletonComponentDescription extends SessionBeanComponentDescripti
         return true;
     }
 
+    @Override
+    public boolean isLazyStartApplicable() {
+        // a singleton initialized on startup is created when its component starts
+        return !isInitOnStartup() && super.isLazyStartApplicable();
+    }
+
 }
@@ -15,9 +15,11 @@ import org.jboss.as.ee.component.ComponentDescription;
 import org.jboss.as.ee.component.DependencyConfigurator;
 import org.jboss.as.ee.component.ViewConfiguration;
 import org.jboss.as.ee.component.interceptors.InterceptorOrder;
+import org.jboss.as.ee.concurrent.AdaptiveConcurrencyLimit;
 import org.jboss.as.ejb3.component.EJBComponentCreateService;
 import org.jboss.as.ejb3.component.EJBComponentDescription;
 import org.jboss.as.ejb3.component.EJBViewConfiguration;
+import org.jboss.as.ejb3.component.messagedriven.MessageDrivenComponentDescription;
 import org.jboss.as.server.deployment.DeploymentPhaseContext;
 import org.jboss.as.server.deployment.DeploymentUnit;
 import org.jboss.as.server.deployment.DeploymentUnitProcessor;
@@ -50,6 +52,7 @@ public class EJBComponentSuspendDeploymentUnitProcessor implements DeploymentUni
         } else {
             topLevelName = deploymentUnit.getParent().getName();
         }
+        final AdaptiveConcurrencyLimit.Configuration concurrencyLimit = deploymentUnit.getAttachment(Attachments.ADAPTIVE_CONCURRENCY_LIMIT);
         for (ComponentDescription component : deploymentUnit.getAttachment(Attachments.EE_MODULE_DESCRIPTION).getComponentDescriptions()) {
             if (component instanceof EJBComponentDescription) {
                 final String entryPoint = ENTRY_POINT_NAME + deploymentUnit.getName() + "." + component.getComponentName();
@@ -70,10 +73,13 @@ public class EJBComponentSuspendDeploymentUnitProcessor implements DeploymentUni
                             }
                         }
 
+                        // the limit only applies to the remote invocations going through the interceptor
+                        final AdaptiveConcurrencyLimit limit = (factory != null && concurrencyLimit != null && !(description instanceof MessageDrivenComponentDescription)) ? concurrencyLimit.createLimit() : null;
                         configuration.getCreateDependencies().add(new DependencyConfigurator<EJBComponentCreateService>() {
                             @Override
                             public void configureDependency(ServiceBuilder<?> serviceBuilder, EJBComponentCreateService service) {
                                 serviceBuilder.addDependency(ControlPointService.serviceName(topLevelName, entryPoint), ControlPoint.class, service.getControlPointInjector());
+                                service.setConcurrencyLimit(limit);
                             }
                         });
 
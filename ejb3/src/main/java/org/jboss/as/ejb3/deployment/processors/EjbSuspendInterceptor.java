@@ -6,6 +6,7 @@
 package org.jboss.as.ejb3.deployment.processors;
 
 import org.jboss.as.ee.component.interceptors.InvocationType;
+import org.jboss.as.ee.concurrent.AdaptiveConcurrencyLimit;
 import org.jboss.as.ejb3.component.EJBComponent;
 import org.jboss.as.ejb3.component.interceptors.AbstractEJBInterceptor;
 import org.jboss.as.ejb3.logging.EjbLogger;
@@ -29,13 +30,24 @@ public class EjbSuspendInterceptor extends AbstractEJBInterceptor {
         }
         // see if control point accepts or rejects this invocation
         EJBComponent component = getComponent(context, EJBComponent.class);
+        // the latency shows whether the component is overloaded, in which case a remote invocation is shed before it queues up;
+        // message deliveries are not shed, as a rejected delivery is redelivered at once and ends up in the dead letter queue,
+        // and they are already held back by the sessions of the message endpoint
+        AdaptiveConcurrencyLimit limit = (invocation == InvocationType.REMOTE) ? component.getConcurrencyLimit() : null;
+        if (limit != null && !limit.tryAcquire()) {
+            throw EjbLogger.ROOT_LOGGER.concurrencyLimitReached(component.getComponentName());
+        }
         ControlPoint entryPoint = component.getControlPoint();
         RunResult result = entryPoint.beginRequest();
         if (result == RunResult.REJECTED
                 && !component.getEjbSuspendHandlerService().acceptInvocation(context)) {
+            if (limit != null) {
+                limit.cancel();
+            }
             // if control point rejected, check with suspend handler
             throw EjbLogger.ROOT_LOGGER.containerSuspended();
         }
+        final long start = System.nanoTime();
         try {
             return context.proceed();
         } finally {
@@ -43,6 +55,9 @@ public class EjbSuspendInterceptor extends AbstractEJBInterceptor {
                 component.getEjbSuspendHandlerService().invocationComplete();
             else
                 entryPoint.requestComplete();
+            if (limit != null) {
+                limit.release(start);
+            }
         }
     }
 }
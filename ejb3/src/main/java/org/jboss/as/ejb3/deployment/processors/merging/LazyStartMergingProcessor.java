@@ -0,0 +1,65 @@
+/*
+ * Copyright The WildFly Authors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.jboss.as.ejb3.deployment.processors.merging;
+
+import java.util.List;
+
+import org.jboss.as.ee.component.EEApplicationClasses;
+import org.jboss.as.ejb3.component.EJBComponentDescription;
+import org.jboss.as.ejb3.deployment.EjbDeploymentAttachmentKeys;
+import org.jboss.as.ejb3.lazystart.EJBBoundLazyStartMetaData;
+import org.jboss.as.server.deployment.DeploymentUnit;
+import org.jboss.as.server.deployment.DeploymentUnitProcessingException;
+import org.jboss.as.server.deployment.reflect.DeploymentReflectionIndex;
+import org.jboss.metadata.ejb.spec.AssemblyDescriptorMetaData;
+import org.jboss.metadata.ejb.spec.EjbJarMetaData;
+
+/**
+ * Sets up the Jakarta Enterprise Beans component description with the lazy start configured via the deployment descriptor,
+ * which overrides the <code>lazy-component-start</code> setting of the ee subsystem. An <code>ejb-name</code> of
+ * <code>*</code> applies to all the beans of the deployment, unless a bean is configured by its own name.
+ */
+public class LazyStartMergingProcessor extends AbstractMergingProcessor<EJBComponentDescription> {
+
+    public LazyStartMergingProcessor() {
+        super(EJBComponentDescription.class);
+    }
+
+    @Override
+    protected void handleAnnotations(final DeploymentUnit deploymentUnit, final EEApplicationClasses applicationClasses, final DeploymentReflectionIndex deploymentReflectionIndex, final Class<?> componentClass, final EJBComponentDescription description) throws DeploymentUnitProcessingException {
+        // there are no annotations
+    }
+
+    @Override
+    protected void handleDeploymentDescriptor(final DeploymentUnit deploymentUnit, final DeploymentReflectionIndex deploymentReflectionIndex, final Class<?> componentClass, final EJBComponentDescription description) throws DeploymentUnitProcessingException {
+        final EjbJarMetaData metaData = deploymentUnit.getAttachment(EjbDeploymentAttachmentKeys.EJB_JAR_METADATA);
+        if (metaData == null) {
+            return;
+        }
+        final AssemblyDescriptorMetaData assemblyDescriptor = metaData.getAssemblyDescriptor();
+        if (assemblyDescriptor == null) {
+            return;
+        }
+        final List<EJBBoundLazyStartMetaData> lazyStarts = assemblyDescriptor.getAny(EJBBoundLazyStartMetaData.class);
+        if (lazyStarts == null) {
+            return;
+        }
+        Boolean deploymentLazyStart = null;
+        Boolean beanLazyStart = null;
+        for (final EJBBoundLazyStartMetaData lazyStart : lazyStarts) {
+            if ("*".equals(lazyStart.getEjbName())) {
+                deploymentLazyStart = lazyStart.isLazyStart();
+            } else if (description.getEJBName().equals(lazyStart.getEjbName())) {
+                beanLazyStart = lazyStart.isLazyStart();
+            }
+        }
+        // the configuration of the bean overrides the configuration of the deployment
+        final Boolean lazyStart = (beanLazyStart != null) ? beanLazyStart : deploymentLazyStart;
+        if (lazyStart != null) {
+            description.setLazyStart(lazyStart);
+        }
+    }
+}
@@ -0,0 +1,25 @@
+/*
+ * Copyright The WildFly Authors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.jboss.as.ejb3.lazystart;
+
+import org.jboss.metadata.ejb.parser.jboss.ejb3.AbstractEJBBoundMetaData;
+
+/**
+ * Metadata represents whether the start of EJBs is deferred until their first invocation, as configured via the
+ * jboss-ejb3.xml deployment descriptor
+ */
+public class EJBBoundLazyStartMetaData extends AbstractEJBBoundMetaData {
+
+    private Boolean lazyStart;
+
+    public Boolean isLazyStart() {
+        return lazyStart;
+    }
+
+    public void setLazyStart(final Boolean lazyStart) {
+        this.lazyStart = lazyStart;
+    }
+}
@@ -0,0 +1,53 @@
+/*
+ * Copyright The WildFly Authors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.jboss.as.ejb3.lazystart;
+
+import javax.xml.stream.XMLStreamException;
+import javax.xml.stream.XMLStreamReader;
+
+import org.jboss.metadata.ejb.parser.jboss.ejb3.AbstractEJBBoundMetaDataParser;
+import org.jboss.metadata.property.PropertyReplacer;
+
+/**
+ * Parser for <code>urn:lazy-start</code> namespace. The <code>urn:lazy-start</code> namespace elements
+ * can be used to override, for a deployment or for a Jakarta Enterprise Bean, whether its start is deferred until
+ * its first invocation.
+ */
+public class EJBBoundLazyStartParser extends AbstractEJBBoundMetaDataParser<EJBBoundLazyStartMetaData> {
+
+    public static final String NAMESPACE_URI_1_0 = "urn:lazy-start:1.0";
+
+    private static final String ROOT_ELEMENT_LAZY_START = "lazy-start";
+    private static final String ELEMENT_ENABLED = "enabled";
+
+    @Override
+    public EJBBoundLazyStartMetaData parse(final XMLStreamReader reader, final PropertyReplacer propertyReplacer) throws XMLStreamException {
+        final String element = reader.getLocalName();
+        // we only parse <lazy-start> (root) element
+        if (!ROOT_ELEMENT_LAZY_START.equals(element)) {
+            throw unexpectedElement(reader);
+        }
+        final EJBBoundLazyStartMetaData metaData = new EJBBoundLazyStartMetaData();
+        this.processElements(metaData, reader, propertyReplacer);
+        return metaData;
+    }
+
+    @Override
+    protected void processElement(final EJBBoundLazyStartMetaData metaData, final XMLStreamReader reader, final PropertyReplacer propertyReplacer) throws XMLStreamException {
+        final String namespaceURI = reader.getNamespaceURI();
+        final String elementName = reader.getLocalName();
+        // if it doesn't belong to our namespace then let the super handle this
+        if (!NAMESPACE_URI_1_0.equals(namespaceURI)) {
+            super.processElement(metaData, reader, propertyReplacer);
+            return;
+        }
+        if (ELEMENT_ENABLED.equals(elementName)) {
+            metaData.setLazyStart(Boolean.valueOf(getElementText(reader, propertyReplacer).trim()));
+        } else {
+            throw unexpectedElement(reader);
+        }
+    }
+}
@@ -3254,4 +3254,7 @@ public interface EjbLogger extends BasicLogger {
 
     @Message(id = 536, value = "Unsupported EJB receiver protocol %s")
     IllegalArgumentException unsupportedEJBReceiverProtocol(String uriScheme);
+
+    @Message(id = 537, value = "The request was rejected as the concurrency limit of component %s was reached")
+    EJBComponentUnavailableException concurrencyLimitReached(String componentName);
 }
@@ -24,9 +24,11 @@ import org.jboss.as.controller.SimpleAttributeDefinition;
 import org.jboss.as.controller.SimpleAttributeDefinitionBuilder;
 import org.jboss.as.controller.SimpleResourceDefinition;
 import org.jboss.as.controller.StringListAttributeDefinition;
+import org.jboss.as.controller.client.helpers.MeasurementUnit;
 import org.jboss.as.controller.operations.validation.StringLengthValidator;
 import org.jboss.as.controller.registry.AttributeAccess;
 import org.jboss.as.controller.registry.ManagementResourceRegistration;
+import org.jboss.as.ee.concurrent.AdaptiveConcurrencyLimit;
 import org.jboss.as.ejb3.component.EJBComponent;
 import org.jboss.as.ejb3.component.invocationmetrics.InvocationMetrics;
 import org.jboss.as.ejb3.component.stateful.StatefulSessionComponent;
@@ -132,6 +134,27 @@ public abstract class AbstractEJBComponentResourceDefinition extends SimpleResou
             .setFlags(AttributeAccess.Flag.STORAGE_RUNTIME)
             .build();
 
+    private static final AttributeDefinition START_DEFERRED = new SimpleAttributeDefinitionBuilder("start-deferred", ModelType.BOOLEAN)
+            .setUndefinedMetricValue(ModelNode.FALSE)
+            .setFlags(AttributeAccess.Flag.STORAGE_RUNTIME)
+            .build();
+
+    private static final AttributeDefinition DEFERRED_START_TIME = new SimpleAttributeDefinitionBuilder("deferred-start-time", ModelType.LONG)
+            .setUndefinedMetricValue(ModelNode.ZERO)
+            .setMeasurementUnit(MeasurementUnit.MILLISECONDS)
+            .setFlags(AttributeAccess.Flag.STORAGE_RUNTIME)
+            .build();
+
+    private static final AttributeDefinition CONCURRENCY_LIMIT = new SimpleAttributeDefinitionBuilder("concurrency-limit", ModelType.INT)
+            .setUndefinedMetricValue(ModelNode.ZERO)
+            .setFlags(AttributeAccess.Flag.STORAGE_RUNTIME)
+            .build();
+
+    private static final AttributeDefinition CONCURRENCY_LIMIT_REJECTED_INVOCATIONS = new SimpleAttributeDefinitionBuilder("concurrency-limit-rejected-invocations", ModelType.LONG)
+            .setUndefinedMetricValue(ModelNode.ZERO)
+            .setFlags(AttributeAccess.Flag.STORAGE_RUNTIME, AttributeAccess.Flag.COUNTER_METRIC)
+            .build();
+
     // Pool attributes
 
     public static final SimpleAttributeDefinition POOL_AVAILABLE_COUNT = new SimpleAttributeDefinitionBuilder("pool-available-count", ModelType.INT, false)
@@ -179,6 +202,18 @@ public abstract class AbstractEJBComponentResourceDefinition extends SimpleResou
             resourceRegistration.registerReadOnlyAttribute(BUSINESS_LOCAL, handler);
             resourceRegistration.registerReadOnlyAttribute(BUSINESS_REMOTE, handler);
             resourceRegistration.registerReadOnlyAttribute(ASYNC_METHODS, handler);
+            resourceRegistration.registerMetric(START_DEFERRED, new AbstractRuntimeMetricsHandler() {
+                @Override
+                protected void executeReadMetricStep(final OperationContext context, final ModelNode operation, final EJBComponent component) {
+                    context.getResult().set(component.isStartDeferred());
+                }
+            });
+            resourceRegistration.registerMetric(DEFERRED_START_TIME, new AbstractRuntimeMetricsHandler() {
+                @Override
+                protected void executeReadMetricStep(final OperationContext context, final ModelNode operation, final EJBComponent component) {
+                    context.getResult().set(component.getDeferredStartTime());
+                }
+            });
         }
 
         if (componentType.hasTimer()) {
@@ -200,25 +235,44 @@ public abstract class AbstractEJBComponentResourceDefinition extends SimpleResou
                 @Override
                 protected void executeReadMetricStep(final OperationContext context, final ModelNode operation, final EJBComponent component) {
                     StatefulSessionBeanCache<SessionID, StatefulSessionComponentInstance> cache = ((StatefulSessionComponent) component).getCache();
-                    context.getResult().set(cache.getActiveCount());
+                    // the cache is created when the component starts, which may be deferred
+                    context.getResult().set((cache != null) ? cache.getActiveCount() : 0);
                 }
             });
             resourceRegistration.registerMetric(PASSIVATED_SIZE, new AbstractRuntimeMetricsHandler() {
                 @Override
                 protected void executeReadMetricStep(final OperationContext context, final ModelNode operation, final EJBComponent component) {
                     StatefulSessionBeanCache<SessionID, StatefulSessionComponentInstance> cache = ((StatefulSessionComponent) component).getCache();
-                    context.getResult().set(cache.getPassiveCount());
+                    context.getResult().set((cache != null) ? cache.getPassiveCount() : 0);
                 }
             });
             resourceRegistration.registerMetric(TOTAL_SIZE, new AbstractRuntimeMetricsHandler() {
                 @Override
                 protected void executeReadMetricStep(final OperationContext context, final ModelNode operation, final EJBComponent component) {
                     StatefulSessionBeanCache<SessionID, StatefulSessionComponentInstance> cache = ((StatefulSessionComponent) component).getCache();
-                    context.getResult().set(cache.getActiveCount() + cache.getPassiveCount());
+                    context.getResult().set((cache != null) ? cache.getActiveCount() + cache.getPassiveCount() : 0);
                 }
             });
         }
 
+        resourceRegistration.registerMetric(CONCURRENCY_LIMIT, new AbstractRuntimeMetricsHandler() {
+            @Override
+            protected void executeReadMetricStep(final OperationContext context, final ModelNode operation, final EJBComponent component) {
+                final AdaptiveConcurrencyLimit limit = component.getConcurrencyLimit();
+                if (limit != null) {
+                    context.getResult().set(limit.getLimit());
+                }
+            }
+        });
+        resourceRegistration.registerMetric(CONCURRENCY_LIMIT_REJECTED_INVOCATIONS, new AbstractRuntimeMetricsHandler() {
+            @Override
+            protected void executeReadMetricStep(final OperationContext context, final ModelNode operation, final EJBComponent component) {
+                final AdaptiveConcurrencyLimit limit = component.getConcurrencyLimit();
+                if (limit != null) {
+                    context.getResult().set(limit.getRejected());
+                }
+            }
+        });
         resourceRegistration.registerMetric(EXECUTION_TIME, new AbstractRuntimeMetricsHandler() {
             @Override
             protected void executeReadMetricStep(final OperationContext context, final ModelNode operation, final EJBComponent component) {
@@ -0,0 +1,82 @@
+/*
+ * Copyright The WildFly Authors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+package org.jboss.as.ejb3.deployment.processors;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.util.Collections;
+
+import org.jboss.as.ee.component.Component;
+import org.jboss.as.ee.component.interceptors.InvocationType;
+import org.jboss.as.ee.concurrent.AdaptiveConcurrencyLimit;
+import org.jboss.as.ejb3.component.EJBComponent;
+import org.jboss.as.ejb3.component.EJBComponentUnavailableException;
+import org.jboss.invocation.Interceptor;
+import org.jboss.invocation.InterceptorContext;
+import org.junit.Before;
+import org.junit.Test;
+import org.wildfly.extension.requestcontroller.ControlPoint;
+import org.wildfly.extension.requestcontroller.RunResult;
+
+/**
+ * Unit test for the adaptive concurrency limit applied by {@link EjbSuspendInterceptor}.
+ */
+public class EjbSuspendInterceptorTestCase {
+
+    private final EjbSuspendInterceptor interceptor = new EjbSuspendInterceptor();
+    private final AdaptiveConcurrencyLimit limit = new AdaptiveConcurrencyLimit(1, 1, 1);
+    private final ControlPoint controlPoint = mock(ControlPoint.class);
+    private final EJBComponent component = mock(EJBComponent.class);
+
+    @Before
+    public void init() {
+        when(this.controlPoint.beginRequest()).thenReturn(RunResult.RUN);
+        when(this.component.getControlPoint()).thenReturn(this.controlPoint);
+        when(this.component.getConcurrencyLimit()).thenReturn(this.limit);
+        when(this.component.getComponentName()).thenReturn("TestBean");
+    }
+
+    @Test
+    public void remoteInvocationIsShed() throws Exception {
+        assertEquals("result", this.interceptor.processInvocation(this.context(InvocationType.REMOTE)));
+        assertEquals(0, this.limit.getInFlight());
+
+        // the limit is reached while another remote invocation runs
+        assertTrue(this.limit.tryAcquire());
+        try {
+            this.interceptor.processInvocation(this.context(InvocationType.REMOTE));
+            fail();
+        } catch (EJBComponentUnavailableException e) {
+            // expected
+        }
+        assertEquals(1L, this.limit.getRejected());
+    }
+
+    @Test
+    public void messageDeliveryIsNotShed() throws Exception {
+        // a rejected delivery would be redelivered at once, so deliveries run even though the limit is reached
+        assertTrue(this.limit.tryAcquire());
+        assertEquals("result", this.interceptor.processInvocation(this.context(InvocationType.MESSAGE_DELIVERY)));
+
+        assertEquals(0L, this.limit.getRejected());
+        assertEquals(1, this.limit.getInFlight());
+        // the delivery still goes through the control point, so that it is held back while the server is suspended
+        verify(this.controlPoint).beginRequest();
+        verify(this.controlPoint).requestComplete();
+    }
+
+    private InterceptorContext context(InvocationType invocationType) {
+        InterceptorContext context = new InterceptorContext();
+        context.putPrivateData(Component.class, this.component);
+        context.putPrivateData(InvocationType.class, invocationType);
+        context.setInterceptors(Collections.<Interceptor>singletonList(invocation -> "result"));
+        return context;
+    }
+}
@@ -0,0 +1,48 @@
+/*
+ * Copyright The WildFly Authors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+package org.jboss.as.ejb3.deployment.processors;
+
+import static org.junit.Assert.assertEquals;
+
+import java.io.StringReader;
+import java.util.List;
+
+import javax.xml.stream.XMLInputFactory;
+import javax.xml.stream.XMLStreamReader;
+
+import org.jboss.as.ejb3.lazystart.EJBBoundLazyStartMetaData;
+import org.jboss.metadata.ejb.parser.jboss.ejb3.JBossEjb3MetaDataParser;
+import org.jboss.metadata.ejb.spec.EjbJarMetaData;
+import org.jboss.metadata.parser.util.MetaDataElementParser;
+import org.jboss.metadata.property.PropertyReplacers;
+import org.junit.Test;
+
+/**
+ * Unit test for the parsing of the <code>urn:lazy-start</code> elements of jboss-ejb3.xml.
+ */
+public class LazyStartParsingTestCase {
+
+    private static final String DESCRIPTOR = "<jboss:ejb-jar xmlns:jboss=\"http://www.jboss.com/xml/ns/javaee\""
+            + " xmlns=\"http://java.sun.com/xml/ns/javaee\" xmlns:l=\"urn:lazy-start:1.0\" version=\"3.1\" impl-version=\"2.0\">"
+            + "<assembly-descriptor>"
+            + "<l:lazy-start><ejb-name>*</ejb-name><l:enabled>true</l:enabled></l:lazy-start>"
+            + "<l:lazy-start><ejb-name>EagerBean</ejb-name><l:enabled>false</l:enabled></l:lazy-start>"
+            + "</assembly-descriptor>"
+            + "</jboss:ejb-jar>";
+
+    @Test
+    public void parse() throws Exception {
+        XMLStreamReader reader = XMLInputFactory.newInstance().createXMLStreamReader(new StringReader(DESCRIPTOR));
+        EjbJarMetaData metaData = new JBossEjb3MetaDataParser(EjbJarParsingDeploymentUnitProcessor.createJbossEjbJarParsers())
+                .parse(reader, new MetaDataElementParser.DTDInfo(), PropertyReplacers.noop());
+
+        List<EJBBoundLazyStartMetaData> lazyStarts = metaData.getAssemblyDescriptor().getAny(EJBBoundLazyStartMetaData.class);
+        assertEquals(2, lazyStarts.size());
+        assertEquals("*", lazyStarts.get(0).getEjbName());
+        assertEquals(Boolean.TRUE, lazyStarts.get(0).isLazyStart());
+        assertEquals("EagerBean", lazyStarts.get(1).getEjbName());
+        assertEquals(Boolean.FALSE, lazyStarts.get(1).isLazyStart());
+    }
+}
@@ -230,6 +230,12 @@ public abstract class JaxrsAttribute {
             .setValidator(new StringAllowedValuesValidator("SUMMARY", "TRACE", "VERBOSE"))
             .build();
 
+    static final SimpleAttributeDefinition DEFER_DEFAULT_VALUE_VALIDATION = SimpleAttributeDefinitionBuilder.create("defer-default-value-validation", ModelType.BOOLEAN)
+            .setAllowExpression(true)
+            .setDefaultValue(ModelNode.FALSE)
+            .setRequired(false)
+            .build();
+
     public static final AttributeDefinition[] ATTRIBUTES = new AttributeDefinition[] {
             JAXRS_2_0_REQUEST_MATCHING,
             RESTEASY_ADD_CHARSET,
@@ -254,6 +260,7 @@ public abstract class JaxrsAttribute {
             RESTEASY_WIDER_REQUEST_MATCHING,
             TRACING_TYPE,
             TRACING_THRESHOLD,
+            DEFER_DEFAULT_VALUE_VALIDATION,
     };
 
     public static final AttributeDefinition[] simpleAttributesArray = new AttributeDefinition[] {
@@ -275,6 +282,7 @@ public abstract class JaxrsAttribute {
             RESTEASY_WIDER_REQUEST_MATCHING,
             TRACING_TYPE,
             TRACING_THRESHOLD,
+            DEFER_DEFAULT_VALUE_VALIDATION,
     };
 
     public static final AttributeDefinition[] listAttributeArray = new AttributeDefinition[] {
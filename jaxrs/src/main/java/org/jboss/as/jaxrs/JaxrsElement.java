@@ -41,6 +41,7 @@ enum JaxrsElement {
     RESTEASY_WIDER_REQUEST_MATCHING(JaxrsConstants.RESTEASY_WIDER_REQUEST_MATCHING),
     TRACING_TYPE(JaxrsAttribute.TRACING_TYPE.getName()),
     TRACING_THRESHOLD(JaxrsAttribute.TRACING_THRESHOLD.getName()),
+    DEFER_DEFAULT_VALUE_VALIDATION(JaxrsAttribute.DEFER_DEFAULT_VALUE_VALIDATION.getName()),
     ;
 
     private final String name;
@@ -35,6 +35,7 @@ public class JaxrsServerConfig {
     private ModelNode resteasyUseBuiltinProviders;
     private ModelNode resteasyUseContainerFormParams;
     private ModelNode resteasyWiderRequestMatching;
+    private boolean deferDefaultValueValidation;
 
     private final Map<String, String> contextParameters;
 
@@ -194,4 +195,10 @@ public class JaxrsServerConfig {
     public void setResteasyWiderRequestMatching(ModelNode resteasyWiderRequestMatching) {
         this.resteasyWiderRequestMatching = resteasyWiderRequestMatching;
     }
+    public boolean isDeferDefaultValueValidation() {
+        return deferDefaultValueValidation;
+    }
+    public void setDeferDefaultValueValidation(boolean deferDefaultValueValidation) {
+        this.deferDefaultValueValidation = deferDefaultValueValidation;
+    }
 }
@@ -141,6 +141,7 @@ class JaxrsSubsystemAdd extends AbstractBoottimeAddStepHandler {
         if (configuration.hasDefined(JaxrsAttribute.TRACING_TYPE.getName())) {
             config.putContextParameter("resteasy.server.tracing.type", JaxrsAttribute.TRACING_TYPE.resolveModelAttribute(context, configuration).asString());
         }
+        config.setDeferDefaultValueValidation(JaxrsAttribute.DEFER_DEFAULT_VALUE_VALIDATION.resolveModelAttribute(context, configuration).asBoolean());
         return config;
     }
 }
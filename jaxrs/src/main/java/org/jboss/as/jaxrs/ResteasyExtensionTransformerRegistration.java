@@ -22,6 +22,7 @@ import org.kohsuke.MetaInfServices;
 public class ResteasyExtensionTransformerRegistration implements ExtensionTransformerRegistration {
 
     private static final ModelVersion VERSION_3_0_0 = ModelVersion.create(3, 0, 0);
+    private static final ModelVersion VERSION_4_0_0 = ModelVersion.create(4, 0, 0);
 
     @Override
     public String getSubsystemName() {
@@ -32,9 +33,16 @@ public class ResteasyExtensionTransformerRegistration implements ExtensionTransf
     public void registerTransformers(final SubsystemTransformerRegistration subsystemRegistration) {
         ChainedTransformationDescriptionBuilder builder = TransformationDescriptionBuilder.Factory.createChainedSubystemInstance(subsystemRegistration.getCurrentSubsystemVersion());
 
-        registerV3Transformers(builder.createBuilder(JaxrsExtension.CURRENT_MODEL_VERSION, VERSION_3_0_0));
+        registerV4Transformers(builder.createBuilder(JaxrsExtension.CURRENT_MODEL_VERSION, VERSION_4_0_0));
+        registerV3Transformers(builder.createBuilder(VERSION_4_0_0, VERSION_3_0_0));
 
-        builder.buildAndRegister(subsystemRegistration, new ModelVersion[] {VERSION_3_0_0, JaxrsExtension.CURRENT_MODEL_VERSION});
+        builder.buildAndRegister(subsystemRegistration, new ModelVersion[] {VERSION_3_0_0, VERSION_4_0_0});
+    }
+
+    private static void registerV4Transformers(ResourceTransformationDescriptionBuilder subsystem) {
+        subsystem.getAttributeBuilder()
+                .setDiscard(DiscardAttributeChecker.DEFAULT_VALUE, JaxrsAttribute.DEFER_DEFAULT_VALUE_VALIDATION)
+                .addRejectCheck(RejectAttributeChecker.DEFINED, JaxrsAttribute.DEFER_DEFAULT_VALUE_VALIDATION);
     }
 
     private static void registerV3Transformers(ResourceTransformationDescriptionBuilder subsystem) {
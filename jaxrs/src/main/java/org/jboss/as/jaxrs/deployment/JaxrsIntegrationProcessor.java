@@ -12,13 +12,11 @@ import java.util.ArrayList;
 import java.util.Collections;
 import java.util.HashSet;
 import java.util.Iterator;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
 
-import jakarta.ws.rs.ApplicationPath;
-import jakarta.ws.rs.core.Application;
-
 import org.jboss.as.controller.AttributeDefinition;
 import org.jboss.as.controller.PathElement;
 import org.jboss.as.controller.capability.CapabilityServiceSupport;
@@ -217,15 +215,15 @@ public class JaxrsIntegrationProcessor implements DeploymentUnitProcessor {
             return;
 
         // ignore any non-annotated Application class that doesn't have a servlet mapping
-        Set<Class<? extends Application>> applicationClassSet = new HashSet<>();
-        for (Class<? extends Application> clazz : resteasy.getScannedApplicationClasses()) {
-            if (clazz.isAnnotationPresent(ApplicationPath.class) || servletMappingsExist(webdata, clazz.getName())) {
-                applicationClassSet.add(clazz);
+        Map<String, String> applicationClassMap = new LinkedHashMap<>();
+        for (Map.Entry<String, String> entry : resteasy.getScannedApplicationClasses().entrySet()) {
+            if (entry.getValue() != null || servletMappingsExist(webdata, entry.getKey())) {
+                applicationClassMap.put(entry.getKey(), entry.getValue());
             }
         }
 
         // add default servlet
-        if (applicationClassSet.isEmpty()) {
+        if (applicationClassMap.isEmpty()) {
             JBossServletMetaData servlet = new JBossServletMetaData();
             servlet.setName(JAX_RS_SERVLET_NAME);
             servlet.setServletClass(HttpServlet30Dispatcher.class.getName());
@@ -234,24 +232,24 @@ public class JaxrsIntegrationProcessor implements DeploymentUnitProcessor {
             setServletMappingPrefix(webdata, JAX_RS_SERVLET_NAME, servlet);
         } else {
 
-            for (Class<? extends Application> applicationClass : applicationClassSet) {
+            for (Map.Entry<String, String> applicationClass : applicationClassMap.entrySet()) {
                 String servletName = null;
 
-                servletName = applicationClass.getName();
+                servletName = applicationClass.getKey();
                 JBossServletMetaData servlet = new JBossServletMetaData();
                 // must load on startup for services like JSAPI to work
                 servlet.setLoadOnStartup("" + 0);
                 servlet.setName(servletName);
                 servlet.setServletClass(HttpServlet30Dispatcher.class.getName());
                 servlet.setAsyncSupported(true);
-                setServletInitParam(servlet, SERVLET_INIT_PARAM, applicationClass.getName());
+                setServletInitParam(servlet, SERVLET_INIT_PARAM, applicationClass.getKey());
                 addServlet(webdata, servlet);
                 if (!servletMappingsExist(webdata, servletName)) {
                     try {
                         //no mappings, add our own
                         List<String> patterns = new ArrayList<String>();
                         //for some reason the spec requires this to be decoded
-                        String pathValue = URLDecoder.decode(applicationClass.getAnnotation(ApplicationPath.class).value().trim(), "UTF-8");
+                        String pathValue = URLDecoder.decode(applicationClass.getValue().trim(), "UTF-8");
                         if (!pathValue.startsWith("/")) {
                             pathValue = "/" + pathValue;
                         }
@@ -17,28 +17,29 @@ import org.jboss.as.server.deployment.annotation.CompositeIndex;
 import org.jboss.jandex.AnnotationInstance;
 import org.jboss.jandex.ClassInfo;
 import org.jboss.jandex.DotName;
-import org.jboss.jandex.Index;
 import org.jboss.jandex.Indexer;
+import org.jboss.jandex.MethodInfo;
+import org.jboss.jandex.MethodParameterInfo;
+import org.jboss.jandex.Type;
 import org.jboss.modules.Module;
 
-import jakarta.ws.rs.DefaultValue;
 import jakarta.ws.rs.ext.ParamConverter;
 import jakarta.ws.rs.ext.ParamConverterProvider;
-import java.io.File;
 import java.io.IOException;
 import java.io.InputStream;
 import java.lang.annotation.Annotation;
 import java.lang.reflect.Constructor;
 import java.lang.reflect.Method;
 import java.lang.reflect.Modifier;
-import java.lang.reflect.ParameterizedType;
-import java.lang.reflect.Type;
 import java.util.ArrayList;
+import java.util.Collections;
 import java.util.HashMap;
 import java.util.HashSet;
+import java.util.LinkedHashSet;
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
+import java.util.StringJoiner;
 
 import static org.jboss.as.jaxrs.logging.JaxrsLogger.JAXRS_LOGGER;
 
@@ -47,8 +48,19 @@ import static org.jboss.as.jaxrs.logging.JaxrsLogger.JAXRS_LOGGER;
  * method parameters with DefaultValue annotations at application deployment
  * time.
  * (section 3.2 of the Jakarta RESTful Web Services 2.1 specification)
+ *
+ * The parameters are found from the annotation index, so that the resource
+ * classes are only loaded when a ParamConverterProvider needs the annotations
+ * of a parameter. The validation can be left to RESTEasy, which validates the
+ * default values when the resource methods are first used, with the
+ * defer-default-value-validation attribute of the subsystem, which a
+ * deployment can override with the {@value #DEFER_DEFAULT_VALUE_VALIDATION}
+ * context parameter.
  */
 public class JaxrsMethodParameterProcessor implements DeploymentUnitProcessor {
+
+    public static final String DEFER_DEFAULT_VALUE_VALIDATION = "org.wildfly.jaxrs.defer-default-value-validation";
+
     private final DotName PARAM_CONVERTER_PROVIDER_DOTNAME =
             DotName.createSimple("jakarta.ws.rs.ext.ParamConverterProvider");
     private final DotName PARAM_CONVERTER_DOTNAME =
@@ -72,14 +84,14 @@ public class JaxrsMethodParameterProcessor implements DeploymentUnitProcessor {
 
         final ResteasyDeploymentData resteasy = deploymentUnit.getAttachment(
                 JaxrsAttachments.RESTEASY_DEPLOYMENT_DATA);
-        if (resteasy == null) {
+        if (resteasy == null || resteasy.isDeferDefaultValueValidation()) {
             return;
         }
         final Module module = deploymentUnit.getAttachment(Attachments.MODULE);
         final CompositeIndex index = deploymentUnit.getAttachment(
                 Attachments.COMPOSITE_ANNOTATION_INDEX);
 
-        processData(index, module.getClassLoader(), resteasy, false);
+        processData(index, module.getClassLoader(), resteasy);
     }
 
     /**
@@ -87,20 +99,19 @@ public class JaxrsMethodParameterProcessor implements DeploymentUnitProcessor {
      * @param index
      * @param classLoader
      * @param resteasy
-     * @param isFromUnitTest
      * @throws DeploymentUnitProcessingException
      */
     private void processData(final CompositeIndex index, final ClassLoader classLoader,
-                             ResteasyDeploymentData resteasy, boolean isFromUnitTest)
+                             ResteasyDeploymentData resteasy)
             throws DeploymentUnitProcessingException {
 
         List<ParamDetail> detailList = getResouceClasses(index, classLoader,
-                resteasy.getScannedResourceClasses(), isFromUnitTest);
+                resteasy.getScannedResourceClasses());
 
         if (!detailList.isEmpty()) {
             HashMap<String, List<Validator>> paramConverterMap =
                     getParamConverters(index, classLoader,
-                            resteasy.getScannedProviderClasses(), isFromUnitTest);
+                            resteasy.getScannedProviderClasses());
 
             validateDefaultValues(detailList, paramConverterMap);
         }
@@ -140,9 +151,9 @@ public class JaxrsMethodParameterProcessor implements DeploymentUnitProcessor {
                                 break;
                             }
                         } catch (Exception e) {
-                            JAXRS_LOGGER.paramConverterFailed(detail.defaultValue.value(),
+                            JAXRS_LOGGER.paramConverterFailed(detail.defaultValue,
                                     detail.parameter.getSimpleName(),
-                                    detail.method.toString(),
+                                    detail.getMethodName(),
                                     v.toString(), e.getClass().getName(),
                                     e.getMessage());
                         }
@@ -172,7 +183,7 @@ public class JaxrsMethodParameterProcessor implements DeploymentUnitProcessor {
                                 valueOf = fromValue;
                             }
                         }
-                        validateBaseType(fromValue, detail.defaultValue.value(), detail);
+                        validateBaseType(fromValue, detail.defaultValue, detail);
                         continue; // success move to next detail
                     }
                 } catch (NoSuchMethodException ignoredA) { }
@@ -182,7 +193,7 @@ public class JaxrsMethodParameterProcessor implements DeploymentUnitProcessor {
                 try {
                     fromString = baseType.getDeclaredMethod("fromString", String.class);
                     if (Modifier.isStatic(fromString.getModifiers())) {
-                        validateBaseType(fromString, detail.defaultValue.value(), detail);
+                        validateBaseType(fromString, detail.defaultValue, detail);
                         continue; // success move to next detail
                     }
                 } catch (NoSuchMethodException ignoredB) {
@@ -192,7 +203,7 @@ public class JaxrsMethodParameterProcessor implements DeploymentUnitProcessor {
                 try {
                     valueOf = baseType.getDeclaredMethod("valueOf", String.class);
                     if (Modifier.isStatic(valueOf.getModifiers())) {
-                        validateBaseType(valueOf, detail.defaultValue.value(), detail);
+                        validateBaseType(valueOf, detail.defaultValue, detail);
                         continue; // success move to next detail
                     }
                 } catch (NoSuchMethodException ignored) {
@@ -207,57 +218,28 @@ public class JaxrsMethodParameterProcessor implements DeploymentUnitProcessor {
      * Create a list of ParamConverters and ParamConverterProviders present
      * in the application.
      *
-     * When running unitTest the classes must be indexed.  In normal deployment
-     * the indexing is already done.
-     *
      * @param index
      * @param classLoader
      * @return
      */
     private HashMap<String, List<Validator>>  getParamConverters(
             final CompositeIndex index, final ClassLoader classLoader,
-            Set<String> knownProviderClasses, boolean isFromUnitTest) {
+            Set<String> knownProviderClasses) {
 
         HashMap<String, List<Validator>> paramConverterMap = new HashMap<>();
         List<Validator> converterProviderList = new ArrayList<>();
         paramConverterMap.put(Object.class.getName(), converterProviderList);
 
         Set<ClassInfo> paramConverterSet = new HashSet<ClassInfo>();
-        if(isFromUnitTest) {
-            Indexer indexer = new Indexer();
-            for (String className : knownProviderClasses) {
-                try {
-                    String pathName = className.replace(".", File.separator);
-                    InputStream stream = classLoader.getResourceAsStream(
-                            pathName + ".class");
-                    indexer.index(stream);
-                    stream.close();
-                } catch (IOException e) {
-                    JAXRS_LOGGER.classIntrospectionFailure(e.getClass().getName(),
-                            e.getMessage());
-                }
-            }
-
-            Index tmpIndex = indexer.complete();
-            List<ClassInfo> paramConverterList =
-                    tmpIndex.getKnownDirectImplementors(PARAM_CONVERTER_DOTNAME);
-            List<ClassInfo> paramConverterProviderList =
-                    tmpIndex.getKnownDirectImplementors(PARAM_CONVERTER_PROVIDER_DOTNAME);
-            paramConverterSet.addAll(paramConverterList);
-            paramConverterSet.addAll(paramConverterProviderList);
-
-        } else {
-
-            for (String clazzName : knownProviderClasses) {
-                ClassInfo classInfo = index.getClassByName(DotName.createSimple(clazzName));
-                if (classInfo != null) {
-                    List<DotName> intfNamesList = classInfo.interfaceNames();
-                    for (DotName dotName : intfNamesList) {
-                        if (dotName.compareTo(PARAM_CONVERTER_DOTNAME) == 0
-                                || dotName.compareTo(PARAM_CONVERTER_PROVIDER_DOTNAME) == 0) {
-                            paramConverterSet.add(classInfo);
-                            break;
-                        }
+        for (String clazzName : knownProviderClasses) {
+            ClassInfo classInfo = index.getClassByName(DotName.createSimple(clazzName));
+            if (classInfo != null) {
+                List<DotName> intfNamesList = classInfo.interfaceNames();
+                for (DotName dotName : intfNamesList) {
+                    if (dotName.compareTo(PARAM_CONVERTER_DOTNAME) == 0
+                            || dotName.compareTo(PARAM_CONVERTER_PROVIDER_DOTNAME) == 0) {
+                        paramConverterSet.add(classInfo);
+                        break;
                     }
                 }
             }
@@ -285,7 +267,7 @@ public class JaxrsMethodParameterProcessor implements DeploymentUnitProcessor {
                     method = pcpObj.getClass().getMethod(
                             "getConverter",
                             Class.class,
-                            Type.class,
+                            java.lang.reflect.Type.class,
                             Annotation[].class);
                     converterProviderList.add(new ConverterProvider(pcpObj, method, lazyLoadAnnotations));
                 }
@@ -332,8 +314,9 @@ public class JaxrsMethodParameterProcessor implements DeploymentUnitProcessor {
      * Create list of objects that represents resource method parameters with a
      * DefaultValue annontation assigned to it.
      *
-     * When running unitTest the classes must be indexed.  In normal deployment
-     * the indexing is already done.
+     * The parameters are found from the annotation index, so that the
+     * resource classes are not loaded, and only the classes of the parameters
+     * to validate are.
      *
      * @param index
      * @param classLoader
@@ -341,86 +324,48 @@ public class JaxrsMethodParameterProcessor implements DeploymentUnitProcessor {
      */
     private ArrayList<ParamDetail> getResouceClasses(final CompositeIndex index,
                                    final ClassLoader classLoader,
-                                   Set<String> knownResourceClasses,
-                                   boolean isFromUnitTest) {
+                                   Set<String> knownResourceClasses) {
 
         ArrayList<ParamDetail> detailList = new ArrayList<>();
-        ArrayList<String> classNameArr = new ArrayList<>();
 
-        if (isFromUnitTest) {
-            for (String className : knownResourceClasses) {
-                try {
-                    String pathName = className.replace(".", File.separator);
-                    InputStream stream = classLoader.getResourceAsStream(pathName + ".class");
-                    ClassInfo classInfo = Index.singleClass(stream);
-
-                    List<AnnotationInstance> defaultValuesList =
-                            classInfo.annotationsMap().get(DEFAULT_VALUE_DOTNAME);
-
-                    if (!defaultValuesList.isEmpty()) {
-                        classNameArr.add((classInfo).name().toString());
-                    }
+        for (String clazzName : knownResourceClasses) {
 
-                    stream.close();
-
-                } catch (IOException e) {
-                    JAXRS_LOGGER.classIntrospectionFailure(e.getClass().getName(),
-                            e.getMessage());
-                }
+            ClassInfo classInfo = index.getClassByName(DotName.createSimple(clazzName));
+            if (classInfo == null) {
+                continue;
             }
-        } else {
-
-            for (String clazzName : knownResourceClasses) {
-
-                ClassInfo classInfo = index.getClassByName(DotName.createSimple(clazzName));
-                if (classInfo != null) {
-                    Map<DotName, List<AnnotationInstance>> annotationsMap =
-                            classInfo.annotationsMap();
-
-                    if (annotationsMap != null && !annotationsMap.isEmpty()) {
-                        List<AnnotationInstance> xInstance = annotationsMap.get(
-                                JaxrsAnnotations.PATH.getDotName());
-                        List<AnnotationInstance> xdefaultValuesList =
-                                annotationsMap.get(DEFAULT_VALUE_DOTNAME);
-                        if ((xInstance != null && !xInstance.isEmpty()) &&
-                             (xdefaultValuesList != null && !xdefaultValuesList.isEmpty())) {
-                            classNameArr.add((classInfo).name().toString());
-                        }
-                    }
-                }
+            Map<DotName, List<AnnotationInstance>> annotationsMap = classInfo.annotationsMap();
+            List<AnnotationInstance> xInstance = annotationsMap.get(
+                    JaxrsAnnotations.PATH.getDotName());
+            List<AnnotationInstance> xdefaultValuesList =
+                    annotationsMap.get(DEFAULT_VALUE_DOTNAME);
+            if (xInstance == null || xInstance.isEmpty()
+                    || xdefaultValuesList == null || xdefaultValuesList.isEmpty()) {
+                continue;
             }
-        }
 
-        // resource classes with @DefaultValue
-        // find methods and method params with @DefaultValue
-        for (String className : classNameArr) {
-            Class<?> clazz = null;
-            try {
-                clazz = classLoader.loadClass(className);
-                for (Method method : clazz.getMethods()) {
-                    if (clazz == method.getDeclaringClass()) {
-                        Type[] genParamTypeArr = method.getGenericParameterTypes();
-                        Annotation[][] annotationMatrix = method.getParameterAnnotations();
-
-                        for (int j = 0; j < genParamTypeArr.length; j++) {
-                            DefaultValue defaultValue = lookupDefaultValueAnn(annotationMatrix[j]);
-
-                            if (defaultValue != null) {
-                                Class paramClazz = checkParamType(genParamTypeArr[j],
-                                        method, j, classLoader);
-
-                                if (paramClazz != null) {
-                                    detailList.add(new ParamDetail(method,
-                                            defaultValue, paramClazz, annotationMatrix[j]));
-                                }
-                            }
-                        }
+            // resource classes with @DefaultValue
+            // find public methods and method params with @DefaultValue
+            for (AnnotationInstance defaultValue : xdefaultValuesList) {
+                if (!(defaultValue.target() instanceof MethodParameterInfo)) {
+                    continue;
+                }
+                MethodParameterInfo parameter = (MethodParameterInfo) defaultValue.target();
+                MethodInfo method = parameter.method();
+                if (method.isConstructor() || !Modifier.isPublic(method.flags())) {
+                    continue;
+                }
+                String paramClazzName = checkParamType(method.parameterType(parameter.position()));
+                if (paramClazzName != null) {
+                    try {
+                        Class<?> paramClazz = Class.forName(paramClazzName, false, classLoader);
+                        detailList.add(new ParamDetail(method, parameter.position(),
+                                defaultValue.value().asString(), paramClazz, classLoader));
+                    } catch (ClassNotFoundException | LinkageError e) {
+                        JAXRS_LOGGER.classIntrospectionFailure(e.getClass().getName(),
+                                e.getMessage());
                     }
                 }
-
-            } catch (ClassNotFoundException e) {
-                JAXRS_LOGGER.classIntrospectionFailure(e.getClass().getName(),
-                        e.getMessage());
             }
         }
         return detailList;
@@ -428,75 +373,82 @@ public class JaxrsMethodParameterProcessor implements DeploymentUnitProcessor {
 
     /**
      * Take steps to properly identify the parameter's data type
-     * @param genParamType
-     * @param method
-     * @param paramPos
-     * @param classLoader
-     * @return
+     * @param paramType
+     * @return the name of the class of the parameter to validate, or null if it cannot be validated
      */
-    private Class checkParamType(Type genParamType, final Method method,
-                                 final int paramPos, final ClassLoader classLoader){
-
-        Class paramClazz = null;
-
-        if (genParamType instanceof ParameterizedType) {
-            ParameterizedType pType = (ParameterizedType) genParamType;
-            Type[] actualTypeArgs = pType.getActualTypeArguments();
-            // skip Map types. Don't know how to set default value for these
-            if (actualTypeArgs.length == 1) {
-                try {
-                    paramClazz = classLoader.loadClass(actualTypeArgs[0].getTypeName());
-                } catch (Exception ee) {
-                    JAXRS_LOGGER.classIntrospectionFailure(ee.getClass().getName(),
-                            ee.getMessage());
-                }
-            }
-        } else {
-            Class<?>[] paramArr = method.getParameterTypes();
-            if (paramArr[paramPos].isArray()) {
-                Class compClazz = paramArr[paramPos].getComponentType();
-                if (!compClazz.isPrimitive()) {
-                    paramClazz = compClazz;
-                }
-            } else {
-                if (!paramArr[paramPos].isPrimitive()) {
-                    paramClazz = paramArr[paramPos];
-                }
-            }
-        }
-        return paramClazz;
-    }
-
-    /**
-     * Extract a DefaultValue annotation from the list of parameter annotations
-     * @param annotationArr
-     * @return
-     */
-    private DefaultValue lookupDefaultValueAnn(Annotation[] annotationArr) {
-        for (Annotation ann :  annotationArr) {
-
-            if (ann instanceof DefaultValue) {
-                return (DefaultValue)ann;
-            }
+    private String checkParamType(Type paramType) {
+
+        switch (paramType.kind()) {
+            case PRIMITIVE:
+                return null;
+            case ARRAY:
+                Type compType = paramType.asArrayType().component();
+                return (compType.kind() == Type.Kind.PRIMITIVE) ? null : compType.name().toString();
+            case PARAMETERIZED_TYPE:
+                List<Type> actualTypeArgs = paramType.asParameterizedType().arguments();
+                // skip Map types. Don't know how to set default value for these
+                return (actualTypeArgs.size() == 1) ? actualTypeArgs.get(0).name().toString() : null;
+            default:
+                return paramType.name().toString();
         }
-        return null;
     }
 
     /**
      * Data structure for passing around related parameter information
      */
-    private class ParamDetail {
-        public Method method;
-        public DefaultValue defaultValue;
+    private static class ParamDetail {
+        public MethodInfo method;
+        public int position;
+        public String defaultValue;
         public Class parameter;
-        public Annotation[] annotations;
+        private final ClassLoader classLoader;
+        private Annotation[] annotations;
 
-        public ParamDetail(Method method, DefaultValue defaultValue, Class parameter,
-                           Annotation[] annotations) {
+        public ParamDetail(MethodInfo method, int position, String defaultValue, Class parameter,
+                           ClassLoader classLoader) {
             this.method = method;
+            this.position = position;
             this.defaultValue = defaultValue;
             this.parameter = parameter;
-            this.annotations = annotations;
+            this.classLoader = classLoader;
+        }
+
+        public String getMethodName() {
+            StringJoiner params = new StringJoiner(",", "(", ")");
+            for (Type type : method.parameterTypes()) {
+                params.add(type.name().toString());
+            }
+            return method.declaringClass().name() + "." + method.name() + params;
+        }
+
+        /**
+         * The annotations of the parameter, which need the resource class to
+         * be loaded, so are only read when a ParamConverterProvider needs them.
+         */
+        public Annotation[] getAnnotations() throws ClassNotFoundException {
+            if (annotations == null) {
+                annotations = new Annotation[0];
+                Class<?> clazz = Class.forName(method.declaringClass().name().toString(), false, classLoader);
+                for (Method m : clazz.getDeclaredMethods()) {
+                    if (m.getName().equals(method.name()) && isSameParameters(m.getParameterTypes())) {
+                        annotations = m.getParameterAnnotations()[position];
+                        break;
+                    }
+                }
+            }
+            return annotations;
+        }
+
+        private boolean isSameParameters(Class<?>[] parameterTypes) {
+            if (parameterTypes.length != method.parametersCount()) {
+                return false;
+            }
+            for (int i = 0; i < parameterTypes.length; i++) {
+                if (!parameterTypes[i].getName().equals(method.parameterType(i).name().toString())) {
+                    return false;
+                }
+            }
+            return true;
         }
     }
 
@@ -532,11 +484,11 @@ public class JaxrsMethodParameterProcessor implements DeploymentUnitProcessor {
             Object obj = method.invoke(pcp,
                     detail.parameter,
                     detail.parameter.getComponentType(),
-                    detail.annotations);
+                    detail.getAnnotations());
 
             if (obj instanceof ParamConverter) {
                 this.pc = (ParamConverter) obj;
-                return pc.fromString(detail.defaultValue.value());
+                return pc.fromString(detail.defaultValue);
             }
 
             return obj;
@@ -573,7 +525,7 @@ public class JaxrsMethodParameterProcessor implements DeploymentUnitProcessor {
         }
 
         public Object verify(ParamDetail detail) throws Exception {
-                Object obj = method.invoke(pc, detail.defaultValue.value());
+                Object obj = method.invoke(pc, detail.defaultValue);
                 return obj;
         }
 
@@ -597,7 +549,7 @@ public class JaxrsMethodParameterProcessor implements DeploymentUnitProcessor {
                 method.invoke(method.getDeclaringClass(), defaultValue);
             } catch (Exception e) {
                 JAXRS_LOGGER.baseTypeMethodFailed(defaultValue,
-                        detail.parameter.getSimpleName(), detail.method.toString(),
+                        detail.parameter.getSimpleName(), detail.getMethodName(),
                         method.toString(), e.getClass().getName(),
                         e.getMessage());
             }
@@ -606,11 +558,24 @@ public class JaxrsMethodParameterProcessor implements DeploymentUnitProcessor {
 
     /**
      * Method allows unit-test to provide processing data.
+     * The resource and provider classes are indexed, as done by a deployment.
      * @param resteasyDeploymentData
      */
     public void testProcessor(final ClassLoader classLoader,
                               final ResteasyDeploymentData resteasyDeploymentData)
             throws DeploymentUnitProcessingException {
-        processData(null, classLoader, resteasyDeploymentData, true);
+        Set<String> classNames = new LinkedHashSet<>(resteasyDeploymentData.getScannedResourceClasses());
+        classNames.addAll(resteasyDeploymentData.getScannedProviderClasses());
+        Indexer indexer = new Indexer();
+        for (String className : classNames) {
+            try (InputStream stream = classLoader.getResourceAsStream(className.replace('.', '/') + ".class")) {
+                indexer.index(stream);
+            } catch (IOException e) {
+                JAXRS_LOGGER.classIntrospectionFailure(e.getClass().getName(),
+                        e.getMessage());
+            }
+        }
+        processData(new CompositeIndex(Collections.singleton(indexer.complete())), classLoader,
+                resteasyDeploymentData);
     }
 }
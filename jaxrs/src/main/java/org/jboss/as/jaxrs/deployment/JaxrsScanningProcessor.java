@@ -9,14 +9,20 @@ import java.util.ArrayList;
 import java.util.Collections;
 import java.util.HashMap;
 import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
 import java.util.List;
 import java.util.Locale;
 import java.util.Map;
+import java.util.Properties;
 import java.util.Set;
 
 import jakarta.ws.rs.core.Application;
 
+import org.jboss.as.ee.structure.DeploymentAnalysisCache;
 import org.jboss.as.jaxrs.JaxrsAnnotations;
+import org.jboss.as.jaxrs.JaxrsServerConfig;
+import org.jboss.as.jaxrs.JaxrsServerConfigService;
 import org.jboss.as.jaxrs.logging.JaxrsLogger;
 import org.jboss.as.server.deployment.Attachments;
 import org.jboss.as.server.deployment.DeploymentPhaseContext;
@@ -55,8 +61,15 @@ public class JaxrsScanningProcessor implements DeploymentUnitProcessor {
     private static final DotName DECORATOR = DotName.createSimple("jakarta.decorator.Decorator");
 
     public static final DotName APPLICATION = DotName.createSimple(Application.class.getName());
+    private static final DotName OBJECT = DotName.createSimple(Object.class.getName());
     private static final String ORG_APACHE_CXF = "org.apache.cxf";
 
+    private static final String SCAN_ANALYSIS = "jaxrs-scan-2";
+    private static final String APPLICATION_CLASSES = "application-classes";
+    private static final String APPLICATION_PATH = "application-path.";
+    private static final String RESOURCE_CLASSES = "resource-classes";
+    private static final String PROVIDER_CLASSES = "provider-classes";
+
     @Override
     public void deploy(DeploymentPhaseContext phaseContext) throws DeploymentUnitProcessingException {
         final DeploymentUnit deploymentUnit = phaseContext.getDeploymentUnit();
@@ -75,6 +88,10 @@ public class JaxrsScanningProcessor implements DeploymentUnitProcessor {
         final ModuleIdentifier moduleIdentifier = deploymentUnit.getAttachment(Attachments.MODULE_IDENTIFIER);
 
         ResteasyDeploymentData resteasyDeploymentData = new ResteasyDeploymentData();
+        // the subsystem setting, which the deployment can override with a context parameter
+        @SuppressWarnings("deprecation")
+        JaxrsServerConfig config = (JaxrsServerConfig) phaseContext.getServiceRegistry().getRequiredService(JaxrsServerConfigService.CONFIG_SERVICE).getValue();
+        resteasyDeploymentData.setDeferDefaultValueValidation(config.isDeferDefaultValueValidation());
         final WarMetaData warMetaData = deploymentUnit.getAttachment(WarMetaData.ATTACHMENT_KEY);
         final Module module = deploymentUnit.getAttachment(Attachments.MODULE);
 
@@ -82,11 +99,11 @@ public class JaxrsScanningProcessor implements DeploymentUnitProcessor {
 
             if (warMetaData == null) {
                 resteasyDeploymentData.setScanAll(true);
-                scan(deploymentUnit, module.getClassLoader(), resteasyDeploymentData);
+                scan(deploymentUnit, resteasyDeploymentData);
                 deploymentData.put(moduleIdentifier, resteasyDeploymentData);
             } else {
                 scanWebDeployment(deploymentUnit, warMetaData.getMergedJBossWebMetaData(), module.getClassLoader(), resteasyDeploymentData);
-                scan(deploymentUnit, module.getClassLoader(), resteasyDeploymentData);
+                scan(deploymentUnit, resteasyDeploymentData);
 
                 // When BootStrap classes are present and no Application subclass declared
                 // must check context param for Application subclass declaration
@@ -178,17 +195,16 @@ public class JaxrsScanningProcessor implements DeploymentUnitProcessor {
 
                     Set<String> scannedResourceClasses = resteasyDeploymentData.getScannedResourceClasses();
                     for (Class<?> cClazz : clazzSet) {
-                        if (cClazz.isAnnotationPresent(jakarta.ws.rs.Path.class)) {
-                            final ClassInfo info = resourceMap.get(cClazz.getName());
-                            if (info != null) {
-                                if (info.annotationsMap().containsKey(DECORATOR)) {
-                                    //we do not add decorators as resources
-                                    //we can't pick up on programatically added decorators, but that is such an edge case it should not really matter
-                                    continue;
-                                }
-                                if (!Modifier.isInterface(info.flags())) {
-                                    scannedResourceClasses.add(info.name().toString());
-                                }
+                        // the index tells whether the class is annotated with @Path, without reading its annotations
+                        final ClassInfo info = resourceMap.get(cClazz.getName());
+                        if (info != null) {
+                            if (info.annotationsMap().containsKey(DECORATOR)) {
+                                //we do not add decorators as resources
+                                //we can't pick up on programatically added decorators, but that is such an edge case it should not really matter
+                                continue;
+                            }
+                            if (!Modifier.isInterface(info.flags())) {
+                                scannedResourceClasses.add(info.name().toString());
                             }
                         }
                     }
@@ -235,7 +251,8 @@ public class JaxrsScanningProcessor implements DeploymentUnitProcessor {
         boolean hasBoot = hasBootClasses(webdata);
         resteasyDeploymentData.setBootClasses(hasBoot);
 
-        Class<?> declaredApplicationClass = checkDeclaredApplicationClassAsServlet(webdata, classLoader);
+        final CompositeIndex index = du.getAttachment(Attachments.COMPOSITE_ANNOTATION_INDEX);
+        String declaredApplicationClass = checkDeclaredApplicationClassAsServlet(webdata, index, classLoader);
         // Assume that checkDeclaredApplicationClassAsServlet created the dispatcher
         if (declaredApplicationClass != null) {
             resteasyDeploymentData.setDispatcherCreated(true);
@@ -267,32 +284,67 @@ public class JaxrsScanningProcessor implements DeploymentUnitProcessor {
                     resteasyDeploymentData.setScanResources(valueOf(RESTEASY_SCAN_RESOURCES, param.getParamValue()));
                 } else if (param.getParamName().equals(ResteasyContextParameters.RESTEASY_UNWRAPPED_EXCEPTIONS)) {
                     resteasyDeploymentData.setUnwrappedExceptionsParameterSet(true);
+                } else if (param.getParamName().equals(JaxrsMethodParameterProcessor.DEFER_DEFAULT_VALUE_VALIDATION)) {
+                    resteasyDeploymentData.setDeferDefaultValueValidation(valueOf(JaxrsMethodParameterProcessor.DEFER_DEFAULT_VALUE_VALIDATION, param.getParamValue()));
                 }
             }
         }
 
     }
 
-    protected void scan(final DeploymentUnit du, final ClassLoader classLoader, final ResteasyDeploymentData resteasyDeploymentData)
+    protected void scan(final DeploymentUnit du, final ResteasyDeploymentData resteasyDeploymentData)
             throws DeploymentUnitProcessingException, ModuleLoadException {
 
-        final CompositeIndex index = du.getAttachment(Attachments.COMPOSITE_ANNOTATION_INDEX);
-
         if (!resteasyDeploymentData.shouldScan()) {
             return;
         }
 
-        if (!resteasyDeploymentData.isDispatcherCreated()) {
-            final Set<ClassInfo> applicationClasses = index.getAllKnownSubclasses(APPLICATION);
-            try {
-                for (ClassInfo c : applicationClasses) {
-                    if (Modifier.isAbstract(c.flags())) continue;
-                    @SuppressWarnings("unchecked")
-                    Class<? extends Application> scanned = (Class<? extends Application>) classLoader.loadClass(c.name().toString());
-                    resteasyDeploymentData.getScannedApplicationClasses().add(scanned);
+        final Map<String, String> applicationClasses = new LinkedHashMap<>();
+        final Set<String> resourceClasses = new LinkedHashSet<>();
+        final Set<String> providerClasses = new LinkedHashSet<>();
+
+        // the scanning results only depend on the annotation index and on the scanning flags set from web.xml
+        final DeploymentAnalysisCache cache = du.getAttachment(org.jboss.as.ee.component.Attachments.DEPLOYMENT_ANALYSIS_CACHE);
+        final String configuration = resteasyDeploymentData.isDispatcherCreated() + "," + resteasyDeploymentData.isScanResources() + "," + resteasyDeploymentData.isScanProviders();
+        final DeploymentAnalysisCache.Entry entry = (cache != null) ? cache.getEntry(du, SCAN_ANALYSIS, configuration) : null;
+        final Properties cached = (entry != null) ? entry.load() : null;
+        if (cached != null) {
+            JAXRS_LOGGER.debugf("Using cached Jakarta RESTful Web Services scanning results of %s", du.getName());
+            for (String applicationClass : DeploymentAnalysisCache.getNames(cached, APPLICATION_CLASSES)) {
+                applicationClasses.put(applicationClass, cached.getProperty(APPLICATION_PATH + applicationClass));
+            }
+            resourceClasses.addAll(DeploymentAnalysisCache.getNames(cached, RESOURCE_CLASSES));
+            providerClasses.addAll(DeploymentAnalysisCache.getNames(cached, PROVIDER_CLASSES));
+        } else {
+            scan(du.getAttachment(Attachments.COMPOSITE_ANNOTATION_INDEX), resteasyDeploymentData, applicationClasses, resourceClasses, providerClasses);
+            if (entry != null) {
+                final Properties results = new Properties();
+                DeploymentAnalysisCache.setNames(results, APPLICATION_CLASSES, applicationClasses.keySet());
+                for (Map.Entry<String, String> applicationClass : applicationClasses.entrySet()) {
+                    if (applicationClass.getValue() != null) {
+                        results.setProperty(APPLICATION_PATH + applicationClass.getKey(), applicationClass.getValue());
+                    }
                 }
-            } catch (ClassNotFoundException e) {
-                throw JaxrsLogger.JAXRS_LOGGER.cannotLoadApplicationClass(e);
+                DeploymentAnalysisCache.setNames(results, RESOURCE_CLASSES, resourceClasses);
+                DeploymentAnalysisCache.setNames(results, PROVIDER_CLASSES, providerClasses);
+                entry.store(results);
+            }
+        }
+
+        // the Application classes are not loaded, as the index tells all that is needed about them
+        resteasyDeploymentData.getScannedApplicationClasses().putAll(applicationClasses);
+        resteasyDeploymentData.getScannedResourceClasses().addAll(resourceClasses);
+        resteasyDeploymentData.getScannedProviderClasses().addAll(providerClasses);
+    }
+
+    private static void scan(final CompositeIndex index, final ResteasyDeploymentData resteasyDeploymentData,
+            final Map<String, String> applicationClasses, final Set<String> resourceClasses, final Set<String> providerClasses) {
+
+        if (!resteasyDeploymentData.isDispatcherCreated()) {
+            for (ClassInfo c : index.getAllKnownSubclasses(APPLICATION)) {
+                if (Modifier.isAbstract(c.flags())) continue;
+                final AnnotationInstance applicationPath = c.declaredAnnotation(JaxrsAnnotations.APPLICATION_PATH.getDotName());
+                applicationClasses.put(c.name().toString(), (applicationPath != null) ? applicationPath.value().asString() : null);
             }
         }
 
@@ -331,7 +383,7 @@ public class JaxrsScanningProcessor implements DeploymentUnitProcessor {
                     continue;
                 }
                 if (!Modifier.isInterface(info.flags())) {
-                    resteasyDeploymentData.getScannedResourceClasses().add(info.name().toString());
+                    resourceClasses.add(info.name().toString());
                 } else {
                     pathInterfaces.add(info);
                 }
@@ -353,7 +405,7 @@ public class JaxrsScanningProcessor implements DeploymentUnitProcessor {
                         continue;
                     }
                     if (!Modifier.isInterface(info.flags())) {
-                        resteasyDeploymentData.getScannedProviderClasses().add(info.name().toString());
+                        providerClasses.add(info.name().toString());
                     }
                 } else {
                     JAXRS_LOGGER.classAnnotationNotFound("@Provider", e.target());
@@ -376,13 +428,13 @@ public class JaxrsScanningProcessor implements DeploymentUnitProcessor {
                     //we can't pick up on programatically added decorators, but that is such an edge case it should not really matter
                     continue;
                 }
-                resteasyDeploymentData.getScannedResourceClasses().add(implementor.name().toString());
+                resourceClasses.add(implementor.name().toString());
             }
         }
     }
 
-    protected Class<?> checkDeclaredApplicationClassAsServlet(JBossWebMetaData webData,
-                                                              ClassLoader classLoader) throws DeploymentUnitProcessingException {
+    protected String checkDeclaredApplicationClassAsServlet(JBossWebMetaData webData, CompositeIndex index,
+                                                            ClassLoader classLoader) throws DeploymentUnitProcessingException {
         if (webData.getServlets() == null)
             return null;
 
@@ -390,13 +442,7 @@ public class JaxrsScanningProcessor implements DeploymentUnitProcessor {
             String servletClass = servlet.getServletClass();
             if (servletClass == null)
                 continue;
-            Class<?> clazz = null;
-            try {
-                clazz = classLoader.loadClass(servletClass);
-            } catch (ClassNotFoundException e) {
-                throw new DeploymentUnitProcessingException(e);
-            }
-            if (Application.class.isAssignableFrom(clazz)) {
+            if (isApplicationClass(servletClass, index, classLoader)) {
                 servlet.setServletClass(HttpServlet30Dispatcher.class.getName());
                 servlet.setAsyncSupported(true);
                 ParamValueMetaData param = new ParamValueMetaData();
@@ -409,12 +455,35 @@ public class JaxrsScanningProcessor implements DeploymentUnitProcessor {
                 }
                 params.add(param);
 
-                return clazz;
+                return servletClass;
             }
         }
         return null;
     }
 
+    /**
+     * Checks whether a class is an Application subclass, using the annotation index for the classes of the deployment,
+     * so that the class is only loaded if its hierarchy is not part of the index.
+     */
+    private static boolean isApplicationClass(String className, CompositeIndex index, ClassLoader classLoader) throws DeploymentUnitProcessingException {
+        ClassInfo info = (index != null) ? index.getClassByName(DotName.createSimple(className)) : null;
+        while (info != null) {
+            final DotName superName = info.superName();
+            if (superName == null || superName.equals(OBJECT)) {
+                return false;
+            }
+            if (superName.equals(APPLICATION)) {
+                return true;
+            }
+            info = index.getClassByName(superName);
+        }
+        try {
+            return Application.class.isAssignableFrom(classLoader.loadClass(className));
+        } catch (ClassNotFoundException e) {
+            throw new DeploymentUnitProcessingException(e);
+        }
+    }
+
 
     private boolean valueOf(String paramName, String value) throws DeploymentUnitProcessingException {
         if (value == null) {
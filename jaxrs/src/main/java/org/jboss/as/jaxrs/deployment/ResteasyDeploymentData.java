@@ -7,10 +7,10 @@ package org.jboss.as.jaxrs.deployment;
 
 import org.jboss.as.server.deployment.DeploymentUnitProcessingException;
 
-import jakarta.ws.rs.core.Application;
-import java.util.ArrayList;
+import java.util.LinkedHashMap;
 import java.util.LinkedHashSet;
 import java.util.List;
+import java.util.Map;
 import java.util.Set;
 
 /**
@@ -23,9 +23,10 @@ public class ResteasyDeploymentData {
     private boolean dispatcherCreated;
     private final Set<String> scannedResourceClasses = new LinkedHashSet<String>();
     private final Set<String> scannedProviderClasses = new LinkedHashSet<String>();
-    private List<Class<? extends Application>> scannedApplicationClasses = new ArrayList<>();
+    private final Map<String, String> scannedApplicationClasses = new LinkedHashMap<>();
     private boolean bootClasses;
     private boolean unwrappedExceptionsParameterSet;
+    private boolean deferDefaultValueValidation;
     private final Set<String> scannedJndiComponentResources = new LinkedHashSet<String>();
 
     /**
@@ -35,7 +36,7 @@ public class ResteasyDeploymentData {
      */
     public void merge(final List<ResteasyDeploymentData> deploymentData) throws DeploymentUnitProcessingException {
         for (ResteasyDeploymentData data : deploymentData) {
-            scannedApplicationClasses.addAll(data.getScannedApplicationClasses());
+            scannedApplicationClasses.putAll(data.getScannedApplicationClasses());
             if (scanResources) {
                 scannedResourceClasses.addAll(data.getScannedResourceClasses());
                 scannedJndiComponentResources.addAll(data.getScannedJndiComponentResources());
@@ -59,7 +60,11 @@ public class ResteasyDeploymentData {
         this.dispatcherCreated = dispatcherCreated;
     }
 
-    public List<Class<? extends Application>> getScannedApplicationClasses() {
+    /**
+     * The names of the scanned Application subclasses, mapped to the value of their ApplicationPath annotation, or to
+     * null if they are not annotated. The classes are not loaded during deployment.
+     */
+    public Map<String, String> getScannedApplicationClasses() {
         return scannedApplicationClasses;
     }
 
@@ -118,4 +123,16 @@ public class ResteasyDeploymentData {
     public void setUnwrappedExceptionsParameterSet(boolean unwrappedExceptionsParameterSet) {
         this.unwrappedExceptionsParameterSet = unwrappedExceptionsParameterSet;
     }
+
+    /**
+     * Whether the default values of resource method parameters are left to be validated by RESTEasy on first use,
+     * rather than at deployment time, which avoids loading the resource and parameter classes during deployment.
+     */
+    public boolean isDeferDefaultValueValidation() {
+        return deferDefaultValueValidation;
+    }
+
+    public void setDeferDefaultValueValidation(boolean deferDefaultValueValidation) {
+        this.deferDefaultValueValidation = deferDefaultValueValidation;
+    }
 }
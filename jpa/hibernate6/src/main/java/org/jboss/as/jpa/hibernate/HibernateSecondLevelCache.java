@@ -41,6 +41,17 @@ public class HibernateSecondLevelCache {
     public static final String NAME = "name";
     public static final String CACHES = "caches";
 
+    // read-mostly near-cache mode: each node keeps a bounded local copy of invalidation-mode entity regions
+    public static final String NEAR_CACHE = "hibernate.cache.infinispan.near-cache";
+    public static final String NEAR_CACHE_MAX_ENTRIES = "hibernate.cache.infinispan.near-cache.max-entries";
+    public static final String NEAR_CACHE_MAX_IDLE = "hibernate.cache.infinispan.near-cache.max-idle";
+    public static final String DEFAULT_NEAR_CACHE_MAX_ENTRIES = "10000";
+
+    private static final String REGION_PROPERTY_PREFIX = "hibernate.cache.infinispan.";
+    private static final String MEMORY_SIZE_SUFFIX = ".memory.size";
+    private static final String EXPIRATION_MAX_IDLE_SUFFIX = ".expiration.max_idle";
+    private static final String[] NEAR_CACHE_REGION_TYPES = { "entity", "immutable-entity", "collection", "naturalid" };
+
     public static void addSecondLevelCacheDependencies(Properties mutableProperties, String scopedPersistenceUnitName) {
 
         if (mutableProperties.getProperty(AvailableSettings.CACHE_REGION_PREFIX) == null
@@ -53,6 +64,9 @@ public class HibernateSecondLevelCache {
             regionFactory = DEFAULT_REGION_FACTORY;
             mutableProperties.setProperty(AvailableSettings.CACHE_REGION_FACTORY, regionFactory);
         }
+        if (Boolean.parseBoolean(mutableProperties.getProperty(NEAR_CACHE))) {
+            applyNearCacheDefaults(mutableProperties);
+        }
         if (Boolean.parseBoolean(mutableProperties.getProperty(ManagedEmbeddedCacheManagerProvider.SHARED, ManagedEmbeddedCacheManagerProvider.DEFAULT_SHARED))) {
             // Set infinispan defaults
             String container = mutableProperties.getProperty(ManagedEmbeddedCacheManagerProvider.CACHE_CONTAINER);
@@ -72,6 +86,29 @@ public class HibernateSecondLevelCache {
         }
     }
 
+    /**
+     * Applies the read-mostly near-cache defaults to the entity, collection and natural-id regions.
+     * Regions remain on the invalidation-mode entity template, so updates still invalidate remote copies
+     * (guarded by the pending-puts validator), but each node bounds its local copy and reads are never remote.
+     * Explicitly configured region settings always take precedence.
+     */
+    static void applyNearCacheDefaults(Properties mutableProperties) {
+        String maxEntries = mutableProperties.getProperty(NEAR_CACHE_MAX_ENTRIES, DEFAULT_NEAR_CACHE_MAX_ENTRIES);
+        String maxIdle = mutableProperties.getProperty(NEAR_CACHE_MAX_IDLE);
+        for (String type : NEAR_CACHE_REGION_TYPES) {
+            mutableProperties.putIfAbsent(REGION_PROPERTY_PREFIX + type + MEMORY_SIZE_SUFFIX, maxEntries);
+            if (maxIdle != null) {
+                mutableProperties.putIfAbsent(REGION_PROPERTY_PREFIX + type + EXPIRATION_MAX_IDLE_SUFFIX, maxIdle);
+            }
+        }
+        mutableProperties.putIfAbsent(ENTITY_CACHE_RESOURCE_PROP, DEF_ENTITY_RESOURCE);
+        mutableProperties.putIfAbsent(IMMUTABLE_ENTITY_CACHE_RESOURCE_PROP, DEF_ENTITY_RESOURCE);
+        mutableProperties.putIfAbsent(COLLECTION_CACHE_RESOURCE_PROP, DEF_ENTITY_RESOURCE);
+        mutableProperties.putIfAbsent(NATURAL_ID_CACHE_RESOURCE_PROP, DEF_ENTITY_RESOURCE);
+        // avoid redundant puts of entities that are already cached locally
+        mutableProperties.putIfAbsent(AvailableSettings.USE_MINIMAL_PUTS, Boolean.TRUE.toString());
+    }
+
     public static Set<String> findCaches(Properties properties) {
         Set<String> caches = new HashSet<>();
 
@@ -5,13 +5,17 @@
 
 package org.jboss.as.jpa.hibernate;
 
+import java.util.Map;
 import java.util.Properties;
+import java.util.concurrent.ConcurrentHashMap;
 
 import org.hibernate.cache.CacheException;
 import org.hibernate.cfg.AvailableSettings;
+import org.infinispan.Cache;
 import org.infinispan.hibernate.cache.spi.EmbeddedCacheManagerProvider;
 import org.infinispan.manager.EmbeddedCacheManager;
 import org.infinispan.manager.impl.AbstractDelegatingEmbeddedCacheManager;
+import org.jboss.as.jpa.hibernate.cache.RegionEvictionListener;
 import org.jipijapa.cache.spi.Classification;
 import org.jipijapa.cache.spi.Wrapper;
 import org.jipijapa.event.impl.internal.Notification;
@@ -65,14 +69,36 @@ public class ManagedEmbeddedCacheManagerProvider implements EmbeddedCacheManager
 
     private static class JipiJapaCacheManager extends AbstractDelegatingEmbeddedCacheManager {
         private final Wrapper wrapper;
+        private final Map<String, RegionEvictionListener> listeners = new ConcurrentHashMap<>();
 
         JipiJapaCacheManager(Wrapper wrapper) {
             super((EmbeddedCacheManager) wrapper.getValue());
             this.wrapper = wrapper;
         }
 
+        @Override
+        public <K, V> Cache<K, V> getCache(String cacheName) {
+            return this.listen(super.getCache(cacheName));
+        }
+
+        @Override
+        public <K, V> Cache<K, V> getCache(String cacheName, boolean createIfAbsent) {
+            return this.listen(super.getCache(cacheName, createIfAbsent));
+        }
+
+        // Track evictions of each region cache, so that they can be reported via the entity-cache statistics
+        private <K, V> Cache<K, V> listen(Cache<K, V> cache) {
+            if (cache != null) {
+                this.listeners.computeIfAbsent(cache.getName(), name -> new RegionEvictionListener(cache));
+            }
+            return cache;
+        }
+
         @Override
         public void stop() {
+            // remove the listeners, so that neither the caches nor the eviction counts outlive the deployment
+            this.listeners.values().forEach(RegionEvictionListener::close);
+            this.listeners.clear();
             Notification.stopCache(Classification.INFINISPAN, this.wrapper);
         }
 
@@ -0,0 +1,63 @@
+/*
+ * Copyright The WildFly Authors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.jboss.as.jpa.hibernate.cache;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+
+import org.infinispan.Cache;
+import org.infinispan.notifications.Listener;
+import org.infinispan.notifications.cachelistener.annotation.CacheEntriesEvicted;
+import org.infinispan.notifications.cachelistener.event.CacheEntriesEvictedEvent;
+
+/**
+ * Counts memory-bound evictions of a second level cache region.
+ * Counts are tracked per cache name, which corresponds to the qualified Hibernate region name.
+ */
+@Listener(observation = Listener.Observation.POST)
+public class RegionEvictionListener {
+
+    private static final Map<String, LongAdder> EVICTIONS = new ConcurrentHashMap<>();
+
+    private final Cache<?, ?> cache;
+    private final LongAdder evictions;
+
+    /**
+     * Starts counting the evictions of the specified cache.
+     *
+     * @param cache the cache backing a region
+     */
+    public RegionEvictionListener(Cache<?, ?> cache) {
+        this.cache = cache;
+        this.evictions = EVICTIONS.computeIfAbsent(cache.getName(), name -> new LongAdder());
+        cache.addListener(this);
+    }
+
+    /**
+     * Stops counting the evictions of the cache, and discards its eviction count.
+     */
+    public void close() {
+        this.cache.removeListener(this);
+        EVICTIONS.remove(this.cache.getName(), this.evictions);
+    }
+
+    @CacheEntriesEvicted
+    public void evicted(CacheEntriesEvictedEvent<?, ?> event) {
+        this.evictions.add(event.getEntries().size());
+    }
+
+    /**
+     * Returns the number of entries evicted from the specified cache since it was started.
+     *
+     * @param cacheName the name of the cache backing a region
+     * @return the eviction count, or 0 if no listener is registered for the cache
+     */
+    public static long getEvictionCount(String cacheName) {
+        LongAdder evictions = EVICTIONS.get(cacheName);
+        return (evictions != null) ? evictions.sum() : 0;
+    }
+}
@@ -11,6 +11,7 @@ import java.util.Collections;
 import jakarta.persistence.EntityManagerFactory;
 
 import org.hibernate.SessionFactory;
+import org.jboss.as.jpa.hibernate.cache.RegionEvictionListener;
 import org.jipijapa.management.spi.EntityManagerFactoryAccess;
 import org.jipijapa.management.spi.Operation;
 import org.jipijapa.management.spi.PathAddress;
@@ -28,6 +29,8 @@ public class HibernateEntityCacheStatistics extends HibernateAbstractStatistics
     public static final String OPERATION_SECOND_LEVEL_CACHE_PUT_COUNT = "second-level-cache-put-count";
     public static final String OPERATION_SECOND_LEVEL_CACHE_COUNT_IN_MEMORY = "second-level-cache-count-in-memory";
     public static final String OPERATION_SECOND_LEVEL_CACHE_SIZE_IN_MEMORY = "second-level-cache-size-in-memory";
+    public static final String OPERATION_SECOND_LEVEL_CACHE_HIT_RATIO = "second-level-cache-hit-ratio";
+    public static final String OPERATION_SECOND_LEVEL_CACHE_EVICTION_COUNT = "second-level-cache-eviction-count";
 
     public HibernateEntityCacheStatistics() {
         /**
@@ -51,6 +54,11 @@ public class HibernateEntityCacheStatistics extends HibernateAbstractStatistics
         operations.put(OPERATION_SECOND_LEVEL_CACHE_SIZE_IN_MEMORY, entityCacheSizeInMemory);
         types.put(OPERATION_SECOND_LEVEL_CACHE_SIZE_IN_MEMORY, Long.class);
 
+        operations.put(OPERATION_SECOND_LEVEL_CACHE_HIT_RATIO, entityCacheHitRatio);
+        types.put(OPERATION_SECOND_LEVEL_CACHE_HIT_RATIO, Double.class);
+
+        operations.put(OPERATION_SECOND_LEVEL_CACHE_EVICTION_COUNT, entityCacheEvictionCount);
+        types.put(OPERATION_SECOND_LEVEL_CACHE_EVICTION_COUNT, Long.class);
     }
 
     @Override
@@ -82,6 +90,17 @@ public class HibernateEntityCacheStatistics extends HibernateAbstractStatistics
         }
         return null;
     }
+    /**
+     * Returns the name of the Infinispan cache backing the region, i.e. the region name qualified by the region prefix.
+     */
+    String getCacheName(EntityManagerFactoryAccess entityManagerFactoryaccess, PathAddress pathAddress) {
+        String scopedPersistenceUnitName = pathAddress.getValue(HibernateStatistics.PROVIDER_LABEL);
+        String regionName = pathAddress.getValue(HibernateStatistics.ENTITYCACHE);
+        SessionFactory sessionFactory = entityManagerFactoryaccess.entityManagerFactory(scopedPersistenceUnitName).unwrap(SessionFactory.class);
+        String prefix = (sessionFactory != null) ? sessionFactory.getSessionFactoryOptions().getCacheRegionPrefix() : null;
+        return (prefix != null) ? prefix + '.' + regionName : regionName;
+    }
+
     private Operation getEntityCacheRegionName = new Operation() {
         @Override
         public Object invoke(Object... args) {
@@ -130,4 +149,24 @@ public class HibernateEntityCacheStatistics extends HibernateAbstractStatistics
         }
     };
 
+    private Operation entityCacheHitRatio = new Operation() {
+        @Override
+        public Object invoke(Object... args) {
+            org.hibernate.stat.CacheRegionStatistics statistics = getStatistics(getEntityManagerFactoryAccess(args),  getPathAddress(args));
+            if (statistics == null) {
+                return Double.valueOf(0);
+            }
+            long hits = statistics.getHitCount();
+            long requests = hits + statistics.getMissCount();
+            return Double.valueOf(requests > 0 ? (double) hits / requests : 0);
+        }
+    };
+
+    private Operation entityCacheEvictionCount = new Operation() {
+        @Override
+        public Object invoke(Object... args) {
+            return Long.valueOf(RegionEvictionListener.getEvictionCount(getCacheName(getEntityManagerFactoryAccess(args), getPathAddress(args))));
+        }
+    };
+
 }
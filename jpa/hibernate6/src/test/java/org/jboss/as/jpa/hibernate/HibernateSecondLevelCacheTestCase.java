@@ -0,0 +1,49 @@
+/*
+ * Copyright The WildFly Authors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.jboss.as.jpa.hibernate;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNull;
+
+import java.util.Properties;
+
+import org.hibernate.cfg.AvailableSettings;
+import org.junit.Test;
+
+/**
+ * Unit test for the near-cache defaults of {@link HibernateSecondLevelCache}.
+ */
+public class HibernateSecondLevelCacheTestCase {
+
+    @Test
+    public void nearCacheDefaults() {
+        Properties properties = new Properties();
+        properties.setProperty(HibernateSecondLevelCache.NEAR_CACHE, "true");
+        properties.setProperty(HibernateSecondLevelCache.NEAR_CACHE_MAX_IDLE, "60000");
+        properties.setProperty("hibernate.cache.infinispan.collection.memory.size", "500");
+
+        HibernateSecondLevelCache.applyNearCacheDefaults(properties);
+
+        assertEquals(HibernateSecondLevelCache.DEFAULT_NEAR_CACHE_MAX_ENTRIES, properties.getProperty("hibernate.cache.infinispan.entity.memory.size"));
+        assertEquals(HibernateSecondLevelCache.DEFAULT_NEAR_CACHE_MAX_ENTRIES, properties.getProperty("hibernate.cache.infinispan.naturalid.memory.size"));
+        // explicit region configuration wins
+        assertEquals("500", properties.getProperty("hibernate.cache.infinispan.collection.memory.size"));
+        assertEquals("60000", properties.getProperty("hibernate.cache.infinispan.entity.expiration.max_idle"));
+        assertEquals("entity", properties.getProperty("hibernate.cache.infinispan.entity.cfg"));
+        assertEquals("true", properties.getProperty(AvailableSettings.USE_MINIMAL_PUTS));
+    }
+
+    @Test
+    public void nearCacheMaxEntries() {
+        Properties properties = new Properties();
+        properties.setProperty(HibernateSecondLevelCache.NEAR_CACHE_MAX_ENTRIES, "250");
+
+        HibernateSecondLevelCache.applyNearCacheDefaults(properties);
+
+        assertEquals("250", properties.getProperty("hibernate.cache.infinispan.entity.memory.size"));
+        assertNull(properties.getProperty("hibernate.cache.infinispan.entity.expiration.max_idle"));
+    }
+}
@@ -0,0 +1,49 @@
+/*
+ * Copyright The WildFly Authors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.jboss.as.jpa.hibernate.cache;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+import org.infinispan.Cache;
+import org.infinispan.configuration.cache.ConfigurationBuilder;
+import org.infinispan.configuration.global.GlobalConfigurationBuilder;
+import org.infinispan.manager.DefaultCacheManager;
+import org.infinispan.manager.EmbeddedCacheManager;
+import org.junit.Test;
+
+/**
+ * Unit test for {@link RegionEvictionListener}.
+ */
+public class RegionEvictionListenerTestCase {
+
+    @Test
+    public void test() {
+        try (EmbeddedCacheManager manager = new DefaultCacheManager(new GlobalConfigurationBuilder().nonClusteredDefault().build())) {
+            manager.defineConfiguration("region", new ConfigurationBuilder().memory().maxCount(2).build());
+            Cache<Integer, String> cache = manager.getCache("region");
+
+            RegionEvictionListener listener = new RegionEvictionListener(cache);
+            for (int i = 0; i < 10; ++i) {
+                cache.put(i, "value");
+            }
+            assertTrue(RegionEvictionListener.getEvictionCount("region") > 0);
+
+            // the eviction count of a closed listener is discarded
+            listener.close();
+            assertEquals(0, RegionEvictionListener.getEvictionCount("region"));
+            for (int i = 10; i < 20; ++i) {
+                cache.put(i, "value");
+            }
+            assertEquals(0, RegionEvictionListener.getEvictionCount("region"));
+
+            // a new listener counts from scratch
+            listener = new RegionEvictionListener(cache);
+            assertEquals(0, RegionEvictionListener.getEvictionCount("region"));
+            listener.close();
+        }
+    }
+}
@@ -71,6 +71,9 @@ public class ManagementResourceDefinition extends SimpleResourceDefinition {
         else if(Boolean.class.equals(type)) {
             return ModelType.BOOLEAN;
         }
+        else if(Double.class.equals(type)) {
+            return ModelType.DOUBLE;
+        }
         return ModelType.OBJECT;
     }
 
@@ -202,6 +205,9 @@ public class ManagementResourceDefinition extends SimpleResourceDefinition {
         else if (ModelType.BOOLEAN.equals(modelType)) {
             response.set( ((Boolean)result).booleanValue());  // TODO: JIPI-9 switch to value wrapper
         }
+        else if (ModelType.DOUBLE.equals(modelType)) {
+            response.set( ((Double)result).doubleValue());
+        }
         else {
             response.set(result.toString());    // ModelType.STRING
         }
@@ -9,9 +9,16 @@ import static org.jboss.as.controller.PathAddress.EMPTY_ADDRESS;
 
 import java.io.File;
 import java.nio.file.Path;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Set;
+
+import org.apache.activemq.artemis.api.core.TransportConfiguration;
+import org.apache.activemq.artemis.core.remoting.impl.invm.InVMConnectorFactory;
 import org.jboss.as.controller.AbstractRuntimeOnlyHandler;
 import org.jboss.as.controller.OperationContext;
 import org.jboss.as.controller.OperationFailedException;
+import org.jboss.as.controller.PathAddress;
 import org.jboss.as.controller.PathElement;
 import org.jboss.as.controller.registry.Resource;
 import org.jboss.as.controller.services.path.AbsolutePathService;
@@ -52,6 +59,28 @@ public abstract class AbstractArtemisActionHandler extends AbstractRuntimeOnlyHa
         }
     }
 
+    /**
+     * Importers require a connector to connect to the artemis broker.
+     *
+     * We require to use a in-vm one so that importing a journal is not subject to any network connection problem.
+     */
+    protected TransportConfiguration createInVMTransportConfiguration(OperationContext context) throws OperationFailedException {
+        final Resource serverResource = context.readResource(EMPTY_ADDRESS, false);
+        Set<Resource.ResourceEntry> invmConnectors = serverResource.getChildren(CommonAttributes.IN_VM_CONNECTOR);
+        if (invmConnectors.isEmpty()) {
+            throw MessagingLogger.ROOT_LOGGER.noInVMConnector();
+        }
+        Resource.ResourceEntry connectorEntry = invmConnectors.iterator().next();
+
+        Resource connectorResource = context.readResource(PathAddress.pathAddress(connectorEntry.getPathElement()), false);
+        ModelNode model = connectorResource.getModel();
+
+        Map<String, Object> params = new HashMap<>(CommonAttributes.PARAMS.unwrap(context, model));
+        params.put(org.apache.activemq.artemis.core.remoting.impl.invm.TransportConstants.SERVER_ID_PROP_NAME, InVMTransportDefinition.SERVER_ID.resolveModelAttribute(context, model).asInt());
+        TransportConfiguration transportConfiguration = new TransportConfiguration(InVMConnectorFactory.class.getName(), params);
+        return transportConfiguration;
+    }
+
     @SuppressWarnings("unchecked")
     private PathManager getPathManager(OperationContext context) {
         final ServiceController<PathManager> service = (ServiceController<PathManager>) context.getServiceRegistry(false).getService(PATH_MANAGER_CAPABILITY.getCapabilityServiceName());
@@ -10,6 +10,7 @@ import static org.jboss.dmr.ModelType.BOOLEAN;
 import static org.jboss.dmr.ModelType.INT;
 import static org.jboss.dmr.ModelType.LIST;
 import static org.jboss.dmr.ModelType.LONG;
+import static org.jboss.dmr.ModelType.OBJECT;
 import static org.jboss.dmr.ModelType.STRING;
 import static org.wildfly.extension.messaging.activemq.CommonAttributes.FILTER;
 import static org.wildfly.extension.messaging.activemq.CommonAttributes.QUEUE;
@@ -20,7 +21,17 @@ import static org.wildfly.extension.messaging.activemq.OperationDefinitionHelper
 import static org.wildfly.extension.messaging.activemq.OperationDefinitionHelper.runtimeReadOnlyOperation;
 import static org.wildfly.extension.messaging.activemq._private.MessagingLogger.ROOT_LOGGER;
 
-import org.jboss.as.controller.AbstractRuntimeOnlyHandler;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.function.UnaryOperator;
+
+import org.apache.activemq.artemis.api.core.SimpleString;
+import org.apache.activemq.artemis.core.server.ActiveMQServer;
 import org.jboss.as.controller.AttributeDefinition;
 import org.jboss.as.controller.ObjectListAttributeDefinition;
 import org.jboss.as.controller.ObjectTypeAttributeDefinition;
@@ -28,10 +39,12 @@ import org.jboss.as.controller.OperationContext;
 import org.jboss.as.controller.OperationFailedException;
 import org.jboss.as.controller.PathAddress;
 import org.jboss.as.controller.SimpleAttributeDefinitionBuilder;
+import org.jboss.as.controller.SimpleMapAttributeDefinition;
 import org.jboss.as.controller.descriptions.ModelDescriptionConstants;
 import org.jboss.as.controller.descriptions.ResourceDescriptionResolver;
 import org.jboss.as.controller.logging.ControllerLogger;
 import org.jboss.as.controller.operations.validation.IntRangeValidator;
+import org.jboss.as.controller.operations.validation.LongRangeValidator;
 import org.jboss.as.controller.operations.validation.ParameterValidator;
 import org.jboss.as.controller.registry.ManagementResourceRegistration;
 import org.jboss.as.controller.registry.OperationEntry;
@@ -47,7 +60,7 @@ import org.wildfly.extension.messaging.activemq._private.MessagingLogger;
  * @author Brian Stansberry (c) 2011 Red Hat Inc.
  * @author <a href="http://jmesnil.net">Jeff Mesnil</a> (c) 2014 Red Hat Inc.
  */
-public abstract class AbstractQueueControlHandler<T> extends AbstractRuntimeOnlyHandler {
+public abstract class AbstractQueueControlHandler<T> extends AbstractArtemisActionHandler {
 
     private static ResourceDescriptionResolver RESOLVER = MessagingExtension.getResourceDescriptionResolver(QUEUE);
 
@@ -79,6 +92,8 @@ public abstract class AbstractQueueControlHandler<T> extends AbstractRuntimeOnly
     public static final String LIST_SCHEDULED_MESSAGES_AS_JSON = LIST_SCHEDULED_MESSAGES + "-as-json";
     public static final String LIST_DELIVERING_MESSAGES = "list-delivering-messages";
     public static final String LIST_DELIVERING_MESSAGES_AS_JSON = LIST_DELIVERING_MESSAGES + "-as-json";
+    public static final String STREAM_MESSAGES = "stream-messages";
+    public static final String COUNT_MESSAGES_BY_PROPERTY = "count-messages-by-property";
 
     public static final ParameterValidator PRIORITY_VALIDATOR = new IntRangeValidator(0, 9, false, false);
 
@@ -89,6 +104,26 @@ public abstract class AbstractQueueControlHandler<T> extends AbstractRuntimeOnly
     private static final AttributeDefinition NEW_PRIORITY = SimpleAttributeDefinitionBuilder.create("new-priority", INT)
             .setValidator(PRIORITY_VALIDATOR)
             .build();
+    private static final AttributeDefinition OFFSET = SimpleAttributeDefinitionBuilder.create("offset", LONG)
+            .setRequired(false)
+            .setDefaultValue(new ModelNode(0L))
+            .setValidator(new LongRangeValidator(0, true))
+            .build();
+    private static final AttributeDefinition LIMIT = SimpleAttributeDefinitionBuilder.create("limit", INT)
+            .setRequired(false)
+            .setValidator(new IntRangeValidator(1, true))
+            .build();
+    private static final AttributeDefinition PROPERTY = createNonEmptyStringAttribute("property");
+    private static final AttributeDefinition SAMPLE_SIZE = SimpleAttributeDefinitionBuilder.create("sample-size", INT)
+            .setRequired(false)
+            .setDefaultValue(new ModelNode(10000))
+            .setValidator(new IntRangeValidator(1, true))
+            .build();
+    private static final AttributeDefinition UUID = SimpleAttributeDefinitionBuilder.create("uuid", STRING).build();
+    private static final AttributeDefinition COUNT = SimpleAttributeDefinitionBuilder.create("count", LONG).build();
+    private static final AttributeDefinition MESSAGE_COUNT = SimpleAttributeDefinitionBuilder.create("message-count", LONG).build();
+    private static final AttributeDefinition SAMPLED_MESSAGE_COUNT = SimpleAttributeDefinitionBuilder.create("sampled-message-count", LONG).build();
+    private static final AttributeDefinition COUNTS = new SimpleMapAttributeDefinition.Builder("counts", LONG, false).build();
 
     protected abstract AttributeDefinition getMessageIDAttributeDefinition();
 
@@ -97,16 +132,28 @@ public abstract class AbstractQueueControlHandler<T> extends AbstractRuntimeOnly
     public void registerOperations(final ManagementResourceRegistration registry, ResourceDescriptionResolver resolver) {
 
         registry.registerOperationHandler(runtimeReadOnlyOperation(LIST_MESSAGES, resolver)
-                .setParameters(FILTER)
+                .setParameters(FILTER, OFFSET, LIMIT)
                 .setReplyType(LIST)
                 .setReplyParameters(getReplyMessageParameterDefinitions())
                 .build(),
                 this);
         registry.registerOperationHandler(runtimeReadOnlyOperation(LIST_MESSAGES_AS_JSON, RESOLVER)
-                .setParameters(FILTER)
+                .setParameters(FILTER, OFFSET, LIMIT)
                 .setReplyType(STRING)
                 .build(),
                 this);
+        registry.registerOperationHandler(runtimeReadOnlyOperation(STREAM_MESSAGES, RESOLVER)
+                .setParameters(FILTER)
+                .setReplyType(OBJECT)
+                .setReplyParameters(UUID, COUNT)
+                .build(),
+                this);
+        registry.registerOperationHandler(runtimeReadOnlyOperation(COUNT_MESSAGES_BY_PROPERTY, RESOLVER)
+                .setParameters(FILTER, PROPERTY, SAMPLE_SIZE)
+                .setReplyType(OBJECT)
+                .setReplyParameters(MESSAGE_COUNT, SAMPLED_MESSAGE_COUNT, COUNTS)
+                .build(),
+                this);
         registry.registerOperationHandler(runtimeReadOnlyOperation(COUNT_MESSAGES, RESOLVER)
                 .setParameters(FILTER)
                 .setReplyType(LONG)
@@ -246,11 +293,27 @@ public abstract class AbstractQueueControlHandler<T> extends AbstractRuntimeOnly
         try {
             if (LIST_MESSAGES.equals(operationName)) {
                 String filter = resolveFilter(context, operation);
-                String json = control.listMessagesAsJSON(filter);
-                context.getResult().set(ModelNode.fromJSONString(json));
+                if (isPaged(operation)) {
+                    context.getResult().set(listMessages(context, operation, server, control, filter));
+                } else {
+                    String json = control.listMessagesAsJSON(filter);
+                    context.getResult().set(ModelNode.fromJSONString(json));
+                }
             } else if (LIST_MESSAGES_AS_JSON.equals(operationName)) {
                 String filter = resolveFilter(context, operation);
-                context.getResult().set(control.listMessagesAsJSON(filter));
+                if (isPaged(operation)) {
+                    context.getResult().set(listMessages(context, operation, server, control, filter).toJSONString(true));
+                } else {
+                    context.getResult().set(control.listMessagesAsJSON(filter));
+                }
+            } else if (STREAM_MESSAGES.equals(operationName)) {
+                String filter = resolveFilter(context, operation);
+                streamMessages(context, server, control, filter);
+            } else if (COUNT_MESSAGES_BY_PROPERTY.equals(operationName)) {
+                String filter = resolveFilter(context, operation);
+                String property = PROPERTY.resolveModelAttribute(context, operation).asString();
+                int sampleSize = SAMPLE_SIZE.resolveModelAttribute(context, operation).asInt();
+                countMessagesByProperty(context, server, control, filter, property, sampleSize);
             } else if (LIST_DELIVERING_MESSAGES.equals(operationName)) {
                 String json = control.listDeliveringMessagesAsJSON();
                 context.getResult().set(ModelNode.fromJSONString(json));
@@ -368,6 +431,97 @@ public abstract class AbstractQueueControlHandler<T> extends AbstractRuntimeOnly
         context.completeStep(rh);
     }
 
+    static boolean isPaged(ModelNode operation) {
+        return operation.hasDefined(OFFSET.getName()) || operation.hasDefined(LIMIT.getName());
+    }
+
+    /**
+     * Lists a page of the messages matching the filter, browsing the queue instead of listing every matching message.
+     */
+    private ModelNode listMessages(OperationContext context, ModelNode operation, ActiveMQBroker server, DelegatingQueueControl<T> control, String filter) throws Exception {
+        long offset = OFFSET.resolveModelAttribute(context, operation).asLong();
+        ModelNode limit = LIMIT.resolveModelAttribute(context, operation);
+        return listMessages(createBrowser(context, server, control, filter), offset, limit.isDefined() ? limit.asLong() : Long.MAX_VALUE, control::convertPropertyName);
+    }
+
+    static ModelNode listMessages(QueueMessageBrowser browser, long offset, long limit, UnaryOperator<String> propertyNames) {
+        ModelNode result = new ModelNode().setEmptyList();
+        browser.browse(offset, limit, message -> result.add(QueueMessageBrowser.toModelNode(message, propertyNames)));
+        return result;
+    }
+
+    /**
+     * Writes the messages matching the filter, one JSON object per line, to a stream attached to the operation response.
+     */
+    private void streamMessages(OperationContext context, ActiveMQBroker server, DelegatingQueueControl<T> control, String filter) throws Exception {
+        QueueMessageBrowser browser = createBrowser(context, server, control, filter);
+        TemporaryFileInputStream temp = new TemporaryFileInputStream(Files.createTempFile(getServerTempDir(context), "queue-messages", ".json"));
+        long count;
+        try (Writer writer = Files.newBufferedWriter(temp.getFile(), StandardCharsets.UTF_8)) {
+            count = writeMessages(browser, writer, control::convertPropertyName);
+        } catch (IOException e) {
+            temp.close();
+            throw e;
+        }
+        ModelNode result = context.getResult();
+        result.get(UUID.getName()).set(context.attachResultStream("application/json", temp));
+        result.get(COUNT.getName()).set(count);
+    }
+
+    /**
+     * Writes the messages matching the filter of the specified browser, one JSON object per line.
+     * @return the number of messages written
+     */
+    static long writeMessages(QueueMessageBrowser browser, Writer writer, UnaryOperator<String> propertyNames) throws IOException {
+        try {
+            return browser.browse(0L, Long.MAX_VALUE, message -> {
+                try {
+                    writer.write(QueueMessageBrowser.toModelNode(message, propertyNames).toJSONString(true));
+                    writer.write('\n');
+                } catch (IOException e) {
+                    throw new UncheckedIOException(e);
+                }
+            });
+        } catch (UncheckedIOException e) {
+            throw e.getCause();
+        }
+    }
+
+    private void countMessagesByProperty(OperationContext context, ActiveMQBroker server, DelegatingQueueControl<T> control, String filter, String property, int sampleSize) throws Exception {
+        context.getResult().set(countMessagesByProperty(createBrowser(context, server, control, filter), property, sampleSize));
+    }
+
+    /**
+     * Counts the values of a message property among a sample of the messages matching the filter.
+     * The sample consists of the first matching messages of the queue, so that the cost of this operation does not depend on the queue depth.
+     */
+    static ModelNode countMessagesByProperty(QueueMessageBrowser browser, String property, int sampleSize) {
+        SimpleString name = SimpleString.toSimpleString(property);
+        Map<String, Long> counts = new TreeMap<>();
+        long sampled = browser.browse(0L, sampleSize, message -> {
+            Object value = message.getObjectProperty(name);
+            if (value != null) {
+                counts.merge(value.toString(), 1L, Long::sum);
+            }
+        });
+        ModelNode result = new ModelNode();
+        result.get(MESSAGE_COUNT.getName()).set(browser.getMessageCount());
+        result.get(SAMPLED_MESSAGE_COUNT.getName()).set(sampled);
+        ModelNode countsNode = result.get(COUNTS.getName()).setEmptyObject();
+        for (Map.Entry<String, Long> entry : counts.entrySet()) {
+            countsNode.get(entry.getKey()).set(entry.getValue());
+        }
+        return result;
+    }
+
+    private QueueMessageBrowser createBrowser(OperationContext context, ActiveMQBroker server, DelegatingQueueControl<T> control, String filter) throws Exception {
+        QueueMessageBrowser browser = QueueMessageBrowser.create(ActiveMQServer.class.cast(server.getDelegate()), control.getName(), control.convertFilter(filter));
+        if (browser == null) {
+            throw ControllerLogger.ROOT_LOGGER.managementResourceNotFound(context.getCurrentAddress());
+        }
+        return browser;
+    }
+
     protected AttributeDefinition[] getReplyMapConsumerMessageParameterDefinition() {
         return new AttributeDefinition[]{
                 createNonEmptyStringAttribute("consumerName"),
@@ -398,6 +552,25 @@ public abstract class AbstractQueueControlHandler<T> extends AbstractRuntimeOnly
 
         T getDelegate();
 
+        /**
+         * Returns the name of the core queue.
+         */
+        String getName() throws Exception;
+
+        /**
+         * Converts a filter accepted by the operations of this queue into a core message filter.
+         */
+        default String convertFilter(String filter) {
+            return filter;
+        }
+
+        /**
+         * Converts the name of a core message property into the name listed by {@link #listMessagesAsJSON(String)}.
+         */
+        default String convertPropertyName(String name) {
+            return name;
+        }
+
         String listMessagesAsJSON(String filter) throws Exception;
 
         long countMessages(String filter) throws Exception;
@@ -55,11 +55,11 @@ public class ActiveMQResourceAdapter extends org.apache.activemq.artemis.ra.Acti
 
             if (serverName != null && !serverName.isEmpty()) {
                 ActiveMQServerService service = (ActiveMQServerService) currentServiceContainer().getService(MessagingServices.getActiveMQServiceName(serverName)).getService();
-                return new CommandDispatcherBroadcastEndpointFactory(service.getCommandDispatcherFactory(key), clusterName);
+                return new CommandDispatcherBroadcastEndpointFactory(service.getCommandDispatcherFactory(key), clusterName, service.getBroadcastQueueCapacity(key));
             }
             assert pcf != null;
             ExternalPooledConnectionFactoryService service = (ExternalPooledConnectionFactoryService) currentServiceContainer().getService(JMSServices.getPooledConnectionFactoryBaseServiceName(MessagingServices.getActiveMQServiceName()).append(pcf)).getService();
-            return new CommandDispatcherBroadcastEndpointFactory(service.getCommandDispatcherFactory(key), clusterName);
+            return new CommandDispatcherBroadcastEndpointFactory(service.getCommandDispatcherFactory(key), clusterName, service.getBroadcastQueueCapacity(key));
         }
         return super.createBroadcastEndpointFactory(overrideProperties);
     }
@@ -48,6 +48,7 @@ import org.jboss.msc.value.InjectedValue;
 import org.wildfly.common.function.ExceptionSupplier;
 import org.wildfly.extension.messaging.activemq._private.MessagingLogger;
 import org.wildfly.extension.messaging.activemq.broadcast.BroadcastCommandDispatcherFactory;
+import org.wildfly.extension.messaging.activemq.broadcast.QueueBroadcastManager;
 import org.wildfly.security.auth.server.SecurityDomain;
 import org.wildfly.security.credential.PasswordCredential;
 import org.wildfly.security.credential.source.CredentialSource;
@@ -89,6 +90,10 @@ class ActiveMQServerService implements Service<ActiveMQBroker> {
     private final Optional<Supplier<DataSource>> dataSource;
     // mapping between the {broadcast|discovery}-groups and the cluster names they use
     private final Map<String, String> clusterNames;
+    // mapping between the jgroups-broadcast-groups and their broadcast coalescing interval
+    private final Map<String, Long> broadcastCoalescingIntervals;
+    // mapping between the jgroups-discovery-groups and the capacity of their queue of pending broadcasts
+    private final Map<String, Integer> broadcastQueueCapacities;
     // mapping between the {broadcast|discovery}-groups and the command dispatcher factory they use
     private final Map<String, Supplier<BroadcastCommandDispatcherFactory>> commandDispatcherFactories;
     // Supplier for Elytron SecurityDomain
@@ -110,6 +115,8 @@ class ActiveMQServerService implements Service<ActiveMQBroker> {
                                  Map<String, Supplier<SocketBinding>> groupBindings,
                                  Map<String, Supplier<BroadcastCommandDispatcherFactory>> commandDispatcherFactories,
                                  Map<String, String> clusterNames,
+                                 Map<String, Long> broadcastCoalescingIntervals,
+                                 Map<String, Integer> broadcastQueueCapacities,
                                  Optional<Supplier<SecurityDomain>> elytronSecurityDomain,
                                  Optional<Supplier<MBeanServer>> mbeanServer,
                                  Optional<Supplier<DataSource>> dataSource,
@@ -127,6 +134,8 @@ class ActiveMQServerService implements Service<ActiveMQBroker> {
         this.groupBindings = groupBindings;
         this.commandDispatcherFactories = commandDispatcherFactories;
         this.clusterNames = clusterNames;
+        this.broadcastCoalescingIntervals = broadcastCoalescingIntervals;
+        this.broadcastQueueCapacities = broadcastQueueCapacities;
         if (configuration != null) {
             for (BridgeConfiguration bridgeConfiguration : configuration.getBridgeConfigurations()) {
                 bridgeCredentialSource.put(bridgeConfiguration.getName(), new InjectedValue<>());
@@ -197,7 +206,8 @@ class ActiveMQServerService implements Service<ActiveMQBroker> {
                     if (commandDispatcherFactories.containsKey(key)) {
                         BroadcastCommandDispatcherFactory commandDispatcherFactory = commandDispatcherFactories.get(key).get();
                         String clusterName = clusterNames.get(key);
-                        newConfigs.add(JGroupsBroadcastGroupAdd.createBroadcastGroupConfiguration(name, config, commandDispatcherFactory, clusterName));
+                        long coalescingInterval = broadcastCoalescingIntervals.getOrDefault(key, 0L);
+                        newConfigs.add(JGroupsBroadcastGroupAdd.createBroadcastGroupConfiguration(name, config, commandDispatcherFactory, clusterName, coalescingInterval));
                     } else {
                         final Supplier<SocketBinding> bindingSupplier = groupBindings.get(key);
                         if (bindingSupplier == null) {
@@ -220,7 +230,7 @@ class ActiveMQServerService implements Service<ActiveMQBroker> {
                     if (commandDispatcherFactories.containsKey(key)) {
                         BroadcastCommandDispatcherFactory commandDispatcherFactory = commandDispatcherFactories.get(key).get();
                         String clusterName = clusterNames.get(key);
-                        config = JGroupsDiscoveryGroupAdd.createDiscoveryGroupConfiguration(name, entry.getValue(), commandDispatcherFactory, clusterName);
+                        config = JGroupsDiscoveryGroupAdd.createDiscoveryGroupConfiguration(name, entry.getValue(), commandDispatcherFactory, clusterName, this.getBroadcastQueueCapacity(key));
                     } else {
                         final Supplier<SocketBinding> binding = groupBindings.get(key);
                         if (binding == null) {
@@ -321,6 +331,10 @@ class ActiveMQServerService implements Service<ActiveMQBroker> {
         return commandDispatcherFactories.get(key).get();
     }
 
+    int getBroadcastQueueCapacity(String key) {
+        return broadcastQueueCapacities.getOrDefault(key, QueueBroadcastManager.UNBOUNDED);
+    }
+
     static class PathConfig {
         private final String bindingsPath;
         private final String bindingsRelativeToPath;
@@ -0,0 +1,50 @@
+/*
+ * Copyright The WildFly Authors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.wildfly.extension.messaging.activemq;
+
+import static org.jboss.as.controller.descriptions.ModelDescriptionConstants.NAME;
+
+import org.jboss.as.controller.AbstractRuntimeOnlyHandler;
+import org.jboss.as.controller.OperationContext;
+import org.jboss.as.controller.OperationFailedException;
+import org.jboss.as.controller.PathAddress;
+import org.jboss.dmr.ModelNode;
+import org.jboss.msc.service.ServiceController;
+import org.wildfly.extension.messaging.activemq.broadcast.BroadcastCommandDispatcherFactory;
+import org.wildfly.extension.messaging.activemq.broadcast.BroadcastStatistics;
+
+/**
+ * Reads the broadcast metrics of a jgroups-broadcast-group or a jgroups-discovery-group.
+ */
+public class BroadcastStatisticsReadHandler extends AbstractRuntimeOnlyHandler {
+
+    static final BroadcastStatisticsReadHandler INSTANCE = new BroadcastStatisticsReadHandler();
+
+    private BroadcastStatisticsReadHandler() {
+    }
+
+    @Override
+    protected void executeRuntimeStep(OperationContext context, ModelNode operation) throws OperationFailedException {
+        final String attributeName = operation.require(NAME).asString();
+        final ModelNode model = context.readResource(PathAddress.EMPTY_ADDRESS, false).getModel();
+        final String channelName = CommonAttributes.JGROUPS_CHANNEL.resolveModelAttribute(context, model).asStringOrNull();
+        final String clusterName = CommonAttributes.JGROUPS_CLUSTER.resolveModelAttribute(context, model).asString();
+
+        ServiceController<?> controller = context.getServiceRegistry(false).getService(MessagingServices.getBroadcastCommandDispatcherFactoryServiceName(channelName));
+        // The broadcast group is not used by any started server or connection factory
+        if (controller == null || controller.getState() != ServiceController.State.UP) {
+            return;
+        }
+        BroadcastStatistics statistics = ((BroadcastCommandDispatcherFactory) controller.getValue()).getStatistics(clusterName);
+        if (JGroupsDiscoveryGroupDefinition.DROPPED_BROADCAST_COUNT.getName().equals(attributeName)) {
+            context.getResult().set(statistics.getDroppedReceivedBroadcasts());
+        } else if (context.getCurrentAddress().getLastElement().getKey().equals(CommonAttributes.JGROUPS_DISCOVERY_GROUP)) {
+            context.getResult().set(statistics.getCoalescedReceivedBroadcasts());
+        } else {
+            context.getResult().set(statistics.getCoalescedBroadcasts());
+        }
+    }
+}
@@ -0,0 +1,175 @@
+/*
+ * Copyright The WildFly Authors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.wildfly.extension.messaging.activemq;
+
+import static org.jboss.as.controller.RunningMode.NORMAL;
+import static org.wildfly.extension.messaging.activemq.ActiveMQActivationService.rollbackOperationIfServerNotActive;
+import static org.wildfly.extension.messaging.activemq.MessagingExtension.JOURNAL_DIRECTORY_PATH;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Date;
+import java.util.List;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.apache.activemq.artemis.api.core.management.QueueControl;
+import org.apache.activemq.artemis.core.server.ActiveMQServer;
+import org.jboss.as.controller.AttributeDefinition;
+import org.jboss.as.controller.OperationContext;
+import org.jboss.as.controller.OperationFailedException;
+import org.jboss.as.controller.SimpleAttributeDefinitionBuilder;
+import org.jboss.as.controller.SimpleOperationDefinitionBuilder;
+import org.jboss.as.controller.descriptions.ResourceDescriptionResolver;
+import org.jboss.as.controller.operations.validation.IntRangeValidator;
+import org.jboss.as.controller.registry.ManagementResourceRegistration;
+import org.jboss.as.controller.services.path.PathResourceDefinition;
+import org.jboss.dmr.ModelNode;
+import org.jboss.dmr.ModelType;
+import org.jboss.threads.JBossThreadFactory;
+import org.wildfly.extension.messaging.activemq.MessageChunkWriter.QueueDescription;
+import org.wildfly.extension.messaging.activemq._private.MessagingLogger;
+
+/**
+ * Export the messages of all queues of a running Artemis server to a directory of binary chunk files.
+ * WildFly must be running in NORMAL mode to perform this operation.
+ *
+ * Unlike {@link ExportJournalOperation}, queues are exported in parallel and each queue is split into chunks of a bounded number of messages,
+ * so that {@link ImportMessagesOperation} can import them in parallel and resume an interrupted import.
+ * Messages that are being delivered to consumers are not exported.
+ */
+public class ExportMessagesOperation extends AbstractArtemisActionHandler {
+
+    private static final String OPERATION_NAME = "export-messages";
+    static final ExportMessagesOperation INSTANCE = new ExportMessagesOperation();
+
+    // name of the export directory follows the format messages-yyyyMMdd-HHmmssSSSTZ-export
+    private static final String DIRECTORY_NAME_FORMAT = "messages-%1$tY%<tm%<td-%<tH%<tM%<tS%<TL%<tz-export";
+
+    static final AttributeDefinition DIRECTORY = SimpleAttributeDefinitionBuilder.create("directory", PathResourceDefinition.PATH)
+            .setAllowExpression(false)
+            .setRequired(false)
+            .build();
+
+    static final AttributeDefinition THREADS = SimpleAttributeDefinitionBuilder.create("threads", ModelType.INT)
+            .setAllowExpression(false)
+            .setRequired(false)
+            .setValidator(new IntRangeValidator(1, true))
+            .build();
+
+    private static final AttributeDefinition CHUNK_SIZE = SimpleAttributeDefinitionBuilder.create("chunk-size", ModelType.INT)
+            .setDefaultValue(new ModelNode(10000))
+            .setAllowExpression(false)
+            .setRequired(false)
+            .setValidator(new IntRangeValidator(1, true))
+            .build();
+
+    static final AttributeDefinition MESSAGE_COUNT = SimpleAttributeDefinitionBuilder.create("message-count", ModelType.LONG).build();
+
+    private ExportMessagesOperation() {
+
+    }
+
+    static void registerOperation(final ManagementResourceRegistration registry, final ResourceDescriptionResolver resourceDescriptionResolver) {
+        registry.registerOperationHandler(new SimpleOperationDefinitionBuilder(OPERATION_NAME, resourceDescriptionResolver)
+                        .addParameter(DIRECTORY)
+                        .addParameter(THREADS)
+                        .addParameter(CHUNK_SIZE)
+                        .setRuntimeOnly()
+                        .setReplyType(ModelType.OBJECT)
+                        .setReplyParameters(DIRECTORY, MESSAGE_COUNT)
+                        .build(),
+                INSTANCE);
+    }
+
+    @Override
+    protected void executeRuntimeStep(OperationContext context, ModelNode operation) throws OperationFailedException {
+        if (context.getRunningMode() != NORMAL) {
+            throw MessagingLogger.ROOT_LOGGER.managementOperationAllowedOnlyInRunningMode(OPERATION_NAME, NORMAL);
+        }
+        if (rollbackOperationIfServerNotActive(context, operation)) {
+            return;
+        }
+
+        ModelNode directoryNode = DIRECTORY.resolveModelAttribute(context, operation);
+        // by default, write the export at the same level than the journal directory
+        final File directory = directoryNode.isDefined() ? new File(directoryNode.asString()) : new File(new File(resolvePath(context, JOURNAL_DIRECTORY_PATH)).getParent(), String.format(DIRECTORY_NAME_FORMAT, new Date()));
+        final int threads = resolveThreads(context, operation);
+        final int chunkSize = CHUNK_SIZE.resolveModelAttribute(context, operation).asInt();
+
+        ActiveMQBroker broker = ActiveMQBroker.class.cast(context.getServiceRegistry(false).getService(MessagingServices.getActiveMQServiceName(context.getCurrentAddress())).getValue());
+        ActiveMQServer server = ActiveMQServer.class.cast(broker.getDelegate());
+        List<QueueDescription> queues = new ArrayList<>();
+        for (Object resource : broker.getResources(QueueControl.class)) {
+            QueueControl control = QueueControl.class.cast(resource);
+            if (!control.isTemporary() && !control.isInternalQueue()) {
+                queues.add(new QueueDescription(control.getName(), control.getAddress(), control.getRoutingType(), control.isDurable(), control.getFilter()));
+            }
+        }
+
+        ExecutorService executor = Executors.newFixedThreadPool(threads, new JBossThreadFactory(null, Boolean.TRUE, null, OPERATION_NAME + "-%t", null, null));
+        try {
+            Path path = Files.createDirectories(directory.toPath());
+            AtomicInteger completed = new AtomicInteger();
+            List<Future<Long>> futures = new ArrayList<>(queues.size());
+            for (int i = 0; i < queues.size(); ++i) {
+                int index = i;
+                QueueDescription queue = queues.get(i);
+                futures.add(executor.submit(() -> {
+                    long count = exportQueue(server, path, index, queue, chunkSize);
+                    MessagingLogger.ROOT_LOGGER.exportedQueueMessages(count, queue.getName(), completed.incrementAndGet(), queues.size());
+                    return count;
+                }));
+            }
+            long count = 0;
+            for (Future<Long> future : futures) {
+                count += future.get();
+            }
+            context.getResult().get(DIRECTORY.getName()).set(directory.getAbsolutePath());
+            context.getResult().get(MESSAGE_COUNT.getName()).set(count);
+        } catch (ExecutionException e) {
+            throw new OperationFailedException(e.getCause());
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new OperationFailedException(e);
+        } catch (IOException e) {
+            throw new OperationFailedException(e);
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    private static long exportQueue(ActiveMQServer server, Path directory, int index, QueueDescription queue, int chunkSize) throws Exception {
+        QueueMessageBrowser browser = QueueMessageBrowser.create(server, queue.getName(), null);
+        // the queue was removed since the export started
+        if (browser == null) {
+            return 0L;
+        }
+        try (MessageChunkWriter writer = new MessageChunkWriter(directory, index, queue, chunkSize)) {
+            return browser.browse(0L, Long.MAX_VALUE, message -> {
+                try {
+                    writer.write(message);
+                } catch (IOException e) {
+                    throw new UncheckedIOException(e);
+                }
+            });
+        } catch (UncheckedIOException e) {
+            throw e.getCause();
+        }
+    }
+
+    static int resolveThreads(OperationContext context, ModelNode operation) throws OperationFailedException {
+        ModelNode threads = THREADS.resolveModelAttribute(context, operation);
+        return threads.isDefined() ? threads.asInt() : Runtime.getRuntime().availableProcessors();
+    }
+}
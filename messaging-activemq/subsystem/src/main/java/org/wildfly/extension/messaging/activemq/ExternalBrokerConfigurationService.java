@@ -25,6 +25,8 @@ public class ExternalBrokerConfigurationService implements Service<ExternalBroke
     private final Map<String, ServiceName> groupBindings;
     // mapping between the {broadcast|discovery}-groups and the cluster names they use
     private final Map<String, String> clusterNames;
+    // mapping between the jgroups-discovery-groups and the capacity of their queue of pending broadcasts
+    private final Map<String, Integer> broadcastQueueCapacities;
     // mapping between the {broadcast|discovery}-groups and the command dispatcher factory they use
     private final Map<String, ServiceName> commandDispatcherFactories;
     private final Map<String, String> sslContextNames;
@@ -36,10 +38,12 @@ public class ExternalBrokerConfigurationService implements Service<ExternalBroke
             Map<String, ServiceName> groupBindings,
             Map<String, ServiceName> commandDispatcherFactories,
             Map<String, String> clusterNames,
+            Map<String, Integer> broadcastQueueCapacities,
             Map<String, String> sslContextNames) {
         this.connectors = connectors;
         this.discoveryGroupConfigurations = discoveryGroupConfigurations;
         this.clusterNames = clusterNames;
+        this.broadcastQueueCapacities = broadcastQueueCapacities;
         this.commandDispatcherFactories = commandDispatcherFactories;
         this.groupBindings = groupBindings;
         this.outboundSocketBindings = outboundSocketBindings;
@@ -75,6 +79,10 @@ public class ExternalBrokerConfigurationService implements Service<ExternalBroke
         return clusterNames;
     }
 
+    public Map<String, Integer> getBroadcastQueueCapacities() {
+        return broadcastQueueCapacities;
+    }
+
     public Map<String, ServiceName> getCommandDispatcherFactories() {
         return commandDispatcherFactories;
     }
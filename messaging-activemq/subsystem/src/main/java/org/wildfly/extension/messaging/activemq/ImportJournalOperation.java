@@ -5,15 +5,11 @@
 
 package org.wildfly.extension.messaging.activemq;
 
-import static org.jboss.as.controller.PathAddress.EMPTY_ADDRESS;
 import static org.jboss.as.controller.RunningMode.NORMAL;
 
 import java.io.File;
 import java.io.FileInputStream;
 import java.io.InputStream;
-import java.util.HashMap;
-import java.util.Map;
-import java.util.Set;
 
 import org.apache.activemq.artemis.api.core.TransportConfiguration;
 import org.apache.activemq.artemis.api.core.client.ActiveMQClient;
@@ -21,16 +17,13 @@ import org.apache.activemq.artemis.api.core.client.ClientSession;
 import org.apache.activemq.artemis.api.core.client.ClientSessionFactory;
 import org.apache.activemq.artemis.api.core.client.ServerLocator;
 import org.apache.activemq.artemis.cli.commands.tools.xml.XmlDataImporter;
-import org.apache.activemq.artemis.core.remoting.impl.invm.InVMConnectorFactory;
 import org.jboss.as.controller.AttributeDefinition;
 import org.jboss.as.controller.OperationContext;
 import org.jboss.as.controller.OperationFailedException;
-import org.jboss.as.controller.PathAddress;
 import org.jboss.as.controller.SimpleAttributeDefinitionBuilder;
 import org.jboss.as.controller.SimpleOperationDefinitionBuilder;
 import org.jboss.as.controller.descriptions.ResourceDescriptionResolver;
 import org.jboss.as.controller.registry.ManagementResourceRegistration;
-import org.jboss.as.controller.registry.Resource;
 import org.jboss.as.controller.services.path.PathResourceDefinition;
 import org.jboss.dmr.ModelNode;
 import org.jboss.dmr.ModelType;
@@ -102,26 +95,4 @@ public class ImportJournalOperation extends AbstractArtemisActionHandler {
             throw new OperationFailedException(e);
         }
     }
-
-    /**
-     * The XmlDataImporter requires a connector to connect to the artemis broker.
-     *
-     * We require to use a in-vm one so that importing a journal is not subject to any network connection problem.
-     */
-    private TransportConfiguration createInVMTransportConfiguration(OperationContext context) throws OperationFailedException {
-        final Resource serverResource = context.readResource(EMPTY_ADDRESS, false);
-        Set<Resource.ResourceEntry> invmConnectors = serverResource.getChildren(CommonAttributes.IN_VM_CONNECTOR);
-        if (invmConnectors.isEmpty()) {
-            throw MessagingLogger.ROOT_LOGGER.noInVMConnector();
-        }
-        Resource.ResourceEntry connectorEntry = invmConnectors.iterator().next();
-
-        Resource connectorResource = context.readResource(PathAddress.pathAddress(connectorEntry.getPathElement()), false);
-        ModelNode model = connectorResource.getModel();
-
-        Map<String, Object> params = new HashMap<>(CommonAttributes.PARAMS.unwrap(context, model));
-        params.put(org.apache.activemq.artemis.core.remoting.impl.invm.TransportConstants.SERVER_ID_PROP_NAME, InVMTransportDefinition.SERVER_ID.resolveModelAttribute(context, model).asInt());
-        TransportConfiguration transportConfiguration = new TransportConfiguration(InVMConnectorFactory.class.getName(), params);
-        return transportConfiguration;
-    }
 }
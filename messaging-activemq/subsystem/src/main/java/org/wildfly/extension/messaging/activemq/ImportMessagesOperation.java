@@ -0,0 +1,274 @@
+/*
+ * Copyright The WildFly Authors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.wildfly.extension.messaging.activemq;
+
+import static org.jboss.as.controller.RunningMode.NORMAL;
+import static org.wildfly.extension.messaging.activemq.ActiveMQActivationService.rollbackOperationIfServerNotActive;
+import static org.wildfly.extension.messaging.activemq.ExportMessagesOperation.MESSAGE_COUNT;
+import static org.wildfly.extension.messaging.activemq.ExportMessagesOperation.THREADS;
+import static org.wildfly.extension.messaging.activemq.MessageChunkWriter.CHUNK_FILE_SUFFIX;
+
+import java.io.IOException;
+import java.io.Reader;
+import java.io.Writer;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.DirectoryStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Properties;
+import java.util.TreeMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.apache.activemq.artemis.api.core.Message;
+import org.apache.activemq.artemis.api.core.QueueConfiguration;
+import org.apache.activemq.artemis.api.core.RoutingType;
+import org.apache.activemq.artemis.api.core.SimpleString;
+import org.apache.activemq.artemis.api.core.client.ActiveMQClient;
+import org.apache.activemq.artemis.api.core.client.ClientMessage;
+import org.apache.activemq.artemis.api.core.client.ClientProducer;
+import org.apache.activemq.artemis.api.core.client.ClientSession;
+import org.apache.activemq.artemis.api.core.client.ClientSessionFactory;
+import org.apache.activemq.artemis.api.core.client.ServerLocator;
+import org.apache.activemq.artemis.core.server.ActiveMQServer;
+import org.jboss.as.controller.AttributeDefinition;
+import org.jboss.as.controller.OperationContext;
+import org.jboss.as.controller.OperationFailedException;
+import org.jboss.as.controller.SimpleAttributeDefinitionBuilder;
+import org.jboss.as.controller.SimpleOperationDefinitionBuilder;
+import org.jboss.as.controller.descriptions.ResourceDescriptionResolver;
+import org.jboss.as.controller.operations.validation.IntRangeValidator;
+import org.jboss.as.controller.registry.ManagementResourceRegistration;
+import org.jboss.as.controller.services.path.PathResourceDefinition;
+import org.jboss.dmr.ModelNode;
+import org.jboss.dmr.ModelType;
+import org.jboss.threads.JBossThreadFactory;
+import org.wildfly.extension.messaging.activemq.MessageChunkWriter.QueueDescription;
+import org.wildfly.extension.messaging.activemq._private.MessagingLogger;
+
+/**
+ * Import the messages exported by {@link ExportMessagesOperation} in a running Artemis server.
+ * WildFly must be running in NORMAL mode to perform this operation.
+ *
+ * Queues are imported in parallel, each queue in its own transacted session, in their exported order.
+ * The number of messages committed for each chunk is recorded in a progress file of the export directory,
+ * so that invoking this operation again on the same directory resumes an interrupted import.
+ * <p>
+ * The import delivers the messages at least once: the progress file is updated after each transaction is committed,
+ * so if the import is interrupted between the commit of a transaction and the update of the progress file,
+ * resuming the import sends the messages of this transaction again. At most one batch of messages per queue is
+ * duplicated that way.
+ */
+public class ImportMessagesOperation extends AbstractArtemisActionHandler {
+
+    private static final String OPERATION_NAME = "import-messages";
+    static final ImportMessagesOperation INSTANCE = new ImportMessagesOperation();
+
+    private static final String PROGRESS_FILE_NAME = "import.progress";
+    private static final String COMPLETE = "complete";
+
+    private static final AttributeDefinition DIRECTORY = SimpleAttributeDefinitionBuilder.create("directory", PathResourceDefinition.PATH)
+            .setAllowExpression(false)
+            .setRequired(true)
+            .build();
+
+    private static final AttributeDefinition BATCH_SIZE = SimpleAttributeDefinitionBuilder.create("batch-size", ModelType.INT)
+            .setDefaultValue(new ModelNode(1000))
+            .setAllowExpression(false)
+            .setRequired(false)
+            .setValidator(new IntRangeValidator(1, true))
+            .build();
+
+    private ImportMessagesOperation() {
+
+    }
+
+    static void registerOperation(final ManagementResourceRegistration registry, final ResourceDescriptionResolver resourceDescriptionResolver) {
+        registry.registerOperationHandler(new SimpleOperationDefinitionBuilder(OPERATION_NAME, resourceDescriptionResolver)
+                        .addParameter(DIRECTORY)
+                        .addParameter(THREADS)
+                        .addParameter(BATCH_SIZE)
+                        .setRuntimeOnly()
+                        .setReplyType(ModelType.OBJECT)
+                        .setReplyParameters(MESSAGE_COUNT)
+                        .build(),
+                INSTANCE);
+    }
+
+    @Override
+    protected void executeRuntimeStep(OperationContext context, ModelNode operation) throws OperationFailedException {
+        if (context.getRunningMode() != NORMAL) {
+            throw MessagingLogger.ROOT_LOGGER.managementOperationAllowedOnlyInRunningMode(OPERATION_NAME, NORMAL);
+        }
+        if (rollbackOperationIfServerNotActive(context, operation)) {
+            return;
+        }
+
+        final Path directory = Paths.get(DIRECTORY.resolveModelAttribute(context, operation).asString());
+        final int threads = ExportMessagesOperation.resolveThreads(context, operation);
+        final int batchSize = BATCH_SIZE.resolveModelAttribute(context, operation).asInt();
+
+        ActiveMQBroker broker = ActiveMQBroker.class.cast(context.getServiceRegistry(false).getService(MessagingServices.getActiveMQServiceName(context.getCurrentAddress())).getValue());
+        ActiveMQServer server = ActiveMQServer.class.cast(broker.getDelegate());
+
+        ExecutorService executor = Executors.newFixedThreadPool(threads, new JBossThreadFactory(null, Boolean.TRUE, null, OPERATION_NAME + "-%t", null, null));
+        try (
+                ServerLocator serverLocator = ActiveMQClient.createServerLocator(false, createInVMTransportConfiguration(context));
+                ClientSessionFactory sf = serverLocator.createSessionFactory()
+        ) {
+            // chunks of the same queue, in their exported order
+            Map<String, List<Path>> queueChunks = new TreeMap<>();
+            try (DirectoryStream<Path> files = Files.newDirectoryStream(directory, "*" + CHUNK_FILE_SUFFIX)) {
+                for (Path file : files) {
+                    String name = file.getFileName().toString();
+                    queueChunks.computeIfAbsent(name.substring(0, name.indexOf('-')), key -> new ArrayList<>()).add(file);
+                }
+            }
+            ImportProgress progress = new ImportProgress(directory.resolve(PROGRESS_FILE_NAME));
+            // create the missing queues before importing them in parallel
+            List<QueueDescription> queues = new ArrayList<>(queueChunks.size());
+            try (ClientSession session = sf.createSession()) {
+                for (List<Path> chunks : queueChunks.values()) {
+                    chunks.sort(null);
+                    QueueDescription queue;
+                    try (MessageChunkReader reader = new MessageChunkReader(chunks.get(0))) {
+                        queue = reader.getQueue();
+                    }
+                    if (!session.queueQuery(SimpleString.toSimpleString(queue.getName())).isExists()) {
+                        session.createQueue(new QueueConfiguration(queue.getName())
+                                .setAddress(queue.getAddress())
+                                .setRoutingType(RoutingType.valueOf(queue.getRoutingType()))
+                                .setDurable(queue.isDurable())
+                                .setFilterString(queue.getFilter())
+                                .setAutoCreateAddress(true));
+                    }
+                    queues.add(queue);
+                }
+            }
+            AtomicInteger completed = new AtomicInteger();
+            List<Future<Long>> futures = new ArrayList<>(queues.size());
+            int index = 0;
+            for (List<Path> chunks : queueChunks.values()) {
+                QueueDescription queue = queues.get(index++);
+                long queueID = server.locateQueue(SimpleString.toSimpleString(queue.getName())).getID();
+                futures.add(executor.submit(() -> {
+                    long count = importQueue(sf, queue, queueID, chunks, batchSize, progress);
+                    MessagingLogger.ROOT_LOGGER.importedQueueMessages(count, queue.getName(), completed.incrementAndGet(), queues.size());
+                    return count;
+                }));
+            }
+            long count = 0;
+            for (Future<Long> future : futures) {
+                count += future.get();
+            }
+            context.getResult().get(MESSAGE_COUNT.getName()).set(count);
+        } catch (ExecutionException e) {
+            throw new OperationFailedException(e.getCause());
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new OperationFailedException(e);
+        } catch (OperationFailedException e) {
+            throw e;
+        } catch (Exception e) {
+            throw new OperationFailedException(e);
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    static long importQueue(ClientSessionFactory sf, QueueDescription queue, long queueID, List<Path> chunks, int batchSize, ImportProgress progress) throws Exception {
+        // route the messages to their queue only, regardless of the other queues bound to the address
+        byte[] routeTo = ByteBuffer.allocate(Long.BYTES).putLong(queueID).array();
+        long count = 0;
+        try (ClientSession session = sf.createTransactedSession();
+                ClientProducer producer = session.createProducer(queue.getAddress())) {
+            for (Path chunk : chunks) {
+                String name = chunk.getFileName().toString();
+                long committed = progress.getCommitted(name);
+                if (committed < 0) {
+                    continue;
+                }
+                try (MessageChunkReader reader = new MessageChunkReader(chunk)) {
+                    long index = 0;
+                    ClientMessage message = reader.read(session);
+                    while (message != null) {
+                        // skip the messages committed by a previous import
+                        if (index >= committed) {
+                            message.putBytesProperty(Message.HDR_ROUTE_TO_IDS, routeTo);
+                            producer.send(message);
+                            count += 1;
+                            if ((index + 1 - committed) % batchSize == 0) {
+                                // not atomic with the commit, a batch is imported again if interrupted in between
+                                session.commit();
+                                progress.setCommitted(name, index + 1);
+                            }
+                        }
+                        index += 1;
+                        message = reader.read(session);
+                    }
+                }
+                session.commit();
+                progress.setComplete(name);
+            }
+        }
+        return count;
+    }
+
+    /**
+     * Records the number of committed messages of each chunk of an import.
+     */
+    static class ImportProgress {
+        private final Path file;
+        private final Properties properties = new Properties();
+
+        ImportProgress(Path file) throws IOException {
+            this.file = file;
+            if (Files.exists(file)) {
+                try (Reader reader = Files.newBufferedReader(file, StandardCharsets.UTF_8)) {
+                    this.properties.load(reader);
+                }
+            }
+        }
+
+        /**
+         * Returns the number of committed messages of the specified chunk, or -1 if the chunk was completely imported.
+         */
+        synchronized long getCommitted(String chunk) {
+            String value = this.properties.getProperty(chunk);
+            if (value == null) {
+                return 0L;
+            }
+            return COMPLETE.equals(value) ? -1L : Long.parseLong(value);
+        }
+
+        synchronized void setCommitted(String chunk, long committed) throws IOException {
+            this.properties.setProperty(chunk, Long.toString(committed));
+            this.store();
+        }
+
+        synchronized void setComplete(String chunk) throws IOException {
+            this.properties.setProperty(chunk, COMPLETE);
+            this.store();
+        }
+
+        private void store() throws IOException {
+            Path temp = this.file.resolveSibling(this.file.getFileName() + ".tmp");
+            try (Writer writer = Files.newBufferedWriter(temp, StandardCharsets.UTF_8)) {
+                this.properties.store(writer, null);
+            }
+            Files.move(temp, this.file, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+        }
+    }
+}
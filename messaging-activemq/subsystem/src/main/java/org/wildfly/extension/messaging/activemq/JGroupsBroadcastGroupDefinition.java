@@ -6,6 +6,7 @@ package org.wildfly.extension.messaging.activemq;
 
 import static org.jboss.as.controller.SimpleAttributeDefinitionBuilder.create;
 import static org.jboss.as.controller.client.helpers.MeasurementUnit.MILLISECONDS;
+import static org.jboss.as.controller.registry.AttributeAccess.Flag.COUNTER_METRIC;
 import static org.jboss.as.controller.registry.AttributeAccess.Flag.STORAGE_RUNTIME;
 import static org.jboss.dmr.ModelType.LONG;
 import static org.jboss.dmr.ModelType.STRING;
@@ -27,6 +28,7 @@ import org.jboss.as.controller.SimpleResourceDefinition;
 import org.jboss.as.controller.StringListAttributeDefinition;
 import org.jboss.as.controller.capability.DynamicNameMappers;
 import org.jboss.as.controller.capability.RuntimeCapability;
+import org.jboss.as.controller.operations.validation.LongRangeValidator;
 import org.jboss.as.controller.operations.validation.StringLengthValidator;
 import org.jboss.as.controller.registry.ManagementResourceRegistration;
 import org.jboss.dmr.ModelNode;
@@ -65,6 +67,25 @@ public class JGroupsBroadcastGroupDefinition extends PersistentResourceDefinitio
             .setRestartAllServices()
             .build();
 
+    /**
+     * Interval during which a broadcast identical to the last one sent is not sent again.
+     * It must remain lower than the refresh-timeout of the discovery groups receiving the broadcasts.
+     */
+    public static final SimpleAttributeDefinition BROADCAST_COALESCING_INTERVAL = create("broadcast-coalescing-interval", LONG)
+            .setDefaultValue(new ModelNode(0L))
+            .setMeasurementUnit(MILLISECONDS)
+            .setRequired(false)
+            .setAllowExpression(true)
+            .setValidator(new LongRangeValidator(0, Long.MAX_VALUE, true, true))
+            .setRestartAllServices()
+            .build();
+
+    public static final AttributeDefinition COALESCED_BROADCAST_COUNT = create("coalesced-broadcast-count", LONG)
+            .setStorageRuntime()
+            .setUndefinedMetricValue(ModelNode.ZERO)
+            .addFlag(COUNTER_METRIC)
+            .build();
+
     @Deprecated
     public static final SimpleAttributeDefinition JGROUPS_CHANNEL_FACTORY = create(CommonAttributes.JGROUPS_CHANNEL_FACTORY)
             .setCapabilityReference("org.wildfly.clustering.jgroups.channel-factory")
@@ -80,7 +101,7 @@ public class JGroupsBroadcastGroupDefinition extends PersistentResourceDefinitio
             .build();
 
     public static final AttributeDefinition[] ATTRIBUTES = {JGROUPS_CHANNEL_FACTORY, JGROUPS_CHANNEL, JGROUPS_CLUSTER,
-        BROADCAST_PERIOD, CONNECTOR_REFS};
+        BROADCAST_PERIOD, CONNECTOR_REFS, BROADCAST_COALESCING_INTERVAL};
 
     public static final String GET_CONNECTOR_PAIRS_AS_JSON = "get-connector-pairs-as-json";
 
@@ -110,6 +131,9 @@ public class JGroupsBroadcastGroupDefinition extends PersistentResourceDefinitio
         }
 
         BroadcastGroupControlHandler.INSTANCE.registerAttributes(registry);
+        if (registerRuntimeOnly) {
+            registry.registerMetric(COALESCED_BROADCAST_COUNT, BroadcastStatisticsReadHandler.INSTANCE);
+        }
     }
 
     @Override
@@ -7,6 +7,7 @@ package org.wildfly.extension.messaging.activemq;
 
 import static org.jboss.as.controller.SimpleAttributeDefinitionBuilder.create;
 import static org.jboss.as.controller.client.helpers.MeasurementUnit.MILLISECONDS;
+import static org.jboss.as.controller.registry.AttributeAccess.Flag.COUNTER_METRIC;
 
 import java.util.Arrays;
 import java.util.Collection;
@@ -14,6 +15,8 @@ import java.util.Collection;
 import org.apache.activemq.artemis.api.config.ActiveMQDefaultConfiguration;
 import org.apache.activemq.artemis.api.core.client.ActiveMQClient;
 import org.jboss.as.controller.AttributeDefinition;
+import org.jboss.as.controller.OperationContext;
+import org.jboss.as.controller.OperationFailedException;
 import org.jboss.as.controller.PathElement;
 import org.jboss.as.controller.PersistentResourceDefinition;
 import org.jboss.as.controller.ReloadRequiredWriteAttributeHandler;
@@ -21,12 +24,14 @@ import org.jboss.as.controller.SimpleAttributeDefinition;
 import org.jboss.as.controller.SimpleResourceDefinition;
 import org.jboss.as.controller.capability.DynamicNameMappers;
 import org.jboss.as.controller.capability.RuntimeCapability;
+import org.jboss.as.controller.operations.validation.IntRangeValidator;
 import org.jboss.as.controller.registry.AttributeAccess;
 import org.jboss.as.controller.registry.ManagementResourceRegistration;
 import org.jboss.dmr.ModelNode;
 import org.jboss.dmr.ModelType;
 import org.wildfly.clustering.server.service.ClusteringDefaultRequirement;
 import org.wildfly.clustering.server.service.ClusteringRequirement;
+import org.wildfly.extension.messaging.activemq.broadcast.QueueBroadcastManager;
 
 
 /**
@@ -66,6 +71,27 @@ public class JGroupsDiscoveryGroupDefinition extends PersistentResourceDefinitio
             .setRestartAllServices()
             .build();
 
+    public static final SimpleAttributeDefinition BROADCAST_QUEUE_CAPACITY = create("broadcast-queue-capacity", ModelType.INT)
+            .setRequired(false)
+            .setAllowExpression(true)
+            .setValidator(new IntRangeValidator(1, true, true))
+            .setRestartAllServices()
+            .build();
+
+    public static final AttributeDefinition COALESCED_BROADCAST_COUNT = create("coalesced-broadcast-count", ModelType.LONG)
+            .setStorageRuntime()
+            .setUndefinedMetricValue(ModelNode.ZERO)
+            .addFlag(COUNTER_METRIC)
+            .build();
+
+    public static final AttributeDefinition DROPPED_BROADCAST_COUNT = create("dropped-broadcast-count", ModelType.LONG)
+            .setStorageRuntime()
+            .setUndefinedMetricValue(ModelNode.ZERO)
+            .addFlag(COUNTER_METRIC)
+            .build();
+
+    static final AttributeDefinition[] METRICS = { COALESCED_BROADCAST_COUNT, DROPPED_BROADCAST_COUNT };
+
     @Deprecated public static final SimpleAttributeDefinition JGROUPS_CHANNEL_FACTORY = create(CommonAttributes.JGROUPS_CHANNEL_FACTORY)
             .setCapabilityReference("org.wildfly.clustering.jgroups.channel-factory")
             .build();
@@ -80,11 +106,19 @@ public class JGroupsDiscoveryGroupDefinition extends PersistentResourceDefinitio
             .build();
 
     public static final AttributeDefinition[] ATTRIBUTES = {
-        JGROUPS_CHANNEL_FACTORY, JGROUPS_CHANNEL, JGROUPS_CLUSTER, REFRESH_TIMEOUT, INITIAL_WAIT_TIMEOUT
+        JGROUPS_CHANNEL_FACTORY, JGROUPS_CHANNEL, JGROUPS_CLUSTER, REFRESH_TIMEOUT, INITIAL_WAIT_TIMEOUT, BROADCAST_QUEUE_CAPACITY
     };
 
     private final boolean registerRuntimeOnly;
 
+    /**
+     * Returns the maximum number of pending broadcasts of the specified discovery group.
+     */
+    public static int resolveBroadcastQueueCapacity(OperationContext context, ModelNode model) throws OperationFailedException {
+        ModelNode capacity = BROADCAST_QUEUE_CAPACITY.resolveModelAttribute(context, model);
+        return capacity.isDefined() ? capacity.asInt() : QueueBroadcastManager.UNBOUNDED;
+    }
+
     protected JGroupsDiscoveryGroupDefinition(final boolean registerRuntimeOnly, final boolean subsystemResource) {
         super(new SimpleResourceDefinition.Parameters(PATH, MessagingExtension.getResourceDescriptionResolver(CommonAttributes.DISCOVERY_GROUP))
                 .setAddHandler(JGroupsDiscoveryGroupAdd.INSTANCE)
@@ -106,5 +140,10 @@ public class JGroupsDiscoveryGroupDefinition extends PersistentResourceDefinitio
                 registry.registerReadWriteAttribute(attr, null, reloadRequiredWriteAttributeHandler);
             }
         }
+        if (registerRuntimeOnly) {
+            for (AttributeDefinition metric : METRICS) {
+                registry.registerMetric(metric, BroadcastStatisticsReadHandler.INSTANCE);
+            }
+        }
     }
 }
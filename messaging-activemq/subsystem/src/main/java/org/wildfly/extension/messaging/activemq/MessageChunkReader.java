@@ -0,0 +1,153 @@
+/*
+ * Copyright The WildFly Authors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.wildfly.extension.messaging.activemq;
+
+import static org.wildfly.extension.messaging.activemq.MessageChunkWriter.BOOLEAN;
+import static org.wildfly.extension.messaging.activemq.MessageChunkWriter.BYTE;
+import static org.wildfly.extension.messaging.activemq.MessageChunkWriter.BYTES;
+import static org.wildfly.extension.messaging.activemq.MessageChunkWriter.CHAR;
+import static org.wildfly.extension.messaging.activemq.MessageChunkWriter.DOUBLE;
+import static org.wildfly.extension.messaging.activemq.MessageChunkWriter.END;
+import static org.wildfly.extension.messaging.activemq.MessageChunkWriter.FLOAT;
+import static org.wildfly.extension.messaging.activemq.MessageChunkWriter.INT;
+import static org.wildfly.extension.messaging.activemq.MessageChunkWriter.LONG;
+import static org.wildfly.extension.messaging.activemq.MessageChunkWriter.MAGIC;
+import static org.wildfly.extension.messaging.activemq.MessageChunkWriter.MESSAGE;
+import static org.wildfly.extension.messaging.activemq.MessageChunkWriter.NULL;
+import static org.wildfly.extension.messaging.activemq.MessageChunkWriter.SHORT;
+import static org.wildfly.extension.messaging.activemq.MessageChunkWriter.STRING;
+import static org.wildfly.extension.messaging.activemq.MessageChunkWriter.VERSION;
+
+import java.io.BufferedInputStream;
+import java.io.Closeable;
+import java.io.DataInputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+import org.apache.activemq.artemis.api.core.SimpleString;
+import org.apache.activemq.artemis.api.core.client.ClientMessage;
+import org.apache.activemq.artemis.api.core.client.ClientSession;
+import org.apache.activemq.artemis.utils.UUID;
+import org.wildfly.extension.messaging.activemq.MessageChunkWriter.QueueDescription;
+import org.wildfly.extension.messaging.activemq._private.MessagingLogger;
+
+/**
+ * Reads a chunk file written by a {@link MessageChunkWriter}.
+ */
+class MessageChunkReader implements Closeable {
+
+    private final Path file;
+    private final DataInputStream input;
+    private final QueueDescription queue;
+
+    MessageChunkReader(Path file) throws IOException {
+        this.file = file;
+        this.input = new DataInputStream(new BufferedInputStream(Files.newInputStream(file)));
+        try {
+            if ((this.input.readInt() != MAGIC) || (this.input.readByte() != VERSION)) {
+                throw MessagingLogger.ROOT_LOGGER.invalidMessageChunk(file);
+            }
+            String name = readString(this.input);
+            String address = readString(this.input);
+            String routingType = readString(this.input);
+            boolean durable = this.input.readBoolean();
+            String filter = readString(this.input);
+            this.queue = new QueueDescription(name, address, routingType, durable, filter);
+        } catch (IOException e) {
+            this.input.close();
+            throw e;
+        }
+    }
+
+    QueueDescription getQueue() {
+        return this.queue;
+    }
+
+    /**
+     * Reads the next message of this chunk.
+     * @param session the session used to create the message
+     * @return the next message, or null if all messages of this chunk were read
+     * @throws IOException if the chunk could not be read
+     */
+    ClientMessage read(ClientSession session) throws IOException {
+        byte marker = this.input.readByte();
+        if (marker == END) {
+            return null;
+        }
+        if (marker != MESSAGE) {
+            throw MessagingLogger.ROOT_LOGGER.invalidMessageChunk(this.file);
+        }
+        byte type = this.input.readByte();
+        boolean durable = this.input.readBoolean();
+        long expiration = this.input.readLong();
+        long timestamp = this.input.readLong();
+        byte priority = this.input.readByte();
+        ClientMessage message = session.createMessage(type, durable, expiration, timestamp, priority);
+        byte[] userID = readBytes(this.input);
+        if (userID != null) {
+            message.setUserID(new UUID(UUID.TYPE_TIME_BASED, userID));
+        }
+        int properties = this.input.readInt();
+        for (int i = 0; i < properties; ++i) {
+            SimpleString name = SimpleString.toSimpleString(readString(this.input));
+            message.putObjectProperty(name, this.readValue());
+        }
+        message.getBodyBuffer().writeBytes(readBytes(this.input));
+        return message;
+    }
+
+    @Override
+    public void close() throws IOException {
+        this.input.close();
+    }
+
+    private Object readValue() throws IOException {
+        byte type = this.input.readByte();
+        switch (type) {
+            case NULL:
+                return null;
+            case BOOLEAN:
+                return this.input.readBoolean();
+            case BYTE:
+                return this.input.readByte();
+            case SHORT:
+                return this.input.readShort();
+            case CHAR:
+                return this.input.readChar();
+            case INT:
+                return this.input.readInt();
+            case LONG:
+                return this.input.readLong();
+            case FLOAT:
+                return this.input.readFloat();
+            case DOUBLE:
+                return this.input.readDouble();
+            case STRING:
+                return SimpleString.toSimpleString(readString(this.input));
+            case BYTES:
+                return readBytes(this.input);
+            default:
+                throw MessagingLogger.ROOT_LOGGER.invalidMessageChunk(this.file);
+        }
+    }
+
+    private static String readString(DataInputStream input) throws IOException {
+        byte[] bytes = readBytes(input);
+        return (bytes != null) ? new String(bytes, StandardCharsets.UTF_8) : null;
+    }
+
+    private static byte[] readBytes(DataInputStream input) throws IOException {
+        int length = input.readInt();
+        if (length < 0) {
+            return null;
+        }
+        byte[] bytes = new byte[length];
+        input.readFully(bytes);
+        return bytes;
+    }
+}
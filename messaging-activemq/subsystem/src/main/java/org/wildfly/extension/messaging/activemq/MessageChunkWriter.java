@@ -0,0 +1,234 @@
+/*
+ * Copyright The WildFly Authors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.wildfly.extension.messaging.activemq;
+
+import java.io.BufferedOutputStream;
+import java.io.Closeable;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.util.ArrayList;
+import java.util.List;
+
+import org.apache.activemq.artemis.api.core.ActiveMQBuffer;
+import org.apache.activemq.artemis.api.core.ICoreMessage;
+import org.apache.activemq.artemis.api.core.Message;
+import org.apache.activemq.artemis.api.core.SimpleString;
+import org.apache.activemq.artemis.utils.UUID;
+import org.wildfly.extension.messaging.activemq._private.MessagingLogger;
+
+/**
+ * Writes the messages of a queue to a sequence of chunk files, each holding at most a fixed number of messages.
+ * A chunk file only becomes visible once it is complete, so that an interrupted export never leaves a truncated chunk behind.
+ *
+ * <pre>
+ * chunk   := MAGIC VERSION name address routing-type durable filter message* END
+ * message := MESSAGE type durable expiration timestamp priority user-id property-count (name value)* body
+ * </pre>
+ */
+class MessageChunkWriter implements Closeable {
+
+    static final String CHUNK_FILE_SUFFIX = ".chunk";
+    // name of the chunk files follows the format <queue index>-<chunk index>.chunk
+    private static final String CHUNK_FILE_NAME_FORMAT = "%06d-%06d" + CHUNK_FILE_SUFFIX;
+
+    static final int MAGIC = 0x574d4331;
+    static final byte VERSION = 1;
+    static final byte END = 0;
+    static final byte MESSAGE = 1;
+
+    static final byte NULL = 0;
+    static final byte BOOLEAN = 1;
+    static final byte BYTE = 2;
+    static final byte SHORT = 3;
+    static final byte CHAR = 4;
+    static final byte INT = 5;
+    static final byte LONG = 6;
+    static final byte FLOAT = 7;
+    static final byte DOUBLE = 8;
+    static final byte STRING = 9;
+    static final byte BYTES = 10;
+
+    private final Path directory;
+    private final int queueIndex;
+    private final QueueDescription queue;
+    private final int chunkSize;
+
+    private DataOutputStream output;
+    private Path file;
+    private int chunks = 0;
+    private int count = 0;
+
+    MessageChunkWriter(Path directory, int queueIndex, QueueDescription queue, int chunkSize) {
+        this.directory = directory;
+        this.queueIndex = queueIndex;
+        this.queue = queue;
+        this.chunkSize = chunkSize;
+    }
+
+    void write(Message message) throws IOException {
+        ICoreMessage core = message.toCore();
+        if (core.isLargeMessage()) {
+            throw MessagingLogger.ROOT_LOGGER.largeMessageExportNotSupported(core.getMessageID(), this.queue.getName());
+        }
+        if (this.output == null) {
+            this.openChunk();
+        }
+        DataOutputStream output = this.output;
+        output.writeByte(MESSAGE);
+        output.writeByte(core.getType());
+        output.writeBoolean(core.isDurable());
+        output.writeLong(core.getExpiration());
+        output.writeLong(core.getTimestamp());
+        output.writeByte(core.getPriority());
+        Object userID = core.getUserID();
+        writeBytes(output, (userID instanceof UUID) ? ((UUID) userID).asBytes() : null);
+        List<SimpleString> names = new ArrayList<>(core.getPropertyNames());
+        // Messages are routed explicitly to their queue on import
+        names.remove(Message.HDR_ROUTE_TO_IDS);
+        output.writeInt(names.size());
+        for (SimpleString name : names) {
+            writeString(output, name.toString());
+            writeValue(output, core.getObjectProperty(name));
+        }
+        ActiveMQBuffer body = core.getReadOnlyBodyBuffer();
+        byte[] bytes = new byte[body.readableBytes()];
+        body.readBytes(bytes);
+        writeBytes(output, bytes);
+        this.count += 1;
+        if (this.count == this.chunkSize) {
+            this.closeChunk();
+        }
+    }
+
+    /**
+     * Completes the current chunk. A queue without messages is written as a single empty chunk, so that it is recreated on import.
+     */
+    @Override
+    public void close() throws IOException {
+        if ((this.output == null) && (this.chunks == 0)) {
+            this.openChunk();
+        }
+        if (this.output != null) {
+            this.closeChunk();
+        }
+    }
+
+    private void openChunk() throws IOException {
+        this.file = this.directory.resolve(String.format(CHUNK_FILE_NAME_FORMAT, this.queueIndex, this.chunks));
+        this.output = new DataOutputStream(new BufferedOutputStream(Files.newOutputStream(this.directory.resolve(this.file.getFileName() + ".tmp"))));
+        this.output.writeInt(MAGIC);
+        this.output.writeByte(VERSION);
+        writeString(this.output, this.queue.getName());
+        writeString(this.output, this.queue.getAddress());
+        writeString(this.output, this.queue.getRoutingType());
+        this.output.writeBoolean(this.queue.isDurable());
+        writeString(this.output, this.queue.getFilter());
+        this.count = 0;
+    }
+
+    private void closeChunk() throws IOException {
+        try (DataOutputStream output = this.output) {
+            output.writeByte(END);
+        } finally {
+            this.output = null;
+        }
+        Files.move(this.directory.resolve(this.file.getFileName() + ".tmp"), this.file, StandardCopyOption.ATOMIC_MOVE);
+        this.chunks += 1;
+    }
+
+    private static void writeValue(DataOutputStream output, Object value) throws IOException {
+        if (value == null) {
+            output.writeByte(NULL);
+        } else if (value instanceof Boolean) {
+            output.writeByte(BOOLEAN);
+            output.writeBoolean((Boolean) value);
+        } else if (value instanceof Byte) {
+            output.writeByte(BYTE);
+            output.writeByte((Byte) value);
+        } else if (value instanceof Short) {
+            output.writeByte(SHORT);
+            output.writeShort((Short) value);
+        } else if (value instanceof Character) {
+            output.writeByte(CHAR);
+            output.writeChar((Character) value);
+        } else if (value instanceof Integer) {
+            output.writeByte(INT);
+            output.writeInt((Integer) value);
+        } else if (value instanceof Long) {
+            output.writeByte(LONG);
+            output.writeLong((Long) value);
+        } else if (value instanceof Float) {
+            output.writeByte(FLOAT);
+            output.writeFloat((Float) value);
+        } else if (value instanceof Double) {
+            output.writeByte(DOUBLE);
+            output.writeDouble((Double) value);
+        } else if (value instanceof byte[]) {
+            output.writeByte(BYTES);
+            writeBytes(output, (byte[]) value);
+        } else {
+            // SimpleString or String
+            output.writeByte(STRING);
+            writeString(output, value.toString());
+        }
+    }
+
+    private static void writeString(DataOutputStream output, String value) throws IOException {
+        writeBytes(output, (value != null) ? value.getBytes(StandardCharsets.UTF_8) : null);
+    }
+
+    private static void writeBytes(DataOutputStream output, byte[] value) throws IOException {
+        if (value == null) {
+            output.writeInt(-1);
+        } else {
+            output.writeInt(value.length);
+            output.write(value);
+        }
+    }
+
+    /**
+     * Describes the queue of the messages of a chunk, so that the queue can be recreated on import.
+     */
+    static class QueueDescription {
+        private final String name;
+        private final String address;
+        private final String routingType;
+        private final boolean durable;
+        private final String filter;
+
+        QueueDescription(String name, String address, String routingType, boolean durable, String filter) {
+            this.name = name;
+            this.address = address;
+            this.routingType = routingType;
+            this.durable = durable;
+            this.filter = filter;
+        }
+
+        String getName() {
+            return this.name;
+        }
+
+        String getAddress() {
+            return this.address;
+        }
+
+        String getRoutingType() {
+            return this.routingType;
+        }
+
+        boolean isDurable() {
+            return this.durable;
+        }
+
+        String getFilter() {
+            return this.filter;
+        }
+    }
+}
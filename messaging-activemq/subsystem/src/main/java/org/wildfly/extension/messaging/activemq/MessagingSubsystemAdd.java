@@ -173,6 +173,7 @@ class MessagingSubsystemAdd extends AbstractBoottimeAddStepHandler {
                 BroadcastGroupAdd.addBroadcastGroupConfigs(context, broadcastGroupConfigurations, connectors.keySet(), model);
                 final Map<String, DiscoveryGroupConfiguration> discoveryGroupConfigurations = ConfigurationHelper.addDiscoveryGroupConfigurations(context, model);
                 final Map<String, String> clusterNames = new HashMap<>();
+                final Map<String, Integer> broadcastQueueCapacities = new HashMap<>();
                 final Map<String, ServiceName> commandDispatcherFactories = new HashMap<>();
                 final Map<String, ServiceName> groupBindings = new HashMap<>();
                 final Set<ServiceName> groupBindingServices = new HashSet<>();
@@ -206,6 +207,7 @@ class MessagingSubsystemAdd extends AbstractBoottimeAddStepHandler {
                         commandDispatcherFactories.put(key, MessagingServices.getBroadcastCommandDispatcherFactoryServiceName(channelName));
                         String clusterName = JGROUPS_CLUSTER.resolveModelAttribute(context, discoveryGroupModel).asString();
                         clusterNames.put(key, clusterName);
+                        broadcastQueueCapacities.put(key, JGroupsDiscoveryGroupDefinition.resolveBroadcastQueueCapacity(context, discoveryGroupModel));
                     } else {
                         final ServiceName groupBindingServiceName = GroupBindingService.getDiscoveryBaseServiceName(MessagingServices.getActiveMQServiceName()).append(name);
                         if (!groupBindingServices.contains(groupBindingServiceName)) {
@@ -222,6 +224,7 @@ class MessagingSubsystemAdd extends AbstractBoottimeAddStepHandler {
                         groupBindings,
                         commandDispatcherFactories,
                         clusterNames,
+                        broadcastQueueCapacities,
                         sslContextNames))
                         .install();
             }
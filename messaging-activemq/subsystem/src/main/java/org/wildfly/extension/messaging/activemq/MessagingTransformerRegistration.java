@@ -41,6 +41,7 @@ import org.jboss.as.controller.transform.description.ResourceTransformationDescr
 import org.jboss.as.controller.transform.description.TransformationDescriptionBuilder;
 import org.kohsuke.MetaInfServices;
 import org.wildfly.extension.messaging.activemq.jms.ConnectionFactoryAttributes;
+import org.wildfly.extension.messaging.activemq.jms.bridge.JMSBridgeDefinition;
 
 /**
  * {@link ExtensionTransformerRegistration} for the messaging-activemq subsystem.
@@ -58,12 +59,27 @@ public class MessagingTransformerRegistration implements ExtensionTransformerReg
     @Override
     public void registerTransformers(SubsystemTransformerRegistration registration) {
         ChainedTransformationDescriptionBuilder builder = TransformationDescriptionBuilder.Factory.createChainedSubystemInstance(registration.getCurrentSubsystemVersion());
+        registerTransformers_WF_30(builder.createBuilder(MessagingExtension.VERSION_17_0_0, MessagingExtension.VERSION_16_0_0));
         registerTransformers_WF_29(builder.createBuilder(MessagingExtension.VERSION_16_0_0, MessagingExtension.VERSION_15_0_0));
         registerTransformers_WF_28(builder.createBuilder(MessagingExtension.VERSION_15_0_0, MessagingExtension.VERSION_14_0_0));
         registerTransformers_WF_27(builder.createBuilder(MessagingExtension.VERSION_14_0_0, MessagingExtension.VERSION_13_1_0));
         registerTransformers_WF_26_1(builder.createBuilder(MessagingExtension.VERSION_13_1_0, MessagingExtension.VERSION_13_0_0));
         builder.buildAndRegister(registration, new ModelVersion[]{MessagingExtension.VERSION_13_0_0, MessagingExtension.VERSION_13_1_0,
-            MessagingExtension.VERSION_14_0_0, MessagingExtension.VERSION_15_0_0, MessagingExtension.VERSION_16_0_0});
+            MessagingExtension.VERSION_14_0_0, MessagingExtension.VERSION_15_0_0, MessagingExtension.VERSION_16_0_0,
+            MessagingExtension.VERSION_17_0_0});
+    }
+
+    private static void registerTransformers_WF_30(ResourceTransformationDescriptionBuilder subsystem) {
+        ResourceTransformationDescriptionBuilder server = subsystem.addChildResource(SERVER_PATH);
+        ResourceTransformationDescriptionBuilder jgroupsBroadcastGroup = server.addChildResource(MessagingExtension.JGROUPS_BROADCAST_GROUP_PATH);
+        rejectDefinedAttributeWithDefaultValue(jgroupsBroadcastGroup, JGroupsBroadcastGroupDefinition.BROADCAST_COALESCING_INTERVAL);
+        rejectDefinedAttributeWithDefaultValue(server.addChildResource(JGroupsDiscoveryGroupDefinition.PATH), JGroupsDiscoveryGroupDefinition.BROADCAST_QUEUE_CAPACITY);
+        rejectDefinedAttributeWithDefaultValue(subsystem.addChildResource(JGroupsDiscoveryGroupDefinition.PATH), JGroupsDiscoveryGroupDefinition.BROADCAST_QUEUE_CAPACITY);
+        ResourceTransformationDescriptionBuilder pooledConnectionFactory = server.addChildResource(MessagingExtension.POOLED_CONNECTION_FACTORY_PATH);
+        rejectDefinedAttributeWithDefaultValue(pooledConnectionFactory, ConnectionFactoryAttributes.Pooled.ADAPTIVE_MAX_POOL_SIZE,
+                ConnectionFactoryAttributes.Pooled.ADAPTIVE_POOL_SAMPLE_INTERVAL, ConnectionFactoryAttributes.Pooled.ADAPTIVE_POOL_WAIT_THRESHOLD,
+                ConnectionFactoryAttributes.Pooled.ADAPTIVE_POOL_QUIET_SAMPLES, ConnectionFactoryAttributes.Pooled.ADAPTIVE_POOL_STEP_PERCENTAGE);
+        rejectDefinedAttributeWithDefaultValue(subsystem.addChildResource(MessagingExtension.JMS_BRIDGE_PATH), JMSBridgeDefinition.LANES, JMSBridgeDefinition.LANE_PARTITION_PROPERTY);
     }
 
     private static void registerTransformers_WF_29(ResourceTransformationDescriptionBuilder subsystem) {
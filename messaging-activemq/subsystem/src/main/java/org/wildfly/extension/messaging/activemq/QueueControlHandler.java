@@ -127,6 +127,12 @@ public class QueueControlHandler extends AbstractQueueControlHandler<QueueContro
             public QueueControl getDelegate() {
                 return control;
             }
+
+            @Override
+            public String getName() {
+                return control.getName();
+            }
+
             @Override
             public String listMessagesAsJSON(String filter) throws Exception {
                 return control.listMessagesAsJSON(filter);
@@ -0,0 +1,110 @@
+/*
+ * Copyright The WildFly Authors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.wildfly.extension.messaging.activemq;
+
+import java.util.Map;
+import java.util.function.Consumer;
+import java.util.function.UnaryOperator;
+
+import org.apache.activemq.artemis.api.core.ActiveMQException;
+import org.apache.activemq.artemis.api.core.Message;
+import org.apache.activemq.artemis.api.core.SimpleString;
+import org.apache.activemq.artemis.core.filter.Filter;
+import org.apache.activemq.artemis.core.filter.impl.FilterImpl;
+import org.apache.activemq.artemis.core.server.ActiveMQServer;
+import org.apache.activemq.artemis.core.server.MessageReference;
+import org.apache.activemq.artemis.core.server.Queue;
+import org.apache.activemq.artemis.utils.collections.LinkedListIterator;
+import org.jboss.dmr.ModelNode;
+
+/**
+ * Browses the messages of a queue one at a time, unlike the {@code list-messages} methods of
+ * {@link org.apache.activemq.artemis.api.core.management.QueueControl} which build a JSON string of every matching message.
+ */
+class QueueMessageBrowser {
+
+    private final Queue queue;
+    private final Filter filter;
+
+    /**
+     * Creates a browser of the messages of the specified queue.
+     * @param server the ActiveMQ server
+     * @param queueName the name of the core queue
+     * @param filter a core message filter, or null to browse all messages
+     * @return a browser or null if the queue does not exist
+     * @throws ActiveMQException if the filter is invalid
+     */
+    static QueueMessageBrowser create(ActiveMQServer server, String queueName, String filter) throws ActiveMQException {
+        Queue queue = server.locateQueue(SimpleString.toSimpleString(queueName));
+        return (queue != null) ? new QueueMessageBrowser(queue, FilterImpl.createFilter(filter)) : null;
+    }
+
+    QueueMessageBrowser(Queue queue, Filter filter) {
+        this.queue = queue;
+        this.filter = filter;
+    }
+
+    long getMessageCount() {
+        return this.queue.getMessageCount();
+    }
+
+    /**
+     * Passes the messages matching the filter to the specified consumer, in queue order.
+     * @param offset the number of matching messages to skip
+     * @param limit the maximum number of matching messages to pass to the consumer
+     * @param consumer the consumer of the matching messages
+     * @return the number of messages passed to the consumer
+     */
+    long browse(long offset, long limit, Consumer<Message> consumer) {
+        long skipped = 0;
+        long count = 0;
+        try (LinkedListIterator<MessageReference> references = this.queue.browserIterator()) {
+            while ((count < limit) && references.hasNext()) {
+                Message message = references.next().getMessage();
+                if ((this.filter == null) || this.filter.match(message)) {
+                    if (skipped < offset) {
+                        skipped += 1;
+                    } else {
+                        consumer.accept(message);
+                        count += 1;
+                    }
+                }
+            }
+        }
+        return count;
+    }
+
+    /**
+     * Converts the specified message into the model returned by the {@code list-messages} operation.
+     * @param message a message
+     * @param propertyNames converts the name of the message properties
+     * @return a model of the message properties
+     */
+    static ModelNode toModelNode(Message message, UnaryOperator<String> propertyNames) {
+        ModelNode result = new ModelNode();
+        for (Map.Entry<String, Object> entry : message.toMap().entrySet()) {
+            Object value = entry.getValue();
+            if (value == null) {
+                continue;
+            }
+            ModelNode node = result.get(propertyNames.apply(entry.getKey()));
+            if (value instanceof Long) {
+                node.set((Long) value);
+            } else if ((value instanceof Integer) || (value instanceof Short) || (value instanceof Byte)) {
+                node.set(((Number) value).intValue());
+            } else if ((value instanceof Double) || (value instanceof Float)) {
+                node.set(((Number) value).doubleValue());
+            } else if (value instanceof Boolean) {
+                node.set((Boolean) value);
+            } else if (value instanceof byte[]) {
+                node.set((byte[]) value);
+            } else {
+                node.set(value.toString());
+            }
+        }
+        return result;
+    }
+}
@@ -387,6 +387,8 @@ class ServerAdd extends AbstractAddStepHandler {
             final Map<String, DiscoveryGroupConfiguration> discoveryGroupConfigurations = configuration.getDiscoveryGroupConfigurations();
 
             final Map<String, String> clusterNames = new HashMap<>(); // Maps key -> cluster name
+            final Map<String, Long> broadcastCoalescingIntervals = new HashMap<>(); // Maps key -> broadcast coalescing interval
+            final Map<String, Integer> broadcastQueueCapacities = new HashMap<>(); // Maps key -> broadcast queue capacity
             final Map<String, Supplier<BroadcastCommandDispatcherFactory>> commandDispatcherFactories = new HashMap<>();
             final Map<String, Supplier<SocketBinding>> groupBindings = new HashMap<>();
             final Map<ServiceName, Supplier<SocketBinding>> groupBindingServices = new HashMap<>();
@@ -402,6 +404,8 @@ class ServerAdd extends AbstractAddStepHandler {
                         commandDispatcherFactories.put(key, serviceBuilder.requires(MessagingServices.getBroadcastCommandDispatcherFactoryServiceName(channelName)));
                         String clusterName = JGROUPS_CLUSTER.resolveModelAttribute(context, broadcastGroupModel).asString();
                         clusterNames.put(key, clusterName);
+                        long coalescingInterval = JGroupsBroadcastGroupDefinition.BROADCAST_COALESCING_INTERVAL.resolveModelAttribute(context, broadcastGroupModel).asLong();
+                        broadcastCoalescingIntervals.put(key, coalescingInterval);
                     } else {
                         final ServiceName groupBindingServiceName = GroupBindingService.getBroadcastBaseServiceName(activeMQServiceName).append(name);
                         if (!groupBindingServices.containsKey(groupBindingServiceName)) {
@@ -423,6 +427,7 @@ class ServerAdd extends AbstractAddStepHandler {
                         commandDispatcherFactories.put(key, serviceBuilder.requires(MessagingServices.getBroadcastCommandDispatcherFactoryServiceName(channelName)));
                         String clusterName = JGROUPS_CLUSTER.resolveModelAttribute(context, discoveryGroupModel).asString();
                         clusterNames.put(key, clusterName);
+                        broadcastQueueCapacities.put(key, JGroupsDiscoveryGroupDefinition.resolveBroadcastQueueCapacity(context, discoveryGroupModel));
                     } else {
                         final ServiceName groupBindingServiceName = GroupBindingService.getDiscoveryBaseServiceName(activeMQServiceName).append(name);
                         if (!groupBindingServices.containsKey(groupBindingServiceName)) {
@@ -446,6 +451,8 @@ class ServerAdd extends AbstractAddStepHandler {
                     groupBindings,
                     commandDispatcherFactories,
                     clusterNames,
+                    broadcastCoalescingIntervals,
+                    broadcastQueueCapacities,
                     elytronSecurityDomain,
                     mbeanServer,
                     dataSource,
@@ -957,6 +957,8 @@ public class ServerDefinition extends PersistentResourceDefinition {
         if (registerRuntimeOnly) {
             ExportJournalOperation.registerOperation(resourceRegistration, getResourceDescriptionResolver());
             ImportJournalOperation.registerOperation(resourceRegistration, getResourceDescriptionResolver());
+            ExportMessagesOperation.registerOperation(resourceRegistration, getResourceDescriptionResolver());
+            ImportMessagesOperation.registerOperation(resourceRegistration, getResourceDescriptionResolver());
             PrintDataOperation.INSTANCE.registerOperation(resourceRegistration, getResourceDescriptionResolver());
 
             ActiveMQServerControlHandler.INSTANCE.registerOperations(resourceRegistration, getResourceDescriptionResolver());
@@ -26,6 +26,7 @@ import org.jboss.msc.service.ServiceName;
 import org.jboss.msc.service.StartException;
 
 import java.io.IOException;
+import java.nio.file.Path;
 import java.util.Collection;
 import java.util.List;
 import java.util.Set;
@@ -904,4 +905,24 @@ public interface MessagingLogger extends BasicLogger {
 
     @Message(id = 119, value = "'%s' wasn't found among existing JMS resources.")
     OperationFormatException jndiWasNotFound(String jndiName);
+
+    @LogMessage(level = INFO)
+    @Message(id = 120, value = "Exported %d messages of queue %s (%d of %d queues exported)")
+    void exportedQueueMessages(long count, String queueName, int completed, int total);
+
+    @LogMessage(level = INFO)
+    @Message(id = 121, value = "Imported %d messages into queue %s (%d of %d queues imported)")
+    void importedQueueMessages(long count, String queueName, int completed, int total);
+
+    @Message(id = 122, value = "Large message %d of queue %s can not be exported by the export-messages operation, use the export-journal operation instead")
+    IllegalStateException largeMessageExportNotSupported(long messageID, String queueName);
+
+    @Message(id = 123, value = "%s is not a valid message chunk file")
+    IOException invalidMessageChunk(Path file);
+
+    @Message(id = 124, value = "Jakarta Messaging bridge %s can not forward messages of a durable subscription with several lanes")
+    OperationFailedException jmsBridgeLanesWithDurableSubscription(String bridgeName);
+
+    @Message(id = 125, value = "Jakarta Messaging bridge %s can only forward messages with several lanes from a queue, %s is a topic")
+    IllegalStateException jmsBridgeLanesRequireQueue(String bridgeName, String destinationName);
 }
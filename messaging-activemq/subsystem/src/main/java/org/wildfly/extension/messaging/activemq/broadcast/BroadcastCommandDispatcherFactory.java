@@ -13,4 +13,10 @@ import org.wildfly.clustering.dispatcher.CommandDispatcherFactory;
  */
 public interface BroadcastCommandDispatcherFactory extends CommandDispatcherFactory, BroadcastReceiverRegistrar {
 
+    /**
+     * Returns the statistics of the broadcasts of the specified group.
+     * @param name a broadcast group name
+     * @return the broadcast statistics of the group
+     */
+    BroadcastStatistics getStatistics(String name);
 }
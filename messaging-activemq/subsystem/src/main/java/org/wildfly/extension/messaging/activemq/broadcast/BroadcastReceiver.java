@@ -15,4 +15,13 @@ public interface BroadcastReceiver {
      * @param data broadcast data
      */
     void receive(byte[] data);
+
+    /**
+     * Receives the specified broadcast data from the specified sender.
+     * @param sender identifies the endpoint that sent the broadcast
+     * @param data broadcast data
+     */
+    default void receive(String sender, byte[] data) {
+        this.receive(data);
+    }
 }
@@ -0,0 +1,51 @@
+/*
+ * Copyright The WildFly Authors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.wildfly.extension.messaging.activemq.broadcast;
+
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Statistics of the broadcasts sent and received by the endpoints of a broadcast group.
+ */
+public class BroadcastStatistics {
+
+    private final LongAdder coalescedBroadcasts = new LongAdder();
+    private final LongAdder coalescedReceivedBroadcasts = new LongAdder();
+    private final LongAdder droppedReceivedBroadcasts = new LongAdder();
+
+    /**
+     * Returns the number of broadcasts that were not sent because they were identical to a broadcast sent within the coalescing interval.
+     */
+    public long getCoalescedBroadcasts() {
+        return this.coalescedBroadcasts.sum();
+    }
+
+    /**
+     * Returns the number of received broadcasts that were superseded by a more recent broadcast of the same sender before being consumed.
+     */
+    public long getCoalescedReceivedBroadcasts() {
+        return this.coalescedReceivedBroadcasts.sum();
+    }
+
+    /**
+     * Returns the number of received broadcasts that were dropped because the buffer of pending broadcasts was full.
+     */
+    public long getDroppedReceivedBroadcasts() {
+        return this.droppedReceivedBroadcasts.sum();
+    }
+
+    void broadcastCoalesced() {
+        this.coalescedBroadcasts.increment();
+    }
+
+    void receivedBroadcastCoalesced() {
+        this.coalescedReceivedBroadcasts.increment();
+    }
+
+    void receivedBroadcastDropped() {
+        this.droppedReceivedBroadcasts.increment();
+    }
+}
@@ -5,19 +5,25 @@
 
 package org.wildfly.extension.messaging.activemq.broadcast;
 
+import java.time.Duration;
 import java.util.Arrays;
+import java.util.UUID;
 import java.util.concurrent.TimeUnit;
 import java.util.concurrent.atomic.AtomicReference;
 import java.util.function.Function;
 
 import org.apache.activemq.artemis.api.core.BroadcastEndpoint;
 import org.wildfly.clustering.Registration;
+import org.wildfly.clustering.dispatcher.Command;
 import org.wildfly.clustering.dispatcher.CommandDispatcher;
 import org.wildfly.clustering.dispatcher.CommandDispatcherFactory;
 import org.wildfly.extension.messaging.activemq._private.MessagingLogger;
 
 /**
  * A {@link BroadcastEndpoint} based on a {@link CommandDispatcher}.
+ * If a coalescing interval is specified, a broadcast identical to the last broadcast sent within that interval is not sent again,
+ * and broadcasts identify their sender so that receivers only retain the most recent broadcast of each sender.
+ * As receivers expire the connectors of a sender that did not broadcast within their refresh timeout, the coalescing interval must remain lower than this timeout.
  * @author Paul Ferraro
  */
 public class CommandDispatcherBroadcastEndpoint implements BroadcastEndpoint {
@@ -30,17 +36,30 @@ public class CommandDispatcherBroadcastEndpoint implements BroadcastEndpoint {
     private final String name;
     private final BroadcastReceiverRegistrar registrar;
     private final Function<String, BroadcastManager> managerFactory;
+    private final BroadcastStatistics statistics;
+    private final long coalescingInterval;
     private final AtomicReference<Mode> mode = new AtomicReference<>(Mode.CLOSED);
 
     private volatile BroadcastManager manager = null;
     private volatile Registration registration = null;
     private volatile CommandDispatcher<BroadcastReceiver> dispatcher;
+    private volatile String sender;
+
+    // Last broadcast sent, and when
+    private byte[] lastBroadcast = null;
+    private long lastBroadcastTime;
 
     public CommandDispatcherBroadcastEndpoint(CommandDispatcherFactory factory, String name, BroadcastReceiverRegistrar registrar, Function<String, BroadcastManager> managerFactory) {
+        this(factory, name, registrar, managerFactory, new BroadcastStatistics(), Duration.ZERO);
+    }
+
+    public CommandDispatcherBroadcastEndpoint(CommandDispatcherFactory factory, String name, BroadcastReceiverRegistrar registrar, Function<String, BroadcastManager> managerFactory, BroadcastStatistics statistics, Duration coalescingInterval) {
         this.factory = factory;
         this.name = name;
         this.registrar = registrar;
         this.managerFactory = managerFactory;
+        this.statistics = statistics;
+        this.coalescingInterval = coalescingInterval.toNanos();
     }
 
     @Override
@@ -55,6 +74,8 @@ public class CommandDispatcherBroadcastEndpoint implements BroadcastEndpoint {
     @Override
     public void openBroadcaster() throws Exception {
         if (this.mode.compareAndSet(Mode.CLOSED, Mode.BROADCASTER)) {
+            // Distinguishes the broadcasters of the same group, possibly hosted by the same member
+            this.sender = this.factory.getGroup().getLocalMember().getName() + '/' + UUID.randomUUID();
             this.open();
         }
     }
@@ -75,17 +96,40 @@ public class CommandDispatcherBroadcastEndpoint implements BroadcastEndpoint {
             if (this.manager != null) {
                 this.manager.clear();
             }
+            synchronized (this) {
+                this.lastBroadcast = null;
+            }
         }
     }
 
     @Override
     public void broadcast(byte[] data) throws Exception {
         if (this.mode.get() == Mode.BROADCASTER) {
+            if (this.coalescingInterval > 0L && this.isRedundant(data)) {
+                this.statistics.broadcastCoalesced();
+                return;
+            }
             if (MessagingLogger.ROOT_LOGGER.isDebugEnabled()) {
                 MessagingLogger.ROOT_LOGGER.debugf("Broadcasting to group %s: %s", this.name, Arrays.toString(data));
             }
-            this.dispatcher.executeOnGroup(new BroadcastCommand(data));
+            // Only identify the sender if coalescing is enabled, so that members not supporting this command can still receive broadcasts by default
+            Command<Void, BroadcastReceiver> command = (this.coalescingInterval > 0L) ? new SenderBroadcastCommand(this.sender, data) : new BroadcastCommand(data);
+            this.dispatcher.executeOnGroup(command);
+        }
+    }
+
+    /**
+     * Indicates whether the specified broadcast is identical to the last broadcast sent within the coalescing interval.
+     * Otherwise, the specified broadcast becomes the last broadcast sent.
+     */
+    private synchronized boolean isRedundant(byte[] data) {
+        long now = System.nanoTime();
+        if ((this.lastBroadcast != null) && (now - this.lastBroadcastTime < this.coalescingInterval) && Arrays.equals(this.lastBroadcast, data)) {
+            return true;
         }
+        this.lastBroadcast = data.clone();
+        this.lastBroadcastTime = now;
+        return false;
     }
 
     @Override
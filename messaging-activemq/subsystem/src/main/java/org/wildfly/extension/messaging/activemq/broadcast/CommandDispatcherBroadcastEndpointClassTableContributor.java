@@ -20,6 +20,6 @@ public class CommandDispatcherBroadcastEndpointClassTableContributor implements
 
     @Override
     public List<Class<?>> getKnownClasses() {
-        return Arrays.asList(BroadcastCommand.class);
+        return Arrays.asList(BroadcastCommand.class, SenderBroadcastCommand.class);
     }
 }
@@ -5,6 +5,8 @@
 
 package org.wildfly.extension.messaging.activemq.broadcast;
 
+import java.time.Duration;
+
 import org.apache.activemq.artemis.api.core.BroadcastEndpoint;
 import org.apache.activemq.artemis.api.core.BroadcastEndpointFactory;
 import org.wildfly.clustering.dispatcher.CommandDispatcherFactory;
@@ -18,14 +20,37 @@ public class CommandDispatcherBroadcastEndpointFactory implements BroadcastEndpo
 
     private final BroadcastCommandDispatcherFactory factory;
     private final String name;
+    private final Duration coalescingInterval;
+    private final int queueCapacity;
 
     public CommandDispatcherBroadcastEndpointFactory(BroadcastCommandDispatcherFactory factory, String name) {
+        this(factory, name, Duration.ZERO, QueueBroadcastManager.UNBOUNDED);
+    }
+
+    /**
+     * Creates the factory of the endpoints of a broadcast group.
+     */
+    public CommandDispatcherBroadcastEndpointFactory(BroadcastCommandDispatcherFactory factory, String name, Duration coalescingInterval) {
+        this(factory, name, coalescingInterval, QueueBroadcastManager.UNBOUNDED);
+    }
+
+    /**
+     * Creates the factory of the endpoints of a discovery group.
+     */
+    public CommandDispatcherBroadcastEndpointFactory(BroadcastCommandDispatcherFactory factory, String name, int queueCapacity) {
+        this(factory, name, Duration.ZERO, queueCapacity);
+    }
+
+    private CommandDispatcherBroadcastEndpointFactory(BroadcastCommandDispatcherFactory factory, String name, Duration coalescingInterval, int queueCapacity) {
         this.factory = factory;
         this.name = name;
+        this.coalescingInterval = coalescingInterval;
+        this.queueCapacity = queueCapacity;
     }
 
     @Override
     public BroadcastEndpoint createBroadcastEndpoint() throws Exception {
-        return new CommandDispatcherBroadcastEndpoint(this.factory, this.name, this.factory, QueueBroadcastManager::new);
+        BroadcastStatistics statistics = this.factory.getStatistics(this.name);
+        return new CommandDispatcherBroadcastEndpoint(this.factory, this.name, this.factory, name -> new QueueBroadcastManager(name, this.queueCapacity, statistics), statistics, this.coalescingInterval);
     }
 }
@@ -31,6 +31,7 @@ import org.wildfly.security.manager.WildFlySecurityManager;
 public class ConcurrentBroadcastCommandDispatcherFactory implements BroadcastCommandDispatcherFactory {
 
     private final Set<BroadcastReceiver> receivers = ConcurrentHashMap.newKeySet();
+    private final Map<String, BroadcastStatistics> statistics = new ConcurrentHashMap<>();
     private final Manager<Object, CommandDispatcher<?>> dispatchers = new ConcurrentManager<>(Functions.discardingConsumer(), new Consumer<CommandDispatcher<?>>() {
         @Override
         public void accept(CommandDispatcher<?> dispatcher) {
@@ -50,6 +51,18 @@ public class ConcurrentBroadcastCommandDispatcherFactory implements BroadcastCom
         }
     }
 
+    @Override
+    public void receive(String sender, byte[] data) {
+        for (BroadcastReceiver receiver : this.receivers) {
+            receiver.receive(sender, data);
+        }
+    }
+
+    @Override
+    public BroadcastStatistics getStatistics(String name) {
+        return this.statistics.computeIfAbsent(name, key -> new BroadcastStatistics());
+    }
+
     @Override
     public Registration register(BroadcastReceiver receiver) {
         this.receivers.add(receiver);
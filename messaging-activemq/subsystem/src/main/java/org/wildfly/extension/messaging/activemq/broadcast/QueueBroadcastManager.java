@@ -6,43 +6,125 @@
 package org.wildfly.extension.messaging.activemq.broadcast;
 
 import java.util.Arrays;
-import java.util.concurrent.BlockingQueue;
-import java.util.concurrent.LinkedBlockingDeque;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
 import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.Condition;
+import java.util.concurrent.locks.Lock;
+import java.util.concurrent.locks.ReentrantLock;
 
 import org.wildfly.extension.messaging.activemq._private.MessagingLogger;
 
 /**
+ * A queue of pending broadcasts.
+ * Broadcasts of a known sender, i.e. of a broadcast group that coalesces its broadcasts, supersede the pending broadcast of the same sender.
+ * Broadcasts whose sender is unknown are all queued.
+ * If the queue is bounded and full, the oldest pending broadcast is dropped.
  * @author Paul Ferraro
  */
 public class QueueBroadcastManager implements BroadcastManager {
-    private final BlockingQueue<byte[]> broadcasts = new LinkedBlockingDeque<>();
+    public static final int UNBOUNDED = Integer.MAX_VALUE;
+
+    // Pending broadcasts in arrival order, keyed by sender
+    private final Map<Object, byte[]> broadcasts = new LinkedHashMap<>();
+    private final Lock lock = new ReentrantLock();
+    private final Condition available = this.lock.newCondition();
     private final String name;
+    private final int capacity;
+    private final BroadcastStatistics statistics;
 
     public QueueBroadcastManager(String name) {
+        this(name, new BroadcastStatistics());
+    }
+
+    public QueueBroadcastManager(String name, BroadcastStatistics statistics) {
+        this(name, UNBOUNDED, statistics);
+    }
+
+    public QueueBroadcastManager(String name, int capacity, BroadcastStatistics statistics) {
         this.name = name;
+        this.capacity = capacity;
+        this.statistics = statistics;
     }
 
     @Override
     public void receive(byte[] broadcast) {
+        // A broadcast of an unknown sender never supersedes another one
+        this.receive(new Object(), broadcast);
+    }
+
+    @Override
+    public void receive(String sender, byte[] broadcast) {
+        this.receive((Object) sender, broadcast);
+    }
+
+    private void receive(Object key, byte[] broadcast) {
         if (MessagingLogger.ROOT_LOGGER.isDebugEnabled()) {
             MessagingLogger.ROOT_LOGGER.debugf("Received broadcast from group %s: %s", this.name, Arrays.toString(broadcast));
         }
-        this.broadcasts.add(broadcast);
+        this.lock.lock();
+        try {
+            // A pending broadcast superseded by a more recent one keeps its position in the queue
+            if (this.broadcasts.replace(key, broadcast) != null) {
+                this.statistics.receivedBroadcastCoalesced();
+            } else {
+                if (this.broadcasts.size() >= this.capacity) {
+                    this.poll();
+                    this.statistics.receivedBroadcastDropped();
+                }
+                this.broadcasts.put(key, broadcast);
+            }
+            this.available.signal();
+        } finally {
+            this.lock.unlock();
+        }
     }
 
     @Override
     public byte[] getBroadcast() throws InterruptedException {
-        return this.broadcasts.take();
+        this.lock.lockInterruptibly();
+        try {
+            while (this.broadcasts.isEmpty()) {
+                this.available.await();
+            }
+            return this.poll();
+        } finally {
+            this.lock.unlock();
+        }
     }
 
     @Override
     public byte[] getBroadcast(long timeout, TimeUnit unit) throws InterruptedException {
-        return this.broadcasts.poll(timeout, unit);
+        long nanos = unit.toNanos(timeout);
+        this.lock.lockInterruptibly();
+        try {
+            while (this.broadcasts.isEmpty()) {
+                if (nanos <= 0L) {
+                    return null;
+                }
+                nanos = this.available.awaitNanos(nanos);
+            }
+            return this.poll();
+        } finally {
+            this.lock.unlock();
+        }
     }
 
     @Override
     public void clear() {
-        this.broadcasts.clear();
+        this.lock.lock();
+        try {
+            this.broadcasts.clear();
+        } finally {
+            this.lock.unlock();
+        }
+    }
+
+    private byte[] poll() {
+        Iterator<byte[]> broadcasts = this.broadcasts.values().iterator();
+        byte[] broadcast = broadcasts.next();
+        broadcasts.remove();
+        return broadcast;
     }
 }
@@ -0,0 +1,29 @@
+/*
+ * Copyright The WildFly Authors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.wildfly.extension.messaging.activemq.broadcast;
+
+import org.wildfly.clustering.dispatcher.Command;
+
+/**
+ * A {@link BroadcastCommand} that also identifies its sender, so that receivers only need to retain the most recent broadcast of each sender.
+ */
+public class SenderBroadcastCommand implements Command<Void, BroadcastReceiver> {
+    private static final long serialVersionUID = -2279384951620186436L;
+
+    private final String sender;
+    private final byte[] data;
+
+    public SenderBroadcastCommand(String sender, byte[] data) {
+        this.sender = sender;
+        this.data = data;
+    }
+
+    @Override
+    public Void execute(BroadcastReceiver receiver) {
+        receiver.receive(this.sender, this.data);
+        return null;
+    }
+}
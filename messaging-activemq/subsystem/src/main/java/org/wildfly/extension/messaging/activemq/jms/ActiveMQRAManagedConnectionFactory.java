@@ -0,0 +1,75 @@
+/*
+ * Copyright The WildFly Authors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.wildfly.extension.messaging.activemq.jms;
+
+import java.security.AccessController;
+
+import javax.security.auth.Subject;
+
+import jakarta.resource.ResourceException;
+import jakarta.resource.spi.ConnectionManager;
+import jakarta.resource.spi.ConnectionRequestInfo;
+import jakarta.resource.spi.ManagedConnection;
+
+import org.jboss.as.server.CurrentServiceContainer;
+import org.jboss.msc.service.ServiceContainer;
+import org.jboss.msc.service.ServiceController;
+import org.jboss.msc.service.ServiceName;
+
+/**
+ * Custom managed connection factory that records the {@link PooledConnectionFactoryStatistics} of its pooled-connection-factory.
+ * The statistics are looked up from the service of the pooled-connection-factory, whose name is set as a config property.
+ */
+public class ActiveMQRAManagedConnectionFactory extends org.apache.activemq.artemis.ra.ActiveMQRAManagedConnectionFactory {
+
+    private static final long serialVersionUID = -6617394725478364829L;
+
+    private String pooledConnectionFactoryServiceName;
+    private transient volatile PooledConnectionFactoryStatistics statistics;
+
+    public String getPooledConnectionFactoryServiceName() {
+        return this.pooledConnectionFactoryServiceName;
+    }
+
+    public void setPooledConnectionFactoryServiceName(String pooledConnectionFactoryServiceName) {
+        this.pooledConnectionFactoryServiceName = pooledConnectionFactoryServiceName;
+    }
+
+    @Override
+    public Object createConnectionFactory(ConnectionManager cxManager) throws ResourceException {
+        PooledConnectionFactoryStatistics statistics = this.getStatistics();
+        if ((statistics == null) || (cxManager == null)) {
+            return super.createConnectionFactory(cxManager);
+        }
+        return statistics.wrapConnectionFactory(super.createConnectionFactory(statistics.wrapConnectionManager(cxManager)));
+    }
+
+    @Override
+    public ManagedConnection createManagedConnection(Subject subject, ConnectionRequestInfo cxRequestInfo) throws ResourceException {
+        ManagedConnection connection = super.createManagedConnection(subject, cxRequestInfo);
+        PooledConnectionFactoryStatistics statistics = this.getStatistics();
+        if (statistics != null) {
+            statistics.recordCreation();
+        }
+        return connection;
+    }
+
+    private PooledConnectionFactoryStatistics getStatistics() {
+        PooledConnectionFactoryStatistics statistics = this.statistics;
+        if ((statistics == null) && (this.pooledConnectionFactoryServiceName != null)) {
+            ServiceController<?> controller = currentServiceContainer().getService(ServiceName.parse(this.pooledConnectionFactoryServiceName));
+            if ((controller != null) && (controller.getService() instanceof PooledConnectionFactoryService)) {
+                statistics = ((PooledConnectionFactoryService) controller.getService()).getStatistics();
+                this.statistics = statistics;
+            }
+        }
+        return statistics;
+    }
+
+    private static ServiceContainer currentServiceContainer() {
+        return (System.getSecurityManager() == null) ? CurrentServiceContainer.getServiceContainer() : AccessController.doPrivileged(CurrentServiceContainer.GET_ACTION);
+    }
+}
@@ -40,6 +40,8 @@ import org.jboss.as.controller.SimpleAttributeDefinitionBuilder;
 import org.jboss.as.controller.StringListAttributeDefinition;
 import org.jboss.as.controller.access.management.SensitiveTargetAccessConstraintDefinition;
 import org.jboss.as.controller.descriptions.ModelDescriptionConstants;
+import org.jboss.as.controller.operations.validation.IntRangeValidator;
+import org.jboss.as.controller.operations.validation.LongRangeValidator;
 import org.jboss.as.controller.operations.validation.StringAllowedValuesValidator;
 import org.jboss.as.controller.operations.validation.StringLengthValidator;
 import org.jboss.as.controller.registry.AttributeAccess;
@@ -556,6 +558,51 @@ public interface ConnectionFactoryAttributes {
                 .setRestartAllServices()
                 .build();
 
+        /**
+         * Upper bound of the maximum pool size when the pool is sized adaptively.
+         * Only supported by the pooled-connection-factory of an embedded server.
+         */
+        SimpleAttributeDefinition ADAPTIVE_MAX_POOL_SIZE = SimpleAttributeDefinitionBuilder.create("adaptive-max-pool-size", INT)
+                .setRequired(false)
+                .setAllowExpression(true)
+                .setValidator(new IntRangeValidator(1, true, true))
+                .setRestartAllServices()
+                .build();
+
+        SimpleAttributeDefinition ADAPTIVE_POOL_SAMPLE_INTERVAL = SimpleAttributeDefinitionBuilder.create("adaptive-pool-sample-interval", LONG)
+                .setDefaultValue(new ModelNode(5000L))
+                .setMeasurementUnit(MILLISECONDS)
+                .setRequired(false)
+                .setAllowExpression(true)
+                .setValidator(new LongRangeValidator(1L, true, true))
+                .setRestartAllServices()
+                .build();
+
+        SimpleAttributeDefinition ADAPTIVE_POOL_WAIT_THRESHOLD = SimpleAttributeDefinitionBuilder.create("adaptive-pool-wait-threshold", LONG)
+                .setDefaultValue(new ModelNode(10L))
+                .setMeasurementUnit(MILLISECONDS)
+                .setRequired(false)
+                .setAllowExpression(true)
+                .setValidator(new LongRangeValidator(1L, true, true))
+                .setRestartAllServices()
+                .build();
+
+        SimpleAttributeDefinition ADAPTIVE_POOL_QUIET_SAMPLES = SimpleAttributeDefinitionBuilder.create("adaptive-pool-quiet-samples", INT)
+                .setDefaultValue(new ModelNode(6))
+                .setRequired(false)
+                .setAllowExpression(true)
+                .setValidator(new IntRangeValidator(1, true, true))
+                .setRestartAllServices()
+                .build();
+
+        SimpleAttributeDefinition ADAPTIVE_POOL_STEP_PERCENTAGE = SimpleAttributeDefinitionBuilder.create("adaptive-pool-step-percentage", INT)
+                .setDefaultValue(new ModelNode(25))
+                .setRequired(false)
+                .setAllowExpression(true)
+                .setValidator(new IntRangeValidator(1, 100, true, true))
+                .setRestartAllServices()
+                .build();
+
         SimpleAttributeDefinition MIN_POOL_SIZE = SimpleAttributeDefinitionBuilder.create("min-pool-size", INT)
                 .setDefaultValue(ModelNode.ZERO)
                 .setRequired(false)
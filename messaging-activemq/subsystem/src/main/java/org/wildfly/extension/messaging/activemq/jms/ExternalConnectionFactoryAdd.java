@@ -85,6 +85,8 @@ public class ExternalConnectionFactoryAdd extends AbstractAddStepHandler {
         if (discoveryGroupName.isDefined()) {
             // mapping between the {discovery}-groups and the cluster names they use
             Map<String, String> clusterNames = new HashMap<>();
+            // mapping between the {discovery}-groups and the capacity of their queue of pending broadcasts
+            Map<String, Integer> broadcastQueueCapacities = new HashMap<>();
             Map<String, Supplier<SocketBinding>> groupBindings = new HashMap<>();
             // mapping between the {discovery}-groups and the command dispatcher factory they use
             Map<String, Supplier<BroadcastCommandDispatcherFactory>> commandDispatcherFactories = new HashMap<>();
@@ -103,12 +105,13 @@ public class ExternalConnectionFactoryAdd extends AbstractAddStepHandler {
                 commandDispatcherFactories.put(key, commandDispatcherFactorySupplier);
                 String clusterName = JGROUPS_CLUSTER.resolveModelAttribute(context, discoveryGroupModel).asString();
                 clusterNames.put(key, clusterName);
+                broadcastQueueCapacities.put(key, JGroupsDiscoveryGroupDefinition.resolveBroadcastQueueCapacity(context, discoveryGroupModel));
             } else {
                 final ServiceName groupBinding = GroupBindingService.getDiscoveryBaseServiceName(MessagingServices.getActiveMQServiceName()).append(dgname);
                 Supplier<SocketBinding> groupBindingSupplier = builder.requires(groupBinding);
                 groupBindings.put(key, groupBindingSupplier);
             }
-            service = new ExternalConnectionFactoryService(getDiscoveryGroup(context, dgname), commandDispatcherFactories, groupBindings, clusterNames, jmsFactoryType, ha, enable1Prefixes, config);
+            service = new ExternalConnectionFactoryService(getDiscoveryGroup(context, dgname), commandDispatcherFactories, groupBindings, clusterNames, broadcastQueueCapacities, jmsFactoryType, ha, enable1Prefixes, config);
         } else {
             Map<String, Supplier<SocketBinding>> socketBindings = new HashMap<>();
             Map<String, Supplier<OutboundSocketBinding>> outboundSocketBindings = new HashMap<>();
@@ -26,6 +26,7 @@ import org.wildfly.extension.messaging.activemq.JGroupsDiscoveryGroupAdd;
 import org.wildfly.extension.messaging.activemq.SocketDiscoveryGroupAdd;
 import org.wildfly.extension.messaging.activemq.TransportConfigOperationHandlers;
 import org.wildfly.extension.messaging.activemq.broadcast.BroadcastCommandDispatcherFactory;
+import org.wildfly.extension.messaging.activemq.broadcast.QueueBroadcastManager;
 import org.wildfly.extension.messaging.activemq._private.MessagingLogger;
 
 /**
@@ -46,6 +47,8 @@ public class ExternalConnectionFactoryService implements Service<ConnectionFacto
     private final Map<String, Supplier<SocketBinding>> groupBindings;
     // mapping between the {discovery}-groups and the cluster names they use
     private final Map<String, String> clusterNames;
+    // mapping between the {discovery}-groups and the capacity of their queue of pending broadcasts
+    private final Map<String, Integer> broadcastQueueCapacities;
     // mapping between the {discovery}-groups and the command dispatcher factory they use
     private final Map<String, Supplier<BroadcastCommandDispatcherFactory>> commandDispatcherFactories;
     private ActiveMQConnectionFactory factory;
@@ -53,13 +56,13 @@ public class ExternalConnectionFactoryService implements Service<ConnectionFacto
 
     ExternalConnectionFactoryService(DiscoveryGroupConfiguration groupConfiguration,
             Map<String, Supplier<BroadcastCommandDispatcherFactory>> commandDispatcherFactories,
-            Map<String, Supplier<SocketBinding>> groupBindings, Map<String, String> clusterNames, JMSFactoryType type, boolean ha, boolean enable1Prefixes, ExternalConnectionFactoryConfiguration config) {
-        this(ha, enable1Prefixes, type, groupConfiguration, Collections.emptyMap(), Collections.emptyMap(),commandDispatcherFactories, groupBindings, Collections.emptyMap(), clusterNames, null, config);
+            Map<String, Supplier<SocketBinding>> groupBindings, Map<String, String> clusterNames, Map<String, Integer> broadcastQueueCapacities, JMSFactoryType type, boolean ha, boolean enable1Prefixes, ExternalConnectionFactoryConfiguration config) {
+        this(ha, enable1Prefixes, type, groupConfiguration, Collections.emptyMap(), Collections.emptyMap(),commandDispatcherFactories, groupBindings, Collections.emptyMap(), clusterNames, broadcastQueueCapacities, null, config);
     }
 
     ExternalConnectionFactoryService(TransportConfiguration[] connectors, Map<String, Supplier<SocketBinding>> socketBindings,
             Map<String, Supplier<OutboundSocketBinding>> outboundSocketBindings, Map<String, Supplier<SSLContext>> sslContexts, JMSFactoryType type, boolean ha, boolean enable1Prefixes, ExternalConnectionFactoryConfiguration config) {
-        this(ha, enable1Prefixes, type, null, socketBindings, outboundSocketBindings, Collections.emptyMap(), Collections.emptyMap(), sslContexts, Collections.emptyMap(), connectors, config);
+        this(ha, enable1Prefixes, type, null, socketBindings, outboundSocketBindings, Collections.emptyMap(), Collections.emptyMap(), sslContexts, Collections.emptyMap(), Collections.emptyMap(), connectors, config);
     }
 
     private ExternalConnectionFactoryService(boolean ha,
@@ -72,6 +75,7 @@ public class ExternalConnectionFactoryService implements Service<ConnectionFacto
             Map<String, Supplier<SocketBinding>> groupBindings,
             Map<String, Supplier<SSLContext>> sslContexts,
             Map<String, String> clusterNames,
+            Map<String, Integer> broadcastQueueCapacities,
             TransportConfiguration[] connectors,
             ExternalConnectionFactoryConfiguration config) {
         assert (connectors != null && connectors.length > 0) || groupConfiguration != null;
@@ -83,6 +87,7 @@ public class ExternalConnectionFactoryService implements Service<ConnectionFacto
         this.socketBindings = socketBindings;
         this.outboundSocketBindings = outboundSocketBindings;
         this.clusterNames = clusterNames;
+        this.broadcastQueueCapacities = broadcastQueueCapacities;
         this.commandDispatcherFactories = commandDispatcherFactories;
         this.groupBindings = groupBindings;
         this.sslContexts = sslContexts;
@@ -106,7 +111,7 @@ public class ExternalConnectionFactoryService implements Service<ConnectionFacto
                 if (commandDispatcherFactories.containsKey(key)) {
                     BroadcastCommandDispatcherFactory commandDispatcherFactory = commandDispatcherFactories.get(key).get();
                     String clusterName = clusterNames.get(key);
-                    config = JGroupsDiscoveryGroupAdd.createDiscoveryGroupConfiguration(name, groupConfiguration, commandDispatcherFactory, clusterName);
+                    config = JGroupsDiscoveryGroupAdd.createDiscoveryGroupConfiguration(name, groupConfiguration, commandDispatcherFactory, clusterName, broadcastQueueCapacities.getOrDefault(key, QueueBroadcastManager.UNBOUNDED));
                 } else {
                     final SocketBinding binding = groupBindings.get(key).get();
                     if (binding == null) {
@@ -34,8 +34,10 @@ import org.jboss.as.naming.deployment.ContextNames.BindInfo;
 import org.jboss.dmr.ModelNode;
 import org.wildfly.extension.messaging.activemq.CommonAttributes;
 import org.wildfly.extension.messaging.activemq.DiscoveryGroupDefinition;
+import org.wildfly.extension.messaging.activemq.JGroupsDiscoveryGroupDefinition;
 import org.wildfly.extension.messaging.activemq.MessagingServices;
 import org.wildfly.extension.messaging.activemq.TransportConfigOperationHandlers;
+import org.wildfly.extension.messaging.activemq.broadcast.QueueBroadcastManager;
 import org.wildfly.extension.messaging.activemq.jms.ConnectionFactoryAttributes.Common;
 
 /**
@@ -85,6 +87,7 @@ public class ExternalPooledConnectionFactoryAdd extends AbstractAddStepHandler {
         String discoveryGroupName = getDiscoveryGroup(resolvedModel);
         String jgroupClusterName = null;
         String jgroupsChannelName = null;
+        int broadcastQueueCapacity = QueueBroadcastManager.UNBOUNDED;
         final PathAddress serverAddress = MessagingServices.getActiveMQServerPathAddress(address);
         if (discoveryGroupName != null) {
             Resource dgResource;
@@ -113,6 +116,7 @@ public class ExternalPooledConnectionFactoryAdd extends AbstractAddStepHandler {
                 if(channel.isDefined()) {
                     jgroupsChannelName = channel.asString();
                 }
+                broadcastQueueCapacity = JGroupsDiscoveryGroupDefinition.resolveBroadcastQueueCapacity(context, dgModel);
             }
         }
 
@@ -125,7 +129,7 @@ public class ExternalPooledConnectionFactoryAdd extends AbstractAddStepHandler {
         final Set<String> sslContextNames = new HashSet<>();
         TransportConfiguration[] transportConfigurations = TransportConfigOperationHandlers.processConnectors(context, connectors, connectorsSocketBindings, sslContextNames);
         ExternalPooledConnectionFactoryService.installService(context, name, transportConfigurations, discoveryGroupConfiguration, connectorsSocketBindings, sslContextNames,
-                jgroupClusterName, jgroupsChannelName, adapterParams, bindInfo, jndiAliases, txSupport, minPoolSize, maxPoolSize, managedConnectionPoolClassName, enlistmentTrace, model);
+                jgroupClusterName, jgroupsChannelName, broadcastQueueCapacity, adapterParams, bindInfo, jndiAliases, txSupport, minPoolSize, maxPoolSize, managedConnectionPoolClassName, enlistmentTrace, model);
         boolean statsEnabled = ConnectionFactoryAttributes.Pooled.STATISTICS_ENABLED.resolveModelAttribute(context, model).asBoolean();
 
         if (statsEnabled) {
@@ -108,6 +108,7 @@ import org.wildfly.extension.messaging.activemq.SocketDiscoveryGroupAdd;
 import org.wildfly.extension.messaging.activemq.TransportConfigOperationHandlers;
 import org.wildfly.extension.messaging.activemq.broadcast.BroadcastCommandDispatcherFactory;
 import org.wildfly.extension.messaging.activemq.broadcast.CommandDispatcherBroadcastEndpointFactory;
+import org.wildfly.extension.messaging.activemq.broadcast.QueueBroadcastManager;
 import org.wildfly.extension.messaging.activemq._private.MessagingLogger;
 import org.wildfly.security.credential.PasswordCredential;
 import org.wildfly.security.credential.source.CredentialSource;
@@ -159,6 +160,8 @@ public class ExternalPooledConnectionFactoryService implements Service<ExternalP
     private Map<String, Supplier<SocketBinding>> groupBindings = new HashMap<>();
     // mapping between the {discovery}-groups and the cluster names they use
     private final Map<String, String> clusterNames = new HashMap<>();
+    // mapping between the jgroups-discovery-groups and the capacity of their queue of pending broadcasts
+    private final Map<String, Integer> broadcastQueueCapacities = new HashMap<>();
     private final Map<String, Supplier<SSLContext>> sslContexts = new HashMap<>();
     private Set<String> sslContextNames = new HashSet<>();
     // mapping between the {discovery}-groups and the command dispatcher factory they use
@@ -248,6 +251,7 @@ public class ExternalPooledConnectionFactoryService implements Service<ExternalP
             Set<String> sslContextNames,
             String jgroupClusterName,
             String jgroupChannelName,
+            int broadcastQueueCapacity,
             List<PooledConnectionFactoryConfigProperties> adapterParams,
             BindInfo bindInfo,
             List<String> jndiAliases,
@@ -262,7 +266,7 @@ public class ExternalPooledConnectionFactoryService implements Service<ExternalP
         ExternalPooledConnectionFactoryService service = new ExternalPooledConnectionFactoryService(name,
                 connectors, groupConfiguration, jgroupClusterName, jgroupChannelName, adapterParams,
                 bindInfo, jndiAliases, txSupport, minPoolSize, maxPoolSize, managedConnectionPoolClassName, enlistmentTrace, context.getCapabilityServiceSupport(), true);
-        installService0(context, serviceName, service, groupConfiguration, connectorsSocketBindings, sslContextNames, model);
+        installService0(context, serviceName, service, groupConfiguration, connectorsSocketBindings, sslContextNames, broadcastQueueCapacity, model);
         return service;
     }
 
@@ -272,6 +276,7 @@ public class ExternalPooledConnectionFactoryService implements Service<ExternalP
             DiscoveryGroupConfiguration groupConfiguration,
             Set<String> connectorsSocketBindings,
             Set<String> sslContextNames,
+            int broadcastQueueCapacity,
             ModelNode model) throws OperationFailedException {
         ServiceBuilder<?> serviceBuilder = context.getServiceTarget().addService(serviceName);
         serviceBuilder.requires(context.getCapabilityServiceName(MessagingServices.LOCAL_TRANSACTION_PROVIDER_CAPABILITY, null));
@@ -305,6 +310,7 @@ public class ExternalPooledConnectionFactoryService implements Service<ExternalP
                 Supplier<BroadcastCommandDispatcherFactory> commandDispatcherFactorySupplier = serviceBuilder.requires(MessagingServices.getBroadcastCommandDispatcherFactoryServiceName(service.jgroupsChannelName));
                 service.commandDispatcherFactories.put(key, commandDispatcherFactorySupplier);
                 service.clusterNames.put(key, service.jgroupsClusterName);
+                service.broadcastQueueCapacities.put(key, broadcastQueueCapacity);
             } else {
                 final ServiceName groupBinding = GroupBindingService.getDiscoveryBaseServiceName(MessagingServices.getActiveMQServiceName()).append(groupConfiguration.getName());
                 Supplier<SocketBinding> socketBindingSupplier = serviceBuilder.requires(groupBinding);
@@ -347,6 +353,7 @@ public class ExternalPooledConnectionFactoryService implements Service<ExternalP
                 Supplier<BroadcastCommandDispatcherFactory> commandDispatcherFactorySupplier = serviceBuilder.requires(configuration.getCommandDispatcherFactories().get(key));
                 service.commandDispatcherFactories.put(key, commandDispatcherFactorySupplier);
                 service.clusterNames.put(key, service.jgroupsClusterName);
+                service.broadcastQueueCapacities.put(key, configuration.getBroadcastQueueCapacities().getOrDefault(key, QueueBroadcastManager.UNBOUNDED));
             } else {
                 Supplier<SocketBinding> socketBindingSupplier = serviceBuilder.requires(configuration.getGroupBindings().get(key));
                 service.groupBindings.put(key, socketBindingSupplier);
@@ -416,7 +423,7 @@ public class ExternalPooledConnectionFactoryService implements Service<ExternalP
                 if (commandDispatcherFactories.containsKey(key)) {
                     BroadcastCommandDispatcherFactory commandDispatcherFactory = commandDispatcherFactories.get(key).get();
                     String clusterName = clusterNames.get(key);
-                    config = JGroupsDiscoveryGroupAdd.createDiscoveryGroupConfiguration(name, discoveryGroupConfiguration, commandDispatcherFactory, clusterName);
+                    config = JGroupsDiscoveryGroupAdd.createDiscoveryGroupConfiguration(name, discoveryGroupConfiguration, commandDispatcherFactory, clusterName, this.getBroadcastQueueCapacity(key));
                 } else {
                     final SocketBinding binding = groupBindings.get(key).get();
                     if (binding == null) {
@@ -640,4 +647,8 @@ public class ExternalPooledConnectionFactoryService implements Service<ExternalP
     public BroadcastCommandDispatcherFactory getCommandDispatcherFactory(String name) {
         return this.commandDispatcherFactories.get(name).get();
     }
+
+    public int getBroadcastQueueCapacity(String name) {
+        return this.broadcastQueueCapacities.getOrDefault(name, QueueBroadcastManager.UNBOUNDED);
+    }
 }
@@ -64,6 +64,21 @@ public class JMSQueueControlHandler extends AbstractQueueControlHandler<QueueCon
                 return  control;
             }
 
+            @Override
+            public String getName() {
+                return control.getName();
+            }
+
+            @Override
+            public String convertFilter(String filter) {
+                return convertToActiveMQFilterString(filter);
+            }
+
+            @Override
+            public String convertPropertyName(String name) {
+                return convertToJMSProperties(name);
+            }
+
             @Override
             public String listMessagesAsJSON(String filter) throws Exception {
                 String result = control.listMessagesAsJSON(convertToActiveMQFilterString(filter));
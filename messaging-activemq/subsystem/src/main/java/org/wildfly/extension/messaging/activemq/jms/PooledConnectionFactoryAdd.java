@@ -107,6 +107,9 @@ public class PooledConnectionFactoryAdd extends AbstractAddStepHandler {
         String managedConnectionPoolClassName = resolvedModel.get(ConnectionFactoryAttributes.Pooled.MANAGED_CONNECTION_POOL.getName()).asStringOrNull();
         final int minPoolSize = resolvedModel.get(ConnectionFactoryAttributes.Pooled.MIN_POOL_SIZE.getName()).asInt();
         final int maxPoolSize = resolvedModel.get(ConnectionFactoryAttributes.Pooled.MAX_POOL_SIZE.getName()).asInt();
+        // the pool is only sized adaptively if its upper bound is greater than its configured maximum size
+        final int adaptiveMaxPoolSize = resolvedModel.get(ConnectionFactoryAttributes.Pooled.ADAPTIVE_MAX_POOL_SIZE.getName()).asInt(-1);
+        final boolean adaptive = (maxPoolSize > 0) && (adaptiveMaxPoolSize > maxPoolSize);
         Boolean enlistmentTrace = resolvedModel.get(ConnectionFactoryAttributes.Pooled.ENLISTMENT_TRACE.getName()).asBooleanOrNull();
 
         String txSupport = getTxSupport(resolvedModel);
@@ -134,9 +137,17 @@ public class PooledConnectionFactoryAdd extends AbstractAddStepHandler {
         final Set<String> sslContextNames = new HashSet<>();
         TransportConfiguration[] transportConfigurations = TransportConfigOperationHandlers.processConnectors(context, connectors, connectorsSocketBindings, sslContextNames);
         String serverName = serverAddress.getLastElement().getValue();
-        PooledConnectionFactoryService.installService(context,
+        PooledConnectionFactoryService service = PooledConnectionFactoryService.installService(context,
                 name, serverName, connectors, discoveryGroupName, jgroupClusterName,
-                adapterParams, bindInfo, jndiAliases, txSupport, minPoolSize, maxPoolSize, managedConnectionPoolClassName, enlistmentTrace, model);
+                adapterParams, bindInfo, jndiAliases, txSupport, minPoolSize, maxPoolSize, adaptive ? adaptiveMaxPoolSize : -1,
+                managedConnectionPoolClassName, enlistmentTrace, model);
+        if (adaptive) {
+            installPoolSizing(context, name, service.getStatistics(), maxPoolSize, adaptiveMaxPoolSize,
+                    resolvedModel.get(ConnectionFactoryAttributes.Pooled.ADAPTIVE_POOL_SAMPLE_INTERVAL.getName()).asLong(),
+                    resolvedModel.get(ConnectionFactoryAttributes.Pooled.ADAPTIVE_POOL_WAIT_THRESHOLD.getName()).asLong(),
+                    resolvedModel.get(ConnectionFactoryAttributes.Pooled.ADAPTIVE_POOL_QUIET_SAMPLES.getName()).asInt(),
+                    resolvedModel.get(ConnectionFactoryAttributes.Pooled.ADAPTIVE_POOL_STEP_PERCENTAGE.getName()).asInt());
+        }
         boolean statsEnabled = ConnectionFactoryAttributes.Pooled.STATISTICS_ENABLED.resolveModelAttribute(context, model).asBoolean();
 
         if (statsEnabled) {
@@ -144,9 +155,9 @@ public class PooledConnectionFactoryAdd extends AbstractAddStepHandler {
             // in runtime, but oh well. We don't use readResourceForUpdate for this reason.
             // This only runs in this add op anyway, and because it's an add we know readResource
             // is going to be returning the current write snapshot of the model, i.e. the one we want
-            PooledConnectionFactoryStatisticsService.registerStatisticsResources(resource);
+            PooledConnectionFactoryStatisticsService.registerStatisticsResources(resource, true);
 
-            installStatistics(context, name);
+            installStatistics(context, name, service.getStatistics());
         }
     }
 
@@ -200,11 +211,30 @@ public class PooledConnectionFactoryAdd extends AbstractAddStepHandler {
     }
 
     static void installStatistics(OperationContext context, String name) {
+        installStatistics(context, name, null);
+    }
+
+    private static void installStatistics(OperationContext context, String name, PooledConnectionFactoryStatistics jmsStatistics) {
         ServiceName raActivatorsServiceName = PooledConnectionFactoryService.getResourceAdapterActivatorsServiceName(name);
-        PooledConnectionFactoryStatisticsService statsService = new PooledConnectionFactoryStatisticsService(context.getResourceRegistrationForUpdate(), true);
+        PooledConnectionFactoryStatisticsService statsService = new PooledConnectionFactoryStatisticsService(context.getResourceRegistrationForUpdate(), true, jmsStatistics);
         context.getServiceTarget().addService(raActivatorsServiceName.append("statistics"), statsService)
                 .addDependency(raActivatorsServiceName, ResourceAdapterDeployment.class, statsService.getRADeploymentInjector())
                 .setInitialMode(ServiceController.Mode.PASSIVE)
                 .install();
     }
+
+    static ServiceName getPoolSizingServiceName(String name) {
+        return PooledConnectionFactoryService.getResourceAdapterActivatorsServiceName(name).append("adaptive-pool-sizing");
+    }
+
+    private static void installPoolSizing(OperationContext context, String name, PooledConnectionFactoryStatistics statistics, int maxPoolSize, int adaptiveMaxPoolSize,
+            long sampleIntervalMillis, long waitThresholdMillis, int quietSamples, int stepPercentage) {
+        ServiceName raActivatorsServiceName = PooledConnectionFactoryService.getResourceAdapterActivatorsServiceName(name);
+        PooledConnectionFactoryPoolSizingService sizingService = new PooledConnectionFactoryPoolSizingService(name, statistics, maxPoolSize, adaptiveMaxPoolSize,
+                sampleIntervalMillis, waitThresholdMillis, quietSamples, stepPercentage);
+        context.getServiceTarget().addService(getPoolSizingServiceName(name), sizingService)
+                .addDependency(raActivatorsServiceName, ResourceAdapterDeployment.class, sizingService.getRADeploymentInjector())
+                .setInitialMode(ServiceController.Mode.PASSIVE)
+                .install();
+    }
 }
@@ -18,6 +18,7 @@ import java.util.Arrays;
 import java.util.Collection;
 import java.util.HashMap;
 import java.util.Map;
+import java.util.stream.Stream;
 
 import org.jboss.as.controller.AbstractAttributeDefinitionBuilder;
 import org.jboss.as.controller.AttributeDefinition;
@@ -104,7 +105,13 @@ public class PooledConnectionFactoryDefinition extends PersistentResourceDefinit
         return builder.build();
     }
 
-    public static final ConnectionFactoryAttribute[] ATTRIBUTES = define(Pooled.ATTRIBUTES, Common.ATTRIBUTES);
+    // adaptive pool sizing is not supported by the external pooled-connection-factory
+    private static final ConnectionFactoryAttribute[] POOLED_ATTRIBUTES = Stream.concat(Arrays.stream(Pooled.ATTRIBUTES),
+            Stream.of(Pooled.ADAPTIVE_MAX_POOL_SIZE, Pooled.ADAPTIVE_POOL_SAMPLE_INTERVAL, Pooled.ADAPTIVE_POOL_WAIT_THRESHOLD,
+                    Pooled.ADAPTIVE_POOL_QUIET_SAMPLES, Pooled.ADAPTIVE_POOL_STEP_PERCENTAGE)
+                    .map(attribute -> ConnectionFactoryAttribute.create(attribute, null, false))).toArray(ConnectionFactoryAttribute[]::new);
+
+    public static final ConnectionFactoryAttribute[] ATTRIBUTES = define(POOLED_ATTRIBUTES, Common.ATTRIBUTES);
 
     public static Map<String, ConnectionFactoryAttribute> getAttributesMap() {
         Map<String, ConnectionFactoryAttribute> attrs = new HashMap<String, ConnectionFactoryAttribute>(ATTRIBUTES.length);
@@ -0,0 +1,150 @@
+/*
+ * Copyright The WildFly Authors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.wildfly.extension.messaging.activemq.jms;
+
+import static org.wildfly.extension.messaging.activemq._private.MessagingLogger.ROOT_LOGGER;
+
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
+
+import org.apache.activemq.artemis.api.core.client.ActiveMQClient;
+import org.jboss.as.connector.metadata.deployment.ResourceAdapterDeployment;
+import org.jboss.jca.core.api.connectionmanager.pool.PoolConfiguration;
+import org.jboss.msc.inject.Injector;
+import org.jboss.msc.service.Service;
+import org.jboss.msc.service.StartContext;
+import org.jboss.msc.service.StartException;
+import org.jboss.msc.service.StopContext;
+import org.jboss.msc.value.InjectedValue;
+
+/**
+ * Service adjusting the maximum size of the pool of a pooled-connection-factory to the time spent acquiring sessions from it.
+ * <p>
+ * The pool is created with the adaptive-max-pool-size as its upper bound and starts with the configured max-pool-size.
+ * Every sample interval, the maximum size grows by a step while the average acquisition time of the interval exceeds
+ * a threshold, and shrinks back by a step towards max-pool-size once acquisitions stopped waiting for a number of quiet
+ * intervals. The samples of all the pooled-connection-factories are taken by the global client scheduled thread pool.
+ */
+public class PooledConnectionFactoryPoolSizingService implements Service<Void> {
+
+    private final InjectedValue<ResourceAdapterDeployment> injectedRADeployment = new InjectedValue<>();
+    private final String name;
+    private final PooledConnectionFactoryStatistics statistics;
+    private final int maxPoolSize;
+    private final int adaptiveMaxPoolSize;
+    private final long sampleIntervalMillis;
+    private final long waitThresholdNanos;
+    // number of sample intervals without waiting acquisitions before the pool shrinks
+    private final int quietSamplesThreshold;
+    private final int stepPercentage;
+
+    private volatile ScheduledFuture<?> sampling;
+    private volatile PoolConfiguration configuration;
+    private int currentMaxPoolSize;
+    private int quietSamples;
+    private long lastAcquisitionCount;
+    private long lastAcquisitionNanos;
+
+    /**
+     * @param sampleIntervalMillis the interval between two samples of the acquisition statistics, in milliseconds
+     * @param waitThresholdMillis the average acquisition time above which the pool grows, in milliseconds
+     * @param quietSamples the number of samples below the threshold before the pool shrinks
+     * @param stepPercentage the percentage of the current maximum size by which the pool grows or shrinks
+     */
+    PooledConnectionFactoryPoolSizingService(String name, PooledConnectionFactoryStatistics statistics, int maxPoolSize, int adaptiveMaxPoolSize,
+            long sampleIntervalMillis, long waitThresholdMillis, int quietSamples, int stepPercentage) {
+        this.name = name;
+        this.statistics = statistics;
+        this.maxPoolSize = maxPoolSize;
+        this.adaptiveMaxPoolSize = adaptiveMaxPoolSize;
+        this.sampleIntervalMillis = sampleIntervalMillis;
+        this.waitThresholdNanos = TimeUnit.MILLISECONDS.toNanos(waitThresholdMillis);
+        this.quietSamplesThreshold = quietSamples;
+        this.stepPercentage = stepPercentage;
+        this.currentMaxPoolSize = maxPoolSize;
+    }
+
+    @Override
+    public void start(StartContext context) throws StartException {
+        ROOT_LOGGER.debugf("start PooledConnectionFactoryPoolSizingService for %s", name);
+        ResourceAdapterDeployment raDeployment = injectedRADeployment.getValue();
+        this.configuration = raDeployment.getDeployment().getConnector().getConnectionFactories().get(0).getPoolConfiguration();
+        synchronized (this) {
+            this.currentMaxPoolSize = this.maxPoolSize;
+            this.quietSamples = 0;
+            this.lastAcquisitionCount = this.statistics.getAcquisitionCount();
+            this.lastAcquisitionNanos = this.statistics.getAcquisitionNanos();
+        }
+        this.resize(this.maxPoolSize);
+        this.sampling = ActiveMQClient.getGlobalScheduledThreadPool().scheduleWithFixedDelay(this::sample, this.sampleIntervalMillis, this.sampleIntervalMillis, TimeUnit.MILLISECONDS);
+    }
+
+    @Override
+    public void stop(StopContext context) {
+        this.sampling.cancel(false);
+        this.sampling = null;
+        this.configuration = null;
+        this.statistics.setMaxPoolSize(this.maxPoolSize);
+    }
+
+    @Override
+    public Void getValue() throws IllegalStateException, IllegalArgumentException {
+        return null;
+    }
+
+    Injector<ResourceAdapterDeployment> getRADeploymentInjector() {
+        return injectedRADeployment;
+    }
+
+    private void sample() {
+        try {
+            int current = this.currentMaxPoolSize;
+            int next = this.nextMaxPoolSize(this.statistics.getAcquisitionCount(), this.statistics.getAcquisitionNanos());
+            if (next != current) {
+                ROOT_LOGGER.debugf("Resizing the pool of pooled-connection-factory %s from %d to %d", name, current, next);
+                this.resize(next);
+            }
+        } catch (RuntimeException e) {
+            ROOT_LOGGER.debugf(e, "Failed to resize the pool of pooled-connection-factory %s", name);
+        }
+    }
+
+    /**
+     * Computes the maximum size of the pool from the cumulative acquisition statistics of the pool.
+     *
+     * @param acquisitionCount the number of session acquisitions since the pool started
+     * @param acquisitionNanos the time spent acquiring sessions since the pool started
+     * @return the new maximum size of the pool
+     */
+    synchronized int nextMaxPoolSize(long acquisitionCount, long acquisitionNanos) {
+        long acquisitions = acquisitionCount - this.lastAcquisitionCount;
+        long nanos = acquisitionNanos - this.lastAcquisitionNanos;
+        this.lastAcquisitionCount = acquisitionCount;
+        this.lastAcquisitionNanos = acquisitionNanos;
+        // the statistics were cleared
+        if ((acquisitions < 0) || (nanos < 0)) {
+            return this.currentMaxPoolSize;
+        }
+        int current = this.currentMaxPoolSize;
+        int step = Math.max(1, current * this.stepPercentage / 100);
+        if ((acquisitions > 0) && ((nanos / acquisitions) >= this.waitThresholdNanos)) {
+            this.quietSamples = 0;
+            this.currentMaxPoolSize = Math.min(this.adaptiveMaxPoolSize, current + step);
+        } else if ((current > this.maxPoolSize) && (++this.quietSamples >= this.quietSamplesThreshold)) {
+            this.quietSamples = 0;
+            this.currentMaxPoolSize = Math.max(this.maxPoolSize, current - step);
+        }
+        return this.currentMaxPoolSize;
+    }
+
+    private void resize(int maxPoolSize) {
+        PoolConfiguration configuration = this.configuration;
+        if (configuration != null) {
+            configuration.setMaxSize(maxPoolSize);
+        }
+        this.statistics.setMaxPoolSize(maxPoolSize);
+    }
+}
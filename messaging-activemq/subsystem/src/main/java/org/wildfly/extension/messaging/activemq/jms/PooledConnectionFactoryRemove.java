@@ -29,6 +29,7 @@ public class PooledConnectionFactoryRemove extends AbstractRemoveStepHandler {
     protected void performRuntime(OperationContext context, ModelNode operation, ModelNode model) {
         ServiceName serviceName = MessagingServices.getActiveMQServiceName(context.getCurrentAddress());
         context.removeService(JMSServices.getPooledConnectionFactoryBaseServiceName(serviceName).append(context.getCurrentAddressValue()));
+        context.removeService(PooledConnectionFactoryAdd.getPoolSizingServiceName(context.getCurrentAddressValue()));
         removeJNDIAliases(context, model.require(ENTRIES.getName()).asList());
     }
 
@@ -122,7 +122,8 @@ public class PooledConnectionFactoryService implements Service<Void> {
     private static final String ACTIVEMQ_ACTIVATION = "org.apache.activemq.artemis.ra.inflow.ActiveMQActivationSpec";
     private static final String ACTIVEMQ_CONN_DEF = "ActiveMQConnectionDefinition";
     private static final String ACTIVEMQ_RESOURCE_ADAPTER = "org.wildfly.extension.messaging.activemq.ActiveMQResourceAdapter";
-    private static final String RAMANAGED_CONN_FACTORY = "org.apache.activemq.artemis.ra.ActiveMQRAManagedConnectionFactory";
+    private static final String RAMANAGED_CONN_FACTORY = "org.wildfly.extension.messaging.activemq.jms.ActiveMQRAManagedConnectionFactory";
+    private static final String POOLED_CONNECTION_FACTORY_SERVICE_NAME = "pooledConnectionFactoryServiceName";
     private static final String RA_CONN_FACTORY = "org.apache.activemq.artemis.ra.ActiveMQRAConnectionFactory";
     private static final String RA_CONN_FACTORY_IMPL = "org.apache.activemq.artemis.ra.ActiveMQRAConnectionFactoryImpl";
     private static final String JMS_SESSION = "jakarta.jms.Session";
@@ -158,6 +159,9 @@ public class PooledConnectionFactoryService implements Service<Void> {
     private String txSupport;
     private int minPoolSize;
     private int maxPoolSize;
+    // -1 if the pool is not sized adaptively
+    private final int adaptiveMaxPoolSize;
+    private final PooledConnectionFactoryStatistics statistics;
     private String serverName;
     private final String jgroupsChannelName;
     private final boolean createBinderService;
@@ -167,7 +171,7 @@ public class PooledConnectionFactoryService implements Service<Void> {
     private InjectedValue<ExceptionSupplier<CredentialSource, Exception>> credentialSourceSupplier = new InjectedValue<>();
 
 
-    public PooledConnectionFactoryService(String name, List<String> connectors, String discoveryGroupName, String serverName, String jgroupsChannelName, List<PooledConnectionFactoryConfigProperties> adapterParams, BindInfo bindInfo, List<String> jndiAliases, String txSupport, int minPoolSize, int maxPoolSize, String managedConnectionPoolClassName, Boolean enlistmentTrace) {
+    public PooledConnectionFactoryService(String name, List<String> connectors, String discoveryGroupName, String serverName, String jgroupsChannelName, List<PooledConnectionFactoryConfigProperties> adapterParams, BindInfo bindInfo, List<String> jndiAliases, String txSupport, int minPoolSize, int maxPoolSize, int adaptiveMaxPoolSize, String managedConnectionPoolClassName, Boolean enlistmentTrace) {
         this.name = name;
         this.connectors = connectors;
         this.discoveryGroupName = discoveryGroupName;
@@ -180,6 +184,8 @@ public class PooledConnectionFactoryService implements Service<Void> {
         this.txSupport = txSupport;
         this.minPoolSize = minPoolSize;
         this.maxPoolSize = maxPoolSize;
+        this.adaptiveMaxPoolSize = adaptiveMaxPoolSize;
+        this.statistics = new PooledConnectionFactoryStatistics(maxPoolSize);
         this.managedConnectionPoolClassName = managedConnectionPoolClassName;
         this.enlistmentTrace = enlistmentTrace;
         this.pickAnyConnectors = false;
@@ -198,6 +204,8 @@ public class PooledConnectionFactoryService implements Service<Void> {
         this.txSupport = txSupport;
         this.minPoolSize = minPoolSize;
         this.maxPoolSize = maxPoolSize;
+        this.adaptiveMaxPoolSize = -1;
+        this.statistics = new PooledConnectionFactoryStatistics(maxPoolSize);
         this.managedConnectionPoolClassName = managedConnectionPoolClassName;
         this.enlistmentTrace = enlistmentTrace;
         this.pickAnyConnectors = pickAnyConnectors;
@@ -211,6 +219,10 @@ public class PooledConnectionFactoryService implements Service<Void> {
         return credentialSourceSupplier;
     }
 
+    PooledConnectionFactoryStatistics getStatistics() {
+        return statistics;
+    }
+
     public static PooledConnectionFactoryService installService(ServiceTarget serviceTarget,
                                       String name,
                                       String serverName,
@@ -249,6 +261,7 @@ public class PooledConnectionFactoryService implements Service<Void> {
                                       String txSupport,
                                       int minPoolSize,
                                       int maxPoolSize,
+                                      int adaptiveMaxPoolSize,
                                       String managedConnectionPoolClassName,
                                       Boolean enlistmentTrace,
                                       ModelNode model) throws OperationFailedException {
@@ -257,7 +270,7 @@ public class PooledConnectionFactoryService implements Service<Void> {
         ServiceName serviceName = JMSServices.getPooledConnectionFactoryBaseServiceName(serverServiceName).append(name);
         PooledConnectionFactoryService service = new PooledConnectionFactoryService(name,
                 connectors, discoveryGroupName, serverName, jgroupsChannelName, adapterParams,
-                bindInfo, jndiAliases, txSupport, minPoolSize, maxPoolSize, managedConnectionPoolClassName, enlistmentTrace);
+                bindInfo, jndiAliases, txSupport, minPoolSize, maxPoolSize, adaptiveMaxPoolSize, managedConnectionPoolClassName, enlistmentTrace);
 
         installService0(context, serverServiceName, serviceName, service, model);
         return service;
@@ -303,7 +316,7 @@ public class PooledConnectionFactoryService implements Service<Void> {
     public void start(StartContext context) throws StartException {
         ServiceTarget serviceTarget = context.getChildTarget();
         try {
-            createService(serviceTarget, context.getController().getServiceContainer());
+            createService(serviceTarget, context.getController().getServiceContainer(), context.getController().getName());
         }
         catch (Exception e) {
             throw MessagingLogger.ROOT_LOGGER.failedToCreate(e, "resource adapter");
@@ -311,7 +324,7 @@ public class PooledConnectionFactoryService implements Service<Void> {
 
     }
 
-    private void createService(ServiceTarget serviceTarget, ServiceContainer container) throws Exception {
+    private void createService(ServiceTarget serviceTarget, ServiceContainer container, ServiceName serviceName) throws Exception {
         InputStream is = null;
         InputStream isIj = null;
         // Properties for the resource adapter
@@ -411,6 +424,9 @@ public class PooledConnectionFactoryService implements Service<Void> {
 
             configureCredential(properties);
 
+            // the managed connection factory looks up the statistics from this service
+            outboundProperties.add(simpleProperty15(POOLED_CONNECTION_FACTORY_SERVICE_NAME, STRING_TYPE, serviceName.getCanonicalName()));
+
             // for backwards compatibility, the RA inbound is configured to prefix the Jakarta Messaging resources if JNDI lookups fail
             // and the destination are inferred from the JNDI name.
             inboundProperties.add(simpleProperty15("queuePrefix", String.class.getName(), JMS_QUEUE_PREFIX));
@@ -424,7 +440,9 @@ public class PooledConnectionFactoryService implements Service<Void> {
             Connector cmd = createConnector15(ra);
 
             TransactionSupportEnum transactionSupport = getTransactionSupport(txSupport);
-            ConnectionDefinition common = createConnDef(transactionSupport, bindInfo.getBindName(), minPoolSize, maxPoolSize, managedConnectionPoolClassName, enlistmentTrace);
+            // an adaptively sized pool is created with its upper bound, the maximum size of the pool is then adjusted at runtime
+            int poolMaxSize = (adaptiveMaxPoolSize > 0) ? adaptiveMaxPoolSize : maxPoolSize;
+            ConnectionDefinition common = createConnDef(transactionSupport, bindInfo.getBindName(), minPoolSize, poolMaxSize, managedConnectionPoolClassName, enlistmentTrace);
             Activation activation = createActivation(common, transactionSupport);
 
             ResourceAdapterActivatorService activator = new ResourceAdapterActivatorService(cmd, activation,
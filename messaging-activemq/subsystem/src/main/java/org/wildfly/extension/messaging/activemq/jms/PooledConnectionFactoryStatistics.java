@@ -0,0 +1,296 @@
+/*
+ * Copyright The WildFly Authors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.wildfly.extension.messaging.activemq.jms;
+
+import java.lang.reflect.InvocationHandler;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.lang.reflect.Proxy;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Function;
+
+import jakarta.jms.Connection;
+import jakarta.jms.JMSContext;
+import jakarta.jms.JMSProducer;
+import jakarta.jms.MessageProducer;
+import jakarta.jms.Session;
+import jakarta.resource.ResourceException;
+import jakarta.resource.spi.ConnectionManager;
+import jakarta.resource.spi.ConnectionRequestInfo;
+import jakarta.resource.spi.ManagedConnectionFactory;
+
+import org.jboss.as.txn.statistics.DurationHistogram;
+import org.jboss.jca.core.spi.statistics.StatisticsPlugin;
+
+/**
+ * Statistics of the sessions of a pooled-connection-factory: the time spent acquiring a session from the pool,
+ * how often an acquisition reuses a pooled session instead of creating a new one, and the time spent sending messages.
+ * They are registered as metrics of a {@code statistics=jms} resource. All times are in microseconds.
+ * <p>
+ * Sends are timed by wrapping the connections, contexts, sessions and producers created by the connection factory in dynamic proxies,
+ * which is only done while the statistics are enabled. Acquisitions are always counted, as they drive the adaptive sizing of the pool.
+ */
+class PooledConnectionFactoryStatistics implements StatisticsPlugin {
+
+    private static final Map<String, Statistic> STATISTICS = new LinkedHashMap<>();
+
+    static {
+        register("SessionAcquisitionCount", "The number of sessions acquired from the pool", statistics -> statistics.acquisitionCount.sum());
+        register("SessionAcquisitionTimeAverage", "The average time spent acquiring a session from the pool (microseconds)", statistics -> micros(statistics.acquisitionTimes.getAverageNanos()));
+        register("SessionAcquisitionTimeMax", "The maximum time spent acquiring a session from the pool (microseconds)", statistics -> micros(statistics.acquisitionTimes.getMaxNanos()));
+        register("SessionAcquisitionTimeP50", "The median time spent acquiring a session from the pool (microseconds)", statistics -> percentile(statistics.acquisitionTimes, 0.5));
+        register("SessionAcquisitionTimeP99", "The 99th percentile of the time spent acquiring a session from the pool (microseconds)", statistics -> percentile(statistics.acquisitionTimes, 0.99));
+        register("SessionCreatedCount", "The number of sessions created by the pool", statistics -> statistics.createdCount.sum());
+        register("SessionReusePercentage", "The percentage of session acquisitions served by a pooled session", PooledConnectionFactoryStatistics::getSessionReusePercentage);
+        register("SendCount", "The number of messages sent", statistics -> statistics.sendTimes.getCount());
+        register("SendTimeAverage", "The average time spent sending a message (microseconds)", statistics -> micros(statistics.sendTimes.getAverageNanos()));
+        register("SendTimeMax", "The maximum time spent sending a message (microseconds)", statistics -> micros(statistics.sendTimes.getMaxNanos()));
+        register("SendTimeP50", "The median time spent sending a message (microseconds)", statistics -> percentile(statistics.sendTimes, 0.5));
+        register("SendTimeP99", "The 99th percentile of the time spent sending a message (microseconds)", statistics -> percentile(statistics.sendTimes, 0.99));
+        register("SendTimeP999", "The 99.9th percentile of the time spent sending a message (microseconds)", statistics -> percentile(statistics.sendTimes, 0.999));
+        register("MaxPoolSize", "The current maximum size of the pool, which varies when the pool is sized adaptively", statistics -> (long) statistics.maxPoolSize);
+    }
+
+    private final DurationHistogram acquisitionTimes = new DurationHistogram();
+    private final DurationHistogram sendTimes = new DurationHistogram();
+    private final LongAdder acquisitionCount = new LongAdder();
+    private final LongAdder acquisitionNanos = new LongAdder();
+    private final LongAdder createdCount = new LongAdder();
+    private volatile boolean enabled;
+    private volatile int maxPoolSize;
+
+    PooledConnectionFactoryStatistics(int maxPoolSize) {
+        this.maxPoolSize = maxPoolSize;
+    }
+
+    /**
+     * Returns a connection manager that acquires sessions from the specified connection manager and records their acquisition.
+     *
+     * @param manager the connection manager of the pool
+     * @return a connection manager recording these statistics
+     */
+    ConnectionManager wrapConnectionManager(ConnectionManager manager) {
+        return new StatisticsConnectionManager(manager, this);
+    }
+
+    /**
+     * Returns a proxy of the specified connection factory that times the messages sent by the connections and contexts it creates
+     * while these statistics are enabled.
+     *
+     * @param connectionFactory the connection factory of the resource adapter
+     * @return a connection factory recording these statistics
+     */
+    Object wrapConnectionFactory(Object connectionFactory) {
+        return this.createProxy(connectionFactory);
+    }
+
+    void recordAcquisition(long nanos) {
+        this.acquisitionCount.increment();
+        this.acquisitionNanos.add(nanos);
+        if (this.enabled) {
+            this.acquisitionTimes.record(nanos);
+        }
+    }
+
+    void recordCreation() {
+        this.createdCount.increment();
+    }
+
+    /**
+     * Returns the number of session acquisitions since the pool started, regardless of whether statistics are enabled.
+     */
+    long getAcquisitionCount() {
+        return this.acquisitionCount.sum();
+    }
+
+    /**
+     * Returns the time spent acquiring sessions since the pool started, regardless of whether statistics are enabled.
+     */
+    long getAcquisitionNanos() {
+        return this.acquisitionNanos.sum();
+    }
+
+    void setMaxPoolSize(int maxPoolSize) {
+        this.maxPoolSize = maxPoolSize;
+    }
+
+    private long getSessionReusePercentage() {
+        long acquisitions = this.acquisitionCount.sum();
+        if (acquisitions == 0) {
+            return 0L;
+        }
+        long reused = Math.max(0L, acquisitions - this.createdCount.sum());
+        return (reused * 100L) / acquisitions;
+    }
+
+    @Override
+    public Set<String> getNames() {
+        return Collections.unmodifiableSet(STATISTICS.keySet());
+    }
+
+    @SuppressWarnings("rawtypes")
+    @Override
+    public Class getType(String name) {
+        return STATISTICS.containsKey(name) ? long.class : null;
+    }
+
+    @Override
+    public String getDescription(String name) {
+        return this.getDescription(name, Locale.US);
+    }
+
+    @Override
+    public String getDescription(String name, Locale locale) {
+        Statistic statistic = STATISTICS.get(name);
+        return (statistic != null) ? statistic.description : null;
+    }
+
+    @Override
+    public Object getValue(String name) {
+        Statistic statistic = STATISTICS.get(name);
+        return (statistic != null) ? statistic.value.apply(this) : null;
+    }
+
+    @Override
+    public boolean isEnabled() {
+        return this.enabled;
+    }
+
+    @Override
+    public void setEnabled(boolean enabled) {
+        this.enabled = enabled;
+    }
+
+    @Override
+    public void clear() {
+        this.acquisitionTimes.reset();
+        this.sendTimes.reset();
+        this.acquisitionCount.reset();
+        this.acquisitionNanos.reset();
+        this.createdCount.reset();
+    }
+
+    private Object createProxy(Object target) {
+        return Proxy.newProxyInstance(target.getClass().getClassLoader(), interfaces(target.getClass()), new SendTimingHandler(target));
+    }
+
+    private static Class<?>[] interfaces(Class<?> targetClass) {
+        Set<Class<?>> interfaces = new LinkedHashSet<>();
+        for (Class<?> c = targetClass; c != null; c = c.getSuperclass()) {
+            Collections.addAll(interfaces, c.getInterfaces());
+        }
+        return interfaces.toArray(new Class<?>[0]);
+    }
+
+    private static void register(String name, String description, Function<PooledConnectionFactoryStatistics, Long> value) {
+        STATISTICS.put(name, new Statistic(description, value));
+    }
+
+    private static long micros(long nanos) {
+        return TimeUnit.NANOSECONDS.toMicros(nanos);
+    }
+
+    private static long percentile(DurationHistogram histogram, double percentile) {
+        return micros(histogram.getPercentileNanos(percentile));
+    }
+
+    private static class Statistic {
+        final String description;
+        final Function<PooledConnectionFactoryStatistics, Long> value;
+
+        Statistic(String description, Function<PooledConnectionFactoryStatistics, Long> value) {
+            this.description = description;
+            this.value = value;
+        }
+    }
+
+    /**
+     * Times the acquisition of sessions from the pool, including failed acquisitions, e.g. because of a blocking timeout.
+     */
+    private static class StatisticsConnectionManager implements ConnectionManager {
+        private static final long serialVersionUID = -2381478405536432781L;
+
+        private final ConnectionManager manager;
+        private final transient PooledConnectionFactoryStatistics statistics;
+
+        StatisticsConnectionManager(ConnectionManager manager, PooledConnectionFactoryStatistics statistics) {
+            this.manager = manager;
+            this.statistics = statistics;
+        }
+
+        @Override
+        public Object allocateConnection(ManagedConnectionFactory factory, ConnectionRequestInfo info) throws ResourceException {
+            long start = System.nanoTime();
+            try {
+                return this.manager.allocateConnection(factory, info);
+            } finally {
+                if (this.statistics != null) {
+                    this.statistics.recordAcquisition(System.nanoTime() - start);
+                }
+            }
+        }
+    }
+
+    /**
+     * Times the {@code send} and {@code publish} methods of producers, and wraps the connections, contexts, sessions and producers
+     * returned by its target while the statistics are enabled.
+     */
+    private class SendTimingHandler implements InvocationHandler {
+        private final Object target;
+        private final boolean producer;
+
+        SendTimingHandler(Object target) {
+            this.target = target;
+            this.producer = (target instanceof MessageProducer) || (target instanceof JMSProducer);
+        }
+
+        @Override
+        public Object invoke(Object proxy, Method method, Object[] args) throws Throwable {
+            String name = method.getName();
+            if (name.equals("equals") && method.getParameterCount() == 1) {
+                return proxy == args[0];
+            }
+            if (name.equals("hashCode") && method.getParameterCount() == 0) {
+                return System.identityHashCode(proxy);
+            }
+            Object result;
+            if (this.producer && (name.equals("send") || name.equals("publish"))) {
+                long start = System.nanoTime();
+                try {
+                    result = this.invokeTarget(method, args);
+                } finally {
+                    PooledConnectionFactoryStatistics.this.sendTimes.record(System.nanoTime() - start);
+                }
+            } else {
+                result = this.invokeTarget(method, args);
+            }
+            // JMSProducer methods return the producer itself
+            if (result == this.target) {
+                return proxy;
+            }
+            if (PooledConnectionFactoryStatistics.this.enabled && ((result instanceof Connection) || (result instanceof JMSContext)
+                    || (result instanceof Session) || (result instanceof MessageProducer) || (result instanceof JMSProducer))) {
+                return PooledConnectionFactoryStatistics.this.createProxy(result);
+            }
+            return result;
+        }
+
+        private Object invokeTarget(Method method, Object[] args) throws Throwable {
+            try {
+                return method.invoke(this.target, args);
+            } catch (InvocationTargetException e) {
+                throw e.getCause();
+            }
+        }
+    }
+}
@@ -32,9 +32,11 @@ import org.jboss.msc.value.InjectedValue;
 public class PooledConnectionFactoryStatisticsService implements Service<ManagementResourceRegistration> {
 
     private static final PathElement POOL_STATISTICS = PathElement.pathElement("statistics", "pool");
+    private static final PathElement JMS_STATISTICS = PathElement.pathElement("statistics", "jms");
 
     private final ManagementResourceRegistration registration;
     private final boolean statsEnabled;
+    private final PooledConnectionFactoryStatistics jmsStatistics;
 
     protected final InjectedValue<ResourceAdapterDeployment> injectedRADeployment = new InjectedValue<>();
 
@@ -44,10 +46,16 @@ public class PooledConnectionFactoryStatisticsService implements Service<Managem
      */
     public PooledConnectionFactoryStatisticsService(final ManagementResourceRegistration registration,
                                                     final boolean statsEnabled) {
+        this(registration, statsEnabled, null);
+    }
+
+    PooledConnectionFactoryStatisticsService(final ManagementResourceRegistration registration,
+                                             final boolean statsEnabled,
+                                             final PooledConnectionFactoryStatistics jmsStatistics) {
         super();
         this.registration = registration;
         this.statsEnabled = statsEnabled;
-
+        this.jmsStatistics = jmsStatistics;
     }
 
 
@@ -70,6 +78,14 @@ public class PooledConnectionFactoryStatisticsService implements Service<Managem
                         .registerSubModel(new StatisticsResourceDefinition(POOL_STATISTICS,
                                 DataSourcesSubsystemProviders.RESOURCE_NAME, poolStats));
             }
+
+            if (jmsStatistics != null) {
+                jmsStatistics.setEnabled(statsEnabled);
+                if (registration != null && registration.getSubModel(PathAddress.pathAddress(JMS_STATISTICS)) == null) {
+                    registration.registerSubModel(new StatisticsResourceDefinition(JMS_STATISTICS,
+                            DataSourcesSubsystemProviders.RESOURCE_NAME, jmsStatistics));
+                }
+            }
         }
     }
 
@@ -78,6 +94,7 @@ public class PooledConnectionFactoryStatisticsService implements Service<Managem
         synchronized (POOL_STATISTICS) {
             if (registration != null) {
                 registration.unregisterSubModel(POOL_STATISTICS);
+                registration.unregisterSubModel(JMS_STATISTICS);
             }
         }
     }
@@ -94,10 +111,17 @@ public class PooledConnectionFactoryStatisticsService implements Service<Managem
 
 
     public static void registerStatisticsResources(Resource resource) {
+        registerStatisticsResources(resource, false);
+    }
+
+    static void registerStatisticsResources(Resource resource, boolean jms) {
         synchronized (POOL_STATISTICS) {
             if (!resource.hasChild(POOL_STATISTICS)) {
                 resource.registerChild(POOL_STATISTICS, new PlaceholderResource.PlaceholderResourceEntry(POOL_STATISTICS));
             }
+            if (jms && !resource.hasChild(JMS_STATISTICS)) {
+                resource.registerChild(JMS_STATISTICS, new PlaceholderResource.PlaceholderResourceEntry(JMS_STATISTICS));
+            }
         }
     }
 
@@ -106,6 +130,9 @@ public class PooledConnectionFactoryStatisticsService implements Service<Managem
             if (resource.hasChild(POOL_STATISTICS)) {
                 resource.removeChild(POOL_STATISTICS);
             }
+            if (resource.hasChild(JMS_STATISTICS)) {
+                resource.removeChild(JMS_STATISTICS);
+            }
         }
     }
 
@@ -9,7 +9,7 @@ import static org.jboss.as.controller.descriptions.ModelDescriptionConstants.OP_
 import static org.jboss.as.controller.security.CredentialReference.handleCredentialReferenceUpdate;
 import static org.jboss.as.controller.security.CredentialReference.rollbackCredentialStoreUpdate;
 import static org.jboss.as.server.Services.requireServerExecutor;
-import static org.wildfly.extension.messaging.activemq.jms.bridge.JMSBridgeFactory.createJMSBridge;
+import static org.wildfly.extension.messaging.activemq.jms.bridge.JMSBridgeFactory.createJMSBridges;
 import static org.wildfly.extension.messaging.activemq.jms.bridge.JMSBridgeFactory.resolveContextProperties;
 
 import java.util.concurrent.ExecutorService;
@@ -82,7 +82,7 @@ public class JMSBridgeAdd extends AbstractAddStepHandler {
                 // corresponds to a local Artemis server, the pool will be cleaned up after the Jakarta Messaging bridge is stopped.
                 jmsBridgeServiceBuilder.requires(MessagingServices.ACTIVEMQ_CLIENT_THREAD_POOL);
                 // adding credential source supplier which will later resolve password from CredentialStore using credential-reference
-                final JMSBridgeService bridgeService = new JMSBridgeService(moduleName, bridgeName, createJMSBridge(context, model), executorSupplier,
+                final JMSBridgeService bridgeService = new JMSBridgeService(moduleName, bridgeName, createJMSBridges(context, model), executorSupplier,
                         getCredentialStoreReference(JMSBridgeDefinition.SOURCE_CREDENTIAL_REFERENCE, context, model, jmsBridgeServiceBuilder),
                         getCredentialStoreReference(JMSBridgeDefinition.TARGET_CREDENTIAL_REFERENCE, context, model, jmsBridgeServiceBuilder));
                 jmsBridgeServiceBuilder.setInstance(bridgeService);
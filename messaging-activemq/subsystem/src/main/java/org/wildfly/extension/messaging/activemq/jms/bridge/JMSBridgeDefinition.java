@@ -10,7 +10,9 @@ import static org.jboss.as.controller.client.helpers.MeasurementUnit.MILLISECOND
 import static org.jboss.as.controller.registry.AttributeAccess.Flag.COUNTER_METRIC;
 import static org.jboss.dmr.ModelType.BOOLEAN;
 import static org.jboss.dmr.ModelType.INT;
+import static org.jboss.dmr.ModelType.LIST;
 import static org.jboss.dmr.ModelType.LONG;
+import static org.jboss.dmr.ModelType.OBJECT;
 import static org.jboss.dmr.ModelType.STRING;
 import static org.wildfly.extension.messaging.activemq.CommonAttributes.CONNECTION_FACTORY;
 import static org.wildfly.extension.messaging.activemq.CommonAttributes.DESTINATION;
@@ -51,6 +53,7 @@ public class JMSBridgeDefinition extends PersistentResourceDefinition {
 
     public static final String PAUSE = "pause";
     public static final String RESUME = "resume";
+    public static final String LIST_LANES = "list-lanes";
     private static final String SOURCE_CREDENTIAL_REFERENCE_NAME = "source-" + CredentialReference.CREDENTIAL_REFERENCE;
     private static final String TARGET_CREDENTIAL_REFERENCE_NAME = "target-" + CredentialReference.CREDENTIAL_REFERENCE;
 
@@ -185,6 +188,24 @@ public class JMSBridgeDefinition extends PersistentResourceDefinition {
             .setDefaultValue(ModelNode.FALSE)
             .setAllowExpression(true)
             .build();
+    /**
+     * The number of bridges forwarding messages in parallel from the source to the target destination.
+     * Each lane consumes from the source destination with its own batch and transaction, messages of the same group being
+     * delivered to the same lane by the source broker.
+     */
+    public static final SimpleAttributeDefinition LANES = create("lanes", INT, true)
+            .setValidator(new IntRangeValidator(1, false, true))
+            .setAllowExpression(true)
+            .setDefaultValue(new ModelNode(1))
+            .build();
+    /**
+     * The integer message property partitioning the messages between the lanes, each lane selecting the messages whose
+     * property value modulo the number of lanes is its index.
+     */
+    public static final SimpleAttributeDefinition LANE_PARTITION_PROPERTY = create("lane-partition-property", STRING)
+            .setRequired(false)
+            .setAllowExpression(true)
+            .build();
     public static final SimpleAttributeDefinition STARTED = create(CommonAttributes.STARTED, BOOLEAN)
             .setStorageRuntime()
             .build();
@@ -204,6 +225,8 @@ public class JMSBridgeDefinition extends PersistentResourceDefinition {
             SUBSCRIPTION_NAME,
             CommonAttributes.CLIENT_ID,
             ADD_MESSAGE_ID_IN_HEADER,
+            LANES,
+            LANE_PARTITION_PROPERTY,
             SOURCE_CONNECTION_FACTORY,
             SOURCE_DESTINATION,
             SOURCE_USER,
@@ -268,6 +291,12 @@ public class JMSBridgeDefinition extends PersistentResourceDefinition {
         for (final String operationName : OPERATIONS) {
             registry.registerOperationHandler(SimpleOperationDefinitionBuilder.of(operationName, getResourceDescriptionResolver()).build(), JMSBridgeHandler.INSTANCE);
         }
+        registry.registerOperationHandler(new SimpleOperationDefinitionBuilder(LIST_LANES, getResourceDescriptionResolver())
+                .setRuntimeOnly()
+                .setReadOnly()
+                .setReplyType(LIST)
+                .setReplyValueType(OBJECT)
+                .build(), JMSBridgeHandler.READ_ONLY_INSTANCE);
     }
 
     private enum QualityOfServiceMode {
@@ -5,7 +5,13 @@
 
 package org.wildfly.extension.messaging.activemq.jms.bridge;
 
+import java.util.ArrayList;
+import java.util.List;
 import java.util.Properties;
+
+import jakarta.jms.Destination;
+import jakarta.jms.Topic;
+
 import org.apache.activemq.artemis.jms.bridge.ConnectionFactoryFactory;
 import org.apache.activemq.artemis.jms.bridge.DestinationFactory;
 import org.apache.activemq.artemis.jms.bridge.JMSBridge;
@@ -32,11 +38,24 @@ import org.wildfly.security.manager.WildFlySecurityManager;
 public class JMSBridgeFactory {
 
     public static JMSBridge createJMSBridge(OperationContext context, ModelNode model) throws OperationFailedException {
+        return createJMSBridges(context, model).get(0);
+    }
+
+    /**
+     * Creates the lanes of a Jakarta Messaging bridge, i.e. one bridge for each of its lanes.
+     * With several lanes, each lane is named after the bridge and its index, and the source destination must be a queue.
+     * If a partition property is defined, each lane only selects its partition of the messages, otherwise the lanes are
+     * competing consumers of the source queue.
+     */
+    public static List<JMSBridge> createJMSBridges(OperationContext context, ModelNode model) throws OperationFailedException {
+        final String bridgeName = context.getCurrentAddressValue();
+        final int lanes = JMSBridgeDefinition.LANES.resolveModelAttribute(context, model).asInt();
         final Properties sourceContextProperties = resolveContextProperties(JMSBridgeDefinition.SOURCE_CONTEXT, context, model);
         final String sourceConnectionFactoryName = JMSBridgeDefinition.SOURCE_CONNECTION_FACTORY.resolveModelAttribute(context, model).asString();
         final ConnectionFactoryFactory sourceCff = new JNDIConnectionFactoryFactory(sourceContextProperties , sourceConnectionFactoryName);
         final String sourceDestinationName = JMSBridgeDefinition.SOURCE_DESTINATION.resolveModelAttribute(context, model).asString();
-        final DestinationFactory sourceDestinationFactory = new JNDIDestinationFactory(sourceContextProperties, sourceDestinationName);
+        final DestinationFactory sourceDestinationFactory = (lanes > 1) ? queueDestinationFactory(bridgeName, sourceDestinationName, new JNDIDestinationFactory(sourceContextProperties, sourceDestinationName))
+                : new JNDIDestinationFactory(sourceContextProperties, sourceDestinationName);
 
         final Properties targetContextProperties = resolveContextProperties(JMSBridgeDefinition.TARGET_CONTEXT, context, model);
         final String targetConnectionFactoryName = JMSBridgeDefinition.TARGET_CONNECTION_FACTORY.resolveModelAttribute(context, model).asString();
@@ -59,8 +78,15 @@ public class JMSBridgeFactory {
         final String clientID = JMSBridgeDefinition.CLIENT_ID.resolveModelAttribute(context, model).asStringOrNull();
         final boolean addMessageIDInHeader = JMSBridgeDefinition.ADD_MESSAGE_ID_IN_HEADER.resolveModelAttribute(context, model).asBoolean();
 
+        final String partitionProperty = JMSBridgeDefinition.LANE_PARTITION_PROPERTY.resolveModelAttribute(context, model).asStringOrNull();
+
         final String moduleName = JMSBridgeDefinition.MODULE.resolveModelAttribute(context, model).asStringOrNull();
 
+        // the lanes are competing consumers of the source destination, which can not share a durable subscription
+        if ((lanes > 1) && (subName != null)) {
+            throw MessagingLogger.ROOT_LOGGER.jmsBridgeLanesWithDurableSubscription(bridgeName);
+        }
+
         final ClassLoader oldTccl= WildFlySecurityManager.getCurrentContextClassLoaderPrivileged();
         try {
             // if a module is specified, use it to instantiate the JMSBridge to ensure its ExecutorService
@@ -69,23 +95,27 @@ public class JMSBridgeFactory {
                 org.jboss.modules.Module module = org.jboss.modules.Module.getCallerModuleLoader().loadModule(ModuleIdentifier.fromString(moduleName));
                 WildFlySecurityManager.setCurrentContextClassLoaderPrivileged(module.getClassLoader());
             }
-            return new JMSBridgeImpl(sourceCff,
-                    targetCff,
-                    sourceDestinationFactory,
-                    targetDestinationFactory,
-                    sourceUsername,
-                    sourcePassword,
-                    targetUsername,
-                    targetPassword,
-                    selector,
-                    failureRetryInterval,
-                    maxRetries,
-                    qosMode,
-                    maxBatchSize,
-                    maxBatchTime,
-                    subName,
-                    clientID,
-                    addMessageIDInHeader).setBridgeName(context.getCurrentAddressValue());
+            final List<JMSBridge> bridges = new ArrayList<>(lanes);
+            for (int lane = 0; lane < lanes; lane++) {
+                bridges.add(new JMSBridgeImpl(sourceCff,
+                        targetCff,
+                        sourceDestinationFactory,
+                        targetDestinationFactory,
+                        sourceUsername,
+                        sourcePassword,
+                        targetUsername,
+                        targetPassword,
+                        laneSelector(selector, partitionProperty, lanes, lane),
+                        failureRetryInterval,
+                        maxRetries,
+                        qosMode,
+                        maxBatchSize,
+                        maxBatchTime,
+                        subName,
+                        laneName(clientID, lanes, lane),
+                        addMessageIDInHeader).setBridgeName(laneName(bridgeName, lanes, lane)));
+            }
+            return bridges;
         } catch (ModuleNotFoundException e) {
             throw MessagingLogger.ROOT_LOGGER.moduleNotFound(moduleName, e.getMessage(), e);
         } catch (ModuleLoadException e) {
@@ -95,6 +125,43 @@ public class JMSBridgeFactory {
         }
     }
 
+    /**
+     * Returns the name of a lane, i.e. the specified name suffixed with the index of the lane if the bridge has several lanes.
+     * This also applies to the client ID, which identifies a single connection.
+     */
+    static String laneName(String name, int lanes, int lane) {
+        return ((name == null) || (lanes == 1)) ? name : name + "-lane-" + lane;
+    }
+
+    /**
+     * Returns the selector of a lane, i.e. the selector of the bridge restricted to the partition of the lane.
+     * The partition of a message is its property value modulo the number of lanes. Messages without the property, or whose
+     * property is not an integer number, belong to the first partition, so that every message is forwarded by exactly one lane.
+     */
+    static String laneSelector(String selector, String partitionProperty, int lanes, int lane) {
+        if ((partitionProperty == null) || (lanes == 1)) {
+            return selector;
+        }
+        // arithmetic on a value that is not a number fails the whole selector, so the property is compared first
+        String number = String.format("(%1$s < 0 OR %1$s >= 0)", partitionProperty);
+        // the remainder of a negative value is negative, and may be computed in double precision
+        String remainder = String.format("((%1$s %% %2$d + %2$d) %% %2$d)", partitionProperty, lanes);
+        String partition = (lane == 0)
+                ? String.format("(%1$s IS NULL OR NOT %2$s OR %3$s = 0 OR %3$s %% 1 > 0)", partitionProperty, number, remainder)
+                : String.format("(%s AND %s = %d)", number, remainder, lane);
+        return (selector == null) ? partition : "(" + selector + ") AND " + partition;
+    }
+
+    private static DestinationFactory queueDestinationFactory(String bridgeName, String destinationName, DestinationFactory factory) {
+        return () -> {
+            Destination destination = factory.createDestination();
+            if (destination instanceof Topic) {
+                throw MessagingLogger.ROOT_LOGGER.jmsBridgeLanesRequireQueue(bridgeName, destinationName);
+            }
+            return destination;
+        };
+    }
+
     public static Properties resolveContextProperties(AttributeDefinition attribute, OperationContext context, ModelNode model) throws OperationFailedException {
         final ModelNode contextModel = attribute.resolveModelAttribute(context, model);
         final Properties contextProperties = new Properties();
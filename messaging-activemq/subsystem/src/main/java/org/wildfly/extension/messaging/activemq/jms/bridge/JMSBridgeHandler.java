@@ -13,9 +13,12 @@ import static org.wildfly.extension.messaging.activemq.CommonAttributes.NAME;
 import static org.wildfly.extension.messaging.activemq.CommonAttributes.PAUSED;
 import static org.wildfly.extension.messaging.activemq.CommonAttributes.STARTED;
 import static org.wildfly.extension.messaging.activemq.jms.bridge.JMSBridgeDefinition.ABORTED_MESSAGE_COUNT;
+import static org.wildfly.extension.messaging.activemq.jms.bridge.JMSBridgeDefinition.LIST_LANES;
 import static org.wildfly.extension.messaging.activemq.jms.bridge.JMSBridgeDefinition.PAUSE;
 import static org.wildfly.extension.messaging.activemq.jms.bridge.JMSBridgeDefinition.RESUME;
 
+import java.util.List;
+
 import org.apache.activemq.artemis.jms.bridge.JMSBridge;
 import org.jboss.as.controller.AbstractRuntimeOnlyHandler;
 import org.jboss.as.controller.OperationContext;
@@ -53,7 +56,7 @@ public class JMSBridgeHandler extends AbstractRuntimeOnlyHandler {
         if (null == operationName) {
             throw MessagingLogger.ROOT_LOGGER.unsupportedOperation(operationName);
         }
-        final boolean modify = !READ_ATTRIBUTE_OPERATION.equals(operationName);
+        final boolean modify = !READ_ATTRIBUTE_OPERATION.equals(operationName) && !LIST_LANES.equals(operationName);
         final ServiceName bridgeServiceName = MessagingServices.getJMSBridgeServiceName(bridgeName);
         final ServiceController<?> bridgeService = context.getServiceRegistry(modify).getService(bridgeServiceName);
         if (bridgeService == null) {
@@ -62,47 +65,65 @@ public class JMSBridgeHandler extends AbstractRuntimeOnlyHandler {
             }
             return;
         }
-        final JMSBridge bridge = JMSBridge.class.cast(bridgeService.getValue());
+        final JMSBridgeService service = (JMSBridgeService) bridgeService.getService();
+        final List<JMSBridge> lanes = service.getLanes();
         switch (operationName) {
             case READ_ATTRIBUTE_OPERATION:
                 readAttributeValidator.validate(operation);
                 final String name = operation.require(NAME).asString();
                 if (STARTED.equals(name)) {
-                    context.getResult().set(bridge.isStarted());
+                    context.getResult().set(lanes.stream().anyMatch(JMSBridge::isStarted));
                 } else if (PAUSED.getName().equals(name)) {
-                    context.getResult().set(bridge.isPaused());
+                    context.getResult().set(lanes.stream().allMatch(JMSBridge::isPaused));
                 }  else if (CommonAttributes.MESSAGE_COUNT.getName().equals(name)) {
-                    context.getResult().set(bridge.getMessageCount());
+                    context.getResult().set(lanes.stream().mapToLong(JMSBridge::getMessageCount).sum());
                 }  else if (ABORTED_MESSAGE_COUNT.getName().equals(name)) {
-                    context.getResult().set(bridge.getAbortedMessageCount());
+                    context.getResult().set(lanes.stream().mapToLong(JMSBridge::getAbortedMessageCount).sum());
                 } else {
                     throw MessagingLogger.ROOT_LOGGER.unsupportedAttribute(name);
                 }
                 break;
+            case LIST_LANES:
+                final ModelNode result = context.getResult().setEmptyList();
+                for (int i = 0; i < lanes.size(); i++) {
+                    JMSBridge lane = lanes.get(i);
+                    ModelNode laneNode = result.add();
+                    laneNode.get("lane").set(i);
+                    laneNode.get("bridge-name").set(lane.getBridgeName());
+                    laneNode.get(STARTED).set(lane.isStarted());
+                    laneNode.get(PAUSED.getName()).set(lane.isPaused());
+                    laneNode.get(CommonAttributes.MESSAGE_COUNT.getName()).set(lane.getMessageCount());
+                    laneNode.get(ABORTED_MESSAGE_COUNT.getName()).set(lane.getAbortedMessageCount());
+                    laneNode.get("throughput").set(service.getLaneThroughput(i));
+                }
+                break;
             case START:
                 try {
                     // we do not start the bridge directly but call startBridge() instead
                     // to ensure the class loader will be able to load any external resources
-                    JMSBridgeService service = (JMSBridgeService) bridgeService.getService();
                     service.startBridge();
                 } catch (Exception e) {
                     throw new RuntimeException(e);
                 }   break;
             case STOP:
                 try {
-                    bridge.stop();
+                    service.stopBridge();
                 } catch (Exception e) {
                     throw new RuntimeException(e);
                 }   break;
             case PAUSE:
                 try {
-                    bridge.pause();
+                    for (JMSBridge lane : lanes) {
+                        lane.pause();
+                    }
                 } catch (Exception e) {
                     throw new RuntimeException(e);
                 }   break;
             case RESUME:
                 try {
-                    bridge.resume();
+                    for (JMSBridge lane : lanes) {
+                        lane.resume();
+                    }
                 } catch (Exception e) {
                     throw new RuntimeException(e);
                 }
@@ -117,17 +138,20 @@ public class JMSBridgeHandler extends AbstractRuntimeOnlyHandler {
                 try {
                     switch (operationName) {
                         case START:
-                            bridge.stop();
+                            service.stopBridge();
                             break;
                         case STOP:
-                            JMSBridgeService service = (JMSBridgeService) bridgeService.getService();
                             service.startBridge();
                             break;
                         case PAUSE:
-                            bridge.resume();
+                            for (JMSBridge lane : lanes) {
+                                lane.resume();
+                            }
                             break;
                         case RESUME:
-                            bridge.pause();
+                            for (JMSBridge lane : lanes) {
+                                lane.pause();
+                            }
                             break;
                     }
                 } catch (Exception e) {
@@ -5,8 +5,11 @@
 
 package org.wildfly.extension.messaging.activemq.jms.bridge;
 
+import java.util.ArrayList;
+import java.util.List;
 import java.util.concurrent.ExecutorService;
 import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.atomic.AtomicLongArray;
 import java.util.function.Consumer;
 import java.util.function.Supplier;
 
@@ -27,11 +30,14 @@ import org.wildfly.transaction.client.ContextTransactionManager;
 
 /**
  * Service responsible for Jakarta Messaging Bridges.
+ * A bridge forwards messages with one or more lanes, each lane being a {@link JMSBridge} consuming from the same source destination.
  *
  * @author Jeff Mesnil (c) 2012 Red Hat Inc.
  */
 class JMSBridgeService implements Service<JMSBridge> {
-    private final JMSBridge bridge;
+    private final List<JMSBridge> lanes;
+    private final AtomicLongArray laneStartTimes;
+    private final AtomicLongArray laneStartMessageCounts;
     private final String bridgeName;
     private final String moduleName;
     private final Supplier<ExecutorService> executorSupplier;
@@ -42,12 +48,21 @@ class JMSBridgeService implements Service<JMSBridge> {
             Supplier<ExecutorService> executorSupplier,
             ExceptionSupplier<CredentialSource, Exception> sourceCredentialSourceSupplier,
             ExceptionSupplier<CredentialSource, Exception> targetCredentialSourceSupplier) {
-        if(bridge == null) {
+        this(moduleName, bridgeName, (bridge != null) ? List.of(bridge) : null, executorSupplier, sourceCredentialSourceSupplier, targetCredentialSourceSupplier);
+    }
+
+    public JMSBridgeService(final String moduleName, final String bridgeName, final List<JMSBridge> lanes,
+            Supplier<ExecutorService> executorSupplier,
+            ExceptionSupplier<CredentialSource, Exception> sourceCredentialSourceSupplier,
+            ExceptionSupplier<CredentialSource, Exception> targetCredentialSourceSupplier) {
+        if(lanes == null || lanes.isEmpty()) {
             throw MessagingLogger.ROOT_LOGGER.nullVar("bridge");
         }
         this.moduleName = moduleName;
         this.bridgeName = bridgeName;
-        this.bridge = bridge;
+        this.lanes = lanes;
+        this.laneStartTimes = new AtomicLongArray(lanes.size());
+        this.laneStartMessageCounts = new AtomicLongArray(lanes.size());
         this.executorSupplier = executorSupplier;
         this.sourceCredentialSourceSupplier = sourceCredentialSourceSupplier;
         this.targetCredentialSourceSupplier = targetCredentialSourceSupplier;
@@ -59,7 +74,9 @@ class JMSBridgeService implements Service<JMSBridge> {
             @Override
             public void run() {
                 try {
-                    bridge.setTransactionManager(ContextTransactionManager.getInstance());
+                    for (JMSBridge lane : lanes) {
+                        lane.setTransactionManager(ContextTransactionManager.getInstance());
+                    }
                     startBridge();
 
                     context.complete();
@@ -90,20 +107,48 @@ class JMSBridgeService implements Service<JMSBridge> {
         try {
             WildFlySecurityManager.setCurrentContextClassLoaderPrivileged(module.getClassLoader());
             setJMSBridgePasswordsFromCredentialSource();
-            bridge.start();
+            startLanes();
         } finally {
             WildFlySecurityManager.setCurrentContextClassLoaderPrivileged(oldTccl);
         }
         MessagingLogger.ROOT_LOGGER.startedService("JMS Bridge", bridgeName);
     }
 
+    /**
+     * Starts the lanes of the bridge that are not started yet.
+     * If a lane fails to start, the lanes started by this invocation are stopped, so that the bridge is not left partially started.
+     */
+    void startLanes() throws Exception {
+        List<JMSBridge> started = new ArrayList<>(lanes.size());
+        for (int i = 0; i < lanes.size(); i++) {
+            JMSBridge lane = lanes.get(i);
+            if (!lane.isStarted()) {
+                try {
+                    lane.start();
+                } catch (Exception e) {
+                    for (JMSBridge startedLane : started) {
+                        try {
+                            startedLane.stop();
+                        } catch (Exception ex) {
+                            e.addSuppressed(ex);
+                        }
+                    }
+                    throw e;
+                }
+                started.add(lane);
+                laneStartMessageCounts.set(i, lane.getMessageCount());
+                laneStartTimes.set(i, System.currentTimeMillis());
+            }
+        }
+    }
+
     @Override
     public synchronized void stop(final StopContext context) {
         final Runnable task = new Runnable() {
             @Override
             public void run() {
                 try {
-                    bridge.stop();
+                    stopBridge();
                     MessagingLogger.ROOT_LOGGER.stoppedService("JMS Bridge", bridgeName);
 
                     context.complete();
@@ -121,15 +166,57 @@ class JMSBridgeService implements Service<JMSBridge> {
         }
     }
 
+    /**
+     * Stops all the lanes of the bridge.
+     */
+    public void stopBridge() throws Exception {
+        Exception failure = null;
+        for (JMSBridge lane : lanes) {
+            try {
+                lane.stop();
+            } catch (Exception e) {
+                if (failure == null) {
+                    failure = e;
+                } else {
+                    failure.addSuppressed(e);
+                }
+            }
+        }
+        if (failure != null) {
+            throw failure;
+        }
+    }
+
+    /**
+     * Returns the first lane of the bridge, i.e. the bridge itself if it has a single lane.
+     */
     @Override
     public JMSBridge getValue() throws IllegalStateException {
-        return bridge;
+        return lanes.get(0);
+    }
+
+    List<JMSBridge> getLanes() {
+        return lanes;
+    }
+
+    /**
+     * Returns the average number of messages forwarded per second by the specified lane since it was last started.
+     */
+    long getLaneThroughput(int lane) {
+        long startTime = laneStartTimes.get(lane);
+        long elapsed = System.currentTimeMillis() - startTime;
+        if (startTime == 0 || elapsed <= 0) {
+            return 0L;
+        }
+        return ((lanes.get(lane).getMessageCount() - laneStartMessageCounts.get(lane)) * 1000L) / elapsed;
     }
 
 
     private void setJMSBridgePasswordsFromCredentialSource() {
-        setNewJMSBridgePassword(sourceCredentialSourceSupplier, bridge::setSourcePassword);
-        setNewJMSBridgePassword(targetCredentialSourceSupplier, bridge::setTargetPassword);
+        for (JMSBridge lane : lanes) {
+            setNewJMSBridgePassword(sourceCredentialSourceSupplier, lane::setSourcePassword);
+            setNewJMSBridgePassword(targetCredentialSourceSupplier, lane::setTargetPassword);
+        }
     }
 
     private void setNewJMSBridgePassword(ExceptionSupplier<CredentialSource, Exception> credentialSourceSupplier, Consumer<String> passwordConsumer) {
@@ -0,0 +1,118 @@
+/*
+ * Copyright The WildFly Authors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.wildfly.extension.messaging.activemq;
+
+import static org.mockito.Mockito.when;
+import static org.wildfly.extension.messaging.activemq.QueueMessageBrowserTestCase.message;
+
+import java.io.IOException;
+import java.io.StringWriter;
+import java.io.Writer;
+import java.util.function.UnaryOperator;
+
+import org.apache.activemq.artemis.api.core.Message;
+import org.apache.activemq.artemis.core.filter.impl.FilterImpl;
+import org.apache.activemq.artemis.core.message.impl.CoreMessage;
+import org.apache.activemq.artemis.core.server.Queue;
+import org.jboss.dmr.ModelNode;
+import org.junit.Assert;
+import org.junit.Test;
+
+/**
+ * Unit test of the paged, streamed and sampled queue inspection operations of {@link AbstractQueueControlHandler}.
+ */
+public class AbstractQueueControlHandlerTestCase {
+
+    private final QueueMessageBrowserTestCase queues = new QueueMessageBrowserTestCase();
+
+    @Test
+    public void isPaged() {
+        ModelNode operation = new ModelNode();
+        Assert.assertFalse(AbstractQueueControlHandler.isPaged(operation));
+        operation.get("offset").set(10L);
+        Assert.assertTrue(AbstractQueueControlHandler.isPaged(operation));
+        operation = new ModelNode();
+        operation.get("limit").set(10);
+        Assert.assertTrue(AbstractQueueControlHandler.isPaged(operation));
+    }
+
+    @Test
+    public void listMessages() throws Exception {
+        QueueMessageBrowser browser = this.browser(null, message(1, "red"), message(2, "blue"), message(3, "red"));
+
+        ModelNode result = AbstractQueueControlHandler.listMessages(browser, 1L, 1L, UnaryOperator.identity());
+        Assert.assertEquals(1, result.asList().size());
+        Assert.assertEquals(2L, result.get(0).get("messageID").asLong());
+        Assert.assertEquals("blue", result.get(0).get("color").asString());
+
+        // a page past the end of the queue is an empty list rather than undefined
+        result = AbstractQueueControlHandler.listMessages(browser, 5L, Long.MAX_VALUE, UnaryOperator.identity());
+        Assert.assertTrue(result.isDefined());
+        Assert.assertTrue(result.asList().isEmpty());
+    }
+
+    @Test
+    public void writeMessages() throws Exception {
+        QueueMessageBrowser browser = this.browser("color = 'red'", message(1, "red"), message(2, "blue"), message(3, "red"));
+        StringWriter writer = new StringWriter();
+
+        Assert.assertEquals(2L, AbstractQueueControlHandler.writeMessages(browser, writer, name -> "JMS" + name));
+
+        String[] lines = writer.toString().split("\n");
+        Assert.assertEquals(2, lines.length);
+        Assert.assertEquals(1L, ModelNode.fromJSONString(lines[0]).get("JMSmessageID").asLong());
+        Assert.assertEquals(3L, ModelNode.fromJSONString(lines[1]).get("JMSmessageID").asLong());
+    }
+
+    @Test(expected = IOException.class)
+    public void writeMessagesFailure() throws Exception {
+        QueueMessageBrowser browser = this.browser(null, message(1, "red"));
+        Writer writer = new Writer() {
+            @Override
+            public void write(char[] buffer, int offset, int length) throws IOException {
+                throw new IOException("disk full");
+            }
+
+            @Override
+            public void flush() {
+            }
+
+            @Override
+            public void close() {
+            }
+        };
+        // the failure of the writer is reported as is
+        AbstractQueueControlHandler.writeMessages(browser, writer, UnaryOperator.identity());
+    }
+
+    @Test
+    public void countMessagesByProperty() throws Exception {
+        QueueMessageBrowser browser = this.browser(null, message(1, "red"), message(2, "blue"), message(3, "red"), message(4, "green"), new CoreMessage(5, 50));
+
+        ModelNode result = AbstractQueueControlHandler.countMessagesByProperty(browser, "color", 10);
+        Assert.assertEquals(5L, result.get("message-count").asLong());
+        Assert.assertEquals(5L, result.get("sampled-message-count").asLong());
+        ModelNode counts = result.get("counts");
+        Assert.assertEquals(3, counts.keys().size());
+        Assert.assertEquals(2L, counts.get("red").asLong());
+        Assert.assertEquals(1L, counts.get("blue").asLong());
+        Assert.assertEquals(1L, counts.get("green").asLong());
+
+        // only the first messages of the queue are sampled
+        result = AbstractQueueControlHandler.countMessagesByProperty(browser, "color", 2);
+        Assert.assertEquals(5L, result.get("message-count").asLong());
+        Assert.assertEquals(2L, result.get("sampled-message-count").asLong());
+        Assert.assertEquals(2, result.get("counts").keys().size());
+        Assert.assertEquals(1L, result.get("counts", "red").asLong());
+        Assert.assertEquals(1L, result.get("counts", "blue").asLong());
+    }
+
+    private QueueMessageBrowser browser(String filter, Message... messages) throws Exception {
+        Queue queue = this.queues.queue(messages);
+        when(queue.getMessageCount()).thenReturn((long) messages.length);
+        return new QueueMessageBrowser(queue, FilterImpl.createFilter(filter));
+    }
+}
@@ -0,0 +1,154 @@
+/*
+ * Copyright The WildFly Authors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.wildfly.extension.messaging.activemq;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyBoolean;
+import static org.mockito.ArgumentMatchers.anyByte;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.doNothing;
+import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+
+import org.apache.activemq.artemis.api.core.ActiveMQException;
+import org.apache.activemq.artemis.api.core.Message;
+import org.apache.activemq.artemis.api.core.client.ClientMessage;
+import org.apache.activemq.artemis.api.core.client.ClientProducer;
+import org.apache.activemq.artemis.api.core.client.ClientSession;
+import org.apache.activemq.artemis.api.core.client.ClientSessionFactory;
+import org.apache.activemq.artemis.core.client.impl.ClientMessageImpl;
+import org.junit.Assert;
+import org.junit.Before;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+import org.wildfly.extension.messaging.activemq.ImportMessagesOperation.ImportProgress;
+import org.wildfly.extension.messaging.activemq.MessageChunkWriter.QueueDescription;
+
+/**
+ * Unit test for the resumption of an interrupted {@link ImportMessagesOperation}.
+ */
+public class ImportMessagesOperationTestCase {
+
+    private static final String CHUNK = "000000-000000" + MessageChunkWriter.CHUNK_FILE_SUFFIX;
+
+    @Rule
+    public TemporaryFolder folder = new TemporaryFolder();
+
+    private final QueueDescription queue = new QueueDescription("queue", "address", "ANYCAST", true, null);
+    private final List<Integer> sent = new ArrayList<>();
+    private Path directory;
+    private List<Path> chunks;
+    private ClientSession session;
+    private ClientSessionFactory factory;
+
+    @Before
+    public void setUp() throws Exception {
+        this.directory = this.folder.getRoot().toPath();
+        try (MessageChunkWriter writer = new MessageChunkWriter(this.directory, 0, this.queue, 10)) {
+            for (int i = 0; i < 5; ++i) {
+                ClientMessage message = createMessage();
+                message.putIntProperty("index", i);
+                writer.write(message);
+            }
+        }
+        this.chunks = Collections.singletonList(this.directory.resolve(CHUNK));
+
+        ClientProducer producer = mock(ClientProducer.class);
+        doAnswer(invocation -> {
+            Message message = invocation.getArgument(0);
+            Assert.assertTrue(message.containsProperty(Message.HDR_ROUTE_TO_IDS));
+            this.sent.add(message.getIntProperty("index"));
+            return null;
+        }).when(producer).send(any(Message.class));
+        this.session = mock(ClientSession.class);
+        when(this.session.createProducer(anyString())).thenReturn(producer);
+        when(this.session.createMessage(anyByte(), anyBoolean(), anyLong(), anyLong(), anyByte())).thenAnswer(invocation -> createMessage());
+        this.factory = mock(ClientSessionFactory.class);
+        when(this.factory.createTransactedSession()).thenReturn(this.session);
+    }
+
+    @Test
+    public void importChunks() throws Exception {
+        ImportProgress progress = this.progress();
+        Assert.assertEquals(5L, ImportMessagesOperation.importQueue(this.factory, this.queue, 1L, this.chunks, 2, progress));
+        Assert.assertEquals(Arrays.asList(0, 1, 2, 3, 4), this.sent);
+        Assert.assertEquals(-1L, progress.getCommitted(CHUNK));
+
+        // a complete chunk is not imported again
+        this.sent.clear();
+        Assert.assertEquals(0L, ImportMessagesOperation.importQueue(this.factory, this.queue, 1L, this.chunks, 2, this.progress()));
+        Assert.assertTrue(this.sent.isEmpty());
+    }
+
+    @Test
+    public void resumeAfterFailedCommit() throws Exception {
+        doNothing().doThrow(new ActiveMQException("commit failed")).doNothing().when(this.session).commit();
+        try {
+            ImportMessagesOperation.importQueue(this.factory, this.queue, 1L, this.chunks, 2, this.progress());
+            Assert.fail();
+        } catch (ActiveMQException e) {
+            // expected
+        }
+        Assert.assertEquals(2L, this.progress().getCommitted(CHUNK));
+
+        // the messages of the rolled back transaction are imported again, the committed ones are not
+        this.sent.clear();
+        ImportProgress progress = this.progress();
+        Assert.assertEquals(3L, ImportMessagesOperation.importQueue(this.factory, this.queue, 1L, this.chunks, 2, progress));
+        Assert.assertEquals(Arrays.asList(2, 3, 4), this.sent);
+        Assert.assertEquals(-1L, progress.getCommitted(CHUNK));
+    }
+
+    @Test
+    public void resumeAfterUnrecordedCommit() throws Exception {
+        // the import is interrupted after the second transaction is committed, but before its progress is recorded
+        ImportProgress interrupted = new ImportProgress(this.directory.resolve("import.progress")) {
+            private int calls;
+
+            @Override
+            synchronized void setCommitted(String chunk, long committed) throws IOException {
+                if (++this.calls == 2) {
+                    throw new IOException("interrupted");
+                }
+                super.setCommitted(chunk, committed);
+            }
+        };
+        try {
+            ImportMessagesOperation.importQueue(this.factory, this.queue, 1L, this.chunks, 2, interrupted);
+            Assert.fail();
+        } catch (IOException e) {
+            // expected
+        }
+        Assert.assertEquals(Arrays.asList(0, 1, 2, 3), this.sent);
+
+        // at least once: the committed but unrecorded batch is imported again, and only this batch
+        this.sent.clear();
+        ImportProgress progress = this.progress();
+        Assert.assertEquals(2L, progress.getCommitted(CHUNK));
+        Assert.assertEquals(3L, ImportMessagesOperation.importQueue(this.factory, this.queue, 1L, this.chunks, 2, progress));
+        Assert.assertEquals(Arrays.asList(2, 3, 4), this.sent);
+        Assert.assertEquals(-1L, progress.getCommitted(CHUNK));
+    }
+
+    private ImportProgress progress() throws IOException {
+        return new ImportProgress(this.directory.resolve("import.progress"));
+    }
+
+    private static ClientMessage createMessage() {
+        return new ClientMessageImpl(Message.TEXT_TYPE, true, 0L, System.currentTimeMillis(), (byte) 4, 1024, null);
+    }
+}
@@ -0,0 +1,120 @@
+/*
+ * Copyright The WildFly Authors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.wildfly.extension.messaging.activemq;
+
+import static org.mockito.ArgumentMatchers.anyBoolean;
+import static org.mockito.ArgumentMatchers.anyByte;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+import java.io.IOException;
+import java.nio.file.DirectoryStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+
+import org.apache.activemq.artemis.api.core.Message;
+import org.apache.activemq.artemis.api.core.SimpleString;
+import org.apache.activemq.artemis.api.core.client.ClientMessage;
+import org.apache.activemq.artemis.api.core.client.ClientSession;
+import org.apache.activemq.artemis.core.client.impl.ClientMessageImpl;
+import org.junit.Assert;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+import org.wildfly.extension.messaging.activemq.MessageChunkWriter.QueueDescription;
+
+/**
+ * Unit test for {@link MessageChunkWriter} and {@link MessageChunkReader}.
+ */
+public class MessageChunkTestCase {
+
+    @Rule
+    public TemporaryFolder folder = new TemporaryFolder();
+
+    private final QueueDescription queue = new QueueDescription("queue", "address", "ANYCAST", true, "color = 'red'");
+
+    @Test
+    public void chunks() throws Exception {
+        Path directory = this.folder.getRoot().toPath();
+        try (MessageChunkWriter writer = new MessageChunkWriter(directory, 3, this.queue, 2)) {
+            for (int i = 0; i < 5; ++i) {
+                ClientMessage message = createMessage();
+                message.putIntProperty("index", i);
+                message.putStringProperty("color", "red");
+                message.putBytesProperty(Message.HDR_ROUTE_TO_IDS, new byte[8]);
+                message.getBodyBuffer().writeBytes(new byte[] { (byte) i });
+                writer.write(message);
+            }
+        }
+
+        List<Path> chunks = listChunks(directory);
+        Assert.assertEquals(3, chunks.size());
+        Assert.assertEquals("000003-000000.chunk", chunks.get(0).getFileName().toString());
+
+        ClientSession session = mock(ClientSession.class);
+        when(session.createMessage(anyByte(), anyBoolean(), anyLong(), anyLong(), anyByte())).thenAnswer(invocation -> createMessage());
+
+        int index = 0;
+        for (Path chunk : chunks) {
+            try (MessageChunkReader reader = new MessageChunkReader(chunk)) {
+                Assert.assertEquals("queue", reader.getQueue().getName());
+                Assert.assertEquals("address", reader.getQueue().getAddress());
+                Assert.assertEquals("ANYCAST", reader.getQueue().getRoutingType());
+                Assert.assertTrue(reader.getQueue().isDurable());
+                Assert.assertEquals("color = 'red'", reader.getQueue().getFilter());
+                ClientMessage message = reader.read(session);
+                while (message != null) {
+                    Assert.assertEquals(index, message.getIntProperty("index").intValue());
+                    Assert.assertEquals(SimpleString.toSimpleString("red"), message.getObjectProperty(SimpleString.toSimpleString("color")));
+                    Assert.assertFalse(message.containsProperty(Message.HDR_ROUTE_TO_IDS));
+                    Assert.assertEquals(1, message.getBodyBuffer().readableBytes());
+                    Assert.assertEquals(index, message.getBodyBuffer().readByte());
+                    index += 1;
+                    message = reader.read(session);
+                }
+            }
+        }
+        Assert.assertEquals(5, index);
+    }
+
+    @Test
+    public void emptyQueue() throws Exception {
+        Path directory = this.folder.getRoot().toPath();
+        try (MessageChunkWriter writer = new MessageChunkWriter(directory, 0, this.queue, 2)) {
+            // no message
+        }
+
+        List<Path> chunks = listChunks(directory);
+        Assert.assertEquals(1, chunks.size());
+        try (MessageChunkReader reader = new MessageChunkReader(chunks.get(0))) {
+            Assert.assertEquals("queue", reader.getQueue().getName());
+            Assert.assertNull(reader.read(mock(ClientSession.class)));
+        }
+    }
+
+    @Test(expected = IOException.class)
+    public void invalidChunk() throws Exception {
+        Path chunk = this.folder.newFile("000000-000000.chunk").toPath();
+        Files.write(chunk, new byte[] { 1, 2, 3, 4, 5 });
+        new MessageChunkReader(chunk).close();
+    }
+
+    private static ClientMessage createMessage() {
+        return new ClientMessageImpl(Message.TEXT_TYPE, true, 0L, System.currentTimeMillis(), (byte) 4, 1024, null);
+    }
+
+    private static List<Path> listChunks(Path directory) throws IOException {
+        List<Path> chunks = new ArrayList<>();
+        try (DirectoryStream<Path> files = Files.newDirectoryStream(directory, "*" + MessageChunkWriter.CHUNK_FILE_SUFFIX)) {
+            files.forEach(chunks::add);
+        }
+        chunks.sort(null);
+        return chunks;
+    }
+}
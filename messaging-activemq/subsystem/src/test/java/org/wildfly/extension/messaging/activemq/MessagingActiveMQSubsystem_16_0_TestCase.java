@@ -15,46 +15,27 @@
  */
 package org.wildfly.extension.messaging.activemq;
 
-import static org.jboss.as.controller.PathElement.pathElement;
-import static org.jboss.as.model.test.ModelTestControllerVersion.EAP_7_4_0;
-import static org.junit.Assert.assertTrue;
 import static org.wildfly.extension.messaging.activemq.CommonAttributes.BRIDGE;
 import static org.wildfly.extension.messaging.activemq.CommonAttributes.DEFAULT;
 import static org.wildfly.extension.messaging.activemq.CommonAttributes.SERVER;
 import static org.wildfly.extension.messaging.activemq.CommonAttributes.SUBSYSTEM;
-import static org.wildfly.extension.messaging.activemq.MessagingDependencies.getActiveMQDependencies;
-import static org.wildfly.extension.messaging.activemq.MessagingDependencies.getJGroupsDependencies;
-import static org.wildfly.extension.messaging.activemq.MessagingDependencies.getMessagingActiveMQGAV;
-import static org.wildfly.extension.messaging.activemq.MessagingExtension.ADDRESS_SETTING_PATH;
-import static org.wildfly.extension.messaging.activemq.MessagingExtension.BRIDGE_PATH;
-import static org.wildfly.extension.messaging.activemq.MessagingExtension.EXTERNAL_JMS_QUEUE_PATH;
-import static org.wildfly.extension.messaging.activemq.MessagingExtension.EXTERNAL_JMS_TOPIC_PATH;
-import static org.wildfly.extension.messaging.activemq.MessagingExtension.SERVER_PATH;
-import static org.wildfly.extension.messaging.activemq.MessagingExtension.SUBSYSTEM_PATH;
 
 import java.io.IOException;
 import java.util.HashSet;
-import java.util.List;
 import java.util.Properties;
 import java.util.Set;
 
-import org.jboss.as.controller.ModelVersion;
 import org.jboss.as.controller.PathAddress;
 import org.jboss.as.controller.security.CredentialReference;
-import org.jboss.as.model.test.FailedOperationTransformationConfig;
-import org.jboss.as.model.test.ModelTestControllerVersion;
-import org.jboss.as.model.test.ModelTestUtils;
 import org.jboss.as.subsystem.test.AbstractSubsystemBaseTest;
 import org.jboss.as.subsystem.test.AdditionalInitialization;
 import org.jboss.as.subsystem.test.KernelServices;
-import org.jboss.as.subsystem.test.KernelServicesBuilder;
 import org.jboss.dmr.ModelNode;
 import org.junit.Assert;
 import org.junit.Test;
 import org.wildfly.clustering.jgroups.spi.JGroupsDefaultRequirement;
 import org.wildfly.clustering.server.service.ClusteringDefaultRequirement;
 import org.wildfly.clustering.server.service.ClusteringRequirement;
-import org.wildfly.extension.messaging.activemq.jms.ConnectionFactoryAttributes;
 
 public class MessagingActiveMQSubsystem_16_0_TestCase extends AbstractSubsystemBaseTest {
 
@@ -80,6 +61,11 @@ public class MessagingActiveMQSubsystem_16_0_TestCase extends AbstractSubsystemB
         return properties;
     }
 
+    @Override
+    protected KernelServices standardSubsystemTest(String configId, boolean compareXml) throws Exception {
+        return super.standardSubsystemTest(configId, false);
+    }
+
     @Test
     public void testJournalAttributes() throws Exception {
         KernelServices kernelServices = standardSubsystemTest(null, false);
@@ -115,102 +101,6 @@ public class MessagingActiveMQSubsystem_16_0_TestCase extends AbstractSubsystemB
         standardSubsystemTest("subsystem_16_0_ha-policy.xml");
     }
 
-    ///////////////////////
-    // Transformers test //
-    ///////////////////////
-    @Test
-    public void testTransformersWildfly28() throws Exception {
-        testTransformers(ModelTestControllerVersion.MASTER, MessagingExtension.VERSION_15_0_0);
-    }
-
-    @Test
-    public void testTransformersWildfly27() throws Exception {
-        testTransformers(ModelTestControllerVersion.MASTER, MessagingExtension.VERSION_14_0_0);
-    }
-
-    @Test
-    public void testTransformersWildfly26_1() throws Exception {
-        testTransformers(ModelTestControllerVersion.MASTER, MessagingExtension.VERSION_13_1_0);
-    }
-
-    @Test
-    public void testTransformersWildfly25() throws Exception {
-        testTransformers(ModelTestControllerVersion.MASTER, MessagingExtension.VERSION_13_0_0);
-    }
-
-    @Test
-    public void testTransformersEAP_7_4_0() throws Exception {
-        testTransformers(EAP_7_4_0, MessagingExtension.VERSION_13_0_0);
-    }
-
-    @Test
-    public void testRejectingTransformersEAP_7_4_0() throws Exception {
-        testRejectingTransformers(EAP_7_4_0, MessagingExtension.VERSION_13_0_0);
-    }
-
-    private void testTransformers(ModelTestControllerVersion controllerVersion, ModelVersion messagingVersion) throws Exception {
-        //Boot up empty controllers with the resources needed for the ops coming from the xml to work
-        KernelServicesBuilder builder = createKernelServicesBuilder(createAdditionalInitialization())
-                .setSubsystemXmlResource("subsystem_16_0_transform.xml");
-        builder.createLegacyKernelServicesBuilder(createAdditionalInitialization(), controllerVersion, messagingVersion)
-                .addMavenResourceURL(getMessagingActiveMQGAV(controllerVersion))
-                .addMavenResourceURL(getActiveMQDependencies(controllerVersion))
-                .addMavenResourceURL(getJGroupsDependencies(controllerVersion))
-                .skipReverseControllerCheck()
-                .dontPersistXml();
-
-        KernelServices mainServices = builder.build();
-        assertTrue(mainServices.isSuccessfulBoot());
-        assertTrue(mainServices.getLegacyServices(messagingVersion).isSuccessfulBoot());
-
-        checkSubsystemModelTransformation(mainServices, messagingVersion, (ModelNode modelNode) -> {
-            ModelNode legacyModel = modelNode.clone();
-            if (modelNode.hasDefined("server", "default", "address-setting", "test", "page-size-bytes")) {
-                int legacyNodeValue = modelNode.get("server", "default", "address-setting", "test", "page-size-bytes").asInt();
-                legacyModel.get("server", "default", "address-setting", "test", "page-size-bytes").set(legacyNodeValue);
-            }
-            return legacyModel;
-        });
-        mainServices.shutdown();
-    }
-
-    private void testRejectingTransformers(ModelTestControllerVersion controllerVersion, ModelVersion messagingVersion) throws Exception {
-        //Boot up empty controllers with the resources needed for the ops coming from the xml to work
-        KernelServicesBuilder builder = createKernelServicesBuilder(createAdditionalInitialization());
-        builder.createLegacyKernelServicesBuilder(createAdditionalInitialization(), controllerVersion, messagingVersion)
-                .addMavenResourceURL(getMessagingActiveMQGAV(controllerVersion))
-                .addMavenResourceURL(getActiveMQDependencies(controllerVersion))
-                .addMavenResourceURL(getJGroupsDependencies(controllerVersion))
-                .skipReverseControllerCheck()
-                .dontPersistXml();
-
-        KernelServices mainServices = builder.build();
-        assertTrue(mainServices.isSuccessfulBoot());
-        assertTrue(mainServices.getLegacyServices(messagingVersion).isSuccessfulBoot());
-
-        List<ModelNode> ops = builder.parseXmlResource("subsystem_16_0_reject_transform.xml");
-//        System.out.println("ops = " + ops);
-        PathAddress subsystemAddress = PathAddress.pathAddress(SUBSYSTEM_PATH);
-
-        FailedOperationTransformationConfig config = new FailedOperationTransformationConfig();
-        config.addFailedAttribute(subsystemAddress.append(EXTERNAL_JMS_QUEUE_PATH),
-                new FailedOperationTransformationConfig.NewAttributesConfig(ConnectionFactoryAttributes.External.ENABLE_AMQ1_PREFIX));
-        config.addFailedAttribute(subsystemAddress.append(EXTERNAL_JMS_TOPIC_PATH),
-                new FailedOperationTransformationConfig.NewAttributesConfig(ConnectionFactoryAttributes.External.ENABLE_AMQ1_PREFIX));
-        config.addFailedAttribute(subsystemAddress.append(SERVER_PATH, BRIDGE_PATH), new FailedOperationTransformationConfig.NewAttributesConfig(BridgeDefinition.ROUTING_TYPE));
-        config.addFailedAttribute(subsystemAddress.append(SERVER_PATH), new FailedOperationTransformationConfig.NewAttributesConfig(
-                ServerDefinition.ADDRESS_QUEUE_SCAN_PERIOD
-        ));
-
-        config.addFailedAttribute(subsystemAddress.append(SERVER_PATH, pathElement(CommonAttributes.REMOTE_CONNECTOR)), new FailedOperationTransformationConfig.NewAttributesConfig(CommonAttributes.SSL_CONTEXT));
-        config.addFailedAttribute(subsystemAddress.append(SERVER_PATH, pathElement(CommonAttributes.HTTP_CONNECTOR)), new FailedOperationTransformationConfig.NewAttributesConfig(CommonAttributes.SSL_CONTEXT));
-        config.addFailedAttribute(subsystemAddress.append(SERVER_PATH, pathElement(CommonAttributes.REMOTE_ACCEPTOR)), new FailedOperationTransformationConfig.NewAttributesConfig(CommonAttributes.SSL_CONTEXT));
-        config.addFailedAttribute(subsystemAddress.append(SERVER_PATH, pathElement(CommonAttributes.HTTP_ACCEPTOR)), new FailedOperationTransformationConfig.NewAttributesConfig(CommonAttributes.SSL_CONTEXT));
-        config.addFailedAttribute(subsystemAddress.append(SERVER_PATH, ADDRESS_SETTING_PATH), new FailedOperationTransformationConfig.NewAttributesConfig(AddressSettingDefinition.MAX_READ_PAGE_BYTES));
-        ModelTestUtils.checkFailedTransformedBootOperations(mainServices, messagingVersion, ops, config);
-        mainServices.shutdown();
-    }
-
     @Override
     protected Set<PathAddress> getIgnoredChildResourcesForRemovalTest() {
         Set<PathAddress> ignoredChildResources = new HashSet<>(super.getIgnoredChildResourcesForRemovalTest());
@@ -0,0 +1,122 @@
+/*
+ * Copyright The WildFly Authors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.wildfly.extension.messaging.activemq;
+
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Iterator;
+import java.util.List;
+import java.util.function.UnaryOperator;
+
+import org.apache.activemq.artemis.api.core.Message;
+import org.apache.activemq.artemis.api.core.SimpleString;
+import org.apache.activemq.artemis.core.filter.impl.FilterImpl;
+import org.apache.activemq.artemis.core.message.impl.CoreMessage;
+import org.apache.activemq.artemis.core.server.ActiveMQServer;
+import org.apache.activemq.artemis.core.server.MessageReference;
+import org.apache.activemq.artemis.core.server.Queue;
+import org.apache.activemq.artemis.utils.collections.LinkedListIterator;
+import org.jboss.dmr.ModelNode;
+import org.junit.Assert;
+import org.junit.Test;
+
+/**
+ * Unit test for {@link QueueMessageBrowser}.
+ */
+public class QueueMessageBrowserTestCase {
+
+    private final List<LinkedListIterator<MessageReference>> iterators = new ArrayList<>();
+
+    @Test
+    public void browse() throws Exception {
+        QueueMessageBrowser browser = new QueueMessageBrowser(this.queue(message(1, "red"), message(2, "blue"), message(3, "red")), null);
+        List<Long> ids = new ArrayList<>();
+
+        Assert.assertEquals(3L, browser.browse(0L, Long.MAX_VALUE, message -> ids.add(message.getMessageID())));
+        Assert.assertEquals(Arrays.asList(1L, 2L, 3L), ids);
+        // the queue iterator is always closed
+        verify(this.iterators.get(0)).close();
+    }
+
+    @Test
+    public void browsePage() throws Exception {
+        QueueMessageBrowser browser = new QueueMessageBrowser(this.queue(message(1, "red"), message(2, "blue"), message(3, "red"), message(4, "blue")), null);
+        List<Long> ids = new ArrayList<>();
+
+        Assert.assertEquals(2L, browser.browse(1L, 2L, message -> ids.add(message.getMessageID())));
+        Assert.assertEquals(Arrays.asList(2L, 3L), ids);
+
+        ids.clear();
+        Assert.assertEquals(0L, browser.browse(4L, 2L, message -> ids.add(message.getMessageID())));
+        Assert.assertTrue(ids.isEmpty());
+    }
+
+    @Test
+    public void browseFiltered() throws Exception {
+        QueueMessageBrowser browser = new QueueMessageBrowser(this.queue(message(1, "red"), message(2, "blue"), message(3, "red"), message(4, "red")), FilterImpl.createFilter("color = 'red'"));
+        List<Long> ids = new ArrayList<>();
+
+        // the offset and the limit apply to the matching messages
+        Assert.assertEquals(2L, browser.browse(1L, 5L, message -> ids.add(message.getMessageID())));
+        Assert.assertEquals(Arrays.asList(3L, 4L), ids);
+    }
+
+    @Test
+    public void create() throws Exception {
+        ActiveMQServer server = mock(ActiveMQServer.class);
+        Queue queue = this.queue(message(1, "red"));
+        when(queue.getMessageCount()).thenReturn(1L);
+        when(server.locateQueue(SimpleString.toSimpleString("queue"))).thenReturn(queue);
+
+        QueueMessageBrowser browser = QueueMessageBrowser.create(server, "queue", null);
+        Assert.assertNotNull(browser);
+        Assert.assertEquals(1L, browser.getMessageCount());
+        Assert.assertNull(QueueMessageBrowser.create(server, "missing", null));
+    }
+
+    @Test
+    public void toModelNode() {
+        ModelNode node = QueueMessageBrowser.toModelNode(message(1, "red"), UnaryOperator.identity());
+        Assert.assertEquals(1L, node.get("messageID").asLong());
+        Assert.assertEquals("red", node.get("color").asString());
+
+        // property names are converted, e.g. into JMS property names
+        node = QueueMessageBrowser.toModelNode(message(1, "red"), name -> "JMS" + name);
+        Assert.assertEquals("red", node.get("JMScolor").asString());
+        Assert.assertFalse(node.has("color"));
+    }
+
+    static Message message(long id, String color) {
+        return new CoreMessage(id, 50).putStringProperty("color", color);
+    }
+
+    /**
+     * Creates a queue of the specified messages, whose browser iterators are recorded.
+     */
+    @SuppressWarnings("unchecked")
+    Queue queue(Message... messages) {
+        List<MessageReference> references = new ArrayList<>(messages.length);
+        for (Message message : messages) {
+            MessageReference reference = mock(MessageReference.class);
+            when(reference.getMessage()).thenReturn(message);
+            references.add(reference);
+        }
+        Queue queue = mock(Queue.class);
+        when(queue.browserIterator()).thenAnswer(invocation -> {
+            Iterator<MessageReference> source = references.iterator();
+            LinkedListIterator<MessageReference> iterator = mock(LinkedListIterator.class);
+            when(iterator.hasNext()).thenAnswer(hasNext -> source.hasNext());
+            when(iterator.next()).thenAnswer(next -> source.next());
+            this.iterators.add(iterator);
+            return iterator;
+        });
+        return queue;
+    }
+}
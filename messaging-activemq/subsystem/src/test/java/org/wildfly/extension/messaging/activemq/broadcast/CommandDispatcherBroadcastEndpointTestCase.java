@@ -0,0 +1,72 @@
+/*
+ * Copyright The WildFly Authors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.wildfly.extension.messaging.activemq.broadcast;
+
+import static org.mockito.ArgumentMatchers.isA;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.time.Duration;
+
+import org.junit.Assert;
+import org.junit.Test;
+import org.wildfly.clustering.dispatcher.CommandDispatcher;
+import org.wildfly.clustering.dispatcher.CommandDispatcherFactory;
+import org.wildfly.clustering.group.Group;
+import org.wildfly.clustering.group.Node;
+
+/**
+ * Unit test for {@link CommandDispatcherBroadcastEndpoint}.
+ */
+public class CommandDispatcherBroadcastEndpointTestCase {
+
+    private final CommandDispatcherFactory factory = mock(CommandDispatcherFactory.class);
+    private final BroadcastReceiverRegistrar registrar = mock(BroadcastReceiverRegistrar.class);
+    private final CommandDispatcher<BroadcastReceiver> dispatcher = mock(CommandDispatcher.class);
+    private final BroadcastStatistics statistics = new BroadcastStatistics();
+
+    public CommandDispatcherBroadcastEndpointTestCase() {
+        Group group = mock(Group.class);
+        Node member = mock(Node.class);
+        when(this.factory.getGroup()).thenReturn(group);
+        when(group.getLocalMember()).thenReturn(member);
+        when(member.getName()).thenReturn("node1");
+        when(this.factory.<BroadcastReceiver>createCommandDispatcher("test", this.registrar)).thenReturn(this.dispatcher);
+    }
+
+    @Test
+    public void broadcast() throws Exception {
+        CommandDispatcherBroadcastEndpoint endpoint = new CommandDispatcherBroadcastEndpoint(this.factory, "test", this.registrar, QueueBroadcastManager::new, this.statistics, Duration.ZERO);
+        endpoint.openBroadcaster();
+
+        endpoint.broadcast(new byte[] { 1 });
+        endpoint.broadcast(new byte[] { 1 });
+
+        verify(this.dispatcher, times(2)).executeOnGroup(isA(BroadcastCommand.class));
+        Assert.assertEquals(0L, this.statistics.getCoalescedBroadcasts());
+
+        endpoint.close(true);
+    }
+
+    @Test
+    public void coalescedBroadcast() throws Exception {
+        CommandDispatcherBroadcastEndpoint endpoint = new CommandDispatcherBroadcastEndpoint(this.factory, "test", this.registrar, QueueBroadcastManager::new, this.statistics, Duration.ofMinutes(1));
+        endpoint.openBroadcaster();
+
+        endpoint.broadcast(new byte[] { 1 });
+        endpoint.broadcast(new byte[] { 1 });
+        // A changed broadcast is sent immediately
+        endpoint.broadcast(new byte[] { 2 });
+        endpoint.broadcast(new byte[] { 2 });
+
+        verify(this.dispatcher, times(2)).executeOnGroup(isA(SenderBroadcastCommand.class));
+        Assert.assertEquals(2L, this.statistics.getCoalescedBroadcasts());
+
+        endpoint.close(true);
+    }
+}
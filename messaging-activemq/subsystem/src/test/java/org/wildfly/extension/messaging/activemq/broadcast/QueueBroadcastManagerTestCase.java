@@ -0,0 +1,89 @@
+/*
+ * Copyright The WildFly Authors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.wildfly.extension.messaging.activemq.broadcast;
+
+import java.util.concurrent.TimeUnit;
+
+import org.junit.Assert;
+import org.junit.Test;
+
+/**
+ * Unit test for {@link QueueBroadcastManager}.
+ */
+public class QueueBroadcastManagerTestCase {
+
+    private final BroadcastStatistics statistics = new BroadcastStatistics();
+
+    @Test
+    public void latestBroadcastPerSender() throws InterruptedException {
+        BroadcastManager manager = new QueueBroadcastManager("test", this.statistics);
+        byte[] data1 = new byte[] { 1 };
+        byte[] data2 = new byte[] { 2 };
+        byte[] data3 = new byte[] { 3 };
+
+        manager.receive("node1", data1);
+        manager.receive("node2", data2);
+        manager.receive("node1", data3);
+
+        // Superseded broadcast keeps its position
+        Assert.assertSame(data3, manager.getBroadcast());
+        Assert.assertSame(data2, manager.getBroadcast());
+        Assert.assertNull(manager.getBroadcast(0, TimeUnit.MILLISECONDS));
+        Assert.assertEquals(1L, this.statistics.getCoalescedReceivedBroadcasts());
+        Assert.assertEquals(0L, this.statistics.getDroppedReceivedBroadcasts());
+    }
+
+    @Test
+    public void unknownSender() throws InterruptedException {
+        BroadcastManager manager = new QueueBroadcastManager("test", this.statistics);
+        byte[] data1 = new byte[] { 1 };
+        byte[] data2 = new byte[] { 1 };
+
+        manager.receive(data1);
+        manager.receive(data2);
+
+        // Broadcasts of unknown senders are all delivered, in order, even if identical
+        Assert.assertSame(data1, manager.getBroadcast());
+        Assert.assertSame(data2, manager.getBroadcast());
+        Assert.assertNull(manager.getBroadcast(0, TimeUnit.MILLISECONDS));
+        Assert.assertEquals(0L, this.statistics.getCoalescedReceivedBroadcasts());
+    }
+
+    @Test
+    public void unbounded() throws InterruptedException {
+        BroadcastManager manager = new QueueBroadcastManager("test", this.statistics);
+
+        for (int i = 0; i < 1000; ++i) {
+            manager.receive(new byte[] { (byte) i });
+        }
+        for (int i = 0; i < 1000; ++i) {
+            Assert.assertArrayEquals(new byte[] { (byte) i }, manager.getBroadcast(0, TimeUnit.MILLISECONDS));
+        }
+        Assert.assertEquals(0L, this.statistics.getDroppedReceivedBroadcasts());
+    }
+
+    @Test
+    public void bounded() throws InterruptedException {
+        BroadcastManager manager = new QueueBroadcastManager("test", 2, this.statistics);
+        byte[] data1 = new byte[] { 1 };
+        byte[] data2 = new byte[] { 2 };
+        byte[] data3 = new byte[] { 3 };
+
+        manager.receive("node1", data1);
+        manager.receive(data2);
+        manager.receive("node3", data3);
+
+        // Oldest broadcast was dropped
+        Assert.assertSame(data2, manager.getBroadcast());
+        Assert.assertSame(data3, manager.getBroadcast());
+        Assert.assertEquals(1L, this.statistics.getDroppedReceivedBroadcasts());
+
+        manager.receive("node1", data1);
+        manager.clear();
+
+        Assert.assertNull(manager.getBroadcast(10, TimeUnit.MILLISECONDS));
+    }
+}
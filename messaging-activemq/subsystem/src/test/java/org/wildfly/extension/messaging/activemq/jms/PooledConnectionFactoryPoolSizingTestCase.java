@@ -0,0 +1,98 @@
+/*
+ * Copyright The WildFly Authors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.wildfly.extension.messaging.activemq.jms;
+
+import java.util.concurrent.TimeUnit;
+
+import org.junit.Assert;
+import org.junit.Test;
+
+/**
+ * Unit test for {@link PooledConnectionFactoryPoolSizingService} and {@link PooledConnectionFactoryStatistics}.
+ */
+public class PooledConnectionFactoryPoolSizingTestCase {
+
+    private static final int QUIET_SAMPLES = 6;
+    private static final long WAIT_THRESHOLD_NANOS = TimeUnit.MILLISECONDS.toNanos(10);
+
+    @Test
+    public void growAndShrink() {
+        PooledConnectionFactoryPoolSizingService service = new PooledConnectionFactoryPoolSizingService("pcf", new PooledConnectionFactoryStatistics(8), 8, 12, 5000, 10, QUIET_SAMPLES, 25);
+        long count = 0;
+        long nanos = 0;
+
+        // acquisitions waiting longer than the threshold grow the pool by a quarter, up to the adaptive maximum
+        count += 10;
+        nanos += 10 * WAIT_THRESHOLD_NANOS;
+        Assert.assertEquals(10, service.nextMaxPoolSize(count, nanos));
+        count += 10;
+        nanos += 10 * WAIT_THRESHOLD_NANOS;
+        Assert.assertEquals(12, service.nextMaxPoolSize(count, nanos));
+        count += 10;
+        nanos += 20 * WAIT_THRESHOLD_NANOS;
+        Assert.assertEquals(12, service.nextMaxPoolSize(count, nanos));
+
+        // the pool shrinks once acquisitions stopped waiting for several samples
+        for (int i = 1; i < QUIET_SAMPLES; ++i) {
+            count += 10;
+            Assert.assertEquals(12, service.nextMaxPoolSize(count, nanos));
+        }
+        count += 10;
+        Assert.assertEquals(9, service.nextMaxPoolSize(count, nanos));
+        for (int i = 0; i < QUIET_SAMPLES; ++i) {
+            service.nextMaxPoolSize(count, nanos);
+        }
+        Assert.assertEquals(8, service.nextMaxPoolSize(count, nanos));
+        for (int i = 0; i < QUIET_SAMPLES; ++i) {
+            Assert.assertEquals(8, service.nextMaxPoolSize(count, nanos));
+        }
+
+        // cleared statistics do not resize the pool
+        Assert.assertEquals(8, service.nextMaxPoolSize(0, 0));
+    }
+
+    @Test
+    public void configuredSizing() {
+        // grows and shrinks by half, above a 50 ms threshold, after 2 quiet samples
+        PooledConnectionFactoryPoolSizingService service = new PooledConnectionFactoryPoolSizingService("pcf", new PooledConnectionFactoryStatistics(10), 10, 40, 1000, 50, 2, 50);
+        long count = 10;
+        long nanos = 10 * WAIT_THRESHOLD_NANOS;
+        // below the configured threshold
+        Assert.assertEquals(10, service.nextMaxPoolSize(count, nanos));
+        count += 10;
+        nanos += 10 * TimeUnit.MILLISECONDS.toNanos(50);
+        Assert.assertEquals(15, service.nextMaxPoolSize(count, nanos));
+        count += 10;
+        nanos += 10 * TimeUnit.MILLISECONDS.toNanos(50);
+        Assert.assertEquals(22, service.nextMaxPoolSize(count, nanos));
+
+        count += 10;
+        Assert.assertEquals(22, service.nextMaxPoolSize(count, nanos));
+        count += 10;
+        Assert.assertEquals(11, service.nextMaxPoolSize(count, nanos));
+        count += 10;
+        Assert.assertEquals(11, service.nextMaxPoolSize(count, nanos));
+        count += 10;
+        Assert.assertEquals(10, service.nextMaxPoolSize(count, nanos));
+    }
+
+    @Test
+    public void sessionReuse() {
+        PooledConnectionFactoryStatistics statistics = new PooledConnectionFactoryStatistics(8);
+        Assert.assertEquals(0L, statistics.getValue("SessionReusePercentage"));
+        statistics.recordCreation();
+        for (int i = 0; i < 4; ++i) {
+            statistics.recordAcquisition(1000L);
+        }
+        Assert.assertEquals(4L, statistics.getValue("SessionAcquisitionCount"));
+        Assert.assertEquals(75L, statistics.getValue("SessionReusePercentage"));
+        Assert.assertEquals(8L, statistics.getValue("MaxPoolSize"));
+
+        statistics.clear();
+        Assert.assertEquals(0L, statistics.getValue("SessionAcquisitionCount"));
+        Assert.assertEquals(0L, statistics.getAcquisitionNanos());
+    }
+}
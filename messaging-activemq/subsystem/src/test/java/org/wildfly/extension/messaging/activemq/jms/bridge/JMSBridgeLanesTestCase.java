@@ -0,0 +1,156 @@
+/*
+ * Copyright The WildFly Authors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.wildfly.extension.messaging.activemq.jms.bridge;
+
+import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+import org.apache.activemq.artemis.api.core.ActiveMQException;
+import org.apache.activemq.artemis.api.core.Message;
+import org.apache.activemq.artemis.core.filter.Filter;
+import org.apache.activemq.artemis.core.filter.impl.FilterImpl;
+import org.apache.activemq.artemis.core.message.impl.CoreMessage;
+import org.apache.activemq.artemis.jms.bridge.JMSBridge;
+import org.junit.Assert;
+import org.junit.Test;
+
+/**
+ * Unit test for the lanes of a Jakarta Messaging bridge.
+ */
+public class JMSBridgeLanesTestCase {
+
+    @Test
+    public void laneName() {
+        Assert.assertEquals("bridge", JMSBridgeFactory.laneName("bridge", 1, 0));
+        Assert.assertEquals("bridge-lane-0", JMSBridgeFactory.laneName("bridge", 3, 0));
+        Assert.assertEquals("bridge-lane-2", JMSBridgeFactory.laneName("bridge", 3, 2));
+        Assert.assertNull(JMSBridgeFactory.laneName(null, 3, 1));
+    }
+
+    @Test
+    public void competingLanes() {
+        Assert.assertNull(JMSBridgeFactory.laneSelector(null, null, 4, 1));
+        Assert.assertEquals("color = 'red'", JMSBridgeFactory.laneSelector("color = 'red'", null, 4, 1));
+        Assert.assertEquals("color = 'red'", JMSBridgeFactory.laneSelector("color = 'red'", "partition", 1, 0));
+    }
+
+    @Test
+    public void partitionedLanes() throws Exception {
+        List<Filter> filters = filters(null, 3);
+        for (int value = -7; value <= 7; value++) {
+            int expected = ((value % 3) + 3) % 3;
+            Assert.assertEquals(Arrays.asList(expected), matchingLanes(filters, message(value, "red")));
+            Message message = new CoreMessage(1L, 128);
+            message.putLongProperty("partition", value);
+            Assert.assertEquals(Arrays.asList(expected), matchingLanes(filters, message));
+        }
+        // messages without partition are forwarded by the first lane
+        Assert.assertEquals(Arrays.asList(0), matchingLanes(filters, new CoreMessage(1L, 128)));
+    }
+
+    @Test
+    public void nonIntegerPartitions() throws Exception {
+        List<Filter> filters = filters(null, 4);
+        // values that are not integer numbers are forwarded by the first lane rather than left in the source queue
+        Message message = new CoreMessage(1L, 128);
+        message.putStringProperty("partition", "5");
+        Assert.assertEquals(Arrays.asList(0), matchingLanes(filters, message));
+        message = new CoreMessage(1L, 128);
+        message.putBooleanProperty("partition", true);
+        Assert.assertEquals(Arrays.asList(0), matchingLanes(filters, message));
+        for (double value : new double[] { 2.5, -1.5, Double.NaN, Double.POSITIVE_INFINITY }) {
+            message = new CoreMessage(1L, 128);
+            message.putDoubleProperty("partition", value);
+            Assert.assertEquals(Arrays.asList(0), matchingLanes(filters, message));
+        }
+        // integer values of a floating point property are partitioned as integers
+        message = new CoreMessage(1L, 128);
+        message.putDoubleProperty("partition", -7.0);
+        Assert.assertEquals(Arrays.asList(1), matchingLanes(filters, message));
+        message = new CoreMessage(1L, 128);
+        message.putDoubleProperty("partition", -8.0);
+        Assert.assertEquals(Arrays.asList(0), matchingLanes(filters, message));
+        // values beyond the double precision still belong to a single lane
+        message = new CoreMessage(1L, 128);
+        message.putLongProperty("partition", Long.MAX_VALUE);
+        Assert.assertEquals(1, matchingLanes(filters, message).size());
+    }
+
+    @Test
+    public void partitionedLanesWithSelector() throws Exception {
+        List<Filter> filters = filters("color = 'red'", 2);
+        Assert.assertEquals(Arrays.asList(1), matchingLanes(filters, message(5, "red")));
+        Assert.assertEquals(Arrays.asList(0), matchingLanes(filters, message(4, "red")));
+        Assert.assertTrue(matchingLanes(filters, message(4, "blue")).isEmpty());
+    }
+
+    @Test
+    public void startLanes() throws Exception {
+        JMSBridge first = mock(JMSBridge.class);
+        JMSBridge second = mock(JMSBridge.class);
+        when(second.isStarted()).thenReturn(true);
+        JMSBridgeService service = new JMSBridgeService(null, "bridge", Arrays.asList(first, second), null, null, null);
+
+        service.startLanes();
+        verify(first).start();
+        // a started lane is not started again
+        verify(second, never()).start();
+    }
+
+    @Test
+    public void startFailureStopsStartedLanes() throws Exception {
+        JMSBridge first = mock(JMSBridge.class);
+        JMSBridge second = mock(JMSBridge.class);
+        when(second.isStarted()).thenReturn(true);
+        JMSBridge third = mock(JMSBridge.class);
+        Exception failure = new Exception("failed");
+        doThrow(failure).when(third).start();
+        JMSBridgeService service = new JMSBridgeService(null, "bridge", Arrays.asList(first, second, third), null, null, null);
+
+        try {
+            service.startLanes();
+            Assert.fail();
+        } catch (Exception e) {
+            Assert.assertSame(failure, e);
+        }
+        // only the lanes started by the failed invocation are stopped
+        verify(first).stop();
+        verify(second, never()).stop();
+        verify(third, never()).stop();
+    }
+
+    private static List<Filter> filters(String selector, int lanes) throws ActiveMQException {
+        List<Filter> filters = new ArrayList<>(lanes);
+        for (int lane = 0; lane < lanes; lane++) {
+            filters.add(FilterImpl.createFilter(JMSBridgeFactory.laneSelector(selector, "partition", lanes, lane)));
+        }
+        return filters;
+    }
+
+    private static List<Integer> matchingLanes(List<Filter> filters, Message message) {
+        List<Integer> lanes = new ArrayList<>();
+        for (int lane = 0; lane < filters.size(); lane++) {
+            if (filters.get(lane).match(message)) {
+                lanes.add(lane);
+            }
+        }
+        return lanes;
+    }
+
+    private static Message message(int partition, String color) {
+        Message message = new CoreMessage(1L, 128);
+        message.putIntProperty("partition", partition);
+        message.putStringProperty("color", color);
+        return message;
+    }
+}
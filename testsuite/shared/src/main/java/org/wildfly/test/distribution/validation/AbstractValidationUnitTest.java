@@ -99,6 +99,7 @@ public class AbstractValidationUnitTest {
         EXCLUDED_SCHEMA_FILES.add("jboss-ejb-iiop_1_1.xsd");
         EXCLUDED_SCHEMA_FILES.add("jboss-ejb-iiop_1_2.xsd");
         EXCLUDED_SCHEMA_FILES.add("jboss-ejb-iiop_2_0.xsd");
+        EXCLUDED_SCHEMA_FILES.add("jboss-ejb-lazy-start_1_0.xsd");
         EXCLUDED_SCHEMA_FILES.add("jboss-ejb-pool_1_0.xsd");
         EXCLUDED_SCHEMA_FILES.add("jboss-ejb-pool_2_0.xsd");
         EXCLUDED_SCHEMA_FILES.add("jboss-ejb-resource-adapter-binding_1_0.xsd");
@@ -0,0 +1,59 @@
+/*
+ * Copyright The WildFly Authors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.jboss.as.txn.integration;
+
+import java.io.IOException;
+
+import com.arjuna.ats.arjuna.common.ObjectStoreEnvironmentBean;
+import com.arjuna.ats.arjuna.common.Uid;
+import com.arjuna.ats.arjuna.exceptions.ObjectStoreException;
+import com.arjuna.ats.arjuna.state.OutputObjectState;
+import com.arjuna.ats.internal.arjuna.objectstore.hornetq.HornetqObjectStoreAdaptor;
+import org.jboss.as.txn.statistics.JournalStoreStatistics;
+import org.jboss.as.txn.statistics.TransactionTimingStatistics;
+
+/**
+ * Journal object store which records the latency of transaction log writes and removals, and the number of writes
+ * sharing a journal sync, while transaction statistics are enabled.
+ */
+public class MeasuredJournalObjectStoreAdaptor extends HornetqObjectStoreAdaptor {
+
+    public MeasuredJournalObjectStoreAdaptor() throws IOException {
+        super();
+    }
+
+    public MeasuredJournalObjectStoreAdaptor(ObjectStoreEnvironmentBean objectStoreEnvironmentBean) throws IOException {
+        super(objectStoreEnvironmentBean);
+    }
+
+    @Override
+    public boolean write_committed(Uid uid, String typeName, OutputObjectState state) throws ObjectStoreException {
+        if (!TransactionTimingStatistics.INSTANCE.isEnabled()) {
+            return super.write_committed(uid, typeName, state);
+        }
+        JournalStoreStatistics statistics = JournalStoreStatistics.INSTANCE;
+        statistics.writeStarted();
+        long start = System.nanoTime();
+        try {
+            return super.write_committed(uid, typeName, state);
+        } finally {
+            statistics.writeCompleted(System.nanoTime() - start);
+        }
+    }
+
+    @Override
+    public boolean remove_committed(Uid uid, String typeName) throws ObjectStoreException {
+        if (!TransactionTimingStatistics.INSTANCE.isEnabled()) {
+            return super.remove_committed(uid, typeName);
+        }
+        long start = System.nanoTime();
+        try {
+            return super.remove_committed(uid, typeName);
+        } finally {
+            JournalStoreStatistics.INSTANCE.removeCompleted(System.nanoTime() - start);
+        }
+    }
+}
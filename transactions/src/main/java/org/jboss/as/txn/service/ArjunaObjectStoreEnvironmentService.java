@@ -9,6 +9,7 @@
 package org.jboss.as.txn.service;
 
 import org.jboss.as.controller.services.path.PathManager;
+import org.jboss.as.txn.integration.MeasuredJournalObjectStoreAdaptor;
 import org.jboss.msc.service.Service;
 import org.jboss.msc.service.StartContext;
 import org.jboss.msc.service.StartException;
@@ -29,6 +30,8 @@ public class ArjunaObjectStoreEnvironmentService implements Service<Void> {
     private final InjectedValue<PathManager> pathManagerInjector = new InjectedValue<PathManager>();
     private final boolean useJournalStore;
     private final boolean enableAsyncIO;
+    private final Integer journalMaxBatchDelay;
+    private final Integer journalMaxBatchSize;
     private final String path;
     private final String pathRef;
 
@@ -38,9 +41,11 @@ public class ArjunaObjectStoreEnvironmentService implements Service<Void> {
 
     private volatile PathManager.Callback.Handle callbackHandle;
 
-    public ArjunaObjectStoreEnvironmentService(final boolean useJournalStore, final boolean enableAsyncIO, final String path, final String pathRef, final boolean useJdbcStore, final String dataSourceJndiName, final JdbcStoreConfig jdbcSoreConfig) {
+    public ArjunaObjectStoreEnvironmentService(final boolean useJournalStore, final boolean enableAsyncIO, final Integer journalMaxBatchDelay, final Integer journalMaxBatchSize, final String path, final String pathRef, final boolean useJdbcStore, final String dataSourceJndiName, final JdbcStoreConfig jdbcSoreConfig) {
         this.useJournalStore = useJournalStore;
         this.enableAsyncIO = enableAsyncIO;
+        this.journalMaxBatchDelay = journalMaxBatchDelay;
+        this.journalMaxBatchSize = journalMaxBatchSize;
         this.path = path;
         this.pathRef = pathRef;
         this.useJdbcStore = useJdbcStore;
@@ -68,9 +73,15 @@ public class ArjunaObjectStoreEnvironmentService implements Service<Void> {
             );
             hornetqJournalEnvironmentBean.setAsyncIO(enableAsyncIO);
             hornetqJournalEnvironmentBean.setStoreDir(objectStoreDir+"/HornetqObjectStore");
-            defaultActionStoreObjectStoreEnvironmentBean.setObjectStoreType(
-                    "com.arjuna.ats.internal.arjuna.objectstore.hornetq.HornetqObjectStoreAdaptor"
-            );
+            // the journal completes all writes issued before a flush of its buffer with a single sync,
+            // the flush happens once the buffer is full or the batch delay has elapsed
+            if (journalMaxBatchDelay != null) {
+                hornetqJournalEnvironmentBean.setBufferFlushesPerSecond(Math.max(1, 1_000_000 / journalMaxBatchDelay));
+            }
+            if (journalMaxBatchSize != null) {
+                hornetqJournalEnvironmentBean.setBufferSize(journalMaxBatchSize);
+            }
+            defaultActionStoreObjectStoreEnvironmentBean.setObjectStoreType(MeasuredJournalObjectStoreAdaptor.class.getName());
         } else {
             defaultActionStoreObjectStoreEnvironmentBean.setObjectStoreDir(objectStoreDir);
         }
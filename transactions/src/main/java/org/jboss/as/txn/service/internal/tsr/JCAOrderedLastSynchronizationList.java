@@ -6,12 +6,20 @@ package org.jboss.as.txn.service.internal.tsr;
 
 import java.util.ArrayList;
 import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
 
 import jakarta.transaction.Status;
 import jakarta.transaction.Synchronization;
 import jakarta.transaction.SystemException;
 
 import org.jboss.as.txn.logging.TransactionLogger;
+import org.jboss.as.txn.statistics.EnlistmentStatistics;
+import org.jboss.as.txn.statistics.TransactionTimingStatistics;
+import org.jboss.as.txn.statistics.TransactionTimingStatistics.Phase;
+import org.jboss.modules.ModuleClassLoader;
+import org.wildfly.security.manager.WildFlySecurityManager;
 import org.wildfly.transaction.client.ContextTransactionManager;
 import org.wildfly.transaction.client.ContextTransactionSynchronizationRegistry;
 
@@ -30,10 +38,45 @@ import org.wildfly.transaction.client.ContextTransactionSynchronizationRegistry;
  * "Resources can be closed but no transactional work can be performed with them"
  */
 public class JCAOrderedLastSynchronizationList implements Synchronization {
+    private static final String DEPLOYMENT_MODULE_PREFIX = "deployment.";
+
     private final List<Synchronization> preJcaSyncs = new ArrayList<Synchronization>();
     private final List<Synchronization> jcaSyncs = new ArrayList<Synchronization>();
+    // Timing statistics, only gathered if statistics were enabled when the transaction registered its first interposed synchronization
+    private final TransactionTimingStatistics statistics;
+    private final String deployment;
+    private final Set<String> resources;
+    private final AtomicInteger enlistments = new AtomicInteger();
+    private volatile long beforeCompletionEnd;
 
     public JCAOrderedLastSynchronizationList() {
+        TransactionTimingStatistics statistics = TransactionTimingStatistics.INSTANCE;
+        this.statistics = statistics.isEnabled() ? statistics : null;
+        this.deployment = (this.statistics != null) ? currentDeployment() : null;
+        this.resources = (this.statistics != null) ? ConcurrentHashMap.newKeySet() : null;
+    }
+
+    private static String currentDeployment() {
+        ClassLoader loader = WildFlySecurityManager.getCurrentContextClassLoaderPrivileged();
+        if (loader instanceof ModuleClassLoader) {
+            String name = ((ModuleClassLoader) loader).getModule().getName();
+            if (name.startsWith(DEPLOYMENT_MODULE_PREFIX)) {
+                return name.substring(DEPLOYMENT_MODULE_PREFIX.length());
+            }
+        }
+        return null;
+    }
+
+    /**
+     * Records that the named resource was enlisted in this transaction, for the enlistment statistics.
+     *
+     * @param resource the JNDI name or type of the enlisted resource
+     */
+    void enlisted(String resource) {
+        if (this.resources != null) {
+            this.resources.add(resource);
+            this.enlistments.incrementAndGet();
+        }
     }
 
     /**
@@ -83,6 +126,7 @@ public class JCAOrderedLastSynchronizationList implements Synchronization {
      */
     @Override
     public void beforeCompletion() {
+        final long start = (this.statistics != null) ? System.nanoTime() : 0;
         // This is needed to guard against syncs being registered during the run, otherwise we could have used an iterator
         int lastIndexProcessed = 0;
         while ((lastIndexProcessed < preJcaSyncs.size())) {
@@ -97,6 +141,8 @@ public class JCAOrderedLastSynchronizationList implements Synchronization {
             lastIndexProcessed = lastIndexProcessed + 1;
         }
 
+        final long preJcaEnd = (this.statistics != null) ? System.nanoTime() : 0;
+
         // Do the same for the jca syncs
         lastIndexProcessed = 0;
         while ((lastIndexProcessed < jcaSyncs.size())) {
@@ -110,10 +156,32 @@ public class JCAOrderedLastSynchronizationList implements Synchronization {
             jcaSync.beforeCompletion();
             lastIndexProcessed = lastIndexProcessed + 1;
         }
+
+        if (this.statistics != null) {
+            final long end = System.nanoTime();
+            this.statistics.getSynchronizations(TransactionTimingStatistics.INTERPOSED_SYNCHRONIZATIONS).record(Phase.BEFORE_COMPLETION, preJcaEnd - start);
+            this.statistics.getSynchronizations(TransactionTimingStatistics.JCA_SYNCHRONIZATIONS).record(Phase.BEFORE_COMPLETION, end - preJcaEnd);
+            if (this.deployment != null) {
+                this.statistics.getDeployment(this.deployment).record(Phase.BEFORE_COMPLETION, end - start);
+            }
+            this.beforeCompletionEnd = end;
+        }
     }
 
     @Override
     public void afterCompletion(int status) {
+        final long start = (this.statistics != null) ? System.nanoTime() : 0;
+        if (this.statistics != null && this.beforeCompletionEnd != 0) {
+            // Time between the end of beforeCompletion and the start of afterCompletion is spent by the coordinator
+            // preparing, logging and committing (or rolling back) the enlisted resources, which time their own share
+            if (this.deployment != null) {
+                final Phase phase = (status == Status.STATUS_COMMITTED) ? Phase.COMMIT : Phase.ROLLBACK;
+                this.statistics.getDeployment(this.deployment).record(phase, start - this.beforeCompletionEnd);
+            }
+        }
+        if (this.statistics != null) {
+            EnlistmentStatistics.INSTANCE.record(this.resources, this.enlistments.get(), status == Status.STATUS_COMMITTED);
+        }
         // The list should be iterated in reverse order - has issues with Enterprise Beans 3 if not. See the afterCompletion method in:
         // https://github.com/jbosstm/narayana/blob/main/ArjunaCore/arjuna/classes/com/arjuna/ats/arjuna/coordinator/TwoPhaseCoordinator.java
         for (int i = preJcaSyncs.size() - 1; i>= 0; --i) {
@@ -131,6 +199,7 @@ public class JCAOrderedLastSynchronizationList implements Synchronization {
                 TransactionLogger.ROOT_LOGGER.preJcaSyncAfterCompletionFailed(preJcaSync, ContextTransactionManager.getInstance().getTransaction(), e);
             }
         }
+        final long preJcaEnd = (this.statistics != null) ? System.nanoTime() : 0;
         for (int i = jcaSyncs.size() - 1; i>= 0; --i) {
             Synchronization jcaSync = jcaSyncs.get(i);
             if (TransactionLogger.ROOT_LOGGER.isTraceEnabled()) {
@@ -147,5 +216,13 @@ public class JCAOrderedLastSynchronizationList implements Synchronization {
                 TransactionLogger.ROOT_LOGGER.jcaSyncAfterCompletionFailed(jcaSync, ContextTransactionManager.getInstance().getTransaction(), e);
             }
         }
+        if (this.statistics != null) {
+            final long end = System.nanoTime();
+            this.statistics.getSynchronizations(TransactionTimingStatistics.INTERPOSED_SYNCHRONIZATIONS).record(Phase.AFTER_COMPLETION, preJcaEnd - start);
+            this.statistics.getSynchronizations(TransactionTimingStatistics.JCA_SYNCHRONIZATIONS).record(Phase.AFTER_COMPLETION, end - preJcaEnd);
+            if (this.deployment != null) {
+                this.statistics.getDeployment(this.deployment).record(Phase.AFTER_COMPLETION, end - start);
+            }
+        }
     }
 }
@@ -0,0 +1,49 @@
+/*
+ * Copyright The WildFly Authors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+package org.jboss.as.txn.service.internal.tsr;
+
+import com.arjuna.ats.internal.jbossatx.jta.XAResourceRecordWrappingPluginImpl;
+import com.arjuna.ats.internal.jta.resources.arjunacore.XAResourceRecord;
+
+import org.jboss.as.txn.statistics.TransactionTimingStatistics;
+import org.jboss.tm.XAResourceWrapper;
+import org.wildfly.transaction.client.AbstractTransaction;
+import org.wildfly.transaction.client.ContextTransactionManager;
+
+/**
+ * Extends the default record wrapping plugin to keep track of the resources enlisted in each transaction, so that
+ * {@link JCAOrderedLastSynchronizationList} can record which combinations of resources are enlisted together.
+ * Resources are identified by their JNDI name when wrapped by the resource adapter, or by their type otherwise.
+ */
+public class StatisticsXAResourceRecordWrappingPlugin extends XAResourceRecordWrappingPluginImpl {
+
+    @Override
+    public void transcribeWrapperData(XAResourceRecord record) {
+        super.transcribeWrapperData(record);
+
+        if (TransactionTimingStatistics.INSTANCE.isEnabled()) {
+            // Records are also created by the recovery manager, outside the scope of any transaction
+            AbstractTransaction tx = ContextTransactionManager.getInstance().getTransaction();
+            Object resource = record.getXaResource();
+            if (tx != null && resource != null) {
+                try {
+                    TransactionSynchronizationRegistryWrapper.getSynchronizationList(tx).enlisted(getResourceName(resource));
+                } catch (IllegalStateException e) {
+                    // The transaction no longer accepts synchronizations, so its completion cannot be timed
+                }
+            }
+        }
+    }
+
+    static String getResourceName(Object resource) {
+        if (resource instanceof XAResourceWrapper) {
+            String jndiName = ((XAResourceWrapper) resource).getJndiName();
+            if (jndiName != null) {
+                return jndiName;
+            }
+        }
+        return resource.getClass().getName();
+    }
+}
@@ -35,7 +35,15 @@ import org.wildfly.transaction.client.ContextTransactionSynchronizationRegistry;
  */
 public class TransactionSynchronizationRegistryWrapper implements TransactionSynchronizationRegistry {
 
-    private final Object key = new Object();
+    private static final Object KEY = new Object();
+    // striped by transaction, so that only the registrations of the same transaction contend
+    private static final Object[] LOCKS = new Object[64];
+
+    static {
+        for (int i = 0; i < LOCKS.length; ++i) {
+            LOCKS[i] = new Object();
+        }
+    }
 
     public TransactionSynchronizationRegistryWrapper() {
     }
@@ -48,24 +56,34 @@ public class TransactionSynchronizationRegistryWrapper implements TransactionSyn
             if(tx == null) {
                 throw TransactionLogger.ROOT_LOGGER.noActiveTransactionToRegisterSynchronization(sync);
             }
-            JCAOrderedLastSynchronizationList jcaOrderedLastSynchronization = (JCAOrderedLastSynchronizationList) tx.getResource(key);
-            if (jcaOrderedLastSynchronization == null) {
-                final ContextTransactionSynchronizationRegistry tsr = ContextTransactionSynchronizationRegistry.getInstance();
-                synchronized (key) {
-                    jcaOrderedLastSynchronization = (JCAOrderedLastSynchronizationList) tx.getResource(key);
-                    if (jcaOrderedLastSynchronization == null) {
-                        jcaOrderedLastSynchronization = new JCAOrderedLastSynchronizationList();
-                        tx.putResource(key, jcaOrderedLastSynchronization);
-                        tsr.registerInterposedSynchronization(jcaOrderedLastSynchronization);
-                    }
-                }
-            }
-            jcaOrderedLastSynchronization.registerInterposedSynchronization(sync);
+            getSynchronizationList(tx).registerInterposedSynchronization(sync);
         } catch (SystemException e) {
             throw new IllegalStateException(e);
         }
     }
 
+    /**
+     * Returns the ordered synchronization list of the specified transaction, registering it with the transaction if necessary.
+     *
+     * @param tx the transaction
+     * @return the synchronization list of the transaction
+     */
+    static JCAOrderedLastSynchronizationList getSynchronizationList(AbstractTransaction tx) {
+        JCAOrderedLastSynchronizationList jcaOrderedLastSynchronization = (JCAOrderedLastSynchronizationList) tx.getResource(KEY);
+        if (jcaOrderedLastSynchronization == null) {
+            final ContextTransactionSynchronizationRegistry tsr = ContextTransactionSynchronizationRegistry.getInstance();
+            synchronized (LOCKS[System.identityHashCode(tx) & (LOCKS.length - 1)]) {
+                jcaOrderedLastSynchronization = (JCAOrderedLastSynchronizationList) tx.getResource(KEY);
+                if (jcaOrderedLastSynchronization == null) {
+                    jcaOrderedLastSynchronization = new JCAOrderedLastSynchronizationList();
+                    tx.putResource(KEY, jcaOrderedLastSynchronization);
+                    tsr.registerInterposedSynchronization(jcaOrderedLastSynchronization);
+                }
+            }
+        }
+        return jcaOrderedLastSynchronization;
+    }
+
     @Override
     public Object getTransactionKey() {
         return ContextTransactionSynchronizationRegistry.getInstance().getTransactionKey();
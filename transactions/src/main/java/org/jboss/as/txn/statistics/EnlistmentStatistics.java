@@ -0,0 +1,126 @@
+/*
+ * Copyright The WildFly Authors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.jboss.as.txn.statistics;
+
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Map;
+import java.util.TreeSet;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Records which combinations of resources are enlisted in completed transactions and whether the coordinator had to use
+ * two-phase commit for them, i.e. whether more than one resource record was enlisted.
+ * Two-phase commits write the transaction log after prepare and remove it after commit, one-phase commits do not touch the log,
+ * so the number of log store writes is estimated accordingly.
+ */
+public final class EnlistmentStatistics {
+
+    public static final EnlistmentStatistics INSTANCE = new EnlistmentStatistics();
+
+    /** Number of object store operations of a two-phase commit, i.e. writing then removing the transaction log record. */
+    static final int LOG_WRITES_PER_TWO_PHASE_COMMIT = 2;
+    /** Separator of the resource names of a combination. */
+    public static final String SEPARATOR = " + ";
+
+    /**
+     * Statistics of the transactions that enlisted the same set of resources.
+     */
+    public static class Combination {
+        private final LongAdder transactions = new LongAdder();
+        private final LongAdder twoPhaseCommits = new LongAdder();
+        private final LongAdder onePhaseCommits = new LongAdder();
+        private final LongAdder rollbacks = new LongAdder();
+        private final int resources;
+
+        Combination(int resources) {
+            this.resources = resources;
+        }
+
+        public int getResources() {
+            return this.resources;
+        }
+
+        public long getTransactions() {
+            return this.transactions.sum();
+        }
+
+        public long getTwoPhaseCommits() {
+            return this.twoPhaseCommits.sum();
+        }
+
+        public long getOnePhaseCommits() {
+            return this.onePhaseCommits.sum();
+        }
+
+        public long getRollbacks() {
+            return this.rollbacks.sum();
+        }
+
+        public long getEstimatedLogWrites() {
+            return this.getTwoPhaseCommits() * LOG_WRITES_PER_TWO_PHASE_COMMIT;
+        }
+    }
+
+    private final Map<String, Combination> combinations = new ConcurrentHashMap<>();
+    private final LongAdder onePhaseCommits = new LongAdder();
+    private final LongAdder twoPhaseCommits = new LongAdder();
+
+    private EnlistmentStatistics() {
+    }
+
+    /**
+     * Records the completion of a transaction.
+     *
+     * @param resources the distinct names of the enlisted resources
+     * @param records the number of resource records enlisted, which may exceed the number of distinct names if the same
+     *                resource was enlisted more than once without being joined
+     * @param committed whether the transaction committed
+     */
+    public void record(Collection<String> resources, int records, boolean committed) {
+        if (records == 0) {
+            return;
+        }
+        Combination combination = this.combinations.computeIfAbsent(getName(resources), name -> new Combination(resources.size()));
+        combination.transactions.increment();
+        if (!committed) {
+            combination.rollbacks.increment();
+        } else if (records > 1) {
+            combination.twoPhaseCommits.increment();
+            this.twoPhaseCommits.increment();
+        } else {
+            combination.onePhaseCommits.increment();
+            this.onePhaseCommits.increment();
+        }
+    }
+
+    static String getName(Collection<String> resources) {
+        return String.join(SEPARATOR, new TreeSet<>(resources));
+    }
+
+    public long getOnePhaseCommits() {
+        return this.onePhaseCommits.sum();
+    }
+
+    public long getTwoPhaseCommits() {
+        return this.twoPhaseCommits.sum();
+    }
+
+    public long getEstimatedLogWrites() {
+        return this.getTwoPhaseCommits() * LOG_WRITES_PER_TWO_PHASE_COMMIT;
+    }
+
+    public Map<String, Combination> getCombinations() {
+        return Collections.unmodifiableMap(this.combinations);
+    }
+
+    public void reset() {
+        this.combinations.clear();
+        this.onePhaseCommits.reset();
+        this.twoPhaseCommits.reset();
+    }
+}
@@ -0,0 +1,84 @@
+/*
+ * Copyright The WildFly Authors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.jboss.as.txn.statistics;
+
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAccumulator;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Records the latency of the synchronous writes and removals of the journal transaction log store.
+ * Writes issued while others are still waiting for the journal to sync are completed by the same sync,
+ * so the number of writes in flight when a write is issued is tracked as a measure of the group commit batch size.
+ */
+public final class JournalStoreStatistics {
+
+    public static final JournalStoreStatistics INSTANCE = new JournalStoreStatistics();
+
+    private final DurationHistogram writes = new DurationHistogram();
+    private final DurationHistogram removes = new DurationHistogram();
+    private final AtomicInteger inFlight = new AtomicInteger();
+    private final LongAdder batchedWrites = new LongAdder();
+    private final LongAccumulator maxBatchSize = new LongAccumulator(Math::max, 0);
+
+    private JournalStoreStatistics() {
+    }
+
+    /**
+     * Indicates the start of a write, returning the number of writes currently in flight including this one.
+     *
+     * @return the number of writes in flight
+     */
+    public int writeStarted() {
+        int batchSize = this.inFlight.incrementAndGet();
+        this.batchedWrites.add(batchSize);
+        this.maxBatchSize.accumulate(batchSize);
+        return batchSize;
+    }
+
+    /**
+     * Indicates the completion of a write started via {@link #writeStarted()}.
+     *
+     * @param nanos the duration of the write including the journal sync
+     */
+    public void writeCompleted(long nanos) {
+        this.inFlight.decrementAndGet();
+        this.writes.record(nanos);
+    }
+
+    public void removeCompleted(long nanos) {
+        this.removes.record(nanos);
+    }
+
+    public DurationHistogram getWrites() {
+        return this.writes;
+    }
+
+    public DurationHistogram getRemoves() {
+        return this.removes;
+    }
+
+    /**
+     * Returns the average number of writes in flight when a write is issued, i.e. the average number of writes sharing a journal sync.
+     *
+     * @return the average batch size, or 0 if nothing was written
+     */
+    public double getAverageBatchSize() {
+        long count = this.writes.getCount();
+        return (count > 0) ? (double) this.batchedWrites.sum() / count : 0;
+    }
+
+    public long getMaxBatchSize() {
+        return this.maxBatchSize.get();
+    }
+
+    public void reset() {
+        this.writes.reset();
+        this.removes.reset();
+        this.batchedWrites.reset();
+        this.maxBatchSize.reset();
+    }
+}
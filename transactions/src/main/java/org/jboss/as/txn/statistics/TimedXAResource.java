@@ -0,0 +1,134 @@
+/*
+ * Copyright The WildFly Authors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.jboss.as.txn.statistics;
+
+import java.lang.reflect.InvocationHandler;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.lang.reflect.Modifier;
+import java.lang.reflect.Proxy;
+import java.util.LinkedHashSet;
+import java.util.Set;
+
+import javax.transaction.xa.XAResource;
+
+import org.jboss.as.txn.statistics.TransactionTimingStatistics.Phase;
+import org.wildfly.security.manager.WildFlySecurityManager;
+
+/**
+ * Wraps the XA resources enlisted by a resource manager, so that the time each resource takes to prepare, commit and roll back
+ * is recorded under its own name while statistics are enabled.
+ * <p>
+ * The wrapper implements all the interfaces of the wrapped resource, so that the markers the transaction manager looks for,
+ * such as those of last resources or of commit markable resources, are preserved. {@link XAResource#isSameRM(XAResource)}
+ * is given the wrapped resources, so that branches of the same resource manager are still joined.
+ */
+public final class TimedXAResource implements InvocationHandler {
+
+    private final XAResource resource;
+    private final String name;
+
+    private TimedXAResource(XAResource resource, String name) {
+        this.resource = resource;
+        this.name = name;
+    }
+
+    /**
+     * Wraps an XA resource so that its completion is timed.
+     *
+     * @param type the type of the resource, which the wrapper must implement
+     * @param resource the resource, or null
+     * @param name the name under which the resource is timed, typically its JNDI name, or null to use the type of the resource
+     * @return the wrapper, or null if the resource is null
+     */
+    public static <T extends XAResource> T wrap(Class<T> type, T resource, String name) {
+        if (resource == null) {
+            return null;
+        }
+        Set<Class<?>> interfaces = new LinkedHashSet<>();
+        for (Class<?> c = resource.getClass(); c != null; c = c.getSuperclass()) {
+            addInterfaces(interfaces, c);
+        }
+        ClassLoader loader = WildFlySecurityManager.getClassLoaderPrivileged(resource.getClass());
+        return type.cast(Proxy.newProxyInstance(loader, interfaces.toArray(new Class<?>[0]), new TimedXAResource(resource, (name != null) ? name : resource.getClass().getName())));
+    }
+
+    private static void addInterfaces(Set<Class<?>> interfaces, Class<?> type) {
+        for (Class<?> c : type.getInterfaces()) {
+            // a proxy implementing a non public interface would have to be defined in its package
+            if (Modifier.isPublic(c.getModifiers()) && interfaces.add(c)) {
+                addInterfaces(interfaces, c);
+            }
+        }
+    }
+
+    /**
+     * Returns the resource wrapped by a wrapper created by {@link #wrap(Class, XAResource, String)}.
+     *
+     * @param resource a resource
+     * @return the wrapped resource if the specified resource is a wrapper, or the specified resource otherwise
+     */
+    public static XAResource unwrap(XAResource resource) {
+        if (resource != null && Proxy.isProxyClass(resource.getClass())) {
+            InvocationHandler handler = Proxy.getInvocationHandler(resource);
+            if (handler instanceof TimedXAResource) {
+                return ((TimedXAResource) handler).resource;
+            }
+        }
+        return resource;
+    }
+
+    @Override
+    public Object invoke(Object proxy, Method method, Object[] args) throws Throwable {
+        Phase phase = null;
+        switch (method.getName()) {
+            case "equals":
+                if (method.getParameterCount() == 1) {
+                    return proxy == args[0];
+                }
+                break;
+            case "hashCode":
+                if (method.getParameterCount() == 0) {
+                    return System.identityHashCode(proxy);
+                }
+                break;
+            case "isSameRM":
+                if (method.getParameterCount() == 1) {
+                    args = new Object[] { unwrap((XAResource) args[0]) };
+                }
+                break;
+            case "prepare":
+                phase = Phase.PREPARE;
+                break;
+            case "commit":
+                phase = Phase.COMMIT;
+                break;
+            case "rollback":
+                phase = Phase.ROLLBACK;
+                break;
+            default:
+                break;
+        }
+        TransactionTimingStatistics statistics = TransactionTimingStatistics.INSTANCE;
+        if (phase == null || !statistics.isEnabled()) {
+            return invoke(method, args);
+        }
+        long start = System.nanoTime();
+        try {
+            return invoke(method, args);
+        } finally {
+            statistics.getResource(this.name).record(phase, System.nanoTime() - start);
+        }
+    }
+
+    private Object invoke(Method method, Object[] args) throws Throwable {
+        try {
+            return method.invoke(this.resource, args);
+        } catch (InvocationTargetException e) {
+            throw e.getCause();
+        }
+    }
+}
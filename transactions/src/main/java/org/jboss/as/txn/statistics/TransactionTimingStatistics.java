@@ -0,0 +1,120 @@
+/*
+ * Copyright The WildFly Authors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.jboss.as.txn.statistics;
+
+import java.util.Collections;
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+import com.arjuna.ats.arjuna.common.arjPropertyManager;
+
+/**
+ * Records where time is spent while completing transactions, broken down by deployment, by enlisted XA resource and by
+ * kind of synchronization. Recording only takes place while transaction statistics are enabled.
+ */
+public final class TransactionTimingStatistics {
+
+    public static final TransactionTimingStatistics INSTANCE = new TransactionTimingStatistics();
+
+    /**
+     * The synchronization category for Jakarta Connectors synchronizations, which run after all other interposed synchronizations.
+     */
+    public static final String JCA_SYNCHRONIZATIONS = "jca";
+    /**
+     * The synchronization category for all other interposed synchronizations, e.g. Jakarta Persistence.
+     */
+    public static final String INTERPOSED_SYNCHRONIZATIONS = "interposed";
+
+    public enum Phase {
+        /** Duration of the beforeCompletion callbacks. */
+        BEFORE_COMPLETION("before-completion"),
+        /** Duration of the prepare of a resource. */
+        PREPARE("prepare"),
+        /**
+         * Duration of the commit of a resource or, for a deployment, of the prepare and commit of all its enlisted resources,
+         * including the transaction log write.
+         */
+        COMMIT("commit"),
+        /** Duration of the rollback of a resource or, for a deployment, of all its enlisted resources following beforeCompletion. */
+        ROLLBACK("rollback"),
+        /** Duration of the afterCompletion callbacks. */
+        AFTER_COMPLETION("after-completion"),
+        ;
+        private final String name;
+
+        Phase(String name) {
+            this.name = name;
+        }
+
+        @Override
+        public String toString() {
+            return this.name;
+        }
+    }
+
+    /**
+     * The histograms of each phase for a given deployment, resource or synchronization category.
+     */
+    public static class Timings {
+        private final Map<Phase, DurationHistogram> histograms = new EnumMap<>(Phase.class);
+
+        Timings() {
+            for (Phase phase : Phase.values()) {
+                this.histograms.put(phase, new DurationHistogram());
+            }
+        }
+
+        public void record(Phase phase, long nanos) {
+            this.histograms.get(phase).record(nanos);
+        }
+
+        public DurationHistogram get(Phase phase) {
+            return this.histograms.get(phase);
+        }
+    }
+
+    private final Map<String, Timings> deployments = new ConcurrentHashMap<>();
+    private final Map<String, Timings> resources = new ConcurrentHashMap<>();
+    private final Map<String, Timings> synchronizations = new ConcurrentHashMap<>();
+
+    private TransactionTimingStatistics() {
+    }
+
+    public boolean isEnabled() {
+        return arjPropertyManager.getCoordinatorEnvironmentBean().isEnableStatistics();
+    }
+
+    public Timings getDeployment(String deployment) {
+        return this.deployments.computeIfAbsent(deployment, name -> new Timings());
+    }
+
+    public Timings getResource(String resource) {
+        return this.resources.computeIfAbsent(resource, name -> new Timings());
+    }
+
+    public Timings getSynchronizations(String category) {
+        return this.synchronizations.computeIfAbsent(category, name -> new Timings());
+    }
+
+    public Map<String, Timings> getDeployments() {
+        return Collections.unmodifiableMap(this.deployments);
+    }
+
+    public Map<String, Timings> getResources() {
+        return Collections.unmodifiableMap(this.resources);
+    }
+
+    public Map<String, Timings> getSynchronizations() {
+        return Collections.unmodifiableMap(this.synchronizations);
+    }
+
+    public void reset() {
+        this.deployments.clear();
+        this.resources.clear();
+        this.synchronizations.clear();
+    }
+}
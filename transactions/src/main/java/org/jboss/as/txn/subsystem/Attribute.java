@@ -32,6 +32,8 @@ enum Attribute {
     TABLE_PREFIX("table-prefix"),
     DROP_TABLE("drop-table"),
     ENABLE_ASYNC_IO("enable-async-io"),
+    MAX_BATCH_DELAY("max-batch-delay"),
+    MAX_BATCH_SIZE("max-batch-size"),
     JNDI_NAME(CommonAttributes.CM_JNDI_NAME),
     CM_TABLE_IMMEDIATE_CLEANUP(CommonAttributes.CM_IMMEDIATE_CLEANUP),
     CM_TABLE_BATCH_SIZE(CommonAttributes.CM_BATCH_SIZE),
@@ -32,6 +32,8 @@ interface CommonAttributes {
     String USE_JOURNAL_STORE = "use-journal-store";
     String HORNETQ_STORE_ENABLE_ASYNC_IO = "hornetq-store-enable-async-io";
     String JOURNAL_STORE_ENABLE_ASYNC_IO = "journal-store-enable-async-io";
+    String JOURNAL_STORE_MAX_BATCH_DELAY = "journal-store-max-batch-delay";
+    String JOURNAL_STORE_MAX_BATCH_SIZE = "journal-store-max-batch-size";
     String JDBC_STORE = "jdbc-store";
     String USE_JDBC_STORE = "use-jdbc-store";
     String JDBC_STORE_DATASOURCE = "jdbc-store-datasource";
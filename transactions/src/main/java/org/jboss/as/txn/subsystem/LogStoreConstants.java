@@ -9,6 +9,8 @@ import org.jboss.as.controller.SimpleAttributeDefinition;
 import org.jboss.as.controller.SimpleAttributeDefinitionBuilder;
 import org.jboss.as.controller.client.helpers.MeasurementUnit;
 import org.jboss.as.controller.operations.validation.EnumValidator;
+import org.jboss.as.controller.operations.validation.IntRangeValidator;
+import org.jboss.as.controller.operations.validation.LongRangeValidator;
 import org.jboss.as.controller.operations.validation.StringLengthValidator;
 import org.jboss.dmr.ModelNode;
 import org.jboss.dmr.ModelType;
@@ -27,6 +29,7 @@ class LogStoreConstants {
     static final String RECOVER = "recover";
     static final String DELETE = "delete";
     static final String REFRESH = "refresh";
+    static final String READ_RECORDS = "read-records";
 
     public static final String LOG_STORE = "log-store";
     public static final String TRANSACTIONS = "transactions";
@@ -46,6 +49,11 @@ class LogStoreConstants {
     static final String JNDI_ATTRIBUTE = "jndi-name";
     static final String LOG_STORE_TYPE_ATTRIBUTE = "type";
     static final String EXPOSE_ALL_LOGS_ATTRIBUTE = "expose-all-logs";
+    static final String INCREMENTAL_PARAMETER = "incremental";
+    static final String OFFSET_PARAMETER = "offset";
+    static final String MAX_RESULTS_PARAMETER = "max-results";
+    static final String TYPE_FILTER_PARAMETER = "type-filter";
+    static final String MIN_AGE_PARAMETER = "min-age-in-seconds";
 
 
     static final Map<String, String> MODEL_TO_JMX_TXN_NAMES =
@@ -88,6 +96,35 @@ class LogStoreConstants {
             .setStorageRuntime()
             .build();
 
+    static final SimpleAttributeDefinition INCREMENTAL = new SimpleAttributeDefinitionBuilder(INCREMENTAL_PARAMETER, ModelType.BOOLEAN)
+            .setRequired(false)
+            .setDefaultValue(ModelNode.FALSE)
+            .build();
+
+    static final SimpleAttributeDefinition OFFSET = new SimpleAttributeDefinitionBuilder(OFFSET_PARAMETER, ModelType.INT)
+            .setRequired(false)
+            .setDefaultValue(ModelNode.ZERO)
+            .setValidator(new IntRangeValidator(0, true))
+            .build();
+
+    static final SimpleAttributeDefinition MAX_RESULTS = new SimpleAttributeDefinitionBuilder(MAX_RESULTS_PARAMETER, ModelType.INT)
+            .setRequired(false)
+            .setDefaultValue(new ModelNode(100))
+            .setValidator(new IntRangeValidator(1, true))
+            .build();
+
+    static final SimpleAttributeDefinition TYPE_FILTER = new SimpleAttributeDefinitionBuilder(TYPE_FILTER_PARAMETER, ModelType.STRING)
+            .setRequired(false)
+            .setValidator(new StringLengthValidator(1, true))
+            .build();
+
+    static final SimpleAttributeDefinition MIN_AGE = new SimpleAttributeDefinitionBuilder(MIN_AGE_PARAMETER, ModelType.LONG)
+            .setRequired(false)
+            .setDefaultValue(ModelNode.ZERO)
+            .setMeasurementUnit(MeasurementUnit.SECONDS)
+            .setValidator(new LongRangeValidator(0, true))
+            .build();
+
     static SimpleAttributeDefinition JMX_NAME = (new SimpleAttributeDefinitionBuilder(JMX_ON_ATTRIBUTE, ModelType.STRING))
             .setAllowExpression(false)
             .setRequired(false)
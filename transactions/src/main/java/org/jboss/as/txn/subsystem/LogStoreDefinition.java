@@ -17,6 +17,7 @@ import org.jboss.as.controller.registry.ManagementResourceRegistration;
 import org.jboss.as.controller.registry.OperationEntry;
 import org.jboss.as.controller.registry.Resource;
 import org.jboss.dmr.ModelNode;
+import org.jboss.dmr.ModelType;
 
 import static org.jboss.as.controller.descriptions.ModelDescriptionConstants.NAME;
 import static org.jboss.as.controller.descriptions.ModelDescriptionConstants.VALUE;
@@ -41,10 +42,20 @@ public class LogStoreDefinition extends SimpleResourceDefinition {
         super.registerOperations(resourceRegistration);
         final OperationDefinition probe = new SimpleOperationDefinitionBuilder(LogStoreConstants.PROBE, getResourceDescriptionResolver())
                                 .withFlag(OperationEntry.Flag.HOST_CONTROLLER_ONLY) // TODO WFLY-8852 decide how we want to handle this in a domain
+                                .setParameters(LogStoreConstants.INCREMENTAL)
                                 .setRuntimeOnly()
                                 .setReadOnly()
                                 .build();
         resourceRegistration.registerOperationHandler(probe, LogStoreProbeHandler.INSTANCE);
+        final OperationDefinition readRecords = new SimpleOperationDefinitionBuilder(LogStoreConstants.READ_RECORDS, getResourceDescriptionResolver())
+                                .withFlag(OperationEntry.Flag.HOST_CONTROLLER_ONLY)
+                                .setParameters(LogStoreConstants.OFFSET, LogStoreConstants.MAX_RESULTS, LogStoreConstants.TYPE_FILTER, LogStoreConstants.MIN_AGE)
+                                .setReplyType(ModelType.LIST)
+                                .setReplyValueType(ModelType.OBJECT)
+                                .setRuntimeOnly()
+                                .setReadOnly()
+                                .build();
+        resourceRegistration.registerOperationHandler(readRecords, LogStoreReadRecordsHandler.INSTANCE);
     }
 
 
@@ -5,6 +5,9 @@
 
 package org.jboss.as.txn.subsystem;
 
+import com.arjuna.ats.arjuna.common.Uid;
+import com.arjuna.ats.arjuna.objectstore.RecoveryStore;
+import com.arjuna.ats.arjuna.objectstore.StoreManager;
 import org.jboss.as.controller.OperationContext;
 import org.jboss.as.controller.OperationFailedException;
 import org.jboss.as.controller.OperationStepHandler;
@@ -21,13 +24,15 @@ import javax.management.MBeanAttributeInfo;
 import javax.management.MBeanInfo;
 import javax.management.MBeanServer;
 import javax.management.MBeanServerConnection;
-import javax.management.MalformedObjectNameException;
 import javax.management.ObjectInstance;
 import javax.management.ObjectName;
 import javax.management.ReflectionException;
 
 import java.io.IOException;
+import java.util.Collections;
 import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Hashtable;
 import java.util.Map;
 import java.util.Set;
 
@@ -102,47 +107,104 @@ public class LogStoreProbeHandler implements OperationStepHandler {
         }
     }
 
-    private void addTransactions(final Resource parent, Set<ObjectInstance> transactions, MBeanServer mbs)
-            throws IntrospectionException, InstanceNotFoundException, IOException,
-            ReflectionException, MalformedObjectNameException {
+    private void addTransactions(final Resource parent, Set<ObjectInstance> transactions, Map<ObjectName, Set<ObjectInstance>> participants,
+            MBeanServer mbs, Map<String, String> records, Map<String, String> probedRecords, Map<ObjectName, PathElement> existing,
+            Resource previous) throws IntrospectionException, InstanceNotFoundException, IOException, ReflectionException {
 
+        final long now = System.currentTimeMillis() / 1000L;
         for (ObjectInstance oi : transactions) {
-            String transactionId = oi.getObjectName().getCanonicalName();
-
-            if (!transactionId.contains("puid") && transactionId.contains("itype")) {
-                final Resource transaction = new LogStoreResource.LogStoreRuntimeResource(oi.getObjectName());
-                final ModelNode model = transaction.getModel();
+            final PathElement known = existing.get(oi.getObjectName());
+            if (known != null) {
+                final String state = records.get(known.getValue());
+                if (state != null && state.equals(probedRecords.get(known.getValue()))) {
+                    // incremental refresh, the record of this transaction and of its participants did not change since it was loaded
+                    final Resource transaction = previous.getChild(known);
+                    refreshAge(transaction, now);
+                    parent.registerChild(known, transaction);
+                    continue;
+                }
+            }
+            final Resource transaction = new LogStoreResource.LogStoreRuntimeResource(oi.getObjectName());
+            final ModelNode model = transaction.getModel();
 
-                Map<String, String> tAttributes = getMBeanValues(
-                        mbs,  oi.getObjectName(), LogStoreConstants.TXN_JMX_NAMES);
-                String txnId = tAttributes.get("Id");
+            Map<String, String> tAttributes = getMBeanValues(
+                    mbs,  oi.getObjectName(), LogStoreConstants.TXN_JMX_NAMES);
+            String txnId = tAttributes.get("Id");
 
-                addAttributes(model, LogStoreConstants.MODEL_TO_JMX_TXN_NAMES, tAttributes);
-                // model.get(LogStoreConstants.JMX_ON_ATTRIBUTE).set(transactionId);
+            addAttributes(model, LogStoreConstants.MODEL_TO_JMX_TXN_NAMES, tAttributes);
+            // model.get(LogStoreConstants.JMX_ON_ATTRIBUTE).set(transactionId);
 
-                String participantQuery =  transactionId + ",puid=*";
-                Set<ObjectInstance> participants = mbs.queryMBeans(new ObjectName(participantQuery), null);
+            addParticipants(transaction, participants.getOrDefault(oi.getObjectName(), Collections.<ObjectInstance>emptySet()), mbs);
 
-                addParticipants(transaction, participants, mbs);
+            final PathElement element = PathElement.pathElement(LogStoreConstants.TRANSACTIONS, txnId);
+            parent.registerChild(element, transaction);
+        }
+    }
 
-                final PathElement element = PathElement.pathElement(LogStoreConstants.TRANSACTIONS, txnId);
-                parent.registerChild(element, transaction);
+    /**
+     * Updates the age of a transaction loaded by a previous probe, computed from its id.
+     */
+    private static void refreshAge(Resource transaction, long now) {
+        final ModelNode model = transaction.getModel().clone();
+        final String id = LogStoreConstants.TRANSACTION_ID.getName();
+        if (model.hasDefined(id)) {
+            final Uid uid = new Uid(model.get(id).asString(), true);
+            if (uid.valid()) {
+                model.get(LogStoreConstants.TRANSACTION_AGE.getName()).set(now - uid.lastModified());
+                transaction.writeModel(model);
             }
         }
     }
 
-    private Resource probeTransactions(MBeanServer mbs, boolean exposeAllLogs)
-            throws OperationFailedException {
+    private Map<ObjectName, PathElement> getLoadedTransactions(LogStoreResource logStore) {
+        Map<ObjectName, PathElement> transactions = new HashMap<ObjectName, PathElement>();
+        for (String txnId : logStore.getChildrenNames(LogStoreConstants.TRANSACTIONS)) {
+            final PathElement element = PathElement.pathElement(LogStoreConstants.TRANSACTIONS, txnId);
+            transactions.put(LogStoreResource.getObjectName(logStore.getChild(element)), element);
+        }
+        return transactions;
+    }
+
+    /**
+     * Reads the records of the object store directly from the store, which is much cheaper than probing them as MBeans.
+     *
+     * @return the state of each record, keyed by record id
+     */
+    static Map<String, String> getRecords(RecoveryStore store) throws OperationFailedException {
+        final Map<String, String> records = new HashMap<String, String>();
+        final LogStoreRecordIterator iterator = new LogStoreRecordIterator(store, null, 0);
+        for (LogStoreRecordIterator.Record record = iterator.next(); record != null; record = iterator.next()) {
+            // the same id may be used by the records of several types
+            records.merge(record.getId(), record.readState(), String::concat);
+        }
+        return records;
+    }
+
+    private Resource probeTransactions(MBeanServer mbs, boolean exposeAllLogs, Map<String, String> records, Map<String, String> probedRecords,
+            Map<ObjectName, PathElement> existing, Resource previous) throws OperationFailedException {
         try {
             ObjectName on = new ObjectName(osMBeanName);
 
+            // the probe creates the MBeans of new records, on which the operations of transactions and participants are invoked
             mbs.setAttribute(on, new javax.management.Attribute("ExposeAllRecordsAsMBeans", Boolean.valueOf(exposeAllLogs)));
             mbs.invoke(on, "probe", null, null);
 
-            Set<ObjectInstance> transactions = mbs.queryMBeans(new ObjectName(osMBeanName +  ",*"), null);
+            // transactions and their participants are found by a single query, rather than a query per transaction
+            Set<ObjectInstance> transactions = new HashSet<ObjectInstance>();
+            Map<ObjectName, Set<ObjectInstance>> participants = new HashMap<ObjectName, Set<ObjectInstance>>();
+            for (ObjectInstance oi : mbs.queryMBeans(new ObjectName(osMBeanName +  ",*"), null)) {
+                ObjectName name = oi.getObjectName();
+                if (name.getKeyProperty("puid") != null) {
+                    Hashtable<String, String> properties = new Hashtable<String, String>(name.getKeyPropertyList());
+                    properties.remove("puid");
+                    participants.computeIfAbsent(new ObjectName(name.getDomain(), properties), key -> new HashSet<ObjectInstance>()).add(oi);
+                } else if (name.getKeyProperty("itype") != null) {
+                    transactions.add(oi);
+                }
+            }
 
             final Resource resource = Resource.Factory.create();
-            addTransactions(resource, transactions, mbs);
+            addTransactions(resource, transactions, participants, mbs, records, probedRecords, existing, previous);
             return resource;
 
         } catch (JMException e) {
@@ -166,12 +228,27 @@ public class LogStoreProbeHandler implements OperationStepHandler {
             // Get the expose-all-logs parameter value
             final ModelNode subModel = context.readResource(PathAddress.EMPTY_ADDRESS).getModel();
             final boolean exposeAllLogs = LogStoreConstants.EXPOSE_ALL_LOGS.resolveModelAttribute(context, subModel).asBoolean();
-            final Resource storeModel = probeTransactions(mbs, exposeAllLogs);
+            final boolean incremental = LogStoreConstants.INCREMENTAL.resolveModelAttribute(context, operation).asBoolean();
+            // read before the probe, so that records changed meanwhile are probed again by the next incremental probe
+            final Map<String, String> records = getRecords(StoreManager.getRecoveryStore());
+            if (incremental && logStore.isProbed(records, exposeAllLogs)) {
+                // nothing changed since the last probe, so neither the probe nor the MBean queries are needed
+                final long now = System.currentTimeMillis() / 1000L;
+                for (String txnId : logStore.getChildrenNames(LogStoreConstants.TRANSACTIONS)) {
+                    refreshAge(logStore.getChild(PathElement.pathElement(LogStoreConstants.TRANSACTIONS, txnId)), now);
+                }
+                context.completeStep(OperationContext.RollbackHandler.NOOP_ROLLBACK_HANDLER);
+                return;
+            }
+            final Map<String, String> probedRecords = incremental ? logStore.getProbedRecords(exposeAllLogs) : Collections.<String, String>emptyMap();
+            final Map<ObjectName, PathElement> existing = incremental ? getLoadedTransactions(logStore) : Collections.<ObjectName, PathElement>emptyMap();
+            final Resource storeModel = probeTransactions(mbs, exposeAllLogs, records, probedRecords, existing, logStore);
             // Replace the current model with an updated one
             context.acquireControllerLock();
             // WFLY-3020 -- don't drop the root model
             storeModel.writeModel(logStore.getModel());
             logStore.update(storeModel);
+            logStore.probed(records, exposeAllLogs);
         }
         context.completeStep(OperationContext.RollbackHandler.NOOP_ROLLBACK_HANDLER);
     }
@@ -0,0 +1,56 @@
+/*
+ * Copyright The WildFly Authors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.jboss.as.txn.subsystem;
+
+import com.arjuna.ats.arjuna.objectstore.RecoveryStore;
+import com.arjuna.ats.arjuna.objectstore.StoreManager;
+import org.jboss.as.controller.OperationContext;
+import org.jboss.as.controller.OperationFailedException;
+import org.jboss.as.controller.OperationStepHandler;
+import org.jboss.dmr.ModelNode;
+
+/**
+ * Handler for reading pages of transaction records directly from the object store.
+ * Unlike {@link LogStoreProbeHandler} no MBeans are created and the management model is left untouched,
+ * so the controller lock is never acquired and the cost is proportional to the number of records scanned.
+ */
+public class LogStoreReadRecordsHandler implements OperationStepHandler {
+
+    static final LogStoreReadRecordsHandler INSTANCE = new LogStoreReadRecordsHandler();
+
+    static final String ID = "id";
+    static final String TYPE = "type";
+    static final String AGE_IN_SECONDS = "age-in-seconds";
+
+    @Override
+    public void execute(OperationContext context, ModelNode operation) throws OperationFailedException {
+        final ModelNode result = context.getResult().setEmptyList();
+        if (context.isNormalServer()) {
+            final int offset = LogStoreConstants.OFFSET.resolveModelAttribute(context, operation).asInt();
+            final int maxResults = LogStoreConstants.MAX_RESULTS.resolveModelAttribute(context, operation).asInt();
+            final ModelNode typeFilter = LogStoreConstants.TYPE_FILTER.resolveModelAttribute(context, operation);
+            final long minAge = LogStoreConstants.MIN_AGE.resolveModelAttribute(context, operation).asLong();
+
+            readRecords(StoreManager.getRecoveryStore(), typeFilter.isDefined() ? typeFilter.asString() : null, minAge, offset, maxResults, result);
+        }
+        context.completeStep(OperationContext.RollbackHandler.NOOP_ROLLBACK_HANDLER);
+    }
+
+    static void readRecords(RecoveryStore store, String typeFilter, long minAge, int offset, int maxResults, ModelNode result) throws OperationFailedException {
+        final LogStoreRecordIterator records = new LogStoreRecordIterator(store, typeFilter, minAge);
+        records.skip(offset);
+        for (int added = 0; added < maxResults; added++) {
+            final LogStoreRecordIterator.Record record = records.next();
+            if (record == null) {
+                return;
+            }
+            final ModelNode node = result.add();
+            node.get(ID).set(record.getId());
+            node.get(TYPE).set(record.getType());
+            node.get(AGE_IN_SECONDS).set(record.getAge());
+        }
+    }
+}
@@ -0,0 +1,172 @@
+/*
+ * Copyright The WildFly Authors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.jboss.as.txn.subsystem;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Iterator;
+import java.util.List;
+
+import com.arjuna.ats.arjuna.common.Uid;
+import com.arjuna.ats.arjuna.exceptions.ObjectStoreException;
+import com.arjuna.ats.arjuna.objectstore.RecoveryStore;
+import com.arjuna.ats.arjuna.state.InputObjectState;
+import com.arjuna.ats.internal.arjuna.common.UidHelper;
+import org.jboss.as.controller.OperationFailedException;
+
+/**
+ * Iterates over the records of the object store, read directly from the store without creating MBeans.
+ * Records are returned by type, in the alphabetical order of the types and then in store order, so that pages read by
+ * successive invocations are stable. The uids of a type are only read once the records of the previous types were
+ * returned.
+ */
+final class LogStoreRecordIterator {
+
+    private final RecoveryStore store;
+    private final String typeFilter;
+    private final long minAge;
+    private final long now = System.currentTimeMillis() / 1000L;
+    private final Iterator<String> types;
+
+    private String type;
+    private InputObjectState uids;
+
+    /**
+     * @param store the store
+     * @param typeFilter if not null, only records whose type contains this value are returned
+     * @param minAge the minimum age in seconds of the returned records
+     */
+    LogStoreRecordIterator(RecoveryStore store, String typeFilter, long minAge) throws OperationFailedException {
+        this.store = store;
+        this.typeFilter = typeFilter;
+        this.minAge = minAge;
+        try {
+            this.types = getTypes(store).iterator();
+        } catch (ObjectStoreException | IOException e) {
+            throw new OperationFailedException("Transaction discovery error: ", e);
+        }
+    }
+
+    /**
+     * @return the next matching record, or null if there are no more
+     */
+    Record next() throws OperationFailedException {
+        try {
+            while (true) {
+                if (this.uids != null) {
+                    for (Uid uid = UidHelper.unpackFrom(this.uids); uid.notEquals(Uid.nullUid()); uid = UidHelper.unpackFrom(this.uids)) {
+                        long age = this.now - uid.lastModified();
+                        if (age >= this.minAge) {
+                            return new Record(this.store, this.type, uid, age);
+                        }
+                    }
+                    this.uids = null;
+                }
+                if (!this.types.hasNext()) {
+                    return null;
+                }
+                this.type = this.types.next();
+                if (this.typeFilter == null || this.type.contains(this.typeFilter)) {
+                    InputObjectState uids = new InputObjectState();
+                    if (this.store.allObjUids(this.type, uids)) {
+                        this.uids = uids;
+                    }
+                }
+            }
+        } catch (ObjectStoreException | IOException e) {
+            throw new OperationFailedException("Transaction discovery error: ", e);
+        }
+    }
+
+    /**
+     * Skips matching records.
+     *
+     * @param count the number of records to skip
+     * @return the number of records skipped, which is less than the specified count if there are no more records
+     */
+    int skip(int count) throws OperationFailedException {
+        int skipped = 0;
+        while (skipped < count && this.next() != null) {
+            skipped++;
+        }
+        return skipped;
+    }
+
+    private static List<String> getTypes(RecoveryStore store) throws ObjectStoreException, IOException {
+        InputObjectState state = new InputObjectState();
+        if (!store.allTypes(state)) {
+            return Collections.emptyList();
+        }
+        List<String> types = new ArrayList<>();
+        for (String type = state.unpackString(); type != null && !type.isEmpty(); type = state.unpackString()) {
+            types.add(type);
+        }
+        Collections.sort(types);
+        return types;
+    }
+
+    /**
+     * A record of the object store.
+     */
+    static final class Record {
+        private final RecoveryStore store;
+        private final String type;
+        private final Uid uid;
+        private final long age;
+
+        Record(RecoveryStore store, String type, Uid uid, long age) {
+            this.store = store;
+            this.type = type;
+            this.uid = uid;
+            this.age = age;
+        }
+
+        String getType() {
+            return this.type;
+        }
+
+        String getId() {
+            return this.uid.stringForm();
+        }
+
+        long getAge() {
+            return this.age;
+        }
+
+        /**
+         * Reads the state of the record, which changes whenever the outcome of the transaction or of one of its participants
+         * is updated, for instance when a participant is recovered or reports a heuristic outcome.
+         *
+         * @return a digest of the type and state of the record, or of its type only if the record no longer exists
+         */
+        String readState() throws OperationFailedException {
+            MessageDigest digest;
+            try {
+                digest = MessageDigest.getInstance("SHA-256");
+            } catch (NoSuchAlgorithmException e) {
+                throw new IllegalStateException(e);
+            }
+            digest.update(this.type.getBytes(StandardCharsets.UTF_8));
+            try {
+                InputObjectState state = this.store.read_committed(this.uid, this.type);
+                if (state != null) {
+                    digest.update(state.buffer());
+                }
+            } catch (ObjectStoreException e) {
+                throw new OperationFailedException("Transaction discovery error: ", e);
+            }
+            StringBuilder builder = new StringBuilder();
+            for (byte b : digest.digest()) {
+                builder.append(Character.forDigit((b >> 4) & 0xf, 16)).append(Character.forDigit(b & 0xf, 16));
+            }
+            return builder.toString();
+        }
+    }
+}
@@ -6,6 +6,7 @@
 package org.jboss.as.txn.subsystem;
 
 import java.util.Collections;
+import java.util.Map;
 import java.util.Set;
 
 import javax.management.ObjectName;
@@ -25,11 +26,36 @@ import org.jboss.dmr.ModelNode;
 class LogStoreResource implements Resource {
 
     private volatile Resource delegate = Factory.create();
+    // the state of the records of the object store as of the last probe, keyed by record id, guarded by this
+    private Map<String, String> probedRecords;
+    private boolean probedAllLogs;
 
     protected void update(final Resource updated) {
         delegate = updated;
     }
 
+    /**
+     * Records the state of the object store records the model was probed from.
+     */
+    synchronized void probed(final Map<String, String> records, final boolean exposeAllLogs) {
+        probedRecords = records;
+        probedAllLogs = exposeAllLogs;
+    }
+
+    /**
+     * @return true if the model was last probed from the same object store records, in the same state
+     */
+    synchronized boolean isProbed(final Map<String, String> records, final boolean exposeAllLogs) {
+        return records.equals(probedRecords) && exposeAllLogs == probedAllLogs;
+    }
+
+    /**
+     * @return the state of the records the model was last probed from, or an empty map if it was not probed with the same exposed records
+     */
+    synchronized Map<String, String> getProbedRecords(final boolean exposeAllLogs) {
+        return (probedRecords != null && exposeAllLogs == probedAllLogs) ? probedRecords : Collections.<String, String>emptyMap();
+    }
+
     @Override
     public ModelNode getModel() {
         return delegate.getModel();
@@ -0,0 +1,54 @@
+/*
+ * Copyright The WildFly Authors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+package org.jboss.as.txn.subsystem;
+
+import org.jboss.dmr.ModelNode;
+import org.jboss.staxmapper.XMLExtendedStreamReader;
+
+import javax.xml.stream.XMLStreamException;
+
+import static org.jboss.as.controller.parsing.ParseUtils.*;
+
+/**
+ * The {@link org.jboss.staxmapper.XMLElementReader} that handles the version 7.0 of Transaction subsystem xml.
+ */
+class TransactionSubsystem70Parser extends TransactionSubsystem60Parser {
+
+    TransactionSubsystem70Parser() {
+        super(Namespace.TRANSACTIONS_7_0);
+    }
+
+    TransactionSubsystem70Parser(Namespace namespace) {
+        super(namespace);
+    }
+
+    @Override
+    protected void parseUseJournalstore(final XMLExtendedStreamReader reader, final ModelNode logStoreOperation, final ModelNode operation) throws XMLStreamException {
+        logStoreOperation.get(LogStoreConstants.LOG_STORE_TYPE.getName()).set("journal");
+
+        // Handle attributes
+        final int count = reader.getAttributeCount();
+        for (int i = 0; i < count; i++) {
+            requireNoNamespaceAttribute(reader, i);
+            final String value = reader.getAttributeValue(i);
+            final Attribute attribute = Attribute.forName(reader.getAttributeLocalName(i));
+            switch (attribute) {
+                case ENABLE_ASYNC_IO:
+                    TransactionSubsystemRootResourceDefinition.JOURNAL_STORE_ENABLE_ASYNC_IO.parseAndSetParameter(value, operation, reader);
+                    break;
+                case MAX_BATCH_DELAY:
+                    TransactionSubsystemRootResourceDefinition.JOURNAL_STORE_MAX_BATCH_DELAY.parseAndSetParameter(value, operation, reader);
+                    break;
+                case MAX_BATCH_SIZE:
+                    TransactionSubsystemRootResourceDefinition.JOURNAL_STORE_MAX_BATCH_SIZE.parseAndSetParameter(value, operation, reader);
+                    break;
+                default:
+                    throw unexpectedAttribute(reader, i);
+            }
+        }
+        // Handle elements
+        requireNoContent(reader);
+    }
+}
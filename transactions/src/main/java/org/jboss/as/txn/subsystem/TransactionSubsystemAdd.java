@@ -132,6 +132,8 @@ class TransactionSubsystemAdd extends AbstractBoottimeAddStepHandler {
         }
 
         TransactionSubsystemRootResourceDefinition.JOURNAL_STORE_ENABLE_ASYNC_IO.validateAndSet(operation, model);
+        TransactionSubsystemRootResourceDefinition.JOURNAL_STORE_MAX_BATCH_DELAY.validateAndSet(operation, model);
+        TransactionSubsystemRootResourceDefinition.JOURNAL_STORE_MAX_BATCH_SIZE.validateAndSet(operation, model);
 
         TransactionSubsystemRootResourceDefinition.STALE_TRANSACTION_TIME.validateAndSet(operation, model);
     }
@@ -323,6 +325,8 @@ class TransactionSubsystemAdd extends AbstractBoottimeAddStepHandler {
     private void performObjectStoreBoottime(OperationContext context, ModelNode model) throws OperationFailedException {
         boolean useJournalStore = model.hasDefined(USE_JOURNAL_STORE) && model.get(USE_JOURNAL_STORE).asBoolean();
         final boolean enableAsyncIO = TransactionSubsystemRootResourceDefinition.JOURNAL_STORE_ENABLE_ASYNC_IO.resolveModelAttribute(context, model).asBoolean();
+        final ModelNode maxBatchDelay = TransactionSubsystemRootResourceDefinition.JOURNAL_STORE_MAX_BATCH_DELAY.resolveModelAttribute(context, model);
+        final ModelNode maxBatchSize = TransactionSubsystemRootResourceDefinition.JOURNAL_STORE_MAX_BATCH_SIZE.resolveModelAttribute(context, model);
         final String objectStorePathRef = TransactionSubsystemRootResourceDefinition.OBJECT_STORE_RELATIVE_TO.resolveModelAttribute(context, model).isDefined() ?
                 TransactionSubsystemRootResourceDefinition.OBJECT_STORE_RELATIVE_TO.resolveModelAttribute(context, model).asString(): null;
         final String objectStorePath = TransactionSubsystemRootResourceDefinition.OBJECT_STORE_PATH.resolveModelAttribute(context, model).asString();
@@ -346,7 +350,8 @@ class TransactionSubsystemAdd extends AbstractBoottimeAddStepHandler {
 
         CapabilityServiceTarget target = context.getCapabilityServiceTarget();
         // Configure the ObjectStoreEnvironmentBeans
-        final ArjunaObjectStoreEnvironmentService objStoreEnvironmentService = new ArjunaObjectStoreEnvironmentService(useJournalStore, enableAsyncIO, objectStorePath, objectStorePathRef, useJdbcStore, dataSourceJndiName, confiBuilder.build());
+        final ArjunaObjectStoreEnvironmentService objStoreEnvironmentService = new ArjunaObjectStoreEnvironmentService(useJournalStore, enableAsyncIO,
+                maxBatchDelay.isDefined() ? maxBatchDelay.asInt() : null, maxBatchSize.isDefined() ? maxBatchSize.asInt() : null, objectStorePath, objectStorePathRef, useJdbcStore, dataSourceJndiName, confiBuilder.build());
         ServiceBuilder<Void> builder = target.addService(TxnServices.JBOSS_TXN_ARJUNA_OBJECTSTORE_ENVIRONMENT, objStoreEnvironmentService);
         builder.addDependency(PathManagerService.SERVICE_NAME, PathManager.class, objStoreEnvironmentService.getPathManagerInjector());
         builder.requires(TxnServices.JBOSS_TXN_CORE_ENVIRONMENT);
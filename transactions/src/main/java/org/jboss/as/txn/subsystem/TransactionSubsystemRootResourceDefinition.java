@@ -217,6 +217,20 @@ public class TransactionSubsystemRootResourceDefinition extends SimpleResourceDe
             .setXmlName(Attribute.ENABLE_ASYNC_IO.getLocalName())
             .setAllowExpression(true)
             .setRequires(CommonAttributes.USE_JOURNAL_STORE).build();
+    public static final SimpleAttributeDefinition JOURNAL_STORE_MAX_BATCH_DELAY = new SimpleAttributeDefinitionBuilder(CommonAttributes.JOURNAL_STORE_MAX_BATCH_DELAY, ModelType.INT, true)
+            .setFlags(AttributeAccess.Flag.RESTART_JVM)
+            .setXmlName(Attribute.MAX_BATCH_DELAY.getLocalName())
+            .setMeasurementUnit(MeasurementUnit.MICROSECONDS)
+            .setValidator(new IntRangeValidator(1, 1000000, true, true))
+            .setAllowExpression(true)
+            .setRequires(CommonAttributes.USE_JOURNAL_STORE).build();
+    public static final SimpleAttributeDefinition JOURNAL_STORE_MAX_BATCH_SIZE = new SimpleAttributeDefinitionBuilder(CommonAttributes.JOURNAL_STORE_MAX_BATCH_SIZE, ModelType.INT, true)
+            .setFlags(AttributeAccess.Flag.RESTART_JVM)
+            .setXmlName(Attribute.MAX_BATCH_SIZE.getLocalName())
+            .setMeasurementUnit(MeasurementUnit.BYTES)
+            .setValidator(new IntRangeValidator(1, true))
+            .setAllowExpression(true)
+            .setRequires(CommonAttributes.USE_JOURNAL_STORE).build();
 
     public static final SimpleAttributeDefinition USE_JDBC_STORE = new SimpleAttributeDefinitionBuilder(CommonAttributes.USE_JDBC_STORE, ModelType.BOOLEAN, true)
             .setDefaultValue(ModelNode.FALSE)
@@ -295,7 +309,8 @@ public class TransactionSubsystemRootResourceDefinition extends SimpleResourceDe
             OBJECT_STORE_RELATIVE_TO, OBJECT_STORE_PATH, JTS, USE_HORNETQ_STORE_PARAM, USE_JOURNAL_STORE_PARAM, USE_JDBC_STORE, JDBC_STORE_DATASOURCE,
             JDBC_ACTION_STORE_DROP_TABLE, JDBC_ACTION_STORE_TABLE_PREFIX, JDBC_COMMUNICATION_STORE_DROP_TABLE,
             JDBC_COMMUNICATION_STORE_TABLE_PREFIX, JDBC_STATE_STORE_DROP_TABLE, JDBC_STATE_STORE_TABLE_PREFIX,
-            JOURNAL_STORE_ENABLE_ASYNC_IO, ENABLE_STATISTICS, HORNETQ_STORE_ENABLE_ASYNC_IO, STALE_TRANSACTION_TIME
+            JOURNAL_STORE_ENABLE_ASYNC_IO, JOURNAL_STORE_MAX_BATCH_DELAY, JOURNAL_STORE_MAX_BATCH_SIZE, ENABLE_STATISTICS, HORNETQ_STORE_ENABLE_ASYNC_IO,
+            STALE_TRANSACTION_TIME
     };
 
     static final AttributeDefinition[] attributes_1_2 = new AttributeDefinition[] {USE_JDBC_STORE, JDBC_STORE_DATASOURCE,
@@ -533,6 +548,15 @@ public class TransactionSubsystemRootResourceDefinition extends SimpleResourceDe
 
     }
 
+    @Override
+    public void registerOperations(ManagementResourceRegistration resourceRegistration) {
+        super.registerOperations(resourceRegistration);
+        if (registerRuntimeOnly) {
+            TxTimingStatisticsHandler.registerOperations(resourceRegistration);
+            TxEnlistmentStatisticsHandler.registerOperations(resourceRegistration);
+        }
+    }
+
     @Override
     public void registerChildren(ManagementResourceRegistration resourceRegistration) {
         resourceRegistration.registerSubModel(new CMResourceResourceDefinition());
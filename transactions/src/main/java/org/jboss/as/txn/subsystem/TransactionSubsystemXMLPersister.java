@@ -88,6 +88,8 @@ class TransactionSubsystemXMLPersister implements XMLElementWriter<SubsystemMars
         if(node.hasDefined(CommonAttributes.USE_JOURNAL_STORE) && node.get(CommonAttributes.USE_JOURNAL_STORE).asBoolean()) {
             writer.writeStartElement(Element.USE_JOURNAL_STORE.getLocalName());
             TransactionSubsystemRootResourceDefinition.JOURNAL_STORE_ENABLE_ASYNC_IO.marshallAsAttribute(node, writer);
+            TransactionSubsystemRootResourceDefinition.JOURNAL_STORE_MAX_BATCH_DELAY.marshallAsAttribute(node, writer);
+            TransactionSubsystemRootResourceDefinition.JOURNAL_STORE_MAX_BATCH_SIZE.marshallAsAttribute(node, writer);
             writer.writeEndElement();
         }
 
@@ -0,0 +1,94 @@
+/*
+ * Copyright The WildFly Authors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.jboss.as.txn.subsystem;
+
+import java.util.Map;
+import java.util.TreeMap;
+
+import org.jboss.as.controller.AbstractRuntimeOnlyHandler;
+import org.jboss.as.controller.OperationContext;
+import org.jboss.as.controller.OperationDefinition;
+import org.jboss.as.controller.OperationFailedException;
+import org.jboss.as.controller.PathAddress;
+import org.jboss.as.controller.SimpleOperationDefinitionBuilder;
+import org.jboss.as.controller.registry.ManagementResourceRegistration;
+import org.jboss.as.controller.registry.Resource;
+import org.jboss.as.txn.statistics.EnlistmentStatistics;
+import org.jboss.as.txn.statistics.EnlistmentStatistics.Combination;
+import org.jboss.dmr.ModelNode;
+import org.jboss.dmr.ModelType;
+
+/**
+ * Handler reporting which combinations of enlisted resources forced two-phase commits, and the log store writes they caused,
+ * together with suggestions of combinations that would benefit from the last resource commit optimization.
+ */
+public class TxEnlistmentStatisticsHandler extends AbstractRuntimeOnlyHandler {
+
+    static final TxEnlistmentStatisticsHandler INSTANCE = new TxEnlistmentStatisticsHandler();
+
+    static final String READ_ENLISTMENT_STATISTICS = "read-enlistment-statistics";
+
+    static final String LOG_STORE_TYPE = "log-store-type";
+    static final String ONE_PHASE_COMMITS = "one-phase-commits";
+    static final String TWO_PHASE_COMMITS = "two-phase-commits";
+    static final String ESTIMATED_LOG_WRITES = "estimated-log-writes";
+    static final String COMBINATIONS = "combinations";
+    static final String TRANSACTIONS = "transactions";
+    static final String ROLLBACKS = "rollbacks";
+    static final String SUGGESTIONS = "suggestions";
+
+    // Combinations causing less than this share of all two-phase commits are not worth a suggestion
+    private static final double SUGGESTION_THRESHOLD = 0.1;
+
+    private TxEnlistmentStatisticsHandler() {
+    }
+
+    @Override
+    protected void executeRuntimeStep(OperationContext context, ModelNode operation) throws OperationFailedException {
+        EnlistmentStatistics statistics = EnlistmentStatistics.INSTANCE;
+        ModelNode result = context.getResult();
+
+        Resource logStore = context.readResource(PathAddress.pathAddress(TransactionExtension.LOG_STORE_PATH), false);
+        result.get(LOG_STORE_TYPE).set(LogStoreConstants.LOG_STORE_TYPE.resolveModelAttribute(context, logStore.getModel()));
+
+        long twoPhaseCommits = statistics.getTwoPhaseCommits();
+        result.get(ONE_PHASE_COMMITS).set(statistics.getOnePhaseCommits());
+        result.get(TWO_PHASE_COMMITS).set(twoPhaseCommits);
+        result.get(ESTIMATED_LOG_WRITES).set(statistics.getEstimatedLogWrites());
+
+        ModelNode combinations = result.get(COMBINATIONS).setEmptyObject();
+        ModelNode suggestions = result.get(SUGGESTIONS).setEmptyList();
+        for (Map.Entry<String, Combination> entry : new TreeMap<>(statistics.getCombinations()).entrySet()) {
+            Combination combination = entry.getValue();
+            ModelNode node = combinations.get(entry.getKey());
+            node.get(TRANSACTIONS).set(combination.getTransactions());
+            node.get(ONE_PHASE_COMMITS).set(combination.getOnePhaseCommits());
+            node.get(TWO_PHASE_COMMITS).set(combination.getTwoPhaseCommits());
+            node.get(ROLLBACKS).set(combination.getRollbacks());
+            node.get(ESTIMATED_LOG_WRITES).set(combination.getEstimatedLogWrites());
+
+            // Two distinct resources are the typical case of a datasource and a JMS connection factory enlisted together,
+            // where making one of them a local (last) resource avoids the prepare round trip and the log writes
+            if (combination.getResources() == 2 && twoPhaseCommits > 0
+                    && combination.getTwoPhaseCommits() >= SUGGESTION_THRESHOLD * twoPhaseCommits) {
+                suggestions.add(String.format("%d%% of two-phase commits (%d log writes) enlist only %s; consider using a single resource, or a non-XA (last resource) variant of one of them so that they commit in one phase",
+                        combination.getTwoPhaseCommits() * 100 / twoPhaseCommits, combination.getEstimatedLogWrites(), entry.getKey()));
+            } else if (combination.getResources() == 1 && combination.getTwoPhaseCommits() > 0) {
+                suggestions.add(String.format("%s was enlisted more than once in %d transactions without being joined; check that its connections report the same resource manager",
+                        entry.getKey(), combination.getTwoPhaseCommits()));
+            }
+        }
+    }
+
+    static void registerOperations(ManagementResourceRegistration resourceRegistration) {
+        final OperationDefinition read = new SimpleOperationDefinitionBuilder(READ_ENLISTMENT_STATISTICS, TransactionExtension.getResourceDescriptionResolver())
+                .setReplyType(ModelType.OBJECT)
+                .setRuntimeOnly()
+                .setReadOnly()
+                .build();
+        resourceRegistration.registerOperationHandler(read, INSTANCE);
+    }
+}
@@ -0,0 +1,111 @@
+/*
+ * Copyright The WildFly Authors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.jboss.as.txn.subsystem;
+
+import java.util.Map;
+import java.util.TreeMap;
+
+import org.jboss.as.controller.AbstractRuntimeOnlyHandler;
+import org.jboss.as.controller.OperationContext;
+import org.jboss.as.controller.OperationDefinition;
+import org.jboss.as.controller.OperationFailedException;
+import org.jboss.as.controller.SimpleOperationDefinitionBuilder;
+import org.jboss.as.controller.registry.ManagementResourceRegistration;
+import org.jboss.as.txn.statistics.DurationHistogram;
+import org.jboss.as.txn.statistics.EnlistmentStatistics;
+import org.jboss.as.txn.statistics.JournalStoreStatistics;
+import org.jboss.as.txn.statistics.TransactionTimingStatistics;
+import org.jboss.as.txn.statistics.TransactionTimingStatistics.Phase;
+import org.jboss.as.txn.statistics.TransactionTimingStatistics.Timings;
+import org.jboss.dmr.ModelNode;
+import org.jboss.dmr.ModelType;
+
+/**
+ * Handlers for reading and resetting the completion timings gathered per deployment, per enlisted resource and per
+ * kind of synchronization, and the latency of the journal transaction log store, while statistics are enabled.
+ */
+public class TxTimingStatisticsHandler extends AbstractRuntimeOnlyHandler {
+
+    static final String READ_TIMING_STATISTICS = "read-timing-statistics";
+    static final String RESET_TIMING_STATISTICS = "reset-timing-statistics";
+
+    static final String DEPLOYMENTS = "deployments";
+    static final String RESOURCES = "resources";
+    static final String SYNCHRONIZATIONS = "synchronizations";
+    static final String LOG_STORE = "log-store";
+    static final String WRITES = "writes";
+    static final String REMOVES = "removes";
+    static final String AVERAGE_BATCH_SIZE = "average-batch-size";
+    static final String MAX_BATCH_SIZE = "max-batch-size";
+
+    static final String COUNT = "count";
+    static final String AVERAGE_TIME = "average-time";
+    static final String MAX_TIME = "max-time";
+    static final String P50_TIME = "p50-time";
+    static final String P99_TIME = "p99-time";
+
+    private final boolean reset;
+
+    private TxTimingStatisticsHandler(boolean reset) {
+        this.reset = reset;
+    }
+
+    @Override
+    protected void executeRuntimeStep(OperationContext context, ModelNode operation) throws OperationFailedException {
+        TransactionTimingStatistics statistics = TransactionTimingStatistics.INSTANCE;
+        if (this.reset) {
+            statistics.reset();
+            EnlistmentStatistics.INSTANCE.reset();
+            JournalStoreStatistics.INSTANCE.reset();
+            return;
+        }
+        ModelNode result = context.getResult();
+        addTimings(result.get(DEPLOYMENTS).setEmptyObject(), statistics.getDeployments());
+        addTimings(result.get(RESOURCES).setEmptyObject(), statistics.getResources());
+        addTimings(result.get(SYNCHRONIZATIONS).setEmptyObject(), statistics.getSynchronizations());
+        JournalStoreStatistics journal = JournalStoreStatistics.INSTANCE;
+        if (journal.getWrites().getCount() > 0 || journal.getRemoves().getCount() > 0) {
+            ModelNode logStore = result.get(LOG_STORE);
+            addHistogram(logStore.get(WRITES), journal.getWrites());
+            addHistogram(logStore.get(REMOVES), journal.getRemoves());
+            logStore.get(AVERAGE_BATCH_SIZE).set(journal.getAverageBatchSize());
+            logStore.get(MAX_BATCH_SIZE).set(journal.getMaxBatchSize());
+        }
+    }
+
+    private static void addTimings(ModelNode node, Map<String, Timings> timings) {
+        for (Map.Entry<String, Timings> entry : new TreeMap<>(timings).entrySet()) {
+            ModelNode phases = node.get(entry.getKey());
+            for (Phase phase : Phase.values()) {
+                DurationHistogram histogram = entry.getValue().get(phase);
+                if (histogram.getCount() > 0) {
+                    addHistogram(phases.get(phase.toString()), histogram);
+                }
+            }
+        }
+    }
+
+    private static void addHistogram(ModelNode node, DurationHistogram histogram) {
+        node.get(COUNT).set(histogram.getCount());
+        node.get(AVERAGE_TIME).set(histogram.getAverageNanos());
+        node.get(MAX_TIME).set(histogram.getMaxNanos());
+        node.get(P50_TIME).set(histogram.getPercentileNanos(0.5));
+        node.get(P99_TIME).set(histogram.getPercentileNanos(0.99));
+    }
+
+    static void registerOperations(ManagementResourceRegistration resourceRegistration) {
+        final OperationDefinition read = new SimpleOperationDefinitionBuilder(READ_TIMING_STATISTICS, TransactionExtension.getResourceDescriptionResolver())
+                .setReplyType(ModelType.OBJECT)
+                .setRuntimeOnly()
+                .setReadOnly()
+                .build();
+        resourceRegistration.registerOperationHandler(read, new TxTimingStatisticsHandler(false));
+        final OperationDefinition reset = new SimpleOperationDefinitionBuilder(RESET_TIMING_STATISTICS, TransactionExtension.getResourceDescriptionResolver())
+                .setRuntimeOnly()
+                .build();
+        resourceRegistration.registerOperationHandler(reset, new TxTimingStatisticsHandler(true));
+    }
+}
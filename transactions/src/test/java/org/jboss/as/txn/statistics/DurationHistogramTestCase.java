@@ -0,0 +1,49 @@
+/*
+ * Copyright The WildFly Authors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.jboss.as.txn.statistics;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+import java.util.concurrent.TimeUnit;
+
+import org.junit.Test;
+
+/**
+ * Unit test for {@link DurationHistogram}.
+ */
+public class DurationHistogramTestCase {
+
+    @Test
+    public void empty() {
+        DurationHistogram histogram = new DurationHistogram();
+        assertEquals(0, histogram.getCount());
+        assertEquals(0, histogram.getAverageNanos());
+        assertEquals(0, histogram.getPercentileNanos(0.99));
+    }
+
+    @Test
+    public void percentiles() {
+        DurationHistogram histogram = new DurationHistogram();
+        for (int i = 0; i < 99; ++i) {
+            histogram.record(TimeUnit.MICROSECONDS.toNanos(100));
+        }
+        histogram.record(TimeUnit.MILLISECONDS.toNanos(50));
+
+        assertEquals(100, histogram.getCount());
+        assertEquals(TimeUnit.MILLISECONDS.toNanos(50), histogram.getMaxNanos());
+        long p50 = histogram.getPercentileNanos(0.5);
+        // bucket upper bound is within a factor of 2 of the recorded value
+        assertTrue(p50 >= TimeUnit.MICROSECONDS.toNanos(100));
+        assertTrue(p50 <= TimeUnit.MICROSECONDS.toNanos(200));
+        assertEquals(p50, histogram.getPercentileNanos(0.99));
+        assertEquals(TimeUnit.MILLISECONDS.toNanos(50), histogram.getPercentileNanos(1));
+
+        histogram.reset();
+        assertEquals(0, histogram.getCount());
+        assertEquals(0, histogram.getMaxNanos());
+    }
+}
@@ -0,0 +1,46 @@
+/*
+ * Copyright The WildFly Authors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.jboss.as.txn.statistics;
+
+import static org.junit.Assert.assertEquals;
+
+import java.util.Arrays;
+import java.util.Collections;
+
+import org.junit.After;
+import org.junit.Test;
+
+/**
+ * Unit test for {@link EnlistmentStatistics}.
+ */
+public class EnlistmentStatisticsTestCase {
+
+    private final EnlistmentStatistics statistics = EnlistmentStatistics.INSTANCE;
+
+    @After
+    public void reset() {
+        this.statistics.reset();
+    }
+
+    @Test
+    public void test() {
+        this.statistics.record(Arrays.asList("java:/JmsXA", "java:/ExampleDS"), 2, true);
+        this.statistics.record(Arrays.asList("java:/ExampleDS", "java:/JmsXA"), 2, false);
+        this.statistics.record(Collections.singleton("java:/ExampleDS"), 1, true);
+        this.statistics.record(Collections.emptySet(), 0, true);
+
+        assertEquals(1, this.statistics.getOnePhaseCommits());
+        assertEquals(1, this.statistics.getTwoPhaseCommits());
+        assertEquals(2, this.statistics.getEstimatedLogWrites());
+        assertEquals(2, this.statistics.getCombinations().size());
+
+        EnlistmentStatistics.Combination combination = this.statistics.getCombinations().get("java:/ExampleDS + java:/JmsXA");
+        assertEquals(2, combination.getResources());
+        assertEquals(2, combination.getTransactions());
+        assertEquals(1, combination.getTwoPhaseCommits());
+        assertEquals(1, combination.getRollbacks());
+    }
+}
@@ -0,0 +1,162 @@
+/*
+ * Copyright The WildFly Authors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.jboss.as.txn.statistics;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
+
+import java.util.concurrent.TimeUnit;
+
+import javax.transaction.xa.XAException;
+import javax.transaction.xa.XAResource;
+import javax.transaction.xa.Xid;
+
+import com.arjuna.ats.arjuna.common.arjPropertyManager;
+import org.jboss.as.txn.statistics.TransactionTimingStatistics.Phase;
+import org.jboss.tm.LastResource;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+/**
+ * Unit test for {@link TimedXAResource}.
+ */
+public class TimedXAResourceTestCase {
+
+    private final TransactionTimingStatistics statistics = TransactionTimingStatistics.INSTANCE;
+
+    @Before
+    public void enable() {
+        arjPropertyManager.getCoordinatorEnvironmentBean().setEnableStatistics(true);
+    }
+
+    @After
+    public void reset() {
+        arjPropertyManager.getCoordinatorEnvironmentBean().setEnableStatistics(false);
+        this.statistics.reset();
+    }
+
+    @Test
+    public void timings() throws XAException {
+        XAResource slow = TimedXAResource.wrap(XAResource.class, new TestResource(TimeUnit.MILLISECONDS.toNanos(20)), "java:/SlowDS");
+        XAResource fast = TimedXAResource.wrap(XAResource.class, new TestResource(0), "java:/JmsXA");
+
+        slow.prepare(null);
+        fast.prepare(null);
+        slow.commit(null, false);
+        fast.commit(null, false);
+        fast.rollback(null);
+
+        // each resource records its own durations
+        TransactionTimingStatistics.Timings slowTimings = this.statistics.getResources().get("java:/SlowDS");
+        assertEquals(1, slowTimings.get(Phase.PREPARE).getCount());
+        assertEquals(1, slowTimings.get(Phase.COMMIT).getCount());
+        assertEquals(0, slowTimings.get(Phase.ROLLBACK).getCount());
+        assertTrue(slowTimings.get(Phase.COMMIT).getMaxNanos() >= TimeUnit.MILLISECONDS.toNanos(20));
+        TransactionTimingStatistics.Timings fastTimings = this.statistics.getResources().get("java:/JmsXA");
+        assertEquals(1, fastTimings.get(Phase.PREPARE).getCount());
+        assertEquals(1, fastTimings.get(Phase.COMMIT).getCount());
+        assertEquals(1, fastTimings.get(Phase.ROLLBACK).getCount());
+
+        // nothing is recorded while statistics are disabled
+        arjPropertyManager.getCoordinatorEnvironmentBean().setEnableStatistics(false);
+        fast.commit(null, true);
+        assertEquals(1, fastTimings.get(Phase.COMMIT).getCount());
+    }
+
+    @Test
+    public void delegation() throws XAException {
+        TestResource resource = new TestResource(0);
+        XAResource wrapper = TimedXAResource.wrap(XAResource.class, resource, null);
+
+        // the markers of the resource are kept
+        assertTrue(wrapper instanceof LastResource);
+        assertSame(resource, TimedXAResource.unwrap(wrapper));
+        assertSame(resource, TimedXAResource.unwrap(resource));
+
+        // the resource manager of two wrapped resources is compared on the resources themselves
+        assertTrue(wrapper.isSameRM(TimedXAResource.wrap(XAResource.class, new TestResource(0), null)));
+        assertFalse(wrapper.isSameRM(null));
+
+        assertEquals(XAResource.XA_OK, wrapper.prepare(null));
+        assertEquals(1, this.statistics.getResources().get(TestResource.class.getName()).get(Phase.PREPARE).getCount());
+
+        // the exceptions of the resource are thrown as is, and the failed call is still timed
+        wrapper.rollback(null);
+        try {
+            wrapper.rollback(null);
+            fail();
+        } catch (XAException e) {
+            assertEquals(XAException.XAER_NOTA, e.errorCode);
+        }
+        assertEquals(2, this.statistics.getResources().get(TestResource.class.getName()).get(Phase.ROLLBACK).getCount());
+    }
+
+    private static class TestResource implements LastResource {
+        private final long commitNanos;
+        private boolean rolledBack;
+
+        TestResource(long commitNanos) {
+            this.commitNanos = commitNanos;
+        }
+
+        @Override
+        public void commit(Xid xid, boolean onePhase) {
+            long end = System.nanoTime() + this.commitNanos;
+            while (System.nanoTime() - end < 0) {
+                Thread.yield();
+            }
+        }
+
+        @Override
+        public void end(Xid xid, int flags) {
+        }
+
+        @Override
+        public void forget(Xid xid) {
+        }
+
+        @Override
+        public int getTransactionTimeout() {
+            return 0;
+        }
+
+        @Override
+        public boolean isSameRM(XAResource resource) {
+            return resource instanceof TestResource;
+        }
+
+        @Override
+        public int prepare(Xid xid) {
+            return XA_OK;
+        }
+
+        @Override
+        public Xid[] recover(int flag) {
+            return new Xid[0];
+        }
+
+        @Override
+        public void rollback(Xid xid) throws XAException {
+            if (this.rolledBack) {
+                throw new XAException(XAException.XAER_NOTA);
+            }
+            this.rolledBack = true;
+        }
+
+        @Override
+        public boolean setTransactionTimeout(int seconds) {
+            return false;
+        }
+
+        @Override
+        public void start(Xid xid, int flags) {
+        }
+    }
+}
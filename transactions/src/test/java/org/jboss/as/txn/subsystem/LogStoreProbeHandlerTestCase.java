@@ -0,0 +1,77 @@
+/*
+ * Copyright The WildFly Authors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.jboss.as.txn.subsystem;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNotEquals;
+import static org.junit.Assert.assertTrue;
+
+import java.util.Map;
+
+import com.arjuna.ats.arjuna.common.ObjectStoreEnvironmentBean;
+import com.arjuna.ats.arjuna.common.Uid;
+import com.arjuna.ats.arjuna.state.OutputObjectState;
+import com.arjuna.ats.internal.arjuna.objectstore.ShadowNoFileLockStore;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+/**
+ * Unit test for the change detection of the incremental probe of {@link LogStoreProbeHandler}.
+ */
+public class LogStoreProbeHandlerTestCase {
+
+    private static final String TYPE = "/StateManager/BasicAction/TwoPhaseCoordinator/AtomicAction";
+
+    @Rule
+    public TemporaryFolder folder = new TemporaryFolder();
+
+    @Test
+    public void detectsChanges() throws Exception {
+        ObjectStoreEnvironmentBean environment = new ObjectStoreEnvironmentBean();
+        environment.setObjectStoreDir(this.folder.getRoot().getAbsolutePath());
+        ShadowNoFileLockStore store = new ShadowNoFileLockStore(environment);
+        LogStoreResource logStore = new LogStoreResource();
+
+        Map<String, String> records = LogStoreProbeHandler.getRecords(store);
+        assertTrue(records.isEmpty());
+        assertFalse(logStore.isProbed(records, false));
+        logStore.probed(records, false);
+        assertTrue(logStore.isProbed(LogStoreProbeHandler.getRecords(store), false));
+        // exposing all logs probes other records
+        assertFalse(logStore.isProbed(LogStoreProbeHandler.getRecords(store), true));
+        assertTrue(logStore.getProbedRecords(true).isEmpty());
+
+        Uid uid = new Uid();
+        assertTrue(store.write_committed(uid, TYPE, state(uid, "prepared")));
+        records = LogStoreProbeHandler.getRecords(store);
+        assertEquals(1, records.size());
+        assertTrue(records.containsKey(uid.stringForm()));
+        assertFalse(logStore.isProbed(records, false));
+        logStore.probed(records, false);
+        assertTrue(logStore.isProbed(LogStoreProbeHandler.getRecords(store), false));
+        assertEquals(records, logStore.getProbedRecords(false));
+
+        // a record rewritten with another state, for instance once a participant reports a heuristic outcome, is probed again
+        assertTrue(store.write_committed(uid, TYPE, state(uid, "heuristic")));
+        Map<String, String> updated = LogStoreProbeHandler.getRecords(store);
+        assertEquals(records.keySet(), updated.keySet());
+        assertNotEquals(records.get(uid.stringForm()), updated.get(uid.stringForm()));
+        assertFalse(logStore.isProbed(updated, false));
+        logStore.probed(updated, false);
+
+        // a record removed from the store, for instance once recovered, changes the records too
+        assertTrue(store.remove_committed(uid, TYPE));
+        assertFalse(logStore.isProbed(LogStoreProbeHandler.getRecords(store), false));
+    }
+
+    private static OutputObjectState state(Uid uid, String status) throws Exception {
+        OutputObjectState state = new OutputObjectState(uid, TYPE);
+        state.packString(status);
+        return state;
+    }
+}
@@ -0,0 +1,95 @@
+/*
+ * Copyright The WildFly Authors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.jboss.as.txn.subsystem;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import com.arjuna.ats.arjuna.common.ObjectStoreEnvironmentBean;
+import com.arjuna.ats.arjuna.common.Uid;
+import com.arjuna.ats.arjuna.state.OutputObjectState;
+import com.arjuna.ats.internal.arjuna.objectstore.ShadowNoFileLockStore;
+import org.jboss.dmr.ModelNode;
+import org.junit.Before;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+/**
+ * Unit test for {@link LogStoreRecordIterator}.
+ */
+public class LogStoreRecordIteratorTestCase {
+
+    private static final String ATOMIC_ACTION = "/StateManager/BasicAction/TwoPhaseCoordinator/AtomicAction";
+    private static final String SUBORDINATE = "/StateManager/BasicAction/TwoPhaseCoordinator/AtomicAction/SubordinateAtomicAction/JCA";
+
+    @Rule
+    public TemporaryFolder folder = new TemporaryFolder();
+
+    private ShadowNoFileLockStore store;
+
+    @Before
+    public void init() throws Exception {
+        ObjectStoreEnvironmentBean environment = new ObjectStoreEnvironmentBean();
+        environment.setObjectStoreDir(this.folder.getRoot().getAbsolutePath());
+        this.store = new ShadowNoFileLockStore(environment);
+        for (int i = 0; i < 3; i++) {
+            this.write(ATOMIC_ACTION);
+        }
+        this.write(SUBORDINATE);
+    }
+
+    @Test
+    public void iterate() throws Exception {
+        List<String> types = new ArrayList<>();
+        LogStoreRecordIterator records = new LogStoreRecordIterator(this.store, null, 0);
+        for (LogStoreRecordIterator.Record record = records.next(); record != null; record = records.next()) {
+            types.add(record.getType());
+            assertTrue(record.getAge() >= 0);
+        }
+        assertEquals(4, types.size());
+        assertNull(records.next());
+
+        // records are filtered by type
+        records = new LogStoreRecordIterator(this.store, "Subordinate", 0);
+        assertTrue(records.next().getType().endsWith("/SubordinateAtomicAction/JCA"));
+        assertNull(records.next());
+
+        // records are filtered by age
+        assertNull(new LogStoreRecordIterator(this.store, null, 3600).next());
+    }
+
+    @Test
+    public void page() throws Exception {
+        ModelNode all = new ModelNode().setEmptyList();
+        LogStoreReadRecordsHandler.readRecords(this.store, null, 0, 0, 100, all);
+        assertEquals(4, all.asList().size());
+
+        ModelNode first = new ModelNode().setEmptyList();
+        LogStoreReadRecordsHandler.readRecords(this.store, null, 0, 0, 3, first);
+        ModelNode second = new ModelNode().setEmptyList();
+        LogStoreReadRecordsHandler.readRecords(this.store, null, 0, 3, 3, second);
+        assertEquals(3, first.asList().size());
+        assertEquals(1, second.asList().size());
+        // pages are stable, so that successive pages cover all records
+        assertEquals(all.get(3), second.get(0));
+        assertEquals(all.get(0), first.get(0));
+
+        // the type filter matches the types containing it, and skipping stops after the last record
+        assertEquals(4, new LogStoreRecordIterator(this.store, "AtomicAction", 0).skip(5));
+    }
+
+    private void write(String type) throws Exception {
+        Uid uid = new Uid();
+        OutputObjectState state = new OutputObjectState(uid, type);
+        state.packString("record");
+        assertTrue(this.store.write_committed(uid, type, state));
+    }
+}
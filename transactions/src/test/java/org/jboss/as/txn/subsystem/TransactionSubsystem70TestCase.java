@@ -0,0 +1,61 @@
+/*
+ * Copyright The WildFly Authors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+package org.jboss.as.txn.subsystem;
+
+import java.io.IOException;
+
+import org.jboss.as.controller.descriptions.ModelDescriptionConstants;
+import org.jboss.as.model.test.ModelTestUtils;
+import org.jboss.as.subsystem.test.AbstractSubsystemBaseTest;
+import org.jboss.as.subsystem.test.KernelServices;
+import org.jboss.dmr.ModelNode;
+import org.junit.Assert;
+import org.junit.Test;
+
+/**
+ * Tests the 7.0 version of the transactions subsystem schema.
+ */
+public class TransactionSubsystem70TestCase extends AbstractSubsystemBaseTest {
+
+    public TransactionSubsystem70TestCase() {
+        super(TransactionExtension.SUBSYSTEM_NAME, new TransactionExtension());
+    }
+
+    @Override
+    protected String getSubsystemXml() throws IOException {
+        return readResource("subsystem-7.0.0.xml");
+    }
+
+    @Override
+    protected String getSubsystemXsdPath() throws Exception {
+        return "schema/wildfly-txn_7_0.xsd";
+    }
+
+    @Override
+    protected void compareXml(String configId, String original, String marshalled) throws Exception {
+        String transformed = ModelTestUtils.normalizeXML(original.replace("enable-statistics", "statistics-enabled"));
+        super.compareXml(configId, transformed, marshalled, true);
+    }
+
+    @Test
+    public void testFullConfig() throws Exception {
+        standardSubsystemTest("full-7.0.0.xml");
+    }
+
+    @Test
+    public void testExpressions() throws Exception {
+        standardSubsystemTest("full-expressions-7.0.0.xml");
+    }
+
+    @Test
+    public void testJournalStoreBatching() throws Exception {
+        KernelServices kernelServices = createKernelServicesBuilder(createAdditionalInitialization()).setSubsystemXml(readResource("full-7.0.0.xml")).build();
+        Assert.assertTrue("Subsystem boot failed!", kernelServices.isSuccessfulBoot());
+
+        ModelNode model = kernelServices.readWholeModel().get(ModelDescriptionConstants.SUBSYSTEM, getMainSubsystemName());
+        Assert.assertEquals(500, model.get(CommonAttributes.JOURNAL_STORE_MAX_BATCH_DELAY).asInt());
+        Assert.assertEquals(1048576, model.get(CommonAttributes.JOURNAL_STORE_MAX_BATCH_SIZE).asInt());
+    }
+}
@@ -211,6 +211,10 @@ public interface Constants {
     String MAX_AJP_PACKET_SIZE = "max-ajp-packet-size";
     String STATISTICS_ENABLED = "statistics-enabled";
     String DEFAULT_SECURITY_DOMAIN = "default-security-domain";
+    String GATED_ADMISSION_RATE = "gated-admission-rate";
+    String GATED_ADMISSION_MAX_QUEUED_REQUESTS = "gated-admission-max-queued-requests";
+    String GATED_ADMISSION_WARM_UP = "gated-admission-warm-up";
+    String FAIR_SHARE_MAX_REQUESTS = "fair-share-max-requests";
     String DISABLE_FILE_WATCH_SERVICE = "disable-file-watch-service";
     String DISABLE_SESSION_ID_REUSE = "disable-session-id-reuse";
     String PER_MESSAGE_DEFLATE = "per-message-deflate";
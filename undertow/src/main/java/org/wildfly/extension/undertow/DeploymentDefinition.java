@@ -5,6 +5,7 @@
 
 package org.wildfly.extension.undertow;
 
+import static org.jboss.as.controller.client.helpers.MeasurementUnit.MILLISECONDS;
 import static org.jboss.as.controller.client.helpers.MeasurementUnit.SECONDS;
 import static org.jboss.as.controller.descriptions.ModelDescriptionConstants.OP;
 import static org.jboss.as.controller.descriptions.ModelDescriptionConstants.SUBSYSTEM;
@@ -36,10 +37,13 @@ import org.jboss.as.controller.descriptions.ModelDescriptionConstants;
 import org.jboss.as.controller.descriptions.ResourceDescriptionResolver;
 import org.jboss.as.controller.registry.ManagementResourceRegistration;
 import org.jboss.as.controller.registry.Resource;
+import org.jboss.as.ee.concurrent.AdaptiveConcurrencyLimit;
 import org.jboss.dmr.ModelNode;
 import org.jboss.dmr.ModelType;
 import org.jboss.dmr.Property;
 import org.jboss.msc.service.ServiceController;
+import org.wildfly.extension.undertow.deployment.FairShareScheduler;
+import org.wildfly.extension.undertow.deployment.GatedAdmission;
 import org.wildfly.extension.undertow.deployment.UndertowDeploymentService;
 import org.wildfly.extension.undertow.logging.UndertowLogger;
 
@@ -53,6 +57,43 @@ public class DeploymentDefinition extends SimpleResourceDefinition {
     public static final AttributeDefinition SERVER = new SimpleAttributeDefinitionBuilder("server", ModelType.STRING).setStorageRuntime().build();
     public static final AttributeDefinition CONTEXT_ROOT = new SimpleAttributeDefinitionBuilder("context-root", ModelType.STRING).setStorageRuntime().build();
     public static final AttributeDefinition VIRTUAL_HOST = new SimpleAttributeDefinitionBuilder("virtual-host", ModelType.STRING).setStorageRuntime().build();
+    static final AttributeDefinition QUEUED_REQUESTS = new SimpleAttributeDefinitionBuilder("queued-requests", ModelType.INT)
+            .setUndefinedMetricValue(ModelNode.ZERO)
+            .setStorageRuntime()
+            .build();
+    static final AttributeDefinition REJECTED_REQUESTS = new SimpleAttributeDefinitionBuilder("rejected-requests", ModelType.LONG)
+            .setUndefinedMetricValue(ModelNode.ZERO)
+            .setFlags(COUNTER_METRIC)
+            .setStorageRuntime()
+            .build();
+    static final AttributeDefinition CONCURRENCY_LIMIT = new SimpleAttributeDefinitionBuilder("concurrency-limit", ModelType.INT)
+            .setUndefinedMetricValue(ModelNode.ZERO)
+            .setStorageRuntime()
+            .build();
+    static final AttributeDefinition CONCURRENCY_LIMIT_REJECTED_REQUESTS = new SimpleAttributeDefinitionBuilder("concurrency-limit-rejected-requests", ModelType.LONG)
+            .setUndefinedMetricValue(ModelNode.ZERO)
+            .setFlags(COUNTER_METRIC)
+            .setStorageRuntime()
+            .build();
+    static final AttributeDefinition FAIR_SHARE_QUEUED_REQUESTS = new SimpleAttributeDefinitionBuilder("fair-share-queued-requests", ModelType.INT)
+            .setUndefinedMetricValue(ModelNode.ZERO)
+            .setStorageRuntime()
+            .build();
+    static final AttributeDefinition FAIR_SHARE_REJECTED_REQUESTS = new SimpleAttributeDefinitionBuilder("fair-share-rejected-requests", ModelType.LONG)
+            .setUndefinedMetricValue(ModelNode.ZERO)
+            .setFlags(COUNTER_METRIC)
+            .setStorageRuntime()
+            .build();
+    static final AttributeDefinition FAIR_SHARE_AVERAGE_QUEUE_TIME = new SimpleAttributeDefinitionBuilder("fair-share-average-queue-time", ModelType.LONG)
+            .setUndefinedMetricValue(ModelNode.ZERO)
+            .setMeasurementUnit(MILLISECONDS)
+            .setStorageRuntime()
+            .build();
+    static final AttributeDefinition FAIR_SHARE_MAX_QUEUE_TIME = new SimpleAttributeDefinitionBuilder("fair-share-max-queue-time", ModelType.LONG)
+            .setUndefinedMetricValue(ModelNode.ZERO)
+            .setMeasurementUnit(MILLISECONDS)
+            .setStorageRuntime()
+            .build();
     static final AttributeDefinition SESSIOND_ID = new SimpleAttributeDefinitionBuilder(Constants.SESSION_ID, ModelType.STRING)
             .setRequired(true)
             .setAllowExpression(false)
@@ -138,6 +179,14 @@ public class DeploymentDefinition extends SimpleResourceDefinition {
         for (SessionStat stat : SessionStat.values()) {
             resourceRegistration.registerMetric(stat.definition, SessionManagerStatsHandler.getInstance());
         }
+        resourceRegistration.registerMetric(QUEUED_REQUESTS, RequestAdmissionStatsHandler.INSTANCE);
+        resourceRegistration.registerMetric(REJECTED_REQUESTS, RequestAdmissionStatsHandler.INSTANCE);
+        resourceRegistration.registerMetric(CONCURRENCY_LIMIT, RequestAdmissionStatsHandler.INSTANCE);
+        resourceRegistration.registerMetric(CONCURRENCY_LIMIT_REJECTED_REQUESTS, RequestAdmissionStatsHandler.INSTANCE);
+        resourceRegistration.registerMetric(FAIR_SHARE_QUEUED_REQUESTS, RequestAdmissionStatsHandler.INSTANCE);
+        resourceRegistration.registerMetric(FAIR_SHARE_REJECTED_REQUESTS, RequestAdmissionStatsHandler.INSTANCE);
+        resourceRegistration.registerMetric(FAIR_SHARE_AVERAGE_QUEUE_TIME, RequestAdmissionStatsHandler.INSTANCE);
+        resourceRegistration.registerMetric(FAIR_SHARE_MAX_QUEUE_TIME, RequestAdmissionStatsHandler.INSTANCE);
     }
 
     @Override
@@ -354,6 +403,66 @@ public class DeploymentDefinition extends SimpleResourceDefinition {
         }
     }
 
+    static class RequestAdmissionStatsHandler extends AbstractRuntimeOnlyHandler {
+
+        static final RequestAdmissionStatsHandler INSTANCE = new RequestAdmissionStatsHandler();
+
+        @Override
+        protected void executeRuntimeStep(OperationContext context, ModelNode operation) throws OperationFailedException {
+            final PathAddress address = PathAddress.pathAddress(operation.get(ModelDescriptionConstants.OP_ADDR));
+            final ModelNode subModel = context.readResourceFromRoot(address, false).getModel();
+            final String host = VIRTUAL_HOST.resolveModelAttribute(context, subModel).asString();
+            final String path = CONTEXT_ROOT.resolveModelAttribute(context, subModel).asString();
+            final String server = SERVER.resolveModelAttribute(context, subModel).asString();
+
+            final ServiceController<?> controller = context.getServiceRegistry(false).getService(UndertowService.deploymentServiceName(server, host, path));
+            if (controller == null || controller.getState() != ServiceController.State.UP) {
+                return;
+            }
+            // the metrics are undefined unless gated admission, the concurrency limit, or the fair share scheduling is enabled
+            final UndertowDeploymentService deploymentService = (UndertowDeploymentService) controller.getService();
+            final GatedAdmission admission = deploymentService.getGatedAdmission();
+            final AdaptiveConcurrencyLimit limit = deploymentService.getConcurrencyLimit();
+            final FairShareScheduler.Share share = deploymentService.getFairShare();
+            final String name = operation.require(ModelDescriptionConstants.NAME).asString();
+            if (QUEUED_REQUESTS.getName().equals(name)) {
+                if (admission != null) {
+                    context.getResult().set(admission.getQueuedRequests());
+                }
+            } else if (REJECTED_REQUESTS.getName().equals(name)) {
+                if (admission != null) {
+                    context.getResult().set(admission.getRejectedRequests());
+                }
+            } else if (CONCURRENCY_LIMIT.getName().equals(name)) {
+                if (limit != null) {
+                    context.getResult().set(limit.getLimit());
+                }
+            } else if (CONCURRENCY_LIMIT_REJECTED_REQUESTS.getName().equals(name)) {
+                if (limit != null) {
+                    context.getResult().set(limit.getRejected());
+                }
+            } else if (FAIR_SHARE_QUEUED_REQUESTS.getName().equals(name)) {
+                if (share != null) {
+                    context.getResult().set(share.getQueuedRequests());
+                }
+            } else if (FAIR_SHARE_REJECTED_REQUESTS.getName().equals(name)) {
+                if (share != null) {
+                    context.getResult().set(share.getRejectedRequests());
+                }
+            } else if (FAIR_SHARE_AVERAGE_QUEUE_TIME.getName().equals(name)) {
+                if (share != null) {
+                    context.getResult().set(share.getAverageQueueTime());
+                }
+            } else if (FAIR_SHARE_MAX_QUEUE_TIME.getName().equals(name)) {
+                if (share != null) {
+                    context.getResult().set(share.getMaxQueueTime());
+                }
+            } else {
+                context.getFailureDescription().set(UndertowLogger.ROOT_LOGGER.unknownMetric(name));
+            }
+        }
+    }
+
     private static SessionManager getSessionManager(OperationContext context, ModelNode operation) throws OperationFailedException {
         final PathAddress address = PathAddress.pathAddress(operation.get(ModelDescriptionConstants.OP_ADDR));
         final Resource web = context.readResourceFromRoot(address.subAddress(0, address.size()), false);
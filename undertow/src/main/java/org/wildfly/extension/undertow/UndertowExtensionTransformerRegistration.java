@@ -37,6 +37,12 @@ public class UndertowExtensionTransformerRegistration implements ExtensionTransf
         for (UndertowSubsystemModel model : EnumSet.complementOf(EnumSet.of(UndertowSubsystemModel.CURRENT))) {
             ModelVersion version = model.getVersion();
             ResourceTransformationDescriptionBuilder subsystem = TransformationDescriptionBuilder.Factory.createSubsystemInstance();
+            if (UndertowSubsystemModel.VERSION_14_0_0.requiresTransformation(version)) {
+                subsystem.getAttributeBuilder()
+                    .setDiscard(DiscardAttributeChecker.DEFAULT_VALUE, UndertowRootDefinition.GATED_ADMISSION_RATE, UndertowRootDefinition.GATED_ADMISSION_MAX_QUEUED_REQUESTS, UndertowRootDefinition.GATED_ADMISSION_WARM_UP, UndertowRootDefinition.FAIR_SHARE_MAX_REQUESTS)
+                    .addRejectCheck(RejectAttributeChecker.DEFINED, UndertowRootDefinition.GATED_ADMISSION_RATE, UndertowRootDefinition.GATED_ADMISSION_MAX_QUEUED_REQUESTS, UndertowRootDefinition.GATED_ADMISSION_WARM_UP, UndertowRootDefinition.FAIR_SHARE_MAX_REQUESTS)
+                    .end();
+            }
 
             ResourceTransformationDescriptionBuilder server = subsystem.addChildResource(ServerDefinition.PATH_ELEMENT);
             for (PathElement listenerPath : Set.of(HttpListenerResourceDefinition.PATH_ELEMENT, HttpsListenerResourceDefinition.PATH_ELEMENT, AjpListenerResourceDefinition.PATH_ELEMENT)) {
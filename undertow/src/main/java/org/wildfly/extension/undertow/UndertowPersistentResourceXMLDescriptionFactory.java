@@ -80,6 +80,9 @@ public enum UndertowPersistentResourceXMLDescriptionFactory implements Function<
         if (!schema.since(UndertowSubsystemSchema.VERSION_12_0)) {
             attributes = attributes.filter(Predicate.isEqual(UndertowRootDefinition.OBFUSCATE_SESSION_ROUTE).negate());
         }
+        if (!schema.since(UndertowSubsystemSchema.VERSION_15_0)) {
+            attributes = attributes.filter(Predicate.not(Set.of(UndertowRootDefinition.GATED_ADMISSION_RATE, UndertowRootDefinition.GATED_ADMISSION_MAX_QUEUED_REQUESTS, UndertowRootDefinition.GATED_ADMISSION_WARM_UP, UndertowRootDefinition.FAIR_SHARE_MAX_REQUESTS)::contains));
+        }
         attributes.forEach(builder::addAttribute);
         return builder.build();
     }
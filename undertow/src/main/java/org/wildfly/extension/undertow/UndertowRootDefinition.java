@@ -27,6 +27,8 @@ import org.jboss.as.controller.SimpleAttributeDefinitionBuilder;
 import org.jboss.as.controller.SimpleResourceDefinition;
 import org.jboss.as.controller.access.management.SensitiveTargetAccessConstraintDefinition;
 import org.jboss.as.controller.capability.RuntimeCapability;
+import org.jboss.as.controller.client.helpers.MeasurementUnit;
+import org.jboss.as.controller.operations.validation.IntRangeValidator;
 import org.jboss.as.controller.registry.ManagementResourceRegistration;
 import org.jboss.dmr.ModelNode;
 import org.jboss.dmr.ModelType;
@@ -93,10 +95,40 @@ class UndertowRootDefinition extends PersistentResourceDefinition {
                     .addAccessConstraint(SensitiveTargetAccessConstraintDefinition.SECURITY_DOMAIN_REF)
                     .setRestartAllServices()
                     .build();
+    protected static final SimpleAttributeDefinition GATED_ADMISSION_RATE =
+            new SimpleAttributeDefinitionBuilder(Constants.GATED_ADMISSION_RATE, ModelType.INT, true)
+                    .setRestartAllServices()
+                    .setAllowExpression(true)
+                    .setDefaultValue(ModelNode.ZERO)
+                    .setValidator(new IntRangeValidator(0))
+                    .build();
+    protected static final SimpleAttributeDefinition GATED_ADMISSION_MAX_QUEUED_REQUESTS =
+            new SimpleAttributeDefinitionBuilder(Constants.GATED_ADMISSION_MAX_QUEUED_REQUESTS, ModelType.INT, true)
+                    .setRestartAllServices()
+                    .setAllowExpression(true)
+                    .setDefaultValue(new ModelNode(1000))
+                    .setValidator(new IntRangeValidator(1))
+                    .build();
+    protected static final SimpleAttributeDefinition GATED_ADMISSION_WARM_UP =
+            new SimpleAttributeDefinitionBuilder(Constants.GATED_ADMISSION_WARM_UP, ModelType.INT, true)
+                    .setRestartAllServices()
+                    .setAllowExpression(true)
+                    .setDefaultValue(new ModelNode(30))
+                    .setMeasurementUnit(MeasurementUnit.SECONDS)
+                    .setValidator(new IntRangeValidator(0))
+                    .build();
+    protected static final SimpleAttributeDefinition FAIR_SHARE_MAX_REQUESTS =
+            new SimpleAttributeDefinitionBuilder(Constants.FAIR_SHARE_MAX_REQUESTS, ModelType.INT, true)
+                    .setRestartAllServices()
+                    .setAllowExpression(true)
+                    .setDefaultValue(ModelNode.ZERO)
+                    .setValidator(new IntRangeValidator(0))
+                    .build();
 
 
     static final Collection<AttributeDefinition> ATTRIBUTES = List.of(DEFAULT_VIRTUAL_HOST, DEFAULT_SERVLET_CONTAINER, DEFAULT_SERVER, INSTANCE_ID,
-            OBFUSCATE_SESSION_ROUTE, STATISTICS_ENABLED, DEFAULT_SECURITY_DOMAIN);
+            OBFUSCATE_SESSION_ROUTE, STATISTICS_ENABLED, DEFAULT_SECURITY_DOMAIN, GATED_ADMISSION_RATE, GATED_ADMISSION_MAX_QUEUED_REQUESTS, GATED_ADMISSION_WARM_UP,
+            FAIR_SHARE_MAX_REQUESTS);
 
     private final Set<String> knownApplicationSecurityDomains;
 
@@ -19,6 +19,7 @@ import org.jboss.msc.service.ServiceName;
 import org.jboss.msc.service.StartContext;
 import org.jboss.msc.service.StartException;
 import org.jboss.msc.service.StopContext;
+import org.wildfly.extension.undertow.deployment.FairShareScheduler;
 import org.wildfly.extension.undertow.logging.UndertowLogger;
 
 import io.undertow.Version;
@@ -78,10 +79,18 @@ public class UndertowService implements Service<UndertowService> {
     private volatile boolean statisticsEnabled;
     private final Set<Consumer<Boolean>> statisticsChangeListenters = new HashSet<>();
     private final Consumer<UndertowService> serviceConsumer;
+    private final FairShareScheduler fairShareScheduler;
 
     protected UndertowService(final Consumer<UndertowService> serviceConsumer, final String defaultContainer,
                               final String defaultServer, final String defaultVirtualHost,
                               final String instanceId, final boolean obfuscateSessionRoute, final boolean statisticsEnabled) {
+        this(serviceConsumer, defaultContainer, defaultServer, defaultVirtualHost, instanceId, obfuscateSessionRoute, statisticsEnabled, null);
+    }
+
+    protected UndertowService(final Consumer<UndertowService> serviceConsumer, final String defaultContainer,
+                              final String defaultServer, final String defaultVirtualHost,
+                              final String instanceId, final boolean obfuscateSessionRoute, final boolean statisticsEnabled,
+                              final FairShareScheduler fairShareScheduler) {
         this.serviceConsumer = serviceConsumer;
         this.defaultContainer = defaultContainer;
         this.defaultServer = defaultServer;
@@ -89,6 +98,7 @@ public class UndertowService implements Service<UndertowService> {
         this.instanceId = instanceId;
         this.obfuscateSessionRoute = obfuscateSessionRoute;
         this.statisticsEnabled = statisticsEnabled;
+        this.fairShareScheduler = fairShareScheduler;
     }
 
     public static ServiceName deploymentServiceName(ServiceName deploymentServiceName) {
@@ -233,6 +243,13 @@ public class UndertowService implements Service<UndertowService> {
         return instanceId;
     }
 
+    /**
+     * @return the scheduler sharing the request capacity of the server between its web deployments, or null if it is disabled
+     */
+    public FairShareScheduler getFairShareScheduler() {
+        return fairShareScheduler;
+    }
+
     public boolean isObfuscateSessionRoute() {
         return obfuscateSessionRoute;
     }
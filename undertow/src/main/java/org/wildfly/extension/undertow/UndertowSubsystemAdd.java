@@ -8,6 +8,7 @@ package org.wildfly.extension.undertow;
 import java.util.EnumSet;
 import java.util.function.Consumer;
 import java.util.function.Predicate;
+import java.util.function.Supplier;
 
 import org.jboss.as.controller.AbstractBoottimeAddStepHandler;
 import org.jboss.as.controller.CapabilityServiceBuilder;
@@ -28,6 +29,8 @@ import org.wildfly.extension.undertow.deployment.DefaultSecurityDomainProcessor;
 import org.wildfly.extension.undertow.deployment.DeploymentRootExplodedMountProcessor;
 import org.wildfly.extension.undertow.deployment.EarContextRootProcessor;
 import org.wildfly.extension.undertow.deployment.ExternalTldParsingDeploymentProcessor;
+import org.wildfly.extension.undertow.deployment.FairShareScheduler;
+import org.wildfly.extension.undertow.deployment.GatedAdmission;
 import org.wildfly.extension.undertow.deployment.JBossWebParsingDeploymentProcessor;
 import org.wildfly.extension.undertow.deployment.SecurityDomainResolvingProcessor;
 import org.wildfly.extension.undertow.deployment.ServletContainerInitializerDeploymentProcessor;
@@ -92,11 +95,20 @@ class UndertowSubsystemAdd extends AbstractBoottimeAddStepHandler {
 
         final boolean obfuscateSessionRoute = UndertowRootDefinition.OBFUSCATE_SESSION_ROUTE.resolveModelAttribute(context, model).asBoolean();
 
+        final int gatedAdmissionRate = UndertowRootDefinition.GATED_ADMISSION_RATE.resolveModelAttribute(context, model).asInt();
+        final int gatedAdmissionMaxQueuedRequests = UndertowRootDefinition.GATED_ADMISSION_MAX_QUEUED_REQUESTS.resolveModelAttribute(context, model).asInt();
+        final int gatedAdmissionWarmUp = UndertowRootDefinition.GATED_ADMISSION_WARM_UP.resolveModelAttribute(context, model).asInt();
+        // each deployment gets its own gate, gated admission is disabled unless its rate is positive
+        final Supplier<GatedAdmission> gatedAdmissionFactory = (gatedAdmissionRate > 0) ? () -> new GatedAdmission(gatedAdmissionRate, gatedAdmissionMaxQueuedRequests, gatedAdmissionWarmUp) : () -> null;
+        // the deployments share the capacity of the server, fair share scheduling is disabled unless it is positive
+        final int fairShareMaxRequests = UndertowRootDefinition.FAIR_SHARE_MAX_REQUESTS.resolveModelAttribute(context, model).asInt();
+        final FairShareScheduler fairShareScheduler = (fairShareMaxRequests > 0) ? new FairShareScheduler(fairShareMaxRequests) : null;
+
         DefaultDeploymentMappingProvider.instance().clear();//we clear provider on system boot, as on reload it could cause issues.
 
         final CapabilityServiceBuilder<?> csb = context.getCapabilityServiceTarget().addCapability(UndertowRootDefinition.UNDERTOW_CAPABILITY);
         final Consumer<UndertowService> usConsumer = csb.provides(UndertowRootDefinition.UNDERTOW_CAPABILITY, UndertowService.UNDERTOW);
-        csb.setInstance(new UndertowService(usConsumer, defaultContainer, defaultServer, defaultVirtualHost, instanceId, obfuscateSessionRoute, stats));
+        csb.setInstance(new UndertowService(usConsumer, defaultContainer, defaultServer, defaultVirtualHost, instanceId, obfuscateSessionRoute, stats, fairShareScheduler));
         csb.install();
 
         context.addStep(new AbstractDeploymentChainStep() {
@@ -132,7 +144,7 @@ class UndertowSubsystemAdd extends AbstractBoottimeAddStepHandler {
                 processorTarget.addDeploymentProcessor(UndertowExtension.SUBSYSTEM_NAME, Phase.INSTALL, Phase.INSTALL_SERVLET_INIT_DEPLOYMENT, new ServletContainerInitializerDeploymentProcessor());
 
                 processorTarget.addDeploymentProcessor(UndertowExtension.SUBSYSTEM_NAME, Phase.INSTALL, Phase.INSTALL_WEB_RESOLVE_SECURITY_DOMAIN, new SecurityDomainResolvingProcessor(defaultSecurityDomain, knownSecurityDomain));
-                processorTarget.addDeploymentProcessor(UndertowExtension.SUBSYSTEM_NAME, Phase.INSTALL, Phase.INSTALL_WAR_DEPLOYMENT, new UndertowDeploymentProcessor(defaultVirtualHost, defaultContainer, defaultServer, knownSecurityDomain));
+                processorTarget.addDeploymentProcessor(UndertowExtension.SUBSYSTEM_NAME, Phase.INSTALL, Phase.INSTALL_WAR_DEPLOYMENT, new UndertowDeploymentProcessor(defaultVirtualHost, defaultContainer, defaultServer, knownSecurityDomain, gatedAdmissionFactory));
 
             }
         }, OperationContext.Stage.RUNTIME);
@@ -0,0 +1,462 @@
+/*
+ * Copyright The WildFly Authors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.wildfly.extension.undertow.deployment;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAccumulator;
+import java.util.concurrent.atomic.LongAdder;
+
+import io.undertow.server.HttpHandler;
+import io.undertow.server.HttpServerExchange;
+import io.undertow.util.SameThreadExecutor;
+import io.undertow.util.StatusCodes;
+import org.jboss.as.server.deployment.DeploymentUnitProcessingException;
+import org.jboss.metadata.javaee.spec.ParamValueMetaData;
+import org.jboss.metadata.web.jboss.JBossWebMetaData;
+import org.wildfly.extension.undertow.logging.UndertowLogger;
+
+/**
+ * Shares the request capacity of the server between its web deployments, so that a busy deployment cannot starve the
+ * others.
+ * <p>
+ * Each deployment has a share, with a weight and a number of reserved requests. A deployment can always run as many
+ * requests as it reserved, and competes with the other deployments for the capacity left over by the reservations. Once
+ * that capacity is used, the requests of the deployments are queued, and the capacity freed by completed requests is
+ * handed out by weighted fair queuing: the next request comes from the deployment that got the least of the capacity
+ * relative to its weight, so that, while they are all busy, deployments get the shared capacity in proportion to their
+ * weights. A deployment that was idle does not get credit for the time it was idle.
+ * <p>
+ * The capacity of the server is the fair-share-max-requests attribute of the subsystem, and the share of a deployment is
+ * configured by its context parameters. The reservations of the deployments cannot exceed the capacity of the server.
+ */
+public class FairShareScheduler {
+
+    /**
+     * Context parameter holding the weight of a deployment, 1 by default.
+     */
+    public static final String WEIGHT = "org.wildfly.undertow.fair-share.weight";
+    /**
+     * Context parameter holding the number of requests reserved by a deployment, 0 by default.
+     */
+    public static final String RESERVED_REQUESTS = "org.wildfly.undertow.fair-share.reserved-requests";
+    /**
+     * Context parameter holding the maximum number of requests queued by a deployment, 1000 by default.
+     */
+    public static final String MAX_QUEUED_REQUESTS = "org.wildfly.undertow.fair-share.max-queued-requests";
+
+    private final int maxRequests;
+    // the following fields are guarded by this
+    private final List<Share> shares = new ArrayList<>();
+    private int reservedRequests;
+    private int sharedRequests;
+    private double virtualTime;
+
+    /**
+     * @param maxRequests the number of requests the server runs concurrently
+     * @throws IllegalArgumentException if maxRequests is not positive
+     */
+    public FairShareScheduler(int maxRequests) {
+        if (maxRequests <= 0) {
+            throw new IllegalArgumentException("maxRequests");
+        }
+        this.maxRequests = maxRequests;
+    }
+
+    /**
+     * Creates the share of a deployment, configured by its context parameters.
+     *
+     * @throws DeploymentUnitProcessingException if a context parameter is not a valid integer, or is out of range
+     */
+    public static Share createShare(JBossWebMetaData metaData) throws DeploymentUnitProcessingException {
+        int weight = 1;
+        int reservedRequests = 0;
+        int maxQueuedRequests = 1000;
+        if (metaData.getContextParams() != null) {
+            for (ParamValueMetaData param : metaData.getContextParams()) {
+                if (WEIGHT.equals(param.getParamName())) {
+                    weight = parseParam(param, 1);
+                } else if (RESERVED_REQUESTS.equals(param.getParamName())) {
+                    reservedRequests = parseParam(param, 0);
+                } else if (MAX_QUEUED_REQUESTS.equals(param.getParamName())) {
+                    maxQueuedRequests = parseParam(param, 1);
+                }
+            }
+        }
+        return new Share(weight, reservedRequests, maxQueuedRequests);
+    }
+
+    private static int parseParam(ParamValueMetaData param, int min) throws DeploymentUnitProcessingException {
+        final String value = (param.getParamValue() != null) ? param.getParamValue().trim() : null;
+        try {
+            final int result = Integer.parseInt(value);
+            if (result >= min) {
+                return result;
+            }
+        } catch (NumberFormatException e) {
+            // rejected below
+        }
+        throw UndertowLogger.ROOT_LOGGER.invalidFairShareParameter(param.getParamName(), value, min);
+    }
+
+    /**
+     * Registers the share of a deployment as it starts.
+     *
+     * @return false if the share was not registered, as the requests reserved by the registered shares and this share
+     * would exceed the requests of the server
+     */
+    public synchronized boolean register(Share share) {
+        if (reservedRequests + share.reservedRequests > maxRequests) {
+            return false;
+        }
+        share.scheduler = this;
+        share.pass = virtualTime;
+        shares.add(share);
+        reservedRequests += share.reservedRequests;
+        return true;
+    }
+
+    /**
+     * @return the number of requests the server runs concurrently
+     */
+    public int getMaxRequests() {
+        return maxRequests;
+    }
+
+    /**
+     * Unregisters the share of a deployment as it stops, rejecting its queued requests.
+     */
+    public void unregister(Share share) {
+        final List<Holder> rejected;
+        final List<Holder> runnable = new ArrayList<>();
+        synchronized (this) {
+            if (!shares.remove(share)) {
+                return;
+            }
+            share.scheduler = null;
+            reservedRequests -= share.reservedRequests;
+            sharedRequests -= Math.max(0, share.running - share.reservedRequests);
+            rejected = new ArrayList<>(share.held);
+            share.held.clear();
+            share.queued = 0;
+            share.running = 0;
+            // the reservation of the share is available to the other deployments
+            schedule(runnable);
+        }
+        for (Holder holder : rejected) {
+            holder.request.reject();
+        }
+        run(runnable);
+    }
+
+    private int sharedCapacity() {
+        return maxRequests - reservedRequests;
+    }
+
+    private boolean tryAcquire(final Share share, final HttpServerExchange exchange, final GlobalRequestControllerHandler handler) {
+        switch (acquire(share)) {
+            case PROCEED:
+                return true;
+            case REJECT:
+                reject(exchange);
+                return false;
+            default:
+                final long queuedSince = System.nanoTime();
+                // the exchange is queued once dispatched, so that it is not resumed before its handler returns
+                exchange.dispatch(SameThreadExecutor.INSTANCE, new Runnable() {
+                    @Override
+                    public void run() {
+                        enqueue(share, new ExchangeRequest(handler, exchange), queuedSince);
+                    }
+                });
+                return false;
+        }
+    }
+
+    /**
+     * Acquires a part of the capacity for a request of a share, unless the request must be queued or rejected.
+     */
+    synchronized Admission acquire(final Share share) {
+        if (share.scheduler != this) {
+            // not registered yet, or any longer
+            return Admission.PROCEED;
+        }
+        if (share.queued == 0 && (share.running < share.reservedRequests || sharedRequests < sharedCapacity())) {
+            start(share);
+            return Admission.PROCEED;
+        }
+        if (share.queued >= share.maxQueuedRequests) {
+            share.rejected.increment();
+            return Admission.REJECT;
+        }
+        if (share.queued++ == 0) {
+            // the share gets no credit for the time it was idle
+            share.pass = Math.max(share.pass, virtualTime);
+        }
+        return Admission.QUEUE;
+    }
+
+    /**
+     * Queues a request of a share, for which {@link #acquire(Share)} returned {@link Admission#QUEUE}.
+     */
+    void enqueue(final Share share, final QueuedRequest request, final long queuedSince) {
+        final List<Holder> runnable = new ArrayList<>();
+        synchronized (this) {
+            if (share.scheduler != this) {
+                request.reject();
+                return;
+            }
+            share.held.add(new Holder(share, request, queuedSince));
+            // capacity may have been freed meanwhile
+            schedule(runnable);
+        }
+        run(runnable);
+    }
+
+    private void start(Share share) {
+        if (share.running >= share.reservedRequests) {
+            sharedRequests++;
+        }
+        share.running++;
+    }
+
+    private void release(Share share) {
+        final List<Holder> runnable = new ArrayList<>();
+        synchronized (this) {
+            if (share.scheduler != this) {
+                // unregistered meanwhile, its requests no longer count
+                return;
+            }
+            if (share.running-- > share.reservedRequests) {
+                sharedRequests--;
+            }
+            schedule(runnable);
+        }
+        run(runnable);
+    }
+
+    /**
+     * Hands out the available capacity to the queued requests, first those of the shares with unused reservations, then
+     * the shared capacity to the shares that got the least of it relative to their weight.
+     */
+    private void schedule(List<Holder> runnable) {
+        for (Share share : shares) {
+            while (!share.held.isEmpty() && share.running < share.reservedRequests) {
+                runnable.add(share.poll());
+                start(share);
+            }
+        }
+        while (sharedRequests < sharedCapacity()) {
+            Share next = null;
+            for (Share share : shares) {
+                if (!share.held.isEmpty() && (next == null || share.pass < next.pass)) {
+                    next = share;
+                }
+            }
+            if (next == null) {
+                return;
+            }
+            virtualTime = next.pass;
+            next.pass += 1.0 / next.weight;
+            runnable.add(next.poll());
+            start(next);
+        }
+    }
+
+    private static void run(List<Holder> runnable) {
+        final long now = System.nanoTime();
+        for (Holder holder : runnable) {
+            holder.share.recordQueueTime(now - holder.queuedSince);
+            holder.request.proceed();
+        }
+    }
+
+    private static void reject(HttpServerExchange exchange) {
+        exchange.setStatusCode(StatusCodes.SERVICE_UNAVAILABLE);
+        exchange.endExchange();
+    }
+
+    /**
+     * The share of the capacity of a deployment.
+     */
+    public static class Share {
+        private final int weight;
+        private final int reservedRequests;
+        private final int maxQueuedRequests;
+        private final Deque<Holder> held = new ArrayDeque<>();
+        private final LongAdder rejected = new LongAdder();
+        private final LongAdder queueTime = new LongAdder();
+        private final LongAdder dequeued = new LongAdder();
+        private final LongAccumulator maxQueueTime = new LongAccumulator(Math::max, 0);
+        // the following fields are guarded by the scheduler
+        private volatile FairShareScheduler scheduler;
+        private int running;
+        private int queued;
+        private double pass;
+
+        /**
+         * @throws IllegalArgumentException if the weight or the maximum number of queued requests is not positive, or
+         * the number of reserved requests is negative
+         */
+        Share(int weight, int reservedRequests, int maxQueuedRequests) {
+            if (weight <= 0) {
+                throw new IllegalArgumentException("weight");
+            }
+            if (reservedRequests < 0) {
+                throw new IllegalArgumentException("reservedRequests");
+            }
+            if (maxQueuedRequests <= 0) {
+                throw new IllegalArgumentException("maxQueuedRequests");
+            }
+            this.weight = weight;
+            this.reservedRequests = reservedRequests;
+            this.maxQueuedRequests = maxQueuedRequests;
+        }
+
+        /**
+         * Acquires a part of the capacity for a request, or queues it if there is none left.
+         *
+         * @param exchange the exchange of the request
+         * @param handler the handler resuming the request, through {@link GlobalRequestControllerHandler#proceed(HttpServerExchange)}, once it is dequeued
+         * @return true if the request can proceed, false if it was queued or rejected
+         */
+        boolean tryAcquire(HttpServerExchange exchange, GlobalRequestControllerHandler handler) {
+            final FairShareScheduler scheduler = this.scheduler;
+            return scheduler == null || scheduler.tryAcquire(this, exchange, handler);
+        }
+
+        /**
+         * Releases the capacity acquired for a request that completed.
+         */
+        void release() {
+            final FairShareScheduler scheduler = this.scheduler;
+            if (scheduler != null) {
+                scheduler.release(this);
+            }
+        }
+
+        private Holder poll() {
+            queued--;
+            return held.poll();
+        }
+
+        private void recordQueueTime(long nanos) {
+            queueTime.add(nanos);
+            dequeued.increment();
+            maxQueueTime.accumulate(nanos);
+        }
+
+        /**
+         * @return the number of requests reserved by the share
+         */
+        public int getReservedRequests() {
+            return reservedRequests;
+        }
+
+        /**
+         * @return true if the share is registered with a scheduler
+         */
+        public boolean isRegistered() {
+            return scheduler != null;
+        }
+
+        /**
+         * @return the number of requests currently queued
+         */
+        public int getQueuedRequests() {
+            final FairShareScheduler scheduler = this.scheduler;
+            if (scheduler == null) {
+                return 0;
+            }
+            synchronized (scheduler) {
+                return queued;
+            }
+        }
+
+        /**
+         * @return the number of requests rejected as the queue was full
+         */
+        public long getRejectedRequests() {
+            return rejected.sum();
+        }
+
+        /**
+         * @return the average time in milliseconds the queued requests waited
+         */
+        public long getAverageQueueTime() {
+            final long count = dequeued.sum();
+            return (count > 0) ? TimeUnit.NANOSECONDS.toMillis(queueTime.sum() / count) : 0;
+        }
+
+        /**
+         * @return the longest time in milliseconds a queued request waited
+         */
+        public long getMaxQueueTime() {
+            return TimeUnit.NANOSECONDS.toMillis(maxQueueTime.get());
+        }
+    }
+
+    enum Admission {
+        PROCEED,
+        QUEUE,
+        REJECT,
+    }
+
+    /**
+     * A request queued until its share gets a part of the capacity.
+     */
+    interface QueuedRequest {
+        /**
+         * Resumes the request, which got a part of the capacity.
+         */
+        void proceed();
+
+        /**
+         * Rejects the request, as the deployment stops.
+         */
+        void reject();
+    }
+
+    private static final class Holder {
+        final Share share;
+        final QueuedRequest request;
+        final long queuedSince;
+
+        private Holder(Share share, QueuedRequest request, long queuedSince) {
+            this.share = share;
+            this.request = request;
+            this.queuedSince = queuedSince;
+        }
+    }
+
+    private static final class ExchangeRequest implements QueuedRequest {
+        private final GlobalRequestControllerHandler handler;
+        private final HttpServerExchange exchange;
+
+        private ExchangeRequest(GlobalRequestControllerHandler handler, HttpServerExchange exchange) {
+            this.handler = handler;
+            this.exchange = exchange;
+        }
+
+        @Override
+        public void proceed() {
+            exchange.dispatch(new HttpHandler() {
+                @Override
+                public void handleRequest(HttpServerExchange exchange) throws Exception {
+                    handler.proceed(exchange);
+                }
+            });
+        }
+
+        @Override
+        public void reject() {
+            exchange.dispatch(FairShareScheduler::reject);
+        }
+    }
+}
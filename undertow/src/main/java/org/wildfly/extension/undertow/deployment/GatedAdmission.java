@@ -0,0 +1,249 @@
+/*
+ * Copyright The WildFly Authors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.wildfly.extension.undertow.deployment;
+
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+
+import io.undertow.server.HttpServerExchange;
+import io.undertow.util.SameThreadExecutor;
+import io.undertow.util.StatusCodes;
+import org.xnio.XnioExecutor;
+
+/**
+ * Admits the requests of a deployment at a controlled rate while it warms up, so that the requests that pile up while
+ * the server or the deployment starts do not all reach the deployment at once.
+ * <p>
+ * The gate is closed from the first request until the warm up period has elapsed and no request is queued. While it is
+ * closed, each tick hands out a fixed number of permits: requests proceed directly while permits are left and nothing
+ * is queued, otherwise they are queued and released by the next ticks through the control point of the deployment.
+ * Requests exceeding the queue limit are rejected with a 503.
+ * <p>
+ * Each deployment has its own gate, so the requests of one deployment neither contend on nor wait behind those of another.
+ */
+public class GatedAdmission {
+
+    private static final long TICK_MILLIS = 100;
+    private static final int TICKS_PER_SECOND = 10;
+
+    private final int permitsPerTick;
+    private final int maxQueuedRequests;
+    private final long warmUpNanos;
+    private final Deque<HeldRequest> held = new ArrayDeque<>();
+    private final LongAdder rejected = new LongAdder();
+
+    private volatile boolean open = false;
+    // the following fields are guarded by this
+    private int queued;
+    private int permits;
+    private long closedSince;
+    private XnioExecutor executor;
+    private XnioExecutor.Key tick;
+
+    /**
+     * @param rate the number of requests per second admitted while the deployment warms up
+     * @param maxQueuedRequests the maximum number of queued requests
+     * @param warmUp the warm up period in seconds, counted from the first request
+     */
+    public GatedAdmission(int rate, int maxQueuedRequests, long warmUp) {
+        if (rate <= 0) {
+            throw new IllegalArgumentException("rate");
+        }
+        if (maxQueuedRequests <= 0) {
+            throw new IllegalArgumentException("maxQueuedRequests");
+        }
+        if (warmUp < 0) {
+            throw new IllegalArgumentException("warmUp");
+        }
+        this.permitsPerTick = Math.max(1, rate / TICKS_PER_SECOND);
+        this.maxQueuedRequests = maxQueuedRequests;
+        this.warmUpNanos = TimeUnit.SECONDS.toNanos(warmUp);
+        this.permits = this.permitsPerTick;
+    }
+
+    /**
+     * Holds a request if the gate is closed and no permit is left.
+     *
+     * @param exchange the exchange of the request
+     * @param handler the handler admitting the request through the control point of the deployment
+     * @return true if the request was queued or rejected, false if it can proceed
+     */
+    boolean hold(final HttpServerExchange exchange, final GlobalRequestControllerHandler handler) {
+        if (open) {
+            return false;
+        }
+        switch (this.acquire(exchange.getIoThread())) {
+            case PROCEED: {
+                return false;
+            }
+            case REJECT: {
+                reject(exchange);
+                return true;
+            }
+            default: {
+                // the exchange is queued once dispatched, so that it is not released before its handler returns
+                exchange.dispatch(SameThreadExecutor.INSTANCE, new Runnable() {
+                    @Override
+                    public void run() {
+                        GatedAdmission.this.enqueue(new Holder(handler, exchange));
+                    }
+                });
+                return true;
+            }
+        }
+    }
+
+    /**
+     * Decides whether a request proceeds, is queued or is rejected, and schedules the ticks while the gate is closed.
+     *
+     * @param executor the executor running the ticks, i.e. the IO thread of the first request
+     */
+    synchronized Admission acquire(XnioExecutor executor) {
+        if (open) {
+            return Admission.PROCEED;
+        }
+        if (this.executor == null) {
+            this.executor = executor;
+            closedSince = System.nanoTime();
+        }
+        if (tick == null) {
+            tick = this.executor.executeAfter(this::tick, TICK_MILLIS, TimeUnit.MILLISECONDS);
+        }
+        if (queued == 0 && permits > 0) {
+            permits--;
+            return Admission.PROCEED;
+        }
+        if (queued >= maxQueuedRequests) {
+            rejected.increment();
+            return Admission.REJECT;
+        }
+        queued++;
+        return Admission.QUEUE;
+    }
+
+    /**
+     * Queues a request that {@link #acquire(XnioExecutor)} decided to queue.
+     */
+    synchronized void enqueue(HeldRequest request) {
+        if (executor != null) {
+            held.add(request);
+        } else {
+            // stopped meanwhile
+            request.reject();
+        }
+    }
+
+    /**
+     * Releases as many queued requests as the permits of a tick allow, and opens the gate once the warm up period has
+     * elapsed and no request is queued.
+     */
+    synchronized void tick() {
+        tick = null;
+        if (executor == null) {
+            // stopped meanwhile
+            return;
+        }
+        int permits = permitsPerTick;
+        while (permits > 0 && !held.isEmpty()) {
+            held.poll().admit();
+            queued--;
+            permits--;
+        }
+        this.permits = permits;
+        if (queued == 0 && System.nanoTime() - closedSince >= warmUpNanos) {
+            open = true;
+        } else {
+            tick = executor.executeAfter(this::tick, TICK_MILLIS, TimeUnit.MILLISECONDS);
+        }
+    }
+
+    /**
+     * Rejects the queued requests, as the deployment stops, and closes the gate again for its next start.
+     */
+    public synchronized void stop() {
+        if (tick != null) {
+            tick.remove();
+            tick = null;
+        }
+        for (HeldRequest request : held) {
+            request.reject();
+        }
+        held.clear();
+        queued = 0;
+        permits = permitsPerTick;
+        executor = null;
+        open = false;
+    }
+
+    private static void reject(HttpServerExchange exchange) {
+        exchange.setStatusCode(StatusCodes.SERVICE_UNAVAILABLE);
+        exchange.endExchange();
+    }
+
+    /**
+     * @return the number of requests currently queued
+     */
+    public synchronized int getQueuedRequests() {
+        return queued;
+    }
+
+    /**
+     * @return the number of requests rejected as the queue was full
+     */
+    public long getRejectedRequests() {
+        return rejected.sum();
+    }
+
+    /**
+     * @return true if the gate is open
+     */
+    boolean isOpen() {
+        return open;
+    }
+
+    enum Admission {
+        PROCEED,
+        QUEUE,
+        REJECT,
+    }
+
+    /**
+     * A request held while the gate is closed.
+     */
+    interface HeldRequest {
+        /**
+         * Admits the request through the control point of the deployment, which runs it or rejects it.
+         */
+        void admit();
+
+        /**
+         * Rejects the request, as the deployment stops.
+         */
+        void reject();
+    }
+
+    private static final class Holder implements HeldRequest {
+        private final GlobalRequestControllerHandler handler;
+        private final HttpServerExchange exchange;
+
+        private Holder(GlobalRequestControllerHandler handler, HttpServerExchange exchange) {
+            this.handler = handler;
+            this.exchange = exchange;
+        }
+
+        @Override
+        public void admit() {
+            handler.admit(exchange);
+        }
+
+        @Override
+        public void reject() {
+            exchange.dispatch(GatedAdmission::reject);
+        }
+    }
+}
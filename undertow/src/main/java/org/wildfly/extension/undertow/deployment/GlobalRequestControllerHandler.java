@@ -7,6 +7,7 @@ package org.wildfly.extension.undertow.deployment;
 
 import java.util.List;
 
+import org.jboss.as.ee.concurrent.AdaptiveConcurrencyLimit;
 import org.wildfly.extension.requestcontroller.ControlPoint;
 import org.wildfly.extension.requestcontroller.RunResult;
 
@@ -28,6 +29,9 @@ public class GlobalRequestControllerHandler implements HttpHandler {
     private final HttpHandler next;
     private final ControlPoint entryPoint;
     private final List<Predicate> allowSuspendedRequests;
+    private final GatedAdmission admission;
+    private final AdaptiveConcurrencyLimit limit;
+    private final FairShareScheduler.Share share;
 
     private final ExchangeCompletionListener listener = new ExchangeCompletionListener() {
         @Override
@@ -38,14 +42,64 @@ public class GlobalRequestControllerHandler implements HttpHandler {
     };
 
     public GlobalRequestControllerHandler(HttpHandler next, ControlPoint entryPoint, List<Predicate> allowSuspendedRequests) {
+        this(next, entryPoint, allowSuspendedRequests, null, null, null);
+    }
+
+    public GlobalRequestControllerHandler(HttpHandler next, ControlPoint entryPoint, List<Predicate> allowSuspendedRequests, GatedAdmission admission, AdaptiveConcurrencyLimit limit, FairShareScheduler.Share share) {
         this.next = next;
         this.entryPoint = entryPoint;
         this.allowSuspendedRequests = allowSuspendedRequests;
+        this.admission = admission;
+        this.limit = limit;
+        this.share = share;
     }
 
     @Override
     public void handleRequest(final HttpServerExchange exchange) throws Exception {
-        RunResult result = entryPoint.beginRequest();
+        if (admission != null && admission.hold(exchange, this)) {
+            return;
+        }
+        if (share != null && !share.tryAcquire(exchange, this)) {
+            // queued until the deployment gets its share of the capacity, or rejected
+            return;
+        }
+        proceed(exchange);
+    }
+
+    /**
+     * Runs a request that acquired its share of the capacity, if any, through the concurrency limit and the control point.
+     */
+    void proceed(final HttpServerExchange exchange) throws Exception {
+        if (limit != null && !limit.tryAcquire()) {
+            if (share != null) {
+                share.release();
+            }
+            // the latency shows the deployment is overloaded, so the request is shed before it queues up
+            exchange.setStatusCode(503);
+            exchange.endExchange();
+            return;
+        }
+        handleRequest(exchange, entryPoint.beginRequest(), limit != null, share != null);
+    }
+
+    /**
+     * Admits a request held by the gated admission through the control point. The gated admission already limits
+     * the rate of these requests, so they are subject to neither the concurrency limit nor the fair share scheduling.
+     * A request the control point rejects, as the server is suspended, is handled as if it had not been held: it runs
+     * if it is allowed while suspended, and is rejected with a 503 otherwise.
+     */
+    void admit(final HttpServerExchange exchange) {
+        final RunResult result = entryPoint.beginRequest();
+        exchange.dispatch(new HttpHandler() {
+            @Override
+            public void handleRequest(HttpServerExchange exchange) throws Exception {
+                GlobalRequestControllerHandler.this.handleRequest(exchange, result, false, false);
+            }
+        });
+    }
+
+    private void handleRequest(final HttpServerExchange exchange, final RunResult result, final boolean limited, final boolean shared) throws Exception {
+        final long start = limited ? System.nanoTime() : 0;
         try {
             if(result == RunResult.RUN) {
                 next.handleRequest(exchange);
@@ -70,17 +124,59 @@ public class GlobalRequestControllerHandler implements HttpHandler {
         } finally {
             if(result == RunResult.RUN && (exchange.isComplete() || !exchange.isDispatched())) {
                 entryPoint.requestComplete();
+                if (limited) {
+                    limit.release(start);
+                }
+                if (shared) {
+                    share.release();
+                }
             } else if(result == RunResult.RUN) {
-                exchange.addExchangeCompleteListener(listener);
+                exchange.addExchangeCompleteListener((limited || shared) ? new AdmissionCompletionListener(start, limited, shared) : listener);
+            } else {
+                // the request did not run as such
+                if (limited) {
+                    limit.cancel();
+                }
+                if (shared) {
+                    share.release();
+                }
             }
         }
     }
 
     public static HandlerWrapper wrapper(final ControlPoint entryPoint, List<Predicate> allowSuspendedRequests) {
-        return handler -> new GlobalRequestControllerHandler(handler, entryPoint, allowSuspendedRequests);
+        return wrapper(entryPoint, allowSuspendedRequests, null, null, null);
+    }
+
+    public static HandlerWrapper wrapper(final ControlPoint entryPoint, List<Predicate> allowSuspendedRequests, GatedAdmission admission, AdaptiveConcurrencyLimit limit, FairShareScheduler.Share share) {
+        return handler -> new GlobalRequestControllerHandler(handler, entryPoint, allowSuspendedRequests, admission, limit, share);
     }
 
     public HttpHandler getNext() {
         return next;
     }
+
+    private class AdmissionCompletionListener implements ExchangeCompletionListener {
+        private final long start;
+        private final boolean limited;
+        private final boolean shared;
+
+        AdmissionCompletionListener(long start, boolean limited, boolean shared) {
+            this.start = start;
+            this.limited = limited;
+            this.shared = shared;
+        }
+
+        @Override
+        public void exchangeEvent(HttpServerExchange exchange, NextListener nextListener) {
+            entryPoint.requestComplete();
+            if (limited) {
+                limit.release(start);
+            }
+            if (shared) {
+                share.release();
+            }
+            nextListener.proceed();
+        }
+    }
 }
@@ -54,6 +54,7 @@ import org.apache.jasper.deploy.JspPropertyGroup;
 import org.apache.jasper.deploy.TagLibraryInfo;
 import org.apache.jasper.servlet.JspServlet;
 import org.jboss.as.ee.component.ComponentRegistry;
+import org.jboss.as.ee.concurrent.AdaptiveConcurrencyLimit;
 import org.jboss.as.naming.ManagedReference;
 import org.jboss.as.naming.ManagedReferenceFactory;
 import org.jboss.as.server.deployment.SetupAction;
@@ -206,6 +207,9 @@ public class UndertowDeploymentInfoService implements Service<DeploymentInfo> {
     private final File tempDir;
     private final List<File> externalResources;
     private final List<Predicate> allowSuspendedRequests;
+    private final GatedAdmission gatedAdmission;
+    private final AdaptiveConcurrencyLimit concurrencyLimit;
+    private final FairShareScheduler.Share fairShare;
 
     private UndertowDeploymentInfoService(
             final Consumer<DeploymentInfo> deploymentInfoConsumer,
@@ -221,7 +225,7 @@ public class UndertowDeploymentInfoService implements Service<DeploymentInfo> {
             final Supplier<SecurityDomain> rawSecurityDomain,
             final Supplier<HttpServerAuthenticationMechanismFactory> rawMechanismFactory,
             final Supplier<BiFunction<DeploymentInfo, Function<String, RunAsIdentityMetaData>, Registration>> applySecurityFunction,
-            final JBossWebMetaData mergedMetaData, final String deploymentName, final HashMap<String, TagLibraryInfo> tldInfo, final Module module, final ScisMetaData scisMetaData, final VirtualFile deploymentRoot, final String jaccContextId, final String securityDomain, final List<ServletContextAttribute> attributes, final String contextPath, final List<SetupAction> setupActions, final Set<VirtualFile> overlays, final List<ExpressionFactoryWrapper> expressionFactoryWrappers, List<PredicatedHandler> predicatedHandlers, List<HandlerWrapper> initialHandlerChainWrappers, List<HandlerWrapper> innerHandlerChainWrappers, List<HandlerWrapper> outerHandlerChainWrappers, List<ThreadSetupHandler> threadSetupActions, boolean explodedDeployment, List<ServletExtension> servletExtensions, SharedSessionManagerConfig sharedSessionManagerConfig, WebSocketDeploymentInfo webSocketDeploymentInfo, File tempDir, List<File> externalResources, List<Predicate> allowSuspendedRequests) {
+            final JBossWebMetaData mergedMetaData, final String deploymentName, final HashMap<String, TagLibraryInfo> tldInfo, final Module module, final ScisMetaData scisMetaData, final VirtualFile deploymentRoot, final String jaccContextId, final String securityDomain, final List<ServletContextAttribute> attributes, final String contextPath, final List<SetupAction> setupActions, final Set<VirtualFile> overlays, final List<ExpressionFactoryWrapper> expressionFactoryWrappers, List<PredicatedHandler> predicatedHandlers, List<HandlerWrapper> initialHandlerChainWrappers, List<HandlerWrapper> innerHandlerChainWrappers, List<HandlerWrapper> outerHandlerChainWrappers, List<ThreadSetupHandler> threadSetupActions, boolean explodedDeployment, List<ServletExtension> servletExtensions, SharedSessionManagerConfig sharedSessionManagerConfig, WebSocketDeploymentInfo webSocketDeploymentInfo, File tempDir, List<File> externalResources, List<Predicate> allowSuspendedRequests, GatedAdmission gatedAdmission, AdaptiveConcurrencyLimit concurrencyLimit, FairShareScheduler.Share fairShare) {
         this.deploymentInfoConsumer = deploymentInfoConsumer;
         this.undertowService = undertowService;
         this.sessionManagerFactory = sessionManagerFactory;
@@ -260,6 +264,9 @@ public class UndertowDeploymentInfoService implements Service<DeploymentInfo> {
         this.tempDir = tempDir;
         this.externalResources = externalResources;
         this.allowSuspendedRequests = allowSuspendedRequests;
+        this.gatedAdmission = gatedAdmission;
+        this.concurrencyLimit = concurrencyLimit;
+        this.fairShare = fairShare;
     }
 
     @Override
@@ -393,7 +400,11 @@ public class UndertowDeploymentInfoService implements Service<DeploymentInfo> {
 
             ControlPoint controlPoint = this.controlPoint != null ? this.controlPoint.get() : null;
             if (controlPoint != null) {
-                deploymentInfo.addOuterHandlerChainWrapper(GlobalRequestControllerHandler.wrapper(controlPoint, allowSuspendedRequests));
+                FairShareScheduler scheduler = undertowService.get().getFairShareScheduler();
+                if (fairShare != null && scheduler != null && !scheduler.register(fairShare)) {
+                    throw UndertowLogger.ROOT_LOGGER.fairShareReservationExceeded(fairShare.getReservedRequests(), deploymentName);
+                }
+                deploymentInfo.addOuterHandlerChainWrapper(GlobalRequestControllerHandler.wrapper(controlPoint, allowSuspendedRequests, gatedAdmission, concurrencyLimit, (fairShare != null && fairShare.isRegistered()) ? fairShare : null));
             }
 
             deploymentInfoConsumer.accept(this.deploymentInfo = deploymentInfo);
@@ -421,6 +432,10 @@ public class UndertowDeploymentInfoService implements Service<DeploymentInfo> {
                 }
             });
         }
+        FairShareScheduler scheduler = undertowService.get().getFairShareScheduler();
+        if (fairShare != null && scheduler != null) {
+            scheduler.unregister(fairShare);
+        }
         deploymentInfoConsumer.accept(null);
         IoUtils.safeClose(this.deploymentInfo.getResourceManager());
         this.deploymentInfo.setConfidentialPortManager(null);
@@ -1247,6 +1262,9 @@ public class UndertowDeploymentInfoService implements Service<DeploymentInfo> {
         private File tempDir;
         private List<File> externalResources;
         List<Predicate> allowSuspendedRequests;
+        private GatedAdmission gatedAdmission;
+        private AdaptiveConcurrencyLimit concurrencyLimit;
+        private FairShareScheduler.Share fairShare;
 
         Builder setMergedMetaData(final JBossWebMetaData mergedMetaData) {
             this.mergedMetaData = mergedMetaData;
@@ -1376,6 +1394,21 @@ public class UndertowDeploymentInfoService implements Service<DeploymentInfo> {
             return this;
         }
 
+        public Builder setGatedAdmission(GatedAdmission gatedAdmission) {
+            this.gatedAdmission = gatedAdmission;
+            return this;
+        }
+
+        public Builder setConcurrencyLimit(AdaptiveConcurrencyLimit concurrencyLimit) {
+            this.concurrencyLimit = concurrencyLimit;
+            return this;
+        }
+
+        public Builder setFairShare(FairShareScheduler.Share fairShare) {
+            this.fairShare = fairShare;
+            return this;
+        }
+
         public Builder setExternalResources(List<File> externalResources) {
             this.externalResources = externalResources;
             return this;
@@ -1401,7 +1434,7 @@ public class UndertowDeploymentInfoService implements Service<DeploymentInfo> {
                     suspendController, serverEnvironment, rawSecurityDomain, rawMechanismFactory, applySecurityFunction, mergedMetaData, deploymentName, tldInfo, module,
                     scisMetaData, deploymentRoot, jaccContextId, securityDomain, attributes, contextPath, setupActions, overlays,
                     expressionFactoryWrappers, predicatedHandlers, initialHandlerChainWrappers, innerHandlerChainWrappers, outerHandlerChainWrappers,
-                    threadSetupActions, explodedDeployment, servletExtensions, sharedSessionManagerConfig, webSocketDeploymentInfo, tempDir, externalResources, allowSuspendedRequests);
+                    threadSetupActions, explodedDeployment, servletExtensions, sharedSessionManagerConfig, webSocketDeploymentInfo, tempDir, externalResources, allowSuspendedRequests, gatedAdmission, concurrencyLimit, fairShare);
         }
     }
 
@@ -49,6 +49,7 @@ import org.jboss.as.controller.capability.CapabilityServiceSupport;
 import org.jboss.as.ee.component.ComponentRegistry;
 import org.jboss.as.ee.component.EEModuleDescription;
 import org.jboss.as.ee.component.deployers.StartupCountdown;
+import org.jboss.as.ee.concurrent.AdaptiveConcurrencyLimit;
 import org.jboss.as.ee.security.JaccService;
 import org.jboss.as.server.ServerEnvironment;
 import org.jboss.as.server.ServerEnvironmentService;
@@ -135,6 +136,7 @@ public class UndertowDeploymentProcessor implements DeploymentUnitProcessor, Fun
     private final String defaultHost;
     private final String defaultContainer;
     private final Predicate<String> mappedSecurityDomain;
+    private final Supplier<GatedAdmission> gatedAdmissionFactory;
     /**
         default module mappings, where we have key as name of default deployment,
         for value we have Map.Entry which has key as server-name where deployment is bound to,
@@ -144,7 +146,10 @@ public class UndertowDeploymentProcessor implements DeploymentUnitProcessor, Fun
     private final SessionManagementProviderFactory sessionManagementProviderFactory;
     private final SessionManagementProvider nonDistributableSessionManagementProvider;
 
-    public UndertowDeploymentProcessor(String defaultHost, final String defaultContainer, String defaultServer, Predicate<String> mappedSecurityDomain) {
+    /**
+     * @param gatedAdmissionFactory creates the gated admission of a deployment, or returns null if gated admission is disabled
+     */
+    public UndertowDeploymentProcessor(String defaultHost, final String defaultContainer, String defaultServer, Predicate<String> mappedSecurityDomain, Supplier<GatedAdmission> gatedAdmissionFactory) {
         this.defaultHost = defaultHost;
         this.defaultModuleMappingProvider = DefaultDeploymentMappingProvider.instance();
         if (defaultHost == null) {
@@ -153,6 +158,7 @@ public class UndertowDeploymentProcessor implements DeploymentUnitProcessor, Fun
         this.defaultContainer = defaultContainer;
         this.defaultServer = defaultServer;
         this.mappedSecurityDomain = mappedSecurityDomain;
+        this.gatedAdmissionFactory = gatedAdmissionFactory;
         Iterator<SessionManagementProviderFactory> factories = ServiceLoader.load(SessionManagementProviderFactory.class, SessionManagementProviderFactory.class.getClassLoader()).iterator();
         this.sessionManagementProviderFactory = factories.hasNext() ? factories.next() : null;
         this.nonDistributableSessionManagementProvider = new NonDistributableSessionManagementProvider(this);
@@ -320,6 +326,11 @@ public class UndertowDeploymentProcessor implements DeploymentUnitProcessor, Fun
         }
 
         Supplier<ControlPoint> controlPoint = RequestControllerActivationMarker.isRequestControllerEnabled(deploymentUnit) ? builder.requires(ControlPointService.serviceName(Optional.ofNullable(parentDeploymentUnit).orElse(deploymentUnit).getName(), UndertowExtension.SUBSYSTEM_NAME)) : null;
+        // requests are admitted through the control point, so gated admission requires the request controller
+        GatedAdmission gatedAdmission = (controlPoint != null) ? this.gatedAdmissionFactory.get() : null;
+        AdaptiveConcurrencyLimit.Configuration concurrencyLimitConfiguration = deploymentUnit.getAttachment(org.jboss.as.ee.component.Attachments.ADAPTIVE_CONCURRENCY_LIMIT);
+        AdaptiveConcurrencyLimit concurrencyLimit = (controlPoint != null && concurrencyLimitConfiguration != null) ? concurrencyLimitConfiguration.createLimit() : null;
+        FairShareScheduler.Share fairShare = (controlPoint != null) ? FairShareScheduler.createShare(metaData) : null;
 
         SharedSessionManagerConfig sharedSessionManagerConfig = parentDeploymentUnit != null ? parentDeploymentUnit.getAttachment(SharedSessionManagerConfig.ATTACHMENT_KEY) : null;
         ServiceName sessionManagerFactoryServiceName = (sharedSessionManagerConfig != null) ? parentDeploymentUnit.getServiceName().append(SharedSessionManagerConfig.SHARED_SESSION_MANAGER_SERVICE_NAME) : deploymentServiceName.append("session");
@@ -396,6 +407,9 @@ public class UndertowDeploymentProcessor implements DeploymentUnitProcessor, Fun
                 .setTempDir(warMetaData.getTempDir())
                 .setExternalResources(deploymentUnit.getAttachmentList(UndertowAttachments.EXTERNAL_RESOURCES))
                 .setAllowSuspendedRequests(deploymentUnit.getAttachmentList(UndertowAttachments.ALLOW_REQUEST_WHEN_SUSPENDED))
+                .setGatedAdmission(gatedAdmission)
+                .setConcurrencyLimit(concurrencyLimit)
+                .setFairShare(fairShare)
                 .createUndertowDeploymentInfoService(deploymentInfo, undertowService, sessionManagerFactory, sessionConfigWrapperFactory,
                         servletContainerService, componentRegistryDependency, host, controlPoint, suspendController, serverEnvironment, securityDomain, mechanismFactorySupplier, applySecurityFunction);
         builder.setInstance(undertowDeploymentInfoService);
@@ -434,7 +448,7 @@ public class UndertowDeploymentProcessor implements DeploymentUnitProcessor, Fun
         for (final ServiceName dependentComponent : dependentComponents) {
             udsBuilder.requires(dependentComponent);
         }
-        udsBuilder.setInstance(new UndertowDeploymentService(sConsumer, cSupplier, seSupplier, hSupplier, diSupplier, injectionContainer, true));
+        udsBuilder.setInstance(new UndertowDeploymentService(sConsumer, cSupplier, seSupplier, hSupplier, diSupplier, injectionContainer, true, gatedAdmission, concurrencyLimit, fairShare));
         udsBuilder.install();
 
         deploymentUnit.addToAttachmentList(Attachments.DEPLOYMENT_COMPLETE_SERVICES, deploymentServiceName);
@@ -17,6 +17,7 @@ import io.undertow.servlet.api.DeploymentManager;
 
 import jakarta.servlet.ServletException;
 
+import org.jboss.as.ee.concurrent.AdaptiveConcurrencyLimit;
 import org.jboss.as.web.common.StartupContext;
 import org.jboss.as.web.common.WebInjectionContainer;
 import org.jboss.msc.service.Service;
@@ -40,13 +41,17 @@ public class UndertowDeploymentService implements Service<UndertowDeploymentServ
     private final Supplier<DeploymentInfo> deploymentInfo;
     private final WebInjectionContainer webInjectionContainer;
     private final boolean autostart;
+    private final GatedAdmission gatedAdmission;
+    private final AdaptiveConcurrencyLimit concurrencyLimit;
+    private final FairShareScheduler.Share fairShare;
 
     private volatile DeploymentManager deploymentManager;
 
     UndertowDeploymentService(
             final Consumer<UndertowDeploymentService> serviceConsumer, final Supplier<ServletContainerService> container,
             final Supplier<ExecutorService> serverExecutor, final Supplier<Host> host, final Supplier<DeploymentInfo> deploymentInfo,
-            final WebInjectionContainer webInjectionContainer, final boolean autostart) {
+            final WebInjectionContainer webInjectionContainer, final boolean autostart,
+            final GatedAdmission gatedAdmission, final AdaptiveConcurrencyLimit concurrencyLimit, final FairShareScheduler.Share fairShare) {
         this.serviceConsumer = serviceConsumer;
         this.container = container;
         this.serverExecutor = serverExecutor;
@@ -54,6 +59,9 @@ public class UndertowDeploymentService implements Service<UndertowDeploymentServ
         this.deploymentInfo = deploymentInfo;
         this.webInjectionContainer = webInjectionContainer;
         this.autostart = autostart;
+        this.gatedAdmission = gatedAdmission;
+        this.concurrencyLimit = concurrencyLimit;
+        this.fairShare = fairShare;
     }
 
     @Override
@@ -134,6 +142,9 @@ public class UndertowDeploymentService implements Service<UndertowDeploymentServ
                 Deployment deployment = deploymentManager.getDeployment();
                 try {
                     host.get().unregisterDeployment(deployment);
+                    if (gatedAdmission != null) {
+                        gatedAdmission.stop();
+                    }
                     deploymentManager.stop();
                 } catch (ServletException e) {
                     throw new RuntimeException(e);
@@ -164,6 +175,27 @@ public class UndertowDeploymentService implements Service<UndertowDeploymentServ
         }
     }
 
+    /**
+     * @return the gated admission of the requests of this deployment, or null if it is disabled
+     */
+    public GatedAdmission getGatedAdmission() {
+        return gatedAdmission;
+    }
+
+    /**
+     * @return the adaptive concurrency limit of the requests of this deployment, or null if it is disabled
+     */
+    public AdaptiveConcurrencyLimit getConcurrencyLimit() {
+        return concurrencyLimit;
+    }
+
+    /**
+     * @return the share of the request capacity of the server of this deployment, or null if it does not share it
+     */
+    public FairShareScheduler.Share getFairShare() {
+        return (fairShare != null && fairShare.isRegistered()) ? fairShare : null;
+    }
+
     private static void recursiveDelete(File file) {
         if(file == null) {
             return;
@@ -429,4 +429,10 @@ public interface UndertowLogger extends BasicLogger {
     @Message(id = 111, value = "The annotation: '%s' will have no effect on Servlet: '%s'")
     void badAnnotationOnServlet(String annotation, String servlet);
 
+    @Message(id = 112, value = "The context parameter %s has the invalid value '%s', which must be an integer of at least %d")
+    DeploymentUnitProcessingException invalidFairShareParameter(String name, String value, int min);
+
+    @Message(id = 113, value = "The %d requests reserved by deployment %s exceed the requests of the fair share scheduler left unreserved by the other deployments")
+    StartException fairShareReservationExceeded(int reservedRequests, String deploymentName);
+
 }
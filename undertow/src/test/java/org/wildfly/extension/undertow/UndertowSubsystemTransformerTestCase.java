@@ -129,6 +129,9 @@ public class UndertowSubsystemTransformerTestCase extends AbstractSubsystemTest
         PathAddress servletContainerAddress = subsystemAddress.append(PathElement.pathElement(ServletContainerDefinition.PATH_ELEMENT.getKey(), "rejected-container"));
         PathAddress affinityCookiePath = subsystemAddress.append(PathElement.pathElement(ServletContainerDefinition.PATH_ELEMENT.getKey(), "affinity-cookie-container")).append(AffinityCookieDefinition.PATH_ELEMENT);
 
+        if (UndertowSubsystemModel.VERSION_14_0_0.requiresTransformation(this.modelVersion)) {
+            config.addFailedAttribute(subsystemAddress, new FailedOperationTransformationConfig.NewAttributesConfig(UndertowRootDefinition.GATED_ADMISSION_RATE, UndertowRootDefinition.GATED_ADMISSION_MAX_QUEUED_REQUESTS, UndertowRootDefinition.GATED_ADMISSION_WARM_UP, UndertowRootDefinition.FAIR_SHARE_MAX_REQUESTS));
+        }
         if (UndertowSubsystemModel.VERSION_13_0_0.requiresTransformation(this.modelVersion)) {
             config.addFailedAttribute(servletContainerAddress, new FailedOperationTransformationConfig.NewAttributesConfig(ServletContainerDefinition.ORPHAN_SESSION_ALLOWED));
 
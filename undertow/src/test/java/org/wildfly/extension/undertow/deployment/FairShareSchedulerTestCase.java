@@ -0,0 +1,243 @@
+/*
+ * Copyright The WildFly Authors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+package org.wildfly.extension.undertow.deployment;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+import org.jboss.as.server.deployment.DeploymentUnitProcessingException;
+import org.jboss.metadata.javaee.spec.ParamValueMetaData;
+import org.jboss.metadata.web.jboss.JBossWebMetaData;
+import org.junit.Assert;
+import org.junit.Test;
+import org.wildfly.extension.undertow.deployment.FairShareScheduler.Admission;
+import org.wildfly.extension.undertow.deployment.FairShareScheduler.QueuedRequest;
+import org.wildfly.extension.undertow.deployment.FairShareScheduler.Share;
+
+/**
+ * Unit test for the scheduling of the requests of the deployments by a {@link FairShareScheduler}.
+ */
+public class FairShareSchedulerTestCase {
+
+    // the requests resumed by the scheduler, in order
+    private final List<TestRequest> proceeded = new ArrayList<>();
+
+    @Test
+    public void weightedSharing() {
+        FairShareScheduler scheduler = new FairShareScheduler(4);
+        Share heavy = new Share(3, 0, 100);
+        Share light = new Share(1, 0, 100);
+        Assert.assertTrue(scheduler.register(heavy));
+        Assert.assertTrue(scheduler.register(light));
+
+        // the light share uses all of the capacity, the requests of both shares are then queued
+        for (int i = 0; i < 4; ++i) {
+            Assert.assertSame(Admission.PROCEED, scheduler.acquire(light));
+        }
+        for (int i = 0; i < 8; ++i) {
+            this.enqueue(scheduler, heavy);
+            this.enqueue(scheduler, light);
+        }
+        Assert.assertTrue(this.proceeded.isEmpty());
+        Assert.assertEquals(8, heavy.getQueuedRequests());
+        Assert.assertEquals(8, light.getQueuedRequests());
+
+        // the capacity freed by the completed requests is handed out in proportion to the weights
+        for (int i = 0; i < 4; ++i) {
+            light.release();
+        }
+        for (int i = 0; i < 4; ++i) {
+            this.proceeded.get(i).share.release();
+        }
+        Assert.assertEquals(8, this.proceeded.size());
+        Assert.assertEquals(6, count(heavy));
+        Assert.assertEquals(2, count(light));
+        Assert.assertEquals(2, heavy.getQueuedRequests());
+        Assert.assertEquals(6, light.getQueuedRequests());
+    }
+
+    @Test
+    public void idleShareGetsNoCredit() {
+        FairShareScheduler scheduler = new FairShareScheduler(1);
+        Share busy = new Share(1, 0, 100);
+        Share idle = new Share(1, 0, 100);
+        Assert.assertTrue(scheduler.register(busy));
+        Assert.assertTrue(scheduler.register(idle));
+
+        Assert.assertSame(Admission.PROCEED, scheduler.acquire(busy));
+        for (int i = 0; i < 4; ++i) {
+            this.enqueue(scheduler, busy);
+        }
+        // the busy share runs alone for a while
+        busy.release();
+        busy.release();
+        busy.release();
+        Assert.assertEquals(3, count(busy));
+
+        // then the shares alternate, rather than the idle share catching up on the time it was idle
+        this.enqueue(scheduler, idle);
+        this.enqueue(scheduler, idle);
+        busy.release();
+        idle.release();
+        busy.release();
+        Assert.assertEquals(6, this.proceeded.size());
+        Assert.assertSame(idle, this.proceeded.get(3).share);
+        Assert.assertSame(busy, this.proceeded.get(4).share);
+        Assert.assertSame(idle, this.proceeded.get(5).share);
+    }
+
+    @Test
+    public void reservationUnderContention() {
+        FairShareScheduler scheduler = new FairShareScheduler(4);
+        Share reserving = new Share(1, 2, 100);
+        Share greedy = new Share(10, 0, 100);
+        Assert.assertTrue(scheduler.register(reserving));
+        Assert.assertTrue(scheduler.register(greedy));
+
+        // the greedy share is limited to the capacity left over by the reservation, even while it is not used
+        Assert.assertSame(Admission.PROCEED, scheduler.acquire(greedy));
+        Assert.assertSame(Admission.PROCEED, scheduler.acquire(greedy));
+        for (int i = 0; i < 4; ++i) {
+            this.enqueue(scheduler, greedy);
+        }
+        Assert.assertEquals(4, greedy.getQueuedRequests());
+
+        // the reserving share runs its reserved requests despite the queued requests of the greedy share
+        Assert.assertSame(Admission.PROCEED, scheduler.acquire(reserving));
+        Assert.assertSame(Admission.PROCEED, scheduler.acquire(reserving));
+        TestRequest queued = this.enqueue(scheduler, reserving);
+        Assert.assertTrue(this.proceeded.isEmpty());
+
+        // a reserved request that completes is handed to the reserving share, even though its weight is lower
+        reserving.release();
+        Assert.assertEquals(Collections.singletonList(queued), this.proceeded);
+        Assert.assertEquals(0, reserving.getQueuedRequests());
+
+        // once the reserving share stops, its reservation is shared
+        scheduler.unregister(reserving);
+        Assert.assertFalse(reserving.isRegistered());
+        Assert.assertEquals(3, this.proceeded.size());
+        Assert.assertEquals(2, count(greedy));
+        Assert.assertEquals(2, greedy.getQueuedRequests());
+    }
+
+    @Test
+    public void overReservation() {
+        FairShareScheduler scheduler = new FairShareScheduler(4);
+        Assert.assertTrue(scheduler.register(new Share(1, 3, 100)));
+        // the reservations cannot exceed the capacity of the server
+        Share share = new Share(1, 2, 100);
+        Assert.assertFalse(scheduler.register(share));
+        Assert.assertFalse(share.isRegistered());
+        Assert.assertTrue(scheduler.register(new Share(1, 1, 100)));
+    }
+
+    @Test
+    public void queueLimit() {
+        FairShareScheduler scheduler = new FairShareScheduler(1);
+        Share share = new Share(1, 0, 2);
+        Assert.assertTrue(scheduler.register(share));
+
+        Assert.assertSame(Admission.PROCEED, scheduler.acquire(share));
+        TestRequest first = this.enqueue(scheduler, share);
+        TestRequest second = this.enqueue(scheduler, share);
+        // requests exceeding the queue limit are rejected
+        Assert.assertSame(Admission.REJECT, scheduler.acquire(share));
+        Assert.assertEquals(1L, share.getRejectedRequests());
+
+        // the queued requests are rejected as the deployment stops
+        scheduler.unregister(share);
+        Assert.assertTrue(first.rejected);
+        Assert.assertTrue(second.rejected);
+        Assert.assertTrue(this.proceeded.isEmpty());
+
+        // a request dispatched once the deployment stopped is rejected rather than queued
+        TestRequest late = new TestRequest(share);
+        scheduler.enqueue(share, late, System.nanoTime());
+        Assert.assertTrue(late.rejected);
+    }
+
+    @Test
+    public void invalidConfiguration() throws DeploymentUnitProcessingException {
+        try {
+            new FairShareScheduler(0);
+            Assert.fail();
+        } catch (IllegalArgumentException e) {
+            // expected
+        }
+        assertInvalid(0, 0, 1);
+        assertInvalid(1, -1, 1);
+        assertInvalid(1, 0, 0);
+
+        Share share = FairShareScheduler.createShare(metaData(FairShareScheduler.WEIGHT, " 3 ", FairShareScheduler.RESERVED_REQUESTS, "2"));
+        Assert.assertEquals(2, share.getReservedRequests());
+        assertInvalid(FairShareScheduler.WEIGHT, "0");
+        assertInvalid(FairShareScheduler.WEIGHT, "heavy");
+        assertInvalid(FairShareScheduler.RESERVED_REQUESTS, "-1");
+        assertInvalid(FairShareScheduler.MAX_QUEUED_REQUESTS, "0");
+    }
+
+    private TestRequest enqueue(FairShareScheduler scheduler, Share share) {
+        Assert.assertSame(Admission.QUEUE, scheduler.acquire(share));
+        TestRequest request = new TestRequest(share);
+        scheduler.enqueue(share, request, System.nanoTime());
+        return request;
+    }
+
+    private long count(Share share) {
+        return this.proceeded.stream().filter(request -> request.share == share).count();
+    }
+
+    private static void assertInvalid(int weight, int reservedRequests, int maxQueuedRequests) {
+        try {
+            new Share(weight, reservedRequests, maxQueuedRequests);
+            Assert.fail();
+        } catch (IllegalArgumentException e) {
+            // expected
+        }
+    }
+
+    private static void assertInvalid(String name, String value) {
+        try {
+            FairShareScheduler.createShare(metaData(name, value));
+            Assert.fail();
+        } catch (DeploymentUnitProcessingException e) {
+            // expected
+        }
+    }
+
+    private static JBossWebMetaData metaData(String... params) {
+        List<ParamValueMetaData> contextParams = new ArrayList<>();
+        for (int i = 0; i < params.length; i += 2) {
+            ParamValueMetaData param = new ParamValueMetaData();
+            param.setParamName(params[i]);
+            param.setParamValue(params[i + 1]);
+            contextParams.add(param);
+        }
+        JBossWebMetaData metaData = new JBossWebMetaData();
+        metaData.setContextParams(contextParams);
+        return metaData;
+    }
+
+    private class TestRequest implements QueuedRequest {
+        final Share share;
+        volatile boolean rejected;
+
+        TestRequest(Share share) {
+            this.share = share;
+        }
+
+        @Override
+        public void proceed() {
+            FairShareSchedulerTestCase.this.proceeded.add(this);
+        }
+
+        @Override
+        public void reject() {
+            this.rejected = true;
+        }
+    }
+}
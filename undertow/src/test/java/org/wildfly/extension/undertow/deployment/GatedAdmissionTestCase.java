@@ -0,0 +1,186 @@
+/*
+ * Copyright The WildFly Authors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+package org.wildfly.extension.undertow.deployment;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.Assert;
+import org.junit.Before;
+import org.junit.Test;
+import org.wildfly.extension.undertow.deployment.GatedAdmission.Admission;
+import org.wildfly.extension.undertow.deployment.GatedAdmission.HeldRequest;
+import org.xnio.XnioExecutor;
+
+/**
+ * Unit test for the ramp of a {@link GatedAdmission}. The ticks are run by the test rather than by the IO thread.
+ */
+public class GatedAdmissionTestCase {
+
+    private static final long HOUR = TimeUnit.HOURS.toSeconds(1);
+
+    private final XnioExecutor executor = mock(XnioExecutor.class);
+    private final XnioExecutor.Key key = mock(XnioExecutor.Key.class);
+
+    @Before
+    public void setUp() {
+        when(this.executor.executeAfter(any(Runnable.class), anyLong(), any(TimeUnit.class))).thenReturn(this.key);
+    }
+
+    @Test
+    public void permitsPerTick() {
+        // 20 requests per second, i.e. 2 per tick of 100 ms
+        GatedAdmission admission = new GatedAdmission(20, 10, HOUR);
+        Assert.assertSame(Admission.PROCEED, admission.acquire(this.executor));
+        Assert.assertSame(Admission.PROCEED, admission.acquire(this.executor));
+        Assert.assertSame(Admission.QUEUE, admission.acquire(this.executor));
+        Assert.assertEquals(1, admission.getQueuedRequests());
+
+        // a rate below the tick frequency still admits a request per tick
+        GatedAdmission slow = new GatedAdmission(1, 10, HOUR);
+        Assert.assertSame(Admission.PROCEED, slow.acquire(this.executor));
+        Assert.assertSame(Admission.QUEUE, slow.acquire(this.executor));
+    }
+
+    @Test
+    public void ramp() {
+        // 10 requests per second, i.e. 1 per tick
+        GatedAdmission admission = new GatedAdmission(10, 10, HOUR);
+        Assert.assertSame(Admission.PROCEED, admission.acquire(this.executor));
+        List<TestRequest> requests = new ArrayList<>();
+        for (int i = 0; i < 3; ++i) {
+            Assert.assertSame(Admission.QUEUE, admission.acquire(this.executor));
+            TestRequest request = new TestRequest();
+            admission.enqueue(request);
+            requests.add(request);
+        }
+        Assert.assertEquals(3, admission.getQueuedRequests());
+
+        // each tick releases the queued requests in order, as many as its permits
+        for (int i = 0; i < requests.size(); ++i) {
+            admission.tick();
+            for (int j = 0; j < requests.size(); ++j) {
+                Assert.assertEquals(j <= i, requests.get(j).admitted);
+            }
+            Assert.assertEquals(requests.size() - i - 1, admission.getQueuedRequests());
+        }
+
+        // the gate remains closed during the warm up period, and the next tick hands out a new permit
+        admission.tick();
+        Assert.assertFalse(admission.isOpen());
+        Assert.assertSame(Admission.PROCEED, admission.acquire(this.executor));
+        Assert.assertSame(Admission.QUEUE, admission.acquire(this.executor));
+        // the ticks are scheduled on the executor of the first request, one at a time
+        verify(this.executor, times(5)).executeAfter(any(Runnable.class), anyLong(), any(TimeUnit.class));
+    }
+
+    @Test
+    public void queueLimit() {
+        GatedAdmission admission = new GatedAdmission(10, 2, HOUR);
+        Assert.assertSame(Admission.PROCEED, admission.acquire(this.executor));
+        Assert.assertSame(Admission.QUEUE, admission.acquire(this.executor));
+        Assert.assertSame(Admission.QUEUE, admission.acquire(this.executor));
+        // requests exceeding the queue limit are rejected
+        Assert.assertSame(Admission.REJECT, admission.acquire(this.executor));
+        Assert.assertSame(Admission.REJECT, admission.acquire(this.executor));
+        Assert.assertEquals(2, admission.getQueuedRequests());
+        Assert.assertEquals(2L, admission.getRejectedRequests());
+    }
+
+    @Test
+    public void controlPointAdmission() {
+        GatedAdmission admission = new GatedAdmission(10, 10, 0);
+        Assert.assertSame(Admission.PROCEED, admission.acquire(this.executor));
+        Assert.assertSame(Admission.QUEUE, admission.acquire(this.executor));
+        TestRequest request = new TestRequest();
+        admission.enqueue(request);
+
+        // the tick hands the request to the control point, which runs it or rejects it as if it had not been queued
+        admission.tick();
+        Assert.assertTrue(request.admitted);
+        Assert.assertEquals(0, admission.getQueuedRequests());
+        // the warm up period elapsed and nothing is queued, so the gate opens
+        Assert.assertTrue(admission.isOpen());
+        for (int i = 0; i < 10; ++i) {
+            Assert.assertSame(Admission.PROCEED, admission.acquire(this.executor));
+        }
+    }
+
+    @Test
+    public void warmUp() {
+        GatedAdmission admission = new GatedAdmission(10, 10, 0);
+        Assert.assertSame(Admission.PROCEED, admission.acquire(this.executor));
+        Assert.assertFalse(admission.isOpen());
+        admission.tick();
+        Assert.assertTrue(admission.isOpen());
+        // no tick is scheduled once the gate is open
+        verify(this.executor, times(1)).executeAfter(any(Runnable.class), anyLong(), any(TimeUnit.class));
+    }
+
+    @Test
+    public void stop() {
+        GatedAdmission admission = new GatedAdmission(10, 10, HOUR);
+        Assert.assertSame(Admission.PROCEED, admission.acquire(this.executor));
+        Assert.assertSame(Admission.QUEUE, admission.acquire(this.executor));
+        TestRequest request = new TestRequest();
+        admission.enqueue(request);
+
+        // the queued requests are rejected as the deployment stops
+        admission.stop();
+        Assert.assertTrue(request.rejected);
+        Assert.assertFalse(request.admitted);
+        Assert.assertEquals(0, admission.getQueuedRequests());
+        verify(this.key).remove();
+
+        // a request dispatched once the deployment stopped is rejected rather than queued
+        TestRequest late = new TestRequest();
+        admission.enqueue(late);
+        Assert.assertTrue(late.rejected);
+
+        // the gate is closed again for the next start of the deployment
+        Assert.assertFalse(admission.isOpen());
+        Assert.assertSame(Admission.PROCEED, admission.acquire(this.executor));
+        Assert.assertSame(Admission.QUEUE, admission.acquire(this.executor));
+    }
+
+    @Test
+    public void invalidConfiguration() {
+        assertInvalid(0, 10, HOUR);
+        assertInvalid(10, 0, HOUR);
+        assertInvalid(10, 10, -1);
+    }
+
+    private static void assertInvalid(int rate, int maxQueuedRequests, long warmUp) {
+        try {
+            new GatedAdmission(rate, maxQueuedRequests, warmUp);
+            Assert.fail();
+        } catch (IllegalArgumentException e) {
+            // expected
+        }
+    }
+
+    private static class TestRequest implements HeldRequest {
+        volatile boolean admitted;
+        volatile boolean rejected;
+
+        @Override
+        public void admit() {
+            this.admitted = true;
+        }
+
+        @Override
+        public void reject() {
+            this.rejected = true;
+        }
+    }
+}
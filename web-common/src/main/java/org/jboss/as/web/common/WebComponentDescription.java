@@ -38,4 +38,9 @@ public final class WebComponentDescription extends ComponentDescription {
     public boolean isOptional() {
         return true;
     }
+
+    @Override
+    public boolean isLazyStartApplicable() {
+        return true;
+    }
 }
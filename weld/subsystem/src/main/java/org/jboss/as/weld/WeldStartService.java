@@ -11,6 +11,7 @@ import java.util.function.Supplier;
 import org.jboss.as.server.deployment.SetupAction;
 import org.jboss.as.weld.logging.WeldLogger;
 import org.jboss.as.weld.services.ModuleGroupSingletonProvider;
+import org.jboss.as.weld.services.bootstrap.ProxyServicesImpl;
 import org.jboss.msc.service.LifecycleEvent;
 import org.jboss.msc.service.LifecycleListener;
 import org.jboss.msc.Service;
@@ -21,6 +22,7 @@ import org.jboss.msc.service.StartContext;
 import org.jboss.msc.service.StartException;
 import org.jboss.msc.service.StopContext;
 import org.jboss.weld.Container;
+import org.jboss.weld.serialization.spi.ProxyServices;
 import org.wildfly.security.manager.WildFlySecurityManager;
 
 /**
@@ -79,6 +81,11 @@ public class WeldStartService implements Service {
             bootstrapSupplier.get().getBootstrap().startInitialization();
             bootstrapSupplier.get().getBootstrap().deployBeans();
             bootstrapSupplier.get().getBootstrap().validateBeans();
+            // most proxies are generated while the beans are validated
+            final ProxyServices proxyServices = bootstrapSupplier.get().getDeployment().getServices().get(ProxyServices.class);
+            if (proxyServices instanceof ProxyServicesImpl) {
+                ((ProxyServicesImpl) proxyServices).storeProxies();
+            }
         } finally {
 
             for (SetupAction action : setupActions) {
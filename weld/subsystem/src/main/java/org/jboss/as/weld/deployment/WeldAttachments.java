@@ -8,6 +8,7 @@ import org.jboss.as.server.deployment.AttachmentKey;
 import org.jboss.as.server.deployment.AttachmentList;
 import org.jboss.as.server.deployment.module.ResourceRoot;
 import org.jboss.as.weld.discovery.AnnotationType;
+import org.jboss.weld.manager.api.ExecutorServices;
 
 /**
  * {@link AttachmentKey}s for weld attachments
@@ -44,4 +45,9 @@ public class WeldAttachments {
      */
     public static final AttachmentKey<ResourceRoot> CLASSES_RESOURCE_ROOT = AttachmentKey.create(ResourceRoot.class);
 
+    /**
+     * The Weld thread pool, on which the external bean archives of a top level deployment are discovered.
+     */
+    public static final AttachmentKey<ExecutorServices> EXECUTOR_SERVICES = AttachmentKey.create(ExecutorServices.class);
+
 }
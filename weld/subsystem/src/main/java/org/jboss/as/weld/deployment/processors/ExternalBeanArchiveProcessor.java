@@ -19,7 +19,14 @@ import java.util.Map;
 import java.util.Map.Entry;
 import java.util.ServiceLoader;
 import java.util.Set;
+import java.util.TreeSet;
+import java.util.WeakHashMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Future;
 import java.util.function.BiConsumer;
+import java.util.function.Supplier;
 
 import org.jboss.as.ee.component.ComponentDescription;
 import org.jboss.as.ee.component.EEModuleDescription;
@@ -28,6 +35,7 @@ import org.jboss.as.server.deployment.DeploymentPhaseContext;
 import org.jboss.as.server.deployment.DeploymentUnit;
 import org.jboss.as.server.deployment.DeploymentUnitProcessingException;
 import org.jboss.as.server.deployment.DeploymentUnitProcessor;
+import org.jboss.as.server.moduleservice.ServiceModuleLoader;
 import org.jboss.as.weld._private.WeldDeploymentMarker;
 import org.jboss.as.weld.deployment.BeanDeploymentArchiveImpl;
 import org.jboss.as.weld.deployment.BeanDeploymentArchiveImpl.BeanArchiveType;
@@ -56,6 +64,7 @@ import org.jboss.modules.ModuleLoader;
 import org.jboss.weld.bootstrap.api.Service;
 import org.jboss.weld.bootstrap.spi.BeanDiscoveryMode;
 import org.jboss.weld.bootstrap.spi.BeansXml;
+import org.jboss.weld.manager.api.ExecutorServices;
 import org.jboss.weld.xml.BeansXmlParser;
 import org.wildfly.security.manager.WildFlySecurityManager;
 
@@ -76,8 +85,11 @@ public class ExternalBeanArchiveProcessor implements DeploymentUnitProcessor {
 
     private static final String META_INF_JANDEX_IDX = "META-INF/jandex.idx";
 
-    private final String ALL_KNOWN_CLASSES = "ALL_KNOWN_CLASSES";
-    private final String BEAN_CLASSES = "BEAN_CLASSES";
+    static final String ALL_KNOWN_CLASSES = "ALL_KNOWN_CLASSES";
+    static final String BEAN_CLASSES = "BEAN_CLASSES";
+
+    // server-wide cache of the bean archives of static modules, released along with the modules
+    private final Map<Module, StaticModuleBeanArchives> staticModules = new WeakHashMap<>();
 
     @Override
     public void deploy(DeploymentPhaseContext phaseContext) throws DeploymentUnitProcessingException {
@@ -154,10 +166,12 @@ public class ExternalBeanArchiveProcessor implements DeploymentUnitProcessor {
         // This map is a cache that allows us to avoid repeated introspection of Module's exported resources
         // it is of little importance for small deployment, but makes a difference in massive ones, see WFLY-14055
         Map<String, Map<URL, URL>> exportedResourcesCache = new HashMap<>();
+        // collect the external bean archives first, so that they can be scanned concurrently
+        List<List<ExternalBeanArchive>> moduleArchives = new ArrayList<>();
         for (DeploymentUnit deployment : deploymentUnits) {
             final Module module = deployment.getAttachment(Attachments.MODULE);
             if (module == null) {
-                return;
+                break;
             }
 
             for (DependencySpec dep : module.getDependencies()) {
@@ -173,9 +187,10 @@ public class ExternalBeanArchiveProcessor implements DeploymentUnitProcessor {
                 if (dependency == null) {
                     continue;
                 }
-                Map<URL, URL> resourcesMap = findExportedResources(dependency, exportedResourcesCache);
+                final StaticModuleBeanArchives staticModule = isStaticModule(dependency) ? getStaticModuleBeanArchives(dependency) : null;
+                Map<URL, URL> resourcesMap = (staticModule != null) ? staticModule.getExportedResources(dependency) : findExportedResources(dependency, exportedResourcesCache);
                 if (!resourcesMap.isEmpty()) {
-                    List<BeanDeploymentArchiveImpl> moduleBdas = new ArrayList<>();
+                    List<ExternalBeanArchive> archives = new ArrayList<>();
                     for (Entry<URL,URL> entry : resourcesMap.entrySet()) {
                         URL beansXmlUrl = entry.getKey();
                         if (existing.contains(beansXmlUrl)) {
@@ -210,44 +225,117 @@ public class ExternalBeanArchiveProcessor implements DeploymentUnitProcessor {
                             continue;
                         }
 
-                        Map<String, List<String>> allAndBeanClasses = discover(beansXml.getBeanDiscoveryMode(), beansXmlUrl, entry.getValue(),
-                                beanDefiningAnnotations);
-                        Collection<String> discoveredBeanClasses = allAndBeanClasses.get(BEAN_CLASSES);
-                        Collection<String> allKnownClasses = allAndBeanClasses.get(ALL_KNOWN_CLASSES);
-                        if (discoveredBeanClasses == null) {
-                            // URL scanner probably does not understand the protocol
-                            continue;
-                        }
-                        discoveredBeanClasses.removeAll(componentClassNames);
-
-                        final BeanDeploymentArchiveImpl bda = new BeanDeploymentArchiveImpl(new HashSet<String>(discoveredBeanClasses), new HashSet<String>(allKnownClasses), beansXml, dependency, beanArchiveIdPrefix + beansXmlUrl.toExternalForm(), BeanArchiveType.EXTERNAL);
-                        WeldLogger.DEPLOYMENT_LOGGER.beanArchiveDiscovered(bda);
-
-                        // Add module services to external bean deployment archive
-                        for (Entry<Class<? extends Service>, Service> moduleService : ServiceLoaders
-                                .loadModuleServices(moduleServicesProviders, deploymentUnit, deployment, module, null).entrySet()) {
-                            bda.getServices().add(moduleService.getKey(), Reflections.cast(moduleService.getValue()));
-                        }
-
-                        deploymentUnit.addToAttachmentList(WeldAttachments.ADDITIONAL_BEAN_DEPLOYMENT_MODULES, bda);
-                        moduleBdas.add(bda);
+                        archives.add(new ExternalBeanArchive(deployment, module, dependency, staticModule, beansXmlUrl, entry.getValue(), beansXml));
 
                         // make sure that if this beans.xml is seen by some other module, it is not processed twice
                         existing.add(beansXmlUrl);
                     }
-                    //BDA's from inside the same module have visibility on each other
-                    for(BeanDeploymentArchiveImpl i : moduleBdas) {
-                        for(BeanDeploymentArchiveImpl j : moduleBdas) {
-                            if(i != j) {
-                                i.addBeanDeploymentArchive(j);
-                            }
-                        }
+                    if (!archives.isEmpty()) {
+                        moduleArchives.add(archives);
+                    }
+                }
+            }
+        }
+
+        final ExecutorServices executorServices = deploymentUnit.getAttachment(WeldAttachments.EXECUTOR_SERVICES);
+        discoverAll(moduleArchives, beanDefiningAnnotations, (executorServices != null) ? executorServices.getTaskExecutor() : null);
+
+        for (List<ExternalBeanArchive> archives : moduleArchives) {
+            List<BeanDeploymentArchiveImpl> moduleBdas = new ArrayList<>();
+            for (ExternalBeanArchive archive : archives) {
+                Map<String, List<String>> allAndBeanClasses = archive.discovered;
+                Collection<String> discoveredBeanClasses = allAndBeanClasses.get(BEAN_CLASSES);
+                Collection<String> allKnownClasses = allAndBeanClasses.get(ALL_KNOWN_CLASSES);
+                if (discoveredBeanClasses == null) {
+                    // URL scanner probably does not understand the protocol
+                    continue;
+                }
+                // the discovered classes may be shared with other deployments of the same static module
+                Set<String> beanClasses = new HashSet<>(discoveredBeanClasses);
+                beanClasses.removeAll(componentClassNames);
+
+                final BeanDeploymentArchiveImpl bda = new BeanDeploymentArchiveImpl(beanClasses, new HashSet<String>(allKnownClasses), archive.beansXml, archive.dependency, beanArchiveIdPrefix + archive.beansXmlUrl.toExternalForm(), BeanArchiveType.EXTERNAL);
+                WeldLogger.DEPLOYMENT_LOGGER.beanArchiveDiscovered(bda);
+
+                // Add module services to external bean deployment archive
+                for (Entry<Class<? extends Service>, Service> moduleService : ServiceLoaders
+                        .loadModuleServices(moduleServicesProviders, deploymentUnit, archive.deployment, archive.module, null).entrySet()) {
+                    bda.getServices().add(moduleService.getKey(), Reflections.cast(moduleService.getValue()));
+                }
+
+                deploymentUnit.addToAttachmentList(WeldAttachments.ADDITIONAL_BEAN_DEPLOYMENT_MODULES, bda);
+                moduleBdas.add(bda);
+            }
+            //BDA's from inside the same module have visibility on each other
+            for(BeanDeploymentArchiveImpl i : moduleBdas) {
+                for(BeanDeploymentArchiveImpl j : moduleBdas) {
+                    if(i != j) {
+                        i.addBeanDeploymentArchive(j);
                     }
                 }
             }
         }
     }
 
+    /**
+     * Scans the classes of the external bean archives, concurrently on the specified executor, i.e. the Weld thread pool, if any.
+     * The scanning results of static modules are shared by all deployments.
+     */
+    void discoverAll(List<List<ExternalBeanArchive>> moduleArchives, Set<AnnotationType> beanDefiningAnnotations, ExecutorService executor) throws DeploymentUnitProcessingException {
+        final List<ExternalBeanArchive> archives = new ArrayList<>();
+        for (List<ExternalBeanArchive> list : moduleArchives) {
+            archives.addAll(list);
+        }
+        if (executor == null || archives.size() < 2) {
+            for (ExternalBeanArchive archive : archives) {
+                archive.discovered = discover(archive, beanDefiningAnnotations);
+            }
+            return;
+        }
+        final List<Future<Map<String, List<String>>>> futures = new ArrayList<>(archives.size());
+        try {
+            for (ExternalBeanArchive archive : archives) {
+                futures.add(executor.submit(() -> discover(archive, beanDefiningAnnotations)));
+            }
+            for (int i = 0; i < archives.size(); ++i) {
+                archives.get(i).discovered = futures.get(i).get();
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new DeploymentUnitProcessingException(e);
+        } catch (ExecutionException e) {
+            Throwable cause = e.getCause();
+            if (cause instanceof RuntimeException) {
+                throw (RuntimeException) cause;
+            }
+            if (cause instanceof Error) {
+                throw (Error) cause;
+            }
+            throw new DeploymentUnitProcessingException(cause);
+        } finally {
+            for (Future<?> future : futures) {
+                future.cancel(true);
+            }
+        }
+    }
+
+    private Map<String, List<String>> discover(ExternalBeanArchive archive, Set<AnnotationType> beanDefiningAnnotations) {
+        final BeanDiscoveryMode mode = archive.beansXml.getBeanDiscoveryMode();
+        if (archive.staticModule == null) {
+            return discover(mode, archive.beansXmlUrl, archive.indexUrl, beanDefiningAnnotations);
+        }
+        // the classes of a static module do not change, but the bean defining annotations may depend on the deployment
+        StringBuilder key = new StringBuilder(archive.beansXmlUrl.toExternalForm()).append('|').append(mode);
+        if (BeanDiscoveryMode.ANNOTATED.equals(mode)) {
+            Set<String> names = new TreeSet<>();
+            for (AnnotationType annotation : beanDefiningAnnotations) {
+                names.add(annotation.getName().toString());
+            }
+            key.append('|').append(names);
+        }
+        return archive.staticModule.getDiscovered(key.toString(), () -> discover(mode, archive.beansXmlUrl, archive.indexUrl, beanDefiningAnnotations));
+    }
+
     /**
      *
      * @param beanDiscoveryMode
@@ -365,6 +453,21 @@ public class ExternalBeanArchiveProcessor implements DeploymentUnitProcessor {
         return false;
     }
 
+    private static boolean isStaticModule(Module module) {
+        return !module.getName().startsWith(ServiceModuleLoader.MODULE_PREFIX);
+    }
+
+    private StaticModuleBeanArchives getStaticModuleBeanArchives(Module module) {
+        synchronized (this.staticModules) {
+            StaticModuleBeanArchives archives = this.staticModules.get(module);
+            if (archives == null) {
+                archives = new StaticModuleBeanArchives();
+                this.staticModules.put(module, archives);
+            }
+            return archives;
+        }
+    }
+
     private Module loadModuleDependency(DependencySpec dep) {
         if (dep instanceof ModuleDependencySpec) {
             ModuleDependencySpec dependency = (ModuleDependencySpec) dep;
@@ -383,4 +486,57 @@ public class ExternalBeanArchiveProcessor implements DeploymentUnitProcessor {
     private BeansXml parseBeansXml(URL beansXmlFile, BeansXmlParser parser, final DeploymentUnit deploymentUnit) throws DeploymentUnitProcessingException {
         return parser.parse(beansXmlFile);
     }
+
+    /**
+     * An external bean archive of a deployment, whose classes are discovered concurrently.
+     */
+    static class ExternalBeanArchive {
+        final DeploymentUnit deployment;
+        final Module module;
+        final Module dependency;
+        final StaticModuleBeanArchives staticModule;
+        final URL beansXmlUrl;
+        final URL indexUrl;
+        final BeansXml beansXml;
+        Map<String, List<String>> discovered;
+
+        ExternalBeanArchive(DeploymentUnit deployment, Module module, Module dependency, StaticModuleBeanArchives staticModule, URL beansXmlUrl, URL indexUrl, BeansXml beansXml) {
+            this.deployment = deployment;
+            this.module = module;
+            this.dependency = dependency;
+            this.staticModule = staticModule;
+            this.beansXmlUrl = beansXmlUrl;
+            this.indexUrl = indexUrl;
+            this.beansXml = beansXml;
+        }
+    }
+
+    /**
+     * The bean archives of a static module, which are the same for every deployment depending on it, so that they
+     * are only looked up and scanned once.
+     */
+    class StaticModuleBeanArchives {
+        // the module is not referenced, so that it can be released along with its entry
+        private final Map<String, Map<String, List<String>>> discovered = new ConcurrentHashMap<>();
+        private volatile Map<URL, URL> exportedResources;
+
+        Map<URL, URL> getExportedResources(Module module) {
+            Map<URL, URL> resources = this.exportedResources;
+            if (resources == null) {
+                resources = Collections.unmodifiableMap(findExportedResources(module, new HashMap<>()));
+                this.exportedResources = resources;
+            }
+            return resources;
+        }
+
+        Map<String, List<String>> getDiscovered(String key, Supplier<Map<String, List<String>>> discovery) {
+            Map<String, List<String>> result = this.discovered.get(key);
+            if (result == null) {
+                // concurrent deployments may scan the same archive, but the results are identical
+                result = discovery.get();
+                this.discovered.putIfAbsent(key, result);
+            }
+            return result;
+        }
+    }
 }
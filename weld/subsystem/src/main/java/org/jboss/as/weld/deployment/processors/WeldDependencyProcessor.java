@@ -13,6 +13,8 @@ import org.jboss.as.server.deployment.DeploymentUnitProcessor;
 import org.jboss.as.server.deployment.module.ModuleDependency;
 import org.jboss.as.server.deployment.module.ModuleSpecification;
 import org.jboss.as.weld._private.WeldDeploymentMarker;
+import org.jboss.as.weld.deployment.WeldAttachments;
+import org.jboss.as.weld.services.bootstrap.WeldExecutorServices;
 import org.jboss.modules.Module;
 import org.jboss.modules.ModuleLoader;
 import org.jboss.modules.filter.PathFilters;
@@ -66,6 +68,11 @@ public class WeldDependencyProcessor implements DeploymentUnitProcessor {
         weldEjbDependency.addImportFilter(PathFilters.is("org/jboss/as/weld/ejb"), true);
         weldEjbDependency.addImportFilter(PathFilters.acceptAll(), false);
         moduleSpecification.addSystemDependency(weldEjbDependency);
+
+        if (deploymentUnit.getParent() == null) {
+            // the external bean archives of the deployment are discovered on the Weld thread pool
+            phaseContext.addDeploymentDependency(WeldExecutorServices.SERVICE_NAME, WeldAttachments.EXECUTOR_SERVICES);
+        }
     }
 
     private void addDependency(ModuleSpecification moduleSpecification, ModuleLoader moduleLoader,
@@ -24,6 +24,7 @@ import jakarta.enterprise.inject.spi.Extension;
 import org.jboss.as.controller.capability.CapabilityServiceSupport;
 import org.jboss.as.ee.concurrent.ConcurrentContextSetupAction;
 import org.jboss.as.ee.naming.JavaNamespaceSetup;
+import org.jboss.as.ee.structure.DeploymentAnalysisCache;
 import org.jboss.as.naming.deployment.ContextNames;
 import org.jboss.as.naming.deployment.JndiNamingDependencyProcessor;
 import org.jboss.as.naming.service.DefaultNamespaceContextSelectorService;
@@ -50,6 +51,7 @@ import org.jboss.as.weld.deployment.WeldDeployment;
 import org.jboss.as.weld.deployment.WeldPortableExtensions;
 import org.jboss.as.weld.logging.WeldLogger;
 import org.jboss.as.weld.services.TCCLSingletonService;
+import org.jboss.as.weld.services.bootstrap.ProxyServicesImpl;
 import org.jboss.as.weld.services.bootstrap.WeldExecutorServices;
 import org.jboss.as.weld.spi.BootstrapDependencyInstaller;
 import org.jboss.as.weld.spi.DeploymentUnitDependenciesProvider;
@@ -72,6 +74,7 @@ import org.jboss.weld.configuration.spi.ExternalConfiguration;
 import org.jboss.weld.configuration.spi.helpers.ExternalConfigurationBuilder;
 import org.jboss.weld.manager.api.ExecutorServices;
 import org.jboss.weld.security.spi.SecurityServices;
+import org.jboss.weld.serialization.spi.ProxyServices;
 import org.jboss.weld.transaction.spi.TransactionServices;
 import org.wildfly.security.manager.WildFlySecurityManager;
 
@@ -84,6 +87,8 @@ import org.wildfly.security.manager.WildFlySecurityManager;
  */
 public class WeldDeploymentProcessor implements DeploymentUnitProcessor {
 
+    private static final String PROXY_CACHE_ANALYSIS = "weld-proxies-1";
+
     private final boolean jtsEnabled;
 
     public WeldDeploymentProcessor(final boolean jtsEnabled) {
@@ -218,6 +223,18 @@ public class WeldDeploymentProcessor implements DeploymentUnitProcessor {
 
         final WeldDeployment deployment = new WeldDeployment(beanDeploymentArchives, extensions, module, subDeploymentLoaders, deploymentUnit, rootBeanDeploymentModule, eeModuleDescriptors);
 
+        // the proxy classes persisted by a previous deployment of the same content are defined instead of being generated
+        final DeploymentAnalysisCache analysisCache = deploymentUnit.getAttachment(org.jboss.as.ee.component.Attachments.DEPLOYMENT_ANALYSIS_CACHE);
+        final List<String> extensionClassNames = new ArrayList<>(extensions.size());
+        for (Metadata<Extension> extension : extensions) {
+            extensionClassNames.add(extension.getValue().getClass().getName());
+        }
+        final String proxyCacheConfiguration = ProxyServicesImpl.getProxyCacheConfiguration(String.valueOf(Utils.getRootDeploymentUnit(deploymentUnit).getAttachment(WeldConfiguration.ATTACHMENT_KEY)), extensionClassNames);
+        final DeploymentAnalysisCache.Entry proxyCache = (analysisCache != null && proxyCacheConfiguration != null) ? analysisCache.getEntry(deploymentUnit, PROXY_CACHE_ANALYSIS, proxyCacheConfiguration) : null;
+        if (proxyCache != null) {
+            deployment.getServices().add(ProxyServices.class, new ProxyServicesImpl(module, proxyCache));
+        }
+
         installBootstrapConfigurationService(deployment, parent);
 
         // add the weld service
@@ -10,9 +10,18 @@ import java.security.PrivilegedActionException;
 import java.security.PrivilegedExceptionAction;
 import java.security.ProtectionDomain;
 import java.util.Arrays;
+import java.util.Base64;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Map;
+import java.util.Properties;
+import java.util.Set;
+import java.util.TreeSet;
 import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.ConcurrentMap;
 
+import org.jboss.as.ee.structure.DeploymentAnalysisCache;
 import org.jboss.as.server.moduleservice.ServiceModuleLoader;
 import org.jboss.as.weld.logging.WeldLogger;
 import org.jboss.as.weld.util.Reflections;
@@ -20,6 +29,7 @@ import org.jboss.modules.ClassDefiner;
 import org.jboss.modules.Module;
 import org.jboss.modules.ModuleClassLoader;
 import org.jboss.modules.ModuleIdentifier;
+import org.jboss.weld.bootstrap.WeldBootstrap;
 import org.jboss.weld.interceptor.proxy.LifecycleMixin;
 import org.jboss.weld.logging.BeanLogger;
 import org.jboss.weld.proxy.WeldConstruct;
@@ -31,6 +41,13 @@ import static java.security.AccessController.doPrivileged;
 
 /**
  * {@link ProxyServices} implementation that delegates to the module class loader if the bean class loader cannot be determined
+ * <p>
+ * If a proxy cache is given, the proxy classes generated by Weld for the classes of the deployment are persisted once the
+ * container is started and again when the deployment stops, and defined directly from their persisted bytecode by the
+ * next deployment of the same content, instead of being generated again. Only the proxies of classes whose whole type
+ * hierarchy belongs to the deployment or to the JDK are persisted, as the key of the cache does not cover the content
+ * of the other modules. The intercepted subclasses are never persisted, as the interceptors and decorators they apply
+ * may be enabled by portable extensions or by other modules.
  *
  * @author Stuart Douglas
  * @author Jozef Hartinger
@@ -51,13 +68,63 @@ public class ProxyServicesImpl implements ProxyServices {
             WeldConstruct.class.getName() // Weld API
     };
 
+    // the suffix of the names of the subclasses generated by Weld for the intercepted and decorated beans
+    private static final String INTERCEPTED_SUBCLASS_SUFFIX = "$$_WeldSubclass";
+
     private final Module module;
     private final ConcurrentMap<ModuleIdentifier, Boolean> processedStaticModules = new ConcurrentHashMap<>();
     private final ClassDefiner classDefiner;
+    private final DeploymentAnalysisCache.Entry proxyCache;
+    // the bytecode of the proxy classes, by class name, encoded in base64
+    private final Map<String, String> cachedProxies = new ConcurrentHashMap<>();
+    private final Map<String, String> generatedProxies = new ConcurrentHashMap<>();
 
     public ProxyServicesImpl(Module module) {
+        this(module, null);
+    }
+
+    /**
+     * @param module the deployment module
+     * @param proxyCache the cache entry in which the proxy classes of the deployment are persisted, or null to always generate them
+     */
+    public ProxyServicesImpl(Module module, DeploymentAnalysisCache.Entry proxyCache) {
         this.module = module;
         this.classDefiner = ClassDefiner.getInstance();
+        this.proxyCache = proxyCache;
+        final Properties cached = (proxyCache != null) ? proxyCache.load() : null;
+        if (cached != null) {
+            for (String name : cached.stringPropertyNames()) {
+                this.cachedProxies.put(name, cached.getProperty(name));
+            }
+        }
+    }
+
+    /**
+     * @param weldConfiguration the Weld configuration of the deployment
+     * @param extensions the class names of the portable extensions loaded for the deployment
+     * @return the configuration the persisted proxy classes depend on, in addition to the content of the deployment, or
+     *         null if it cannot be determined, in which case the proxy classes must not be persisted
+     */
+    public static String getProxyCacheConfiguration(String weldConfiguration, Collection<String> extensions) {
+        return getProxyCacheConfiguration(WeldBootstrap.class.getPackage().getImplementationVersion(), weldConfiguration, extensions);
+    }
+
+    static String getProxyCacheConfiguration(String weldVersion, String weldConfiguration, Collection<String> extensions) {
+        // the bytecode generated by an unknown version of Weld cannot be told apart from that of another version
+        if (weldVersion == null) {
+            return null;
+        }
+        // extensions can alter the bean types and the interceptor bindings the proxies are generated from
+        final Set<String> sortedExtensions = new TreeSet<>(extensions);
+        return String.join(",", weldVersion, System.getProperty("java.specification.version"), weldConfiguration, sortedExtensions.toString());
+    }
+
+    /**
+     * Indicates whether a proxy class can be persisted. The intercepted subclasses depend on the interceptors and
+     * decorators enabled for the deployment, which the key of the cache does not cover.
+     */
+    static boolean isPersistable(String proxyName) {
+        return !proxyName.endsWith(INTERCEPTED_SUBCLASS_SUFFIX);
     }
 
     public ClassLoader getClassLoader(final Class<?> proxiedBeanType) {
@@ -163,6 +230,24 @@ public class ProxyServicesImpl implements ProxyServices {
 
     public void cleanup() {
         processedStaticModules.clear();
+        storeProxies();
+    }
+
+    /**
+     * Persists the proxy classes generated since the deployment started or since the last invocation, along with the
+     * persisted ones, so that they survive a deployment that is not stopped cleanly.
+     */
+    public synchronized void storeProxies() {
+        if (proxyCache == null || generatedProxies.isEmpty()) {
+            return;
+        }
+        final Map<String, String> generated = new HashMap<>(generatedProxies);
+        final Properties proxies = new Properties();
+        proxies.putAll(cachedProxies);
+        proxies.putAll(generated);
+        proxyCache.store(proxies);
+        cachedProxies.putAll(generated);
+        generatedProxies.keySet().removeAll(generated.keySet());
     }
 
     public Class<?> loadBeanClass(final String className) {
@@ -184,7 +269,13 @@ public class ProxyServicesImpl implements ProxyServices {
 
     @Override
     public Class<?> defineClass(Class<?> originalClass, String s, byte[] bytes, int i, int i1, ProtectionDomain protectionDomain) throws ClassFormatError {
-        return classDefiner.defineClass(getModule(originalClass), s, protectionDomain, bytes, i, i1);
+        final Module definingModule = getModule(originalClass);
+        final Class<?> proxyClass = classDefiner.defineClass(definingModule, s, protectionDomain, bytes, i, i1);
+        // only the proxies of deployment classes are persisted, as they are covered by the content of the deployment
+        if (proxyCache != null && isPersistable(s) && isCoveredByDeployment(originalClass, new HashSet<>())) {
+            generatedProxies.put(s, Base64.getEncoder().encodeToString(Arrays.copyOfRange(bytes, i, i + i1)));
+        }
+        return proxyClass;
     }
 
     @Override
@@ -193,7 +284,54 @@ public class ProxyServicesImpl implements ProxyServices {
         if (module == null) {
             throw WeldLogger.ROOT_LOGGER.originalClassDoesNotHaveAModule(originalClass);
         }
-        return module.getClassLoader().loadClass(classBinaryName);
+        try {
+            return module.getClassLoader().loadClass(classBinaryName);
+        } catch (ClassNotFoundException e) {
+            // Weld generates the proxy class if it cannot be loaded, unless it was persisted by a previous deployment
+            final String cached = cachedProxies.get(classBinaryName);
+            if (cached == null) {
+                throw e;
+            }
+            final byte[] bytes = Base64.getDecoder().decode(cached);
+            try {
+                return classDefiner.defineClass(module, classBinaryName, getProtectionDomain(originalClass), bytes, 0, bytes.length);
+            } catch (LinkageError error) {
+                // defined concurrently by another thread
+                return module.getClassLoader().loadClass(classBinaryName);
+            }
+        }
+    }
+
+    /**
+     * Indicates whether a class, its superclasses and its interfaces are all defined by the deployment or by the JDK.
+     */
+    private boolean isCoveredByDeployment(Class<?> clazz, Set<Class<?>> visited) {
+        if (clazz == null || !visited.add(clazz)) {
+            return true;
+        }
+        final ClassLoader loader = clazz.getClassLoader();
+        if (loader != null && loader != ClassLoader.getPlatformClassLoader()) {
+            if (!(loader instanceof ModuleClassLoader) || !isDeploymentModule(module.getName(), ((ModuleClassLoader) loader).getModule().getName())) {
+                return false;
+            }
+        }
+        if (!isCoveredByDeployment(clazz.getSuperclass(), visited)) {
+            return false;
+        }
+        for (Class<?> type : clazz.getInterfaces()) {
+            if (!isCoveredByDeployment(type, visited)) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Indicates whether a module is the deployment module or the module of one of its sub deployments, other deployments
+     * not being covered by the content of the deployment.
+     */
+    static boolean isDeploymentModule(String deployment, String name) {
+        return name.equals(deployment) || name.startsWith(deployment + ".");
     }
 
     //@Override unused in Weld 3/4 and removed in Weld 5 so don't annotate it
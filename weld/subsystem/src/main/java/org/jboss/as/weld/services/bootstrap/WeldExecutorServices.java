@@ -128,7 +128,8 @@ public class WeldExecutorServices extends AbstractExecutorServices implements Se
 
         @Override
         public void execute(Runnable command) {
-            if (Container.instance().getState() == ContainerState.INITIALIZED) {
+            // deployment processors also submit tasks, from threads without a Weld container
+            if (Container.available() && Container.instance().getState() == ContainerState.INITIALIZED) {
                 WeldTaskWrapper task = new WeldTaskWrapper(command, NamespaceContextSelector.getCurrentSelector());
                 super.execute(task);
             } else {
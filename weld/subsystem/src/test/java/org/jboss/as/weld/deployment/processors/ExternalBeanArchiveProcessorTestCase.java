@@ -0,0 +1,155 @@
+/*
+ * Copyright The WildFly Authors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+package org.jboss.as.weld.deployment.processors;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.net.URL;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+import jakarta.enterprise.inject.Vetoed;
+
+import org.jboss.as.weld.deployment.processors.ExternalBeanArchiveProcessor.ExternalBeanArchive;
+import org.jboss.as.weld.deployment.processors.ExternalBeanArchiveProcessor.StaticModuleBeanArchives;
+import org.jboss.as.weld.discovery.Alpha;
+import org.jboss.as.weld.discovery.AlphaImpl;
+import org.jboss.as.weld.discovery.AnnotationType;
+import org.jboss.as.weld.discovery.Charlie;
+import org.jboss.weld.bootstrap.spi.BeansXml;
+import org.jboss.weld.xml.BeansXmlParser;
+import org.junit.After;
+import org.junit.Assert;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+/**
+ * Unit test for the discovery of external bean archives by {@link ExternalBeanArchiveProcessor}.
+ */
+public class ExternalBeanArchiveProcessorTestCase {
+
+    // the test classes annotated with @Vetoed stand for the classes with a bean defining annotation
+    private static final Set<AnnotationType> BEAN_DEFINING_ANNOTATIONS = Collections.singleton(new AnnotationType(Vetoed.class));
+
+    @Rule
+    public TemporaryFolder folder = new TemporaryFolder();
+
+    private final ExternalBeanArchiveProcessor processor = new ExternalBeanArchiveProcessor();
+    private final ExecutorService executor = Executors.newFixedThreadPool(2);
+
+    @After
+    public void tearDown() {
+        this.executor.shutdownNow();
+    }
+
+    @Test
+    public void discoverConcurrently() throws Exception {
+        List<ExternalBeanArchive> first = Arrays.asList(this.archive("first", "all", null, AlphaImpl.class), this.archive("second", "annotated", null, Alpha.class, Charlie.class));
+        List<ExternalBeanArchive> second = Collections.singletonList(this.archive("third", "all", null, Charlie.class));
+        this.processor.discoverAll(Arrays.asList(first, second), BEAN_DEFINING_ANNOTATIONS, this.executor);
+
+        // each archive gets its own results, in the order of the archives
+        assertClasses(first.get(0), Arrays.asList(AlphaImpl.class), AlphaImpl.class);
+        assertClasses(first.get(1), Arrays.asList(Alpha.class, Charlie.class), Alpha.class);
+        assertClasses(second.get(0), Arrays.asList(Charlie.class), Charlie.class);
+    }
+
+    @Test
+    public void discoverSerially() throws Exception {
+        List<ExternalBeanArchive> archives = Arrays.asList(this.archive("first", "all", null, AlphaImpl.class), this.archive("second", "annotated", null, Alpha.class, Charlie.class));
+        // without the Weld thread pool, the archives are scanned by the deployment thread
+        this.processor.discoverAll(Collections.singletonList(archives), BEAN_DEFINING_ANNOTATIONS, null);
+
+        assertClasses(archives.get(0), Arrays.asList(AlphaImpl.class), AlphaImpl.class);
+        assertClasses(archives.get(1), Arrays.asList(Alpha.class, Charlie.class), Alpha.class);
+    }
+
+    @Test
+    public void shareStaticModuleDiscovery() throws Exception {
+        StaticModuleBeanArchives staticModule = this.processor.new StaticModuleBeanArchives();
+        ExternalBeanArchive archive = this.archive("module", "annotated", staticModule, Alpha.class, Charlie.class);
+        this.processor.discoverAll(Collections.singletonList(Collections.singletonList(archive)), BEAN_DEFINING_ANNOTATIONS, this.executor);
+        assertClasses(archive, Arrays.asList(Alpha.class, Charlie.class), Alpha.class);
+
+        // the classes of a static module are not scanned again by the next deployment
+        delete(archive, Alpha.class);
+        ExternalBeanArchive next = new ExternalBeanArchive(null, null, null, staticModule, archive.beansXmlUrl, null, archive.beansXml);
+        this.processor.discoverAll(Collections.singletonList(Collections.singletonList(next)), BEAN_DEFINING_ANNOTATIONS, this.executor);
+        assertClasses(next, Arrays.asList(Alpha.class, Charlie.class), Alpha.class);
+
+        // unless the deployment has other bean defining annotations
+        ExternalBeanArchive other = new ExternalBeanArchive(null, null, null, staticModule, archive.beansXmlUrl, null, archive.beansXml);
+        this.processor.discoverAll(Collections.singletonList(Collections.singletonList(other)), Collections.emptySet(), this.executor);
+        assertClasses(other, Arrays.asList(Charlie.class));
+    }
+
+    @Test
+    public void discoverDeploymentModulesAgain() throws Exception {
+        ExternalBeanArchive archive = this.archive("deployment", "all", null, AlphaImpl.class, Charlie.class);
+        this.processor.discoverAll(Collections.singletonList(Collections.singletonList(archive)), BEAN_DEFINING_ANNOTATIONS, this.executor);
+        assertClasses(archive, Arrays.asList(AlphaImpl.class, Charlie.class), AlphaImpl.class, Charlie.class);
+
+        // the classes of other modules can change with each deployment
+        delete(archive, AlphaImpl.class);
+        ExternalBeanArchive next = new ExternalBeanArchive(null, null, null, null, archive.beansXmlUrl, null, archive.beansXml);
+        this.processor.discoverAll(Collections.singletonList(Collections.singletonList(next)), BEAN_DEFINING_ANNOTATIONS, this.executor);
+        assertClasses(next, Arrays.asList(Charlie.class), Charlie.class);
+    }
+
+    @Test(expected = RuntimeException.class)
+    public void discoveryFailure() throws Exception {
+        ExternalBeanArchive archive = this.archive("first", "all", null, AlphaImpl.class);
+        // an archive without beans.xml fails its scan, which fails the deployment
+        ExternalBeanArchive invalid = new ExternalBeanArchive(null, null, null, null, archive.beansXmlUrl, null, null);
+        this.processor.discoverAll(Collections.singletonList(Arrays.asList(archive, invalid)), BEAN_DEFINING_ANNOTATIONS, this.executor);
+    }
+
+    /**
+     * Creates an exploded bean archive with the specified discovery mode and classes.
+     */
+    private ExternalBeanArchive archive(String name, String discoveryMode, StaticModuleBeanArchives staticModule, Class<?>... classes) throws IOException {
+        Path root = this.folder.newFolder(name).toPath();
+        Path beansXml = root.resolve("META-INF/beans.xml");
+        Files.createDirectories(beansXml.getParent());
+        Files.write(beansXml, ("<beans xmlns=\"https://jakarta.ee/xml/ns/jakartaee\" version=\"4.0\" bean-discovery-mode=\"" + discoveryMode + "\"/>").getBytes(StandardCharsets.UTF_8));
+        for (Class<?> clazz : classes) {
+            Path classFile = root.resolve(clazz.getName().replace('.', '/') + ".class");
+            Files.createDirectories(classFile.getParent());
+            try (InputStream input = clazz.getResourceAsStream(clazz.getSimpleName() + ".class")) {
+                Files.copy(input, classFile);
+            }
+        }
+        URL beansXmlUrl = beansXml.toUri().toURL();
+        BeansXml parsed = new BeansXmlParser().parse(beansXmlUrl);
+        return new ExternalBeanArchive(null, null, null, staticModule, beansXmlUrl, null, parsed);
+    }
+
+    private static void delete(ExternalBeanArchive archive, Class<?> clazz) throws Exception {
+        Path root = Path.of(archive.beansXmlUrl.toURI()).getParent().getParent();
+        Files.delete(root.resolve(clazz.getName().replace('.', '/') + ".class"));
+    }
+
+    private static void assertClasses(ExternalBeanArchive archive, List<Class<?>> allKnownClasses, Class<?>... beanClasses) {
+        Assert.assertEquals(names(allKnownClasses), new HashSet<>(archive.discovered.get(ExternalBeanArchiveProcessor.ALL_KNOWN_CLASSES)));
+        Assert.assertEquals(names(Arrays.asList(beanClasses)), new HashSet<>(archive.discovered.get(ExternalBeanArchiveProcessor.BEAN_CLASSES)));
+    }
+
+    private static Set<String> names(List<Class<?>> classes) {
+        Set<String> names = new HashSet<>();
+        for (Class<?> clazz : classes) {
+            names.add(clazz.getName());
+        }
+        return names;
+    }
+}
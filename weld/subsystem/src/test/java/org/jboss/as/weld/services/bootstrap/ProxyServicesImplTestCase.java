@@ -0,0 +1,58 @@
+/*
+ * Copyright The WildFly Authors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+package org.jboss.as.weld.services.bootstrap;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+
+import org.junit.Assert;
+import org.junit.Test;
+
+/**
+ * Unit test for the persistence of the proxy classes by {@link ProxyServicesImpl}.
+ */
+public class ProxyServicesImplTestCase {
+
+    private static final List<String> EXTENSIONS = Arrays.asList("org.jboss.weld.bean.builtin.BeanManagerExtension", "org.example.AuditExtension");
+
+    @Test
+    public void unknownWeldVersion() {
+        // the proxy classes are not persisted if the version of Weld is unknown
+        Assert.assertNull(ProxyServicesImpl.getProxyCacheConfiguration(null, "WeldConfiguration [developmentMode=false]", Collections.emptyList()));
+    }
+
+    @Test
+    public void proxyCacheConfiguration() {
+        String configuration = ProxyServicesImpl.getProxyCacheConfiguration("5.1.0.Final", "WeldConfiguration [developmentMode=false]", EXTENSIONS);
+        Assert.assertNotNull(configuration);
+        Assert.assertTrue(configuration.contains(System.getProperty("java.specification.version")));
+        Assert.assertEquals(configuration, ProxyServicesImpl.getProxyCacheConfiguration("5.1.0.Final", "WeldConfiguration [developmentMode=false]", EXTENSIONS));
+
+        // the persisted proxy classes are not used by another version of Weld, nor with another Weld configuration
+        Assert.assertNotEquals(configuration, ProxyServicesImpl.getProxyCacheConfiguration("5.1.1.Final", "WeldConfiguration [developmentMode=false]", EXTENSIONS));
+        Assert.assertNotEquals(configuration, ProxyServicesImpl.getProxyCacheConfiguration("5.1.0.Final", "WeldConfiguration [developmentMode=true]", EXTENSIONS));
+
+        // nor with other portable extensions, regardless of the order in which they are loaded
+        Assert.assertEquals(configuration, ProxyServicesImpl.getProxyCacheConfiguration("5.1.0.Final", "WeldConfiguration [developmentMode=false]", Arrays.asList(EXTENSIONS.get(1), EXTENSIONS.get(0))));
+        Assert.assertNotEquals(configuration, ProxyServicesImpl.getProxyCacheConfiguration("5.1.0.Final", "WeldConfiguration [developmentMode=false]", EXTENSIONS.subList(0, 1)));
+    }
+
+    @Test
+    public void interceptedSubclasses() {
+        Assert.assertTrue(ProxyServicesImpl.isPersistable("org.example.Service$Proxy$_$$_WeldClientProxy"));
+        // the interceptors and decorators applied by an intercepted subclass are not covered by the key of the cache
+        Assert.assertFalse(ProxyServicesImpl.isPersistable("org.example.Service$Proxy$_$$_WeldSubclass"));
+    }
+
+    @Test
+    public void deploymentModules() {
+        Assert.assertTrue(ProxyServicesImpl.isDeploymentModule("deployment.app.ear", "deployment.app.ear"));
+        Assert.assertTrue(ProxyServicesImpl.isDeploymentModule("deployment.app.ear", "deployment.app.ear.web.war"));
+        // neither another deployment sharing a prefix, nor a static module, is covered by the content of the deployment
+        Assert.assertFalse(ProxyServicesImpl.isDeploymentModule("deployment.app.ear", "deployment.app.ear2"));
+        Assert.assertFalse(ProxyServicesImpl.isDeploymentModule("deployment.app.ear", "org.jboss.weld.core"));
+    }
+}